@@ -0,0 +1,115 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.examples.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.attribute.CrowdingDistance;
+import org.moeaframework.core.attribute.Rank;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.initialization.RandomInitialization;
+import org.moeaframework.problem.CompactProblem;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+import org.moeaframework.util.Timer;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Compares the cost of copying and comparing regular solutions against compact solutions, which store objectives,
+ * constraints, and the rank and crowding distance attributes in primitive fields.  For each representation, we report
+ * the elapsed time and the number of bytes allocated by the current thread.  Note that both representations copy the
+ * decision variables in the same way, so the difference in allocations is due to the objectives and attributes.
+ */
+public class CompactSolutionBenchmark {
+	
+	private static final int POPULATION_SIZE = 10000;
+	
+	private static final int NUMBER_OF_OBJECTIVES = 10;
+	
+	private static final int TRIALS = 5;
+	
+	public static void main(String[] args) {
+		try (Problem problem = new DTLZ2(NUMBER_OF_OBJECTIVES);
+				Problem compactProblem = new CompactProblem(new DTLZ2(NUMBER_OF_OBJECTIVES))) {
+			// run each benchmark once to warm up the JIT compiler
+			benchmark("Solution", problem, false);
+			benchmark("CompactSolution", compactProblem, false);
+			
+			benchmark("Solution", problem, true);
+			benchmark("CompactSolution", compactProblem, true);
+		}
+	}
+	
+	private static void benchmark(String name, Problem problem, boolean display) {
+		ThreadMXBean bean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+		ParetoDominanceComparator comparator = new ParetoDominanceComparator();
+		
+		List<Solution> population = new ArrayList<>();
+		
+		for (Solution solution : new RandomInitialization(problem).initialize(POPULATION_SIZE)) {
+			problem.evaluate(solution);
+			Rank.setAttribute(solution, 0);
+			CrowdingDistance.setAttribute(solution, 0.0);
+			population.add(solution);
+		}
+		
+		// measure the cost of copying the population, including the hot attributes
+		long startBytes = bean.getCurrentThreadAllocatedBytes();
+		Timer copyTimer = Timer.startNew();
+		
+		for (int trial = 0; trial < TRIALS; trial++) {
+			for (Solution solution : population) {
+				Solution copy = solution.copy();
+				Rank.setAttribute(copy, Rank.getAttribute(solution));
+				CrowdingDistance.setAttribute(copy, CrowdingDistance.getAttribute(solution));
+			}
+		}
+		
+		copyTimer.stop();
+		long copyBytes = bean.getCurrentThreadAllocatedBytes() - startBytes;
+		
+		// measure the cost of dominance comparisons between neighboring solutions
+		startBytes = bean.getCurrentThreadAllocatedBytes();
+		Timer compareTimer = Timer.startNew();
+		int dominated = 0;
+		
+		for (int trial = 0; trial < TRIALS * 100; trial++) {
+			for (int i = 1; i < population.size(); i++) {
+				if (comparator.compare(population.get(i - 1), population.get(i)) != 0) {
+					dominated++;
+				}
+			}
+		}
+		
+		compareTimer.stop();
+		long compareBytes = bean.getCurrentThreadAllocatedBytes() - startBytes;
+		
+		if (display) {
+			System.out.println(name + ":");
+			System.out.println("  Copy    - " + String.format("%.4f", copyTimer.getElapsedTime()) + " sec, " +
+					(copyBytes / 1024) + " KB allocated");
+			System.out.println("  Compare - " + String.format("%.4f", compareTimer.getElapsedTime()) + " sec, " +
+					(compareBytes / 1024) + " KB allocated (" + dominated + " dominated)");
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.examples.benchmark;
+
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.indicator.PISAHypervolume;
+import org.moeaframework.core.indicator.WFGNormalizedHypervolume;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.problem.AnalyticalProblem;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+import org.moeaframework.problem.WFG.WFG1;
+import org.moeaframework.problem.WFG.WFG4;
+import org.moeaframework.util.Timer;
+
+/**
+ * Compares the time to compute the exact hypervolume using the WFG and PISA implementations on many-objective
+ * problems.  The reference set and approximation set are sampled from the Pareto front of each problem, so every
+ * point in the approximation set is non-dominated, which is the worst case for both algorithms.  The hypervolume
+ * computed by each implementation is displayed alongside the elapsed time for comparison.
+ */
+public class HypervolumeBenchmark {
+	
+	private static final int REFERENCE_SET_SIZE = 2000;
+	
+	private static final int APPROXIMATION_SET_SIZE = 100;
+	
+	private static final int[] NUMBER_OF_OBJECTIVES = { 5, 6, 8, 10 };
+	
+	public static void main(String[] args) {
+		PRNG.setSeed(1);
+		
+		// run once on a smaller problem to warm up the JIT compiler
+		benchmark(new DTLZ2(4), false);
+		
+		for (int numberOfObjectives : NUMBER_OF_OBJECTIVES) {
+			benchmark(new DTLZ2(numberOfObjectives), true);
+			benchmark(new WFG1(numberOfObjectives - 1, 10, numberOfObjectives), true);
+			benchmark(new WFG4(numberOfObjectives - 1, 10, numberOfObjectives), true);
+		}
+	}
+	
+	private static void benchmark(AnalyticalProblem problem, boolean display) {
+		NondominatedPopulation referenceSet = sample(problem, REFERENCE_SET_SIZE);
+		NondominatedPopulation approximationSet = sample(problem, APPROXIMATION_SET_SIZE);
+		
+		Timer wfgTimer = Timer.startNew();
+		double wfg = new WFGNormalizedHypervolume(problem, referenceSet).evaluate(approximationSet);
+		wfgTimer.stop();
+		
+		Timer pisaTimer = Timer.startNew();
+		double pisa = new PISAHypervolume(problem, referenceSet).evaluate(approximationSet);
+		pisaTimer.stop();
+		
+		if (display) {
+			System.out.println(problem.getName() + ":");
+			System.out.println("  WFG  - " + String.format("%.4f", wfgTimer.getElapsedTime()) + " sec, " +
+					String.format("%.6f", wfg));
+			System.out.println("  PISA - " + String.format("%.4f", pisaTimer.getElapsedTime()) + " sec, " +
+					String.format("%.6f", pisa));
+		}
+	}
+	
+	private static NondominatedPopulation sample(AnalyticalProblem problem, int size) {
+		NondominatedPopulation result = new NondominatedPopulation();
+		
+		while (result.size() < size) {
+			result.add(problem.generate());
+		}
+		
+		return result;
+	}
+
+}
@@ -0,0 +1,114 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.examples.benchmark;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.operator.Variation;
+import org.moeaframework.core.operator.real.DifferentialEvolutionVariation;
+import org.moeaframework.core.operator.real.PM;
+import org.moeaframework.core.operator.real.SBX;
+import org.moeaframework.core.operator.real.UM;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
+import org.moeaframework.util.Timer;
+
+/**
+ * Compares the real-valued operators applied to solutions storing each decision variable as a separate
+ * {@link RealVariable} against solutions storing all decision variables in a single {@link RealVectorVariable}.  The
+ * mutation rates are set to {@code 1 / N}, as is typical for large-scale problems.  For each operator and number of
+ * decision variables, we report the average time to produce one offspring.
+ */
+public class RealVectorBenchmark {
+	
+	private static final int[] NUMBER_OF_VARIABLES = { 100, 1000, 5000 };
+	
+	private static final int TRIALS = 2000;
+	
+	public static void main(String[] args) {
+		// run each benchmark once to warm up the JIT compiler
+		for (int numberOfVariables : NUMBER_OF_VARIABLES) {
+			benchmark(numberOfVariables, false);
+		}
+		
+		for (int numberOfVariables : NUMBER_OF_VARIABLES) {
+			benchmark(numberOfVariables, true);
+		}
+	}
+	
+	private static void benchmark(int numberOfVariables, boolean display) {
+		double rate = 1.0 / numberOfVariables;
+		
+		Variation[] operators = new Variation[] {
+				new SBX(1.0, 15.0),
+				new PM(rate, 20.0),
+				new UM(rate),
+				new DifferentialEvolutionVariation(0.1, 0.5) };
+		
+		if (display) {
+			System.out.println(numberOfVariables + " variables:");
+		}
+		
+		for (Variation operator : operators) {
+			double scalarTime = benchmark(operator, createParents(operator, numberOfVariables, false));
+			double vectorTime = benchmark(operator, createParents(operator, numberOfVariables, true));
+			
+			if (display) {
+				System.out.println("  " + String.format("%-4s", operator.getName()) + " - RealVariable: " +
+						String.format("%.2f", scalarTime * 1e6) + " us, RealVectorVariable: " +
+						String.format("%.2f", vectorTime * 1e6) + " us (" +
+						String.format("%.1f", scalarTime / vectorTime) + "x)");
+			}
+		}
+	}
+	
+	private static double benchmark(Variation operator, Solution[] parents) {
+		Timer timer = Timer.startNew();
+		
+		for (int trial = 0; trial < TRIALS; trial++) {
+			Solution[] offspring = operator.evolve(parents);
+			parents[0] = offspring[0];
+		}
+		
+		timer.stop();
+		return timer.getElapsedTime() / TRIALS;
+	}
+	
+	private static Solution[] createParents(Variation operator, int numberOfVariables, boolean packed) {
+		Solution[] parents = new Solution[operator.getArity()];
+		
+		for (int i = 0; i < parents.length; i++) {
+			if (packed) {
+				parents[i] = new Solution(1, 1);
+				parents[i].setVariable(0, new RealVectorVariable(numberOfVariables, 0.0, 1.0));
+			} else {
+				parents[i] = new Solution(numberOfVariables, 1);
+				
+				for (int j = 0; j < numberOfVariables; j++) {
+					parents[i].setVariable(j, new RealVariable(0.0, 1.0));
+				}
+			}
+			
+			for (int j = 0; j < parents[i].getNumberOfVariables(); j++) {
+				parents[i].getVariable(j).randomize();
+			}
+		}
+		
+		return parents;
+	}
+
+}
@@ -17,20 +17,32 @@
  */
 package org.moeaframework.examples.regression;
 
-import javax.script.Bindings;
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
-import javax.script.SimpleBindings;
-
 import org.apache.commons.math3.analysis.UnivariateFunction;
-import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.variable.Grammar;
 import org.moeaframework.util.grammar.ContextFreeGrammar;
+import org.moeaframework.util.grammar.TreeMapper;
+import org.moeaframework.util.tree.Add;
+import org.moeaframework.util.tree.BatchEvaluator;
+import org.moeaframework.util.tree.Cos;
+import org.moeaframework.util.tree.Divide;
+import org.moeaframework.util.tree.Exp;
+import org.moeaframework.util.tree.Get;
+import org.moeaframework.util.tree.Log;
+import org.moeaframework.util.tree.Multiply;
+import org.moeaframework.util.tree.Node;
+import org.moeaframework.util.tree.Sin;
+import org.moeaframework.util.tree.Subtract;
 
 /**
  * The symbolic regression problem for grammatical evolution.
+ * <p>
+ * Expressions are evaluated with {@link BatchEvaluator}, which by default uses protected functions (see
+ * {@link org.moeaframework.core.Settings#isProtectedFunctions()}).  Consequently, {@code log(x)} evaluates to
+ * {@code log(|x|)} for negative inputs and division by zero evaluates to {@code 1}, whereas standard floating-point
+ * arithmetic would produce {@code NaN} and infinite values, respectively.  Expressions relying on these operations
+ * therefore receive a finite error rather than being penalized with an infinite error.  Disable protected functions to
+ * use standard floating-point arithmetic.
  */
 public class GrammarSymbolicRegression extends AbstractSymbolicRegression {
 	
@@ -45,9 +57,14 @@ public class GrammarSymbolicRegression extends AbstractSymbolicRegression {
 	private final ContextFreeGrammar grammar;
 	
 	/**
-	 * The scripting engine used to evaluate the expressions.
+	 * Maps the codons directly to expression trees.
 	 */
-	private final ScriptEngine engine;
+	private final TreeMapper mapper;
+	
+	/**
+	 * The evaluator for computing the value of the expression trees at each step.
+	 */
+	private final BatchEvaluator evaluator;
 
 	/**
 	 * Constructs a new symbolic regression problem for approximating the given function.
@@ -68,39 +85,35 @@ public class GrammarSymbolicRegression extends AbstractSymbolicRegression {
 				<func> ::= <func-name> ( <expr> )
 				<func-name> ::= Math.sin | Math.cos | Math.exp | Math.log
 				<op> ::= + | * | - | /
-				<value> ::= x
+				<value> ::= x
 				""");
 		
-		// construct the scripting engine
-		ScriptEngineManager sem = new ScriptEngineManager();
-		engine = sem.getEngineByExtension("js");
+		// define the node produced by each terminal in the grammar
+		mapper = new TreeMapper(grammar)
+				.define("Math.sin", new Sin())
+				.define("Math.cos", new Cos())
+				.define("Math.exp", new Exp())
+				.define("Math.log", new Log())
+				.define("+", new Add())
+				.define("*", new Multiply())
+				.define("-", new Subtract())
+				.define("/", new Divide())
+				.define(symbol, new Get(Number.class, symbol));
 		
-		if (engine == null) {
-			throw new FrameworkException("Javascript scripting engine not found, please install Nashorn and retry");
-		}
+		evaluator = new BatchEvaluator(new String[] { symbol }, new double[][] { x });
 	}
 
 	@Override
 	public double[] eval(Solution solution) {
-		try {
-			double[] approximatedY = new double[steps];
-			
-			for (int i = 0; i < steps; i++) {
-				Bindings bindings = new SimpleBindings();
-				bindings.put(symbol, x[i]);
-	
-				String expression = getExpression(solution);
-				
-				// grammars can return null, indicating no valid grammar was produced
-				if (expression != null) {
-					approximatedY[i] = ((Number)engine.eval(expression, bindings)).doubleValue();
-				}
-			}
-			
-			return approximatedY;
-		} catch (ScriptException e) {
-			throw new FrameworkException(e);
+		int[] codon = ((Grammar)solution.getVariable(0)).toArray();
+		Node node = mapper.build(codon);
+		
+		// grammars can return null, indicating no valid grammar was produced
+		if (node == null) {
+			return new double[steps];
 		}
+		
+		return evaluator.evaluate(node);
 	}
 
 	@Override
@@ -21,9 +21,9 @@ import org.apache.commons.math3.analysis.UnivariateFunction;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.variable.Program;
 import org.moeaframework.util.tree.Add;
+import org.moeaframework.util.tree.BatchEvaluator;
 import org.moeaframework.util.tree.Cos;
 import org.moeaframework.util.tree.Divide;
-import org.moeaframework.util.tree.Environment;
 import org.moeaframework.util.tree.Exp;
 import org.moeaframework.util.tree.Get;
 import org.moeaframework.util.tree.Log;
@@ -41,6 +41,11 @@ public class ProgramSymbolicRegression extends AbstractSymbolicRegression {
 	 * The rules for building expression trees for symbolic regression.
 	 */
 	private Rules rules;
+	
+	/**
+	 * The evaluator for computing the value of the expression trees at each step.
+	 */
+	private BatchEvaluator evaluator;
 
 	/**
 	 * Constructs a new symbolic regression problem for approximating the given function.
@@ -66,6 +71,8 @@ public class ProgramSymbolicRegression extends AbstractSymbolicRegression {
 		rules.add(new Get(Number.class, symbol));
 		rules.setReturnType(Number.class);
 		rules.setMaxVariationDepth(10);
+		
+		evaluator = new BatchEvaluator(new String[] { symbol }, new double[][] { x });
 	}
 	
 	@Override
@@ -76,15 +83,7 @@ public class ProgramSymbolicRegression extends AbstractSymbolicRegression {
 	@Override
 	public double[] eval(Solution solution) {
 		Program program = (Program)solution.getVariable(0);
-		double[] approximatedY = new double[steps];
-		
-		for (int i = 0; i < steps; i++) {
-			Environment environment = new Environment();
-			environment.set(symbol, x[i]);
-			approximatedY[i] = ((Number)program.evaluate(environment)).doubleValue();
-		}
-		
-		return approximatedY;
+		return evaluator.evaluate(program.getBody());
 	}
 
 	@Override
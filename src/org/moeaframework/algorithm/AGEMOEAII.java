@@ -44,7 +44,7 @@ import org.moeaframework.core.spi.OperatorFactory;
 import org.moeaframework.problem.Problem;
 import org.moeaframework.util.LinearAlgebra;
 import org.moeaframework.util.Vector;
-import org.moeaframework.util.clustering.CachedDistanceMeasure;
+import org.moeaframework.util.clustering.DistanceMatrix;
 import org.moeaframework.util.clustering.DistanceMeasure;
 
 /**
@@ -246,7 +246,7 @@ public class AGEMOEAII extends AbstractEvolutionaryAlgorithm {
 			p = fitGeometry(front, extremePoints);
 			
 			// Measure distance using proximity and diversity scores.
-			DistanceMeasure<Solution> distances = getDistanceMeasure(p);
+			DistanceMeasure<Solution> distances = getDistanceMeasure(front, p);
 
 			// Survival score
 			List<Solution> remaining = front.asList();
@@ -271,11 +271,12 @@ public class AGEMOEAII extends AbstractEvolutionaryAlgorithm {
 		 * distance using the estimated geometry of the front.  Also note this distance measure is <strong>not</strong>
 		 * symmetric!
 		 * 
+		 * @param front the solutions whose distances are stored
 		 * @param p the estimated curvature of the L_p manifold
 		 * @return the distance measure
 		 */
-		DistanceMeasure<Solution> getDistanceMeasure(double p) {
-			return new CachedDistanceMeasure<>((i, j) -> {
+		DistanceMeasure<Solution> getDistanceMeasure(Population front, double p) {
+			return new DistanceMatrix<>((i, j) -> {
 				double proximity = minkowskiDistance(i, zeros, p);
 
 				double[] first = projectPoint(NormalizedObjectives.getAttribute(i), p);
@@ -283,7 +284,7 @@ public class AGEMOEAII extends AbstractEvolutionaryAlgorithm {
 				double[] midpt = projectPoint(Vector.divide(Vector.add(first, second), 2.0), p);
 
 				return (minkowskiDistance(first, midpt, 2.0) + minkowskiDistance(midpt, second, 2.0)) / proximity;
-			}, false);
+			}, front, false);
 		}
 
 		/**
@@ -20,6 +20,8 @@ package org.moeaframework.algorithm;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.moeaframework.algorithm.extension.Extensions;
 import org.moeaframework.core.Solution;
@@ -84,6 +86,25 @@ public abstract class AbstractAlgorithm implements Algorithm {
 		problem.evaluate(solution);
 		numberOfEvaluations++;
 	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The solutions are passed as a single batch to {@link Problem#evaluateAll(Iterable)}, allowing the problem to
+	 * amortize the cost of evaluation across the batch.  The solutions are only iterated over once, so this method
+	 * also supports single-use iterables.
+	 */
+	@Override
+	public void evaluateAll(Iterable<Solution> solutions) {
+		List<Solution> batch = new ArrayList<>();
+		
+		for (Solution solution : solutions) {
+			batch.add(solution);
+		}
+		
+		problem.evaluateAll(batch);
+		numberOfEvaluations += batch.size();
+	}
 
 	@Override
 	public int getNumberOfEvaluations() {
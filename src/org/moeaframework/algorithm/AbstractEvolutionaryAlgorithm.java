@@ -20,11 +20,13 @@ package org.moeaframework.algorithm;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.function.Consumer;
 
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.configuration.Configurable;
 import org.moeaframework.core.initialization.Initialization;
 import org.moeaframework.core.operator.Variation;
+import org.moeaframework.core.population.IndexedNondominatedPopulation;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.core.population.Population;
 import org.moeaframework.problem.Problem;
@@ -60,6 +62,12 @@ Configurable {
 	 */
 	private Initialization initialization;
 	
+	/**
+	 * The function used to evaluate the initial population, or {@code null} to use {@link #evaluateAll(Solution[])}.
+	 * This is only set while {@link #initialize(Consumer)} is running.
+	 */
+	private Consumer<Solution[]> initialEvaluator;
+	
 	/**
 	 * The variation operator.
 	 */
@@ -92,7 +100,7 @@ Configurable {
 	public NondominatedPopulation getResult() {
 		Population population = getPopulation();
 		NondominatedPopulation archive = getArchive();
-		NondominatedPopulation result = new NondominatedPopulation();
+		NondominatedPopulation result = new IndexedNondominatedPopulation();
 
 		result.addAll(population);
 
@@ -116,13 +124,36 @@ Configurable {
 		NondominatedPopulation archive = getArchive();
 		Solution[] initialSolutions = initialization.initialize(initialPopulationSize);
 		
-		evaluateAll(initialSolutions);
+		if (initialEvaluator == null) {
+			evaluateAll(initialSolutions);
+		} else {
+			initialEvaluator.accept(initialSolutions);
+			numberOfEvaluations += initialSolutions.length;
+		}
+		
 		population.addAll(initialSolutions);
 
 		if (archive != null) {
 			archive.addAll(population);
 		}
 	}
+	
+	/**
+	 * Initializes this algorithm, identical to {@link #initialize()}, except the initial population is evaluated by
+	 * the given function.  The function must evaluate every solution in place.  These evaluations are still counted
+	 * by {@link #getNumberOfEvaluations()}.
+	 * 
+	 * @param evaluator the function that evaluates the initial population
+	 */
+	public void initialize(Consumer<Solution[]> evaluator) {
+		initialEvaluator = evaluator;
+		
+		try {
+			initialize();
+		} finally {
+			initialEvaluator = null;
+		}
+	}
 
 	@Override
 	public NondominatedPopulation getArchive() {
@@ -132,6 +132,7 @@ public interface Algorithm extends Stateful, Extensible, Named {
 	 * solutions can be evaluated in parallel.
 	 * 
 	 * @param solutions the solutions to evaluate
+	 * @see Problem#evaluateAll(Iterable)
 	 */
 	public default void evaluateAll(Iterable<Solution> solutions) {
 		for (Solution solution : solutions) {
@@ -51,7 +51,8 @@ import org.moeaframework.util.validate.Validate;
  *       KanGAL Report No 2003002. Feb 2003.
  * </ol>
  */
-public class EpsilonMOEA extends AbstractEvolutionaryAlgorithm implements EpsilonBoxEvolutionaryAlgorithm {
+public class EpsilonMOEA extends AbstractEvolutionaryAlgorithm implements EpsilonBoxEvolutionaryAlgorithm,
+		SteadyStateAlgorithm {
 
 	/**
 	 * The dominance comparator used for updating the population.
@@ -127,6 +128,15 @@ public class EpsilonMOEA extends AbstractEvolutionaryAlgorithm implements Epsilo
 
 	@Override
 	public void iterate() {
+		for (Solution child : generate()) {
+			evaluate(child);
+			addToPopulation(child);
+			getArchive().add(child);
+		}
+	}
+	
+	@Override
+	public Solution[] generate() {
 		Population population = getPopulation();
 		EpsilonBoxDominanceArchive archive = getArchive();
 		Variation variation = getVariation();
@@ -142,13 +152,14 @@ public class EpsilonMOEA extends AbstractEvolutionaryAlgorithm implements Epsilo
 		
 		PRNG.shuffle(parents);
 
-		Solution[] children = variation.evolve(parents);
-
-		for (Solution child : children) {
-			evaluate(child);
-			addToPopulation(child);
-			archive.add(child);
-		}
+		return variation.evolve(parents);
+	}
+	
+	@Override
+	public void insert(Solution offspring) {
+		numberOfEvaluations++;
+		addToPopulation(offspring);
+		getArchive().add(offspring);
 	}
 
 	/**
@@ -17,6 +17,12 @@
  */
 package org.moeaframework.algorithm;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.comparator.DominanceComparator;
@@ -39,8 +45,12 @@ import org.moeaframework.util.validate.Validate;
  *   <li>Kukkonen and Lampinen (2005). "GDE3: The Third Evolution Step of Generalized Differential Evolution."
  *       KanGAL Report Number 2005013.
  * </ol>
+ * <p>
+ * When run as a {@link SteadyStateAlgorithm}, each offspring remembers its target vector and, once evaluated,
+ * competes against the target if it is still in the population.  Otherwise, the offspring is added to the population
+ * and the population is pruned back to its original size.
  */
-public class GDE3 extends AbstractEvolutionaryAlgorithm {
+public class GDE3 extends AbstractEvolutionaryAlgorithm implements SteadyStateAlgorithm {
 
 	/**
 	 * The dominance comparator used to determine if offspring survive until the non-dominated sorting step.
@@ -52,6 +62,17 @@ public class GDE3 extends AbstractEvolutionaryAlgorithm {
 	 */
 	private final DifferentialEvolutionSelection selection;
 	
+	/**
+	 * The target vectors of offspring generated by {@link #generate()} that are not yet inserted.  This mapping is
+	 * not saved with the state, so offspring generated before saving are inserted without comparing to the target.
+	 */
+	private final Map<Solution, Solution> targets;
+	
+	/**
+	 * The index of the next target vector used by {@link #generate()}.
+	 */
+	private int nextIndex;
+	
 	/**
 	 * Constructs the GDE3 algorithm with default settings.
 	 * 
@@ -106,6 +127,8 @@ public class GDE3 extends AbstractEvolutionaryAlgorithm {
 		
 		this.comparator = comparator;
 		this.selection = selection;
+		
+		targets = new IdentityHashMap<>();
 	}
 	
 	@Override
@@ -151,6 +174,52 @@ public class GDE3 extends AbstractEvolutionaryAlgorithm {
 		population.addAll(offspring);
 		population.prune(populationSize);
 	}
+	
+	@Override
+	public Solution[] generate() {
+		NondominatedSortingPopulation population = getPopulation();
+		DifferentialEvolutionVariation variation = getVariation();
+		
+		nextIndex = nextIndex % population.size();
+		selection.setCurrentIndex(nextIndex++);
+		
+		Solution[] parents = selection.select(variation.getArity(), population);
+		Solution child = variation.evolve(parents)[0];
+		
+		targets.put(child, parents[0]);
+		return new Solution[] { child };
+	}
+	
+	@Override
+	public void insert(Solution offspring) {
+		NondominatedSortingPopulation population = getPopulation();
+		Solution target = targets.remove(offspring);
+		int index = target == null ? -1 : population.indexOf(target);
+		int populationSize = population.size();
+		
+		numberOfEvaluations++;
+		
+		if (index < 0) {
+			population.add(offspring);
+			population.prune(populationSize);
+		} else {
+			int result = comparator.compare(offspring, target);
+			
+			if (result < 0) {
+				population.replace(index, offspring);
+			} else if (result == 0) {
+				population.add(offspring);
+				population.prune(populationSize);
+			}
+		}
+	}
+
+	@Override
+	public void terminate() {
+		// release any offspring that were generated but never inserted
+		targets.clear();
+		super.terminate();
+	}
 
 	@Override
 	public NondominatedSortingPopulation getPopulation() {
@@ -177,5 +246,17 @@ public class GDE3 extends AbstractEvolutionaryAlgorithm {
 	public void setInitialPopulationSize(int initialPopulationSize) {
 		super.setInitialPopulationSize(initialPopulationSize);
 	}
+	
+	@Override
+	public void saveState(ObjectOutputStream stream) throws IOException {
+		super.saveState(stream);
+		stream.writeInt(nextIndex);
+	}
+
+	@Override
+	public void loadState(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+		super.loadState(stream);
+		nextIndex = stream.readInt();
+	}
 
 }
@@ -126,6 +126,11 @@ public class MOEAD extends AbstractAlgorithm implements Configurable {
 	 */
 	boolean useDE;
 	
+	/**
+	 * If {@code true}, all offspring produced in a generation are evaluated together as a single batch.
+	 */
+	private boolean batchEvaluation;
+	
 	/**
 	 * The current generation number.
 	 */
@@ -350,6 +355,29 @@ public class MOEAD extends AbstractAlgorithm implements Configurable {
 	public void setUpdateUtility(int updateUtility) {
 		this.updateUtility = updateUtility;
 	}
+	
+	/**
+	 * Returns {@code true} if offspring are evaluated in batches.
+	 * 
+	 * @return {@code true} if offspring are evaluated in batches; {@code false} otherwise
+	 */
+	public boolean isBatchEvaluation() {
+		return batchEvaluation;
+	}
+	
+	/**
+	 * Sets whether offspring are evaluated in batches.  By default, MOEA/D evaluates each offspring and immediately
+	 * updates the neighboring subproblems, so later offspring within the same generation can be produced from these
+	 * updated solutions.  When enabled, all offspring in a generation are produced first and evaluated together by
+	 * calling {@link #evaluateAll(Iterable)}, allowing the evaluations to run in parallel or be batched by the
+	 * problem, before updating the subproblems in order.
+	 * 
+	 * @param batchEvaluation {@code true} to evaluate offspring in batches; {@code false} otherwise
+	 */
+	@Property
+	public void setBatchEvaluation(boolean batchEvaluation) {
+		this.batchEvaluation = batchEvaluation;
+	}
 
 	/**
 	 * Returns the variation operator.
@@ -675,38 +703,73 @@ public class MOEAD extends AbstractAlgorithm implements Configurable {
 		}
 	}
 
+	/**
+	 * Selects the parents used to produce offspring for the given subproblem.
+	 * 
+	 * @param index the index of the subproblem being searched
+	 * @param matingIndices the indices of the individuals available for mating
+	 * @return the selected parents
+	 */
+	private Solution[] selectParents(int index, List<Integer> matingIndices) {
+		Solution[] parents = new Solution[variation.getArity()];
+		parents[0] = population.get(index).getSolution();
+		
+		if (useDE) {
+			// MOEA/D parent selection for differential evolution
+			PRNG.shuffle(matingIndices);
+			
+			for (int i = 1; i < variation.getArity()-1; i++) {
+				parents[i] = population.get(matingIndices.get(i-1)).getSolution();
+			}
+			
+			parents[variation.getArity()-1] = population.get(index).getSolution();
+		} else {
+			for (int i = 1; i < variation.getArity(); i++) {
+				parents[i] = population.get(PRNG.nextItem(matingIndices)).getSolution();
+			}
+		}
+		
+		return parents;
+	}
+	
 	@Override
 	public void iterate() {
 		List<Integer> indices = getSubproblemsToSearch();
 
-		for (Integer index : indices) {
-			List<Integer> matingIndices = getMatingIndices(index);
-
-			Solution[] parents = new Solution[variation.getArity()];
-			parents[0] = population.get(index).getSolution();
+		if (batchEvaluation) {
+			// generate the offspring for all subproblems first so they are evaluated as a single batch
+			List<List<Integer>> matingIndices = new ArrayList<>(indices.size());
+			List<Solution[]> offspring = new ArrayList<>(indices.size());
+			List<Solution> batch = new ArrayList<>();
 			
-			if (useDE) {
-				// MOEA/D parent selection for differential evolution
-				PRNG.shuffle(matingIndices);
+			for (Integer index : indices) {
+				List<Integer> mating = getMatingIndices(index);
+				Solution[] children = variation.evolve(selectParents(index, mating));
 				
-				for (int i = 1; i < variation.getArity()-1; i++) {
-					parents[i] = population.get(matingIndices.get(i-1)).getSolution();
+				matingIndices.add(mating);
+				offspring.add(children);
+				batch.addAll(Arrays.asList(children));
+			}
+			
+			evaluateAll(batch);
+			
+			for (int i = 0; i < offspring.size(); i++) {
+				for (Solution child : offspring.get(i)) {
+					updateIdealPoint(child);
+					updateSolution(child, matingIndices.get(i));
 				}
+			}
+		} else {
+			for (Integer index : indices) {
+				List<Integer> matingIndices = getMatingIndices(index);
+				Solution[] offspring = variation.evolve(selectParents(index, matingIndices));
 				
-				parents[variation.getArity()-1] = population.get(index).getSolution();
-			} else {
-				for (int i = 1; i < variation.getArity(); i++) {
-					parents[i] = population.get(PRNG.nextItem(matingIndices)).getSolution();
+				for (Solution child : offspring) {
+					evaluate(child);
+					updateIdealPoint(child);
+					updateSolution(child, matingIndices);
 				}
 			}
-
-			Solution[] offspring = variation.evolve(parents);
-
-			for (Solution child : offspring) {
-				evaluate(child);
-				updateIdealPoint(child);
-				updateSolution(child, matingIndices);
-			}
 		}
 
 		generation++;
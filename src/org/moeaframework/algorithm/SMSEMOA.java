@@ -27,6 +27,7 @@ import org.moeaframework.core.attribute.Rank;
 import org.moeaframework.core.comparator.ChainedComparator;
 import org.moeaframework.core.comparator.FitnessComparator;
 import org.moeaframework.core.comparator.NondominatedSortingComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
 import org.moeaframework.core.comparator.RankComparator;
 import org.moeaframework.core.configuration.ConfigurationException;
 import org.moeaframework.core.configuration.Property;
@@ -38,6 +39,7 @@ import org.moeaframework.core.initialization.Initialization;
 import org.moeaframework.core.initialization.RandomInitialization;
 import org.moeaframework.core.operator.Variation;
 import org.moeaframework.core.population.FastNondominatedSorting;
+import org.moeaframework.core.population.NondominatedSorting;
 import org.moeaframework.core.population.Population;
 import org.moeaframework.core.selection.Selection;
 import org.moeaframework.core.selection.TournamentSelection;
@@ -53,7 +55,7 @@ import org.moeaframework.problem.Problem;
  *       Criterion.  European Journal of Operational Research, 3:1653-1669.
  * </ol>
  */
-public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
+public class SMSEMOA extends AbstractEvolutionaryAlgorithm implements SteadyStateAlgorithm {
 	
 	/**
 	 * The fitness evaluator to use (e.g., hypervolume or additive-epsilon indicator).
@@ -65,6 +67,11 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 	 */
 	private Selection selection;
 	
+	/**
+	 * The non-dominated sorting implementation used to rank solutions.
+	 */
+	private final NondominatedSorting nondominatedSorting;
+	
 	/**
 	 * Constructs a new SMS-EMOA instance with default settings.
 	 * 
@@ -91,6 +98,10 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 			Variation variation, FitnessEvaluator fitnessEvaluator) {
 		super(problem, initialPopulationSize, new Population(), null, initialization, variation);
 		setFitnessEvaluator(fitnessEvaluator);
+		
+		// SMS-EMOA has always used fast non-dominated sorting, so only switch if an implementation is explicitly set
+		nondominatedSorting = Settings.PROPERTIES.contains(Settings.KEY_NONDOMINATED_SORTING) ?
+				NondominatedSorting.createDefault(new ParetoDominanceComparator()) : new FastNondominatedSorting();
 	}
 	
 	@Override
@@ -140,7 +151,7 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 		
 		// rank the solutions
 		Population population = getPopulation();
-		new FastNondominatedSorting().evaluate(population);
+		nondominatedSorting.evaluate(population);
 		
 		if (fitnessEvaluator != null) {
 			fitnessEvaluator.evaluate(population);
@@ -149,17 +160,42 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 
 	@Override
 	protected void iterate() {
+		Solution offspring = generate()[0];
+		
+		evaluate(offspring);
+		addToPopulation(offspring);
+	}
+	
+	@Override
+	public Solution[] generate() {
 		Population population = getPopulation();
 		Variation variation = getVariation();
-		int populationSize = population.size();
 		Solution[] parents = selection.select(variation.getArity(), population);
 		Solution[] offspring = variation.evolve(parents);
 		
-		evaluate(offspring[0]);
-		population.add(offspring[0]);
+		return new Solution[] { offspring[0] };
+	}
+	
+	@Override
+	public void insert(Solution offspring) {
+		numberOfEvaluations++;
+		addToPopulation(offspring);
+	}
+	
+	/**
+	 * Adds the new solution to the population and removes the worst solution, as determined by the nondominated rank
+	 * and the fitness within the last front.
+	 * 
+	 * @param newSolution the new solution being added to the population
+	 */
+	private void addToPopulation(Solution newSolution) {
+		Population population = getPopulation();
+		int populationSize = population.size();
+		
+		population.add(newSolution);
 		
 		// rank the solutions and remove the worst
-		new FastNondominatedSorting().evaluate(population);
+		nondominatedSorting.evaluate(population);
 		
 		if (fitnessEvaluator == null) {
 			population.truncate(populationSize, new NondominatedSortingComparator());
@@ -0,0 +1,56 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.function.Consumer;
+
+import org.moeaframework.core.Solution;
+
+/**
+ * Interface for a steady-state evolutionary algorithm, where offspring are produced and inserted into the population
+ * one at a time.  Separating the generation of offspring from their insertion allows the evaluations to occur
+ * asynchronously, with each offspring inserted as soon as its evaluation completes.  Implementations must tolerate
+ * offspring being inserted in a different order than they were generated, and the population changing between the
+ * generation and insertion of an offspring.
+ */
+public interface SteadyStateAlgorithm extends EvolutionaryAlgorithm {
+	
+	/**
+	 * Initializes this algorithm, identical to {@link #initialize()}, except the initial population is evaluated by
+	 * the given function.  This method also records the function evaluations.
+	 * 
+	 * @param evaluator the function that evaluates the initial population in place
+	 */
+	public void initialize(Consumer<Solution[]> evaluator);
+	
+	/**
+	 * Generates one or more offspring from the current population.  The offspring are not evaluated.
+	 * 
+	 * @return the offspring
+	 */
+	public Solution[] generate();
+	
+	/**
+	 * Inserts an offspring that was previously returned by {@link #generate()} and has since been evaluated.  This
+	 * method also records the function evaluation, incrementing {@link #getNumberOfEvaluations()}.
+	 * 
+	 * @param offspring the evaluated offspring
+	 */
+	public void insert(Solution offspring);
+
+}
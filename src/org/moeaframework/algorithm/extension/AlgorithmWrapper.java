@@ -68,6 +68,11 @@ public class AlgorithmWrapper<T extends Algorithm> implements Algorithm, Configu
 		algorithm.evaluate(solution);
 	}
 
+	@Override
+	public void evaluateAll(Iterable<Solution> solutions) {
+		algorithm.evaluateAll(solutions);
+	}
+	
 	@Override
 	public int getNumberOfEvaluations() {
 		return algorithm.getNumberOfEvaluations();
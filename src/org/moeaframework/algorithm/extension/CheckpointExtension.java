@@ -18,38 +18,148 @@
 package org.moeaframework.algorithm.extension;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
 
 import org.moeaframework.algorithm.Algorithm;
+import org.moeaframework.util.validate.Validate;
 
 /**
  * Adds checkpoint functionality to an algorithm where the state is periodically recorded in a state file.  If the
  * state file exists at the start of the run, the algorithm is restored and resumes from that point.
+ * <p>
+ * The state is written using a compact binary encoding, see {@link CheckpointOutputStream}.  To further reduce the
+ * cost of each checkpoint:
+ * <ol>
+ *   <li>Full snapshots can be written periodically, with the checkpoints in between only appending the solutions
+ *       whose variables, objectives, or constraints changed since the last full snapshot.  When loading, the full
+ *       snapshot is combined with the most recent complete delta.
+ *   <li>The state can be written to disk on a background thread.  The state is still captured in memory when the
+ *       checkpoint occurs, so the algorithm can continue while the file is written.  Pending writes are completed
+ *       before loading a state file and when the algorithm terminates.
+ * </ol>
+ * State files written by previous versions, which use Java serialization, can still be loaded.
  */
 public class CheckpointExtension extends PeriodicExtension {
+	
+	/**
+	 * Identifies the start of a state file.
+	 */
+	static final long MAGIC = 0x4D4F454143484B50L;
+	
+	/**
+	 * The version of the state file format.
+	 */
+	static final int FORMAT_VERSION = 1;
+	
+	/**
+	 * Record type for a full snapshot.
+	 */
+	static final byte FULL_SNAPSHOT = 0;
+	
+	/**
+	 * Record type for a delta snapshot, which is relative to the full snapshot.
+	 */
+	static final byte DELTA_SNAPSHOT = 1;
+	
+	/**
+	 * The size, in bytes, of the header preceding each record.
+	 */
+	private static final int RECORD_HEADER_SIZE = Byte.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES;
+	
+	/**
+	 * Writes state files in the background.  A single thread is used so writes are performed in order.
+	 */
+	private static final ExecutorService WRITER = new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), (runnable) -> {
+				Thread thread = new Thread(runnable, "CheckpointWriter");
+				thread.setDaemon(true);
+				return thread;
+			});
 
 	/**
 	 * The file containing the checkpoint states.
 	 */
 	private final File stateFile;
+	
+	/**
+	 * The number of checkpoints between full snapshots.
+	 */
+	private final int fullSnapshotInterval;
+	
+	/**
+	 * If {@code true}, the state file is written on a background thread.
+	 */
+	private final boolean writeInBackground;
+	
+	/**
+	 * The encoded solutions from the last full snapshot, mapped to their index, or {@code null} if the next
+	 * checkpoint must write a full snapshot.
+	 */
+	private Map<ByteBuffer, Integer> base;
+	
+	/**
+	 * Identifies the last full snapshot, allowing delta snapshots to be matched with their full snapshot.
+	 */
+	private long baseId;
+	
+	/**
+	 * The number of delta snapshots written since the last full snapshot.
+	 */
+	private int deltasSinceFullSnapshot;
+	
+	/**
+	 * Set if writing a full snapshot failed, in which case the next checkpoint must write a full snapshot.
+	 */
+	private volatile boolean writeFailed;
 
 	/**
-	 * Creates a new checkpoint extension.
+	 * Creates a new checkpoint extension.  Each checkpoint writes a full snapshot before returning.
 	 * 
 	 * @param stateFile the file containing the checkpoint states
 	 * @param frequency the frequency of checkpoints
 	 */
 	public CheckpointExtension(File stateFile, Frequency frequency) {
+		this(stateFile, frequency, 1, false);
+	}
+	
+	/**
+	 * Creates a new checkpoint extension.
+	 * 
+	 * @param stateFile the file containing the checkpoint states
+	 * @param frequency the frequency of checkpoints
+	 * @param fullSnapshotInterval the number of checkpoints between full snapshots, where {@code 1} writes a full
+	 *        snapshot every checkpoint
+	 * @param writeInBackground if {@code true}, the state file is written on a background thread
+	 */
+	public CheckpointExtension(File stateFile, Frequency frequency, int fullSnapshotInterval,
+			boolean writeInBackground) {
 		super(frequency);
+		
+		Validate.that("fullSnapshotInterval", fullSnapshotInterval).isGreaterThan(0);
+		
 		this.stateFile = stateFile;
+		this.fullSnapshotInterval = fullSnapshotInterval;
+		this.writeInBackground = writeInBackground;
 	}
 
 	/**
@@ -59,14 +169,120 @@ public class CheckpointExtension extends PeriodicExtension {
 	 * @throws IOException if an I/O error occurred
 	 */
 	private void saveToStateFile(Algorithm algorithm) throws IOException {
-		File tempFile = File.createTempFile("checkpoint", "state");
+		boolean fullSnapshot = base == null || writeFailed || deltasSinceFullSnapshot + 1 >= fullSnapshotInterval;
+		CheckpointOutputStream stream = new CheckpointOutputStream(fullSnapshot ? Map.of() : base);
+		
+		algorithm.saveState(stream);
+		
+		if (fullSnapshot) {
+			List<byte[]> solutions = stream.getInlineSolutions();
+			
+			base = new HashMap<>();
+			baseId = ThreadLocalRandom.current().nextLong();
+			deltasSinceFullSnapshot = 0;
+			writeFailed = false;
+			
+			for (int i = 0; i < solutions.size(); i++) {
+				base.putIfAbsent(ByteBuffer.wrap(solutions.get(i)), i);
+			}
+		} else {
+			deltasSinceFullSnapshot++;
+		}
+		
+		byte[] record = createRecord(fullSnapshot ? FULL_SNAPSHOT : DELTA_SNAPSHOT, baseId, stream.toByteArray());
+		
+		if (writeInBackground) {
+			WRITER.execute(() -> {
+				try {
+					writeRecord(record, fullSnapshot);
+				} catch (IOException e) {
+					System.err.println("WARNING: Unable to write state file, continuing without checkpoints!");
+					e.printStackTrace();
+				}
+			});
+		} else {
+			writeRecord(record, fullSnapshot);
+		}
+	}
+	
+	/**
+	 * Writes a record to the state file.  A full snapshot replaces the state file, whereas a delta snapshot is appended
+	 * to the end of the state file.
+	 * 
+	 * @param record the record
+	 * @param fullSnapshot {@code true} if the record contains a full snapshot
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void writeRecord(byte[] record, boolean fullSnapshot) throws IOException {
+		try {
+			if (fullSnapshot) {
+				File tempFile = File.createTempFile("checkpoint", "state");
+				
+				try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tempFile))) {
+					out.writeLong(MAGIC);
+					out.writeInt(FORMAT_VERSION);
+					out.write(record);
+				}
+				
+				Files.move(tempFile.toPath(), stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} else {
+				// a partially-written record is detected by its checksum and ignored when loading
+				Files.write(stateFile.toPath(), record, StandardOpenOption.APPEND);
+			}
+		} catch (IOException e) {
+			writeFailed = true;
+			throw e;
+		}
+	}
+	
+	/**
+	 * Creates a record containing a snapshot.
+	 * 
+	 * @param type the type of snapshot
+	 * @param baseId identifies the full snapshot
+	 * @param payload the encoded state
+	 * @return the record
+	 */
+	private static byte[] createRecord(byte type, long baseId, byte[] payload) {
+		CRC32 checksum = new CRC32();
+		checksum.update(payload);
 		
-		try (ObjectOutputStream oos = new ObjectOutputStream(new BufferedOutputStream(
-				new FileOutputStream(tempFile)))) {
-			algorithm.saveState(oos);
+		return ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length)
+				.put(type)
+				.putLong(baseId)
+				.putInt(payload.length)
+				.putLong(checksum.getValue())
+				.put(payload)
+				.array();
+	}
+	
+	/**
+	 * Reads the next record from the state file.
+	 * 
+	 * @param buffer the contents of the state file, positioned at the start of the record
+	 * @return the snapshot, or {@code null} if the record is incomplete or corrupted
+	 */
+	private static Snapshot readRecord(ByteBuffer buffer) {
+		if (buffer.remaining() < RECORD_HEADER_SIZE) {
+			return null;
+		}
+		
+		byte type = buffer.get();
+		long baseId = buffer.getLong();
+		int length = buffer.getInt();
+		long expectedChecksum = buffer.getLong();
+		
+		if (length < 0 || length > buffer.remaining()) {
+			return null;
 		}
 		
-		Files.move(tempFile.toPath(), stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		byte[] payload = new byte[length];
+		buffer.get(payload);
+		
+		CRC32 checksum = new CRC32();
+		checksum.update(payload);
+		
+		return checksum.getValue() == expectedChecksum ? new Snapshot(type, baseId, payload) : null;
 	}
 
 	/**
@@ -77,8 +293,69 @@ public class CheckpointExtension extends PeriodicExtension {
 	 * @throws ClassNotFoundException if the class of a serialized object could not be found.
 	 */
 	private void loadFromStateFile(Algorithm algorithm) throws IOException, ClassNotFoundException {
-		try (ObjectInputStream ois = new ObjectInputStream(new BufferedInputStream(new FileInputStream(stateFile)))) {
-			algorithm.loadState(ois);
+		byte[] data = Files.readAllBytes(stateFile.toPath());
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		
+		// state files written using Java serialization start with the stream magic number 0xACED
+		if (data.length >= 2 && data[0] == (byte)0xAC && data[1] == (byte)0xED) {
+			try (ObjectInputStream ois = new ObjectInputStream(new BufferedInputStream(
+					new ByteArrayInputStream(data)))) {
+				algorithm.loadState(ois);
+			}
+			
+			return;
+		}
+		
+		if (buffer.remaining() < Long.BYTES + Integer.BYTES || buffer.getLong() != MAGIC) {
+			throw new IOException("'" + stateFile + "' is not a valid state file");
+		}
+		
+		int version = buffer.getInt();
+		
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unsupported state file version " + version);
+		}
+		
+		Snapshot fullSnapshot = readRecord(buffer);
+		Snapshot snapshot = fullSnapshot;
+		
+		if (fullSnapshot == null || fullSnapshot.type() != FULL_SNAPSHOT) {
+			throw new IOException("'" + stateFile + "' is missing the full snapshot");
+		}
+		
+		// use the last complete delta, stopping at any partially-written record
+		while (buffer.hasRemaining()) {
+			Snapshot deltaSnapshot = readRecord(buffer);
+			
+			if (deltaSnapshot == null || deltaSnapshot.type() != DELTA_SNAPSHOT ||
+					deltaSnapshot.baseId() != fullSnapshot.baseId()) {
+				break;
+			}
+			
+			snapshot = deltaSnapshot;
+		}
+		
+		CheckpointInputStream fullStream = new CheckpointInputStream(fullSnapshot.payload(), List.of());
+		
+		try (CheckpointInputStream stream = snapshot == fullSnapshot ? fullStream :
+				new CheckpointInputStream(snapshot.payload(), fullStream.getInlineSolutions())) {
+			algorithm.loadState(stream);
+		}
+	}
+	
+	/**
+	 * Waits for any state files being written in the background to complete.
+	 * 
+	 * @throws IOException if interrupted while waiting
+	 */
+	private static void awaitPendingWrites() throws IOException {
+		try {
+			WRITER.submit(() -> {}).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for state file to be written");
+		} catch (ExecutionException e) {
+			throw new IOException(e.getCause());
 		}
 	}
 	
@@ -96,20 +373,41 @@ public class CheckpointExtension extends PeriodicExtension {
 	public void onRegister(Algorithm algorithm) {
 		super.onRegister(algorithm);
 		
-		if (stateFile.exists() && (stateFile.length() != 0L)) {
-			try {
+		try {
+			awaitPendingWrites();
+			
+			if (stateFile.exists() && (stateFile.length() != 0L)) {
 				loadFromStateFile(algorithm);
-			} catch (IOException | ClassNotFoundException e) {
-				System.err.println("WARNING: Unable to read state file, continuing without checkpoints!");
-				e.printStackTrace();
 			}
+		} catch (IOException | ClassNotFoundException e) {
+			System.err.println("WARNING: Unable to read state file, continuing without checkpoints!");
+			e.printStackTrace();
 		}
 	}
 	
 	@Override
 	public void onTerminate(Algorithm algorithm) {
 		doAction(algorithm);
+		
+		try {
+			awaitPendingWrites();
+		} catch (IOException e) {
+			System.err.println("WARNING: Interrupted while writing state file!");
+			e.printStackTrace();
+		}
+		
 		super.onTerminate(algorithm);
 	}
+	
+	/**
+	 * A snapshot record stored in the state file.
+	 * 
+	 * @param type the type of snapshot
+	 * @param baseId identifies the full snapshot
+	 * @param payload the encoded state
+	 */
+	private record Snapshot(byte type, long baseId, byte[] payload) {
+		
+	}
 
 }
@@ -0,0 +1,603 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.extension;
+
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.BASE;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.BINARY_VARIABLE;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.BOOLEAN;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.BOUNDED_CONSTRAINT;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.DOUBLE;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.DOUBLE_ARRAY;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.INLINE;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.INTEGER;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.INT_ARRAY;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.LIST;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.LONG;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.MAXIMIZE;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.MINIMIZE;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.NULL;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.PERMUTATION;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.REAL_VARIABLE;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.SERIALIZED;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.SOLUTION;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.STRING;
+import static org.moeaframework.algorithm.extension.CheckpointOutputStream.THRESHOLD_CONSTRAINT;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.NotActiveException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.moeaframework.algorithm.extension.CheckpointOutputStream.SolutionReference;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.constraint.Between;
+import org.moeaframework.core.constraint.Constraint;
+import org.moeaframework.core.constraint.Equal;
+import org.moeaframework.core.constraint.GreaterThan;
+import org.moeaframework.core.constraint.GreaterThanOrEqual;
+import org.moeaframework.core.constraint.LessThan;
+import org.moeaframework.core.constraint.LessThanOrEqual;
+import org.moeaframework.core.constraint.NotEqual;
+import org.moeaframework.core.constraint.Outside;
+import org.moeaframework.core.objective.Maximize;
+import org.moeaframework.core.objective.Minimize;
+import org.moeaframework.core.objective.Objective;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.Variable;
+
+/**
+ * Reads the state written by {@link CheckpointOutputStream}.  Solutions are decoded on first use, and each solution
+ * in the table is decoded into a single instance, so solutions shared by multiple objects remain shared after
+ * loading the state.
+ */
+class CheckpointInputStream extends ObjectInputStream {
+	
+	/**
+	 * The encoded variables, objectives, and constraints of each solution in the solution table.
+	 */
+	private final byte[][] encodedSolutions;
+	
+	/**
+	 * The encoded attributes of each solution in the solution table.
+	 */
+	private final byte[][] encodedAttributes;
+	
+	/**
+	 * The decoded solutions, or {@code null} if not yet decoded.
+	 */
+	private final Solution[] solutions;
+	
+	/**
+	 * The encoded solutions stored inline in the solution table.
+	 */
+	private final List<byte[]> inlineSolutions;
+	
+	/**
+	 * The stream reading primitive values and objects.
+	 */
+	private final DataInputStream main;
+	
+	/**
+	 * The buffer containing objects written using Java serialization.
+	 */
+	private final ByteArrayInputStream sideBuffer;
+	
+	/**
+	 * The stream reading from {@link #sideBuffer}, or {@code null} if not yet created.
+	 */
+	private SideInputStream side;
+	
+	/**
+	 * Constructs a new checkpoint input stream.
+	 * 
+	 * @param data the encoded state
+	 * @param base the encoded solutions from the base snapshot, or an empty list if reading a full snapshot
+	 * @throws IOException if an I/O error occurred or the encoded state is invalid
+	 */
+	public CheckpointInputStream(byte[] data, List<byte[]> base) throws IOException {
+		super();
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+		int numberOfSolutions = in.readInt();
+		
+		encodedSolutions = new byte[numberOfSolutions][];
+		encodedAttributes = new byte[numberOfSolutions][];
+		solutions = new Solution[numberOfSolutions];
+		inlineSolutions = new ArrayList<>();
+		
+		for (int i = 0; i < numberOfSolutions; i++) {
+			byte type = in.readByte();
+			
+			if (type == INLINE) {
+				encodedSolutions[i] = readBytes(in);
+				inlineSolutions.add(encodedSolutions[i]);
+			} else if (type == BASE) {
+				int index = in.readInt();
+				
+				if (index < 0 || index >= base.size()) {
+					throw new StreamCorruptedException("invalid reference to base solution " + index);
+				}
+				
+				encodedSolutions[i] = base.get(index);
+			} else {
+				throw new StreamCorruptedException("invalid solution table entry " + type);
+			}
+			
+			// copy the attributes into their own array so they can be decoded later
+			int offset = data.length - in.available();
+			int numberOfAttributes = in.readInt();
+			
+			for (int j = 0; j < numberOfAttributes; j++) {
+				readString(in);
+				skipElement(in);
+			}
+			
+			encodedAttributes[i] = new byte[data.length - in.available() - offset];
+			System.arraycopy(data, offset, encodedAttributes[i], 0, encodedAttributes[i].length);
+		}
+		
+		int length = in.readInt();
+		int offset = data.length - in.available();
+		
+		if (length < 0 || length > in.available()) {
+			throw new StreamCorruptedException("invalid length " + length);
+		}
+		
+		main = new DataInputStream(new ByteArrayInputStream(data, offset, length));
+		sideBuffer = new ByteArrayInputStream(data, offset + length, data.length - offset - length);
+	}
+	
+	/**
+	 * Returns the encoded variables, objectives, and constraints of solutions stored inline in the solution table,
+	 * in the order they appear.  For a full snapshot, this is the base used by later snapshots.
+	 * 
+	 * @return the encoded solutions
+	 */
+	public List<byte[]> getInlineSolutions() {
+		return inlineSolutions;
+	}
+	
+	@Override
+	protected Object readObjectOverride() throws IOException, ClassNotFoundException {
+		byte type = main.readByte();
+		
+		switch (type) {
+			case SOLUTION:
+				return getSolution(main.readInt());
+			case LIST:
+				int size = main.readInt();
+				List<Object> list = new ArrayList<>(size);
+				
+				for (int i = 0; i < size; i++) {
+					list.add(readObjectOverride());
+				}
+				
+				return list;
+			case SERIALIZED:
+				if (side == null) {
+					side = new SideInputStream();
+				}
+				
+				return side.readObject();
+			default:
+				return readValue(main, type);
+		}
+	}
+	
+	/**
+	 * Returns the solution at the given index in the solution table, decoding the solution on first use.
+	 * 
+	 * @param index the index of the solution
+	 * @return the solution
+	 * @throws IOException if an I/O error occurred or the solution could not be decoded
+	 */
+	private Solution getSolution(int index) throws IOException {
+		if (index < 0 || index >= solutions.length) {
+			throw new StreamCorruptedException("invalid reference to solution " + index);
+		}
+		
+		if (solutions[index] == null) {
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(encodedSolutions[index]));
+			Variable[] variables = new Variable[in.readInt()];
+			
+			for (int i = 0; i < variables.length; i++) {
+				variables[i] = (Variable)readElement(in);
+			}
+			
+			Objective[] objectives = new Objective[in.readInt()];
+			
+			for (int i = 0; i < objectives.length; i++) {
+				objectives[i] = (Objective)readElement(in);
+			}
+			
+			Constraint[] constraints = new Constraint[in.readInt()];
+			
+			for (int i = 0; i < constraints.length; i++) {
+				constraints[i] = (Constraint)readElement(in);
+			}
+			
+			Solution solution = new Solution(variables.length, objectives.length, constraints.length);
+			
+			for (int i = 0; i < variables.length; i++) {
+				solution.setVariable(i, variables[i]);
+			}
+			
+			for (int i = 0; i < objectives.length; i++) {
+				solution.setObjective(i, objectives[i]);
+			}
+			
+			for (int i = 0; i < constraints.length; i++) {
+				solution.setConstraint(i, constraints[i]);
+			}
+			
+			in = new DataInputStream(new ByteArrayInputStream(encodedAttributes[index]));
+			int numberOfAttributes = in.readInt();
+			
+			for (int i = 0; i < numberOfAttributes; i++) {
+				String key = readString(in);
+				solution.setAttribute(key, (Serializable)readElement(in));
+			}
+			
+			solutions[index] = solution;
+		}
+		
+		return solutions[index];
+	}
+	
+	/**
+	 * Reads a variable, objective, constraint, or attribute of a solution.
+	 * 
+	 * @param in the input
+	 * @return the variable, objective, constraint, or attribute
+	 * @throws IOException if an I/O error occurred or the element could not be decoded
+	 */
+	private static Object readElement(DataInput in) throws IOException {
+		byte type = in.readByte();
+		
+		switch (type) {
+			case REAL_VARIABLE: {
+				RealVariable variable = new RealVariable(readString(in), in.readDouble(), in.readDouble());
+				variable.setValue(in.readDouble());
+				return variable;
+			}
+			case BINARY_VARIABLE: {
+				BinaryVariable variable = new BinaryVariable(readString(in), in.readInt());
+				long[] bits = new long[in.readInt()];
+				
+				for (int i = 0; i < bits.length; i++) {
+					bits[i] = in.readLong();
+				}
+				
+				BitSet bitSet = BitSet.valueOf(bits);
+				
+				for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1)) {
+					variable.set(i, true);
+				}
+				
+				return variable;
+			}
+			case PERMUTATION: {
+				String name = readString(in);
+				int[] array = readIntArray(in);
+				Permutation variable = new Permutation(name, array.length);
+				variable.fromArray(array);
+				return variable;
+			}
+			case MINIMIZE: {
+				Minimize objective = new Minimize(readString(in));
+				objective.setValue(in.readDouble());
+				return objective;
+			}
+			case MAXIMIZE: {
+				Maximize objective = new Maximize(readString(in));
+				objective.setValue(in.readDouble());
+				return objective;
+			}
+			case THRESHOLD_CONSTRAINT: {
+				byte constraintType = in.readByte();
+				String name = readString(in);
+				double threshold = in.readDouble();
+				double epsilon = in.readDouble();
+				
+				Constraint constraint = switch (constraintType) {
+					case 0 -> new Equal(name, threshold, epsilon);
+					case 1 -> new NotEqual(name, threshold, epsilon);
+					case 2 -> new LessThan(name, threshold, epsilon);
+					case 3 -> new LessThanOrEqual(name, threshold, epsilon);
+					case 4 -> new GreaterThan(name, threshold, epsilon);
+					case 5 -> new GreaterThanOrEqual(name, threshold, epsilon);
+					default -> throw new StreamCorruptedException("invalid constraint type " + constraintType);
+				};
+				
+				constraint.setValue(in.readDouble());
+				return constraint;
+			}
+			case BOUNDED_CONSTRAINT: {
+				byte constraintType = in.readByte();
+				String name = readString(in);
+				double lower = in.readDouble();
+				double upper = in.readDouble();
+				double epsilon = in.readDouble();
+				
+				Constraint constraint = switch (constraintType) {
+					case 0 -> new Between(name, lower, upper, epsilon);
+					case 1 -> new Outside(name, lower, upper, epsilon);
+					default -> throw new StreamCorruptedException("invalid constraint type " + constraintType);
+				};
+				
+				constraint.setValue(in.readDouble());
+				return constraint;
+			}
+			case SERIALIZED:
+				return SerializationUtils.deserialize(readBytes(in));
+			default:
+				return readValue(in, type);
+		}
+	}
+	
+	/**
+	 * Skips over a variable, objective, constraint, or attribute of a solution.
+	 * 
+	 * @param in the input
+	 * @throws IOException if an I/O error occurred or the element could not be decoded
+	 */
+	private static void skipElement(DataInputStream in) throws IOException {
+		byte type = in.readByte();
+		
+		switch (type) {
+			case SERIALIZED -> readBytes(in);
+			case NULL, STRING, INTEGER, LONG, DOUBLE, BOOLEAN, DOUBLE_ARRAY, INT_ARRAY -> readValue(in, type);
+			default -> throw new StreamCorruptedException("invalid attribute type " + type);
+		}
+	}
+	
+	/**
+	 * Reads {@code null}, a string, a boxed primitive, or a primitive array.
+	 * 
+	 * @param in the input
+	 * @param type the type of value
+	 * @return the value
+	 * @throws IOException if an I/O error occurred or the type is not valid
+	 */
+	private static Object readValue(DataInput in, byte type) throws IOException {
+		switch (type) {
+			case NULL:
+				return null;
+			case STRING:
+				return readString(in);
+			case INTEGER:
+				return in.readInt();
+			case LONG:
+				return in.readLong();
+			case DOUBLE:
+				return in.readDouble();
+			case BOOLEAN:
+				return in.readBoolean();
+			case DOUBLE_ARRAY:
+				double[] array = new double[in.readInt()];
+				
+				for (int i = 0; i < array.length; i++) {
+					array[i] = in.readDouble();
+				}
+				
+				return array;
+			case INT_ARRAY:
+				return readIntArray(in);
+			default:
+				throw new StreamCorruptedException("invalid type " + type);
+		}
+	}
+	
+	/**
+	 * Reads an array of integers.
+	 * 
+	 * @param in the input
+	 * @return the array
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static int[] readIntArray(DataInput in) throws IOException {
+		int[] array = new int[in.readInt()];
+		
+		for (int i = 0; i < array.length; i++) {
+			array[i] = in.readInt();
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Reads a length-prefixed array of bytes.
+	 * 
+	 * @param in the input
+	 * @return the bytes
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static byte[] readBytes(DataInput in) throws IOException {
+		int length = in.readInt();
+		
+		if (length < 0) {
+			throw new StreamCorruptedException("invalid length " + length);
+		}
+		
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+	
+	/**
+	 * Reads a string, which can be {@code null}.
+	 * 
+	 * @param in the input
+	 * @return the string
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static String readString(DataInput in) throws IOException {
+		int length = in.readInt();
+		
+		if (length < 0) {
+			return null;
+		}
+		
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	@Override
+	public int read() throws IOException {
+		return main.read();
+	}
+	
+	@Override
+	public int read(byte[] buffer, int offset, int length) throws IOException {
+		return main.read(buffer, offset, length);
+	}
+	
+	@Override
+	public int available() throws IOException {
+		return main.available();
+	}
+	
+	@Override
+	public boolean readBoolean() throws IOException {
+		return main.readBoolean();
+	}
+	
+	@Override
+	public byte readByte() throws IOException {
+		return main.readByte();
+	}
+	
+	@Override
+	public int readUnsignedByte() throws IOException {
+		return main.readUnsignedByte();
+	}
+	
+	@Override
+	public char readChar() throws IOException {
+		return main.readChar();
+	}
+	
+	@Override
+	public short readShort() throws IOException {
+		return main.readShort();
+	}
+	
+	@Override
+	public int readUnsignedShort() throws IOException {
+		return main.readUnsignedShort();
+	}
+	
+	@Override
+	public int readInt() throws IOException {
+		return main.readInt();
+	}
+	
+	@Override
+	public long readLong() throws IOException {
+		return main.readLong();
+	}
+	
+	@Override
+	public float readFloat() throws IOException {
+		return main.readFloat();
+	}
+	
+	@Override
+	public double readDouble() throws IOException {
+		return main.readDouble();
+	}
+	
+	@Override
+	public void readFully(byte[] buffer) throws IOException {
+		main.readFully(buffer);
+	}
+	
+	@Override
+	public void readFully(byte[] buffer, int offset, int length) throws IOException {
+		main.readFully(buffer, offset, length);
+	}
+	
+	@Override
+	public int skipBytes(int length) throws IOException {
+		return main.skipBytes(length);
+	}
+	
+	@Override
+	public String readUTF() throws IOException {
+		return main.readUTF();
+	}
+	
+	@Override
+	public Object readUnshared() throws IOException, ClassNotFoundException {
+		return readObjectOverride();
+	}
+	
+	@Override
+	public void defaultReadObject() throws IOException, ClassNotFoundException {
+		throw new NotActiveException("not in call to readObject");
+	}
+	
+	@Override
+	public GetField readFields() throws IOException, ClassNotFoundException {
+		throw new NotActiveException("not in call to readObject");
+	}
+	
+	@Override
+	public void close() throws IOException {
+		main.close();
+	}
+	
+	/**
+	 * Reads objects using Java serialization, resolving any references to solutions in the solution table.
+	 */
+	private class SideInputStream extends ObjectInputStream {
+		
+		/**
+		 * Constructs a new stream reading from {@link CheckpointInputStream#sideBuffer}.
+		 * 
+		 * @throws IOException if an I/O error occurred
+		 */
+		public SideInputStream() throws IOException {
+			super(sideBuffer);
+			enableResolveObject(true);
+		}
+		
+		@Override
+		protected Object resolveObject(Object obj) throws IOException {
+			if (obj instanceof SolutionReference reference) {
+				return getSolution(reference.index());
+			}
+			
+			return obj;
+		}
+	
+	}
+
+}
@@ -0,0 +1,659 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.extension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotActiveException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.constraint.Between;
+import org.moeaframework.core.constraint.BoundedConstraint;
+import org.moeaframework.core.constraint.Equal;
+import org.moeaframework.core.constraint.GreaterThan;
+import org.moeaframework.core.constraint.GreaterThanOrEqual;
+import org.moeaframework.core.constraint.LessThan;
+import org.moeaframework.core.constraint.LessThanOrEqual;
+import org.moeaframework.core.constraint.NotEqual;
+import org.moeaframework.core.constraint.Outside;
+import org.moeaframework.core.constraint.ThresholdConstraint;
+import org.moeaframework.core.objective.AbstractObjective;
+import org.moeaframework.core.objective.Maximize;
+import org.moeaframework.core.objective.Minimize;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+
+/**
+ * Writes the state of {@link org.moeaframework.core.Stateful} objects using a compact binary encoding.  Primitive
+ * values, strings, arrays, and lists are written directly.  Solutions are written to a separate solution table, where
+ * the common variable, objective, and constraint types are stored as raw values instead of serialized objects.  Any
+ * other object falls back to Java serialization, with references to solutions replaced by their index in the table.
+ * <p>
+ * When given the solutions from a previous snapshot, called the base, any solution whose variables, objectives, and
+ * constraints are unchanged is written as a reference to the base.  Only its attributes are stored.
+ * <p>
+ * The state is buffered in memory until calling {@link #toByteArray()}.  See {@link CheckpointInputStream} for reading
+ * the state.
+ */
+class CheckpointOutputStream extends ObjectOutputStream {
+	
+	/**
+	 * Type of a {@code null} value.
+	 */
+	static final byte NULL = 0;
+	
+	/**
+	 * Type of a string.
+	 */
+	static final byte STRING = 1;
+	
+	/**
+	 * Type of a boxed integer.
+	 */
+	static final byte INTEGER = 2;
+	
+	/**
+	 * Type of a boxed long.
+	 */
+	static final byte LONG = 3;
+	
+	/**
+	 * Type of a boxed double.
+	 */
+	static final byte DOUBLE = 4;
+	
+	/**
+	 * Type of a boxed boolean.
+	 */
+	static final byte BOOLEAN = 5;
+	
+	/**
+	 * Type of an array of doubles.
+	 */
+	static final byte DOUBLE_ARRAY = 6;
+	
+	/**
+	 * Type of an array of integers.
+	 */
+	static final byte INT_ARRAY = 7;
+	
+	/**
+	 * Type of an {@link ArrayList}, followed by each element.
+	 */
+	static final byte LIST = 8;
+	
+	/**
+	 * Type of a solution, followed by its index in the solution table.
+	 */
+	static final byte SOLUTION = 9;
+	
+	/**
+	 * Type of an object written using Java serialization.
+	 */
+	static final byte SERIALIZED = 10;
+	
+	/**
+	 * Type of a {@link RealVariable}.
+	 */
+	static final byte REAL_VARIABLE = 11;
+	
+	/**
+	 * Type of a {@link BinaryVariable}.
+	 */
+	static final byte BINARY_VARIABLE = 12;
+	
+	/**
+	 * Type of a {@link Permutation}.
+	 */
+	static final byte PERMUTATION = 13;
+	
+	/**
+	 * Type of a {@link Minimize} objective.
+	 */
+	static final byte MINIMIZE = 14;
+	
+	/**
+	 * Type of a {@link Maximize} objective.
+	 */
+	static final byte MAXIMIZE = 15;
+	
+	/**
+	 * Type of a constraint in {@link #THRESHOLD_CONSTRAINTS}.
+	 */
+	static final byte THRESHOLD_CONSTRAINT = 16;
+	
+	/**
+	 * Type of a constraint in {@link #BOUNDED_CONSTRAINTS}.
+	 */
+	static final byte BOUNDED_CONSTRAINT = 17;
+	
+	/**
+	 * Solution table entry storing the variables, objectives, and constraints.
+	 */
+	static final byte INLINE = 0;
+	
+	/**
+	 * Solution table entry referencing the variables, objectives, and constraints of a solution in the base.
+	 */
+	static final byte BASE = 1;
+	
+	/**
+	 * The threshold constraint types that are encoded as raw values, identified by their index in this list.
+	 */
+	static final List<Class<? extends ThresholdConstraint>> THRESHOLD_CONSTRAINTS = List.of(Equal.class,
+			NotEqual.class, LessThan.class, LessThanOrEqual.class, GreaterThan.class, GreaterThanOrEqual.class);
+	
+	/**
+	 * The bounded constraint types that are encoded as raw values, identified by their index in this list.
+	 */
+	static final List<Class<? extends BoundedConstraint>> BOUNDED_CONSTRAINTS = List.of(Between.class,
+			Outside.class);
+	
+	/**
+	 * The buffer storing primitive values and objects.
+	 */
+	private final ByteArrayOutputStream mainBuffer;
+	
+	/**
+	 * The stream writing to {@link #mainBuffer}.
+	 */
+	private final DataOutputStream main;
+	
+	/**
+	 * The buffer storing the solution table.
+	 */
+	private final ByteArrayOutputStream tableBuffer;
+	
+	/**
+	 * The stream writing to {@link #tableBuffer}.
+	 */
+	private final DataOutputStream table;
+	
+	/**
+	 * The buffer storing objects written using Java serialization.
+	 */
+	private final ByteArrayOutputStream sideBuffer;
+	
+	/**
+	 * The stream writing to {@link #sideBuffer}, or {@code null} if not yet created.
+	 */
+	private SideOutputStream side;
+	
+	/**
+	 * Buffer used when encoding each solution.
+	 */
+	private final ByteArrayOutputStream solutionBuffer;
+	
+	/**
+	 * The stream writing to {@link #solutionBuffer}.
+	 */
+	private final DataOutputStream solutionOutput;
+	
+	/**
+	 * The index of each solution in the solution table.
+	 */
+	private final Map<Solution, Integer> solutionIndices;
+	
+	/**
+	 * The encoded variables, objectives, and constraints of the base solutions, mapped to their index.
+	 */
+	private final Map<ByteBuffer, Integer> base;
+	
+	/**
+	 * The encoded variables, objectives, and constraints of solutions stored in the solution table.
+	 */
+	private final List<byte[]> inlineSolutions;
+	
+	/**
+	 * Constructs a new checkpoint output stream.
+	 * 
+	 * @param base the encoded solutions from the base snapshot, mapped to their index, or an empty map to write a
+	 *        full snapshot
+	 * @throws IOException if an I/O error occurred
+	 */
+	public CheckpointOutputStream(Map<ByteBuffer, Integer> base) throws IOException {
+		super();
+		this.base = base;
+		
+		mainBuffer = new ByteArrayOutputStream();
+		main = new DataOutputStream(mainBuffer);
+		tableBuffer = new ByteArrayOutputStream();
+		table = new DataOutputStream(tableBuffer);
+		sideBuffer = new ByteArrayOutputStream();
+		solutionBuffer = new ByteArrayOutputStream();
+		solutionOutput = new DataOutputStream(solutionBuffer);
+		solutionIndices = new IdentityHashMap<>();
+		inlineSolutions = new ArrayList<>();
+	}
+	
+	/**
+	 * Returns the encoded variables, objectives, and constraints of solutions stored in the solution table, in the
+	 * order they appear.  For a full snapshot, this includes every solution and can be used as the base for later
+	 * snapshots.
+	 * 
+	 * @return the encoded solutions
+	 */
+	public List<byte[]> getInlineSolutions() {
+		return inlineSolutions;
+	}
+	
+	/**
+	 * Returns the encoded state.  No further objects should be written after calling this method.
+	 * 
+	 * @return the encoded state
+	 * @throws IOException if an I/O error occurred
+	 */
+	public byte[] toByteArray() throws IOException {
+		if (side != null) {
+			side.flush();
+		}
+		
+		ByteArrayOutputStream result = new ByteArrayOutputStream(Integer.BYTES * 2 + tableBuffer.size() +
+				mainBuffer.size() + sideBuffer.size());
+		
+		try (DataOutputStream out = new DataOutputStream(result)) {
+			out.writeInt(solutionIndices.size());
+			tableBuffer.writeTo(out);
+			out.writeInt(mainBuffer.size());
+			mainBuffer.writeTo(out);
+			sideBuffer.writeTo(out);
+		}
+		
+		return result.toByteArray();
+	}
+	
+	@Override
+	protected void writeObjectOverride(Object obj) throws IOException {
+		if (obj != null && obj.getClass() == Solution.class) {
+			main.writeByte(SOLUTION);
+			main.writeInt(indexOf((Solution)obj));
+		} else if (obj != null && obj.getClass() == ArrayList.class) {
+			List<?> list = (List<?>)obj;
+			main.writeByte(LIST);
+			main.writeInt(list.size());
+			
+			for (Object element : list) {
+				writeObjectOverride(element);
+			}
+		} else if (!writeValue(main, obj)) {
+			main.writeByte(SERIALIZED);
+			
+			if (side == null) {
+				side = new SideOutputStream();
+			}
+			
+			side.writeObject(obj);
+		}
+	}
+	
+	/**
+	 * Returns the index of the solution in the solution table, adding it to the table if this is the first time the
+	 * solution is written.
+	 * 
+	 * @param solution the solution
+	 * @return the index of the solution
+	 * @throws IOException if an I/O error occurred
+	 */
+	private int indexOf(Solution solution) throws IOException {
+		Integer index = solutionIndices.get(solution);
+		
+		if (index == null) {
+			index = solutionIndices.size();
+			solutionIndices.put(solution, index);
+			
+			solutionBuffer.reset();
+			
+			solutionOutput.writeInt(solution.getNumberOfVariables());
+			
+			for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+				writeElement(solutionOutput, solution.getVariable(i));
+			}
+			
+			solutionOutput.writeInt(solution.getNumberOfObjectives());
+			
+			for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+				writeElement(solutionOutput, solution.getObjective(i));
+			}
+			
+			solutionOutput.writeInt(solution.getNumberOfConstraints());
+			
+			for (int i = 0; i < solution.getNumberOfConstraints(); i++) {
+				writeElement(solutionOutput, solution.getConstraint(i));
+			}
+			
+			byte[] encoding = solutionBuffer.toByteArray();
+			Integer baseIndex = base.get(ByteBuffer.wrap(encoding));
+			
+			if (baseIndex != null) {
+				table.writeByte(BASE);
+				table.writeInt(baseIndex);
+			} else {
+				table.writeByte(INLINE);
+				table.writeInt(encoding.length);
+				table.write(encoding);
+				inlineSolutions.add(encoding);
+			}
+			
+			// attributes frequently change, such as the rank or crowding distance, so are always stored
+			table.writeInt(solution.getAttributes().size());
+			
+			for (Map.Entry<String, Serializable> entry : solution.getAttributes().entrySet()) {
+				writeString(table, entry.getKey());
+				writeElement(table, entry.getValue());
+			}
+		}
+		
+		return index;
+	}
+	
+	/**
+	 * Writes a variable, objective, constraint, or attribute of a solution.  Unlike objects written to the main
+	 * stream, these must be self-contained so the encoded solutions can be compared.
+	 * 
+	 * @param out the output
+	 * @param element the variable, objective, constraint, or attribute
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static void writeElement(DataOutput out, Serializable element) throws IOException {
+		if (writeValue(out, element)) {
+			return;
+		}
+		
+		Class<?> type = element.getClass();
+		
+		if (type == RealVariable.class) {
+			RealVariable variable = (RealVariable)element;
+			out.writeByte(REAL_VARIABLE);
+			writeString(out, variable.getName());
+			out.writeDouble(variable.getLowerBound());
+			out.writeDouble(variable.getUpperBound());
+			out.writeDouble(variable.getValue());
+		} else if (type == BinaryVariable.class) {
+			BinaryVariable variable = (BinaryVariable)element;
+			long[] bits = variable.getBitSet().toLongArray();
+			out.writeByte(BINARY_VARIABLE);
+			writeString(out, variable.getName());
+			out.writeInt(variable.getNumberOfBits());
+			out.writeInt(bits.length);
+			
+			for (long value : bits) {
+				out.writeLong(value);
+			}
+		} else if (type == Permutation.class) {
+			Permutation variable = (Permutation)element;
+			out.writeByte(PERMUTATION);
+			writeString(out, variable.getName());
+			writeIntArray(out, variable.toArray());
+		} else if (type == Minimize.class || type == Maximize.class) {
+			AbstractObjective objective = (AbstractObjective)element;
+			out.writeByte(type == Minimize.class ? MINIMIZE : MAXIMIZE);
+			writeString(out, objective.getName());
+			out.writeDouble(objective.getValue());
+		} else if (THRESHOLD_CONSTRAINTS.contains(type)) {
+			ThresholdConstraint constraint = (ThresholdConstraint)element;
+			out.writeByte(THRESHOLD_CONSTRAINT);
+			out.writeByte(THRESHOLD_CONSTRAINTS.indexOf(type));
+			writeString(out, constraint.getName());
+			out.writeDouble(constraint.getThreshold());
+			out.writeDouble(constraint.getEpsilon());
+			out.writeDouble(constraint.getValue());
+		} else if (BOUNDED_CONSTRAINTS.contains(type)) {
+			BoundedConstraint constraint = (BoundedConstraint)element;
+			out.writeByte(BOUNDED_CONSTRAINT);
+			out.writeByte(BOUNDED_CONSTRAINTS.indexOf(type));
+			writeString(out, constraint.getName());
+			out.writeDouble(constraint.getLower());
+			out.writeDouble(constraint.getUpper());
+			out.writeDouble(constraint.getEpsilon());
+			out.writeDouble(constraint.getValue());
+		} else {
+			byte[] bytes = SerializationUtils.serialize(element);
+			out.writeByte(SERIALIZED);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+	
+	/**
+	 * Writes {@code null}, a string, a boxed primitive, or a primitive array.
+	 * 
+	 * @param out the output
+	 * @param value the value
+	 * @return {@code true} if the value was written; {@code false} if the value is not one of the supported types
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static boolean writeValue(DataOutput out, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof String string) {
+			out.writeByte(STRING);
+			writeString(out, string);
+		} else if (value instanceof Integer integer) {
+			out.writeByte(INTEGER);
+			out.writeInt(integer);
+		} else if (value instanceof Long longValue) {
+			out.writeByte(LONG);
+			out.writeLong(longValue);
+		} else if (value instanceof Double doubleValue) {
+			out.writeByte(DOUBLE);
+			out.writeDouble(doubleValue);
+		} else if (value instanceof Boolean booleanValue) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean(booleanValue);
+		} else if (value instanceof double[] array) {
+			out.writeByte(DOUBLE_ARRAY);
+			out.writeInt(array.length);
+			
+			for (double element : array) {
+				out.writeDouble(element);
+			}
+		} else if (value instanceof int[] array) {
+			out.writeByte(INT_ARRAY);
+			writeIntArray(out, array);
+		} else {
+			return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Writes an array of integers.
+	 * 
+	 * @param out the output
+	 * @param array the array
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static void writeIntArray(DataOutput out, int[] array) throws IOException {
+		out.writeInt(array.length);
+		
+		for (int element : array) {
+			out.writeInt(element);
+		}
+	}
+	
+	/**
+	 * Writes a string, which can be {@code null}, using UTF-8 encoding.
+	 * 
+	 * @param out the output
+	 * @param value the string
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static void writeString(DataOutput out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+		} else {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+	
+	@Override
+	public void write(int value) throws IOException {
+		main.write(value);
+	}
+	
+	@Override
+	public void write(byte[] buffer) throws IOException {
+		main.write(buffer);
+	}
+	
+	@Override
+	public void write(byte[] buffer, int offset, int length) throws IOException {
+		main.write(buffer, offset, length);
+	}
+	
+	@Override
+	public void writeBoolean(boolean value) throws IOException {
+		main.writeBoolean(value);
+	}
+	
+	@Override
+	public void writeByte(int value) throws IOException {
+		main.writeByte(value);
+	}
+	
+	@Override
+	public void writeShort(int value) throws IOException {
+		main.writeShort(value);
+	}
+	
+	@Override
+	public void writeChar(int value) throws IOException {
+		main.writeChar(value);
+	}
+	
+	@Override
+	public void writeInt(int value) throws IOException {
+		main.writeInt(value);
+	}
+	
+	@Override
+	public void writeLong(long value) throws IOException {
+		main.writeLong(value);
+	}
+	
+	@Override
+	public void writeFloat(float value) throws IOException {
+		main.writeFloat(value);
+	}
+	
+	@Override
+	public void writeDouble(double value) throws IOException {
+		main.writeDouble(value);
+	}
+	
+	@Override
+	public void writeBytes(String value) throws IOException {
+		main.writeBytes(value);
+	}
+	
+	@Override
+	public void writeChars(String value) throws IOException {
+		main.writeChars(value);
+	}
+	
+	@Override
+	public void writeUTF(String value) throws IOException {
+		main.writeUTF(value);
+	}
+	
+	@Override
+	public void writeUnshared(Object obj) throws IOException {
+		writeObjectOverride(obj);
+	}
+	
+	@Override
+	public void defaultWriteObject() throws IOException {
+		throw new NotActiveException("not in call to writeObject");
+	}
+	
+	@Override
+	public void writeFields() throws IOException {
+		throw new NotActiveException("not in call to writeObject");
+	}
+	
+	@Override
+	public PutField putFields() throws IOException {
+		throw new NotActiveException("not in call to writeObject");
+	}
+	
+	@Override
+	public void reset() throws IOException {
+		// nothing to reset, the state is written as a single snapshot
+	}
+	
+	@Override
+	public void flush() throws IOException {
+		main.flush();
+	}
+	
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+	
+	/**
+	 * Placeholder for a solution referenced by an object written using Java serialization.
+	 * 
+	 * @param index the index of the solution in the solution table
+	 */
+	record SolutionReference(int index) implements Serializable {
+	
+	}
+	
+	/**
+	 * Writes objects using Java serialization, replacing any solutions with their index in the solution table.
+	 */
+	private class SideOutputStream extends ObjectOutputStream {
+		
+		/**
+		 * Constructs a new stream writing to {@link CheckpointOutputStream#sideBuffer}.
+		 * 
+		 * @throws IOException if an I/O error occurred
+		 */
+		public SideOutputStream() throws IOException {
+			super(sideBuffer);
+			enableReplaceObject(true);
+		}
+		
+		@Override
+		protected Object replaceObject(Object obj) throws IOException {
+			if (obj != null && obj.getClass() == Solution.class) {
+				return new SolutionReference(indexOf((Solution)obj));
+			}
+			
+			return obj;
+		}
+	
+	}
+
+}
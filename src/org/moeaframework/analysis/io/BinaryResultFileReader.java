@@ -0,0 +1,487 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.io;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.moeaframework.analysis.series.ResultEntry;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.TypedProperties;
+import org.moeaframework.core.population.Population;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.Variable;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.problem.ProblemStub;
+import org.moeaframework.util.ErrorHandler;
+
+import static org.moeaframework.analysis.io.BinaryResultFileWriter.ENCODED_VARIABLES;
+import static org.moeaframework.analysis.io.BinaryResultFileWriter.ENTRY_MARKER;
+import static org.moeaframework.analysis.io.BinaryResultFileWriter.FORMAT_VERSION;
+import static org.moeaframework.analysis.io.BinaryResultFileWriter.INDEX_MAGIC;
+import static org.moeaframework.analysis.io.BinaryResultFileWriter.MAGIC;
+import static org.moeaframework.analysis.io.BinaryResultFileWriter.NO_VARIABLES;
+import static org.moeaframework.analysis.io.BinaryResultFileWriter.REAL_VARIABLES;
+import static org.moeaframework.analysis.io.ResultFileWriter.ENCODING_WARNING;
+
+/**
+ * Reads binary result files created by {@link BinaryResultFileWriter}.  Entries are read on demand using positional
+ * reads, and can be accessed in any order using {@link #get(int)}.
+ * <p>
+ * If the file was not closed properly and is missing the index, any complete entries are located by scanning the
+ * file.  An incomplete entry at the end of the file is ignored.
+ * 
+ * @see BinaryResultFileWriter
+ */
+public class BinaryResultFileReader implements Closeable, Iterator<ResultEntry>, Iterable<ResultEntry> {
+	
+	/**
+	 * The channel for reading the file.
+	 */
+	private final FileChannel channel;
+	
+	/**
+	 * The problem.
+	 */
+	private final Problem problem;
+	
+	/**
+	 * The error handler.
+	 */
+	private final ErrorHandler errorHandler;
+	
+	/**
+	 * The offset of each entry in the file.
+	 */
+	private final long[] offsets;
+	
+	/**
+	 * The index of the next entry returned by {@link #next()}.
+	 */
+	private int cursor;
+	
+	/**
+	 * Constructs a binary result file reader.
+	 * 
+	 * @param problem the problem, if {@code null} a problem "stub" will be generated
+	 * @param file the binary result file
+	 * @throws IOException if an I/O error occurred or the file is not a binary result file
+	 */
+	public BinaryResultFileReader(Problem problem, File file) throws IOException {
+		this(problem, file, createErrorHandler());
+	}
+	
+	/**
+	 * Constructs a binary result file reader.
+	 * 
+	 * @param problem the problem, if {@code null} a problem "stub" will be generated
+	 * @param file the binary result file
+	 * @param errorHandler the error handler
+	 * @throws IOException if an I/O error occurred or the file is not a binary result file
+	 */
+	BinaryResultFileReader(Problem problem, File file, ErrorHandler errorHandler) throws IOException {
+		super();
+		this.errorHandler = errorHandler;
+		
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		
+		try {
+			long size = channel.size();
+			
+			if (size < Long.BYTES || readAt(0, Long.BYTES).getLong() != MAGIC) {
+				throw new IOException("Not a binary result file: " + file);
+			}
+			
+			int formatVersion = readAt(Long.BYTES, Integer.BYTES).getInt();
+			
+			if (formatVersion > FORMAT_VERSION) {
+				throw new IOException("Binary result file created with newer format version (file: " +
+						formatVersion + ", software: " + FORMAT_VERSION + ")");
+			}
+			
+			// read the header properties in place, tracking the position to locate the first entry
+			long position = Long.BYTES + Integer.BYTES;
+			int count = readAt(position, Integer.BYTES).getInt();
+			TypedProperties properties = new TypedProperties();
+			position += Integer.BYTES;
+			
+			for (int i = 0; i < count; i++) {
+				byte[] key = readBytesAt(position, size);
+				position += Integer.BYTES + key.length;
+				
+				byte[] value = readBytesAt(position, size);
+				position += Integer.BYTES + value.length;
+				
+				properties.setString(new String(key, StandardCharsets.UTF_8),
+						new String(value, StandardCharsets.UTF_8));
+			}
+			
+			this.problem = ResultFileReader.validateHeader(problem, properties, errorHandler);
+			this.offsets = readIndex(position, size);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Returns the problem instance used by this reader.  This is either the problem instance passed into the
+	 * constructor or a {@link ProblemStub} if the problem was reconstructed from the result file.
+	 * 
+	 * @return the problem instance
+	 */
+	public Problem getProblem() {
+		return problem;
+	}
+	
+	/**
+	 * Returns the error handler used by this reader.
+	 * 
+	 * @return the error handler
+	 */
+	public ErrorHandler getErrorHandler() {
+		return errorHandler;
+	}
+	
+	/**
+	 * Returns the number of entries in the file.
+	 * 
+	 * @return the number of entries
+	 */
+	public int size() {
+		return offsets.length;
+	}
+	
+	/**
+	 * Reads the entry at the given index.
+	 * 
+	 * @param index the index of the entry
+	 * @return the entry
+	 * @throws IOException if an I/O error occurred
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public ResultEntry get(int index) throws IOException {
+		ByteBuffer buffer = readAt(offsets[index], Integer.BYTES + Integer.BYTES);
+		int marker = buffer.getInt();
+		int length = buffer.getInt();
+		
+		if (marker != ENTRY_MARKER || length < 0 || length > channel.size() - offsets[index] - buffer.capacity()) {
+			throw new IOException("Invalid entry at offset " + offsets[index]);
+		}
+		
+		return readEntry(readAt(offsets[index] + buffer.capacity(), length));
+	}
+	
+	@Override
+	public boolean hasNext() {
+		return cursor < offsets.length;
+	}
+	
+	@Override
+	public ResultEntry next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		
+		try {
+			return get(cursor++);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	@Override
+	public Iterator<ResultEntry> iterator() {
+		return this;
+	}
+	
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+	
+	/**
+	 * Reads the offsets of the entries from the index at the end of the file, or if the index is missing, by scanning
+	 * the file.
+	 * 
+	 * @param start the offset of the first entry
+	 * @param size the size of the file
+	 * @return the offsets of each entry
+	 * @throws IOException if an I/O error occurred
+	 */
+	private long[] readIndex(long start, long size) throws IOException {
+		int trailerLength = Integer.BYTES + Long.BYTES + Long.BYTES;
+		
+		if (size - start >= trailerLength) {
+			ByteBuffer trailer = readAt(size - trailerLength, trailerLength);
+			int count = trailer.getInt();
+			long indexOffset = trailer.getLong();
+			
+			if (trailer.getLong() == INDEX_MAGIC && count >= 0 &&
+					indexOffset + (long)count * Long.BYTES + trailerLength == size) {
+				long[] result = new long[count];
+				readAt(indexOffset, count * Long.BYTES).asLongBuffer().get(result);
+				return result;
+			}
+		}
+		
+		return scan(start, size);
+	}
+	
+	/**
+	 * Locates the complete entries by scanning the file.
+	 * 
+	 * @param start the offset of the first entry
+	 * @param size the size of the file
+	 * @return the offsets of each entry
+	 * @throws IOException if an I/O error occurred
+	 */
+	private long[] scan(long start, long size) throws IOException {
+		long[] result = new long[16];
+		int count = 0;
+		long position = start;
+		
+		while (size - position >= Integer.BYTES + Integer.BYTES) {
+			ByteBuffer buffer = readAt(position, Integer.BYTES + Integer.BYTES);
+			int marker = buffer.getInt();
+			int length = buffer.getInt();
+			long end = position + Integer.BYTES + Integer.BYTES + length;
+			
+			if (marker != ENTRY_MARKER || length < 0 || end > size) {
+				break;
+			}
+			
+			if (count == result.length) {
+				result = Arrays.copyOf(result, 2 * count);
+			}
+			
+			result[count++] = position;
+			position = end;
+		}
+		
+		if (position < size) {
+			errorHandler.warn("Binary result file is missing its index or contains an incomplete entry, ignoring " +
+					"remaining content");
+		}
+		
+		return Arrays.copyOf(result, count);
+	}
+	
+	/**
+	 * Reads the body of an entry.
+	 * 
+	 * @param buffer the buffer containing the entry
+	 * @return the entry
+	 * @throws IOException if the entry is invalid
+	 */
+	private ResultEntry readEntry(ByteBuffer buffer) throws IOException {
+		int numberOfSolutions = buffer.getInt();
+		TypedProperties properties = readProperties(buffer);
+		byte variableEncoding = buffer.get();
+		int numberOfVariables = buffer.getInt();
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		int numberOfConstraints = problem.getNumberOfConstraints();
+		
+		if (numberOfVariables != 0 && numberOfVariables != problem.getNumberOfVariables()) {
+			throw new IOException("Number of variables in entry does not match problem (given: " +
+					numberOfVariables + ", expected: " + problem.getNumberOfVariables() + ")");
+		}
+		
+		Solution prototype = problem.newSolution();
+		Solution[] solutions = new Solution[numberOfSolutions];
+		
+		for (int i = 0; i < numberOfSolutions; i++) {
+			solutions[i] = new Solution(numberOfVariables, numberOfObjectives, numberOfConstraints);
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				solutions[i].setObjective(j, prototype.getObjective(j).copy());
+			}
+			
+			for (int j = 0; j < numberOfConstraints; j++) {
+				solutions[i].setConstraint(j, prototype.getConstraint(j).copy());
+			}
+			
+			for (int j = 0; j < numberOfVariables; j++) {
+				solutions[i].setVariable(j, prototype.getVariable(j).copy());
+			}
+		}
+		
+		for (int j = 0; j < numberOfObjectives; j++) {
+			for (int i = 0; i < numberOfSolutions; i++) {
+				solutions[i].setObjectiveValue(j, buffer.getDouble());
+			}
+		}
+		
+		for (int j = 0; j < numberOfConstraints; j++) {
+			for (int i = 0; i < numberOfSolutions; i++) {
+				solutions[i].setConstraintValue(j, buffer.getDouble());
+			}
+		}
+		
+		switch (variableEncoding) {
+			case NO_VARIABLES -> {
+				// no variables stored
+			}
+			case REAL_VARIABLES -> {
+				for (int j = 0; j < numberOfVariables; j++) {
+					for (int i = 0; i < numberOfSolutions; i++) {
+						Variable variable = solutions[i].getVariable(j);
+						double value = buffer.getDouble();
+						
+						if (variable instanceof RealVariable realVariable) {
+							realVariable.setValue(value);
+						} else {
+							variable.decode(Double.toString(value));
+						}
+					}
+				}
+			}
+			case ENCODED_VARIABLES -> {
+				for (int i = 0; i < numberOfSolutions; i++) {
+					for (int j = 0; j < numberOfVariables; j++) {
+						String value = readString(buffer);
+						
+						if (value.equals("-")) {
+							errorHandler.warn(ENCODING_WARNING);
+						} else {
+							solutions[i].getVariable(j).decode(value);
+						}
+					}
+				}
+			}
+			default -> throw new IOException("Unsupported variable encoding " + variableEncoding);
+		}
+		
+		return new ResultEntry(new Population(solutions), properties);
+	}
+	
+	/**
+	 * Reads a region of the file into a buffer.
+	 * 
+	 * @param position the offset of the region
+	 * @param length the length of the region
+	 * @return the buffer
+	 * @throws IOException if an I/O error occurred or the end of the file was reached
+	 */
+	private ByteBuffer readAt(long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Unexpected end of file");
+			}
+		}
+		
+		return buffer.flip();
+	}
+	
+	/**
+	 * Reads a length-prefixed byte array from the file.
+	 * 
+	 * @param position the offset of the length prefix
+	 * @param size the size of the file
+	 * @return the bytes
+	 * @throws IOException if an I/O error occurred or the length is invalid
+	 */
+	private byte[] readBytesAt(long position, long size) throws IOException {
+		int length = readAt(position, Integer.BYTES).getInt();
+		
+		if (length < 0 || length > size - position - Integer.BYTES) {
+			throw new IOException("Invalid length " + length + " at offset " + position);
+		}
+		
+		return readAt(position + Integer.BYTES, length).array();
+	}
+	
+	/**
+	 * Reads properties stored as key-value pairs.
+	 * 
+	 * @param buffer the buffer
+	 * @return the properties
+	 */
+	private static TypedProperties readProperties(ByteBuffer buffer) {
+		int count = buffer.getInt();
+		TypedProperties properties = new TypedProperties();
+		
+		for (int i = 0; i < count; i++) {
+			properties.setString(readString(buffer), readString(buffer));
+		}
+		
+		return properties;
+	}
+	
+	/**
+	 * Reads a length-prefixed, UTF-8 encoded string.
+	 * 
+	 * @param buffer the buffer
+	 * @return the string
+	 */
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Creates the default error handler, which suppresses duplicate messages.
+	 * 
+	 * @return the error handler
+	 */
+	private static ErrorHandler createErrorHandler() {
+		ErrorHandler errorHandler = new ErrorHandler();
+		errorHandler.setSuppressDuplicates(true);
+		return errorHandler;
+	}
+	
+	/**
+	 * Returns {@code true} if the file is a binary result file.
+	 * 
+	 * @param file the file
+	 * @return {@code true} if the file is a binary result file; {@code false} otherwise
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static boolean isBinaryFormat(File file) throws IOException {
+		try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+			return file.length() >= Long.BYTES && input.readLong() == MAGIC;
+		}
+	}
+	
+	/**
+	 * Opens the binary result file for reading.
+	 * 
+	 * @param problem the problem
+	 * @param file the file containing the results
+	 * @return the binary result file reader
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static BinaryResultFileReader open(Problem problem, File file) throws IOException {
+		return new BinaryResultFileReader(problem, file);
+	}
+
+}
@@ -0,0 +1,381 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.io;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.analysis.series.ResultEntry;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.TypedProperties;
+import org.moeaframework.core.population.Population;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.Variable;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.util.ErrorHandler;
+import org.moeaframework.util.validate.Validate;
+
+import static org.moeaframework.analysis.io.ResultFileWriter.ENCODING_WARNING;
+
+/**
+ * Writes result files in a binary, columnar format.  Compared to the text format written by {@link ResultFileWriter},
+ * binary result files are smaller, faster to read since no parsing is required, and support random access to any
+ * entry.  Binary result files are read by {@link BinaryResultFileReader}, or transparently by
+ * {@link ResultFileReader}.
+ * <p>
+ * The file starts with a header containing the same properties as the text format, describing the problem.  Each
+ * entry then stores, in order, the number of solutions, the properties, and fixed-width blocks of 8-byte values for
+ * the objectives and constraints.  Within each block, values are stored by column, so all values of the first
+ * objective are followed by all values of the second objective, and so on.  If all decision variables are
+ * {@link RealVariable}s, they are likewise stored in a fixed-width block.  Otherwise, each decision variable is stored
+ * using {@link Variable#encode()}.  Lastly, an index containing the offset of each entry is written to the end of
+ * the file when the writer is closed.  If the index is missing, for example if the writer was not closed, the entries
+ * are instead located by scanning the file.
+ * <p>
+ * All values are stored in big-endian byte order.
+ * 
+ * @see BinaryResultFileReader
+ */
+public class BinaryResultFileWriter extends ResultWriter {
+	
+	/**
+	 * The value identifying a binary result file, stored in the first 8 bytes of the file.
+	 */
+	static final long MAGIC = 0x4D4F454152455342L;
+	
+	/**
+	 * The value identifying the index, stored in the last 8 bytes of the file.
+	 */
+	static final long INDEX_MAGIC = 0x4D4F454149445842L;
+	
+	/**
+	 * The value identifying the start of each entry.
+	 */
+	static final int ENTRY_MARKER = 0x454E5452;
+	
+	/**
+	 * The version of the binary file format.
+	 */
+	static final int FORMAT_VERSION = 1;
+	
+	/**
+	 * Indicates an entry does not include decision variables.
+	 */
+	static final byte NO_VARIABLES = 0;
+	
+	/**
+	 * Indicates an entry stores the decision variables as 8-byte real values.
+	 */
+	static final byte REAL_VARIABLES = 1;
+	
+	/**
+	 * Indicates an entry stores the decision variables using their string encoding.
+	 */
+	static final byte ENCODED_VARIABLES = 2;
+	
+	/**
+	 * The stream for writing data to the file.
+	 */
+	private final DataOutputStream output;
+	
+	/**
+	 * The problem.
+	 */
+	private final Problem problem;
+	
+	/**
+	 * The offset of each entry written to the file.
+	 */
+	private final List<Long> offsets;
+	
+	/**
+	 * The current position in the file.
+	 */
+	private long position;
+	
+	/**
+	 * The error handler.
+	 */
+	private final ErrorHandler errorHandler;
+	
+	/**
+	 * Constructs a binary result file writer.  Any existing file will be overwritten.
+	 * 
+	 * @param problem the problem
+	 * @param file the file to which the results are stored
+	 * @throws IOException if an I/O error occurred
+	 */
+	public BinaryResultFileWriter(Problem problem, File file) throws IOException {
+		super();
+		
+		Validate.that("problem", problem).isNotNull();
+		
+		this.problem = problem;
+		
+		output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+		offsets = new ArrayList<>();
+		
+		errorHandler = new ErrorHandler();
+		errorHandler.setSuppressDuplicates(true);
+		
+		writeHeader();
+	}
+	
+	/**
+	 * Returns the error handler used by this writer.
+	 * 
+	 * @return the error handler
+	 */
+	public ErrorHandler getErrorHandler() {
+		return errorHandler;
+	}
+	
+	@Override
+	public int getNumberOfEntries() {
+		return offsets.size();
+	}
+	
+	/**
+	 * Writes the header section to the file.
+	 * 
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void writeHeader() throws IOException {
+		byte[] header = encode(out -> {
+			out.writeLong(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			writeProperties(out, ResultFileWriter.createHeader(problem));
+		});
+		
+		output.write(header);
+		position += header.length;
+	}
+	
+	/**
+	 * Writes the entry to the file.  Unlike {@link ResultFileWriter}, the output is buffered and not flushed after
+	 * each entry.
+	 * 
+	 * @param entry the entry to write
+	 * @throws IOException if an I/O error occurred
+	 */
+	@Override
+	public void write(ResultEntry entry) throws IOException {
+		Population population = entry.getPopulation();
+		TypedProperties properties = entry.getProperties();
+		
+		List<Solution> solutions = new ArrayList<>(population.size());
+		population.forEach(solutions::add);
+		
+		byte[] body = encode(out -> writeEntry(out, solutions, properties));
+		
+		offsets.add(position);
+		output.writeInt(ENTRY_MARKER);
+		output.writeInt(body.length);
+		output.write(body);
+		position += Integer.BYTES + Integer.BYTES + body.length;
+	}
+	
+	/**
+	 * Writes the body of an entry.
+	 * 
+	 * @param out the output stream
+	 * @param solutions the solutions
+	 * @param properties the properties, which can be {@code null}
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void writeEntry(DataOutputStream out, List<Solution> solutions, TypedProperties properties)
+			throws IOException {
+		int numberOfVariables = problem.getNumberOfVariables();
+		byte variableEncoding = REAL_VARIABLES;
+		
+		for (Solution solution : solutions) {
+			if (solution.getNumberOfObjectives() != problem.getNumberOfObjectives() ||
+					solution.getNumberOfConstraints() != problem.getNumberOfConstraints()) {
+				throw new IOException("Solution does not match the problem definition");
+			}
+			
+			if (solution.getNumberOfVariables() != numberOfVariables) {
+				variableEncoding = NO_VARIABLES;
+				break;
+			}
+			
+			for (int i = 0; i < numberOfVariables; i++) {
+				if (!(solution.getVariable(i) instanceof RealVariable)) {
+					variableEncoding = ENCODED_VARIABLES;
+				}
+			}
+		}
+		
+		if (variableEncoding == NO_VARIABLES || numberOfVariables == 0) {
+			variableEncoding = NO_VARIABLES;
+			numberOfVariables = 0;
+		}
+		
+		out.writeInt(solutions.size());
+		writeProperties(out, properties == null ? new TypedProperties() : properties);
+		out.writeByte(variableEncoding);
+		out.writeInt(numberOfVariables);
+		
+		for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
+			for (Solution solution : solutions) {
+				out.writeDouble(solution.getObjectiveValue(j));
+			}
+		}
+		
+		for (int j = 0; j < problem.getNumberOfConstraints(); j++) {
+			for (Solution solution : solutions) {
+				out.writeDouble(solution.getConstraintValue(j));
+			}
+		}
+		
+		if (variableEncoding == REAL_VARIABLES) {
+			for (int j = 0; j < numberOfVariables; j++) {
+				for (Solution solution : solutions) {
+					out.writeDouble(((RealVariable)solution.getVariable(j)).getValue());
+				}
+			}
+		} else if (variableEncoding == ENCODED_VARIABLES) {
+			for (Solution solution : solutions) {
+				for (int j = 0; j < numberOfVariables; j++) {
+					writeString(out, encode(solution.getVariable(j)));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Encodes the decision variable into a string representation.  For decision variables that do not support a valid
+	 * encoding, the string {@code "-"} will be returned and a warning message printed.
+	 * 
+	 * @param variable the decision variable to encode
+	 * @return the string representation of the decision variable
+	 * @throws IOException if an error occurred during encoding and the error handler is configured to throw
+	 */
+	private String encode(Variable variable) throws IOException {
+		try {
+			return variable.encode();
+		} catch (Exception e) {
+			errorHandler.warn(ENCODING_WARNING);
+			return "-";
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Writes the index to the end of the file.  The file can still be read if this method is not called, but the
+	 * entries must be located by scanning the file.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			for (long offset : offsets) {
+				output.writeLong(offset);
+			}
+			
+			output.writeInt(offsets.size());
+			output.writeLong(position);
+			output.writeLong(INDEX_MAGIC);
+		} finally {
+			output.close();
+		}
+	}
+	
+	/**
+	 * Writes the properties as key-value pairs.
+	 * 
+	 * @param out the output stream
+	 * @param properties the properties
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static void writeProperties(DataOutputStream out, TypedProperties properties) throws IOException {
+		out.writeInt(properties.size());
+		
+		for (String key : properties.keySet()) {
+			writeString(out, key);
+			writeString(out, properties.getString(key));
+		}
+	}
+	
+	/**
+	 * Writes a length-prefixed, UTF-8 encoded string.  Unlike {@link DataOutputStream#writeUTF(String)}, the length of
+	 * the string is not limited to 65535 bytes.
+	 * 
+	 * @param out the output stream
+	 * @param value the string
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	/**
+	 * Encodes the content into an array of bytes.
+	 * 
+	 * @param writer the writer producing the content
+	 * @return the encoded content
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static byte[] encode(ContentWriter writer) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		
+		try (DataOutputStream out = new DataOutputStream(buffer)) {
+			writer.write(out);
+		}
+		
+		return buffer.toByteArray();
+	}
+	
+	/**
+	 * Opens the binary result file for writing.  Any existing file will be overwritten.
+	 * 
+	 * @param problem the problem
+	 * @param file the file
+	 * @return the binary result file writer
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static BinaryResultFileWriter open(Problem problem, File file) throws IOException {
+		return new BinaryResultFileWriter(problem, file);
+	}
+	
+	/**
+	 * Writes content to a data output stream.
+	 */
+	@FunctionalInterface
+	private interface ContentWriter {
+		
+		/**
+		 * Writes the content.
+		 * 
+		 * @param out the output stream
+		 * @throws IOException if an I/O error occurred
+		 */
+		public void write(DataOutputStream out) throws IOException;
+	
+	}
+
+}
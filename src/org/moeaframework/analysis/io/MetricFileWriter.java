@@ -161,7 +161,27 @@ public class MetricFileWriter extends ResultWriter {
 	 */
 	@Override
 	public void write(ResultEntry entry) {
-		IndicatorValues result = indicators.apply(new NondominatedPopulation(entry.getPopulation()));
+		write(evaluate(entry));
+	}
+	
+	/**
+	 * Evaluates the indicators for the specified non-dominated population without writing to the file.  Unlike the
+	 * write methods, this method is thread safe, allowing entries to be evaluated concurrently and written in order
+	 * using {@link #write(IndicatorValues)}.
+	 * 
+	 * @param entry the non-dominated population and optional attributes
+	 * @return the indicator values
+	 */
+	public IndicatorValues evaluate(ResultEntry entry) {
+		return indicators.apply(new NondominatedPopulation(entry.getPopulation()));
+	}
+	
+	/**
+	 * Outputs the previously evaluated metrics to the file.
+	 * 
+	 * @param result the indicator values
+	 */
+	public void write(IndicatorValues result) {
 		Metric[] metrics = Metric.values();
 		double[] values = new double[metrics.length];
 		
@@ -0,0 +1,180 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.moeaframework.analysis.series.ResultEntry;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.indicator.Indicators.IndicatorValues;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Evaluates the metrics for each entry using an {@link ExecutorService}, writing the results to a
+ * {@link MetricFileWriter} in the order the entries were received.  This allows reading and decoding the result file
+ * on one thread while the indicators are evaluated in parallel.  Since the indicators, including the Monte Carlo
+ * hypervolume, do not depend on the thread or order of evaluation, the output is identical to sequential evaluation.
+ * <p>
+ * The number of entries being evaluated is limited, after which {@link #write(ResultEntry)} blocks until the oldest
+ * entry is evaluated and written.  This bounds the memory used when the result file is read faster than the entries
+ * can be evaluated.  Any remaining entries are written when calling {@link #flush()} or {@link #close()}.
+ * <p>
+ * This class is not thread safe, all methods must be called from the same thread.
+ */
+public class ParallelMetricFileWriter extends ResultWriter {
+	
+	/**
+	 * The underlying metric file writer.
+	 */
+	private final MetricFileWriter writer;
+	
+	/**
+	 * The executor used to evaluate the metrics.
+	 */
+	private final ExecutorService executor;
+	
+	/**
+	 * The maximum number of entries being evaluated at once.
+	 */
+	private final int maximumPending;
+	
+	/**
+	 * The entries being evaluated, in the order they were received.
+	 */
+	private final Deque<Future<IndicatorValues>> pending;
+	
+	/**
+	 * Constructs a new parallel metric file writer.  The executor is not shutdown when this writer is closed, allowing
+	 * the same executor to be shared by multiple writers.
+	 * 
+	 * @param writer the underlying metric file writer
+	 * @param executor the executor used to evaluate the metrics
+	 * @param maximumPending the maximum number of entries being evaluated at once
+	 */
+	public ParallelMetricFileWriter(MetricFileWriter writer, ExecutorService executor, int maximumPending) {
+		super();
+		
+		Validate.that("writer", writer).isNotNull();
+		Validate.that("executor", executor).isNotNull();
+		Validate.that("maximumPending", maximumPending).isGreaterThan(0);
+		
+		this.writer = writer;
+		this.executor = executor;
+		this.maximumPending = maximumPending;
+		
+		pending = new ArrayDeque<>();
+	}
+	
+	/**
+	 * Returns the maximum number of entries being evaluated at once.
+	 * 
+	 * @return the maximum number of entries being evaluated at once
+	 */
+	public int getMaximumPending() {
+		return maximumPending;
+	}
+	
+	/**
+	 * Returns the number of entries that are being evaluated and not yet written to the file.
+	 * 
+	 * @return the number of pending entries
+	 */
+	public int getNumberOfPendingEntries() {
+		return pending.size();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This includes any pending entries that are not yet written to the file.
+	 */
+	@Override
+	public int getNumberOfEntries() {
+		return writer.getNumberOfEntries() + pending.size();
+	}
+	
+	/**
+	 * Submits the entry to be evaluated, blocking if the maximum number of entries are already being evaluated.
+	 * 
+	 * @throws FrameworkException if evaluating a previous entry failed
+	 */
+	@Override
+	public void write(ResultEntry entry) throws IOException {
+		while (pending.size() >= maximumPending) {
+			writeNext();
+		}
+		
+		pending.add(executor.submit(() -> writer.evaluate(entry)));
+	}
+	
+	/**
+	 * Waits for all pending entries to be evaluated and writes them to the file.
+	 * 
+	 * @throws IOException if interrupted while waiting for the evaluations
+	 * @throws FrameworkException if evaluating an entry failed
+	 */
+	public void flush() throws IOException {
+		while (!pending.isEmpty()) {
+			writeNext();
+		}
+	}
+	
+	/**
+	 * Waits for the oldest pending entry to be evaluated and writes it to the file.
+	 * 
+	 * @throws IOException if interrupted while waiting for the evaluation
+	 * @throws FrameworkException if evaluating the entry failed
+	 */
+	private void writeNext() throws IOException {
+		Future<IndicatorValues> future = pending.poll();
+		
+		try {
+			writer.write(future.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for metrics");
+		} catch (ExecutionException e) {
+			throw new FrameworkException("failed to evaluate metrics", e.getCause());
+		}
+	}
+	
+	/**
+	 * Writes any pending entries and closes the underlying metric file writer.  If writing fails, any remaining
+	 * entries are cancelled.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			for (Future<IndicatorValues> future : pending) {
+				future.cancel(true);
+			}
+			
+			pending.clear();
+			writer.close();
+		}
+	}
+
+}
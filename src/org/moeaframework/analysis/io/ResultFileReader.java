@@ -57,10 +57,15 @@ import static org.moeaframework.analysis.io.ResultFileWriter.ENCODING_WARNING;
 public class ResultFileReader implements Closeable, Iterator<ResultEntry>, Iterable<ResultEntry> {
 	
 	/**
-	 * The internal stream for reading data from the file.
+	 * The internal stream for reading data from the file; or {@code null} if reading a binary result file.
 	 */
 	private final LineReader reader;
 	
+	/**
+	 * The reader for binary result files; or {@code null} if reading a text result file.
+	 */
+	private final BinaryResultFileReader binaryReader;
+	
 	/**
 	 * The tokenizer for parsing lines.
 	 */
@@ -124,7 +129,37 @@ public class ResultFileReader implements Closeable, Iterator<ResultEntry>, Itera
 	 * @throws IOException if an I/O error occurred
 	 */
 	public ResultFileReader(Problem problem, File file) throws IOException {
-		this(problem, new FileReader(file));
+		this(problem, file, false);
+	}
+	
+	/**
+	 * Constructs a result file reader for reading the contents of the specified result file.  Both text and binary
+	 * result files are supported, see {@link BinaryResultFileWriter}.
+	 * 
+	 * @param problem the problem, if {@code null} a problem "stub" will be generated
+	 * @param file the result file
+	 * @param allowLegacyFormat allows reading legacy file formats for backwards compatibility
+	 * @throws IOException if an I/O error occurred
+	 */
+	private ResultFileReader(Problem problem, File file, boolean allowLegacyFormat) throws IOException {
+		super();
+		
+		errorHandler = new ErrorHandler();
+		errorHandler.setSuppressDuplicates(true);
+		
+		tokenizer = new Tokenizer();
+		
+		if (BinaryResultFileReader.isBinaryFormat(file)) {
+			this.binaryReader = new BinaryResultFileReader(problem, file, errorHandler);
+			this.problem = binaryReader.getProblem();
+			this.reader = null;
+		} else {
+			this.binaryReader = null;
+			this.problem = problem;
+			this.reader = LineReader.wrap(new FileReader(file));
+			
+			readHeader(allowLegacyFormat);
+		}
 	}
 	
 	/**
@@ -150,6 +185,7 @@ public class ResultFileReader implements Closeable, Iterator<ResultEntry>, Itera
 		super();
 		this.problem = problem;
 		this.reader = LineReader.wrap(reader);
+		this.binaryReader = null;
 		
 		errorHandler = new ErrorHandler();
 		errorHandler.setSuppressDuplicates(true);
@@ -180,7 +216,11 @@ public class ResultFileReader implements Closeable, Iterator<ResultEntry>, Itera
 	
 	@Override
 	public void close() throws IOException {
-		reader.close();
+		if (binaryReader != null) {
+			binaryReader.close();
+		} else {
+			reader.close();
+		}
 	}
 
 	@Override
@@ -189,6 +229,10 @@ public class ResultFileReader implements Closeable, Iterator<ResultEntry>, Itera
 			throw new NoSuchElementException();
 		}
 
+		if (binaryReader != null) {
+			return binaryReader.next();
+		}
+
 		ResultEntry result = nextEntry;
 		nextEntry = null;
 		return result;
@@ -220,6 +264,32 @@ public class ResultFileReader implements Closeable, Iterator<ResultEntry>, Itera
 		// Validate the header content
 		version = header.getInt("Version", 0);
 		
+		int numberOfVariables = header.getInt("NumberOfVariables", header.getInt("Variables", 0));
+		int numberOfObjectives = header.getInt("NumberOfObjectives", header.getInt("Objectives", 0));
+		int numberOfConstraints = header.getInt("NumberOfConstraints", header.getInt("Constraints", 0));
+		
+		if (allowLegacyFormat && version == 0 && numberOfVariables == 0 && numberOfObjectives == 0 &&
+				numberOfConstraints == 0) {
+			legacyFormat = true;
+		}
+		
+		problem = validateHeader(problem, header, errorHandler);
+	}
+	
+	/**
+	 * Validates the header of a result file against the problem.  If the problem is {@code null}, a problem "stub" is
+	 * created using the definitions in the header.
+	 * 
+	 * @param problem the problem, or {@code null} to create a problem "stub"
+	 * @param header the header properties
+	 * @param errorHandler the error handler for reporting any mismatches
+	 * @return the problem
+	 * @throws IOException if a mismatch was detected and the error handler is configured to throw
+	 */
+	static Problem validateHeader(Problem problem, TypedProperties header, ErrorHandler errorHandler)
+			throws IOException {
+		int version = header.getInt("Version", 0);
+		
 		if (version > Settings.getMajorVersion()) {
 			errorHandler.warn("Result file created with newer version (file: {0}, software: {1})",
 					version, Settings.getMajorVersion());
@@ -230,10 +300,6 @@ public class ResultFileReader implements Closeable, Iterator<ResultEntry>, Itera
 		int numberOfObjectives = header.getInt("NumberOfObjectives", header.getInt("Objectives", 0));
 		int numberOfConstraints = header.getInt("NumberOfConstraints", header.getInt("Constraints", 0));
 		
-		if (allowLegacyFormat && version == 0 && numberOfVariables == 0 && numberOfObjectives == 0 && numberOfConstraints == 0) {
-			legacyFormat = true;
-		}
-		
 		if (problem == null) {
 			ProblemStub stub = new ProblemStub(problemName, numberOfVariables, numberOfObjectives, numberOfConstraints);
 			
@@ -258,7 +324,7 @@ public class ResultFileReader implements Closeable, Iterator<ResultEntry>, Itera
 				}
 			}
 			
-			problem = stub;
+			return stub;
 		} else {
 			if (problemName != null && problem.getName() != null &&
 					!problemName.isEmpty() && !problem.getName().isEmpty() &&
@@ -281,6 +347,8 @@ public class ResultFileReader implements Closeable, Iterator<ResultEntry>, Itera
 				errorHandler.warn("Number of constraints in result file does not match problem (given: {0}, expected: {1})",
 						numberOfConstraints, problem.getNumberOfConstraints());
 			}
+			
+			return problem;
 		}
 	}
 
@@ -403,6 +471,10 @@ public class ResultFileReader implements Closeable, Iterator<ResultEntry>, Itera
 			if (errorHandler.isError()) {
 				return false;
 			}
+			
+			if (binaryReader != null) {
+				return binaryReader.hasNext();
+			}
 
 			if (nextEntry == null) {
 				nextEntry = readNextEntry();
@@ -461,7 +533,7 @@ public class ResultFileReader implements Closeable, Iterator<ResultEntry>, Itera
 	 * @throws IOException if an I/O error occurred
 	 */
 	public static ResultFileReader openLegacy(Problem problem, File file) throws IOException {
-		return new ResultFileReader(problem, new FileReader(file), true);
+		return new ResultFileReader(problem, file, true);
 	}
 
 }
@@ -137,7 +137,17 @@ public class ResultFileWriter extends ResultWriter {
 	 * @throws IOException if an I/O error occurred
 	 */
 	protected void printHeader(Problem problem) throws IOException {
-		// print header information
+		printProperties(createHeader(problem), "# ");
+	}
+	
+	/**
+	 * Creates the header describing the problem, including the version and the definitions of the decision variables,
+	 * objectives, and constraints.
+	 * 
+	 * @param problem the problem, or {@code null} if the problem is unknown
+	 * @return the header properties
+	 */
+	static TypedProperties createHeader(Problem problem) {
 		TypedProperties header = new TypedProperties();
 		header.setInt("Version", Settings.getMajorVersion());
 		
@@ -177,7 +187,7 @@ public class ResultFileWriter extends ResultWriter {
 			}
 		}
 
-		printProperties(header, "# ");
+		return header;
 	}
 	
 	/**
@@ -338,12 +348,12 @@ public class ResultFileWriter extends ResultWriter {
 	/**
 	 * Opens the result file in append mode.  If the file already exists, any invalid entries will be removed by
 	 * calling {@link #repair(Problem, File)}.  Check {@link #getNumberOfEntries()} to determine the number of valid
-	 * entries in the file.
+	 * entries in the file.  Binary result files are not supported.
 	 * 
 	 * @param problem the problem
 	 * @param file the file
 	 * @return the result file writer
-	 * @throws IOException if an I/O error occurred
+	 * @throws IOException if an I/O error occurred or the file is a binary result file
 	 */
 	public static ResultFileWriter append(Problem problem, File file) throws IOException {
 		if (!file.exists()) {
@@ -370,7 +380,7 @@ public class ResultFileWriter extends ResultWriter {
 	 * 
 	 * @param file the file
 	 * @return the number of valid entries in the file
-	 * @throws IOException if an I/O error occurred
+	 * @throws IOException if an I/O error occurred or the file is a binary result file
 	 */
 	public static int repair(File file) throws IOException {
 		return repair(null, file);
@@ -382,13 +392,18 @@ public class ResultFileWriter extends ResultWriter {
 	 * @param problem the problem, or {@code null} to derive the problem from the result file
 	 * @param file the file
 	 * @return the number of valid entries in the file
-	 * @throws IOException if an I/O error occurred
+	 * @throws IOException if an I/O error occurred or the file is a binary result file
 	 */
 	public static int repair(Problem problem, File file) throws IOException {
 		if (!file.exists()) {
 			return 0;
 		}
 		
+		// the file would otherwise be rewritten in the text format
+		if (BinaryResultFileReader.isBinaryFormat(file)) {
+			throw new IOException("Unable to repair or append to binary result file: " + file);
+		}
+		
 		File tempFile = File.createTempFile("temp", null);
 		int numberOfEntries = 0;
 		
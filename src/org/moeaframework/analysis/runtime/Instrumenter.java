@@ -94,6 +94,11 @@ public class Instrumenter {
 	 * {@code true} if the population size collector is included; {@code false} otherwise.
 	 */
 	private boolean includePopulationSize;
+	
+	/**
+	 * {@code true} if the phenotype cache collector is included; {@code false} otherwise.
+	 */
+	private boolean includePhenotypeCache;
 
 	/**
 	 * The frequency that data is collected.
@@ -381,6 +386,16 @@ public class Instrumenter {
 		return this;
 	}
 	
+	/**
+	 * Includes the phenotype cache collector when instrumenting algorithms.
+	 * 
+	 * @return a reference to this instrumenter
+	 */
+	public Instrumenter attachPhenotypeCacheCollector() {
+		includePhenotypeCache = true;
+		return this;
+	}
+	
 	/**
 	 * Includes all collectors when instrumenting algorithms.
 	 * 
@@ -393,6 +408,7 @@ public class Instrumenter {
 		attachAdaptiveTimeContinuationCollector();
 		attachElapsedTimeCollector();
 		attachPopulationSizeCollector();
+		attachPhenotypeCacheCollector();
 		
 		return this;
 	}
@@ -674,6 +690,10 @@ public class Instrumenter {
 			collectors.add(new PopulationSizeCollector());
 		}
 		
+		if (includePhenotypeCache) {
+			collectors.add(new PhenotypeCacheCollector());
+		}
+		
 		collectors.addAll(customCollectors);
 		
 		InstrumentedExtension extension = new InstrumentedExtension(frequency);
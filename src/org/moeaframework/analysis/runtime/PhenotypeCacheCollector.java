@@ -0,0 +1,88 @@
+/* Copyright 2009-2025 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.runtime;
+
+import org.moeaframework.analysis.series.ResultEntry;
+import org.moeaframework.problem.PhenotypeCachingProblem;
+
+/**
+ * Collects the number of cache hits and misses from a {@link PhenotypeCachingProblem}.
+ */
+public class PhenotypeCacheCollector implements Collector {
+	
+	/**
+	 * The problem instance used by this collector; or {@code null} if this collector has not yet been attached.
+	 */
+	private final PhenotypeCachingProblem problem;
+	
+	/**
+	 * Constructs an unattached collector for recording the number of cache hits and misses from a
+	 * {@code PhenotypeCachingProblem}.
+	 */
+	public PhenotypeCacheCollector() {
+		this(null);
+	}
+	
+	/**
+	 * Constructs a collector for recording the number of cache hits and misses from the specified
+	 * {@code PhenotypeCachingProblem}.
+	 * 
+	 * @param problem the problem this collector records data from
+	 */
+	public PhenotypeCacheCollector(PhenotypeCachingProblem problem) {
+		super();
+		this.problem = problem;
+	}
+	
+	@Override
+	public AttachPoint getAttachPoint() {
+		return AttachPoint.isSubclass(PhenotypeCachingProblem.class);
+	}
+	
+	@Override
+	public Collector attach(Object object) {
+		return new PhenotypeCacheCollector((PhenotypeCachingProblem)object);
+	}
+	
+	@Override
+	public void collect(ResultEntry result) {
+		result.getProperties().setLong("Phenotype Cache Hits", problem.getHits());
+		result.getProperties().setLong("Phenotype Cache Misses", problem.getMisses());
+	}
+	
+	/**
+	 * Reads the number of cache hits from the result.
+	 * 
+	 * @param result the result
+	 * @return the number of cache hits
+	 */
+	public static long getHits(ResultEntry result) {
+		return result.getProperties().getLong("Phenotype Cache Hits");
+	}
+	
+	/**
+	 * Reads the number of cache misses from the result.
+	 * 
+	 * @param result the result
+	 * @return the number of cache misses
+	 */
+	public static long getMisses(ResultEntry result) {
+		return result.getProperties().getLong("Phenotype Cache Misses");
+	}
+
+}
@@ -31,7 +31,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -43,6 +42,8 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.moeaframework.analysis.parameter.Parameter;
 import org.moeaframework.analysis.parameter.ParameterSet;
 import org.moeaframework.analysis.stream.DataStream;
+import org.moeaframework.core.Settings;
+import org.moeaframework.parallel.util.ExecutorFactory;
 import org.moeaframework.util.format.Column;
 import org.moeaframework.util.format.Formattable;
 import org.moeaframework.util.format.TabularData;
@@ -185,8 +186,9 @@ public class Samples implements Iterable<Sample>, Formattable<Sample>, DataStrea
 	}
 	
 	/**
-	 * Evaluates each sample in parallel, distributing across all available processors, and collecting the results in
-	 * a {@link SampledResults}.
+	 * Evaluates each sample in parallel, collecting the results in a {@link SampledResults}.  The evaluations are
+	 * distributed using the shared executor configured in {@link Settings}, which by default uses all available
+	 * processors.
 	 * 
 	 * @param <T> the return type of the function
 	 * @param function the function used to evaluate each sample
@@ -196,17 +198,12 @@ public class Samples implements Iterable<Sample>, Formattable<Sample>, DataStrea
 	 */
 	public <T> SampledResults<T> distributeAll(Function<Sample, T> function) throws InterruptedException,
 	ExecutionException {
-		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-		
-		try {
-			return evaluateAll(function, executor);
-		} finally {
-			executor.shutdown();
-		}
+		return evaluateAll(function, ExecutorFactory.getInstance().getSharedExecutor());
 	}
 	
 	/**
-	 * Evaluates each sample in parallel, distributing across all available processors.
+	 * Evaluates each sample in parallel.  The evaluations are distributed using the shared executor configured in
+	 * {@link Settings}, which by default uses all available processors.
 	 * 
 	 * @param consumer the consumer used to evaluate each sample
 	 * @throws InterruptedException if the current thread was interrupted while waiting for evaluations to complete
@@ -349,7 +349,8 @@ Streamable<IndexedResult> {
 	}
 	
 	/**
-	 * Creates a series containing the populations contained in a result file.
+	 * Creates a series containing the populations contained in a result file.  Both text and binary result files are
+	 * supported, with binary result files read using memory-mapped I/O.
 	 * 
 	 * @param file the result file
 	 * @return the series
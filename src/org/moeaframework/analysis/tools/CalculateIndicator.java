@@ -81,6 +81,12 @@ public class CalculateIndicator extends CommandLineUtility {
 
 		try (Problem problem = OptionUtils.getProblemInstance(commandLine, true);
 				PrintWriter output = createOutputWriter(commandLine.getOptionValue("output"))) {
+			// share the normalized reference set across all files
+			Indicators indicators = Indicators.of(problem, referenceSet);
+			
+			indicators.include(indicator);
+			indicators.withEpsilons(epsilons);
+			
 			for (String filename : commandLine.getArgs()) {
 				try (ResultFileReader reader = ResultFileReader.openLegacy(problem, new File(filename))) {
 					NondominatedPopulation approximationSet = new NondominatedPopulation(
@@ -90,11 +96,6 @@ public class CalculateIndicator extends CommandLineUtility {
 						approximationSet = new EpsilonBoxDominanceArchive(epsilons, approximationSet);
 					}
 
-					Indicators indicators = Indicators.of(reader.getProblem(), referenceSet);
-					
-					indicators.include(indicator);
-					indicators.withEpsilons(epsilons);
-					
 					IndicatorValues indicatorValues = indicators.apply(approximationSet);
 					
 					output.print(filename);
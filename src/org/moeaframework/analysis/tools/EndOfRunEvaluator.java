@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Option;
@@ -37,6 +38,7 @@ import org.moeaframework.core.TypedProperties;
 import org.moeaframework.core.population.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.parallel.DistributedProblem;
 import org.moeaframework.problem.Problem;
 import org.moeaframework.util.DurationUtils;
 import org.moeaframework.util.Timer;
@@ -59,6 +61,7 @@ public class EndOfRunEvaluator extends CommandLineUtility {
 		OptionUtils.addProblemOption(options);
 		OptionUtils.addEpsilonOption(options);
 		OptionUtils.addPropertiesOption(options);
+		OptionUtils.addExecutorOptions(options);
 
 		options.addOption(Option.builder("p")
 				.longOpt("parameterFile")
@@ -120,10 +123,14 @@ public class EndOfRunEvaluator extends CommandLineUtility {
 		
 		ParameterSet parameterSet = ParameterSet.load(parameterFile);
 		Samples samples = Samples.load(inputFile, parameterSet);
+		ExecutorService executor = OptionUtils.getExecutor(commandLine);
 
 		try (Problem problem = OptionUtils.getProblemInstance(commandLine, false);
 				ResultFileWriter output = ResultFileWriter.append(problem, outputFile)) {
 			TypedProperties defaultProperties = OptionUtils.getProperties(commandLine);
+			
+			// distribute the evaluations if configured, the executor is shutdown below
+			Problem distributedProblem = executor == null ? problem : new DistributedProblem(problem, executor);
 
 			if (epsilons != null) {
 				defaultProperties.setDoubleArray("epsilon", epsilons.toArray());
@@ -141,7 +148,7 @@ public class EndOfRunEvaluator extends CommandLineUtility {
 				TypedProperties properties = samples.get(i);
 				properties.addAll(defaultProperties);
 
-				process(commandLine.getOptionValue("algorithm"), properties, problem, output);
+				process(commandLine.getOptionValue("algorithm"), properties, distributedProblem, output);
 				
 				System.out.print("done!");
 				
@@ -150,6 +157,10 @@ public class EndOfRunEvaluator extends CommandLineUtility {
 				System.out.print(DurationUtils.formatHighResolution(elapsedTime));
 				System.out.println(")");
 			}
+		} finally {
+			if (executor != null) {
+				executor.shutdown();
+			}
 		}
 		
 		System.out.println("Finished!");
@@ -18,16 +18,23 @@
 package org.moeaframework.analysis.tools;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.moeaframework.analysis.io.MetricFileWriter;
+import org.moeaframework.analysis.io.ParallelMetricFileWriter;
 import org.moeaframework.analysis.io.ResultFileReader;
 import org.moeaframework.analysis.series.ResultEntry;
 import org.moeaframework.core.Epsilons;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.indicator.Indicators;
 import org.moeaframework.core.population.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.population.NondominatedPopulation;
@@ -38,6 +45,9 @@ import org.moeaframework.util.cli.CommandLineUtility;
 
 /**
  * Command line utility for evaluating the approximation sets stored in a result file and computing its metric file.
+ * If the input is a directory, each result file in the directory is evaluated, writing the metric files to the output
+ * directory using the same file names.  Setting the {@code --executor} or {@code --concurrency} options evaluates the
+ * entries in parallel.
  */
 public class MetricsEvaluator extends CommandLineUtility {
 	
@@ -52,17 +62,18 @@ public class MetricsEvaluator extends CommandLineUtility {
 		OptionUtils.addProblemOption(options);
 		OptionUtils.addReferenceSetOption(options);
 		OptionUtils.addEpsilonOption(options);
+		OptionUtils.addExecutorOptions(options);
 		
 		options.addOption(Option.builder("i")
 				.longOpt("input")
 				.hasArg()
-				.argName("file")
+				.argName("path")
 				.required()
 				.build());
 		options.addOption(Option.builder("o")
 				.longOpt("output")
 				.hasArg()
-				.argName("file")
+				.argName("path")
 				.required()
 				.build());
 		options.addOption(Option.builder()
@@ -77,51 +88,84 @@ public class MetricsEvaluator extends CommandLineUtility {
 
 	@Override
 	public void run(CommandLine commandLine) throws Exception {
-		File inputFile = new File(commandLine.getOptionValue("input"));
-		File outputFile = new File(commandLine.getOptionValue("output"));
-		Epsilons epsilons = OptionUtils.getEpsilons(commandLine);
-
-		if (commandLine.hasOption("overwrite")) {
-			Files.deleteIfExists(outputFile.toPath());
-		}
+		File input = new File(commandLine.getOptionValue("input"));
+		File output = new File(commandLine.getOptionValue("output"));
+		Map<File, File> files = new LinkedHashMap<>();
 		
-		if (!commandLine.hasOption("force")) {
-			MetricFileWriter.failIfOutdated(this, inputFile, outputFile);
+		if (input.isDirectory()) {
+			if (output.exists() && !output.isDirectory()) {
+				fail("Output '" + output + "' must be a directory when the input is a directory");
+			}
+			
+			output.mkdirs();
+			
+			for (File inputFile : listFiles(input)) {
+				files.put(inputFile, new File(output, inputFile.getName()));
+			}
+		} else {
+			files.put(input, output);
 		}
 
 		NondominatedPopulation referenceSet = OptionUtils.getReferenceSet(commandLine, false);
-
-		try (Problem problem = OptionUtils.getProblemInstance(commandLine, true);
-				ResultFileReader reader = ResultFileReader.open(problem, inputFile)) {
+		ExecutorService executor = OptionUtils.getExecutor(commandLine);
+		
+		try (Problem problem = OptionUtils.getProblemInstance(commandLine, true)) {
+			for (Map.Entry<File, File> entry : files.entrySet()) {
+				File inputFile = entry.getKey();
+				File outputFile = entry.getValue();
+				
+				if (commandLine.hasOption("overwrite")) {
+					Files.deleteIfExists(outputFile.toPath());
+				}
+				
+				if (!commandLine.hasOption("force")) {
+					MetricFileWriter.failIfOutdated(this, inputFile, outputFile);
+				}
+				
+				if (files.size() > 1) {
+					System.out.println("Processing " + inputFile + "...");
+				}
+				
+				if (executor == null) {
+					evaluate(commandLine, problem, referenceSet, inputFile, outputFile);
+				} else {
+					evaluate(commandLine, problem, referenceSet, inputFile, outputFile, executor);
+				}
+			}
+		} finally {
+			if (executor != null) {
+				executor.shutdown();
+			}
+		}
+		
+		System.out.println("Finished!");
+	}
+	
+	/**
+	 * Evaluates the metrics for each entry in the result file, one at a time.
+	 * 
+	 * @param commandLine the command line
+	 * @param problem the problem, or {@code null} to use the definition stored in the result file
+	 * @param referenceSet the reference set
+	 * @param inputFile the input result file
+	 * @param outputFile the output metric file
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void evaluate(CommandLine commandLine, Problem problem, NondominatedPopulation referenceSet,
+			File inputFile, File outputFile) throws IOException {
+		Epsilons epsilons = OptionUtils.getEpsilons(commandLine);
+		
+		try (ResultFileReader reader = ResultFileReader.open(problem, inputFile)) {
 			Indicators indicator = Indicators.standard(reader.getProblem(), referenceSet);
 
 			try (MetricFileWriter writer = MetricFileWriter.append(indicator, outputFile)) {
-				if (writer.getNumberOfEntries() > 0) {
-					System.out.println("Resuming from existing metrics file " + outputFile);
-					System.out.println(writer.getNumberOfEntries() + " valid entries");
-
-					for (int i = 0; i < writer.getNumberOfEntries(); i++) {
-						if (reader.hasNext()) {
-							reader.next();
-						} else {
-							fail("Output file '" + outputFile + "' contains more entries than input file '" +
-									inputFile + "'");
-						}
-					}
-				}
+				skip(reader, writer, inputFile, outputFile);
 
 				while (reader.hasNext()) {
 					Timer timer = Timer.startNew();
 					
 					System.out.print("Processing entry " + (writer.getNumberOfEntries()+1) + "...");
-					ResultEntry entry = reader.next();
-
-					if (epsilons != null) {
-						entry = new ResultEntry(EpsilonBoxDominanceArchive.of(entry.getPopulation(), epsilons),
-								entry.getProperties());
-					}
-						
-					writer.write(entry);
+					writer.write(next(reader, epsilons));
 					System.out.print("done!");
 					
 					Duration elapsedTime = Duration.ofMillis(Math.round(1000 * timer.stop()));
@@ -131,8 +175,104 @@ public class MetricsEvaluator extends CommandLineUtility {
 				}
 			}
 		}
+	}
+	
+	/**
+	 * Evaluates the metrics for the entries in the result file in parallel.  Entries are read on the current thread
+	 * while the metrics are evaluated by the executor, and are written to the metric file in their original order.
+	 * 
+	 * @param commandLine the command line
+	 * @param problem the problem, or {@code null} to use the definition stored in the result file
+	 * @param referenceSet the reference set
+	 * @param inputFile the input result file
+	 * @param outputFile the output metric file
+	 * @param executor the executor used to evaluate the metrics
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void evaluate(CommandLine commandLine, Problem problem, NondominatedPopulation referenceSet,
+			File inputFile, File outputFile, ExecutorService executor) throws IOException {
+		Epsilons epsilons = OptionUtils.getEpsilons(commandLine);
+		int concurrency = commandLine.hasOption("concurrency") ?
+				Integer.parseInt(commandLine.getOptionValue("concurrency")) : Settings.getExecutorConcurrency();
 		
-		System.out.println("Finished!");
+		try (ResultFileReader reader = ResultFileReader.open(problem, inputFile)) {
+			Indicators indicator = Indicators.standard(reader.getProblem(), referenceSet);
+			MetricFileWriter metricWriter = MetricFileWriter.append(indicator, outputFile);
+			
+			// queue up to two entries per worker so the workers remain busy while the results are written
+			try (ParallelMetricFileWriter writer = new ParallelMetricFileWriter(metricWriter, executor,
+					2 * concurrency)) {
+				skip(reader, metricWriter, inputFile, outputFile);
+				
+				Timer timer = Timer.startNew();
+				int count = 0;
+
+				while (reader.hasNext()) {
+					writer.write(next(reader, epsilons));
+					count++;
+				}
+				
+				writer.flush();
+				
+				Duration elapsedTime = Duration.ofMillis(Math.round(1000 * timer.stop()));
+				System.out.println("Processed " + count + " entries (" +
+						DurationUtils.formatHighResolution(elapsedTime) + ")");
+			}
+		}
+	}
+	
+	/**
+	 * Skips over any entries already recorded in the metric file, allowing evaluation to resume.
+	 * 
+	 * @param reader the result file reader
+	 * @param writer the metric file writer
+	 * @param inputFile the input result file
+	 * @param outputFile the output metric file
+	 */
+	private void skip(ResultFileReader reader, MetricFileWriter writer, File inputFile, File outputFile) {
+		if (writer.getNumberOfEntries() > 0) {
+			System.out.println("Resuming from existing metrics file " + outputFile);
+			System.out.println(writer.getNumberOfEntries() + " valid entries");
+
+			for (int i = 0; i < writer.getNumberOfEntries(); i++) {
+				if (reader.hasNext()) {
+					reader.next();
+				} else {
+					fail("Output file '" + outputFile + "' contains more entries than input file '" +
+							inputFile + "'");
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Reads the next entry from the result file, applying &epsilon;-dominance if configured.
+	 * 
+	 * @param reader the result file reader
+	 * @param epsilons the &epsilon; values, or {@code null}
+	 * @return the next entry
+	 */
+	private static ResultEntry next(ResultFileReader reader, Epsilons epsilons) {
+		ResultEntry entry = reader.next();
+
+		if (epsilons != null) {
+			entry = new ResultEntry(EpsilonBoxDominanceArchive.of(entry.getPopulation(), epsilons),
+					entry.getProperties());
+		}
+		
+		return entry;
+	}
+	
+	/**
+	 * Returns the files contained in the directory, sorted by name.  Hidden files and subdirectories are ignored.
+	 * 
+	 * @param directory the directory
+	 * @return the files in the directory
+	 */
+	private static File[] listFiles(File directory) {
+		File[] files = directory.listFiles(file -> file.isFile() && !file.isHidden());
+		Arrays.sort(files);
+		return files;
 	}
 	
 	/**
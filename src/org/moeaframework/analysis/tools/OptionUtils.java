@@ -18,6 +18,7 @@
 package org.moeaframework.analysis.tools;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.MissingOptionException;
@@ -29,6 +30,7 @@ import org.moeaframework.core.TypedProperties;
 import org.moeaframework.core.population.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.core.spi.ProblemFactory;
+import org.moeaframework.parallel.util.ExecutorFactory;
 import org.moeaframework.problem.Problem;
 import org.moeaframework.util.OptionCompleter;
 import org.moeaframework.util.format.TableFormat;
@@ -96,6 +98,24 @@ class OptionUtils {
 				.build());
 	}
 	
+	/**
+	 * Adds options for distributing evaluations, setting the type of executor and its concurrency.
+	 * 
+	 * @param options the current set of options
+	 */
+	public static void addExecutorOptions(Options options) {
+		options.addOption(Option.builder()
+				.longOpt("executor")
+				.hasArg()
+				.argName("type")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("concurrency")
+				.hasArg()
+				.argName("value")
+				.build());
+	}
+	
 	/**
 	 * Adds an option for setting the output table format.
 	 * 
@@ -157,6 +177,32 @@ class OptionUtils {
 		return referenceSet;
 	}
 	
+	/**
+	 * Returns a new executor for distributing evaluations as specified on the command line, if any.  Any unspecified
+	 * options default to the values in {@link org.moeaframework.core.Settings}.  The caller is responsible for
+	 * shutting down the executor.
+	 * 
+	 * @param commandLine the command line input
+	 * @return the executor or {@code null} if unspecified
+	 */
+	public static ExecutorService getExecutor(CommandLine commandLine) {
+		if (!commandLine.hasOption("executor") && !commandLine.hasOption("concurrency")) {
+			return null;
+		}
+		
+		TypedProperties properties = new TypedProperties();
+		
+		if (commandLine.hasOption("executor")) {
+			properties.setString("executor", commandLine.getOptionValue("executor"));
+		}
+		
+		if (commandLine.hasOption("concurrency")) {
+			properties.setString("concurrency", commandLine.getOptionValue("concurrency"));
+		}
+		
+		return ExecutorFactory.getInstance().createExecutor(properties);
+	}
+	
 	/**
 	 * Returns the epsilon values specified on the command line, if any.
 	 * 
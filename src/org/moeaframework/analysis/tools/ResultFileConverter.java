@@ -22,8 +22,12 @@ import java.io.PrintWriter;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Option;
+import org.apache.commons.cli.OptionGroup;
 import org.apache.commons.cli.Options;
+import org.moeaframework.analysis.io.BinaryResultFileWriter;
 import org.moeaframework.analysis.io.ResultFileReader;
+import org.moeaframework.analysis.io.ResultFileWriter;
+import org.moeaframework.analysis.io.ResultWriter;
 import org.moeaframework.analysis.series.ResultEntry;
 import org.moeaframework.problem.Problem;
 import org.moeaframework.util.Iterators;
@@ -33,6 +37,9 @@ import org.moeaframework.util.format.TableFormat;
 /**
  * Converts a result file into a different file format, such as CSV, Markdown, Latex, ARFF, etc.  If the result file
  * contains multiple entries, only the last entry is converted.
+ * <p>
+ * Alternatively, with the {@code --binary} or {@code --text} options, converts all entries into a binary or text
+ * result file, respectively.  The input can be either a text or binary result file.
  */
 public class ResultFileConverter extends CommandLineUtility {
 	
@@ -59,11 +66,27 @@ public class ResultFileConverter extends CommandLineUtility {
 				.argName("file")
 				.build());
 		
+		OptionGroup group = new OptionGroup();
+		
+		group.addOption(Option.builder()
+				.longOpt("binary")
+				.build());
+		group.addOption(Option.builder()
+				.longOpt("text")
+				.build());
+		
+		options.addOptionGroup(group);
+		
 		return options;
 	}
 	
 	@Override
 	public void run(CommandLine commandLine) throws Exception {
+		if (commandLine.hasOption("binary") || commandLine.hasOption("text")) {
+			convertResultFile(commandLine);
+			return;
+		}
+		
 		TableFormat format = OptionUtils.getFormat(commandLine);
 		
 		try (Problem problem = OptionUtils.getProblemInstance(commandLine, true);
@@ -79,6 +102,31 @@ public class ResultFileConverter extends CommandLineUtility {
 		}
 	}
 	
+	/**
+	 * Converts all entries in the input into a binary or text result file.
+	 * 
+	 * @param commandLine the command line inputs
+	 * @throws Exception if an error occurred
+	 */
+	private void convertResultFile(CommandLine commandLine) throws Exception {
+		if (!commandLine.hasOption("output")) {
+			fail("ERROR: The --output option is required when converting to a result file");
+		}
+		
+		File inputFile = new File(commandLine.getOptionValue("input"));
+		File outputFile = new File(commandLine.getOptionValue("output"));
+		
+		try (Problem problem = OptionUtils.getProblemInstance(commandLine, true);
+				ResultFileReader input = ResultFileReader.openLegacy(problem, inputFile);
+				ResultWriter output = commandLine.hasOption("binary") ?
+						BinaryResultFileWriter.open(input.getProblem(), outputFile) :
+						ResultFileWriter.open(input.getProblem(), outputFile)) {
+			while (input.hasNext()) {
+				output.write(input.next());
+			}
+		}
+	}
+	
 	/**
 	 * The main entry point for this command line utility.
 	 * 
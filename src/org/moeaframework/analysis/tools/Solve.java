@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -61,8 +62,10 @@ import org.moeaframework.core.variable.Permutation;
 import org.moeaframework.core.variable.RealVariable;
 import org.moeaframework.core.variable.Subset;
 import org.moeaframework.core.variable.Variable;
+import org.moeaframework.parallel.DistributedProblem;
 import org.moeaframework.problem.ExternalProblem;
 import org.moeaframework.problem.ExternalProblem.Builder;
+import org.moeaframework.problem.ExternalProblem.Protocol;
 import org.moeaframework.problem.Problem;
 import org.moeaframework.util.cli.CommandLineUtility;
 
@@ -118,6 +121,7 @@ public class Solve extends CommandLineUtility {
 		OptionUtils.addProblemOption(options);
 		OptionUtils.addEpsilonOption(options);
 		OptionUtils.addPropertiesOption(options);
+		OptionUtils.addExecutorOptions(options);
 
 		options.addOption(Option.builder("f")
 				.longOpt("output")
@@ -193,6 +197,16 @@ public class Solve extends CommandLineUtility {
 				.hasArg()
 				.argName("value")
 				.build());
+		options.addOption(Option.builder()
+				.longOpt("instances")
+				.hasArg()
+				.argName("value")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("protocol")
+				.hasArg()
+				.argName("name")
+				.build());
 		
 		options.addOption(Option.builder("t")
 				.longOpt("test")
@@ -367,6 +381,15 @@ public class Solve extends CommandLineUtility {
 			System.out.println(String.join(" ", commandLine.getArgs()));
 			builder.withCommand(commandLine.getArgs());
 		}
+		
+		if (commandLine.hasOption("instances")) {
+			builder.withInstances(Integer.parseInt(commandLine.getOptionValue("instances")));
+		}
+		
+		if (commandLine.hasOption("protocol")) {
+			builder.withProtocol(TypedProperties.getEnumFromString(Protocol.class,
+					commandLine.getOptionValue("protocol")));
+		}
 			
 		return new ExternalProblem(builder) {
 
@@ -515,6 +538,13 @@ public class Solve extends CommandLineUtility {
 				return;
 			}
 			
+			// distribute the evaluations if configured
+			ExecutorService executor = OptionUtils.getExecutor(commandLine);
+			
+			if (executor != null) {
+				problem = new DistributedProblem(problem, executor, true);
+			}
+			
 			System.out.println("Starting optimization");
 
 			Algorithm algorithm = AlgorithmFactory.getInstance().getAlgorithm(
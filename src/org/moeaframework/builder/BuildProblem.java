@@ -25,6 +25,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import javax.lang.model.SourceVersion;
@@ -73,6 +74,12 @@ public class BuildProblem extends CommandLineUtility {
 	 */
 	public static final String PATH_SEPARATOR = "$(SEPARATOR)";
 	
+	/**
+	 * Languages compiled into a shared library and loaded by the Java problem class, which support the {@code ffm}
+	 * backend.
+	 */
+	public static final Set<String> NATIVE_LANGUAGES = Set.of("c", "cpp", "fortran");
+	
 	static {
 		LANGUAGES = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 		LANGUAGES.put("c", "c");
@@ -152,6 +159,11 @@ public class BuildProblem extends CommandLineUtility {
 				.hasArg()
 				.build());
 		
+		options.addOption(Option.builder()
+				.longOpt("backend")
+				.hasArg()
+				.build());
+		
 		options.addOption(Option.builder()
 				.longOpt("classpath")
 				.hasArg()
@@ -170,6 +182,7 @@ public class BuildProblem extends CommandLineUtility {
 		String language = commandLine.getOptionValue("language");
 		String functionName = commandLine.getOptionValue("functionName", "evaluate");
 		String packageName = commandLine.getOptionValue("package", problemName);
+		String backend = commandLine.getOptionValue("backend", "jna");
 
 		if (!SourceVersion.isIdentifier(problemName)) {
 			throw new FrameworkException("'" + problemName + "' is not a valid Java class name");
@@ -203,6 +216,25 @@ public class BuildProblem extends CommandLineUtility {
 			functionName = functionName.toLowerCase();
 		}
 		
+		String nativeProblemTemplate;
+		String javaOptions;
+		
+		if (backend.equalsIgnoreCase("jna")) {
+			nativeProblemTemplate = "NativeProblem.template";
+			javaOptions = "";
+		} else if (backend.equalsIgnoreCase("ffm")) {
+			if (!NATIVE_LANGUAGES.contains(language)) {
+				throw new FrameworkException("'" + backend + "' backend is not supported by " + language);
+			}
+			
+			// the Foreign Function and Memory API is final in Java 22, the generated code will not compile on
+			// older versions
+			nativeProblemTemplate = "ForeignProblem.template";
+			javaOptions = "--enable-native-access=ALL-UNNAMED";
+		} else {
+			throw new FrameworkException("'" + backend + "' is not a supported backend");
+		}
+		
 		Path directory = Path.of(commandLine.getOptionValue("directory", "native"), problemName);
 		
 		if (directory.toFile().exists()) {
@@ -228,6 +260,8 @@ public class BuildProblem extends CommandLineUtility {
 		mappings.put("packageName", packageName);
 		mappings.put("packagePath", packagePath);
 		mappings.put("language", language);
+		mappings.put("nativeProblemTemplate", nativeProblemTemplate);
+		mappings.put("javaOptions", javaOptions);
 		mappings.put("numberOfVariables", Integer.parseInt(commandLine.getOptionValue("numberOfVariables")));
 		mappings.put("numberOfObjectives", Integer.parseInt(commandLine.getOptionValue("numberOfObjectives")));
 		mappings.put("numberOfConstraints", Integer.parseInt(commandLine.getOptionValue("numberOfConstraints", "0")));
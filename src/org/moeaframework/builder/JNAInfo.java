@@ -17,6 +17,10 @@
  */
 package org.moeaframework.builder;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -28,9 +32,11 @@ import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.spi.ProblemFactory;
 import org.moeaframework.core.spi.ProviderNotFoundException;
+import org.moeaframework.core.variable.RealVariable;
 import org.moeaframework.problem.Problem;
 import org.moeaframework.util.cli.CommandLineUtility;
 
+import com.sun.jna.Function;
 import com.sun.jna.NativeLibrary;
 import com.sun.jna.Platform;
 
@@ -39,6 +45,16 @@ import com.sun.jna.Platform;
  */
 public class JNAInfo extends CommandLineUtility {
 	
+	/**
+	 * The number of solutions evaluated by each iteration of the benchmark.
+	 */
+	private static final int BENCHMARK_SIZE = 100;
+	
+	/**
+	 * The duration of each benchmark, which is preceded by a warmup period of equal length.
+	 */
+	private static final Duration BENCHMARK_DURATION = Duration.ofSeconds(2);
+	
 	/**
 	 * Constructs a new instance of this command line utility.
 	 */
@@ -77,6 +93,16 @@ public class JNAInfo extends CommandLineUtility {
 		
 		options.addOptionGroup(group);
 		
+		options.addOption(Option.builder("b")
+				.longOpt("benchmark")
+				.build());
+		
+		options.addOption(Option.builder()
+				.longOpt("functionName")
+				.hasArg()
+				.argName("name")
+				.build());
+		
 		return options;
 	}
 	
@@ -187,6 +213,10 @@ public class JNAInfo extends CommandLineUtility {
 				}
 				
 				pass("Problem evaluated successfully");
+				
+				if (commandLine.hasOption("benchmark")) {
+					benchmark(problem, problemName, commandLine.getOptionValue("functionName", "evaluate"));
+				}
 			}
 		}
 		
@@ -199,6 +229,94 @@ public class JNAInfo extends CommandLineUtility {
 		}
 	}
 	
+	/**
+	 * Measures the throughput of the problem, comparing evaluating one solution at a time, evaluating solutions in
+	 * batches, and calling the native function through JNA with arrays allocated for each evaluation.  The latter
+	 * reflects the overhead of the default JNA backend and serves as a baseline for problems generated with other
+	 * backends.
+	 * 
+	 * @param problem the problem
+	 * @param libraryName the name of the native library
+	 * @param functionName the name of the native function
+	 */
+	private void benchmark(Problem problem, String libraryName, String functionName) {
+		List<Solution> solutions = new ArrayList<>();
+		
+		for (int i = 0; i < BENCHMARK_SIZE; i++) {
+			Solution solution = problem.newSolution();
+			
+			for (int j = 0; j < solution.getNumberOfVariables(); j++) {
+				solution.getVariable(j).randomize();
+			}
+			
+			solutions.add(solution);
+		}
+		
+		System.out.println("Benchmarking throughput (evaluations per second):");
+		
+		report("evaluate", benchmark(() -> {
+			for (Solution solution : solutions) {
+				problem.evaluate(solution);
+			}
+		}));
+		
+		report("evaluateAll", benchmark(() -> problem.evaluateAll(solutions)));
+		
+		Function function = null;
+		
+		try {
+			function = NativeLibrary.getInstance(libraryName).getFunction(functionName);
+		} catch (UnsatisfiedLinkError e) {
+			System.out.println("  Skipping JNA, function '" + functionName + "' not found");
+		}
+		
+		if (function != null) {
+			Function jnaFunction = function;
+			
+			report("JNA", benchmark(() -> {
+				for (Solution solution : solutions) {
+					double[] vars = RealVariable.getReal(solution);
+					double[] objs = new double[solution.getNumberOfObjectives()];
+					double[] constrs = new double[solution.getNumberOfConstraints()];
+					
+					jnaFunction.invokeVoid(new Object[] { vars, objs, constrs });
+					
+					solution.setObjectiveValues(objs);
+					solution.setConstraintValues(constrs);
+				}
+			}));
+		}
+	}
+	
+	/**
+	 * Repeatedly runs the task, first to warm up and then to measure throughput.
+	 * 
+	 * @param task the task evaluating {@value #BENCHMARK_SIZE} solutions
+	 * @return the number of evaluations per second
+	 */
+	private double benchmark(Runnable task) {
+		long duration = BENCHMARK_DURATION.toNanos();
+		long start = System.nanoTime();
+		
+		while (System.nanoTime() - start < duration) {
+			task.run();
+		}
+		
+		long count = 0;
+		start = System.nanoTime();
+		
+		do {
+			task.run();
+			count += BENCHMARK_SIZE;
+		} while (System.nanoTime() - start < duration);
+		
+		return count / ((System.nanoTime() - start) / 1e9);
+	}
+	
+	private void report(String name, double throughput) {
+		System.out.println(String.format("  %-12s %.0f", name, throughput));
+	}
+	
 	private void pass(String message) {
 		System.out.println("\u2705 " + message);
 	}
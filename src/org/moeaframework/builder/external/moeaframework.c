@@ -22,12 +22,14 @@
 #include <string.h>
 #include <math.h>
 #include <errno.h>
+#include <stdint.h>
 #include "moeaframework.h"
 
 #ifdef __WIN32__
 #  include <winsock2.h>
 #  include <ws2tcpip.h>
 #  include <io.h>
+#  include <fcntl.h>
 #else
 #  include <unistd.h>
 #  include <sys/types.h>
@@ -44,6 +46,15 @@
 #define MOEA_BUFFER_SIZE 4096
 #endif
 
+/* header lines sent by the MOEA Framework to select the protocol */
+#define MOEA_HEADER_PIPELINED "MOEA/2 text"
+#define MOEA_HEADER_BINARY "MOEA/2 binary"
+
+#define MOEA_PROTOCOL_UNKNOWN 0
+#define MOEA_PROTOCOL_TEXT 1
+#define MOEA_PROTOCOL_PIPELINED 2
+#define MOEA_PROTOCOL_BINARY 3
+
 FILE* MOEA_Stream_input = NULL;
 FILE* MOEA_Stream_output = NULL;
 FILE* MOEA_Stream_error = NULL;
@@ -57,6 +68,18 @@ char* MOEA_Buffer = NULL;
 size_t MOEA_Buffer_position = 0;
 size_t MOEA_Buffer_limit = 0;
 
+char MOEA_Input_buffer[MOEA_BUFFER_SIZE];
+size_t MOEA_Input_position = 0;
+size_t MOEA_Input_limit = 0;
+
+int MOEA_Protocol = MOEA_PROTOCOL_UNKNOWN;
+long MOEA_Request_id = 0;
+
+double* MOEA_Values = NULL;
+size_t MOEA_Values_position = 0;
+size_t MOEA_Values_count = 0;
+size_t MOEA_Values_limit = 0;
+
 void MOEA_Error_callback_default(const MOEA_Status status) {
   MOEA_Debug("%s\n", MOEA_Status_message(status));
   MOEA_Terminate();
@@ -131,6 +154,22 @@ MOEA_Status MOEA_Buffer_capacity(size_t required) {
   return MOEA_SUCCESS;
 }
 
+MOEA_Status MOEA_Values_capacity(size_t required) {
+  if (required <= MOEA_Values_limit) {
+    return MOEA_SUCCESS;
+  }
+
+  MOEA_Values_limit = required;
+  MOEA_Values = (double*)realloc(MOEA_Values, MOEA_Values_limit*sizeof(double));
+
+  if (MOEA_Values == NULL) {
+    MOEA_Debug("realloc: %s\n", strerror(errno));
+    return MOEA_Error(MOEA_MALLOC_ERROR);
+  }
+
+  return MOEA_SUCCESS;
+}
+
 MOEA_Status MOEA_Buffer_append(const char* format, ...) {
   int len;
   va_list args1, args2;
@@ -254,57 +293,103 @@ MOEA_Status MOEA_Debug(const char* format, ...) {
   return MOEA_SUCCESS;
 }
 
-MOEA_Status MOEA_Next_solution() {
-  size_t len = 0;
+/* reads the next byte, either from the input stream or the socket */
+MOEA_Status MOEA_Read_byte(int* c) {
+  long len;
 
-  MOEA_Buffer_position = 0;
-  
-  if (MOEA_Buffer_limit > 0) {
-  	MOEA_Buffer[0] = '\0';
+  if (MOEA_Socket == INVALID_SOCKET) {
+    if ((*c = getc(MOEA_Stream_input)) == EOF) {
+      if (ferror(MOEA_Stream_input)) {
+        MOEA_Debug("getc: %s\n", strerror(errno));
+        return MOEA_Error(MOEA_IO_ERROR);
+      }
+
+      return MOEA_EOF;
+    }
+
+    return MOEA_SUCCESS;
   }
-  
-  /* loop until the full line is read or end of file */
-  while (1) {
-    /* expand buffer if required */
-    if (MOEA_Buffer_capacity(MOEA_Buffer_position + MOEA_BUFFER_SIZE) != MOEA_SUCCESS) {
-      return MOEA_Error(MOEA_MALLOC_ERROR);
+
+  /* refill the buffer from the socket, which may contain multiple pipelined requests */
+  if (MOEA_Input_position >= MOEA_Input_limit) {
+    len = recv(MOEA_Socket, MOEA_Input_buffer, MOEA_BUFFER_SIZE, 0);
+
+    if (len < 0) {
+      MOEA_Debug("recv: %s\n", strerror(errno));
+      return MOEA_Error(MOEA_SOCKET_ERROR);
     }
-  
-    /* read the next chunk into the buffer */
-    if (MOEA_Socket == INVALID_SOCKET) {
-      if (fgets(&MOEA_Buffer[MOEA_Buffer_position], MOEA_Buffer_limit - MOEA_Buffer_position, MOEA_Stream_input) == NULL) {
-        if (!feof(MOEA_Stream_input)) {
-          MOEA_Debug("fgets: %s\n", strerror(errno));
-          return MOEA_Error(MOEA_IO_ERROR);
-        }
-      }
 
-      MOEA_Buffer_position = strlen(MOEA_Buffer);
-    } else {
-      len = recv(MOEA_Socket, &MOEA_Buffer[MOEA_Buffer_position], MOEA_Buffer_limit - MOEA_Buffer_position, 0);
+    if (len == 0) {
+      *c = EOF;
+      return MOEA_EOF;
+    }
 
-      if (len < 0) {
-        MOEA_Debug("recv: %s\n", strerror(errno));
-        return MOEA_Error(MOEA_SOCKET_ERROR);
+    MOEA_Input_position = 0;
+    MOEA_Input_limit = len;
+  }
+
+  *c = (unsigned char)MOEA_Input_buffer[MOEA_Input_position++];
+  return MOEA_SUCCESS;
+}
+
+/* reads exactly size bytes, returning MOEA_EOF only if the end of stream is reached before the first byte */
+MOEA_Status MOEA_Read_bytes(unsigned char* bytes, const size_t size) {
+  size_t i;
+  int c;
+  MOEA_Status status;
+
+  for (i=0; i<size; i++) {
+    if ((status = MOEA_Read_byte(&c)) != MOEA_SUCCESS) {
+      if ((status == MOEA_EOF) && (i > 0)) {
+        return MOEA_Error(MOEA_IO_ERROR);
       }
 
-      MOEA_Buffer_position += len;
-      MOEA_Buffer[MOEA_Buffer_position] = '\0';
+      return status;
     }
-    
-    /* exit loop when no data read or newline found */
-    if (MOEA_Buffer_position == 0 || MOEA_Buffer[MOEA_Buffer_position-1] == '\n') {
-    	break;	
+
+    bytes[i] = (unsigned char)c;
+  }
+
+  return MOEA_SUCCESS;
+}
+
+/* reads the next line into the buffer, removing any newline characters */
+MOEA_Status MOEA_Read_line() {
+  int c;
+  MOEA_Status status;
+
+  MOEA_Buffer_position = 0;
+
+  while (1) {
+    if ((status = MOEA_Read_byte(&c)) == MOEA_EOF) {
+      break;
+    } else if (status != MOEA_SUCCESS) {
+      return status;
     }
+
+    if (c == '\n') {
+      break;
+    }
+
+    /* expand buffer if required, leaving room for \0 terminating the string */
+    if (MOEA_Buffer_capacity(MOEA_Buffer_position + 1) != MOEA_SUCCESS) {
+      return MOEA_Error(MOEA_MALLOC_ERROR);
+    }
+
+    MOEA_Buffer[MOEA_Buffer_position++] = (char)c;
   }
-  
-  /* remove any newline characters */
-  while (MOEA_Buffer_position > 0 &&
-      (MOEA_Buffer[MOEA_Buffer_position-1] == '\n' || MOEA_Buffer[MOEA_Buffer_position-1] == '\r')) {
-    MOEA_Buffer[MOEA_Buffer_position-1] = '\0';
+
+  if (MOEA_Buffer_capacity(MOEA_Buffer_position + 1) != MOEA_SUCCESS) {
+    return MOEA_Error(MOEA_MALLOC_ERROR);
+  }
+
+  /* remove any carriage return characters */
+  while (MOEA_Buffer_position > 0 && MOEA_Buffer[MOEA_Buffer_position-1] == '\r') {
     MOEA_Buffer_position -= 1;
   }
-  
+
+  MOEA_Buffer[MOEA_Buffer_position] = '\0';
+
   if (MOEA_Buffer_position == 0) {
     return MOEA_EOF;
   } else {
@@ -313,6 +398,100 @@ MOEA_Status MOEA_Next_solution() {
   }
 }
 
+uint32_t MOEA_Decode_uint32(const unsigned char* bytes) {
+  return (uint32_t)bytes[0] | ((uint32_t)bytes[1] << 8) | ((uint32_t)bytes[2] << 16) | ((uint32_t)bytes[3] << 24);
+}
+
+void MOEA_Encode_uint32(const uint32_t value, unsigned char* bytes) {
+  int i;
+
+  for (i=0; i<4; i++) {
+    bytes[i] = (unsigned char)((value >> (8*i)) & 0xFF);
+  }
+}
+
+double MOEA_Decode_double(const unsigned char* bytes) {
+  int i;
+  uint64_t bits = 0;
+  double value;
+
+  for (i=7; i>=0; i--) {
+    bits = (bits << 8) | bytes[i];
+  }
+
+  memcpy(&value, &bits, sizeof(double));
+  return value;
+}
+
+void MOEA_Encode_double(const double value, unsigned char* bytes) {
+  int i;
+  uint64_t bits;
+
+  memcpy(&bits, &value, sizeof(double));
+
+  for (i=0; i<8; i++) {
+    bytes[i] = (unsigned char)((bits >> (8*i)) & 0xFF);
+  }
+}
+
+/* reads the next binary frame, consisting of the request id, the number of values, and the values */
+MOEA_Status MOEA_Read_frame() {
+  uint32_t i;
+  uint32_t count;
+  unsigned char bytes[8];
+  MOEA_Status status;
+
+  if ((status = MOEA_Read_bytes(bytes, 8)) != MOEA_SUCCESS) {
+    return status;
+  }
+
+  MOEA_Request_id = (int32_t)MOEA_Decode_uint32(bytes);
+  count = MOEA_Decode_uint32(bytes+4);
+
+  if (MOEA_Values_capacity(count) != MOEA_SUCCESS) {
+    return MOEA_Error(MOEA_MALLOC_ERROR);
+  }
+
+  for (i=0; i<count; i++) {
+    if ((status = MOEA_Read_bytes(bytes, 8)) != MOEA_SUCCESS) {
+      return MOEA_Error(status == MOEA_EOF ? MOEA_IO_ERROR : status);
+    }
+
+    MOEA_Values[i] = MOEA_Decode_double(bytes);
+  }
+
+  MOEA_Values_position = 0;
+  MOEA_Values_count = count;
+  return MOEA_SUCCESS;
+}
+
+/* reads the next value from the current binary frame */
+MOEA_Status MOEA_Read_value(double* value) {
+  if (MOEA_Values_position >= MOEA_Values_count) {
+    return MOEA_Error(MOEA_PARSE_EOL);
+  }
+
+  *value = MOEA_Values[MOEA_Values_position++];
+  return MOEA_SUCCESS;
+}
+
+/* reads the next integer value from the current binary frame, signaling the given error if not an integer */
+MOEA_Status MOEA_Read_integer_value(int* value, const MOEA_Status error) {
+  double temp;
+  MOEA_Status status = MOEA_Read_value(&temp);
+
+  if (status != MOEA_SUCCESS) {
+    return MOEA_Error(status);
+  }
+
+  if (isnan(temp) || (temp < INT32_MIN) || (temp > INT32_MAX) || (temp != (double)(int)temp)) {
+    return MOEA_Error(error);
+  }
+
+  *value = (int)temp;
+  return MOEA_SUCCESS;
+}
+
 MOEA_Status MOEA_Read_token(char** token) {
   if (MOEA_Buffer == NULL) {
     return MOEA_Error(MOEA_PARSE_NO_SOLUTION);
@@ -329,19 +508,88 @@ MOEA_Status MOEA_Read_token(char** token) {
   /* find end of token */
   size_t end = strcspn(MOEA_Buffer+MOEA_Buffer_position, MOEA_WHITESPACE);
   
-  /* create token */
-  MOEA_Buffer[MOEA_Buffer_position+end] = '\0';
+  /* create token, advancing past the delimiter unless at the end of the line */
   *token = MOEA_Buffer+MOEA_Buffer_position;
-  MOEA_Buffer_position += end + 1;
+  MOEA_Buffer_position += end;
+
+  if (MOEA_Buffer[MOEA_Buffer_position] != '\0') {
+    MOEA_Buffer[MOEA_Buffer_position] = '\0';
+    MOEA_Buffer_position += 1;
+  }
   
   return MOEA_SUCCESS;
 }
 
+MOEA_Status MOEA_Next_solution() {
+  char* token = NULL;
+  char* endptr = NULL;
+  MOEA_Status status;
+
+  if (MOEA_Protocol == MOEA_PROTOCOL_BINARY) {
+    return MOEA_Read_frame();
+  }
+
+  if ((status = MOEA_Read_line()) != MOEA_SUCCESS) {
+    return status;
+  }
+
+  /* detect the protocol from the header line, which if sent precedes the first solution */
+  if (MOEA_Protocol == MOEA_PROTOCOL_UNKNOWN) {
+    if (strcmp(MOEA_Buffer, MOEA_HEADER_PIPELINED) == 0) {
+      MOEA_Protocol = MOEA_PROTOCOL_PIPELINED;
+      return MOEA_Next_solution();
+    } else if (strcmp(MOEA_Buffer, MOEA_HEADER_BINARY) == 0) {
+      MOEA_Protocol = MOEA_PROTOCOL_BINARY;
+
+#ifdef __WIN32__
+      if (MOEA_Socket == INVALID_SOCKET) {
+        _setmode(_fileno(MOEA_Stream_input), _O_BINARY);
+        _setmode(_fileno(MOEA_Stream_output), _O_BINARY);
+      }
+#endif
+
+      return MOEA_Next_solution();
+    } else {
+      MOEA_Protocol = MOEA_PROTOCOL_TEXT;
+    }
+  }
+
+  /* read the request id that prefixes each pipelined solution */
+  if (MOEA_Protocol == MOEA_PROTOCOL_PIPELINED) {
+    if ((status = MOEA_Read_token(&token)) != MOEA_SUCCESS) {
+      return MOEA_Error(status);
+    }
+
+    MOEA_Request_id = strtol(token, &endptr, 10);
+
+    if (*endptr != '\0') {
+      return MOEA_Error(MOEA_PARSE_INTEGER_ERROR);
+    }
+  }
+
+  return MOEA_SUCCESS;
+}
+
 MOEA_Status MOEA_Read_binary(const int size, int* values) {
   int i = 0;
   char* token = NULL;
+  MOEA_Status status;
+
+  if (MOEA_Protocol == MOEA_PROTOCOL_BINARY) {
+    for (i=0; i<size; i++) {
+      if ((status = MOEA_Read_integer_value(&values[i], MOEA_PARSE_BINARY_ERROR)) != MOEA_SUCCESS) {
+        return status;
+      }
+
+      if ((values[i] != 0) && (values[i] != 1)) {
+        return MOEA_Error(MOEA_PARSE_BINARY_ERROR);
+      }
+    }
+
+    return MOEA_SUCCESS;
+  }
   
-  MOEA_Status status = MOEA_Read_token(&token);
+  status = MOEA_Read_token(&token);
   
   if (status != MOEA_SUCCESS) {
     return MOEA_Error(status);
@@ -372,8 +620,23 @@ MOEA_Status MOEA_Read_permutation(const int size, int* values) {
   int i;
   char* token = NULL;
   char* endptr = NULL;
+  MOEA_Status status;
+
+  if (MOEA_Protocol == MOEA_PROTOCOL_BINARY) {
+    if (size <= 0) {
+      return MOEA_Error(MOEA_INVALID_SIZE);
+    }
+
+    for (i=0; i<size; i++) {
+      if ((status = MOEA_Read_integer_value(&values[i], MOEA_PARSE_PERMUTATION_ERROR)) != MOEA_SUCCESS) {
+        return status;
+      }
+    }
+
+    return MOEA_SUCCESS;
+  }
   
-  MOEA_Status status = MOEA_Read_token(&token);
+  status = MOEA_Read_token(&token);
   
   if (status != MOEA_SUCCESS) {
     return MOEA_Error(status);
@@ -413,8 +676,32 @@ MOEA_Status MOEA_Read_subset(const int minSize, const int maxSize, int* values,
   int i;
   char* token = NULL;
   char* endptr = NULL;
+  MOEA_Status status;
+
+  if (MOEA_Protocol == MOEA_PROTOCOL_BINARY) {
+    if (minSize < 0 || maxSize < 0) {
+      return MOEA_Error(MOEA_INVALID_SIZE);
+    }
+
+    /* the subset size precedes the members */
+    if ((status = MOEA_Read_integer_value(size, MOEA_PARSE_SUBSET_ERROR)) != MOEA_SUCCESS) {
+      return status;
+    }
+
+    if ((*size < minSize) || (*size > maxSize)) {
+      return MOEA_Error(MOEA_PARSE_SUBSET_ERROR);
+    }
+
+    for (i=0; i<*size; i++) {
+      if ((status = MOEA_Read_integer_value(&values[i], MOEA_PARSE_SUBSET_ERROR)) != MOEA_SUCCESS) {
+        return status;
+      }
+    }
+
+    return MOEA_SUCCESS;
+  }
   
-  MOEA_Status status = MOEA_Read_token(&token);
+  status = MOEA_Read_token(&token);
   
   if (status != MOEA_SUCCESS) {
     return MOEA_Error(status);
@@ -467,8 +754,13 @@ MOEA_Status MOEA_Read_subset(const int minSize, const int maxSize, int* values,
 MOEA_Status MOEA_Read_int(int* value) {
   char* token = NULL;
   char* endptr = NULL;
+  MOEA_Status status;
+
+  if (MOEA_Protocol == MOEA_PROTOCOL_BINARY) {
+    return MOEA_Read_integer_value(value, MOEA_PARSE_INTEGER_ERROR);
+  }
   
-  MOEA_Status status = MOEA_Read_token(&token);
+  status = MOEA_Read_token(&token);
   
   if (status != MOEA_SUCCESS) {
     return MOEA_Error(status);
@@ -500,8 +792,13 @@ MOEA_Status MOEA_Read_ints(const int size, int* values) {
 MOEA_Status MOEA_Read_double(double* value) {
   char* token = NULL;
   char* endptr = NULL;
+  MOEA_Status status;
+
+  if (MOEA_Protocol == MOEA_PROTOCOL_BINARY) {
+    return MOEA_Read_value(value);
+  }
   
-  MOEA_Status status = MOEA_Read_token(&token);
+  status = MOEA_Read_token(&token);
   
   if (status != MOEA_SUCCESS) {
     return MOEA_Error(status);
@@ -531,6 +828,14 @@ MOEA_Status MOEA_Read_doubles(const int size, double* values) {
 }
 
 MOEA_Status MOEA_Read_complete() {
+  if (MOEA_Protocol == MOEA_PROTOCOL_BINARY) {
+    if (MOEA_Values_position != MOEA_Values_count) {
+      return MOEA_Error(MOEA_PARSE_EXTRA);
+    }
+
+    return MOEA_SUCCESS;
+  }
+
   if (MOEA_Buffer == NULL) {
     return MOEA_Error(MOEA_PARSE_NO_SOLUTION);
   }
@@ -545,6 +850,34 @@ MOEA_Status MOEA_Read_complete() {
   return MOEA_SUCCESS;
 }
 
+/* sends the content, either to the output stream or the socket */
+MOEA_Status MOEA_Send(const char* data, const size_t size) {
+  size_t position = 0;
+  long len;
+
+  if (MOEA_Socket == INVALID_SOCKET) {
+    if (fwrite(data, sizeof(char), size, MOEA_Stream_output) != size) {
+      return MOEA_Error(MOEA_IO_ERROR);
+    }
+
+    if (fflush(MOEA_Stream_output) == EOF) {
+      return MOEA_Error(MOEA_IO_ERROR);
+    }
+  } else {
+    /* send may write fewer bytes than requested */
+    while (position < size) {
+      if ((len = send(MOEA_Socket, data + position, size - position, 0)) < 0) {
+        MOEA_Debug("send: %s\n", strerror(errno));
+        return MOEA_Error(MOEA_SOCKET_ERROR);
+      }
+
+      position += len;
+    }
+  }
+
+  return MOEA_SUCCESS;
+}
+
 MOEA_Status MOEA_Write(const double* objectives, const double* constraints) {
   int i;
   MOEA_Status res;
@@ -559,8 +892,38 @@ MOEA_Status MOEA_Write(const double* objectives, const double* constraints) {
     return MOEA_Error(MOEA_NULL_POINTER_ERROR);   
   }
 
+  /* write the binary frame, consisting of the request id, the number of values, and the values */
+  if (MOEA_Protocol == MOEA_PROTOCOL_BINARY) {
+    if (MOEA_Buffer_capacity(8 * (1 + MOEA_Number_objectives + MOEA_Number_constraints)) != MOEA_SUCCESS) {
+      return MOEA_Error(MOEA_MALLOC_ERROR);
+    }
+
+    MOEA_Encode_uint32((uint32_t)MOEA_Request_id, (unsigned char*)MOEA_Buffer);
+    MOEA_Encode_uint32(MOEA_Number_objectives + MOEA_Number_constraints, (unsigned char*)(MOEA_Buffer+4));
+    MOEA_Buffer_position = 8;
+
+    for (i=0; i<MOEA_Number_objectives; i++) {
+      MOEA_Encode_double(objectives[i], (unsigned char*)(MOEA_Buffer+MOEA_Buffer_position));
+      MOEA_Buffer_position += 8;
+    }
+
+    for (i=0; i<MOEA_Number_constraints; i++) {
+      MOEA_Encode_double(constraints[i], (unsigned char*)(MOEA_Buffer+MOEA_Buffer_position));
+      MOEA_Buffer_position += 8;
+    }
+
+    return MOEA_Send(MOEA_Buffer, MOEA_Buffer_position);
+  }
+
   MOEA_Buffer_position = 0;
 
+  /* echo the request id so responses can be matched to pipelined requests */
+  if (MOEA_Protocol == MOEA_PROTOCOL_PIPELINED) {
+    if ((res = MOEA_Buffer_append("%ld ", MOEA_Request_id)) != MOEA_SUCCESS) {
+      return res;
+    }
+  }
+
   /* write content to the buffer */
   for (i=0; i<MOEA_Number_objectives; i++) {
     if (i > 0) {
@@ -592,22 +955,7 @@ MOEA_Status MOEA_Write(const double* objectives, const double* constraints) {
   }
 
   /* send content */
-  if (MOEA_Socket == INVALID_SOCKET) {
-    if (fputs(MOEA_Buffer, MOEA_Stream_output) == EOF) {
-      return MOEA_Error(MOEA_IO_ERROR);
-    }
-
-    if (fflush(MOEA_Stream_output) == EOF) {
-      return MOEA_Error(MOEA_IO_ERROR);
-    }
-  } else {
-    if (send(MOEA_Socket, MOEA_Buffer, MOEA_Buffer_position, 0) < 0) {
-      MOEA_Debug("send: %s\n", strerror(errno));
-      return MOEA_Error(MOEA_SOCKET_ERROR);
-    }
-  }
-  
-  return MOEA_SUCCESS;
+  return MOEA_Send(MOEA_Buffer, MOEA_Buffer_position);
 }
 
 MOEA_Status MOEA_Terminate() {
@@ -635,6 +983,10 @@ MOEA_Status MOEA_Terminate() {
     free(MOEA_Buffer);
   }
 
+  if (MOEA_Values != NULL) {
+    free(MOEA_Values);
+  }
+
   return MOEA_SUCCESS;
 }
 
@@ -93,6 +93,12 @@ MOEA_Status MOEA_Init_socket(const int objectives, const int constraints, const
 /**
  * Begins reading the next solution from the MOEA Framework.
  *
+ * The protocol is detected automatically from the header line, if any, sent by the MOEA Framework before the first
+ * solution.  In addition to the original text protocol, this supports the pipelined text protocol, where each line is
+ * prefixed by a request ID, and the binary protocol, where values are sent as little-endian doubles.  In both cases,
+ * the MOEA Framework may send many solutions before reading any results, and MOEA_Write automatically includes the
+ * request ID of the current solution.  No changes to the program are required to support these protocols.
+ *
  * @return MOEA_SUCCESS if there is a next solution to read; MOEA_EOF if there exists no more solutions; or the
  *         specific error code causing failure
  */
@@ -0,0 +1,670 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.moeaframework.core.attribute.CrowdingDistance;
+import org.moeaframework.core.attribute.Fitness;
+import org.moeaframework.core.attribute.Rank;
+import org.moeaframework.core.constraint.Constraint;
+import org.moeaframework.core.objective.Maximize;
+import org.moeaframework.core.objective.Minimize;
+import org.moeaframework.core.objective.NormalizedObjective;
+import org.moeaframework.core.objective.Objective;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * A solution that stores its objective and constraint values in primitive arrays.  The {@link Objective} and
+ * {@link Constraint} definitions, which identify the direction, name, and any bounds, are shared between copies.
+ * Consequently, copying a compact solution or reading and writing values through {@link #getObjectiveValue(int)}
+ * and similar methods does not allocate any objective or constraint objects.
+ * <p>
+ * The {@link Objective} and {@link Constraint} API remains available.  Calling {@link #getObjective(int)} or
+ * {@link #getConstraint(int)} creates a view that is bound to this solution, such that modifying the returned object
+ * updates the value stored in this solution.  Views are created lazily, at most once per index, and are not carried
+ * over when copying.
+ * <p>
+ * The frequently-used {@link Rank}, {@link CrowdingDistance}, and {@link Fitness} attributes are likewise stored in
+ * primitive fields, avoiding boxing when accessed through those attribute classes.  All other attributes are stored
+ * in the attribute map.  Since {@link #getAttributes()} returns the live attribute map, calling it moves these
+ * attributes into the map and they remain there, boxed, for the lifetime of this solution.  Copies are not affected.
+ * <p>
+ * Compact solutions are typically created by wrapping a problem with
+ * {@link org.moeaframework.problem.CompactProblem}, as all copies of a compact solution are also compact.
+ */
+public class CompactSolution extends Solution {
+	
+	private static final long serialVersionUID = -4390150284526385219L;
+	
+	/**
+	 * Flag indicating the rank attribute is set.
+	 */
+	private static final int RANK = 1;
+	
+	/**
+	 * Flag indicating the crowding distance attribute is set.
+	 */
+	private static final int CROWDING_DISTANCE = 2;
+	
+	/**
+	 * Flag indicating the fitness attribute is set.
+	 */
+	private static final int FITNESS = 4;
+	
+	/**
+	 * The objective definitions.  This array is shared between copies and must be replaced, not modified.
+	 */
+	private Objective[] objectiveDefinitions;
+	
+	/**
+	 * The constraint definitions.  This array is shared between copies and must be replaced, not modified.
+	 */
+	private Constraint[] constraintDefinitions;
+	
+	/**
+	 * The objective values.  If a view exists for an objective, the view stores the current value.
+	 */
+	private final double[] objectiveValues;
+	
+	/**
+	 * The constraint values.  If a view exists for a constraint, the view stores the current value.
+	 */
+	private final double[] constraintValues;
+	
+	/**
+	 * The objective views, or {@code null} if no views were created.
+	 */
+	private transient Objective[] objectiveViews;
+	
+	/**
+	 * The constraint views, or {@code null} if no views were created.
+	 */
+	private transient Constraint[] constraintViews;
+	
+	/**
+	 * Bit flags identifying which of the primitive attributes are set.
+	 */
+	private int primitiveAttributes;
+	
+	/**
+	 * The value of the {@link Rank} attribute.
+	 */
+	private int rank;
+	
+	/**
+	 * The value of the {@link CrowdingDistance} attribute.
+	 */
+	private double crowdingDistance;
+	
+	/**
+	 * The value of the {@link Fitness} attribute.
+	 */
+	private double fitness;
+	
+	/**
+	 * {@code true} if the attribute map was returned by {@link #getAttributes()}, in which case all attributes are
+	 * stored in the map so it remains consistent with this solution.
+	 */
+	private boolean attributesExposed;
+	
+	/**
+	 * Constructs a compact solution from the given solution.  The decision variables are copied and the objective and
+	 * constraint definitions are taken from the given solution.  Similar to {@link #copy()}, attributes are not
+	 * copied.
+	 * 
+	 * @param solution the solution being converted
+	 */
+	public CompactSolution(Solution solution) {
+		super(solution.getNumberOfVariables());
+		
+		for (int i = 0; i < getNumberOfVariables(); i++) {
+			setVariable(i, solution.getVariable(i) == null ? null : solution.getVariable(i).copy());
+		}
+		
+		objectiveDefinitions = new Objective[solution.getNumberOfObjectives()];
+		objectiveValues = new double[solution.getNumberOfObjectives()];
+		constraintDefinitions = new Constraint[solution.getNumberOfConstraints()];
+		constraintValues = new double[solution.getNumberOfConstraints()];
+		
+		for (int i = 0; i < getNumberOfObjectives(); i++) {
+			Objective objective = solution.getObjective(i);
+			objectiveDefinitions[i] = objective.copy();
+			objectiveValues[i] = objective.getValue();
+		}
+		
+		for (int i = 0; i < getNumberOfConstraints(); i++) {
+			Constraint constraint = solution.getConstraint(i);
+			constraintDefinitions[i] = constraint.copy();
+			constraintValues[i] = constraint.getValue();
+		}
+	}
+	
+	/**
+	 * Copy constructor.
+	 * 
+	 * @param solution the compact solution being copied
+	 */
+	protected CompactSolution(CompactSolution solution) {
+		super(solution.getNumberOfVariables());
+		
+		for (int i = 0; i < getNumberOfVariables(); i++) {
+			setVariable(i, solution.getVariable(i) == null ? null : solution.getVariable(i).copy());
+		}
+		
+		objectiveDefinitions = solution.objectiveDefinitions;
+		objectiveValues = solution.objectiveValues.clone();
+		constraintDefinitions = solution.constraintDefinitions;
+		constraintValues = solution.constraintValues.clone();
+		
+		if (solution.objectiveViews != null) {
+			for (int i = 0; i < objectiveValues.length; i++) {
+				if (solution.objectiveViews[i] != null) {
+					objectiveValues[i] = solution.objectiveViews[i].getValue();
+				}
+			}
+		}
+		
+		if (solution.constraintViews != null) {
+			for (int i = 0; i < constraintValues.length; i++) {
+				if (solution.constraintViews[i] != null) {
+					constraintValues[i] = solution.constraintViews[i].getValue();
+				}
+			}
+		}
+	}
+	
+	@Override
+	public CompactSolution copy() {
+		return new CompactSolution(this);
+	}
+	
+	@Override
+	public CompactSolution deepCopy() {
+		CompactSolution copy = copy();
+		
+		copy.primitiveAttributes = primitiveAttributes;
+		copy.rank = rank;
+		copy.crowdingDistance = crowdingDistance;
+		copy.fitness = fitness;
+		
+		for (Map.Entry<String, Serializable> entry : super.getAttributes().entrySet()) {
+			copy.setAttribute(entry.getKey(), SerializationUtils.clone(entry.getValue()));
+		}
+		
+		return copy;
+	}
+	
+	@Override
+	public int getNumberOfObjectives() {
+		return objectiveValues.length;
+	}
+	
+	@Override
+	public int getNumberOfConstraints() {
+		return constraintValues.length;
+	}
+	
+	@Override
+	public Objective getObjective(int index) {
+		if (objectiveViews == null) {
+			objectiveViews = new Objective[objectiveValues.length];
+		}
+		
+		if (objectiveViews[index] == null) {
+			objectiveViews[index] = objectiveDefinitions[index].copy().withValue(objectiveValues[index]);
+		}
+		
+		return objectiveViews[index];
+	}
+	
+	@Override
+	public void setObjective(int index, Objective objective) {
+		if (objective == null) {
+			objective = Objective.createDefault();
+		}
+		
+		if (objectiveViews == null) {
+			objectiveViews = new Objective[objectiveValues.length];
+		}
+		
+		objectiveDefinitions = objectiveDefinitions.clone();
+		objectiveDefinitions[index] = objective.copy();
+		objectiveViews[index] = objective;
+	}
+	
+	@Override
+	public double getObjectiveValue(int index) {
+		if (objectiveViews != null && objectiveViews[index] != null) {
+			return objectiveViews[index].getValue();
+		}
+		
+		return objectiveValues[index];
+	}
+	
+	@Override
+	public void setObjectiveValue(int index, double objective) {
+		objectiveValues[index] = objective;
+		
+		if (objectiveViews != null && objectiveViews[index] != null) {
+			objectiveViews[index].setValue(objective);
+		}
+	}
+	
+	@Override
+	public void setObjectiveValues(double[] objectives) {
+		Validate.that("objectives.length", objectives.length).isEqualTo(getNumberOfObjectives());
+		
+		for (int i = 0; i < objectives.length; i++) {
+			setObjectiveValue(i, objectives[i]);
+		}
+	}
+	
+	@Override
+	public double[] getObjectiveValues() {
+		double[] result = new double[objectiveValues.length];
+		
+		for (int i = 0; i < objectiveValues.length; i++) {
+			result[i] = getObjectiveValue(i);
+		}
+		
+		return result;
+	}
+	
+	@Override
+	public double[] getCanonicalObjectiveValues() {
+		double[] result = new double[objectiveValues.length];
+		
+		for (int i = 0; i < objectiveValues.length; i++) {
+			result[i] = getCanonicalObjectiveValue(i);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the canonical value of the objective at the specified index.  See {@link Objective#getCanonicalValue()}
+	 * for more details.
+	 * 
+	 * @param index index of the objective
+	 * @return the canonical objective value
+	 */
+	public double getCanonicalObjectiveValue(int index) {
+		int direction = getDirection(index);
+		
+		if (direction == 0) {
+			return getObjective(index).getCanonicalValue();
+		}
+		
+		return direction * objectiveValues[index];
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If both solutions are compact, minimized and maximized objectives are compared directly on the stored values
+	 * without creating any views.
+	 */
+	@Override
+	public int compareObjective(int index, Solution other) {
+		if (!(other instanceof CompactSolution compact)) {
+			return super.compareObjective(index, other);
+		}
+		
+		int direction = getDirection(index);
+		
+		if (direction == 0 || compact.getDirection(index) == 0) {
+			return super.compareObjective(index, other);
+		}
+		
+		if (objectiveDefinitions[index].getClass() != compact.objectiveDefinitions[index].getClass()) {
+			throw TypeMismatchException.notComparable(objectiveDefinitions[index].getClass(),
+					compact.objectiveDefinitions[index].getClass());
+		}
+		
+		int flag = Double.compare(objectiveValues[index], compact.objectiveValues[index]);
+		return direction > 0 ? flag : -flag;
+	}
+	
+	/**
+	 * Returns the optimization direction of the objective at the specified index, where {@code 1} is minimized,
+	 * {@code -1} is maximized, and {@code 0} indicates the direction is unknown or the objective has a view that must
+	 * be used instead of the stored value.
+	 * 
+	 * @param index index of the objective
+	 * @return the optimization direction
+	 */
+	private int getDirection(int index) {
+		if (objectiveViews != null && objectiveViews[index] != null) {
+			return 0;
+		}
+		
+		Class<?> type = objectiveDefinitions[index].getClass();
+		
+		if (type == Minimize.class || type == NormalizedObjective.class) {
+			return 1;
+		} else if (type == Maximize.class) {
+			return -1;
+		} else {
+			return 0;
+		}
+	}
+	
+	@Override
+	public Constraint getConstraint(int index) {
+		if (constraintViews == null) {
+			constraintViews = new Constraint[constraintValues.length];
+		}
+		
+		if (constraintViews[index] == null) {
+			constraintViews[index] = constraintDefinitions[index].copy().withValue(constraintValues[index]);
+		}
+		
+		return constraintViews[index];
+	}
+	
+	@Override
+	public void setConstraint(int index, Constraint constraint) {
+		if (constraint == null) {
+			constraint = Constraint.createDefault();
+		}
+		
+		if (constraintViews == null) {
+			constraintViews = new Constraint[constraintValues.length];
+		}
+		
+		constraintDefinitions = constraintDefinitions.clone();
+		constraintDefinitions[index] = constraint.copy();
+		constraintViews[index] = constraint;
+	}
+	
+	@Override
+	public double getConstraintValue(int index) {
+		if (constraintViews != null && constraintViews[index] != null) {
+			return constraintViews[index].getValue();
+		}
+		
+		return constraintValues[index];
+	}
+	
+	@Override
+	public void setConstraintValue(int index, double constraint) {
+		constraintValues[index] = constraint;
+		
+		if (constraintViews != null && constraintViews[index] != null) {
+			constraintViews[index].setValue(constraint);
+		}
+	}
+	
+	@Override
+	public void setConstraintValues(double[] constraints) {
+		Validate.that("constraints.length", constraints.length).isEqualTo(getNumberOfConstraints());
+		
+		for (int i = 0; i < constraints.length; i++) {
+			setConstraintValue(i, constraints[i]);
+		}
+	}
+	
+	@Override
+	public double[] getConstraintValues() {
+		double[] result = new double[constraintValues.length];
+		
+		for (int i = 0; i < constraintValues.length; i++) {
+			result[i] = getConstraintValue(i);
+		}
+		
+		return result;
+	}
+	
+	@Override
+	public boolean violatesConstraints() {
+		for (int i = 0; i < constraintValues.length; i++) {
+			if (getMagnitudeOfViolation(i) != 0.0) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	@Override
+	public double getSumOfConstraintViolations() {
+		double sum = 0.0;
+		
+		for (int i = 0; i < constraintValues.length; i++) {
+			sum += getMagnitudeOfViolation(i);
+		}
+		
+		return sum;
+	}
+	
+	/**
+	 * Returns the magnitude of violation of the constraint at the specified index.  Unless a view exists, this is
+	 * computed from the stored value without creating any constraint objects.
+	 * 
+	 * @param index index of the constraint
+	 * @return the magnitude of constraint violation
+	 */
+	private double getMagnitudeOfViolation(int index) {
+		if (constraintViews != null && constraintViews[index] != null) {
+			return constraintViews[index].getMagnitudeOfViolation();
+		}
+		
+		return constraintDefinitions[index].getMagnitudeOfViolation(constraintValues[index]);
+	}
+	
+	@Override
+	public int getIntAttribute(String key) {
+		if (getFlag(key) == RANK) {
+			return (primitiveAttributes & RANK) != 0 ? rank : (Integer)super.getAttribute(key);
+		}
+		
+		return super.getIntAttribute(key);
+	}
+	
+	@Override
+	public void setIntAttribute(String key, int value) {
+		if (getFlag(key) == RANK && !attributesExposed) {
+			super.removeAttribute(key);
+			rank = value;
+			primitiveAttributes |= RANK;
+		} else {
+			super.setIntAttribute(key, value);
+		}
+	}
+	
+	@Override
+	public double getDoubleAttribute(String key) {
+		int flag = getFlag(key);
+		
+		if (flag == CROWDING_DISTANCE || flag == FITNESS) {
+			return (primitiveAttributes & flag) != 0 ? (flag == FITNESS ? fitness : crowdingDistance) :
+				(Double)super.getAttribute(key);
+		}
+		
+		return super.getDoubleAttribute(key);
+	}
+	
+	@Override
+	public void setDoubleAttribute(String key, double value) {
+		int flag = getFlag(key);
+		
+		if ((flag == CROWDING_DISTANCE || flag == FITNESS) && !attributesExposed) {
+			super.removeAttribute(key);
+			
+			if (flag == FITNESS) {
+				fitness = value;
+			} else {
+				crowdingDistance = value;
+			}
+			
+			primitiveAttributes |= flag;
+		} else {
+			super.setDoubleAttribute(key, value);
+		}
+	}
+	
+	/**
+	 * Returns the flag for the primitive attribute with the given name, or {@code 0} if the attribute is not stored in
+	 * a primitive field.
+	 * 
+	 * @param key the attribute name
+	 * @return the flag
+	 */
+	private static int getFlag(String key) {
+		return switch (key) {
+			case Rank.ATTRIBUTE_NAME -> RANK;
+			case CrowdingDistance.ATTRIBUTE_NAME -> CROWDING_DISTANCE;
+			case Fitness.ATTRIBUTE_NAME -> FITNESS;
+			default -> 0;
+		};
+	}
+	
+	/**
+	 * Returns the boxed value of the primitive attribute identified by the given flag, or {@code null} if not set.
+	 * 
+	 * @param flag the flag identifying the attribute
+	 * @return the boxed value or {@code null}
+	 */
+	private Serializable getPrimitiveAttribute(int flag) {
+		if ((primitiveAttributes & flag) == 0) {
+			return null;
+		}
+		
+		return switch (flag) {
+			case RANK -> rank;
+			case CROWDING_DISTANCE -> crowdingDistance;
+			default -> fitness;
+		};
+	}
+	
+	/**
+	 * Moves all primitive attributes into the attribute map.
+	 */
+	private void movePrimitiveAttributesToMap() {
+		if (primitiveAttributes != 0) {
+			Map<String, Serializable> attributes = super.getAttributes();
+			
+			if ((primitiveAttributes & RANK) != 0) {
+				attributes.put(Rank.ATTRIBUTE_NAME, rank);
+			}
+			
+			if ((primitiveAttributes & CROWDING_DISTANCE) != 0) {
+				attributes.put(CrowdingDistance.ATTRIBUTE_NAME, crowdingDistance);
+			}
+			
+			if ((primitiveAttributes & FITNESS) != 0) {
+				attributes.put(Fitness.ATTRIBUTE_NAME, fitness);
+			}
+			
+			primitiveAttributes = 0;
+		}
+	}
+	
+	@Override
+	public Object getAttribute(String key) {
+		int flag = getFlag(key);
+		
+		if ((primitiveAttributes & flag) != 0) {
+			return getPrimitiveAttribute(flag);
+		}
+		
+		return super.getAttribute(key);
+	}
+	
+	@Override
+	public Object setAttribute(String key, Serializable value) {
+		int flag = attributesExposed ? 0 : getFlag(key);
+		
+		if (flag == RANK && value instanceof Integer intValue) {
+			Object oldValue = getAttribute(key);
+			setIntAttribute(key, intValue);
+			return oldValue;
+		} else if ((flag == CROWDING_DISTANCE || flag == FITNESS) && value instanceof Double doubleValue) {
+			Object oldValue = getAttribute(key);
+			setDoubleAttribute(key, doubleValue);
+			return oldValue;
+		}
+		
+		Object oldValue = removeAttribute(key);
+		super.setAttribute(key, value);
+		return oldValue;
+	}
+	
+	@Override
+	public Object removeAttribute(String key) {
+		int flag = getFlag(key);
+		
+		if ((primitiveAttributes & flag) != 0) {
+			Object oldValue = getPrimitiveAttribute(flag);
+			primitiveAttributes &= ~flag;
+			return oldValue;
+		}
+		
+		return super.removeAttribute(key);
+	}
+	
+	@Override
+	public boolean hasAttribute(String key) {
+		return (primitiveAttributes & getFlag(key)) != 0 || super.hasAttribute(key);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Any attributes stored in primitive fields are first moved into the returned map.  Afterwards, all attributes
+	 * are stored in the map, so the returned map reflects any subsequent changes.
+	 */
+	@Override
+	public Map<String, Serializable> getAttributes() {
+		movePrimitiveAttributesToMap();
+		attributesExposed = true;
+		return super.getAttributes();
+	}
+	
+	@Override
+	public void addAttributes(Map<String, Serializable> attributes) {
+		for (Map.Entry<String, Serializable> entry : attributes.entrySet()) {
+			setAttribute(entry.getKey(), entry.getValue());
+		}
+	}
+	
+	@Override
+	public void clearAttributes() {
+		primitiveAttributes = 0;
+		super.clearAttributes();
+	}
+	
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		// views are not serialized, so store their current values
+		for (int i = 0; i < objectiveValues.length; i++) {
+			objectiveValues[i] = getObjectiveValue(i);
+		}
+		
+		for (int i = 0; i < constraintValues.length; i++) {
+			constraintValues[i] = getConstraintValue(i);
+		}
+		
+		stream.defaultWriteObject();
+	}
+
+}
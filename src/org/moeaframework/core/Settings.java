@@ -29,7 +29,10 @@ import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 import org.moeaframework.core.indicator.Hypervolume;
+import org.moeaframework.core.indicator.MonteCarloHypervolume.Sampling;
 import org.moeaframework.core.population.NondominatedPopulation.DuplicateMode;
+import org.moeaframework.core.population.NondominatedSorting.Implementation;
+import org.moeaframework.parallel.util.ExecutorFactory.ExecutorType;
 import org.moeaframework.util.cli.OptionStyle;
 import org.moeaframework.util.io.Resources;
 import org.moeaframework.util.io.Resources.ResourceOption;
@@ -142,6 +145,11 @@ public class Settings {
 	 */
 	public static final String KEY_FAST_NONDOMINATED_SORTING = createKey(KEY_PREFIX, "core", "fast_nondominated_sorting");
 	
+	/**
+	 * The property key for selecting the non-dominated sorting implementation.
+	 */
+	public static final String KEY_NONDOMINATED_SORTING = createKey(KEY_PREFIX, "core", "nondominated_sorting");
+	
 	/**
 	 * The property key storing the command or executable used to start Java.
 	 */
@@ -177,6 +185,36 @@ public class Settings {
 	 */
 	public static final String KEY_HYPERVOLUME_ENABLED = createKey(KEY_PREFIX, "core", "indicator", "hypervolume", "enabled");
 	
+	/**
+	 * The property key for the sampling method used by the Monte Carlo hypervolume.
+	 */
+	public static final String KEY_HYPERVOLUME_SAMPLING = createKey(KEY_PREFIX, "core", "indicator", "hypervolume",
+			"montecarlo", "sampling");
+	
+	/**
+	 * The property key for the maximum number of samples used by the Monte Carlo hypervolume.
+	 */
+	public static final String KEY_HYPERVOLUME_SAMPLES = createKey(KEY_PREFIX, "core", "indicator", "hypervolume",
+			"montecarlo", "samples");
+	
+	/**
+	 * The property key for the target half-width of the confidence interval used by the Monte Carlo hypervolume.
+	 */
+	public static final String KEY_HYPERVOLUME_TOLERANCE = createKey(KEY_PREFIX, "core", "indicator", "hypervolume",
+			"montecarlo", "tolerance");
+	
+	/**
+	 * The property key for the confidence level used by the Monte Carlo hypervolume.
+	 */
+	public static final String KEY_HYPERVOLUME_CONFIDENCE = createKey(KEY_PREFIX, "core", "indicator", "hypervolume",
+			"montecarlo", "confidence");
+	
+	/**
+	 * The property key for the seed of the random numbers used by the Monte Carlo hypervolume.
+	 */
+	public static final String KEY_HYPERVOLUME_SEED = createKey(KEY_PREFIX, "core", "indicator", "hypervolume",
+			"montecarlo", "seed");
+	
 	/**
 	 * The prefix for all problem property keys.
 	 */
@@ -212,6 +250,16 @@ public class Settings {
 	 */
 	public static final String KEY_EXTERNAL_SHUTDOWN_TIMEOUT = createKey(KEY_PROBLEM_PREFIX, "external", "shutdown_timeout");
 	
+	/**
+	 * The property key for the type of executor used to distribute evaluations.
+	 */
+	public static final String KEY_EXECUTOR_TYPE = createKey(KEY_PREFIX, "parallel", "executor");
+	
+	/**
+	 * The property key for the concurrency of the executor used to distribute evaluations.
+	 */
+	public static final String KEY_EXECUTOR_CONCURRENCY = createKey(KEY_PREFIX, "parallel", "concurrency");
+	
 	static {
 		reload();
 	}
@@ -385,7 +433,7 @@ public class Settings {
 		return PROPERTIES.getDouble(KEY_IGD_POWER, 1.0);
 	}
 
-	/**
+	/**
 	 * Returns {@code true} if fast non-dominated sorting should be used; or {@code false} if the naive non-dominated
 	 * sorting implementation is preferred.  The default is {@code false} since while the fast version has better
 	 * worst-case time complexity, the naive version tends to run faster except for a small number of edge cases.
@@ -394,7 +442,18 @@ public class Settings {
 	 *         sorting implementation is preferred
 	 */
 	public static boolean useFastNondominatedSorting() {
-		return PROPERTIES.getBoolean(KEY_FAST_NONDOMINATED_SORTING, false);
+		return PROPERTIES.getBoolean(KEY_FAST_NONDOMINATED_SORTING, false);
+	}
+	
+	/**
+	 * Returns the non-dominated sorting implementation.  If not set, defaults to either {@code FAST} or {@code NAIVE}
+	 * depending on {@link #useFastNondominatedSorting()}.
+	 * 
+	 * @return the non-dominated sorting implementation
+	 */
+	public static Implementation getNondominatedSorting() {
+		return PROPERTIES.getEnum(KEY_NONDOMINATED_SORTING, Implementation.class,
+				useFastNondominatedSorting() ? Implementation.FAST : Implementation.NAIVE);
 	}
 	
 	/**
@@ -441,6 +500,53 @@ public class Settings {
 		return PROPERTIES.getBoolean(KEY_HYPERVOLUME_ENABLED, true);
 	}
 	
+	/**
+	 * Returns the sampling method used by the Monte Carlo hypervolume.  The default is {@code SOBOL}.
+	 * 
+	 * @return the sampling method used by the Monte Carlo hypervolume
+	 */
+	public static Sampling getHypervolumeSampling() {
+		return PROPERTIES.getEnum(KEY_HYPERVOLUME_SAMPLING, Sampling.class, Sampling.SOBOL);
+	}
+	
+	/**
+	 * Returns the maximum number of samples used by the Monte Carlo hypervolume.  The default is {@code 1000000}.
+	 * 
+	 * @return the maximum number of samples used by the Monte Carlo hypervolume
+	 */
+	public static int getHypervolumeSamples() {
+		return PROPERTIES.getInt(KEY_HYPERVOLUME_SAMPLES, 1000000);
+	}
+	
+	/**
+	 * Returns the target half-width of the confidence interval used by the Monte Carlo hypervolume, allowing it to stop
+	 * before reaching the maximum number of samples.  The default is {@code 0}, which always uses the maximum number
+	 * of samples.
+	 * 
+	 * @return the target half-width of the confidence interval used by the Monte Carlo hypervolume
+	 */
+	public static double getHypervolumeTolerance() {
+		return PROPERTIES.getDouble(KEY_HYPERVOLUME_TOLERANCE, 0.0);
+	}
+	
+	/**
+	 * Returns the confidence level of the error reported by the Monte Carlo hypervolume.  The default is {@code 0.95}.
+	 * 
+	 * @return the confidence level of the error reported by the Monte Carlo hypervolume
+	 */
+	public static double getHypervolumeConfidence() {
+		return PROPERTIES.getDouble(KEY_HYPERVOLUME_CONFIDENCE, 0.95);
+	}
+	
+	/**
+	 * Returns the seed of the random numbers used by the Monte Carlo hypervolume.  The default is {@code 0}.
+	 * 
+	 * @return the seed of the random numbers used by the Monte Carlo hypervolume
+	 */
+	public static long getHypervolumeSeed() {
+		return PROPERTIES.getLong(KEY_HYPERVOLUME_SEED, 0L);
+	}
+	
 	/**
 	 * Returns the configured minimum bounds (ideal point) used for normalization, or {@code null} if not configured.
 	 * 
@@ -571,6 +677,26 @@ public class Settings {
 		return Duration.ofSeconds(PROPERTIES.getInt(KEY_EXTERNAL_SHUTDOWN_TIMEOUT, 10));
 	}
 	
+	/**
+	 * Returns the type of executor used to distribute evaluations.  The default is {@code FIXED}.
+	 * 
+	 * @return the type of executor used to distribute evaluations
+	 */
+	public static ExecutorType getExecutorType() {
+		return PROPERTIES.getEnum(KEY_EXECUTOR_TYPE, ExecutorType.class, ExecutorType.FIXED);
+	}
+	
+	/**
+	 * Returns the concurrency of the executor used to distribute evaluations, which is either the number of threads
+	 * or the maximum number of evaluations running at once depending on the type of executor.  The default is the
+	 * number of available processors.
+	 * 
+	 * @return the concurrency of the executor used to distribute evaluations
+	 */
+	public static int getExecutorConcurrency() {
+		return PROPERTIES.getInt(KEY_EXECUTOR_CONCURRENCY, Runtime.getRuntime().availableProcessors());
+	}
+	
 	/**
 	 * Returns {@code true} if the CMA-ES algorithm has consistency checks enabled.
 	 * 
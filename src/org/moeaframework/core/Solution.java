@@ -62,9 +62,9 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 	private final Constraint[] constraints;
 
 	/**
-	 * The attributes of this solutions.
+	 * The attributes of this solutions, or {@code null} if the map has not yet been created.
 	 */
-	private final Map<String, Serializable> attributes;
+	private Map<String, Serializable> attributes;
 
 	/**
 	 * Constructs a solution with the specified number of variables and objectives with no constraints.
@@ -94,6 +94,23 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 		constraints = new Constraint[numberOfConstraints];
 		attributes = new HashMap<>();
 	}
+	
+	/**
+	 * Constructs a solution with the specified number of variables, leaving the storage of objectives and constraints
+	 * to the subclass.  No objective or constraint objects are allocated and the attribute map is created on first
+	 * use.  Subclasses using this constructor must override {@link #getNumberOfObjectives()},
+	 * {@link #getNumberOfConstraints()}, and every method that reads or writes objectives or constraints.
+	 * 
+	 * @param numberOfVariables the number of variables defined by this solution
+	 */
+	protected Solution(int numberOfVariables) {
+		super();
+		Validate.that("numberOfVariables", numberOfVariables).isGreaterThanOrEqualTo(0);
+		
+		variables = new Variable[numberOfVariables];
+		objectives = null;
+		constraints = null;
+	}
 
 	/**
 	 * Copy constructor.
@@ -217,6 +234,21 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 	public Objective getObjective(int index) {
 		return getObjectiveOrDefault(index);
 	}
+	
+	/**
+	 * Compares the objective at the specified index between this solution and another, accounting for the direction
+	 * of the objective.  This is equivalent to {@code getObjective(index).compareTo(other.getObjective(index))}, but
+	 * subclasses can override this method to compare the values without creating any objectives.
+	 * 
+	 * @param index index of the objective
+	 * @param other the other solution
+	 * @return {@code -1}, {@code 0}, or {@code 1} if the objective in this solution is better, equal to, or worse than
+	 *         the objective in the other solution
+	 * @throws TypeMismatchException if the objectives are different types
+	 */
+	public int compareObjective(int index, Solution other) {
+		return getObjective(index).compareTo(other.getObjective(index));
+	}
 
 	/**
 	 * Sets the objective at the specified index.
@@ -287,9 +319,9 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 	 * @return an array containing the objective values of this solution
 	 */
 	public double[] getObjectiveValues() {
-		double[] result = new double[objectives.length];
+		double[] result = new double[getNumberOfObjectives()];
 		
-		for (int i = 0; i < objectives.length; i++) {
+		for (int i = 0; i < result.length; i++) {
 			result[i] = getObjectiveValue(i);
 		}
 		
@@ -303,9 +335,9 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 	 * @return an array containing the canonical objective values of this solution
 	 */
 	public double[] getCanonicalObjectiveValues() {
-		double[] result = new double[this.objectives.length];
+		double[] result = new double[getNumberOfObjectives()];
 		
-		for (int i = 0; i < objectives.length; i++) {
+		for (int i = 0; i < result.length; i++) {
 			result[i] = getObjective(i).getCanonicalValue();
 		}
 		
@@ -443,7 +475,7 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 	 * @return an array containing the constraint values of this solution
 	 */
 	public double[] getConstraintValues() {
-		double[] constraints = new double[this.constraints.length];
+		double[] constraints = new double[getNumberOfConstraints()];
 		
 		for (int i = 0; i < constraints.length; i++) {
 			constraints[i] = getConstraintValue(i);
@@ -461,7 +493,7 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 	 *         the key
 	 */
 	public Object getAttribute(String key) {
-		return attributes.get(key);
+		return attributes == null ? null : attributes.get(key);
 	}
 
 	/**
@@ -474,7 +506,7 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 	 *         the key
 	 */
 	public Object setAttribute(String key, Serializable value) {
-		return attributes.put(key, value);
+		return getOrCreateAttributes().put(key, value);
 	}
 
 	/**
@@ -486,7 +518,7 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 	 *         the key
 	 */
 	public Object removeAttribute(String key) {
-		return attributes.remove(key);
+		return attributes == null ? null : attributes.remove(key);
 	}
 
 	/**
@@ -496,7 +528,51 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 	 * @return {@code true} if the specified key exists in this solution's attributes; {@code false} otherwise
 	 */
 	public boolean hasAttribute(String key) {
-		return attributes.containsKey(key);
+		return attributes != null && attributes.containsKey(key);
+	}
+	
+	/**
+	 * Returns the value of an integer-valued attribute.  Subclasses may override this method, along with
+	 * {@link #setIntAttribute(String, int)}, to store frequently-used attributes without boxing.
+	 * 
+	 * @param key the key whose associated value is to be returned
+	 * @return the value associated with the specified key
+	 * @throws NullPointerException if no value has been associated with the key
+	 */
+	public int getIntAttribute(String key) {
+		return (Integer)getAttribute(key);
+	}
+	
+	/**
+	 * Associates the integer value with the specified key.
+	 * 
+	 * @param key the key with which the specified value is to be associated
+	 * @param value the value to be associated with the specified key
+	 */
+	public void setIntAttribute(String key, int value) {
+		setAttribute(key, value);
+	}
+	
+	/**
+	 * Returns the value of a double-valued attribute.  Subclasses may override this method, along with
+	 * {@link #setDoubleAttribute(String, double)}, to store frequently-used attributes without boxing.
+	 * 
+	 * @param key the key whose associated value is to be returned
+	 * @return the value associated with the specified key
+	 * @throws NullPointerException if no value has been associated with the key
+	 */
+	public double getDoubleAttribute(String key) {
+		return (Double)getAttribute(key);
+	}
+	
+	/**
+	 * Associates the double value with the specified key.
+	 * 
+	 * @param key the key with which the specified value is to be associated
+	 * @param value the value to be associated with the specified key
+	 */
+	public void setDoubleAttribute(String key, double value) {
+		setAttribute(key, value);
 	}
 
 	/**
@@ -505,6 +581,14 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 	 * @return the {@code Map} containing this solution's attributes
 	 */
 	public Map<String, Serializable> getAttributes() {
+		return getOrCreateAttributes();
+	}
+	
+	private Map<String, Serializable> getOrCreateAttributes() {
+		if (attributes == null) {
+			attributes = new HashMap<>();
+		}
+		
 		return attributes;
 	}
 
@@ -514,14 +598,16 @@ public class Solution implements Copyable<Solution>, Formattable<Solution>, Seri
 	 * @param attributes the {@code Map} containing the attributes to be added to this solution
 	 */
 	public void addAttributes(Map<String, Serializable> attributes) {
-		this.attributes.putAll(attributes);
+		getOrCreateAttributes().putAll(attributes);
 	}
 
 	/**
 	 * Removes all keys and values from this solution's attributes.
 	 */
 	public void clearAttributes() {
-		attributes.clear();
+		if (attributes != null) {
+			attributes.clear();
+		}
 	}
 	
 	/**
@@ -50,7 +50,7 @@ public final class CrowdingDistance implements Attribute {
 	 * @param value the value to set
 	 */
 	public static final void setAttribute(Solution solution, double value) {
-		solution.setAttribute(ATTRIBUTE_NAME, value);
+		solution.setDoubleAttribute(ATTRIBUTE_NAME, value);
 	}
 	
 	/**
@@ -60,7 +60,7 @@ public final class CrowdingDistance implements Attribute {
 	 * @return the stored value
 	 */
 	public static final double getAttribute(Solution solution) {
-		return (Double)solution.getAttribute(ATTRIBUTE_NAME);
+		return solution.getDoubleAttribute(ATTRIBUTE_NAME);
 	}
 
 }
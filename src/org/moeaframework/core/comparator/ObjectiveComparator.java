@@ -42,7 +42,7 @@ public class ObjectiveComparator implements DominanceComparator, Comparator<Solu
 
 	@Override
 	public int compare(Solution solution1, Solution solution2) {
-		return solution1.getObjective(objective).compareTo(solution2.getObjective(objective));
+		return solution1.compareObjective(objective, solution2);
 	}
 
 }
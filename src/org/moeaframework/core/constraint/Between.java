@@ -79,6 +79,11 @@ public class Between extends BoundedConstraint {
 
 	@Override
 	public double getMagnitudeOfViolation() {
+		return getMagnitudeOfViolation(value);
+	}
+	
+	@Override
+	public double getMagnitudeOfViolation(double value) {
 		if (Double.isNaN(value)) {
 			return 0.0;
 		}
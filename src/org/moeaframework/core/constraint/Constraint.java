@@ -63,7 +63,18 @@ public interface Constraint extends Comparable<Constraint>, Copyable<Constraint>
 	 * @return the magnitude of constraint violation
 	 */
 	public double getMagnitudeOfViolation();
-	
+
+	/**
+	 * Returns the magnitude of constraint violation if this constraint had the given value.  The value stored in this
+	 * constraint is not read or modified.
+	 *
+	 * @param value the constraint value
+	 * @return the magnitude of constraint violation
+	 */
+	public default double getMagnitudeOfViolation(double value) {
+		return copy().withValue(value).getMagnitudeOfViolation();
+	}
+
 	/**
 	 * Returns {@code true} if this constraint is violated; {@code false} otherwise.
 	 * 
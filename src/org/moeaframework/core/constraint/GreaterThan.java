@@ -75,6 +75,11 @@ public class GreaterThan extends ThresholdConstraint {
 
 	@Override
 	public double getMagnitudeOfViolation() {
+		return getMagnitudeOfViolation(value);
+	}
+	
+	@Override
+	public double getMagnitudeOfViolation(double value) {
 		if (Double.isNaN(value)) {
 			return 0.0;
 		}
@@ -18,21 +18,37 @@
 package org.moeaframework.core.fitness;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.attribute.Fitness;
+import org.moeaframework.core.indicator.HypervolumeContributions;
 import org.moeaframework.core.indicator.PISAHypervolume;
-import org.moeaframework.core.objective.NormalizedObjective;
+import org.moeaframework.core.objective.Minimize;
 import org.moeaframework.core.population.Population;
 import org.moeaframework.problem.Problem;
-import org.moeaframework.util.validate.Validate;
 
 /**
- * Assigns the fitness of solutions based on their contribution to the overall hypervolume.
+ * Assigns the fitness of solutions based on their contribution to the overall hypervolume.  The contributions are
+ * computed from the objective values, measuring the volume between each solution and the origin as done by
+ * {@link PISAHypervolume#calculateHypervolume(List, int, int)}.
+ * <p>
+ * When all objectives are minimized and non-negative, the contributions are computed by
+ * {@link HypervolumeContributions}, and the contributions from the previous call are retained.  If the next call
+ * differs by only a few solutions, as is typical with steady-state algorithms like SMS-EMOA, the contributions are
+ * updated incrementally instead of being recomputed.  Consequently, this class is not thread safe.
  */
 public class HypervolumeContributionFitnessEvaluator implements FitnessEvaluator {
 	
+	/**
+	 * The maximum number of solutions added or removed between calls that are updated incrementally.
+	 */
+	private static final int MAX_INCREMENTAL_CHANGES = 4;
+	
 	/**
 	 * The problem.
 	 */
@@ -43,6 +59,16 @@ public class HypervolumeContributionFitnessEvaluator implements FitnessEvaluator
 	 */
 	private final double offset;
 	
+	/**
+	 * The contributions computed by the previous call, or {@code null} if not yet evaluated.
+	 */
+	private HypervolumeContributions contributions;
+	
+	/**
+	 * The solutions evaluated by the previous call, in the same order as the contributions.
+	 */
+	private List<Solution> solutions;
+	
 	/**
 	 * Constructs a new hypervolume contribution fitness evaluator with an offset of 100.
 	 * 
@@ -71,55 +97,128 @@ public class HypervolumeContributionFitnessEvaluator implements FitnessEvaluator
 				Fitness.setAttribute(solution, 0.0);
 			}
 		} else {
-			int numberOfObjectives = problem.getNumberOfObjectives();
-			List<Solution> solutions = normalize(population);
-			List<Solution> solutionsCopy = new ArrayList<>(solutions);
+			double[][] points = toPoints(population);
 			
-			double totalVolume = PISAHypervolume.calculateHypervolume(solutionsCopy, solutionsCopy.size(),
-					numberOfObjectives);
+			if (points == null) {
+				contributions = null;
+				solutions = null;
+				evaluateWithPISA(population);
+				return;
+			}
 			
-			for (int i = 0; i < population.size(); i++) {
-				solutionsCopy = new ArrayList<>(solutions);
-				solutionsCopy.remove(i);
-				
-				double volume = PISAHypervolume.calculateHypervolume(solutionsCopy, solutionsCopy.size(),
-						numberOfObjectives);
-				
-				Fitness.setAttribute(population.get(i), totalVolume - volume);
+			if (!update(population, points)) {
+				contributions = new HypervolumeContributions(new double[problem.getNumberOfObjectives()], points);
+				solutions = new ArrayList<>(population.asList());
+			}
+			
+			for (int i = 0; i < solutions.size(); i++) {
+				Fitness.setAttribute(solutions.get(i), contributions.get(i));
 			}
 		}
 	}
 	
 	/**
-	 * Normalizes the population using a reference point calculated by the maximum extent of the population plus an
-	 * offset.
+	 * Attempts to update the contributions from the previous call by removing and adding the few solutions that
+	 * changed.
 	 * 
-	 * @param population the population to normalize
-	 * @return the normalized solutions
+	 * @param population the population being evaluated
+	 * @param points the points of the population
+	 * @return {@code true} if the contributions were updated; {@code false} if they must be recomputed
 	 */
-	private List<Solution> normalize(Population population) {
-		if (population.size() < 2) {
-			Validate.that("population", population)
-				.fails("Requires at least two solutions to compute bounds for normalization");
+	private boolean update(Population population, double[][] points) {
+		if (contributions == null) {
+			return false;
 		}
 		
-		double[] min = population.getLowerBounds();
-		double[] max = population.getUpperBounds();
-		List<Solution> result = new ArrayList<>();
+		Map<Solution, Integer> indices = new IdentityHashMap<>();
+		List<Integer> added = new ArrayList<>();
 		
-		for (Solution solution : population) {
-			Solution newSolution = solution.copy();
+		for (int i = 0; i < solutions.size(); i++) {
+			indices.put(solutions.get(i), i);
+		}
+		
+		for (int i = 0; i < population.size(); i++) {
+			Integer index = indices.get(population.get(i));
 			
-			for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-				NormalizedObjective obj = newSolution.getObjective(i).normalize(min[i], max[i]);
-				obj.setValue(1.0 - obj.getValue() + offset);
+			if (index != null && Arrays.equals(points[i], contributions.getPoint(index))) {
+				indices.remove(population.get(i));
+			} else {
+				added.add(i);
+			}
+		}
+		
+		List<Integer> removed = new ArrayList<>(indices.values());
+		
+		if (removed.size() + added.size() > MAX_INCREMENTAL_CHANGES) {
+			return false;
+		}
+		
+		removed.sort(Comparator.reverseOrder());
+		
+		for (int index : removed) {
+			contributions.remove(index);
+			solutions.remove(index);
+		}
+		
+		for (int index : added) {
+			contributions.add(points[index]);
+			solutions.add(population.get(index));
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Converts the population into points for {@link HypervolumeContributions}, which minimizes each objective with
+	 * respect to a reference point at the origin.  Since the volume is measured from the origin towards larger
+	 * objective values, each point is the negated objective values.
+	 * 
+	 * @param population the population
+	 * @return the points, or {@code null} if any objective is not minimized or has a negative value, in which case
+	 *         the contributions are computed with {@link PISAHypervolume}
+	 */
+	private double[][] toPoints(Population population) {
+		double[][] result = new double[population.size()][problem.getNumberOfObjectives()];
+		
+		for (int i = 0; i < population.size(); i++) {
+			Solution solution = population.get(i);
+			
+			for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
+				double value = solution.getObjectiveValue(j);
+				
+				if (!(solution.getObjective(j) instanceof Minimize) || !(value >= 0.0)) {
+					return null;
+				}
+				
+				result[i][j] = -value;
 			}
-
-			result.add(newSolution);
 		}
 		
 		return result;
 	}
+	
+	/**
+	 * Computes the contribution of each solution by removing it and recomputing the hypervolume.
+	 * 
+	 * @param population the population
+	 */
+	private void evaluateWithPISA(Population population) {
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		List<Solution> solutions = population.asList();
+		
+		double totalVolume = PISAHypervolume.calculateHypervolume(new ArrayList<>(solutions), solutions.size(),
+				numberOfObjectives);
+		
+		for (int i = 0; i < solutions.size(); i++) {
+			List<Solution> solutionsCopy = new ArrayList<>(solutions);
+			solutionsCopy.remove(i);
+			
+			double volume = PISAHypervolume.calculateHypervolume(solutionsCopy, solutionsCopy.size(),
+					numberOfObjectives);
+			
+			Fitness.setAttribute(solutions.get(i), totalVolume - volume);
+		}
+	}
 
 	@Override
 	public boolean areLargerValuesPreferred() {
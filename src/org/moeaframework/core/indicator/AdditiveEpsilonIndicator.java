@@ -17,7 +17,7 @@
  */
 package org.moeaframework.core.indicator;
 
-import org.moeaframework.core.Solution;
+import org.moeaframework.core.indicator.KDTree.Measure;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.problem.Problem;
 
@@ -48,46 +48,29 @@ public class AdditiveEpsilonIndicator extends NormalizedIndicator {
 	public AdditiveEpsilonIndicator(Problem problem, NondominatedPopulation referenceSet, Normalizer normalizer) {
 		super(problem, referenceSet, normalizer);
 	}
-
-	@Override
-	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), getNormalizedReferenceSet());
-	}
-
+	
 	/**
-	 * Computes the additive &epsilon;-indicator for the specified problem given an approximation set and reference
-	 * set.  While not necessary, the approximation and reference sets should be normalized.  Returns
-	 * {@code Double.POSITIVE_INFINITY} if the approximation set is empty.
+	 * Constructs an additive &epsilon;-indicator evaluator sharing an existing normalized reference set.
 	 * 
 	 * @param problem the problem
-	 * @param approximationSet an approximation set for the problem
-	 * @param referenceSet the reference set for the problem
-	 * @return the additive &epsilon;-indicator value for the specified problem given an approximation set and
-	 *         reference set
+	 * @param referenceSetIndex the normalized reference set
 	 */
-	static double evaluate(Problem problem, NondominatedPopulation approximationSet,
-			NondominatedPopulation referenceSet) {
-		double eps_i = 0.0;
-
-		for (int i = 0; i < referenceSet.size(); i++) {
-			Solution solution1 = referenceSet.get(i);
-			double eps_j = Double.POSITIVE_INFINITY;
-
-			for (int j = 0; j < approximationSet.size(); j++) {
-				Solution solution2 = approximationSet.get(j);
-				double eps_k = 0.0;
-
-				for (int k = 0; k < problem.getNumberOfObjectives(); k++) {
-					eps_k = Math.max(eps_k, solution2.getObjectiveValue(k) - solution1.getObjectiveValue(k));
-				}
-
-				eps_j = Math.min(eps_j, eps_k);
-			}
+	AdditiveEpsilonIndicator(Problem problem, ReferenceSetIndex referenceSetIndex) {
+		super(problem, referenceSetIndex);
+	}
 
-			eps_i = Math.max(eps_i, eps_j);
+	@Override
+	public double evaluate(NondominatedPopulation approximationSet) {
+		ReferenceSetIndex index = getReferenceSetIndex();
+		KDTree tree = index.index(index.normalize(approximationSet));
+		double[] epsilons = tree.nearest(index.getPoints(), Measure.ADDITIVE_EPSILON);
+		double max = 0.0;
+		
+		for (double epsilon : epsilons) {
+			max = Math.max(max, epsilon);
 		}
-
-		return eps_i;
+		
+		return max;
 	}
 
 }
@@ -17,13 +17,20 @@
  */
 package org.moeaframework.core.indicator;
 
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.tuple.Pair;
 import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
 import org.moeaframework.core.indicator.Normalizer.NullNormalizer;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.problem.Problem;
@@ -52,6 +59,12 @@ import org.moeaframework.util.validate.Validate;
  *   org.moeaframework.problem.NAME.normalization.delta = 0.2
  *   org.moeaframework.core.indicator.hypervolume.delta = 0.2
  * </pre>
+ * The normalized reference sets are also cached, allowing indicators constructed separately, such as by each
+ * collector in {@link org.moeaframework.analysis.runtime.Instrumenter}, to share the normalized values and any
+ * derived indices.  An entry is reused only if the reference set and the normalizer bounds are unchanged.  The
+ * least recently used entries are evicted when the cache is full.  The cache only weakly references the reference
+ * sets and softly references the normalized copies, so neither is retained by the cache alone.  Since the normalized
+ * reference set is shared, it must not be modified.
  */
 public class DefaultNormalizer {
 	
@@ -80,11 +93,34 @@ public class DefaultNormalizer {
 		DefaultNormalizer.instance = instance;
 	}
 	
+	/**
+	 * The maximum number of normalized reference sets stored in the cache.
+	 */
+	static final int CACHE_SIZE = 16;
+	
+	/**
+	 * The multiplier used when computing the fingerprint of a reference set, taken from the 64-bit FNV-1a hash.
+	 */
+	private static final long FNV_PRIME = 0x100000001b3L;
+	
 	private final List<Pair<Predicate<Problem>, Function<Problem, Normalizer>>> overrides;
+	
+	private final Map<CacheKey, SoftReference<ReferenceSetIndex>> cache;
 
 	private DefaultNormalizer() {
 		super();
 		overrides = new LinkedList<>();
+		
+		cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+			
+			private static final long serialVersionUID = -6245539829446553236L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, SoftReference<ReferenceSetIndex>> eldest) {
+				return size() > CACHE_SIZE;
+			}
+		
+		};
 	}
 	
 	/**
@@ -94,6 +130,46 @@ public class DefaultNormalizer {
 		overrides.clear();
 	}
 	
+	/**
+	 * Removes all cached normalized reference sets.
+	 */
+	public void clearCache() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+	
+	/**
+	 * Returns the reference set normalized by the given normalizer, reusing a cached copy when available.
+	 * 
+	 * @param referenceSet the reference set
+	 * @param normalizer the normalizer
+	 * @return the normalized reference set
+	 */
+	ReferenceSetIndex getReferenceSetIndex(NondominatedPopulation referenceSet, Normalizer normalizer) {
+		// custom normalizers may override how solutions are normalized, so can not be identified by their bounds
+		if (referenceSet.isEmpty() ||
+				(normalizer.getClass() != Normalizer.class && normalizer.getClass() != NullNormalizer.class)) {
+			return new ReferenceSetIndex(referenceSet, normalizer);
+		}
+		
+		CacheKey key = new CacheKey(referenceSet, normalizer);
+		
+		synchronized (cache) {
+			SoftReference<ReferenceSetIndex> reference = cache.get(key);
+			ReferenceSetIndex result = reference != null ? reference.get() : null;
+			
+			if (result == null) {
+				cache.entrySet().removeIf(entry -> entry.getKey().isCleared() || entry.getValue().get() == null);
+				
+				result = new ReferenceSetIndex(referenceSet, normalizer);
+				cache.put(key, new SoftReference<>(result));
+			}
+			
+			return result;
+		}
+	}
+	
 	/**
 	 * Returns the normalizer configured for the given problem and reference set.
 	 * 
@@ -188,6 +264,112 @@ public class DefaultNormalizer {
 		return null;
 	}
 	
+	/**
+	 * Identifies a normalized reference set in the cache.  The reference set is compared by identity along with a
+	 * fingerprint of its contents, so modifying the reference set or any of its solutions invalidates the entry.  The
+	 * reference set is only weakly referenced, so the cache does not prevent it from being garbage collected.
+	 */
+	private static class CacheKey {
+		
+		/**
+		 * The reference set, which is compared by identity.
+		 */
+		private final WeakReference<NondominatedPopulation> referenceSet;
+		
+		/**
+		 * The identity hash code of the reference set, retained since the reference set can be garbage collected.
+		 */
+		private final int identityHash;
+		
+		/**
+		 * The 64-bit fingerprint of the objective values and constraint violations when this key was created.
+		 */
+		private final long fingerprint;
+		
+		/**
+		 * The class of the normalizer.
+		 */
+		private final Class<?> type;
+		
+		/**
+		 * The minimum bounds of the normalizer.
+		 */
+		private final double[] minimum;
+		
+		/**
+		 * The maximum bounds of the normalizer.
+		 */
+		private final double[] maximum;
+		
+		/**
+		 * Constructs a new key for the reference set and normalizer.
+		 * 
+		 * @param referenceSet the reference set
+		 * @param normalizer the normalizer
+		 */
+		public CacheKey(NondominatedPopulation referenceSet, Normalizer normalizer) {
+			super();
+			this.referenceSet = new WeakReference<>(referenceSet);
+			this.identityHash = System.identityHashCode(referenceSet);
+			this.type = normalizer.getClass();
+			this.minimum = normalizer.getMinimum();
+			this.maximum = normalizer.getMaximum();
+			
+			long hash = referenceSet.size();
+			
+			for (Solution solution : referenceSet) {
+				hash = (hash ^ (solution.violatesConstraints() ? 1L : 0L)) * FNV_PRIME;
+				
+				for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+					hash = (hash ^ Double.doubleToLongBits(solution.getObjectiveValue(i))) * FNV_PRIME;
+				}
+			}
+			
+			this.fingerprint = hash;
+		}
+		
+		/**
+		 * Returns {@code true} if the reference set was garbage collected, in which case this key can never match.
+		 * 
+		 * @return {@code true} if the reference set was garbage collected; {@code false} otherwise
+		 */
+		public boolean isCleared() {
+			return referenceSet.get() == null;
+		}
+		
+		@Override
+		public int hashCode() {
+			return new HashCodeBuilder()
+					.append(identityHash)
+					.append(fingerprint)
+					.append(type)
+					.append(minimum)
+					.append(maximum)
+					.toHashCode();
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			} else if ((obj == null) || (obj.getClass() != getClass())) {
+				return false;
+			} else {
+				CacheKey rhs = (CacheKey)obj;
+				NondominatedPopulation lhsReferenceSet = referenceSet.get();
+				
+				return new EqualsBuilder()
+						.append(lhsReferenceSet != null && lhsReferenceSet == rhs.referenceSet.get(), true)
+						.append(fingerprint, rhs.fingerprint)
+						.append(type, rhs.type)
+						.append(minimum, rhs.minimum)
+						.append(maximum, rhs.maximum)
+						.isEquals();
+			}
+		}
+	
+	}
+	
 	/**
 	 * Provides specific minimum and maximum bounds used for normalizing the given problem.
 	 * 
@@ -18,6 +18,7 @@
 package org.moeaframework.core.indicator;
 
 import org.moeaframework.core.Settings;
+import org.moeaframework.core.indicator.KDTree.Measure;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.problem.Problem;
 
@@ -68,35 +69,35 @@ public class GenerationalDistance extends NormalizedIndicator {
 		super(problem, referenceSet, normalizer);
 		this.d = d;
 	}
-
-	@Override
-	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), getNormalizedReferenceSet(), d);
-	}
-
+	
 	/**
-	 * Computes the generational distance for the specified problem given an approximation set and reference set.
-	 * While not necessary, the approximation and reference sets should be normalized.  Returns
-	 * {@code Double.POSITIVE_INFINITY} if the approximation set is empty.
+	 * Constructs a generational distance evaluator sharing an existing normalized reference set.
 	 * 
 	 * @param problem the problem
-	 * @param approximationSet an approximation set for the problem
-	 * @param referenceSet the reference set for the problem
+	 * @param referenceSetIndex the normalized reference set
 	 * @param d the power, typically {@code 2.0}
-	 * @return the generational distance for the specified problem given an approximation set and reference set
 	 */
-	static double evaluate(Problem problem, NondominatedPopulation approximationSet,
-			NondominatedPopulation referenceSet, double d) {
-		double sum = 0.0;
+	GenerationalDistance(Problem problem, ReferenceSetIndex referenceSetIndex, double d) {
+		super(problem, referenceSetIndex);
+		this.d = d;
+	}
+
+	@Override
+	public double evaluate(NondominatedPopulation approximationSet) {
+		ReferenceSetIndex index = getReferenceSetIndex();
+		double[][] points = index.normalize(approximationSet);
 		
-		if (approximationSet.isEmpty()) {
+		if (points.length == 0) {
 			return Double.POSITIVE_INFINITY;
 		}
-
-		for (int i = 0; i < approximationSet.size(); i++) {
-			sum += Math.pow(approximationSet.get(i).distanceToNearestSolution(referenceSet), d);
+		
+		double[] distances = index.getTree().nearest(points, Measure.EUCLIDEAN);
+		double sum = 0.0;
+		
+		for (double distance : distances) {
+			sum += Math.pow(distance, d);
 		}
 		
-		return Math.pow(sum, 1.0 / d) / approximationSet.size();
+		return Math.pow(sum, 1.0 / d) / distances.length;
 	}
 }
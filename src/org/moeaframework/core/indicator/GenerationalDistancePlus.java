@@ -17,10 +17,9 @@
  */
 package org.moeaframework.core.indicator;
 
-import org.moeaframework.core.Solution;
+import org.moeaframework.core.indicator.KDTree.Measure;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.problem.Problem;
-import org.moeaframework.util.clustering.DistanceMeasure;
 
 /**
  * Generational distance plus (GD+) indicator.  The "plus" variant differs in two ways:
@@ -38,21 +37,6 @@ import org.moeaframework.util.clustering.DistanceMeasure;
  */
 public class GenerationalDistancePlus extends NormalizedIndicator {
 	
-	/**
-	 * The modified distance calculation used by the plus indicators as described in equation (18) in the cited paper.
-	 */
-	private static final DistanceMeasure<Solution> PlusDistanceMeasure = (approximationPoint, referencePoint) -> {
-		double sum = 0.0;
-
-		for (int i = 0; i < approximationPoint.getNumberOfObjectives(); i++) {
-			sum += Math.pow(
-					Math.max(approximationPoint.getObjectiveValue(i) - referencePoint.getObjectiveValue(i), 0.0),
-					2.0);
-		}
-
-		return Math.sqrt(sum);
-	};
-
 	/**
 	 * Constructs a generational distance plus evaluator for the specified problem and corresponding reference set.
 	 * The default normalization procedure, as specified by {@link DefaultNormalizer}, is used.
@@ -74,34 +58,33 @@ public class GenerationalDistancePlus extends NormalizedIndicator {
 	public GenerationalDistancePlus(Problem problem, NondominatedPopulation referenceSet, Normalizer normalizer) {
 		super(problem, referenceSet, normalizer);
 	}
-
-	@Override
-	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), getNormalizedReferenceSet());
-	}
-
+	
 	/**
-	 * Computes the generational distance plus for the specified problem given an approximation set and reference set.
-	 * While not necessary, the approximation and reference sets should be normalized.  Returns
-	 * {@code Double.POSITIVE_INFINITY} if the approximation set is empty.
+	 * Constructs a generational distance plus evaluator sharing an existing normalized reference set.
 	 * 
 	 * @param problem the problem
-	 * @param approximationSet an approximation set for the problem
-	 * @param referenceSet the reference set for the problem
-	 * @return the generational distance plus for the specified problem given an approximation set and reference set
+	 * @param referenceSetIndex the normalized reference set
 	 */
-	static double evaluate(Problem problem, NondominatedPopulation approximationSet,
-			NondominatedPopulation referenceSet) {
-		double sum = 0.0;
+	GenerationalDistancePlus(Problem problem, ReferenceSetIndex referenceSetIndex) {
+		super(problem, referenceSetIndex);
+	}
+
+	@Override
+	public double evaluate(NondominatedPopulation approximationSet) {
+		ReferenceSetIndex index = getReferenceSetIndex();
+		double[][] points = index.normalize(approximationSet);
 		
-		if (approximationSet.isEmpty()) {
+		if (points.length == 0) {
 			return Double.POSITIVE_INFINITY;
 		}
-
-		for (int i = 0; i < approximationSet.size(); i++) {
-			sum += approximationSet.get(i).distanceToNearestSolution(referenceSet, PlusDistanceMeasure);
+		
+		double[] distances = index.getTree().nearest(points, Measure.PLUS);
+		double sum = 0.0;
+		
+		for (double distance : distances) {
+			sum += distance;
 		}
 		
-		return sum / approximationSet.size();
+		return sum / distances.length;
 	}
 }
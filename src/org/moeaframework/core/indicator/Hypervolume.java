@@ -75,6 +75,7 @@ public class Hypervolume implements Indicator {
 			instance = switch (selection.toLowerCase()) {
 				case "pisa" -> new PISAHypervolume(problem, normalizer);
 				case "wfg" -> new WFGNormalizedHypervolume(problem, normalizer);
+				case "montecarlo" -> new MonteCarloHypervolume(problem, normalizer);
 				default -> new NativeHypervolume(problem, normalizer);
 			};
 		} else {
@@ -0,0 +1,645 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Computes the exclusive hypervolume contribution of each point in a set.  The exclusive contribution of a point is
+ * the volume dominated by that point and no other point in the set, or equivalently the amount the hypervolume of the
+ * set decreases when the point is removed.  All objectives are minimized and the volume is measured with respect to a
+ * reference point.  Points that do not strictly dominate the reference point, are dominated by another point, or
+ * are duplicates of another point contribute nothing.
+ * <p>
+ * The contributions are computed using a method specific to the number of objectives:
+ * <ol>
+ *   <li>For two and three objectives, a dimension sweep maintaining the two-dimensional front in a balanced tree
+ *       computes all contributions in {@code O(N log N)} time [1].  Each point on the front also tracks the points
+ *       it dominates, which reduce its exclusive area.
+ *   <li>For four or more objectives, each contribution is computed as the inclusive volume of the point minus the
+ *       hypervolume of the limit set, using {@link WFGHypervolume} [2].
+ * </ol>
+ * Additionally, this class can update the contributions as points are added or removed.  With four or more
+ * objectives, only the contributions of points whose exclusive region overlaps the added or removed point are
+ * recomputed, which is typically a small subset when the set is a mutually non-dominated front.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Emmerich, M. and Fonseca, C.  "Computing Hypervolume Contributions in Low Dimensions: Asymptotically
+ *       Optimal Algorithm and Complexity Results."  Evolutionary Multi-Criterion Optimization, pp. 121-135, 2011.
+ *   <li>While, R. L., et al.  "A Fast Way of Calculating Exact Hypervolumes."  IEEE Transactions on Evolutionary
+ *       Computation, 16(1):86-95, 2012.
+ * </ol>
+ */
+public class HypervolumeContributions {
+	
+	/**
+	 * The reference point.
+	 */
+	private final double[] referencePoint;
+	
+	/**
+	 * The points in this set.
+	 */
+	private final List<double[]> points;
+	
+	/**
+	 * The exclusive contribution of each point.
+	 */
+	private double[] contributions;
+	
+	/**
+	 * Constructs an empty set of points using the given reference point.
+	 * 
+	 * @param referencePoint the reference point
+	 */
+	public HypervolumeContributions(double[] referencePoint) {
+		super();
+		
+		Validate.that("referencePoint", referencePoint).isNotNull();
+		Validate.that("referencePoint.length", referencePoint.length).isGreaterThan(0);
+		
+		this.referencePoint = referencePoint.clone();
+		this.points = new ArrayList<>();
+		this.contributions = new double[0];
+	}
+	
+	/**
+	 * Constructs a set of points using the given reference point.
+	 * 
+	 * @param referencePoint the reference point
+	 * @param points the initial points
+	 */
+	public HypervolumeContributions(double[] referencePoint, double[][] points) {
+		this(referencePoint);
+		
+		for (double[] point : points) {
+			validate(point);
+			this.points.add(point.clone());
+		}
+		
+		contributions = calculate(this.points, this.referencePoint);
+	}
+	
+	/**
+	 * Returns the number of points in this set.
+	 * 
+	 * @return the number of points
+	 */
+	public int size() {
+		return points.size();
+	}
+	
+	/**
+	 * Returns the point at the given index.
+	 * 
+	 * @param index the index
+	 * @return the point
+	 */
+	public double[] getPoint(int index) {
+		return points.get(index).clone();
+	}
+	
+	/**
+	 * Returns the exclusive contribution of the point at the given index.
+	 * 
+	 * @param index the index
+	 * @return the exclusive contribution
+	 */
+	public double get(int index) {
+		Objects.checkIndex(index, size());
+		return contributions[index];
+	}
+	
+	/**
+	 * Appends a point to this set, updating the contributions of all affected points.
+	 * 
+	 * @param point the point to add
+	 */
+	public void add(double[] point) {
+		validate(point);
+		
+		double[] newPoint = point.clone();
+		int[] affected = referencePoint.length > 3 ? findAffected(newPoint) : null;
+		
+		points.add(newPoint);
+		
+		if (affected == null) {
+			contributions = calculate(points, referencePoint);
+		} else {
+			contributions = Arrays.copyOf(contributions, points.size());
+			contributions[points.size() - 1] = exclusive(points, points.size() - 1, referencePoint);
+			
+			for (int index : affected) {
+				contributions[index] = exclusive(points, index, referencePoint);
+			}
+		}
+	}
+	
+	/**
+	 * Removes the point at the given index from this set, updating the contributions of all affected points.  The
+	 * indices of any subsequent points are shifted down by one.
+	 * 
+	 * @param index the index of the point to remove
+	 */
+	public void remove(int index) {
+		Objects.checkIndex(index, size());
+		
+		double[] oldPoint = points.remove(index);
+		System.arraycopy(contributions, index + 1, contributions, index, points.size() - index);
+		contributions = Arrays.copyOf(contributions, points.size());
+		
+		if (referencePoint.length > 3) {
+			for (int affected : findAffected(oldPoint)) {
+				contributions[affected] = exclusive(points, affected, referencePoint);
+			}
+		} else {
+			contributions = calculate(points, referencePoint);
+		}
+	}
+	
+	/**
+	 * Identifies the points whose exclusive region overlaps the region dominated by the given point, which is not
+	 * a member of this set.  These are the only points whose contributions change when the given point is added
+	 * or removed.  The regions overlap if the component-wise maximum of the two points is not weakly dominated by
+	 * any other point.
+	 * 
+	 * @param point the point being added or removed
+	 * @return the indices of the affected points
+	 */
+	private int[] findAffected(double[] point) {
+		int[] result = new int[points.size()];
+		int count = 0;
+		double[] corner = new double[point.length];
+		
+		for (int i = 0; i < points.size(); i++) {
+			double[] other = points.get(i);
+			
+			for (int j = 0; j < point.length; j++) {
+				corner[j] = Math.max(point[j], other[j]);
+			}
+			
+			if (!isInside(corner, referencePoint, point.length)) {
+				continue;
+			}
+			
+			boolean covered = false;
+			
+			for (int k = 0; k < points.size() && !covered; k++) {
+				covered = k != i && weaklyDominates(points.get(k), corner, point.length);
+			}
+			
+			if (!covered) {
+				result[count++] = i;
+			}
+		}
+		
+		return Arrays.copyOf(result, count);
+	}
+	
+	/**
+	 * Validates the given point has the correct number of objectives.
+	 * 
+	 * @param point the point
+	 */
+	private void validate(double[] point) {
+		Validate.that("point", point).isNotNull();
+		Validate.that("point.length", point.length).isEqualTo("referencePoint.length", referencePoint.length);
+	}
+	
+	/**
+	 * Computes the exclusive hypervolume contribution of each point.
+	 * 
+	 * @param points the points, where all objectives are minimized
+	 * @param referencePoint the reference point
+	 * @return the exclusive contribution of each point
+	 */
+	public static double[] calculate(double[][] points, double[] referencePoint) {
+		return calculate(Arrays.asList(points), referencePoint);
+	}
+	
+	/**
+	 * Computes the exclusive hypervolume contribution of each point.
+	 * 
+	 * @param points the points, where all objectives are minimized
+	 * @param referencePoint the reference point
+	 * @return the exclusive contribution of each point
+	 */
+	private static double[] calculate(List<double[]> points, double[] referencePoint) {
+		return switch (referencePoint.length) {
+			case 1 -> sweep1D(points, referencePoint);
+			case 2 -> sweep3D(points, referencePoint, true);
+			case 3 -> sweep3D(points, referencePoint, false);
+			default -> {
+				double[] result = new double[points.size()];
+				
+				for (int i = 0; i < points.size(); i++) {
+					result[i] = exclusive(points, i, referencePoint);
+				}
+				
+				yield result;
+			}
+		};
+	}
+	
+	/**
+	 * Computes the contributions for a single objective.  Only a unique best point has a non-zero contribution.
+	 * 
+	 * @param points the points
+	 * @param referencePoint the reference point
+	 * @return the exclusive contribution of each point
+	 */
+	private static double[] sweep1D(List<double[]> points, double[] referencePoint) {
+		double[] result = new double[points.size()];
+		int best = -1;
+		double second = referencePoint[0];
+		
+		for (int i = 0; i < points.size(); i++) {
+			double value = points.get(i)[0];
+			
+			if (best < 0 || value < points.get(best)[0]) {
+				if (best >= 0) {
+					second = Math.min(second, points.get(best)[0]);
+				}
+				
+				best = i;
+			} else {
+				second = Math.min(second, value);
+			}
+		}
+		
+		if (best >= 0 && points.get(best)[0] < second) {
+			result[best] = second - points.get(best)[0];
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Computes the contributions for two or three objectives by sweeping along the third objective while maintaining
+	 * the two-dimensional front of the points processed so far.  Each point on the front tracks its exclusive area
+	 * within the current slice, which only changes when a neighbor is inserted or a point it dominates is
+	 * encountered.  The exclusive volume is the integral of this area over the sweep.  The two objective case is
+	 * handled as a single slice of unit height.
+	 * 
+	 * @param points the points
+	 * @param referencePoint the reference point
+	 * @param planar {@code true} if the points have two objectives; {@code false} if they have three
+	 * @return the exclusive contribution of each point
+	 */
+	private static double[] sweep3D(List<double[]> points, double[] referencePoint, boolean planar) {
+		double[] result = new double[points.size()];
+		Integer[] order = new Integer[points.size()];
+		
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		
+		if (!planar) {
+			Arrays.sort(order, Comparator.comparingDouble(i -> points.get(i)[2]));
+		}
+		
+		TreeMap<Double, SweepNode> front = new TreeMap<>();
+		SweepContext context = new SweepContext(front, referencePoint, result);
+		
+		for (int index : order) {
+			double[] point = points.get(index);
+			
+			if (!isInside(point, referencePoint, referencePoint.length)) {
+				continue;
+			}
+			
+			double z = planar ? 0.0 : point[2];
+			Map.Entry<Double, SweepNode> floor = front.floorEntry(point[0]);
+			
+			// a dominated point contributes nothing, but it covers part of the dominating point's exclusive area
+			if (floor != null && floor.getValue().y <= point[1]) {
+				SweepNode node = floor.getValue();
+				node.addShadow(point[0], point[1]);
+				context.update(node, z);
+				continue;
+			}
+			
+			// points removed from the front remain in the slice and cover part of the new point's exclusive area
+			SweepNode node = new SweepNode(point[0], point[1], z, index);
+			Map.Entry<Double, SweepNode> entry = front.ceilingEntry(point[0]);
+			
+			while (entry != null && entry.getValue().y >= point[1]) {
+				SweepNode removed = entry.getValue();
+				context.flush(removed, z);
+				node.addShadow(removed.x, removed.y);
+				front.remove(entry.getKey());
+				entry = front.higherEntry(entry.getKey());
+			}
+			
+			front.put(point[0], node);
+			
+			context.update(node, z);
+			context.update(front.lowerEntry(point[0]), z);
+			context.update(front.higherEntry(point[0]), z);
+		}
+		
+		double end = planar ? 1.0 : referencePoint[2];
+		
+		for (SweepNode node : front.values()) {
+			context.flush(node, end);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Computes the exclusive contribution of a single point as its inclusive volume minus the hypervolume of the
+	 * limit set, formed by the component-wise maximum of the point with every other point.
+	 * 
+	 * @param points the points
+	 * @param index the index of the contributing point
+	 * @param referencePoint the reference point
+	 * @return the exclusive contribution
+	 */
+	private static double exclusive(List<double[]> points, int index, double[] referencePoint) {
+		int numberOfObjectives = referencePoint.length;
+		double[] point = points.get(index);
+		
+		if (!isInside(point, referencePoint, numberOfObjectives)) {
+			return 0.0;
+		}
+		
+		List<double[]> limitSet = new ArrayList<>();
+		
+		for (int i = 0; i < points.size(); i++) {
+			if (i != index) {
+				double[] limited = new double[numberOfObjectives];
+				
+				for (int j = 0; j < numberOfObjectives; j++) {
+					limited[j] = Math.max(point[j], points.get(i)[j]);
+				}
+				
+				if (isInside(limited, referencePoint, numberOfObjectives)) {
+					limitSet.add(limited);
+				}
+			}
+		}
+		
+		return inclusive(point, referencePoint, numberOfObjectives) -
+				WFGHypervolume.calculate(limitSet.toArray(double[][]::new), referencePoint);
+	}
+	
+	/**
+	 * Returns the volume dominated by a single point.
+	 * 
+	 * @param point the point
+	 * @param referencePoint the reference point
+	 * @param numberOfObjectives the number of objectives considered
+	 * @return the volume dominated by the point
+	 */
+	private static double inclusive(double[] point, double[] referencePoint, int numberOfObjectives) {
+		double volume = 1.0;
+		
+		for (int i = 0; i < numberOfObjectives; i++) {
+			volume *= referencePoint[i] - point[i];
+		}
+		
+		return volume;
+	}
+	
+	/**
+	 * Returns {@code true} if the point strictly dominates the reference point in every objective.
+	 * 
+	 * @param point the point
+	 * @param referencePoint the reference point
+	 * @param numberOfObjectives the number of objectives considered
+	 * @return {@code true} if the point dominates a non-zero volume; {@code false} otherwise
+	 */
+	private static boolean isInside(double[] point, double[] referencePoint, int numberOfObjectives) {
+		for (int i = 0; i < numberOfObjectives; i++) {
+			if (!(point[i] < referencePoint[i])) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Returns {@code true} if the first point is less than or equal to the second point in every objective.
+	 * 
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @param numberOfObjectives the number of objectives considered
+	 * @return {@code true} if the first point weakly dominates the second; {@code false} otherwise
+	 */
+	private static boolean weaklyDominates(double[] point1, double[] point2, int numberOfObjectives) {
+		for (int i = 0; i < numberOfObjectives; i++) {
+			if (point1[i] > point2[i]) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * A point on the two-dimensional front maintained by {@link HypervolumeContributions#sweep3D}.
+	 */
+	private static class SweepNode {
+		
+		/**
+		 * The first objective value.
+		 */
+		private final double x;
+		
+		/**
+		 * The second objective value.
+		 */
+		private final double y;
+		
+		/**
+		 * The index of the point.
+		 */
+		private final int index;
+		
+		/**
+		 * The exclusive area of this point within the current slice.
+		 */
+		private double area;
+		
+		/**
+		 * The position along the sweep when the area was last updated.
+		 */
+		private double since;
+		
+		/**
+		 * The points weakly dominated by this point in the first two objectives, stored as a non-dominated staircase
+		 * mapping the first objective value to the second.  These points reduce this point's exclusive area.
+		 */
+		private final TreeMap<Double, Double> shadows;
+		
+		/**
+		 * Constructs a new node.
+		 * 
+		 * @param x the first objective value
+		 * @param y the second objective value
+		 * @param z the third objective value, or {@code 0} if the points have two objectives
+		 * @param index the index of the point
+		 */
+		public SweepNode(double x, double y, double z, int index) {
+			super();
+			this.x = x;
+			this.y = y;
+			this.index = index;
+			this.since = z;
+			this.shadows = new TreeMap<>();
+		}
+		
+		/**
+		 * Records a point weakly dominated by this point in the first two objectives.
+		 * 
+		 * @param x the first objective value of the dominated point
+		 * @param y the second objective value of the dominated point
+		 */
+		public void addShadow(double x, double y) {
+			Map.Entry<Double, Double> floor = shadows.floorEntry(x);
+			
+			if (floor != null && floor.getValue() <= y) {
+				return;
+			}
+			
+			Map.Entry<Double, Double> entry = shadows.ceilingEntry(x);
+			
+			while (entry != null && entry.getValue() >= y) {
+				shadows.remove(entry.getKey());
+				entry = shadows.higherEntry(entry.getKey());
+			}
+			
+			shadows.put(x, y);
+		}
+		
+		/**
+		 * Computes the exclusive area of this point within the box bounded by its neighbors, discarding any shadows
+		 * that fall outside the box.  Since the box only shrinks as points are inserted, discarded shadows are never
+		 * needed again.
+		 * 
+		 * @param right the first objective value bounding the box
+		 * @param top the second objective value bounding the box
+		 * @return the exclusive area
+		 */
+		public double computeArea(double right, double top) {
+			shadows.tailMap(right, true).clear();
+			
+			while (!shadows.isEmpty() && shadows.firstEntry().getValue() >= top) {
+				shadows.pollFirstEntry();
+			}
+			
+			double area = (right - x) * (top - y);
+			double height = top;
+			
+			for (Map.Entry<Double, Double> entry : shadows.entrySet()) {
+				area -= (right - entry.getKey()) * (height - entry.getValue());
+				height = entry.getValue();
+			}
+			
+			return area;
+		}
+	
+	}
+	
+	/**
+	 * State shared by the operations of {@link HypervolumeContributions#sweep3D}.
+	 */
+	private static class SweepContext {
+		
+		/**
+		 * The two-dimensional front, keyed by the first objective value.
+		 */
+		private final TreeMap<Double, SweepNode> front;
+		
+		/**
+		 * The reference point.
+		 */
+		private final double[] referencePoint;
+		
+		/**
+		 * The accumulated contributions.
+		 */
+		private final double[] result;
+		
+		/**
+		 * Constructs the context for a sweep.
+		 * 
+		 * @param front the two-dimensional front
+		 * @param referencePoint the reference point
+		 * @param result the accumulated contributions
+		 */
+		public SweepContext(TreeMap<Double, SweepNode> front, double[] referencePoint, double[] result) {
+			super();
+			this.front = front;
+			this.referencePoint = referencePoint;
+			this.result = result;
+		}
+		
+		/**
+		 * Accumulates the volume contributed by the node since its last update.
+		 * 
+		 * @param node the node
+		 * @param z the current position along the sweep
+		 */
+		public void flush(SweepNode node, double z) {
+			result[node.index] += node.area * (z - node.since);
+			node.since = z;
+		}
+		
+		/**
+		 * Recomputes the exclusive area of a node after its neighbors change.
+		 * 
+		 * @param entry the entry containing the node, or {@code null}
+		 * @param z the current position along the sweep
+		 */
+		public void update(Map.Entry<Double, SweepNode> entry, double z) {
+			if (entry != null) {
+				update(entry.getValue(), z);
+			}
+		}
+		
+		/**
+		 * Recomputes the exclusive area of a node after its neighbors change.
+		 * 
+		 * @param node the node
+		 * @param z the current position along the sweep
+		 */
+		public void update(SweepNode node, double z) {
+			flush(node, z);
+			
+			Double next = front.higherKey(node.x);
+			Map.Entry<Double, SweepNode> previous = front.lowerEntry(node.x);
+			
+			node.area = node.computeArea(next == null ? referencePoint[0] : next,
+					previous == null ? referencePoint[1] : previous.getValue().y);
+		}
+	
+	}
+
+}
@@ -37,6 +37,9 @@ import org.moeaframework.util.validate.Validate;
  * Helper for evaluating multiple performance indicators, primarily for avoiding repetitive calculations that
  * would occur if creating each indicator separately.  Normalized indicators are, by default, normalized using the
  * provided reference set.  See {@link DefaultNormalizer} for ways to customize normalization.
+ * <p>
+ * Once configured, {@link #apply(NondominatedPopulation)} can be called from multiple threads.  The indicators are
+ * created on first use, so the configuration must not be changed afterwards.
  */
 public class Indicators implements Function<NondominatedPopulation, Indicators.IndicatorValues> {
 
@@ -71,6 +74,11 @@ public class Indicators implements Function<NondominatedPopulation, Indicators.I
 	 * {@link RIndicator#getDefaultSubdivisions(Problem)}.
 	 */
 	private Optional<Integer> subdivisions;
+	
+	/**
+	 * The normalized reference set shared by the distance-based indicators.
+	 */
+	private ReferenceSetIndex referenceSetIndex;
 
 	/**
 	 * The cached hypervolume indicator.
@@ -162,33 +170,34 @@ public class Indicators implements Function<NondominatedPopulation, Indicators.I
 		subdivisions = Optional.empty();
 	}
 	
-	private void initialize() {
+	private synchronized void initialize() {
 		if (selectedIndicators.contains(StandardIndicator.Hypervolume) && hypervolume == null) {
 			hypervolume = normalizer == null ? new Hypervolume(problem, referenceSet) : new Hypervolume(problem, normalizer);
 		}
 		
 		if (selectedIndicators.contains(StandardIndicator.GenerationalDistance) && generationalDistance == null) {
-			generationalDistance = new GenerationalDistance(problem, referenceSet, normalizer, Settings.getGDPower());
+			generationalDistance = new GenerationalDistance(problem, getReferenceSetIndex(), Settings.getGDPower());
 		}
 		
 		if (selectedIndicators.contains(StandardIndicator.GenerationalDistancePlus) && generationalDistancePlus == null) {
-			generationalDistancePlus = new GenerationalDistancePlus(problem, referenceSet, normalizer);
+			generationalDistancePlus = new GenerationalDistancePlus(problem, getReferenceSetIndex());
 		}
 		
 		if (selectedIndicators.contains(StandardIndicator.InvertedGenerationalDistance) && invertedGenerationalDistance == null) {
-			invertedGenerationalDistance = new InvertedGenerationalDistance(problem, referenceSet, normalizer, Settings.getIGDPower());
+			invertedGenerationalDistance = new InvertedGenerationalDistance(problem, getReferenceSetIndex(),
+					Settings.getIGDPower());
 		}
 		
 		if (selectedIndicators.contains(StandardIndicator.InvertedGenerationalDistancePlus) && invertedGenerationalDistancePlus == null) {
-			invertedGenerationalDistancePlus = new InvertedGenerationalDistancePlus(problem, referenceSet, normalizer);
+			invertedGenerationalDistancePlus = new InvertedGenerationalDistancePlus(problem, getReferenceSetIndex());
 		}
 		
 		if (selectedIndicators.contains(StandardIndicator.AdditiveEpsilonIndicator) && additiveEpsilonIndicator == null) {
-			additiveEpsilonIndicator = new AdditiveEpsilonIndicator(problem, referenceSet, normalizer);
+			additiveEpsilonIndicator = new AdditiveEpsilonIndicator(problem, getReferenceSetIndex());
 		}
 		
 		if (selectedIndicators.contains(StandardIndicator.MaximumParetoFrontError) && maximumParetoFrontError == null) {
-			maximumParetoFrontError = new MaximumParetoFrontError(problem, referenceSet, normalizer);
+			maximumParetoFrontError = new MaximumParetoFrontError(problem, getReferenceSetIndex());
 		}
 		
 		if (selectedIndicators.contains(StandardIndicator.Spacing) && spacing == null) {
@@ -224,6 +233,23 @@ public class Indicators implements Function<NondominatedPopulation, Indicators.I
 		}
 	}
 	
+	/**
+	 * Returns the normalized reference set shared by the distance-based indicators, creating it on first use.  These
+	 * indicators all use the same normalizer, so the reference set only needs to be normalized and indexed once.
+	 * 
+	 * @return the normalized reference set
+	 */
+	private ReferenceSetIndex getReferenceSetIndex() {
+		if (referenceSetIndex == null) {
+			DefaultNormalizer defaultNormalizer = DefaultNormalizer.getInstance();
+			
+			referenceSetIndex = defaultNormalizer.getReferenceSetIndex(referenceSet, normalizer == null ?
+					defaultNormalizer.getNormalizer(problem, referenceSet) : normalizer);
+		}
+		
+		return referenceSetIndex;
+	}
+	
 	@Override
 	public IndicatorValues apply(NondominatedPopulation approximationSet) {
 		initialize();
@@ -18,6 +18,7 @@
 package org.moeaframework.core.indicator;
 
 import org.moeaframework.core.Settings;
+import org.moeaframework.core.indicator.KDTree.Measure;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.problem.Problem;
 
@@ -67,31 +68,30 @@ public class InvertedGenerationalDistance extends NormalizedIndicator {
 		super(problem, referenceSet, normalizer);
 		this.d = d;
 	}
-
-	@Override
-	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), getNormalizedReferenceSet(), d);
-	}
-
+	
 	/**
-	 * Computes the inverted generational distance for the specified problem given an approximation set and reference
-	 * set.  While not necessary, the approximation and reference sets should be normalized.  Returns
-	 * {@code Double.POSITIVE_INFINITY} if the approximation set is empty.
+	 * Constructs an inverted generational distance evaluator sharing an existing normalized reference set.
 	 * 
 	 * @param problem the problem
-	 * @param approximationSet an approximation set for the problem
-	 * @param referenceSet the reference set for the problem
+	 * @param referenceSetIndex the normalized reference set
 	 * @param d the power, typically {@code 1.0}
-	 * @return the inverted generational distance for the specified problem given an approximation set and reference set
 	 */
-	static double evaluate(Problem problem, NondominatedPopulation approximationSet,
-			NondominatedPopulation referenceSet, double d) {
-		double sum = 0.0;
+	InvertedGenerationalDistance(Problem problem, ReferenceSetIndex referenceSetIndex, double d) {
+		super(problem, referenceSetIndex);
+		this.d = d;
+	}
 
-		for (int i = 0; i < referenceSet.size(); i++) {
-			sum += Math.pow(referenceSet.get(i).distanceToNearestSolution(approximationSet), d);
+	@Override
+	public double evaluate(NondominatedPopulation approximationSet) {
+		ReferenceSetIndex index = getReferenceSetIndex();
+		KDTree tree = index.index(index.normalize(approximationSet));
+		double[] distances = tree.nearest(index.getPoints(), Measure.EUCLIDEAN);
+		double sum = 0.0;
+		
+		for (double distance : distances) {
+			sum += Math.pow(distance, d);
 		}
-
-		return Math.pow(sum, 1.0 / d) / referenceSet.size();
+		
+		return Math.pow(sum, 1.0 / d) / distances.length;
 	}
 }
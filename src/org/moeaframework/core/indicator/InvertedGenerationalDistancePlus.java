@@ -17,10 +17,9 @@
  */
 package org.moeaframework.core.indicator;
 
-import org.moeaframework.core.Solution;
+import org.moeaframework.core.indicator.KDTree.Measure;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.problem.Problem;
-import org.moeaframework.util.clustering.DistanceMeasure;
 
 /**
  * Inverted generational distance plus (IGD+) indicator.  The "plus" variant differs in two ways:
@@ -38,22 +37,6 @@ import org.moeaframework.util.clustering.DistanceMeasure;
  */
 public class InvertedGenerationalDistancePlus extends NormalizedIndicator {
 	
-	/**
-	 * The modified distance calculation used by the plus indicators as described in equation (18) in the cited paper.
-	 * This is similar to the {@link GenerationalDistancePlus} version except the arguments are reversed.
-	 */
-	private static final DistanceMeasure<Solution> InvertedPlusDistanceMeasure = (referencePoint, approximationPoint) -> {
-		double sum = 0.0;
-
-		for (int i = 0; i < approximationPoint.getNumberOfObjectives(); i++) {
-			sum += Math.pow(
-					Math.max(approximationPoint.getObjectiveValue(i) - referencePoint.getObjectiveValue(i), 0.0),
-					2.0);
-		}
-
-		return Math.sqrt(sum);
-	};
-	
 	/**
 	 * Constructs an inverted generational distance plus evaluator for the specified problem and corresponding
 	 * reference set.  The default normalization procedure, as specified by {@link DefaultNormalizer}, is used.
@@ -77,31 +60,28 @@ public class InvertedGenerationalDistancePlus extends NormalizedIndicator {
 			Normalizer normalizer) {
 		super(problem, referenceSet, normalizer);
 	}
-
-	@Override
-	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), getNormalizedReferenceSet());
-	}
-
+	
 	/**
-	 * Computes the inverted generational distance plus for the specified problem given an approximation set and
-	 * reference set.  While not necessary, the approximation and reference sets should be normalized.  Returns
-	 * {@code Double.POSITIVE_INFINITY} if the approximation set is empty.
+	 * Constructs an inverted generational distance plus evaluator sharing an existing normalized reference set.
 	 * 
 	 * @param problem the problem
-	 * @param approximationSet an approximation set for the problem
-	 * @param referenceSet the reference set for the problem
-	 * @return the inverted generational distance plus for the specified problem given an approximation set and
-	 *         reference set
+	 * @param referenceSetIndex the normalized reference set
 	 */
-	static double evaluate(Problem problem, NondominatedPopulation approximationSet,
-			NondominatedPopulation referenceSet) {
-		double sum = 0.0;
+	InvertedGenerationalDistancePlus(Problem problem, ReferenceSetIndex referenceSetIndex) {
+		super(problem, referenceSetIndex);
+	}
 
-		for (int i = 0; i < referenceSet.size(); i++) {
-			sum += referenceSet.get(i).distanceToNearestSolution(approximationSet, InvertedPlusDistanceMeasure);
+	@Override
+	public double evaluate(NondominatedPopulation approximationSet) {
+		ReferenceSetIndex index = getReferenceSetIndex();
+		KDTree tree = index.index(index.normalize(approximationSet));
+		double[] distances = tree.nearest(index.getPoints(), Measure.INVERTED_PLUS);
+		double sum = 0.0;
+		
+		for (double distance : distances) {
+			sum += distance;
 		}
-
-		return sum / referenceSet.size();
+		
+		return sum / distances.length;
 	}
 }
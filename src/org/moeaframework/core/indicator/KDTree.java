@@ -0,0 +1,518 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * K-d tree over points in objective space, stored in primitive arrays, for answering nearest neighbor queries.  Each
+ * node records the bounding box of its points, allowing subtrees to be skipped when the box is farther away than the
+ * nearest point found so far.  The bounding boxes also support the asymmetric distance measures used by the "plus"
+ * indicators and the additive &epsilon;-indicator; see {@link Measure}.
+ * <p>
+ * The tree is immutable once constructed and can be queried by multiple threads.
+ */
+final class KDTree {
+	
+	/**
+	 * The maximum number of points stored in a leaf node.
+	 */
+	static final int LEAF_SIZE = 8;
+	
+	/**
+	 * The minimum number of distance calculations, measured as the number of queries times the number of points,
+	 * before {@link #nearest(double[][], Measure)} runs the queries in parallel.
+	 */
+	static final long PARALLEL_THRESHOLD = 1L << 16;
+	
+	/**
+	 * The distance measures supported by the tree.  Each measure is the distance from a query point {@code q} to a
+	 * point {@code t} stored in the tree.  To avoid square roots when comparing distances, the Euclidean measures are
+	 * computed as squared distances and converted by {@link #finish(double)}.
+	 */
+	enum Measure {
+		
+		/**
+		 * The Euclidean distance, {@code ||q - t||}.
+		 */
+		EUCLIDEAN {
+			
+			@Override
+			double distance(double[] data, int offset, double[] query) {
+				double sum = 0.0;
+				
+				for (int j = 0; j < query.length; j++) {
+					double diff = query[j] - data[offset + j];
+					sum += diff * diff;
+				}
+				
+				return sum;
+			}
+			
+			@Override
+			double bound(double[] lower, double[] upper, int offset, double[] query) {
+				double sum = 0.0;
+				
+				for (int j = 0; j < query.length; j++) {
+					double diff = Math.max(lower[offset + j] - query[j], query[j] - upper[offset + j]);
+					
+					if (diff > 0.0) {
+						sum += diff * diff;
+					}
+				}
+				
+				return sum;
+			}
+			
+			@Override
+			double finish(double distance) {
+				return Math.sqrt(distance);
+			}
+		
+		},
+		
+		/**
+		 * The modified distance used by GD+, {@code ||max(q - t, 0)||}, where {@code q} is a point in the approximation
+		 * set and {@code t} is a point in the reference set.
+		 */
+		PLUS {
+			
+			@Override
+			double distance(double[] data, int offset, double[] query) {
+				double sum = 0.0;
+				
+				for (int j = 0; j < query.length; j++) {
+					double diff = query[j] - data[offset + j];
+					
+					if (diff > 0.0) {
+						sum += diff * diff;
+					}
+				}
+				
+				return sum;
+			}
+			
+			@Override
+			double bound(double[] lower, double[] upper, int offset, double[] query) {
+				return distance(upper, offset, query);
+			}
+			
+			@Override
+			double finish(double distance) {
+				return Math.sqrt(distance);
+			}
+		
+		},
+		
+		/**
+		 * The modified distance used by IGD+, {@code ||max(t - q, 0)||}, where {@code q} is a point in the reference
+		 * set and {@code t} is a point in the approximation set.
+		 */
+		INVERTED_PLUS {
+			
+			@Override
+			double distance(double[] data, int offset, double[] query) {
+				double sum = 0.0;
+				
+				for (int j = 0; j < query.length; j++) {
+					double diff = data[offset + j] - query[j];
+					
+					if (diff > 0.0) {
+						sum += diff * diff;
+					}
+				}
+				
+				return sum;
+			}
+			
+			@Override
+			double bound(double[] lower, double[] upper, int offset, double[] query) {
+				return distance(lower, offset, query);
+			}
+			
+			@Override
+			double finish(double distance) {
+				return Math.sqrt(distance);
+			}
+		
+		},
+		
+		/**
+		 * The smallest non-negative value that, when subtracted from {@code t}, causes {@code t} to weakly dominate
+		 * {@code q}, or {@code max(0, max(t - q))}.  This is the inner term of the additive &epsilon;-indicator.
+		 */
+		ADDITIVE_EPSILON {
+			
+			@Override
+			double distance(double[] data, int offset, double[] query) {
+				double max = 0.0;
+				
+				for (int j = 0; j < query.length; j++) {
+					max = Math.max(max, data[offset + j] - query[j]);
+				}
+				
+				return max;
+			}
+			
+			@Override
+			double bound(double[] lower, double[] upper, int offset, double[] query) {
+				return distance(lower, offset, query);
+			}
+			
+			@Override
+			double finish(double distance) {
+				return distance;
+			}
+		
+		};
+		
+		/**
+		 * Returns the distance, before applying {@link #finish(double)}, between the query and a point.
+		 * 
+		 * @param data the array storing the point
+		 * @param offset the offset of the point in the array
+		 * @param query the query point
+		 * @return the distance
+		 */
+		abstract double distance(double[] data, int offset, double[] query);
+		
+		/**
+		 * Returns a lower bound on the distance, before applying {@link #finish(double)}, between the query and any
+		 * point inside a bounding box.
+		 * 
+		 * @param lower the array storing the lower corner of the bounding box
+		 * @param upper the array storing the upper corner of the bounding box
+		 * @param offset the offset of the corners in the arrays
+		 * @param query the query point
+		 * @return the lower bound on the distance
+		 */
+		abstract double bound(double[] lower, double[] upper, int offset, double[] query);
+		
+		/**
+		 * Converts the value computed by {@link #distance(double[], int, double[])} into the actual distance.
+		 * 
+		 * @param distance the value to convert
+		 * @return the distance
+		 */
+		abstract double finish(double distance);
+	
+	}
+	
+	/**
+	 * The number of objectives.
+	 */
+	private final int numberOfObjectives;
+	
+	/**
+	 * The number of points.
+	 */
+	private final int size;
+	
+	/**
+	 * The points stored in a flat array, ordered so the points in each node are contiguous.
+	 */
+	private final double[] data;
+	
+	/**
+	 * The index of the first point in each node.
+	 */
+	private int[] start;
+	
+	/**
+	 * The index after the last point in each node.
+	 */
+	private int[] end;
+	
+	/**
+	 * The index of the first child of each node, or {@code -1} if the node is a leaf.  The second child immediately
+	 * follows the first.
+	 */
+	private int[] children;
+	
+	/**
+	 * The lower corner of the bounding box of each node, stored in a flat array.
+	 */
+	private double[] lower;
+	
+	/**
+	 * The upper corner of the bounding box of each node, stored in a flat array.
+	 */
+	private double[] upper;
+	
+	/**
+	 * The number of nodes.
+	 */
+	private int numberOfNodes;
+	
+	/**
+	 * The maximum number of points stored in a leaf node.  Pruning becomes ineffective when there are few points
+	 * relative to the number of dimensions, in which case the tree consists of a single leaf node and each query
+	 * scans every point.
+	 */
+	private final int leafSize;
+	
+	/**
+	 * Constructs a new k-d tree containing the given points.
+	 * 
+	 * @param points the points, which are copied into the tree
+	 * @param numberOfObjectives the number of objectives
+	 */
+	public KDTree(double[][] points, int numberOfObjectives) {
+		super();
+		this.numberOfObjectives = numberOfObjectives;
+		this.size = points.length;
+		this.leafSize = size < (long)LEAF_SIZE << Math.min(numberOfObjectives, 32) ? size : LEAF_SIZE;
+		
+		int[] indices = new int[size];
+		double[] unordered = new double[size * numberOfObjectives];
+		
+		for (int i = 0; i < size; i++) {
+			indices[i] = i;
+			System.arraycopy(points[i], 0, unordered, i * numberOfObjectives, numberOfObjectives);
+		}
+		
+		int capacity = Math.max(1, 4 * size / LEAF_SIZE);
+		start = new int[capacity];
+		end = new int[capacity];
+		children = new int[capacity];
+		lower = new double[capacity * numberOfObjectives];
+		upper = new double[capacity * numberOfObjectives];
+		
+		if (size > 0) {
+			build(allocate(1), unordered, indices, 0, size);
+		}
+		
+		data = new double[size * numberOfObjectives];
+		
+		for (int i = 0; i < size; i++) {
+			System.arraycopy(unordered, indices[i] * numberOfObjectives, data, i * numberOfObjectives,
+					numberOfObjectives);
+		}
+	}
+	
+	/**
+	 * Returns the number of points stored in this tree.
+	 * 
+	 * @return the number of points
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Returns the distance from the query to the nearest point in this tree.
+	 * 
+	 * @param query the query point
+	 * @param measure the distance measure
+	 * @return the distance to the nearest point, or {@value Double#POSITIVE_INFINITY} if this tree is empty
+	 */
+	public double nearest(double[] query, Measure measure) {
+		if (size == 0) {
+			return Double.POSITIVE_INFINITY;
+		}
+		
+		return measure.finish(search(0, query, measure, Double.POSITIVE_INFINITY));
+	}
+	
+	/**
+	 * Returns the distance from each query to the nearest point in this tree.  Large numbers of queries are evaluated
+	 * in parallel using the common {@link java.util.concurrent.ForkJoinPool}.
+	 * 
+	 * @param queries the query points
+	 * @param measure the distance measure
+	 * @return the distance from each query to the nearest point
+	 */
+	public double[] nearest(double[][] queries, Measure measure) {
+		double[] result = new double[queries.length];
+		IntStream stream = IntStream.range(0, queries.length);
+		
+		if ((long)queries.length * size >= PARALLEL_THRESHOLD) {
+			stream = stream.parallel();
+		}
+		
+		stream.forEach(i -> result[i] = nearest(queries[i], measure));
+		return result;
+	}
+	
+	/**
+	 * Recursively searches the node for a point nearer than the current best.
+	 * 
+	 * @param node the node
+	 * @param query the query point
+	 * @param measure the distance measure
+	 * @param best the distance to the nearest point found so far
+	 * @return the distance to the nearest point found so far, including this node
+	 */
+	private double search(int node, double[] query, Measure measure, double best) {
+		int child = children[node];
+		
+		if (child < 0) {
+			for (int i = start[node]; i < end[node]; i++) {
+				best = Math.min(best, measure.distance(data, i * numberOfObjectives, query));
+			}
+			
+			return best;
+		}
+		
+		double bound1 = measure.bound(lower, upper, child * numberOfObjectives, query);
+		double bound2 = measure.bound(lower, upper, (child + 1) * numberOfObjectives, query);
+		
+		if (bound2 < bound1) {
+			if (bound2 < best) {
+				best = search(child + 1, query, measure, best);
+			}
+			
+			if (bound1 < best) {
+				best = search(child, query, measure, best);
+			}
+		} else {
+			if (bound1 < best) {
+				best = search(child, query, measure, best);
+			}
+			
+			if (bound2 < best) {
+				best = search(child + 1, query, measure, best);
+			}
+		}
+		
+		return best;
+	}
+	
+	/**
+	 * Recursively builds the node containing the given range of points, splitting at the median of the objective
+	 * with the largest extent.
+	 * 
+	 * @param node the node
+	 * @param points the points stored in a flat array
+	 * @param indices the indices of the points, which are reordered so the points in each node are contiguous
+	 * @param from the index of the first point in the node
+	 * @param to the index after the last point in the node
+	 */
+	private void build(int node, double[] points, int[] indices, int from, int to) {
+		int offset = node * numberOfObjectives;
+		
+		Arrays.fill(lower, offset, offset + numberOfObjectives, Double.POSITIVE_INFINITY);
+		Arrays.fill(upper, offset, offset + numberOfObjectives, Double.NEGATIVE_INFINITY);
+		
+		for (int i = from; i < to; i++) {
+			int pointOffset = indices[i] * numberOfObjectives;
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				lower[offset + j] = Math.min(lower[offset + j], points[pointOffset + j]);
+				upper[offset + j] = Math.max(upper[offset + j], points[pointOffset + j]);
+			}
+		}
+		
+		start[node] = from;
+		end[node] = to;
+		children[node] = -1;
+		
+		if (to - from <= leafSize) {
+			return;
+		}
+		
+		int objective = 0;
+		
+		for (int j = 1; j < numberOfObjectives; j++) {
+			if (upper[offset + j] - lower[offset + j] > upper[offset + objective] - lower[offset + objective]) {
+				objective = j;
+			}
+		}
+		
+		if (!(upper[offset + objective] > lower[offset + objective])) {
+			// all points are identical
+			return;
+		}
+		
+		int middle = (from + to) >>> 1;
+		select(points, indices, from, to - 1, middle, objective);
+		
+		int child = allocate(2);
+		children[node] = child;
+		build(child, points, indices, from, middle);
+		build(child + 1, points, indices, middle, to);
+	}
+	
+	/**
+	 * Allocates new nodes, growing the arrays as needed.
+	 * 
+	 * @param count the number of nodes to allocate
+	 * @return the index of the first allocated node
+	 */
+	private int allocate(int count) {
+		if (numberOfNodes + count > start.length) {
+			int capacity = Math.max(2 * start.length, numberOfNodes + count);
+			start = Arrays.copyOf(start, capacity);
+			end = Arrays.copyOf(end, capacity);
+			children = Arrays.copyOf(children, capacity);
+			lower = Arrays.copyOf(lower, capacity * numberOfObjectives);
+			upper = Arrays.copyOf(upper, capacity * numberOfObjectives);
+		}
+		
+		int node = numberOfNodes;
+		numberOfNodes += count;
+		return node;
+	}
+	
+	/**
+	 * Partially sorts the indices so the k-th index is in its sorted position for the given objective, with smaller
+	 * values before and larger values after.
+	 * 
+	 * @param points the points stored in a flat array
+	 * @param indices the indices to reorder
+	 * @param left the first index in the range
+	 * @param right the last index in the range, inclusive
+	 * @param k the index to place in its sorted position
+	 * @param objective the objective used to order the points
+	 */
+	private void select(double[] points, int[] indices, int left, int right, int k, int objective) {
+		while (right > left) {
+			double pivot = points[indices[(left + right) >>> 1] * numberOfObjectives + objective];
+			int i = left;
+			int j = right;
+			
+			while (i <= j) {
+				while (points[indices[i] * numberOfObjectives + objective] < pivot) {
+					i++;
+				}
+				
+				while (points[indices[j] * numberOfObjectives + objective] > pivot) {
+					j--;
+				}
+				
+				if (i <= j) {
+					int temp = indices[i];
+					indices[i] = indices[j];
+					indices[j] = temp;
+					i++;
+					j--;
+				}
+			}
+			
+			if (k <= j) {
+				right = j;
+			} else if (k >= i) {
+				left = i;
+			} else {
+				return;
+			}
+		}
+	}
+
+}
@@ -17,6 +17,7 @@
  */
 package org.moeaframework.core.indicator;
 
+import org.moeaframework.core.indicator.KDTree.Measure;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.problem.Problem;
 
@@ -47,34 +48,33 @@ public class MaximumParetoFrontError extends NormalizedIndicator {
 	public MaximumParetoFrontError(Problem problem, NondominatedPopulation referenceSet, Normalizer normalizer) {
 		super(problem, referenceSet, normalizer);
 	}
-
-	@Override
-	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), getNormalizedReferenceSet());
-	}
-
+	
 	/**
-	 * Computes the maximum Pareto front error for the specified problem given an approximation set and reference set.
-	 * While not necessary, the approximation and reference sets should be normalized.  Returns
-	 * {@code Double.POSITIVE_INFINITY} if the approximation set is empty.
+	 * Constructs a maximum Pareto front error evaluator sharing an existing normalized reference set.
 	 * 
 	 * @param problem the problem
-	 * @param approximationSet an approximation set for the problem
-	 * @param referenceSet the reference set for the problem
-	 * @return the generational distance for the specified problem given an approximation set and reference set
+	 * @param referenceSetIndex the normalized reference set
 	 */
-	static double evaluate(Problem problem, NondominatedPopulation approximationSet,
-			NondominatedPopulation referenceSet) {
-		if (approximationSet.isEmpty()) {
+	MaximumParetoFrontError(Problem problem, ReferenceSetIndex referenceSetIndex) {
+		super(problem, referenceSetIndex);
+	}
+
+	@Override
+	public double evaluate(NondominatedPopulation approximationSet) {
+		ReferenceSetIndex index = getReferenceSetIndex();
+		double[][] points = index.normalize(approximationSet);
+		
+		if (points.length == 0) {
 			return Double.POSITIVE_INFINITY;
 		}
 		
+		double[] distances = index.getTree().nearest(points, Measure.EUCLIDEAN);
 		double max = 0.0;
-
-		for (int i = 0; i < approximationSet.size(); i++) {
-			max = Math.max(max, approximationSet.get(i).distanceToNearestSolution(referenceSet));
+		
+		for (double distance : distances) {
+			max = Math.max(max, distance);
 		}
-
+		
 		return max;
 	}
 }
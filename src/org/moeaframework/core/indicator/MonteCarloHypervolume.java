@@ -0,0 +1,538 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.util.sequence.Sobol;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Approximates the hypervolume by sampling points in objective space and counting the fraction dominated by the
+ * approximation set.  Unlike exact methods, whose cost grows exponentially with the number of objectives, the cost
+ * of each sample is linear in the size of the approximation set and the number of objectives, making this suitable
+ * for many-objective problems.
+ * <p>
+ * Samples are drawn in batches, which are evaluated in parallel using the common {@link ForkJoinPool}.  Each batch
+ * provides an independent estimate of the hypervolume, and the standard error is derived from the variance between
+ * batches.  With {@link Sampling#SOBOL}, each batch is the same Sobol' sequence offset by a random shift, known as
+ * randomized quasi-Monte Carlo, which typically produces a smaller error than {@link Sampling#RANDOM} for the same
+ * number of samples.
+ * <p>
+ * Sampling stops after reaching the sample budget or, if a tolerance is given, once the half-width of the
+ * confidence interval is within the tolerance.  Use {@link #estimate(NondominatedPopulation)} to obtain the
+ * estimated error along with the hypervolume.  The random numbers are drawn from a generator created from
+ * {@link #getSeed()} at the start of each estimate rather than from {@link org.moeaframework.core.PRNG}.  Thus, the
+ * estimate depends only on the approximation set, and evaluating this indicator does not affect the random numbers
+ * used by an algorithm.
+ * <p>
+ * This version is normalized, matching {@link WFGNormalizedHypervolume}.  Solutions that exceed the ideal point are
+ * included by expanding the sampled region.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Bader, J. and Zitzler, E.  "HypE: An Algorithm for Fast Hypervolume-Based Many-Objective Optimization."
+ *       Evolutionary Computation, 19(1):45-76, 2011.
+ *   <li>L'Ecuyer, P. and Lemieux, C.  "Recent Advances in Randomized Quasi-Monte Carlo Methods."  Modeling
+ *       Uncertainty, pp. 419-474, 2002.
+ * </ol>
+ */
+public class MonteCarloHypervolume extends NormalizedIndicator {
+	
+	/**
+	 * The number of samples in each batch.  This is a power of two so each batch contains a balanced segment of the
+	 * Sobol' sequence.
+	 */
+	static final int BATCH_SIZE = 4096;
+	
+	/**
+	 * The minimum number of batches required to estimate the standard error.
+	 */
+	static final int MIN_BATCHES = 8;
+	
+	/**
+	 * The method used to generate samples.
+	 */
+	public enum Sampling {
+		
+		/**
+		 * Uniformly random samples.
+		 */
+		RANDOM,
+		
+		/**
+		 * Samples from the Sobol' low-discrepancy sequence with a random shift applied to each batch.
+		 */
+		SOBOL
+	
+	}
+	
+	/**
+	 * The method used to generate samples.
+	 */
+	private final Sampling sampling;
+	
+	/**
+	 * The maximum number of samples.
+	 */
+	private final int maxSamples;
+	
+	/**
+	 * The target half-width of the confidence interval, or {@code 0} to always use the maximum number of samples.
+	 */
+	private final double tolerance;
+	
+	/**
+	 * The confidence level of the reported error.
+	 */
+	private final double confidence;
+	
+	/**
+	 * The critical value of the standard normal distribution for the confidence level.
+	 */
+	private final double criticalValue;
+	
+	/**
+	 * The seed of the random numbers used by each estimate.
+	 */
+	private final long seed;
+	
+	/**
+	 * The Sobol' sequence shared by all batches, or {@code null} if not yet generated.
+	 */
+	private double[][] sequence;
+	
+	/**
+	 * Constructs a Monte Carlo hypervolume evaluator for the specified problem and reference set.  See
+	 * {@link DefaultNormalizer} for details on configuring normalization.  The sampling options and seed are read
+	 * from the settings.
+	 * 
+	 * @param problem the problem
+	 * @param referenceSet the reference set
+	 */
+	public MonteCarloHypervolume(Problem problem, NondominatedPopulation referenceSet) {
+		this(problem, DefaultNormalizer.getInstance().getHypervolumeNormalizer(problem, referenceSet));
+	}
+	
+	/**
+	 * Constructs a Monte Carlo hypervolume evaluator for the specified problem using the given normalizer.  The
+	 * sampling options and seed are read from the settings.
+	 * 
+	 * @param problem the problem
+	 * @param normalizer a user-provided normalizer
+	 */
+	public MonteCarloHypervolume(Problem problem, Normalizer normalizer) {
+		this(problem, normalizer, Settings.getHypervolumeSampling(), Settings.getHypervolumeSamples(),
+				Settings.getHypervolumeTolerance(), Settings.getHypervolumeConfidence());
+	}
+	
+	/**
+	 * Constructs a Monte Carlo hypervolume evaluator for the specified problem using the given normalizer and
+	 * sampling options.  The seed is read from the settings.
+	 * 
+	 * @param problem the problem
+	 * @param normalizer a user-provided normalizer
+	 * @param sampling the method used to generate samples
+	 * @param maxSamples the maximum number of samples, which is rounded up to a multiple of the batch size and
+	 *        includes at least {@value #MIN_BATCHES} batches
+	 * @param tolerance the target half-width of the confidence interval, or {@code 0} to always use the maximum
+	 *        number of samples
+	 * @param confidence the confidence level of the reported error, such as {@code 0.95}
+	 */
+	public MonteCarloHypervolume(Problem problem, Normalizer normalizer, Sampling sampling, int maxSamples,
+			double tolerance, double confidence) {
+		this(problem, normalizer, sampling, maxSamples, tolerance, confidence, Settings.getHypervolumeSeed());
+	}
+	
+	/**
+	 * Constructs a Monte Carlo hypervolume evaluator for the specified problem using the given normalizer, sampling
+	 * options, and seed.
+	 * 
+	 * @param problem the problem
+	 * @param normalizer a user-provided normalizer
+	 * @param sampling the method used to generate samples
+	 * @param maxSamples the maximum number of samples, which is rounded up to a multiple of the batch size and
+	 *        includes at least {@value #MIN_BATCHES} batches
+	 * @param tolerance the target half-width of the confidence interval, or {@code 0} to always use the maximum
+	 *        number of samples
+	 * @param confidence the confidence level of the reported error, such as {@code 0.95}
+	 * @param seed the seed of the random numbers used by each estimate
+	 */
+	public MonteCarloHypervolume(Problem problem, Normalizer normalizer, Sampling sampling, int maxSamples,
+			double tolerance, double confidence, long seed) {
+		super(problem, new NondominatedPopulation(), normalizer);
+		Validate.that("sampling", sampling).isNotNull();
+		Validate.that("maxSamples", maxSamples).isGreaterThan(0);
+		Validate.that("tolerance", tolerance).isGreaterThanOrEqualTo(0.0);
+		Validate.that("confidence", confidence).isStrictlyBetween(0.0, 1.0);
+		
+		this.sampling = sampling;
+		this.maxSamples = maxSamples;
+		this.tolerance = tolerance;
+		this.confidence = confidence;
+		this.criticalValue = new NormalDistribution().inverseCumulativeProbability(0.5 + confidence / 2.0);
+		this.seed = seed;
+	}
+	
+	/**
+	 * Returns the method used to generate samples.
+	 * 
+	 * @return the method used to generate samples
+	 */
+	public Sampling getSampling() {
+		return sampling;
+	}
+	
+	/**
+	 * Returns the maximum number of samples.
+	 * 
+	 * @return the maximum number of samples
+	 */
+	public int getMaxSamples() {
+		return maxSamples;
+	}
+	
+	/**
+	 * Returns the target half-width of the confidence interval.
+	 * 
+	 * @return the target half-width of the confidence interval, or {@code 0} if the maximum number of samples is
+	 *         always used
+	 */
+	public double getTolerance() {
+		return tolerance;
+	}
+	
+	/**
+	 * Returns the confidence level of the reported error.
+	 * 
+	 * @return the confidence level
+	 */
+	public double getConfidence() {
+		return confidence;
+	}
+	
+	/**
+	 * Returns the seed of the random numbers used by each estimate.
+	 * 
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+	
+	@Override
+	public double evaluate(NondominatedPopulation approximationSet) {
+		return estimate(approximationSet).getValue();
+	}
+	
+	/**
+	 * Estimates the hypervolume of the approximation set, including the estimated error.
+	 * 
+	 * @param approximationSet the approximation set
+	 * @return the estimated hypervolume
+	 */
+	public Estimate estimate(NondominatedPopulation approximationSet) {
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		double[][] points = toPoints(normalize(approximationSet), numberOfObjectives);
+		
+		if (points.length == 0) {
+			return new Estimate(0.0, 0.0, 0.0, 0);
+		}
+		
+		// expand the sampled region to include any points exceeding the ideal point
+		double[] lowerBounds = new double[numberOfObjectives];
+		double volume = 1.0;
+		
+		for (int j = 0; j < numberOfObjectives; j++) {
+			for (double[] point : points) {
+				lowerBounds[j] = Math.min(lowerBounds[j], point[j]);
+			}
+			
+			volume *= 1.0 - lowerBounds[j];
+		}
+		
+		// points sorted by the first objective, so only a prefix can dominate a given sample
+		double[] data = new double[points.length * numberOfObjectives];
+		double[] firstObjective = new double[points.length];
+		
+		for (int i = 0; i < points.length; i++) {
+			System.arraycopy(points[i], 0, data, i * numberOfObjectives, numberOfObjectives);
+			firstObjective[i] = points[i][0];
+		}
+		
+		double[][] sobol = sampling == Sampling.SOBOL ? getSequence(numberOfObjectives) : null;
+		int maxBatches = Math.max(MIN_BATCHES, (maxSamples + BATCH_SIZE - 1) / BATCH_SIZE);
+		int batchesPerRound = tolerance > 0.0 ?
+				Math.max(MIN_BATCHES, ForkJoinPool.commonPool().getParallelism()) : maxBatches;
+		
+		SplittableRandom random = new SplittableRandom(seed);
+		List<Double> fractions = new ArrayList<>();
+		double mean = 0.0;
+		double standardError = Double.POSITIVE_INFINITY;
+		
+		while (fractions.size() < maxBatches) {
+			int count = Math.min(batchesPerRound, maxBatches - fractions.size());
+			List<ForkJoinTask<Double>> tasks = new ArrayList<>(count);
+			
+			for (int b = 0; b < count; b++) {
+				// draw the seeds in this thread so the result does not depend on scheduling
+				long batchSeed = random.nextLong();
+				tasks.add(ForkJoinPool.commonPool().submit(() ->
+						sampleBatch(data, firstObjective, numberOfObjectives, lowerBounds, sobol, batchSeed)));
+			}
+			
+			for (ForkJoinTask<Double> task : tasks) {
+				fractions.add(task.join());
+			}
+			
+			mean = fractions.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+			
+			double sumOfSquares = 0.0;
+			
+			for (double fraction : fractions) {
+				sumOfSquares += (fraction - mean) * (fraction - mean);
+			}
+			
+			standardError = volume * Math.sqrt(sumOfSquares / (fractions.size() - 1) / fractions.size());
+			
+			if (tolerance > 0.0 && criticalValue * standardError <= tolerance) {
+				break;
+			}
+		}
+		
+		return new Estimate(volume * mean, standardError, criticalValue * standardError,
+				(long)fractions.size() * BATCH_SIZE);
+	}
+	
+	/**
+	 * Returns the fraction of samples in a single batch that are dominated by at least one point.
+	 * 
+	 * @param data the points stored in a flat array, sorted by the first objective
+	 * @param firstObjective the first objective of each point
+	 * @param numberOfObjectives the number of objectives
+	 * @param lowerBounds the lower bounds of the sampled region; the upper bounds are {@code 1}
+	 * @param sobol the Sobol' sequence, or {@code null} if using uniformly random samples
+	 * @param seed the seed for the random numbers used by this batch
+	 * @return the fraction of dominated samples
+	 */
+	private static double sampleBatch(double[] data, double[] firstObjective, int numberOfObjectives,
+			double[] lowerBounds, double[][] sobol, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		double[] shift = new double[numberOfObjectives];
+		double[] sample = new double[numberOfObjectives];
+		int dominated = 0;
+		
+		if (sobol != null) {
+			for (int j = 0; j < numberOfObjectives; j++) {
+				shift[j] = random.nextDouble();
+			}
+		}
+		
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			for (int j = 0; j < numberOfObjectives; j++) {
+				double u = sobol == null ? random.nextDouble() : sobol[i][j] + shift[j];
+				
+				if (u >= 1.0) {
+					u -= 1.0;
+				}
+				
+				sample[j] = lowerBounds[j] + u * (1.0 - lowerBounds[j]);
+			}
+			
+			if (isDominated(data, firstObjective, numberOfObjectives, sample)) {
+				dominated++;
+			}
+		}
+		
+		return dominated / (double)BATCH_SIZE;
+	}
+	
+	/**
+	 * Returns {@code true} if the sample is weakly dominated by any point.
+	 * 
+	 * @param data the points stored in a flat array, sorted by the first objective
+	 * @param firstObjective the first objective of each point
+	 * @param numberOfObjectives the number of objectives
+	 * @param sample the sample
+	 * @return {@code true} if the sample is dominated; {@code false} otherwise
+	 */
+	private static boolean isDominated(double[] data, double[] firstObjective, int numberOfObjectives,
+			double[] sample) {
+		int end = Arrays.binarySearch(firstObjective, sample[0]);
+		
+		if (end < 0) {
+			end = -end - 1;
+		} else {
+			while (end < firstObjective.length && firstObjective[end] == sample[0]) {
+				end++;
+			}
+		}
+		
+		outer: for (int i = 0; i < end; i++) {
+			for (int j = 1; j < numberOfObjectives; j++) {
+				if (data[i * numberOfObjectives + j] > sample[j]) {
+					continue outer;
+				}
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Returns the Sobol' sequence used by each batch, generating it if necessary.
+	 * 
+	 * @param numberOfObjectives the number of objectives
+	 * @return the Sobol' sequence
+	 */
+	private synchronized double[][] getSequence(int numberOfObjectives) {
+		if (sequence == null) {
+			sequence = new Sobol().generate(BATCH_SIZE, numberOfObjectives);
+		}
+		
+		return sequence;
+	}
+	
+	/**
+	 * Converts the normalized approximation set into an array of points sorted by the first objective.  Solutions
+	 * that do not dominate the reference point, located at {@code (1, 1, ..., 1)}, are removed.
+	 * 
+	 * @param approximationSet the normalized approximation set
+	 * @param numberOfObjectives the number of objectives
+	 * @return the points
+	 */
+	private static double[][] toPoints(NondominatedPopulation approximationSet, int numberOfObjectives) {
+		List<double[]> points = new ArrayList<>();
+		
+		outer: for (Solution solution : approximationSet) {
+			double[] point = new double[numberOfObjectives];
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				point[j] = solution.getObjective(j).getCanonicalValue();
+				
+				if (!(point[j] < 1.0)) {
+					continue outer;
+				}
+			}
+			
+			points.add(point);
+		}
+		
+		points.sort(Comparator.comparingDouble(point -> point[0]));
+		return points.toArray(double[][]::new);
+	}
+	
+	/**
+	 * The estimated hypervolume produced by {@link MonteCarloHypervolume}.
+	 */
+	public static class Estimate {
+		
+		/**
+		 * The estimated hypervolume.
+		 */
+		private final double value;
+		
+		/**
+		 * The standard error of the estimate.
+		 */
+		private final double standardError;
+		
+		/**
+		 * The half-width of the confidence interval.
+		 */
+		private final double error;
+		
+		/**
+		 * The number of samples.
+		 */
+		private final long numberOfSamples;
+		
+		/**
+		 * Constructs a new estimate.
+		 * 
+		 * @param value the estimated hypervolume
+		 * @param standardError the standard error of the estimate
+		 * @param error the half-width of the confidence interval
+		 * @param numberOfSamples the number of samples
+		 */
+		Estimate(double value, double standardError, double error, long numberOfSamples) {
+			super();
+			this.value = value;
+			this.standardError = standardError;
+			this.error = error;
+			this.numberOfSamples = numberOfSamples;
+		}
+		
+		/**
+		 * Returns the estimated hypervolume.
+		 * 
+		 * @return the estimated hypervolume
+		 */
+		public double getValue() {
+			return value;
+		}
+		
+		/**
+		 * Returns the standard error of the estimate.
+		 * 
+		 * @return the standard error
+		 */
+		public double getStandardError() {
+			return standardError;
+		}
+		
+		/**
+		 * Returns the estimated error, which is the half-width of the confidence interval at the configured
+		 * confidence level.  The exact hypervolume is expected to lie within {@code value +/- error}.
+		 * 
+		 * @return the estimated error
+		 */
+		public double getError() {
+			return error;
+		}
+		
+		/**
+		 * Returns the number of samples used to compute the estimate.
+		 * 
+		 * @return the number of samples
+		 */
+		public long getNumberOfSamples() {
+			return numberOfSamples;
+		}
+		
+		@Override
+		public String toString() {
+			return value + " +/- " + error;
+		}
+	
+	}
+
+}
@@ -31,14 +31,10 @@ public abstract class NormalizedIndicator implements Indicator {
 	protected final Problem problem;
 
 	/**
-	 * The normalizer to normalize populations so that all objectives reside in the range {@code [0, 1]}.
+	 * The normalized reference set along with the normalizer to normalize populations so that all objectives reside
+	 * in the range {@code [0, 1]}.
 	 */
-	private final Normalizer normalizer;
-	
-	/**
-	 * The normalized reference set.
-	 */
-	private final NondominatedPopulation normalizedReferenceSet;
+	private final ReferenceSetIndex referenceSetIndex;
 
 	/**
 	 * Constructs a normalized indicator for the specified problem and corresponding reference set.  See
@@ -67,8 +63,19 @@ public abstract class NormalizedIndicator implements Indicator {
 			normalizer = DefaultNormalizer.getInstance().getNormalizer(problem, referenceSet);
 		}
 		
-		this.normalizer = normalizer;
-		normalizedReferenceSet = normalizer.normalize(referenceSet);
+		referenceSetIndex = DefaultNormalizer.getInstance().getReferenceSetIndex(referenceSet, normalizer);
+	}
+	
+	/**
+	 * Constructs a normalized indicator for the specified problem sharing an existing normalized reference set.
+	 * 
+	 * @param problem the problem
+	 * @param referenceSetIndex the normalized reference set
+	 */
+	NormalizedIndicator(Problem problem, ReferenceSetIndex referenceSetIndex) {
+		super();
+		this.problem = problem;
+		this.referenceSetIndex = referenceSetIndex;
 	}
 	
 	/**
@@ -78,16 +85,26 @@ public abstract class NormalizedIndicator implements Indicator {
 	 * @return a new population representing the normalized approximation set
 	 */
 	protected NondominatedPopulation normalize(NondominatedPopulation approximationSet) {
-		return normalizer.normalize(approximationSet);
+		return referenceSetIndex.getNormalizer().normalize(approximationSet);
 	}
 	
 	/**
-	 * Returns the normalized reference set.
+	 * Returns the normalized reference set.  The normalized reference set can be shared with other indicators, so
+	 * callers must not modify the population or its solutions.
 	 * 
 	 * @return the normalized reference set
 	 */
 	protected NondominatedPopulation getNormalizedReferenceSet() {
-		return normalizedReferenceSet;
+		return referenceSetIndex.getNormalizedReferenceSet();
+	}
+	
+	/**
+	 * Returns the normalized reference set along with its spatial index.
+	 * 
+	 * @return the normalized reference set
+	 */
+	ReferenceSetIndex getReferenceSetIndex() {
+		return referenceSetIndex;
 	}
 
 }
@@ -17,8 +17,10 @@
  */
 package org.moeaframework.core.indicator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 
 import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
@@ -181,6 +183,26 @@ public class Normalizer {
 		}
 	}
 	
+	/**
+	 * Returns the minimum bounds used for normalization.  If the population has more objectives, the last value is
+	 * repeated.
+	 * 
+	 * @return the minimum bounds
+	 */
+	public double[] getMinimum() {
+		return minimum.clone();
+	}
+	
+	/**
+	 * Returns the maximum bounds used for normalization.  If the population has more objectives, the last value is
+	 * repeated.
+	 * 
+	 * @return the maximum bounds
+	 */
+	public double[] getMaximum() {
+		return maximum.clone();
+	}
+	
 	/**
 	 * Returns a new non-dominated population containing the normalized solutions from the specified population.
 	 * 
@@ -205,6 +227,43 @@ public class Normalizer {
 		return result;
 	}
 	
+	/**
+	 * Returns the normalized objective values of the feasible solutions in the specified population.  This produces
+	 * the same values as {@link #normalize(Population)} without copying the solutions.
+	 * 
+	 * @param population the population
+	 * @return the normalized objective values of each feasible solution
+	 */
+	public double[][] normalizeToArray(Population population) {
+		List<double[]> result = new ArrayList<>(population.size());
+		
+		for (Solution solution : population) {
+			if (!solution.violatesConstraints()) {
+				result.add(normalizeObjectives(solution));
+			}
+		}
+		
+		return result.toArray(double[][]::new);
+	}
+	
+	/**
+	 * Returns the normalized objective values of the solution.
+	 * 
+	 * @param solution the solution
+	 * @return the normalized objective values
+	 */
+	protected double[] normalizeObjectives(Solution solution) {
+		double[] result = new double[solution.getNumberOfObjectives()];
+		
+		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+			double minimum = this.minimum[i >= this.minimum.length ? this.minimum.length-1 : i];
+			double maximum = this.maximum[i >= this.maximum.length ? this.maximum.length-1 : i];
+			result[i] = solution.getObjective(i).normalize(minimum, maximum).getValue();
+		}
+		
+		return result;
+	}
+	
 	/**
 	 * Performs the actual normalization by modifying the objective values in place.  While we typically discourage
 	 * modifying solutions in a population, we allow it here because normalization does not change the structure of
@@ -293,6 +352,11 @@ public class Normalizer {
 			}
 		}
 		
+		@Override
+		protected double[] normalizeObjectives(Solution solution) {
+			return solution.getCanonicalObjectiveValues();
+		}
+	
 	}
 
 }
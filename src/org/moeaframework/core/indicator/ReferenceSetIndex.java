@@ -0,0 +1,146 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * The normalized reference set along with a {@link KDTree} for nearest neighbor queries.  The reference set is
+ * normalized and indexed once, and the same instance can be shared by multiple indicators using the same normalizer.
+ */
+final class ReferenceSetIndex {
+	
+	/**
+	 * The normalizer.
+	 */
+	private final Normalizer normalizer;
+	
+	/**
+	 * The normalized reference set.
+	 */
+	private final NondominatedPopulation normalizedReferenceSet;
+	
+	/**
+	 * The normalized objective values of the reference set.
+	 */
+	private final double[][] points;
+	
+	/**
+	 * The number of objectives.
+	 */
+	private final int numberOfObjectives;
+	
+	/**
+	 * The k-d tree over the normalized reference set, or {@code null} if not yet constructed.
+	 */
+	private KDTree tree;
+	
+	/**
+	 * Constructs a new index for the given reference set.
+	 * 
+	 * @param referenceSet the reference set
+	 * @param normalizer the normalizer
+	 */
+	public ReferenceSetIndex(NondominatedPopulation referenceSet, Normalizer normalizer) {
+		super();
+		this.normalizer = normalizer;
+		
+		normalizedReferenceSet = normalizer.normalize(referenceSet);
+		points = new double[normalizedReferenceSet.size()][];
+		
+		for (int i = 0; i < points.length; i++) {
+			points[i] = normalizedReferenceSet.get(i).getObjectiveValues();
+		}
+		
+		numberOfObjectives = points.length > 0 ? points[0].length : 0;
+	}
+	
+	/**
+	 * Returns the normalizer.
+	 * 
+	 * @return the normalizer
+	 */
+	public Normalizer getNormalizer() {
+		return normalizer;
+	}
+	
+	/**
+	 * Returns the normalized reference set.  The returned population and its solutions must not be modified.
+	 * 
+	 * @return the normalized reference set
+	 */
+	public NondominatedPopulation getNormalizedReferenceSet() {
+		return normalizedReferenceSet;
+	}
+	
+	/**
+	 * Returns the normalized objective values of the reference set.  The returned array must not be modified.
+	 * 
+	 * @return the normalized objective values
+	 */
+	public double[][] getPoints() {
+		return points;
+	}
+	
+	/**
+	 * Returns the k-d tree over the normalized reference set, constructing it on first use.
+	 * 
+	 * @return the k-d tree
+	 */
+	public synchronized KDTree getTree() {
+		if (tree == null) {
+			tree = new KDTree(points, numberOfObjectives);
+		}
+		
+		return tree;
+	}
+	
+	/**
+	 * Returns the normalized objective values of the approximation set.
+	 * 
+	 * @param approximationSet the approximation set
+	 * @return the normalized objective values
+	 * @throws IllegalArgumentException if the number of objectives differs from the reference set
+	 */
+	public double[][] normalize(NondominatedPopulation approximationSet) {
+		double[][] result = normalizer.normalizeToArray(approximationSet);
+		
+		if (points.length > 0) {
+			for (double[] point : result) {
+				Validate.that("approximationSet.getNumberOfObjectives()", point.length)
+					.isEqualTo("referenceSet.getNumberOfObjectives()", numberOfObjectives);
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Constructs a k-d tree over the normalized approximation set.  This is used by the inverted indicators, which
+	 * query the nearest point in the approximation set from each point in the reference set.
+	 * 
+	 * @param approximationSet the normalized objective values of the approximation set
+	 * @return the k-d tree
+	 */
+	public KDTree index(double[][] approximationSet) {
+		return new KDTree(approximationSet,
+				approximationSet.length > 0 ? approximationSet[0].length : numberOfObjectives);
+	}
+
+}
@@ -17,8 +17,7 @@
  */
 package org.moeaframework.core.indicator;
 
-import java.util.Comparator;
-import java.util.Iterator;
+import java.util.Arrays;
 
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.population.NondominatedPopulation;
@@ -27,7 +26,18 @@ import org.moeaframework.problem.Problem;
 /**
  * Fast hypervolume calculation published by the Walking Fish Group (WFG).  This implementation includes all
  * optimizations discussed in the paper, including: (1) sorting the solutions by an objective, (2) slicing, and
- * (3) an exact method to compute the 2D hypervolume case.
+ * (3) an exact method to compute the 2D hypervolume case.  Additionally:
+ * <ol>
+ *   <li>Points are stored in flat {@code double[]} arrays, with scratch buffers reused by each thread, to avoid
+ *       allocating objects during the recursion.
+ *   <li>When computing the limit set of a point, any objective where no other point improves upon the contributing
+ *       point is bounded.  The limit set is constant in that objective, so it is factored out and the recursion
+ *       continues with one fewer objective.
+ *   <li>The objectives are reordered so the objectives most correlated with the others are sliced first, which
+ *       tends to produce smaller limit sets.
+ *   <li>Three objectives are computed directly using an {@code O(n log n)} sweep, which also serves as the base
+ *       case when slicing four or more objectives.  Dominated points need not be removed beforehand.
+ * </ol>
  * <p>
  * This version is not normalized!  See {@link WFGNormalizedHypervolume} for the normalized version.
  * <p>
@@ -35,10 +45,22 @@ import org.moeaframework.problem.Problem;
  * <ol>
  *   <li>While, Ronald Lyndon et al. "A Fast Way of Calculating Exact Hypervolumes." IEEE Transactions on Evolutionary
  *       Computation 16 (2012): 86-95.
+ *   <li>Beume, Nicola et al. "On the Complexity of Computing the Hypervolume Indicator."  IEEE Transactions on
+ *       Evolutionary Computation 13 (2009): 1075-1082.
  * </ol>
  */
 public class WFGHypervolume implements Indicator {
-
+	
+	/**
+	 * Ranges smaller than this are sorted using insertion sort.
+	 */
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+	
+	/**
+	 * The scratch buffers used by each thread.
+	 */
+	private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+	
 	/**
 	 * The problem.
 	 */
@@ -73,160 +95,688 @@ public class WFGHypervolume implements Indicator {
 	
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
-		Iterator<Solution> iterator = approximationSet.iterator();
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		Workspace workspace = WORKSPACE.get();
+		double[] data = workspace.getPoints(0, approximationSet.size() * numberOfObjectives);
+		int size = 0;
 		
-		while (iterator.hasNext()) {
-			Solution solution = iterator.next();
-			
-			//prune any solutions which exceed the reference point
-			for (int i=0; i<solution.getNumberOfObjectives(); i++) {
+		outer: for (Solution solution : approximationSet) {
+			for (int i = 0; i < numberOfObjectives; i++) {
+				// prune any solutions which exceed the reference point
 				if (solution.getObjective(i).compareTo(referencePoint[i]) > 0) {
-					iterator.remove();
-					break;
+					continue outer;
+				}
+				
+				data[size * numberOfObjectives + i] = solution.getObjective(i).distanceTo(referencePoint[i]);
+			}
+			
+			size++;
+		}
+		
+		return calculate(workspace, size, numberOfObjectives);
+	}
+	
+	/**
+	 * Computes the hypervolume of the given points, where all objectives are minimized.  Any point that does not
+	 * dominate the reference point is ignored.
+	 * 
+	 * @param points the points
+	 * @param referencePoint the reference point
+	 * @return the hypervolume
+	 */
+	public static double calculate(double[][] points, double[] referencePoint) {
+		int numberOfObjectives = referencePoint.length;
+		Workspace workspace = WORKSPACE.get();
+		double[] data = workspace.getPoints(0, points.length * numberOfObjectives);
+		int size = 0;
+		
+		outer: for (double[] point : points) {
+			for (int i = 0; i < numberOfObjectives; i++) {
+				if (point[i] > referencePoint[i]) {
+					continue outer;
+				}
+				
+				data[size * numberOfObjectives + i] = referencePoint[i] - point[i];
+			}
+			
+			size++;
+		}
+		
+		return calculate(workspace, size, numberOfObjectives);
+	}
+	
+	/**
+	 * Computes the hypervolume of the points stored in the workspace.  Each point is stored by its distance from the
+	 * reference point in each objective, so larger values are better and the reference point is the origin.
+	 * 
+	 * @param workspace the workspace containing the points at depth {@code 0}
+	 * @param size the number of points
+	 * @param numberOfObjectives the number of objectives
+	 * @return the hypervolume
+	 */
+	private static double calculate(Workspace workspace, int size, int numberOfObjectives) {
+		double[] data = workspace.getPoints(0, size * numberOfObjectives);
+		int count = 0;
+		
+		// remove any points with no volume, which can not contribute to the hypervolume
+		outer: for (int i = 0; i < size; i++) {
+			for (int j = 0; j < numberOfObjectives; j++) {
+				if (!(data[i * numberOfObjectives + j] > 0.0)) {
+					continue outer;
+				}
+			}
+			
+			System.arraycopy(data, i * numberOfObjectives, data, count * numberOfObjectives, numberOfObjectives);
+			count++;
+		}
+		
+		if (numberOfObjectives > 3) {
+			reorder(workspace, count, numberOfObjectives);
+		}
+		
+		return wfg(workspace, 0, count, numberOfObjectives);
+	}
+	
+	/**
+	 * Reorders the objectives so that objectives are sliced in decreasing order of their rank correlation with the
+	 * other objectives.  When slicing by an objective that correlates with the others, the points preceding the
+	 * contributing point tend to improve upon it in the remaining objectives as well, so the limit set collapses to
+	 * fewer non-dominated points.
+	 * 
+	 * @param workspace the workspace containing the points at depth {@code 0}
+	 * @param size the number of points
+	 * @param numberOfObjectives the number of objectives
+	 */
+	private static void reorder(Workspace workspace, int size, int numberOfObjectives) {
+		double[] data = workspace.getPoints(0, size * numberOfObjectives);
+		int[] index = workspace.getIndex(0, size);
+		int[][] ranks = new int[numberOfObjectives][size];
+		
+		for (int j = 0; j < numberOfObjectives; j++) {
+			for (int i = 0; i < size; i++) {
+				index[i] = i;
+			}
+			
+			sort(index, 0, size - 1, data, numberOfObjectives, j);
+			
+			for (int i = 0; i < size; i++) {
+				ranks[j][index[i]] = i;
+			}
+		}
+		
+		double[] correlation = new double[numberOfObjectives];
+		
+		for (int j = 0; j < numberOfObjectives; j++) {
+			for (int k = j + 1; k < numberOfObjectives; k++) {
+				double sum = 0.0;
+				
+				for (int i = 0; i < size; i++) {
+					sum += (double)ranks[j][i] * ranks[k][i];
 				}
+				
+				correlation[j] += sum;
+				correlation[k] += sum;
 			}
 		}
 		
-		return wfg(approximationSet, problem.getNumberOfObjectives());
+		// the last objective is sliced first, so order by increasing correlation
+		Integer[] order = new Integer[numberOfObjectives];
+		
+		for (int j = 0; j < numberOfObjectives; j++) {
+			order[j] = j;
+		}
+		
+		Arrays.sort(order, (j, k) -> Double.compare(correlation[j], correlation[k]));
+		
+		double[] point = new double[numberOfObjectives];
+		
+		for (int i = 0; i < size; i++) {
+			for (int j = 0; j < numberOfObjectives; j++) {
+				point[j] = data[i * numberOfObjectives + order[j]];
+			}
+			
+			System.arraycopy(point, 0, data, i * numberOfObjectives, numberOfObjectives);
+		}
 	}
 	
 	/**
 	 * Recursive hypervolume calculation using slices.
 	 * 
-	 * @param pointList the list of points being considered in the hypervolume calculation
+	 * @param workspace the workspace containing the points at the given depth
+	 * @param depth the depth of the recursion
+	 * @param size the number of points
 	 * @param slice the current slice (dimension) being computed
 	 * @return the hypervolume of the points
 	 */
-	private double wfg(NondominatedPopulation pointList, int slice) {
-		double volume = 0.0;
-
-		if (pointList.size() == 0) {
+	private static double wfg(Workspace workspace, int depth, int size, int slice) {
+		if (size == 0) {
+			return 0.0;
+		} else if (size == 1) {
+			return inclhv(workspace.getPoints(depth, slice), 0, slice);
+		} else if (slice == 1) {
+			double[] data = workspace.getPoints(depth, size);
+			double volume = 0.0;
+			
+			for (int i = 0; i < size; i++) {
+				volume = Math.max(volume, data[i]);
+			}
+			
 			return volume;
+		} else if (slice == 2) {
+			return wfg2D(workspace, depth, size);
+		} else if (slice == 3) {
+			return wfg3D(workspace, depth, size);
 		}
 		
-		pointList.sort(new WFGObjectiveComparator(slice));
+		// recursive case for 4+ dimensions
+		size = sort(workspace, depth, size, slice);
 		
-		if (slice == 1) {
-			// special case - O(1) calculation for the 1-dimension case
-			volume = pointList.get(0).getObjective(0).distanceTo(referencePoint[0]);
-		} else if (slice == 2) {
-			// special case - O(n) calculation for the 2-dimension case
-			volume = pointList.get(0).getObjective(0).distanceTo(referencePoint[0]) *
-					pointList.get(0).getObjective(1).distanceTo(referencePoint[1]);
+		double[] data = workspace.getSorted(depth, size * slice);
+		double volume = 0.0;
+		
+		for (int i = 0; i < size; i++) {
+			volume += data[i * slice + slice - 1] * exclhv(workspace, depth, i, slice - 1);
+		}
+		
+		return volume;
+	}
+	
+	/**
+	 * Computes the hypervolume for two objectives.  Dominated points are skipped.
+	 * 
+	 * @param workspace the workspace containing the points at the given depth
+	 * @param depth the depth of the recursion
+	 * @param size the number of points
+	 * @return the hypervolume of the points
+	 */
+	private static double wfg2D(Workspace workspace, int depth, int size) {
+		double[] data = workspace.getPoints(depth, size * 2);
+		int[] index = workspace.getIndex(depth, size);
+		
+		for (int i = 0; i < size; i++) {
+			index[i] = i;
+		}
+		
+		sort(index, 0, size - 1, data, 2, 0);
+		
+		double volume = 0.0;
+		double height = 0.0;
+		
+		for (int i = 0; i < size; i++) {
+			double x = data[index[i] * 2];
+			double y = data[index[i] * 2 + 1];
+			
+			if (y > height) {
+				volume += x * (y - height);
+				height = y;
+			}
+		}
+		
+		return volume;
+	}
+	
+	/**
+	 * Computes the hypervolume for three objectives by sweeping along the third objective while maintaining the area
+	 * dominated by the two-dimensional front.  Dominated points are skipped.
+	 * 
+	 * @param workspace the workspace containing the points at the given depth
+	 * @param depth the depth of the recursion
+	 * @param size the number of points
+	 * @return the hypervolume of the points
+	 */
+	private static double wfg3D(Workspace workspace, int depth, int size) {
+		double[] data = workspace.getPoints(depth, size * 3);
+		int[] index = workspace.getIndex(depth, size);
+		
+		for (int i = 0; i < size; i++) {
+			index[i] = i;
+		}
+		
+		sort(index, 0, size - 1, data, 3, 2);
+		
+		// the front is sorted by decreasing first objective and increasing second objective
+		double[] frontX = workspace.getFrontX(size);
+		double[] frontY = workspace.getFrontY(size);
+		int frontSize = 0;
+		double volume = 0.0;
+		double area = 0.0;
+		
+		for (int i = 0; i < size; i++) {
+			double x = data[index[i] * 3];
+			double y = data[index[i] * 3 + 1];
+			double z = data[index[i] * 3 + 2];
+			double next = i + 1 < size ? data[index[i + 1] * 3 + 2] : 0.0;
+			
+			int position = search(frontX, frontSize, x);
+			
+			if ((position > 0 && frontY[position - 1] >= y) ||
+					(position < frontSize && frontX[position] == x && frontY[position] >= y)) {
+				volume += area * (z - next);
+				continue;
+			}
 			
-			for (int i = 1; i < pointList.size(); i++) {
-				volume += pointList.get(i).getObjective(0).distanceTo(referencePoint[0]) *
-						pointList.get(i-1).getObjective(1).distanceTo(pointList.get(i).getObjective(1));
+			// add the area dominated by the new point but not the front, removing any points it dominates
+			double left = x;
+			double height = position > 0 ? frontY[position - 1] : 0.0;
+			int end = position;
+			
+			while (end < frontSize && frontY[end] <= y) {
+				area += (left - frontX[end]) * (y - height);
+				left = frontX[end];
+				height = frontY[end];
+				end++;
 			}
-		} else {
-			// recursive case for 3+ dimensions
-			for (int i = pointList.size() - 1; i >= 0; i--) {
-				volume += pointList.get(i).getObjective(slice-1).distanceTo(referencePoint[slice-1]) *
-						exclhv(pointList, i, slice-1);
+			
+			area += (left - (end < frontSize ? frontX[end] : 0.0)) * (y - height);
+			
+			int shift = 1 - (end - position);
+			
+			if (shift != 0) {
+				System.arraycopy(frontX, end, frontX, end + shift, frontSize - end);
+				System.arraycopy(frontY, end, frontY, end + shift, frontSize - end);
+				frontSize += shift;
 			}
+			
+			frontX[position] = x;
+			frontY[position] = y;
+			volume += area * (z - next);
 		}
 		
 		return volume;
 	}
 	
+	/**
+	 * Returns the index of the first value in the decreasing array that is less than or equal to the given value.
+	 * 
+	 * @param values the values sorted in decreasing order
+	 * @param size the number of values
+	 * @param value the value to search for
+	 * @return the index of the first value less than or equal to the given value, or {@code size} if none
+	 */
+	private static int search(double[] values, int size, double value) {
+		int low = 0;
+		int high = size;
+		
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			
+			if (values[middle] > value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		
+		return low;
+	}
+	
 	/**
 	 * Returns the inclusive hypervolume for the given point.  Inclusive means it measures the entire volume
 	 * dominated by this point.
 	 * 
-	 * @param point the current point
+	 * @param data the array storing the point
+	 * @param offset the offset of the point within the array
 	 * @param slice the current slice (dimension) being computed
 	 * @return the inclusive hypervolume of the solution
 	 */
-	private double inclhv(Solution point, int slice) {
+	private static double inclhv(double[] data, int offset, int slice) {
 		double volume = 1.0;
 		
 		for (int i = 0; i < slice; i++) {
-			volume *= point.getObjective(i).distanceTo(referencePoint[i]);
+			volume *= data[offset + i];
 		}
 		
 		return volume;
 	}
 	
 	/**
-	 * Returns the exclusive hypervolume of the current (contributing) point.  Any volume overlapping with outer points
-	 * is excluded.
+	 * Returns the exclusive hypervolume of the current (contributing) point.  Any volume overlapping with the points
+	 * preceding it is excluded.  The limit set, formed by the worse value taken from each preceding point and the
+	 * contributing point, is stored at the next depth.
 	 * 
-	 * @param pointList the list of points being considered in the hypervolume calculation
+	 * @param workspace the workspace containing the sorted points at the given depth
+	 * @param depth the depth of the recursion
 	 * @param k the index of the current (contributing) point
 	 * @param slice the current slice (dimension) being computed
 	 * @return the exclusive hypervolume of the current solution
 	 */
-	private double exclhv(NondominatedPopulation pointList, int k, int slice) {
-		return inclhv(pointList.get(k), slice) - wfg(limitset(pointList, k, slice), slice);
+	private static double exclhv(Workspace workspace, int depth, int k, int slice) {
+		int stride = slice + 1;
+		double[] data = workspace.getSorted(depth, (k + 1) * stride);
+		int offset = k * stride;
+		
+		if (k == 0) {
+			return inclhv(data, offset, slice);
+		}
+		
+		// find the objectives where some preceding point is better, all others are bounded by the contributing point
+		boolean[] active = workspace.getActive(depth, slice);
+		Arrays.fill(active, 0, slice, false);
+		
+		for (int i = 0; i < k; i++) {
+			boolean covered = true;
+			
+			for (int j = 0; j < slice; j++) {
+				if (data[i * stride + j] < data[offset + j]) {
+					active[j] = true;
+					covered = false;
+				}
+			}
+			
+			if (covered) {
+				return 0.0;
+			}
+		}
+		
+		double bound = 1.0;
+		double volume = 1.0;
+		int newSlice = 0;
+		
+		for (int j = 0; j < slice; j++) {
+			if (active[j]) {
+				volume *= data[offset + j];
+				newSlice++;
+			} else {
+				bound *= data[offset + j];
+			}
+		}
+		
+		double[] limitSet = workspace.getPoints(depth + 1, k * newSlice);
+		
+		for (int i = 0; i < k; i++) {
+			int position = i * newSlice;
+			
+			for (int j = 0; j < slice; j++) {
+				if (active[j]) {
+					limitSet[position++] = Math.min(data[i * stride + j], data[offset + j]);
+				}
+			}
+		}
+		
+		return bound * (volume - wfg(workspace, depth + 1, k, newSlice));
 	}
 	
 	/**
-	 * Returns a modified list of the points {k+1 .. |pointList|} updated with the larger value taken from the point
-	 * and the contributing point k.  Additionally, any dominated points in this modified list are removed.
-	 * <p>
-	 * Note: This method is equivalent to {@code nds(limitset(...))} in Figure 5 from the referenced paper.
+	 * Sorts the points at the given depth so they are monotonically worsening (decreasing) in the last objective, with
+	 * ties broken by considering other objectives, and removes any dominated or duplicate points.  The remaining
+	 * points are stored in the sorted buffer.
 	 * 
-	 * @param pointList the list of points being considered in the hypervolume calculation
-	 * @param k the index of the current (contributing) point
+	 * @param workspace the workspace containing the points at the given depth
+	 * @param depth the depth of the recursion
+	 * @param size the number of points
 	 * @param slice the current slice (dimension) being computed
-	 * @return a new list of points with updated objective values
+	 * @return the number of non-dominated points
 	 */
-	private NondominatedPopulation limitset(NondominatedPopulation pointList, int k, int slice) {
-		NondominatedPopulation result = new NondominatedPopulation();
+	private static int sort(Workspace workspace, int depth, int size, int slice) {
+		double[] data = workspace.getPoints(depth, size * slice);
+		double[] sorted = workspace.getSorted(depth, size * slice);
+		int[] index = workspace.getIndex(depth, size);
 		
-		for (int i = 0; i < pointList.size() - k - 1; i++) {
-			Solution slicedSolution = new Solution(0, slice);
+		for (int i = 0; i < size; i++) {
+			index[i] = i;
+		}
+		
+		sort(index, 0, size - 1, data, slice, slice - 1);
+		
+		// with this ordering, a point can only be weakly dominated by a point preceding it
+		int count = 0;
+		
+		outer: for (int i = 0; i < size; i++) {
+			int offset = index[i] * slice;
 			
-			for (int j = 0; j < slice; j++) {
-				slicedSolution.setObjectiveValue(j, worse(pointList.get(k), pointList.get(k + i + 1), j));
+			for (int k = 0; k < count; k++) {
+				boolean dominated = true;
+				
+				for (int j = 0; j < slice && dominated; j++) {
+					dominated = sorted[k * slice + j] >= data[offset + j];
+				}
+				
+				if (dominated) {
+					continue outer;
+				}
+			}
+			
+			System.arraycopy(data, offset, sorted, count * slice, slice);
+			count++;
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Sorts the indices of the points in decreasing order of the given objective, with ties broken by the preceding
+	 * objectives.
+	 * 
+	 * @param index the indices to sort
+	 * @param low the first index in the range being sorted, inclusive
+	 * @param high the last index in the range being sorted, inclusive
+	 * @param data the array storing the points
+	 * @param stride the number of objectives stored for each point
+	 * @param objective the objective compared first
+	 */
+	private static void sort(int[] index, int low, int high, double[] data, int stride, int objective) {
+		while (high - low > INSERTION_SORT_THRESHOLD) {
+			int pivot = index[(low + high) >>> 1];
+			int i = low;
+			int j = high;
+			
+			while (i <= j) {
+				while (compare(data, stride, objective, index[i], pivot) < 0) {
+					i++;
+				}
+				
+				while (compare(data, stride, objective, index[j], pivot) > 0) {
+					j--;
+				}
+				
+				if (i <= j) {
+					int temp = index[i];
+					index[i++] = index[j];
+					index[j--] = temp;
+				}
 			}
 			
-			result.add(slicedSolution);
+			// recurse on the smaller partition to bound the stack depth
+			if (j - low < high - i) {
+				sort(index, low, j, data, stride, objective);
+				low = i;
+			} else {
+				sort(index, i, high, data, stride, objective);
+				high = j;
+			}
 		}
 		
-		return result;
+		for (int i = low + 1; i <= high; i++) {
+			int value = index[i];
+			int j = i - 1;
+			
+			while (j >= low && compare(data, stride, objective, index[j], value) > 0) {
+				index[j + 1] = index[j];
+				j--;
+			}
+			
+			index[j + 1] = value;
+		}
 	}
 	
 	/**
-	 * Returns the worse objective value between the two points.  Since all objectives are minimized, this returns
-	 * the larger value.
+	 * Compares two points in decreasing order of the given objective, with ties broken by the preceding objectives.
 	 * 
-	 * @param point1 the first point
-	 * @param point2 the second point
-	 * @param objective the objective to compare
-	 * @return the worse (larger) objective value
+	 * @param data the array storing the points
+	 * @param stride the number of objectives stored for each point
+	 * @param objective the objective compared first
+	 * @param i the index of the first point
+	 * @param j the index of the second point
+	 * @return {@code -1}, {@code 0}, or {@code 1} if the first point precedes, is equal to, or follows the second point
 	 */
-	private double worse(Solution point1, Solution point2, int objective) {
-		int flag = point1.getObjective(objective).compareTo(point2.getObjective(objective));
-		return flag > 0 ? point1.getObjectiveValue(objective) : point2.getObjectiveValue(objective);
+	private static int compare(double[] data, int stride, int objective, int i, int j) {
+		for (int k = objective; k >= 0; k--) {
+			double value1 = data[i * stride + k];
+			double value2 = data[j * stride + k];
+			
+			if (value1 > value2) {
+				return -1;
+			} else if (value1 < value2) {
+				return 1;
+			}
+		}
+		
+		return 0;
 	}
 	
 	/**
-	 * Comparator to sort solutions so they are monotonically improving (decreasing) in the last objective.
-	 * Ties are broken by considering other objectives.
+	 * Scratch buffers used by the hypervolume calculation, which are reused across calls to avoid allocations.  Each
+	 * depth of the recursion has its own buffers.  Buffers grow as needed, but never shrink.
 	 */
-	private static class WFGObjectiveComparator implements Comparator<Solution> {
+	private static class Workspace {
+		
+		/**
+		 * The points at each depth.
+		 */
+		private double[][] points;
+		
+		/**
+		 * The sorted, non-dominated points at each depth.
+		 */
+		private double[][] sorted;
+		
+		/**
+		 * The indices used when sorting points at each depth.
+		 */
+		private int[][] index;
+		
+		/**
+		 * The objectives not bounded by the contributing point at each depth.
+		 */
+		private boolean[][] active;
+		
+		/**
+		 * The first objective of the two-dimensional front used by the three objective case.
+		 */
+		private double[] frontX;
 		
-		private int slice;
+		/**
+		 * The second objective of the two-dimensional front used by the three objective case.
+		 */
+		private double[] frontY;
 		
-		public WFGObjectiveComparator(int slice) {
+		/**
+		 * Constructs a new, empty workspace.
+		 */
+		public Workspace() {
 			super();
-			this.slice = slice;
+			points = new double[0][];
+			sorted = new double[0][];
+			index = new int[0][];
+			active = new boolean[0][];
+			frontX = new double[0];
+			frontY = new double[0];
 		}
-
-		@Override
-		public int compare(Solution solution1, Solution solution2) {
-			for (int i = slice - 1; i >= 0; i--) {
-				int flag = solution1.getObjective(i).compareTo(solution2.getObjective(i));
-
-				if (flag != 0) {
-					return -flag;
-				}
+		
+		/**
+		 * Returns the buffer storing the points at the given depth.
+		 * 
+		 * @param depth the depth of the recursion
+		 * @param length the minimum length of the buffer
+		 * @return the buffer
+		 */
+		public double[] getPoints(int depth, int length) {
+			if (depth >= points.length) {
+				points = Arrays.copyOf(points, depth + 1);
+			}
+			
+			if (points[depth] == null || points[depth].length < length) {
+				points[depth] = new double[Math.max(length, 2 * (points[depth] == null ? 0 : points[depth].length))];
 			}
 			
-			return 0;
+			return points[depth];
 		}
 		
+		/**
+		 * Returns the buffer storing the sorted, non-dominated points at the given depth.
+		 * 
+		 * @param depth the depth of the recursion
+		 * @param length the minimum length of the buffer
+		 * @return the buffer
+		 */
+		public double[] getSorted(int depth, int length) {
+			if (depth >= sorted.length) {
+				sorted = Arrays.copyOf(sorted, depth + 1);
+			}
+			
+			if (sorted[depth] == null || sorted[depth].length < length) {
+				sorted[depth] = new double[Math.max(length, 2 * (sorted[depth] == null ? 0 : sorted[depth].length))];
+			}
+			
+			return sorted[depth];
+		}
+		
+		/**
+		 * Returns the buffer storing the indices used when sorting points at the given depth.
+		 * 
+		 * @param depth the depth of the recursion
+		 * @param length the minimum length of the buffer
+		 * @return the buffer
+		 */
+		public int[] getIndex(int depth, int length) {
+			if (depth >= index.length) {
+				index = Arrays.copyOf(index, depth + 1);
+			}
+			
+			if (index[depth] == null || index[depth].length < length) {
+				index[depth] = new int[Math.max(length, 2 * (index[depth] == null ? 0 : index[depth].length))];
+			}
+			
+			return index[depth];
+		}
+		
+		/**
+		 * Returns the buffer storing the objectives not bounded by the contributing point at the given depth.
+		 * 
+		 * @param depth the depth of the recursion
+		 * @param length the minimum length of the buffer
+		 * @return the buffer
+		 */
+		public boolean[] getActive(int depth, int length) {
+			if (depth >= active.length) {
+				active = Arrays.copyOf(active, depth + 1);
+			}
+			
+			if (active[depth] == null || active[depth].length < length) {
+				active[depth] = new boolean[length];
+			}
+			
+			return active[depth];
+		}
+		
+		/**
+		 * Returns the buffer storing the first objective of the two-dimensional front.
+		 * 
+		 * @param length the minimum length of the buffer
+		 * @return the buffer
+		 */
+		public double[] getFrontX(int length) {
+			if (frontX.length < length) {
+				frontX = new double[Math.max(length, 2 * frontX.length)];
+			}
+			
+			return frontX;
+		}
+		
+		/**
+		 * Returns the buffer storing the second objective of the two-dimensional front.
+		 * 
+		 * @param length the minimum length of the buffer
+		 * @return the buffer
+		 */
+		public double[] getFrontY(int length) {
+			if (frontY.length < length) {
+				frontY = new double[Math.max(length, 2 * frontY.length)];
+			}
+			
+			return frontY;
+		}
+	
 	}
 
 }
@@ -20,6 +20,7 @@ package org.moeaframework.core.operator;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
+import org.moeaframework.core.Solution;
 import org.moeaframework.core.TypedProperties;
 import org.moeaframework.core.configuration.Configurable;
 import org.moeaframework.core.configuration.ConfigurationException;
@@ -51,6 +52,7 @@ import org.moeaframework.core.variable.Grammar;
 import org.moeaframework.core.variable.Permutation;
 import org.moeaframework.core.variable.Program;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 import org.moeaframework.core.variable.Subset;
 import org.moeaframework.problem.Problem;
 
@@ -66,6 +68,7 @@ public class DefaultOperators extends RegisteredOperatorProvider {
 		super();
 		
 		setMutationHint(RealVariable.class, "pm");
+		setMutationHint(RealVectorVariable.class, "pm");
 		setMutationHint(BinaryVariable.class, "bf");
 		setMutationHint(Permutation.class, "insertion+swap");
 		setMutationHint(Grammar.class, "gm");
@@ -73,6 +76,7 @@ public class DefaultOperators extends RegisteredOperatorProvider {
 		setMutationHint(Subset.class, "replace+add+remove");
 		
 		setCrossoverHint(RealVariable.class, "sbx");
+		setCrossoverHint(RealVectorVariable.class, "sbx");
 		setCrossoverHint(BinaryVariable.class, "hux");
 		setCrossoverHint(Permutation.class, "pmx");
 		setCrossoverHint(Grammar.class, "gx");
@@ -90,11 +94,11 @@ public class DefaultOperators extends RegisteredOperatorProvider {
 
 		// these are two special cases where we have historically set the default rate to 1/N
 		register("pm", (properties, problem) -> new PM(
-				properties.getDouble("pm.rate", 1.0 / problem.getNumberOfVariables()),
+				properties.getDouble("pm.rate", 1.0 / getNumberOfRealValues(problem)),
 				properties.getDouble("pm.distributionIndex", 20.0)));
 		
 		register("um", (properties, problem) -> new UM(
-					properties.getDouble("um.rate", 1.0 / problem.getNumberOfVariables())));
+					properties.getDouble("um.rate", 1.0 / getNumberOfRealValues(problem))));
 				
 		// binary
 		registerConfigurable("hux", HUX::new);
@@ -138,4 +142,27 @@ public class DefaultOperators extends RegisteredOperatorProvider {
 		super.register(name, callback);
 	}
 
+
+	/**
+	 * Returns the number of real values in the problem's decision variables, counting each value stored in a
+	 * {@link RealVectorVariable} separately.  This is used to derive the default mutation rate.
+	 * 
+	 * @param problem the problem
+	 * @return the number of real values, or the number of decision variables if no vectors are used
+	 */
+	private static int getNumberOfRealValues(Problem problem) {
+		Solution solution = problem.newSolution();
+		int count = 0;
+		
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			if (solution.getVariable(i) instanceof RealVectorVariable vector) {
+				count += vector.size();
+			} else {
+				count += 1;
+			}
+		}
+		
+		return count;
+	}
+
 }
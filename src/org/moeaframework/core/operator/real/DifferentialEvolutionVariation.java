@@ -23,6 +23,7 @@ import org.moeaframework.core.configuration.Prefix;
 import org.moeaframework.core.configuration.Property;
 import org.moeaframework.core.operator.Variation;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 import org.moeaframework.util.validate.Validate;
 
 /**
@@ -133,7 +134,9 @@ public class DifferentialEvolutionVariation implements Variation {
 		int jrand = PRNG.nextInt(result.getNumberOfVariables());
 
 		for (int j = 0; j < result.getNumberOfVariables(); j++) {
-			if ((PRNG.nextDouble() <= crossoverRate) || (j == jrand)) {
+			if (result.getVariable(j) instanceof RealVectorVariable) {
+				evolve(result, parents, j, j == jrand);
+			} else if ((PRNG.nextDouble() <= crossoverRate) || (j == jrand)) {
 				RealVariable v0 = (RealVariable)result.getVariable(j);
 				RealVariable v1 = (RealVariable)parents[1].getVariable(j);
 				RealVariable v2 = (RealVariable)parents[2].getVariable(j);
@@ -156,4 +159,46 @@ public class DifferentialEvolutionVariation implements Variation {
 		return new Solution[] { result };
 	}
 
+
+	/**
+	 * Applies differential evolution to the values stored in a {@link RealVectorVariable}.  Each value is treated as if
+	 * it were a separate variable, being replaced with the probability given by the crossover rate.
+	 * 
+	 * @param result the offspring, initially a copy of the first parent
+	 * @param parents the parent solutions
+	 * @param index the index of the variable
+	 * @param forced if {@code true}, at least one value is replaced
+	 */
+	private void evolve(Solution result, Solution[] parents, int index, boolean forced) {
+		RealVectorVariable v0 = (RealVectorVariable)result.getVariable(index);
+		RealVectorVariable v1 = (RealVectorVariable)parents[1].getVariable(index);
+		RealVectorVariable v2 = (RealVectorVariable)parents[2].getVariable(index);
+		RealVectorVariable v3 = (RealVectorVariable)parents[3].getVariable(index);
+		
+		if (forced) {
+			int k = PRNG.nextInt(v0.size());
+			v0.setValue(k, computeTrial(v0, v1, v2, v3, k));
+		}
+		
+		for (int k = VectorSampling.next(-1, crossoverRate); k < v0.size(); k = VectorSampling.next(k, crossoverRate)) {
+			v0.setValue(k, computeTrial(v0, v1, v2, v3, k));
+		}
+	}
+	
+	/**
+	 * Computes the trial value {@code v3 + F * (v1 - v2)} at the given index, truncated to the bounds.
+	 * 
+	 * @param v0 the variable being modified
+	 * @param v1 the first difference variable
+	 * @param v2 the second difference variable
+	 * @param v3 the base variable
+	 * @param k the index of the value
+	 * @return the trial value
+	 */
+	private double computeTrial(RealVectorVariable v0, RealVectorVariable v1, RealVectorVariable v2,
+			RealVectorVariable v3, int k) {
+		double y = v3.getValue(k) + scalingFactor * (v1.getValue(k) - v2.getValue(k));
+		return Math.max(v0.getLowerBound(k), Math.min(v0.getUpperBound(k), y));
+	}
+
 }
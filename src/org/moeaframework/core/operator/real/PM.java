@@ -18,11 +18,13 @@
 package org.moeaframework.core.operator.real;
 
 import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
 import org.moeaframework.core.configuration.Prefix;
 import org.moeaframework.core.configuration.Property;
 import org.moeaframework.core.operator.TypeSafe;
 import org.moeaframework.core.operator.TypeSafeMutation;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 import org.moeaframework.util.validate.Validate;
 
 /**
@@ -123,6 +125,24 @@ public class PM extends TypeSafeMutation<RealVariable> {
 	 * UPDATES, ENHANCEMENTS, OR MODIFICATIONS.
 	 */
 	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Each value stored in a {@link RealVectorVariable} is also mutated with the same probability.
+	 */
+	@Override
+	public Solution mutate(Solution parent) {
+		Solution result = super.mutate(parent);
+		
+		for (int i = 0; i < result.getNumberOfVariables(); i++) {
+			if (result.getVariable(i) instanceof RealVectorVariable vector) {
+				mutate(vector);
+			}
+		}
+		
+		return result;
+	}
+	
 	/**
 	 * Mutates the specified variable using polynomial mutation.
 	 * 
@@ -130,10 +150,32 @@ public class PM extends TypeSafeMutation<RealVariable> {
 	 */
 	@Override
 	public void mutate(RealVariable v) {
+		v.setValue(mutate(v.getValue(), v.getLowerBound(), v.getUpperBound()));
+	}
+	
+	/**
+	 * Mutates the values stored in the specified variable using polynomial mutation.  Unlike
+	 * {@link #mutate(RealVariable)}, each value is mutated with probability {@link #getProbability()}.
+	 * 
+	 * @param v the variable to be mutated
+	 */
+	public void mutate(RealVectorVariable v) {
+		for (int i = VectorSampling.next(-1, getProbability()); i < v.size();
+				i = VectorSampling.next(i, getProbability())) {
+			v.setValue(i, mutate(v.getValue(i), v.getLowerBound(i), v.getUpperBound(i)));
+		}
+	}
+	
+	/**
+	 * Mutates a single value using polynomial mutation.
+	 * 
+	 * @param x the value to be mutated
+	 * @param lb the lower bound
+	 * @param ub the upper bound
+	 * @return the mutated value
+	 */
+	private double mutate(double x, double lb, double ub) {
 		double u = PRNG.nextDouble();
-		double x = v.getValue();
-		double lb = v.getLowerBound();
-		double ub = v.getUpperBound();
 		double dx = ub - lb;
 		double delta;
 
@@ -155,7 +197,7 @@ public class PM extends TypeSafeMutation<RealVariable> {
 			x = ub;
 		}
 
-		v.setValue(x);
+		return x;
 	}
 
 }
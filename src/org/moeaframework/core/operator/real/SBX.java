@@ -25,6 +25,7 @@ import org.moeaframework.core.configuration.Property;
 import org.moeaframework.core.operator.TypeSafe;
 import org.moeaframework.core.operator.Variation;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 import org.moeaframework.core.variable.Variable;
 import org.moeaframework.util.validate.Validate;
 
@@ -223,12 +224,88 @@ public class SBX implements Variation {
 						result1.setVariable(i, variable2);
 						result2.setVariable(i, variable1);
 					}
+				} else if ((variable1 instanceof RealVectorVariable vector1) &&
+						(variable2 instanceof RealVectorVariable vector2)) {
+					evolve(vector1, vector2);
 				}
 			}
 		}
 
 		return new Solution[] { result1, result2 };
 	}
+	
+	/**
+	 * Evolves the values stored in the specified variables using this SBX operator.  Each pair of values is treated
+	 * as if they were separate variables, with each pair crossed over and swapped independently.  Both variables
+	 * must have the same size and bounds.
+	 * 
+	 * @param v1 the first variable
+	 * @param v2 the second variable
+	 */
+	private void evolve(RealVectorVariable v1, RealVectorVariable v2) {
+		Validate.that("v2.size()", v2.size()).isEqualTo(v1.size());
+		
+		double[] x1 = v1.getValues();
+		double[] x2 = v2.getValues();
+		
+		for (int i = 0; i < x1.length; i++) {
+			if (PRNG.nextBoolean()) {
+				double y1 = Math.min(x1[i], x2[i]);
+				double y2 = Math.max(x1[i], x2[i]);
+				double dy = y2 - y1;
+				
+				// avoid division by zero
+				if (dy > Settings.EPS) {
+					double lb = v1.getLowerBound(i);
+					double ub = v1.getUpperBound(i);
+					double rand = PRNG.nextDouble();
+					double betaq1, betaq2;
+					
+					if (symmetric) {
+						betaq1 = computeBetaQ(Math.min(y1 - lb, ub - y2) / dy, rand, distributionIndex);
+						betaq2 = betaq1;
+					} else {
+						betaq1 = computeBetaQ((y1 - lb) / dy, rand, distributionIndex);
+						betaq2 = computeBetaQ((ub - y2) / dy, rand, distributionIndex);
+					}
+					
+					x1[i] = Math.max(lb, Math.min(ub, 0.5 * ((y1 + y2) - betaq1 * dy)));
+					x2[i] = Math.max(lb, Math.min(ub, 0.5 * ((y1 + y2) + betaq2 * dy)));
+				}
+			}
+			
+			// randomly swap the values
+			if (swap && PRNG.nextBoolean()) {
+				double temp = x1[i];
+				x1[i] = x2[i];
+				x2[i] = temp;
+			}
+		}
+		
+		v1.setValues(x1);
+		v2.setValues(x2);
+	}
+	
+	/**
+	 * Computes the spread factor, {@code betaq}, used by SBX to generate an offspring.  This is equivalent to the
+	 * calculations in {@link #evolve_symmetric(RealVariable, RealVariable, double)} and
+	 * {@link #evolve_asymmetric(RealVariable, RealVariable, double)}.
+	 * 
+	 * @param ratio the distance from the parent to the bound, divided by the distance between the parents
+	 * @param rand the uniform random number
+	 * @param distributionIndex the distribution index of this SBX operator
+	 * @return the spread factor
+	 */
+	private static double computeBetaQ(double ratio, double rand, double distributionIndex) {
+		double beta = 1.0 / (1.0 + 2.0 * ratio);
+		double alpha = 2.0 - Math.pow(beta, distributionIndex + 1.0);
+		
+		if (rand <= 1.0 / alpha) {
+			return Math.pow(alpha * rand, 1.0 / (distributionIndex + 1.0));
+		} else {
+			return Math.pow(1.0 / (2.0 - alpha * rand), 1.0 / (distributionIndex + 1.0));
+		}
+	}
 
 	/*
 	 * The following code was provided by Haitham Seada on Dec 14, 2015.  This replaces the old implementation based
@@ -18,10 +18,12 @@
 package org.moeaframework.core.operator.real;
 
 import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
 import org.moeaframework.core.configuration.Prefix;
 import org.moeaframework.core.operator.TypeSafe;
 import org.moeaframework.core.operator.TypeSafeMutation;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 
 /**
  * Uniform mutation (UM) operator.  Each decision variable is mutated by selecting a new value within its bounds
@@ -59,6 +61,24 @@ public class UM extends TypeSafeMutation<RealVariable> {
 		return "um";
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Each value stored in a {@link RealVectorVariable} is also mutated with the same probability.
+	 */
+	@Override
+	public Solution mutate(Solution parent) {
+		Solution result = super.mutate(parent);
+		
+		for (int i = 0; i < result.getNumberOfVariables(); i++) {
+			if (result.getVariable(i) instanceof RealVectorVariable vector) {
+				mutate(vector);
+			}
+		}
+		
+		return result;
+	}
+	
 	/**
 	 * Mutates the specified variable using uniform mutation.
 	 * 
@@ -68,5 +88,18 @@ public class UM extends TypeSafeMutation<RealVariable> {
 	public void mutate(RealVariable variable) {
 		variable.setValue(PRNG.nextDouble(variable.getLowerBound(), variable.getUpperBound()));
 	}
+	
+	/**
+	 * Mutates the values stored in the specified variable using uniform mutation.  Unlike
+	 * {@link #mutate(RealVariable)}, each value is mutated with probability {@link #getProbability()}.
+	 * 
+	 * @param variable the variable to be mutated
+	 */
+	public void mutate(RealVectorVariable variable) {
+		for (int i = VectorSampling.next(-1, getProbability()); i < variable.size();
+				i = VectorSampling.next(i, getProbability())) {
+			variable.setValue(i, PRNG.nextDouble(variable.getLowerBound(i), variable.getUpperBound(i)));
+		}
+	}
 
 }
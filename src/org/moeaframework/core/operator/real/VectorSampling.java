@@ -0,0 +1,61 @@
+/* Copyright 2009-2025 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.operator.real;
+
+import org.moeaframework.core.PRNG;
+
+/**
+ * Selects the elements of a {@link org.moeaframework.core.variable.RealVectorVariable} that are modified by an
+ * operator, where each element is selected independently with a fixed probability.  Rather than drawing one random
+ * number per element, the distance to the next selected element is sampled from the geometric distribution.  Since
+ * mutation rates are typically {@code 1 / N}, this reduces the number of random numbers from {@code N} to about two
+ * per call, regardless of the number of elements.
+ */
+final class VectorSampling {
+	
+	private VectorSampling() {
+		super();
+	}
+	
+	/**
+	 * Returns the index of the next selected element.  To iterate over all selected elements, start with an index of
+	 * {@code -1} and repeatedly call this method until the returned index is greater than or equal to the size.
+	 * 
+	 * @param index the index of the previously selected element, or {@code -1} if no elements were selected
+	 * @param probability the probability of selecting each element
+	 * @return the index of the next selected element, which may exceed the size
+	 */
+	static int next(int index, double probability) {
+		if (probability >= 1.0) {
+			return index + 1;
+		} else if (probability <= 0.0) {
+			return Integer.MAX_VALUE;
+		}
+		
+		// log1p keeps the denominator negative for tiny probabilities, where 1.0 - probability rounds to 1.0, and the
+		// skip is clamped since it can exceed the range of an int or be infinite
+		double skip = Math.floor(Math.log(1.0 - PRNG.nextDouble()) / Math.log1p(-probability));
+		
+		if (skip >= (double)Integer.MAX_VALUE - index - 1) {
+			return Integer.MAX_VALUE;
+		}
+		
+		return index + 1 + (int)skip;
+	}
+
+}
@@ -0,0 +1,563 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.population;
+
+import java.util.Arrays;
+
+import org.moeaframework.core.comparator.DominanceComparator;
+
+/**
+ * Divide-and-conquer non-dominated sorting for dominance depth ranking.  Assigns the {@code rank} and
+ * {@code crowdingDistance} attributes to solutions.  Solutions of rank 0 belong to the Pareto non-dominated front.
+ * <p>
+ * This implements Jensen's algorithm as generalized by Fortin et al. and Buzdalov and Shalyto to correctly handle
+ * solutions sharing the same objective values.  The points are recursively split by the median value of one
+ * objective, reducing the number of objectives considered until only two remain, at which point ranks are computed
+ * using a sweep line.  This requires {@code O(N log^(M-1) N)} operations, making it well suited for large populations
+ * with a small number of objectives.  With many objectives, {@link EfficientNondominatedSorting} is typically faster.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Jensen, M. T. (2003).  "Reducing the Run-Time Complexity of Multiobjective EAs: The NSGA-II and Other
+ *       Algorithms."  IEEE Transactions on Evolutionary Computation, 7(5):503-515.
+ *   <li>Fortin, F.-A., Grenier, S., and Parizeau, M. (2013).  "Generalizing the Improved Run-Time Complexity
+ *       Algorithm for Non-Dominated Sorting."  Proceedings of the 15th Annual Conference on Genetic and Evolutionary
+ *       Computation, pp. 615-622.
+ *   <li>Buzdalov, M. and Shalyto, A. (2014).  "A Provably Asymptotically Fast Version of the Generalized Jensen
+ *       Algorithm for Non-dominated Sorting."  Parallel Problem Solving from Nature - PPSN XIII, pp. 528-537.
+ * </ol>
+ */
+public class DivideAndConquerNondominatedSorting extends MatrixNondominatedSorting {
+	
+	/**
+	 * Subproblems of this size or smaller are solved by comparing all pairs of points.
+	 */
+	private static final int BRUTE_FORCE_THRESHOLD = 16;
+	
+	/**
+	 * Constructs a divide-and-conquer non-dominated sorting operator using Pareto dominance.
+	 */
+	public DivideAndConquerNondominatedSorting() {
+		super();
+	}
+	
+	/**
+	 * Constructs a divide-and-conquer non-dominated sorting operator using the specified dominance comparator.
+	 * 
+	 * @param comparator the dominance comparator
+	 */
+	public DivideAndConquerNondominatedSorting(DominanceComparator comparator) {
+		super(comparator);
+	}
+	
+	@Override
+	protected int[] computeRanks(double[][] points) {
+		return new Sorter(points).sort();
+	}
+	
+	/**
+	 * Stores the state of a single invocation of the divide-and-conquer algorithm.  The points are identified by
+	 * their index, which due to the lexicographic sorting also determines their order in the first objective.  Each
+	 * subproblem is a range within {@code order} that is kept sorted by index, except while being partitioned.
+	 */
+	private static class Sorter {
+		
+		private final double[][] points;
+		
+		private final int[] ranks;
+		
+		private final int[] order;
+		
+		private final int[] buffer;
+		
+		private final double[] values;
+		
+		/**
+		 * The end of the partition with values less than the median, set by {@link #partition}.
+		 */
+		private int lowerEnd;
+		
+		/**
+		 * The end of the partition with values equal to the median, set by {@link #partition}.
+		 */
+		private int middleEnd;
+		
+		public Sorter(double[][] points) {
+			super();
+			this.points = points;
+			
+			ranks = new int[points.length];
+			order = new int[points.length];
+			buffer = new int[points.length];
+			values = new double[points.length];
+		}
+		
+		public int[] sort() {
+			int N = points.length;
+			
+			if (N == 0) {
+				return ranks;
+			}
+			
+			int numberOfObjectives = points[0].length;
+			
+			for (int i = 0; i < N; i++) {
+				order[i] = i;
+				
+				// with one objective, each distinct point is dominated by all prior points
+				if (numberOfObjectives == 1) {
+					ranks[i] = i;
+				}
+			}
+			
+			if (numberOfObjectives > 1) {
+				helperA(0, N, numberOfObjectives - 1);
+			}
+			
+			return ranks;
+		}
+		
+		/**
+		 * Assigns ranks within a range of points, considering only objectives {@code 0, ..., obj}.  The points must
+		 * have identical values in all objectives greater than {@code obj}, and any points outside the range that
+		 * dominate points within the range must already be accounted for.
+		 * 
+		 * @param from the start of the range, inclusive
+		 * @param until the end of the range, exclusive
+		 * @param obj the largest objective index considered
+		 */
+		private void helperA(int from, int until, int obj) {
+			int size = until - from;
+			
+			if (size <= 1) {
+				return;
+			} else if (size <= BRUTE_FORCE_THRESHOLD) {
+				bruteForce(from, until, from, until, obj);
+				return;
+			} else if (obj == 1) {
+				sweepA(from, until);
+				return;
+			}
+			
+			double min = min(from, until, obj);
+			double max = max(from, until, obj);
+			
+			if (Double.compare(min, max) == 0) {
+				helperA(from, until, obj - 1);
+				return;
+			}
+			
+			double median = median(from, until, from, from, obj);
+			partition(from, until, obj, median);
+			
+			int lower = lowerEnd;
+			int middle = middleEnd;
+			
+			helperA(from, lower, obj);
+			helperB(from, lower, lower, middle, obj - 1);
+			helperA(lower, middle, obj - 1);
+			merge(from, lower, middle);
+			helperB(from, middle, middle, until, obj - 1);
+			helperA(middle, until, obj);
+			merge(from, middle, until);
+		}
+		
+		/**
+		 * Updates the ranks of the weak points using the good points, considering only objectives
+		 * {@code 0, ..., obj}.  The ranks of the good points must be final, and each good point must be less than or
+		 * equal to each weak point in all objectives greater than {@code obj}.
+		 * 
+		 * @param goodFrom the start of the range of good points, inclusive
+		 * @param goodUntil the end of the range of good points, exclusive
+		 * @param weakFrom the start of the range of weak points, inclusive
+		 * @param weakUntil the end of the range of weak points, exclusive
+		 * @param obj the largest objective index considered
+		 */
+		private void helperB(int goodFrom, int goodUntil, int weakFrom, int weakUntil, int obj) {
+			int goodSize = goodUntil - goodFrom;
+			int weakSize = weakUntil - weakFrom;
+			
+			if (goodSize == 0 || weakSize == 0) {
+				return;
+			} else if (goodSize * weakSize <= BRUTE_FORCE_THRESHOLD * BRUTE_FORCE_THRESHOLD / 2) {
+				bruteForce(goodFrom, goodUntil, weakFrom, weakUntil, obj);
+				return;
+			} else if (obj == 1) {
+				sweepB(goodFrom, goodUntil, weakFrom, weakUntil);
+				return;
+			}
+			
+			if (Double.compare(max(goodFrom, goodUntil, obj), min(weakFrom, weakUntil, obj)) <= 0) {
+				helperB(goodFrom, goodUntil, weakFrom, weakUntil, obj - 1);
+				return;
+			} else if (Double.compare(min(goodFrom, goodUntil, obj), max(weakFrom, weakUntil, obj)) > 0) {
+				return;
+			}
+			
+			double median = median(goodFrom, goodUntil, weakFrom, weakUntil, obj);
+			
+			partition(goodFrom, goodUntil, obj, median);
+			int goodLower = lowerEnd;
+			int goodMiddle = middleEnd;
+			
+			partition(weakFrom, weakUntil, obj, median);
+			int weakLower = lowerEnd;
+			int weakMiddle = middleEnd;
+			
+			helperB(goodFrom, goodLower, weakFrom, weakLower, obj);
+			helperB(goodFrom, goodLower, weakLower, weakMiddle, obj - 1);
+			helperB(goodLower, goodMiddle, weakLower, weakMiddle, obj - 1);
+			merge(goodFrom, goodLower, goodMiddle);
+			helperB(goodFrom, goodMiddle, weakMiddle, weakUntil, obj - 1);
+			helperB(goodMiddle, goodUntil, weakMiddle, weakUntil, obj);
+			merge(goodFrom, goodMiddle, goodUntil);
+			merge(weakFrom, weakLower, weakMiddle);
+			merge(weakFrom, weakMiddle, weakUntil);
+		}
+		
+		/**
+		 * Compares all pairs of points, updating the ranks of the weak points using the good points.  When the ranges
+		 * are identical, the points are processed in order so that ranks are propagated within the range.
+		 * 
+		 * @param goodFrom the start of the range of good points, inclusive
+		 * @param goodUntil the end of the range of good points, exclusive
+		 * @param weakFrom the start of the range of weak points, inclusive
+		 * @param weakUntil the end of the range of weak points, exclusive
+		 * @param obj the largest objective index considered
+		 */
+		private void bruteForce(int goodFrom, int goodUntil, int weakFrom, int weakUntil, int obj) {
+			for (int i = weakFrom; i < weakUntil; i++) {
+				int weak = order[i];
+				
+				for (int j = goodFrom; j < goodUntil; j++) {
+					int good = order[j];
+					
+					if (good >= weak) {
+						break;
+					}
+					
+					if (dominates(points[good], points[weak], obj + 1)) {
+						ranks[weak] = Math.max(ranks[weak], ranks[good] + 1);
+					}
+				}
+			}
+		}
+		
+		/**
+		 * Solves {@link #helperA} for two objectives using a sweep line.
+		 * 
+		 * @param from the start of the range, inclusive
+		 * @param until the end of the range, exclusive
+		 */
+		private void sweepA(int from, int until) {
+			int size = compress(from, until);
+			int[] tree = createTree(size);
+			
+			for (int i = from; i < until; i++) {
+				int index = order[i];
+				int position = upperBound(size, points[index][1]);
+				
+				ranks[index] = Math.max(ranks[index], query(tree, position) + 1);
+				update(tree, position, ranks[index]);
+			}
+		}
+		
+		/**
+		 * Solves {@link #helperB} for two objectives using a sweep line.
+		 * 
+		 * @param goodFrom the start of the range of good points, inclusive
+		 * @param goodUntil the end of the range of good points, exclusive
+		 * @param weakFrom the start of the range of weak points, inclusive
+		 * @param weakUntil the end of the range of weak points, exclusive
+		 */
+		private void sweepB(int goodFrom, int goodUntil, int weakFrom, int weakUntil) {
+			int size = compress(goodFrom, goodUntil);
+			int[] tree = createTree(size);
+			int j = goodFrom;
+			
+			for (int i = weakFrom; i < weakUntil; i++) {
+				int weak = order[i];
+				
+				while (j < goodUntil && order[j] < weak) {
+					int good = order[j++];
+					update(tree, upperBound(size, points[good][1]), ranks[good]);
+				}
+				
+				ranks[weak] = Math.max(ranks[weak], query(tree, upperBound(size, points[weak][1])) + 1);
+			}
+		}
+		
+		/**
+		 * Stores the distinct values of the second objective within the range in sorted order in {@code values}.
+		 * 
+		 * @param from the start of the range, inclusive
+		 * @param until the end of the range, exclusive
+		 * @return the number of distinct values
+		 */
+		private int compress(int from, int until) {
+			int size = until - from;
+			
+			for (int i = 0; i < size; i++) {
+				values[i] = points[order[from + i]][1];
+			}
+			
+			Arrays.sort(values, 0, size);
+			int count = 0;
+			
+			for (int i = 0; i < size; i++) {
+				if (count == 0 || Double.compare(values[count - 1], values[i]) != 0) {
+					values[count++] = values[i];
+				}
+			}
+			
+			return count;
+		}
+		
+		/**
+		 * Returns the number of compressed values that are less than or equal to the given value.
+		 * 
+		 * @param size the number of compressed values
+		 * @param value the value
+		 * @return the number of compressed values less than or equal to the given value
+		 */
+		private int upperBound(int size, double value) {
+			int lower = 0;
+			int upper = size;
+			
+			while (lower < upper) {
+				int mid = (lower + upper) >>> 1;
+				
+				if (Double.compare(values[mid], value) <= 0) {
+					lower = mid + 1;
+				} else {
+					upper = mid;
+				}
+			}
+			
+			return lower;
+		}
+		
+		/**
+		 * Creates a Fenwick tree for computing prefix maximums, where {@code -1} indicates no value.
+		 * 
+		 * @param size the number of elements
+		 * @return the Fenwick tree
+		 */
+		private static int[] createTree(int size) {
+			int[] tree = new int[size + 1];
+			Arrays.fill(tree, -1);
+			return tree;
+		}
+		
+		/**
+		 * Returns the maximum value stored at the first {@code position} elements of the Fenwick tree.
+		 * 
+		 * @param tree the Fenwick tree
+		 * @param position the number of elements
+		 * @return the maximum value, or {@code -1} if no value is stored
+		 */
+		private static int query(int[] tree, int position) {
+			int result = -1;
+			
+			for (int i = position; i > 0; i -= i & -i) {
+				result = Math.max(result, tree[i]);
+			}
+			
+			return result;
+		}
+		
+		/**
+		 * Stores a value in the Fenwick tree.  The position is one-based, matching the result of
+		 * {@link #upperBound(int, double)} for a value contained in the tree.
+		 * 
+		 * @param tree the Fenwick tree
+		 * @param position the one-based position
+		 * @param value the value
+		 */
+		private static void update(int[] tree, int position, int value) {
+			for (int i = position; i < tree.length; i += i & -i) {
+				tree[i] = Math.max(tree[i], value);
+			}
+		}
+		
+		private double min(int from, int until, int obj) {
+			double result = points[order[from]][obj];
+			
+			for (int i = from + 1; i < until; i++) {
+				if (Double.compare(points[order[i]][obj], result) < 0) {
+					result = points[order[i]][obj];
+				}
+			}
+			
+			return result;
+		}
+		
+		private double max(int from, int until, int obj) {
+			double result = points[order[from]][obj];
+			
+			for (int i = from + 1; i < until; i++) {
+				if (Double.compare(points[order[i]][obj], result) > 0) {
+					result = points[order[i]][obj];
+				}
+			}
+			
+			return result;
+		}
+		
+		/**
+		 * Returns the median value of an objective over the union of two ranges.
+		 * 
+		 * @param from1 the start of the first range, inclusive
+		 * @param until1 the end of the first range, exclusive
+		 * @param from2 the start of the second range, inclusive
+		 * @param until2 the end of the second range, exclusive
+		 * @param obj the objective index
+		 * @return the median value
+		 */
+		private double median(int from1, int until1, int from2, int until2, int obj) {
+			int size = 0;
+			
+			for (int i = from1; i < until1; i++) {
+				values[size++] = points[order[i]][obj];
+			}
+			
+			for (int i = from2; i < until2; i++) {
+				values[size++] = points[order[i]][obj];
+			}
+			
+			return select(values, size, size / 2);
+		}
+		
+		/**
+		 * Returns the {@code k}-th smallest value in the array, reordering the first {@code size} elements.
+		 * 
+		 * @param array the array
+		 * @param size the number of elements
+		 * @param k the zero-based rank of the value to select
+		 * @return the {@code k}-th smallest value
+		 */
+		private static double select(double[] array, int size, int k) {
+			int lower = 0;
+			int upper = size - 1;
+			
+			while (lower < upper) {
+				double pivot = array[(lower + upper) >>> 1];
+				int i = lower;
+				int j = upper;
+				
+				while (i <= j) {
+					while (Double.compare(array[i], pivot) < 0) {
+						i++;
+					}
+					
+					while (Double.compare(array[j], pivot) > 0) {
+						j--;
+					}
+					
+					if (i <= j) {
+						double temp = array[i];
+						array[i] = array[j];
+						array[j] = temp;
+						i++;
+						j--;
+					}
+				}
+				
+				if (k <= j) {
+					upper = j;
+				} else if (k >= i) {
+					lower = i;
+				} else {
+					break;
+				}
+			}
+			
+			return array[k];
+		}
+		
+		/**
+		 * Stably partitions the range into values less than, equal to, and greater than the median, storing the
+		 * boundaries in {@link #lowerEnd} and {@link #middleEnd}.
+		 * 
+		 * @param from the start of the range, inclusive
+		 * @param until the end of the range, exclusive
+		 * @param obj the objective index
+		 * @param median the median value
+		 */
+		private void partition(int from, int until, int obj, double median) {
+			int size = 0;
+			
+			for (int i = from; i < until; i++) {
+				if (Double.compare(points[order[i]][obj], median) < 0) {
+					buffer[size++] = order[i];
+				}
+			}
+			
+			lowerEnd = from + size;
+			
+			for (int i = from; i < until; i++) {
+				if (Double.compare(points[order[i]][obj], median) == 0) {
+					buffer[size++] = order[i];
+				}
+			}
+			
+			middleEnd = from + size;
+			
+			for (int i = from; i < until; i++) {
+				if (Double.compare(points[order[i]][obj], median) > 0) {
+					buffer[size++] = order[i];
+				}
+			}
+			
+			System.arraycopy(buffer, 0, order, from, size);
+		}
+		
+		/**
+		 * Merges two adjacent sorted ranges.
+		 * 
+		 * @param from the start of the first range, inclusive
+		 * @param mid the end of the first range and start of the second range
+		 * @param until the end of the second range, exclusive
+		 */
+		private void merge(int from, int mid, int until) {
+			if (from == mid || mid == until || order[mid - 1] < order[mid]) {
+				return;
+			}
+			
+			int i = from;
+			int j = mid;
+			int size = 0;
+			
+			while (i < mid && j < until) {
+				buffer[size++] = order[i] < order[j] ? order[i++] : order[j++];
+			}
+			
+			while (i < mid) {
+				buffer[size++] = order[i++];
+			}
+			
+			while (j < until) {
+				buffer[size++] = order[j++];
+			}
+			
+			System.arraycopy(buffer, 0, order, from, size);
+		}
+	
+	}
+
+}
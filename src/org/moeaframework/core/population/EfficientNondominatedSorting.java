@@ -0,0 +1,173 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.population;
+
+import java.util.Arrays;
+
+import org.moeaframework.core.comparator.DominanceComparator;
+
+/**
+ * Efficient non-dominated sort (ENS) for dominance depth ranking.  Assigns the {@code rank} and
+ * {@code crowdingDistance} attributes to solutions.  Solutions of rank 0 belong to the Pareto non-dominated front.
+ * <p>
+ * After sorting the solutions lexicographically, each solution is compared only against solutions already assigned
+ * to a front, since no solution can be dominated by one appearing later in the sorted order.  The front for each
+ * solution is found using either a sequential search (ENS-SS) or a binary search (ENS-BS).  The sequential search is
+ * typically faster when there are few fronts, whereas the binary search is preferred when there are many fronts.
+ * While the worst case still requires {@code O(MN^2)} comparisons, far fewer are required in practice and no
+ * {@code N x N} dominance matrix is constructed.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Zhang et al. (2015).  "An Efficient Approach to Nondominated Sorting for Evolutionary Multiobjective
+ *       Optimization."  IEEE Transactions on Evolutionary Computation, 19(2):201-213.
+ * </ol>
+ */
+public class EfficientNondominatedSorting extends MatrixNondominatedSorting {
+	
+	/**
+	 * The strategy used to search for the front containing each solution.
+	 */
+	public enum SearchStrategy {
+		
+		/**
+		 * Checks each front in order (ENS-SS).
+		 */
+		SEQUENTIAL,
+		
+		/**
+		 * Uses a binary search over the fronts (ENS-BS).
+		 */
+		BINARY
+	
+	}
+	
+	/**
+	 * The strategy used to search for the front containing each solution.
+	 */
+	private final SearchStrategy searchStrategy;
+	
+	/**
+	 * Constructs an efficient non-dominated sorting operator using Pareto dominance and binary search.
+	 */
+	public EfficientNondominatedSorting() {
+		this(SearchStrategy.BINARY);
+	}
+	
+	/**
+	 * Constructs an efficient non-dominated sorting operator using Pareto dominance.
+	 * 
+	 * @param searchStrategy the strategy used to search for the front containing each solution
+	 */
+	public EfficientNondominatedSorting(SearchStrategy searchStrategy) {
+		super();
+		this.searchStrategy = searchStrategy;
+	}
+	
+	/**
+	 * Constructs an efficient non-dominated sorting operator using the specified dominance comparator.
+	 * 
+	 * @param comparator the dominance comparator
+	 * @param searchStrategy the strategy used to search for the front containing each solution
+	 */
+	public EfficientNondominatedSorting(DominanceComparator comparator, SearchStrategy searchStrategy) {
+		super(comparator);
+		this.searchStrategy = searchStrategy;
+	}
+	
+	/**
+	 * Returns the strategy used to search for the front containing each solution.
+	 * 
+	 * @return the search strategy
+	 */
+	public SearchStrategy getSearchStrategy() {
+		return searchStrategy;
+	}
+	
+	@Override
+	protected int[] computeRanks(double[][] points) {
+		int N = points.length;
+		int[] ranks = new int[N];
+		int[][] fronts = new int[N][];
+		int[] frontSizes = new int[N];
+		int numberOfFronts = 0;
+		
+		for (int i = 0; i < N; i++) {
+			int k;
+			
+			if (searchStrategy == SearchStrategy.SEQUENTIAL) {
+				k = 0;
+				
+				while (k < numberOfFronts && isDominated(points, i, fronts[k], frontSizes[k])) {
+					k++;
+				}
+			} else {
+				int lower = 0;
+				int upper = numberOfFronts;
+				
+				while (lower < upper) {
+					int mid = (lower + upper) >>> 1;
+					
+					if (isDominated(points, i, fronts[mid], frontSizes[mid])) {
+						lower = mid + 1;
+					} else {
+						upper = mid;
+					}
+				}
+				
+				k = lower;
+			}
+			
+			if (k == numberOfFronts) {
+				fronts[k] = new int[4];
+				numberOfFronts++;
+			} else if (frontSizes[k] == fronts[k].length) {
+				fronts[k] = Arrays.copyOf(fronts[k], 2 * frontSizes[k]);
+			}
+			
+			fronts[k][frontSizes[k]++] = i;
+			ranks[i] = k;
+		}
+		
+		return ranks;
+	}
+	
+	/**
+	 * Returns {@code true} if the point is dominated by any member of the front.  The front is scanned starting with
+	 * the most recently added members, as these are the most likely to dominate the point.
+	 * 
+	 * @param points the points
+	 * @param index the index of the point being checked
+	 * @param front the indices of the points in the front
+	 * @param size the number of points in the front
+	 * @return {@code true} if the point is dominated by any member of the front; {@code false} otherwise
+	 */
+	private static boolean isDominated(double[][] points, int index, int[] front, int size) {
+		double[] point = points[index];
+		int numberOfObjectives = point.length;
+		
+		for (int j = size - 1; j >= 0; j--) {
+			if (dominates(points[front[j]], point, numberOfObjectives)) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+
+}
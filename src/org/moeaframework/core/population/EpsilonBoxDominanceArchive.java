@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.Iterator;
+import java.util.List;
 
 import org.moeaframework.core.Epsilons;
 import org.moeaframework.core.Solution;
@@ -39,8 +40,11 @@ import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
  *   <li>Hadka, D. and Reed, P.  "Borg: An Auto-Adaptive Many-Objective Evolutionary Computing Framework."
  *       Evolutionary Computation, 21(2):231-259, 2013.
  * </ol>
+ * <p>
+ * When using {@link EpsilonBoxDominanceComparator}, the solutions are indexed by their &epsilon;-box index vectors,
+ * as described in {@link IndexedNondominatedPopulation}.
  */
-public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
+public class EpsilonBoxDominanceArchive extends IndexedNondominatedPopulation {
 
 	/**
 	 * The number of &epsilon;-box improvements that have occurred.
@@ -155,6 +159,62 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 
 	@Override
 	public boolean add(Solution newSolution) {
+		if (!isIndexed()) {
+			return addWithoutIndex(newSolution);
+		}
+		
+		boolean same = false;
+		boolean dominates = false;
+		int flag = compareViolation(newSolution);
+		
+		if (flag > 0) {
+			return false;
+		} else if (flag < 0) {
+			dominates = !isEmpty();
+			clear();
+		} else if (!isEmpty()) {
+			double[] point = getIndexPoint(newSolution);
+			
+			if (isDominated(point)) {
+				return false;
+			}
+			
+			// the archive contains at most one solution per box
+			List<Solution> sameBox = findNearby(point, 0.0);
+			
+			for (Solution oldSolution : sameBox) {
+				if (getComparator().compare(newSolution, oldSolution) > 0) {
+					return false;
+				}
+			}
+			
+			for (Solution oldSolution : sameBox) {
+				remove(oldSolution);
+				same = true;
+			}
+			
+			dominates = removeDominated(point) > 0;
+		}
+		
+		if (!same) {
+			numberOfImprovements++;
+			
+			if (dominates) {
+				numberOfDominatingImprovements++;
+			}
+		}
+		
+		return forceAddWithoutCheck(newSolution);
+	}
+	
+	/**
+	 * Adds the solution by comparing against every member of this archive.  This is used when the comparator is not
+	 * supported by the index.
+	 * 
+	 * @param newSolution the solution to add
+	 * @return {@code true} if the solution was added; {@code false} otherwise
+	 */
+	private boolean addWithoutIndex(Solution newSolution) {
 		Iterator<Solution> iterator = iterator();
 
 		boolean same = false;
@@ -187,6 +247,26 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 
 		return forceAddWithoutCheck(newSolution);
 	}
+	
+	@Override
+	protected boolean isIndexable() {
+		return getComparator().getClass() == EpsilonBoxDominanceComparator.class;
+	}
+	
+	/**
+	 * Returns the &epsilon;-box index vector of the solution.
+	 */
+	@Override
+	protected double[] getIndexPoint(Solution solution) {
+		Epsilons epsilons = getComparator().getEpsilons();
+		double[] point = new double[solution.getNumberOfObjectives()];
+		
+		for (int i = 0; i < point.length; i++) {
+			point[i] = solution.getObjective(i).getEpsilonIndex(epsilons.get(i));
+		}
+		
+		return point;
+	}
 
 	/**
 	 * Returns the &epsilon;-box dominance comparator used by this archive.
@@ -0,0 +1,1013 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.population;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.comparator.DominanceComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
+
+/**
+ * A non-dominated population that indexes its members by their objective values, allowing the dominance checks
+ * performed when adding a solution to run in sub-linear expected time.  The index is a tree of nested bounding
+ * boxes, similar to the ND-Tree [1].  When adding a new solution, any subtree whose bounding box cannot contain a
+ * dominating, dominated, or duplicate solution is skipped entirely.  This is useful for large, unbounded archives
+ * where the linear scan performed by {@link NondominatedPopulation} becomes a bottleneck.
+ * <p>
+ * The index is only used with the Pareto dominance relation, specifically {@link ParetoDominanceComparator} and
+ * {@link ParetoObjectiveComparator}.  Any other comparator falls back to the linear scan.  Unlike
+ * {@link NondominatedPopulation}, the dominance and duplicate checks are performed before removing any dominated
+ * solutions, so a solution that is rejected never modifies this population.  Additionally, the duplicate mode
+ * {@link DuplicateMode#ALLOW_DUPLICATE_OBJECTIVES} compares the decision variables of every non-dominated member and
+ * is therefore not sub-linear.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Jaszkiewicz, A. and Lust, T.  "ND-Tree-Based Update: A Fast Algorithm for the Dynamic Nondominance
+ *       Problem."  IEEE Transactions on Evolutionary Computation, 22(5):778-791, 2018.
+ * </ol>
+ */
+public class IndexedNondominatedPopulation extends NondominatedPopulation {
+	
+	/**
+	 * The maximum number of solutions stored in a leaf node before it is split.
+	 */
+	private static final int MAX_LEAF_SIZE = 16;
+	
+	/**
+	 * The weight balance of the index.  A subtree is rebuilt whenever one of its children contains more than this
+	 * fraction of its solutions.
+	 */
+	private static final double BALANCE = 0.75;
+	
+	/**
+	 * The root of the index, or {@code null} if this population is empty.
+	 */
+	private Node root;
+	
+	/**
+	 * The aggregate constraint violation shared by all solutions in this population.  Since any solution with a
+	 * smaller constraint violation dominates those with larger violations, all members of a non-dominated population
+	 * have the same constraint violation.
+	 */
+	private double violation;
+	
+	/**
+	 * {@code true} if the index is consistent with the contents of this population.  This can only become
+	 * {@code false} if solutions with differing constraint violations are forcibly added to this population.
+	 */
+	private boolean indexValid;
+	
+	/**
+	 * Constructs an empty, indexed non-dominated population using the Pareto dominance relation.
+	 */
+	public IndexedNondominatedPopulation() {
+		this(new ParetoDominanceComparator());
+	}
+	
+	/**
+	 * Constructs an empty, indexed non-dominated population using the Pareto dominance relation.
+	 * 
+	 * @param duplicateMode specifies how duplicate solutions are handled
+	 */
+	public IndexedNondominatedPopulation(DuplicateMode duplicateMode) {
+		this(new ParetoDominanceComparator(), duplicateMode);
+	}
+	
+	/**
+	 * Constructs an empty, indexed non-dominated population using the specified dominance relation.
+	 * 
+	 * @param comparator the dominance relation used by this non-dominated population
+	 */
+	public IndexedNondominatedPopulation(DominanceComparator comparator) {
+		this(comparator, Settings.getDuplicateMode());
+	}
+	
+	/**
+	 * Constructs an empty, indexed non-dominated population using the specified dominance relation.
+	 * 
+	 * @param comparator the dominance relation used by this non-dominated population
+	 * @param duplicateMode specifies how duplicate solutions are handled
+	 */
+	public IndexedNondominatedPopulation(DominanceComparator comparator, DuplicateMode duplicateMode) {
+		super(comparator, duplicateMode);
+		indexValid = true;
+	}
+	
+	/**
+	 * Constructs an indexed non-dominated population using the Pareto dominance relation and initialized with the
+	 * specified solutions.
+	 * 
+	 * @param iterable the solutions used to initialize this non-dominated population
+	 */
+	public IndexedNondominatedPopulation(Iterable<? extends Solution> iterable) {
+		this();
+		addAll(iterable);
+	}
+	
+	/**
+	 * Constructs an indexed non-dominated population using the specified dominance comparator and initialized with
+	 * the specified solutions.
+	 * 
+	 * @param comparator the dominance relation used by this non-dominated population
+	 * @param iterable the solutions used to initialize this non-dominated population
+	 */
+	public IndexedNondominatedPopulation(DominanceComparator comparator, Iterable<? extends Solution> iterable) {
+		this(comparator);
+		addAll(iterable);
+	}
+	
+	@Override
+	public boolean add(Solution newSolution) {
+		if (!isIndexed()) {
+			return super.add(newSolution);
+		}
+		
+		int flag = compareViolation(newSolution);
+		
+		if (flag > 0) {
+			return false;
+		} else if (flag < 0) {
+			clear();
+		} else if (!isEmpty()) {
+			double[] point = getIndexPoint(newSolution);
+			
+			if (isDominated(point) || hasDuplicate(newSolution, point)) {
+				return false;
+			}
+			
+			removeDominated(point);
+		}
+		
+		return forceAddWithoutCheck(newSolution);
+	}
+	
+	/**
+	 * Returns {@code true} if any solution in this population is a duplicate of the new solution based on the
+	 * duplicate mode.  Solutions dominated by the new solution are ignored, as they will be removed.
+	 * 
+	 * @param newSolution the new solution
+	 * @param point the index point of the new solution
+	 * @return {@code true} if a duplicate solution exists; {@code false} otherwise
+	 */
+	private boolean hasDuplicate(Solution newSolution, double[] point) {
+		List<Entry> candidates = new ArrayList<>();
+		
+		switch (duplicateMode) {
+			case NO_DUPLICATE_OBJECTIVES -> collectNearby(root, point, Settings.EPS, candidates);
+			case ALLOW_DUPLICATE_OBJECTIVES -> collectAll(root, candidates);
+			case ALLOW_DUPLICATES -> {
+				return false;
+			}
+		}
+		
+		for (Entry entry : candidates) {
+			if (!dominates(point, entry.point) && isDuplicate(newSolution, entry.solution)) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Returns {@code true} if the index can be used with the dominance comparator of this population.  Subclasses
+	 * overriding {@link #getIndexPoint(Solution)} must also override this method.
+	 * 
+	 * @return {@code true} if the index can be used; {@code false} otherwise
+	 */
+	protected boolean isIndexable() {
+		Class<?> type = comparator.getClass();
+		return type == ParetoDominanceComparator.class || type == ParetoObjectiveComparator.class;
+	}
+	
+	/**
+	 * Returns {@code true} if the index is available and can be used by {@link #add(Solution)}.
+	 * 
+	 * @return {@code true} if the index is available; {@code false} otherwise
+	 */
+	protected boolean isIndexed() {
+		return indexValid && isIndexable();
+	}
+	
+	/**
+	 * Returns the point used to index the given solution.  The point is minimized, such that solutions dominate one
+	 * another if their index points dominate one another.  The default uses the canonical objective values.
+	 * 
+	 * @param solution the solution
+	 * @return the point used to index the solution
+	 */
+	protected double[] getIndexPoint(Solution solution) {
+		return solution.getCanonicalObjectiveValues();
+	}
+	
+	/**
+	 * Compares the aggregate constraint violation of the given solution against the members of this population.
+	 * 
+	 * @param solution the solution
+	 * @return {@code -1}, {@code 0}, or {@code 1} if the solution has a smaller, equal, or larger constraint
+	 *         violation; or {@code 0} if this population is empty or the comparator ignores constraints
+	 */
+	protected int compareViolation(Solution solution) {
+		if (isEmpty() || !isConstrained()) {
+			return 0;
+		}
+		
+		return Double.compare(solution.getSumOfConstraintViolations(), violation);
+	}
+	
+	/**
+	 * Returns {@code true} if the dominance comparator considers constraint violations.
+	 * 
+	 * @return {@code true} if the dominance comparator considers constraint violations; {@code false} otherwise
+	 */
+	private boolean isConstrained() {
+		return comparator.getClass() != ParetoObjectiveComparator.class;
+	}
+	
+	/**
+	 * Returns {@code true} if the given point is dominated by the index point of any solution in this population.
+	 * 
+	 * @param point the index point
+	 * @return {@code true} if the point is dominated; {@code false} otherwise
+	 */
+	protected boolean isDominated(double[] point) {
+		return root != null && isDominated(root, point);
+	}
+	
+	/**
+	 * Recursive helper for {@link #isDominated(double[])}.
+	 * 
+	 * @param node the current node
+	 * @param point the index point
+	 * @return {@code true} if the point is dominated by any solution in this subtree; {@code false} otherwise
+	 */
+	private boolean isDominated(Node node, double[] point) {
+		if (!weaklyDominates(node.lower, point)) {
+			return false;
+		}
+		
+		if (dominates(node.upper, point)) {
+			return true;
+		}
+		
+		if (node.isLeaf()) {
+			for (Entry entry : node.entries) {
+				if (dominates(entry.point, point)) {
+					return true;
+				}
+			}
+			
+			return false;
+		}
+		
+		return isDominated(node.left, point) || isDominated(node.right, point);
+	}
+	
+	/**
+	 * Removes all solutions from this population whose index points are dominated by the given point.
+	 * 
+	 * @param point the index point
+	 * @return the number of solutions removed
+	 */
+	protected int removeDominated(double[] point) {
+		if (root == null) {
+			return 0;
+		}
+		
+		List<Entry> entries = new ArrayList<>();
+		collectDominated(root, point, entries);
+		removeEntries(entries);
+		return entries.size();
+	}
+	
+	/**
+	 * Recursive helper for {@link #removeDominated(double[])}.
+	 * 
+	 * @param node the current node
+	 * @param point the index point
+	 * @param result the list storing the entries dominated by the point
+	 */
+	private void collectDominated(Node node, double[] point, List<Entry> result) {
+		if (!weaklyDominates(point, node.upper)) {
+			return;
+		}
+		
+		if (dominates(point, node.lower)) {
+			collectAll(node, result);
+		} else if (node.isLeaf()) {
+			for (Entry entry : node.entries) {
+				if (dominates(point, entry.point)) {
+					result.add(entry);
+				}
+			}
+		} else {
+			collectDominated(node.left, point, result);
+			collectDominated(node.right, point, result);
+		}
+	}
+	
+	/**
+	 * Returns the solutions in this population whose index points are within the given distance of the point along
+	 * each coordinate.
+	 * 
+	 * @param point the index point
+	 * @param tolerance the maximum distance along each coordinate
+	 * @return the matching solutions
+	 */
+	protected List<Solution> findNearby(double[] point, double tolerance) {
+		List<Entry> entries = new ArrayList<>();
+		List<Solution> result = new ArrayList<>();
+		
+		if (root != null) {
+			collectNearby(root, point, tolerance, entries);
+		}
+		
+		for (Entry entry : entries) {
+			result.add(entry.solution);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Recursive helper for {@link #findNearby(double[], double)}.
+	 * 
+	 * @param node the current node
+	 * @param point the index point
+	 * @param tolerance the maximum distance along each coordinate
+	 * @param result the list storing the matching entries
+	 */
+	private void collectNearby(Node node, double[] point, double tolerance, List<Entry> result) {
+		for (int i = 0; i < point.length; i++) {
+			if (point[i] < node.lower[i] - tolerance || point[i] > node.upper[i] + tolerance) {
+				return;
+			}
+		}
+		
+		if (node.isLeaf()) {
+			for (Entry entry : node.entries) {
+				if (isNearby(entry.point, point, tolerance)) {
+					result.add(entry);
+				}
+			}
+		} else {
+			collectNearby(node.left, point, tolerance, result);
+			collectNearby(node.right, point, tolerance, result);
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if the two points are within the given distance along each coordinate.
+	 * 
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @param tolerance the maximum distance along each coordinate
+	 * @return {@code true} if the points are within the given distance; {@code false} otherwise
+	 */
+	private static boolean isNearby(double[] point1, double[] point2, double tolerance) {
+		for (int i = 0; i < point1.length; i++) {
+			if (!(Math.abs(point1[i] - point2[i]) <= tolerance)) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Collects all entries stored in the subtree.
+	 * 
+	 * @param node the root of the subtree
+	 * @param result the list storing the entries
+	 */
+	private static void collectAll(Node node, List<Entry> result) {
+		if (node == null) {
+			return;
+		} else if (node.isLeaf()) {
+			result.addAll(node.entries);
+		} else {
+			collectAll(node.left, result);
+			collectAll(node.right, result);
+		}
+	}
+	
+	/**
+	 * Removes the entries from both the index and this population.
+	 * 
+	 * @param entries the entries to remove
+	 */
+	private void removeEntries(List<Entry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		
+		Set<Solution> solutions = Collections.newSetFromMap(new IdentityHashMap<>());
+		
+		for (Entry entry : entries) {
+			solutions.add(entry.solution);
+			unindex(entry);
+		}
+		
+		int remaining = entries.size();
+		
+		for (int i = size() - 1; i >= 0 && remaining > 0; i--) {
+			if (solutions.contains(get(i))) {
+				super.remove(i);
+				remaining--;
+			}
+		}
+	}
+	
+	/**
+	 * Adds the specified solution to this population and its index, bypassing the non-domination check.
+	 */
+	@Override
+	protected boolean forceAddWithoutCheck(Solution newSolution) {
+		if (isIndexed()) {
+			double newViolation = isConstrained() ? newSolution.getSumOfConstraintViolations() : 0.0;
+			
+			if (isEmpty()) {
+				violation = newViolation;
+			} else if (Double.compare(newViolation, violation) != 0) {
+				root = null;
+				indexValid = false;
+			}
+		}
+		
+		boolean result = super.forceAddWithoutCheck(newSolution);
+		
+		if (isIndexed()) {
+			index(new Entry(newSolution, getIndexPoint(newSolution)));
+		}
+		
+		return result;
+	}
+	
+	@Override
+	public void remove(int index) {
+		Solution solution = get(index);
+		super.remove(index);
+		
+		if (isIndexed()) {
+			unindex(solution);
+		}
+	}
+	
+	@Override
+	public boolean remove(Solution solution) {
+		int index = indexOf(solution);
+		
+		if (index < 0) {
+			return false;
+		}
+		
+		remove(index);
+		return true;
+	}
+	
+	@Override
+	public void clear() {
+		super.clear();
+		root = null;
+		indexValid = true;
+	}
+	
+	@Override
+	public void truncate(int size, Comparator<? super Solution> comparator) {
+		super.truncate(size, comparator);
+		rebuildIndex();
+	}
+	
+	@Override
+	public void loadState(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+		super.loadState(stream);
+		rebuildIndex();
+	}
+	
+	@Override
+	public IndexedNondominatedPopulation copy() {
+		IndexedNondominatedPopulation result = new IndexedNondominatedPopulation(getComparator(), getDuplicateMode());
+		
+		for (Solution solution : this) {
+			result.forceAddWithoutCheck(solution.copy());
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Rebuilds the index from the current contents of this population.
+	 */
+	private void rebuildIndex() {
+		List<Entry> entries = new ArrayList<>();
+		
+		root = null;
+		indexValid = true;
+		
+		if (!isIndexable()) {
+			return;
+		}
+		
+		for (int i = 0; i < size(); i++) {
+			Solution solution = get(i);
+			double newViolation = isConstrained() ? solution.getSumOfConstraintViolations() : 0.0;
+			
+			if (i == 0) {
+				violation = newViolation;
+			} else if (Double.compare(newViolation, violation) != 0) {
+				indexValid = false;
+				return;
+			}
+			
+			entries.add(new Entry(solution, getIndexPoint(solution)));
+		}
+		
+		if (!entries.isEmpty()) {
+			root = build(entries, null);
+		}
+	}
+	
+	/**
+	 * Inserts the entry into the index.  The entry is placed in the child requiring the smallest enlargement of its
+	 * bounding box.  Afterwards, the topmost unbalanced subtree along the insertion path, if any, is rebuilt.
+	 * 
+	 * @param entry the entry to insert
+	 */
+	private void index(Entry entry) {
+		if (root == null) {
+			root = new Node(null, entry.point);
+			root.entries = new ArrayList<>();
+		}
+		
+		Node node = root;
+		
+		while (true) {
+			node.size++;
+			node.expand(entry.point);
+			
+			if (node.isLeaf()) {
+				break;
+			}
+			
+			node = chooseChild(node, entry.point);
+		}
+		
+		node.entries.add(entry);
+		entry.leaf = node;
+		
+		if (node.entries.size() > MAX_LEAF_SIZE) {
+			rebuild(node);
+		}
+		
+		rebalance(node);
+	}
+	
+	/**
+	 * Removes the entry from the index.
+	 * 
+	 * @param entry the entry to remove
+	 */
+	private void unindex(Entry entry) {
+		Node leaf = entry.leaf;
+		leaf.entries.remove(entry);
+		
+		for (Node node = leaf; node != null; node = node.parent) {
+			node.size--;
+		}
+		
+		if (leaf.entries.isEmpty()) {
+			Node parent = leaf.parent;
+			
+			if (parent == null) {
+				root = null;
+				return;
+			}
+			
+			Node sibling = parent.left == leaf ? parent.right : parent.left;
+			replace(parent, sibling);
+			refit(sibling.parent);
+			rebalance(sibling);
+		} else {
+			refit(leaf);
+			rebalance(leaf);
+		}
+	}
+	
+	/**
+	 * Removes the solution from the index.  The solution is located by its current index point, but falls back to
+	 * searching the entire index in case the solution was modified.
+	 * 
+	 * @param solution the solution to remove
+	 */
+	private void unindex(Solution solution) {
+		if (root == null) {
+			return;
+		}
+		
+		Entry entry = find(root, solution, getIndexPoint(solution));
+		
+		if (entry == null) {
+			List<Entry> entries = new ArrayList<>();
+			collectAll(root, entries);
+			
+			for (Entry candidate : entries) {
+				if (candidate.solution == solution) {
+					entry = candidate;
+					break;
+				}
+			}
+		}
+		
+		if (entry != null) {
+			unindex(entry);
+		}
+	}
+	
+	/**
+	 * Locates the entry for the given solution.
+	 * 
+	 * @param node the current node
+	 * @param solution the solution
+	 * @param point the index point of the solution
+	 * @return the entry, or {@code null} if no entry was found in this subtree
+	 */
+	private static Entry find(Node node, Solution solution, double[] point) {
+		if (!weaklyDominates(node.lower, point) || !weaklyDominates(point, node.upper)) {
+			return null;
+		}
+		
+		if (node.isLeaf()) {
+			for (Entry entry : node.entries) {
+				if (entry.solution == solution) {
+					return entry;
+				}
+			}
+			
+			return null;
+		}
+		
+		Entry entry = find(node.left, solution, point);
+		return entry != null ? entry : find(node.right, solution, point);
+	}
+	
+	/**
+	 * Selects the child of an internal node that requires the smallest enlargement to contain the point.  Ties are
+	 * broken by the smaller bounding box.
+	 * 
+	 * @param node the internal node
+	 * @param point the point
+	 * @return the selected child
+	 */
+	private static Node chooseChild(Node node, double[] point) {
+		double leftEnlargement = node.left.enlargement(point);
+		double rightEnlargement = node.right.enlargement(point);
+		
+		if (leftEnlargement < rightEnlargement) {
+			return node.left;
+		} else if (rightEnlargement < leftEnlargement) {
+			return node.right;
+		} else {
+			return node.left.extent() <= node.right.extent() ? node.left : node.right;
+		}
+	}
+	
+	/**
+	 * Rebuilds the topmost subtree along the path from the given node to the root that is no longer weight balanced.
+	 * 
+	 * @param node the starting node
+	 */
+	private void rebalance(Node node) {
+		Node unbalanced = null;
+		
+		for (; node != null; node = node.parent) {
+			if (!node.isLeaf() && node.size > 2 * MAX_LEAF_SIZE &&
+					Math.max(node.left.size, node.right.size) > BALANCE * node.size) {
+				unbalanced = node;
+			}
+		}
+		
+		if (unbalanced != null) {
+			rebuild(unbalanced);
+		}
+	}
+	
+	/**
+	 * Replaces the subtree with a balanced subtree containing the same entries.
+	 * 
+	 * @param node the root of the subtree
+	 */
+	private void rebuild(Node node) {
+		List<Entry> entries = new ArrayList<>();
+		collectAll(node, entries);
+		replace(node, build(entries, node.parent));
+	}
+	
+	/**
+	 * Replaces one node with another in the tree.
+	 * 
+	 * @param oldNode the node being replaced
+	 * @param newNode the new node
+	 */
+	private void replace(Node oldNode, Node newNode) {
+		Node parent = oldNode.parent;
+		newNode.parent = parent;
+		
+		if (parent == null) {
+			root = newNode;
+		} else if (parent.left == oldNode) {
+			parent.left = newNode;
+		} else {
+			parent.right = newNode;
+		}
+	}
+	
+	/**
+	 * Recomputes the bounding boxes from the given node to the root.
+	 * 
+	 * @param node the starting node
+	 */
+	private static void refit(Node node) {
+		for (; node != null; node = node.parent) {
+			node.refit();
+		}
+	}
+	
+	/**
+	 * Builds a balanced subtree by recursively splitting the entries at the median of the coordinate with the largest
+	 * spread.
+	 * 
+	 * @param entries the entries
+	 * @param parent the parent of the subtree
+	 * @return the root of the subtree
+	 */
+	private static Node build(List<Entry> entries, Node parent) {
+		Node node = new Node(parent, entries.get(0).point);
+		node.size = entries.size();
+		
+		for (Entry entry : entries) {
+			node.expand(entry.point);
+		}
+		
+		if (entries.size() <= MAX_LEAF_SIZE) {
+			node.entries = new ArrayList<>(entries);
+			
+			for (Entry entry : entries) {
+				entry.leaf = node;
+			}
+		} else {
+			int dimension = 0;
+			double spread = Double.NEGATIVE_INFINITY;
+			
+			for (int i = 0; i < node.lower.length; i++) {
+				if (node.upper[i] - node.lower[i] > spread) {
+					dimension = i;
+					spread = node.upper[i] - node.lower[i];
+				}
+			}
+			
+			final int d = dimension;
+			entries.sort((e1, e2) -> Double.compare(e1.point[d], e2.point[d]));
+			
+			int median = entries.size() / 2;
+			node.left = build(new ArrayList<>(entries.subList(0, median)), node);
+			node.right = build(new ArrayList<>(entries.subList(median, entries.size())), node);
+		}
+		
+		return node;
+	}
+	
+	/**
+	 * Returns {@code true} if the first point weakly dominates the second, meaning it is less than or equal in every
+	 * coordinate.
+	 * 
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @return {@code true} if the first point weakly dominates the second; {@code false} otherwise
+	 */
+	private static boolean weaklyDominates(double[] point1, double[] point2) {
+		for (int i = 0; i < point1.length; i++) {
+			if (Double.compare(point1[i], point2[i]) > 0) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Returns {@code true} if the first point dominates the second, meaning it is less than or equal in every
+	 * coordinate and strictly less in at least one coordinate.
+	 * 
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @return {@code true} if the first point dominates the second; {@code false} otherwise
+	 */
+	private static boolean dominates(double[] point1, double[] point2) {
+		boolean strict = false;
+		
+		for (int i = 0; i < point1.length; i++) {
+			int flag = Double.compare(point1[i], point2[i]);
+			
+			if (flag > 0) {
+				return false;
+			} else if (flag < 0) {
+				strict = true;
+			}
+		}
+		
+		return strict;
+	}
+	
+	/**
+	 * A solution stored in the index along with its index point.
+	 */
+	private static class Entry {
+		
+		/**
+		 * The solution.
+		 */
+		private final Solution solution;
+		
+		/**
+		 * The index point of the solution, computed when the solution was added.
+		 */
+		private final double[] point;
+		
+		/**
+		 * The leaf node currently storing this entry.
+		 */
+		private Node leaf;
+		
+		/**
+		 * Constructs a new entry.
+		 * 
+		 * @param solution the solution
+		 * @param point the index point of the solution
+		 */
+		public Entry(Solution solution, double[] point) {
+			super();
+			this.solution = solution;
+			this.point = point;
+		}
+	
+	}
+	
+	/**
+	 * A node in the index.  Leaf nodes store the entries while internal nodes have exactly two children.  Each node
+	 * tracks the bounding box of all points stored in its subtree.
+	 */
+	private static class Node {
+		
+		/**
+		 * The parent node, or {@code null} if this is the root.
+		 */
+		private Node parent;
+		
+		/**
+		 * The left child, or {@code null} if this is a leaf.
+		 */
+		private Node left;
+		
+		/**
+		 * The right child, or {@code null} if this is a leaf.
+		 */
+		private Node right;
+		
+		/**
+		 * The entries stored in this node, or {@code null} if this is an internal node.
+		 */
+		private List<Entry> entries;
+		
+		/**
+		 * The lower bounds of the bounding box.
+		 */
+		private final double[] lower;
+		
+		/**
+		 * The upper bounds of the bounding box.
+		 */
+		private final double[] upper;
+		
+		/**
+		 * The number of entries stored in this subtree.
+		 */
+		private int size;
+		
+		/**
+		 * Constructs a new node whose bounding box initially contains only the given point.
+		 * 
+		 * @param parent the parent node
+		 * @param point the initial point
+		 */
+		public Node(Node parent, double[] point) {
+			super();
+			this.parent = parent;
+			this.lower = point.clone();
+			this.upper = point.clone();
+		}
+		
+		/**
+		 * Returns {@code true} if this is a leaf node.
+		 * 
+		 * @return {@code true} if this is a leaf node; {@code false} otherwise
+		 */
+		public boolean isLeaf() {
+			return entries != null;
+		}
+		
+		/**
+		 * Expands the bounding box to contain the given point.
+		 * 
+		 * @param point the point
+		 */
+		public void expand(double[] point) {
+			for (int i = 0; i < point.length; i++) {
+				if (Double.compare(point[i], lower[i]) < 0) {
+					lower[i] = point[i];
+				}
+				
+				if (Double.compare(point[i], upper[i]) > 0) {
+					upper[i] = point[i];
+				}
+			}
+		}
+		
+		/**
+		 * Recomputes the bounding box from the entries or children.
+		 */
+		public void refit() {
+			if (isLeaf()) {
+				System.arraycopy(entries.get(0).point, 0, lower, 0, lower.length);
+				System.arraycopy(entries.get(0).point, 0, upper, 0, upper.length);
+				
+				for (Entry entry : entries) {
+					expand(entry.point);
+				}
+			} else {
+				System.arraycopy(left.lower, 0, lower, 0, lower.length);
+				System.arraycopy(left.upper, 0, upper, 0, upper.length);
+				expand(right.lower);
+				expand(right.upper);
+			}
+		}
+		
+		/**
+		 * Returns the total amount the bounding box must grow to contain the given point.
+		 * 
+		 * @param point the point
+		 * @return the enlargement
+		 */
+		public double enlargement(double[] point) {
+			double result = 0.0;
+			
+			for (int i = 0; i < point.length; i++) {
+				result += Math.max(0.0, lower[i] - point[i]) + Math.max(0.0, point[i] - upper[i]);
+			}
+			
+			return result;
+		}
+		
+		/**
+		 * Returns the sum of the side lengths of the bounding box.
+		 * 
+		 * @return the sum of the side lengths
+		 */
+		public double extent() {
+			double result = 0.0;
+			
+			for (int i = 0; i < lower.length; i++) {
+				result += upper[i] - lower[i];
+			}
+			
+			return result;
+		}
+	
+	}
+
+}
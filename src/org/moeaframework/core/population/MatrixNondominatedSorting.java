@@ -0,0 +1,212 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.population;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.attribute.Rank;
+import org.moeaframework.core.comparator.DominanceComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
+
+/**
+ * Base class for non-dominated sorting algorithms that operate on a primitive matrix of objective values rather than
+ * invoking the dominance comparator on each pair of solutions.  The solutions are first sorted lexicographically by
+ * their canonical objective values, duplicate objective vectors are collapsed, and the remaining points are ranked
+ * by {@link #computeRanks(double[][])}.  Crowding distances are assigned using the same procedure as
+ * {@link NondominatedSorting}.
+ * <p>
+ * These algorithms are only applicable to the Pareto dominance relation.  Constraint violations are handled as
+ * done by {@link ParetoDominanceComparator}, where any solution with a smaller aggregate constraint violation
+ * dominates solutions with larger violations.  If any other dominance comparator is given, this class falls back to
+ * the naive implementation provided by {@link NondominatedSorting}.
+ */
+public abstract class MatrixNondominatedSorting extends NondominatedSorting {
+	
+	/**
+	 * Constructs a non-dominated sorting operator using Pareto dominance.
+	 */
+	public MatrixNondominatedSorting() {
+		super();
+	}
+	
+	/**
+	 * Constructs a non-dominated sorting operator using the specified dominance comparator.
+	 * 
+	 * @param comparator the dominance comparator
+	 */
+	public MatrixNondominatedSorting(DominanceComparator comparator) {
+		super(comparator);
+	}
+	
+	/**
+	 * Returns {@code true} if the dominance comparator is supported by this implementation; {@code false} otherwise.
+	 * 
+	 * @return {@code true} if the dominance comparator is supported by this implementation; {@code false} otherwise
+	 */
+	protected boolean isSupported() {
+		return comparator.getClass() == ParetoDominanceComparator.class ||
+				comparator.getClass() == ParetoObjectiveComparator.class;
+	}
+	
+	@Override
+	public void evaluate(Population population) {
+		if (!isSupported()) {
+			super.evaluate(population);
+			return;
+		}
+		
+		int N = population.size();
+		
+		if (N == 0) {
+			return;
+		}
+		
+		boolean constrained = comparator.getClass() == ParetoDominanceComparator.class;
+		double[][] objectives = new double[N][];
+		double[] violations = new double[N];
+		Integer[] order = new Integer[N];
+		
+		for (int i = 0; i < N; i++) {
+			Solution solution = population.get(i);
+			objectives[i] = solution.getCanonicalObjectiveValues();
+			violations[i] = constrained ? solution.getSumOfConstraintViolations() : 0.0;
+			order[i] = i;
+		}
+		
+		Arrays.sort(order, (i, j) -> {
+			int flag = Double.compare(violations[i], violations[j]);
+			return flag != 0 ? flag : Arrays.compare(objectives[i], objectives[j]);
+		});
+		
+		// rank each group of solutions with identical constraint violations, where each group is dominated by all
+		// prior groups
+		int[] ranks = new int[N];
+		int offset = 0;
+		int start = 0;
+		
+		while (start < N) {
+			int end = start + 1;
+			
+			while (end < N && Double.compare(violations[order[start]], violations[order[end]]) == 0) {
+				end++;
+			}
+			
+			offset = rankGroup(objectives, order, start, end, ranks, offset) + 1;
+			start = end;
+		}
+		
+		// assign the ranks and crowding distances, preserving the order of solutions within each front
+		List<Population> fronts = new ArrayList<>();
+		
+		for (int i = 0; i < N; i++) {
+			Solution solution = population.get(i);
+			Rank.setAttribute(solution, ranks[i]);
+			
+			while (fronts.size() <= ranks[i]) {
+				fronts.add(new Population());
+			}
+			
+			fronts.get(ranks[i]).add(solution);
+		}
+		
+		updateCrowdingDistance(fronts);
+	}
+	
+	/**
+	 * Computes and assigns the {@code crowdingDistance} attribute to solutions in each front.
+	 * 
+	 * @param fronts the fronts, ordered by rank
+	 */
+	protected void updateCrowdingDistance(List<Population> fronts) {
+		for (Population front : fronts) {
+			updateCrowdingDistance(front);
+		}
+	}
+	
+	/**
+	 * Ranks the solutions within one group of identical constraint violations.
+	 * 
+	 * @param objectives the canonical objective values of all solutions
+	 * @param order the solution indices, sorted lexicographically within the group
+	 * @param start the starting position of the group, inclusive
+	 * @param end the ending position of the group, exclusive
+	 * @param ranks the array storing the assigned ranks
+	 * @param offset the rank assigned to the non-dominated solutions in this group
+	 * @return the largest rank assigned to any solution in this group
+	 */
+	private int rankGroup(double[][] objectives, Integer[] order, int start, int end, int[] ranks, int offset) {
+		// collapse duplicate objective vectors into a single point
+		int[] pointIndex = new int[end - start];
+		List<double[]> points = new ArrayList<>();
+		
+		for (int i = start; i < end; i++) {
+			double[] current = objectives[order[i]];
+			
+			if (points.isEmpty() || !Arrays.equals(points.get(points.size() - 1), current)) {
+				points.add(current);
+			}
+			
+			pointIndex[i - start] = points.size() - 1;
+		}
+		
+		int[] pointRanks = computeRanks(points.toArray(double[][]::new));
+		int maxRank = offset;
+		
+		for (int i = start; i < end; i++) {
+			int rank = offset + pointRanks[pointIndex[i - start]];
+			ranks[order[i]] = rank;
+			maxRank = Math.max(maxRank, rank);
+		}
+		
+		return maxRank;
+	}
+	
+	/**
+	 * Computes the non-domination rank of each point, where rank {@code 0} identifies the non-dominated points.  The
+	 * points are distinct and sorted in lexicographic order, so no point can be dominated by any point appearing later
+	 * in the array.  Smaller values are preferred in each objective.
+	 * 
+	 * @param points the distinct, lexicographically sorted points
+	 * @return the rank of each point
+	 */
+	protected abstract int[] computeRanks(double[][] points);
+	
+	/**
+	 * Returns {@code true} if the first point dominates the second point, given that the points are distinct and the
+	 * first point precedes the second in lexicographic order.
+	 * 
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @param numberOfObjectives the number of objectives to compare
+	 * @return {@code true} if the first point dominates the second point; {@code false} otherwise
+	 */
+	static boolean dominates(double[] point1, double[] point2, int numberOfObjectives) {
+		for (int i = 0; i < numberOfObjectives; i++) {
+			if (Double.compare(point1[i], point2[i]) > 0) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+
+}
@@ -27,6 +27,7 @@ import org.moeaframework.core.attribute.Rank;
 import org.moeaframework.core.comparator.DominanceComparator;
 import org.moeaframework.core.comparator.ObjectiveComparator;
 import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.population.EfficientNondominatedSorting.SearchStrategy;
 import org.moeaframework.core.population.NondominatedPopulation.DuplicateMode;
 
 /**
@@ -45,6 +46,45 @@ import org.moeaframework.core.population.NondominatedPopulation.DuplicateMode;
  * </ol>
  */
 public class NondominatedSorting {
+	
+	/**
+	 * The available non-dominated sorting implementations.
+	 */
+	public enum Implementation {
+		
+		/**
+		 * The naive implementation provided by {@link NondominatedSorting}.
+		 */
+		NAIVE,
+		
+		/**
+		 * The fast non-dominated sorting implementation provided by {@link FastNondominatedSorting}.
+		 */
+		FAST,
+		
+		/**
+		 * The efficient non-dominated sorting implementation with sequential search provided by
+		 * {@link EfficientNondominatedSorting}.
+		 */
+		ENS_SS,
+		
+		/**
+		 * The efficient non-dominated sorting implementation with binary search provided by
+		 * {@link EfficientNondominatedSorting}.
+		 */
+		ENS_BS,
+		
+		/**
+		 * The divide-and-conquer implementation provided by {@link DivideAndConquerNondominatedSorting}.
+		 */
+		DIVIDE_AND_CONQUER,
+		
+		/**
+		 * The parallel implementation provided by {@link ParallelNondominatedSorting} using the common pool.
+		 */
+		PARALLEL
+	
+	}
 
 	/**
 	 * The dominance comparator.
@@ -68,6 +108,23 @@ public class NondominatedSorting {
 		this.comparator = comparator;
 	}
 	
+	/**
+	 * Creates the non-dominated sorting implementation configured by {@link Settings#getNondominatedSorting()}.
+	 * 
+	 * @param comparator the dominance comparator
+	 * @return the non-dominated sorting implementation
+	 */
+	public static NondominatedSorting createDefault(DominanceComparator comparator) {
+		return switch (Settings.getNondominatedSorting()) {
+			case NAIVE -> new NondominatedSorting(comparator);
+			case FAST -> new FastNondominatedSorting(comparator);
+			case ENS_SS -> new EfficientNondominatedSorting(comparator, SearchStrategy.SEQUENTIAL);
+			case ENS_BS -> new EfficientNondominatedSorting(comparator, SearchStrategy.BINARY);
+			case DIVIDE_AND_CONQUER -> new DivideAndConquerNondominatedSorting(comparator);
+			case PARALLEL -> new ParallelNondominatedSorting(comparator);
+		};
+	}
+	
 	/**
 	 * Returns the dominance comparator used by this non-dominated sorting routine.
 	 * 
@@ -23,7 +23,6 @@ import java.io.ObjectOutputStream;
 import java.util.Comparator;
 import java.util.Iterator;
 
-import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.attribute.Rank;
 import org.moeaframework.core.comparator.CrowdingComparator;
@@ -72,12 +71,7 @@ public class NondominatedSortingPopulation extends Population {
 	public NondominatedSortingPopulation(DominanceComparator comparator) {
 		super();
 		modified = false;
-		
-		if (Settings.useFastNondominatedSorting()) {
-			nondominatedSorting = new FastNondominatedSorting(comparator);
-		} else {
-			nondominatedSorting = new NondominatedSorting(comparator);
-		}
+		nondominatedSorting = NondominatedSorting.createDefault(comparator);
 	}
 
 	/**
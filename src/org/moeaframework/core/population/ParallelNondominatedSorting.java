@@ -0,0 +1,382 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.population;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.attribute.CrowdingDistance;
+import org.moeaframework.core.comparator.DominanceComparator;
+import org.moeaframework.core.comparator.ObjectiveComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.population.EfficientNondominatedSorting.SearchStrategy;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Non-dominated sorting that distributes the pairwise dominance checks and crowding distance calculations across a
+ * {@link ForkJoinPool}.  The assigned {@code rank} and {@code crowdingDistance} attributes are identical to those
+ * produced by the serial implementations.
+ * <p>
+ * Ranks are computed in blocks of lexicographically sorted solutions.  Since no solution is dominated by a later
+ * solution, the ranks of all solutions within a block can be computed in parallel from the prior blocks, followed by
+ * a serial pass within the block.  Crowding distances are computed for each front in parallel and, for large fronts,
+ * the duplicate detection and the per-objective sorting are also performed in parallel.
+ * <p>
+ * Populations and fronts smaller than the threshold are processed serially, as the overhead of scheduling tasks
+ * would exceed any benefit.
+ */
+public class ParallelNondominatedSorting extends MatrixNondominatedSorting {
+	
+	/**
+	 * The default size below which populations and fronts are processed serially.
+	 */
+	public static final int DEFAULT_THRESHOLD = 1000;
+	
+	/**
+	 * The minimum number of solutions in each block when computing ranks.
+	 */
+	private static final int MIN_BLOCK_SIZE = 64;
+	
+	/**
+	 * The pool executing the parallel tasks.
+	 */
+	private final ForkJoinPool pool;
+	
+	/**
+	 * The size below which populations and fronts are processed serially.
+	 */
+	private final int threshold;
+	
+	/**
+	 * The implementation used to compute ranks for populations smaller than the threshold.
+	 */
+	private final EfficientNondominatedSorting serialSorting;
+	
+	/**
+	 * Constructs a parallel non-dominated sorting operator using Pareto dominance and the common pool.
+	 */
+	public ParallelNondominatedSorting() {
+		this(new ParetoDominanceComparator());
+	}
+	
+	/**
+	 * Constructs a parallel non-dominated sorting operator using the specified dominance comparator and the common
+	 * pool.
+	 * 
+	 * @param comparator the dominance comparator
+	 */
+	public ParallelNondominatedSorting(DominanceComparator comparator) {
+		this(comparator, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+	
+	/**
+	 * Constructs a parallel non-dominated sorting operator.
+	 * 
+	 * @param comparator the dominance comparator
+	 * @param pool the pool executing the parallel tasks
+	 * @param threshold the size below which populations and fronts are processed serially
+	 */
+	public ParallelNondominatedSorting(DominanceComparator comparator, ForkJoinPool pool, int threshold) {
+		super(comparator);
+		
+		Validate.that("pool", pool).isNotNull();
+		Validate.that("threshold", threshold).isGreaterThan(0);
+		
+		this.pool = pool;
+		this.threshold = threshold;
+		this.serialSorting = new EfficientNondominatedSorting(comparator, SearchStrategy.BINARY);
+	}
+	
+	/**
+	 * Returns the pool executing the parallel tasks.
+	 * 
+	 * @return the pool executing the parallel tasks
+	 */
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+	
+	/**
+	 * Returns the size below which populations and fronts are processed serially.
+	 * 
+	 * @return the size below which populations and fronts are processed serially
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+	
+	@Override
+	protected int[] computeRanks(double[][] points) {
+		int N = points.length;
+		
+		if (N < threshold) {
+			return serialSorting.computeRanks(points);
+		}
+		
+		int numberOfObjectives = points[0].length;
+		int blockSize = Math.max(MIN_BLOCK_SIZE, N / (4 * pool.getParallelism()));
+		int[] ranks = new int[N];
+		
+		for (int start = 0; start < N; start += blockSize) {
+			int blockStart = start;
+			int blockEnd = Math.min(N, start + blockSize);
+			
+			// the ranks of prior blocks are final, so each solution in this block can be checked independently
+			parallelFor(blockStart, blockEnd, i -> {
+				int rank = -1;
+				
+				for (int j = 0; j < blockStart; j++) {
+					if (ranks[j] > rank && dominates(points[j], points[i], numberOfObjectives)) {
+						rank = ranks[j];
+					}
+				}
+				
+				ranks[i] = rank + 1;
+			});
+			
+			// then account for solutions within the same block
+			for (int i = blockStart + 1; i < blockEnd; i++) {
+				for (int j = blockStart; j < i; j++) {
+					if (ranks[j] >= ranks[i] && dominates(points[j], points[i], numberOfObjectives)) {
+						ranks[i] = ranks[j] + 1;
+					}
+				}
+			}
+		}
+		
+		return ranks;
+	}
+	
+	@Override
+	protected void updateCrowdingDistance(List<Population> fronts) {
+		int N = 0;
+		
+		for (Population front : fronts) {
+			N += front.size();
+		}
+		
+		if (N < threshold) {
+			super.updateCrowdingDistance(fronts);
+		} else {
+			parallelFor(0, fronts.size(), i -> updateCrowdingDistance(fronts.get(i)));
+		}
+	}
+	
+	@Override
+	public void updateCrowdingDistance(Population front) {
+		int n = front.size();
+		
+		if (n < threshold) {
+			super.updateCrowdingDistance(front);
+			return;
+		}
+		
+		Solution[] solutions = new Solution[n];
+		
+		for (int i = 0; i < n; i++) {
+			solutions[i] = front.get(i);
+			CrowdingDistance.setAttribute(solutions[i], 0.0);
+		}
+		
+		// identify solutions near any prior solution, which are the only candidates for being duplicates
+		boolean[] nearPrior = new boolean[n];
+		
+		parallelFor(0, n, i -> {
+			for (int j = 0; j < i; j++) {
+				if (solutions[i].euclideanDistance(solutions[j]) < Settings.EPS) {
+					nearPrior[i] = true;
+					break;
+				}
+			}
+		});
+		
+		// remove any duplicate solutions, the duplicate solutions will retain the crowding distance of 0.0
+		List<Solution> uniqueFront = new ArrayList<>();
+		
+		for (int i = 0; i < n; i++) {
+			boolean isDuplicate = false;
+			
+			if (nearPrior[i]) {
+				for (Solution solution : uniqueFront) {
+					if (solutions[i].euclideanDistance(solution) < Settings.EPS) {
+						isDuplicate = true;
+						break;
+					}
+				}
+			}
+			
+			if (!isDuplicate) {
+				uniqueFront.add(solutions[i]);
+			}
+		}
+		
+		int m = uniqueFront.size();
+		
+		if (m < 3) {
+			for (Solution solution : uniqueFront) {
+				CrowdingDistance.setAttribute(solution, Double.POSITIVE_INFINITY);
+			}
+			
+			return;
+		}
+		
+		// compute the contribution of each objective in parallel
+		int numberOfObjectives = uniqueFront.get(0).getNumberOfObjectives();
+		int[][] orders = new int[numberOfObjectives][];
+		double[][] contributions = new double[numberOfObjectives][];
+		
+		parallelFor(0, numberOfObjectives, k -> {
+			int[] order = sortByObjective(uniqueFront, k);
+			double minObjective = uniqueFront.get(order[0]).getObjectiveValue(k);
+			double maxObjective = uniqueFront.get(order[m - 1]).getObjectiveValue(k);
+			
+			if (maxObjective - minObjective >= Settings.EPS) {
+				double[] contribution = new double[m];
+				
+				for (int j = 1; j < m - 1; j++) {
+					contribution[j] = (uniqueFront.get(order[j + 1]).getObjectiveValue(k) -
+							uniqueFront.get(order[j - 1]).getObjectiveValue(k)) / (maxObjective - minObjective);
+				}
+				
+				orders[k] = order;
+				contributions[k] = contribution;
+			}
+		});
+		
+		// sum the contributions in the same order as the serial implementation
+		double[] distances = new double[m];
+		
+		for (int k = 0; k < numberOfObjectives; k++) {
+			if (orders[k] != null) {
+				distances[orders[k][0]] = Double.POSITIVE_INFINITY;
+				distances[orders[k][m - 1]] = Double.POSITIVE_INFINITY;
+				
+				for (int j = 1; j < m - 1; j++) {
+					distances[orders[k][j]] += contributions[k][j];
+				}
+			}
+		}
+		
+		for (int i = 0; i < m; i++) {
+			CrowdingDistance.setAttribute(uniqueFront.get(i), distances[i]);
+		}
+	}
+	
+	/**
+	 * Returns the indices of the solutions sorted by the given objective.  The serial implementation sorts the front
+	 * by each objective in turn using a stable sort, so ties are broken by the previous objectives in reverse order
+	 * and finally by the original position.  This method reproduces that order for a single objective.
+	 * 
+	 * @param solutions the solutions
+	 * @param objective the objective index
+	 * @return the indices of the solutions in sorted order
+	 */
+	private static int[] sortByObjective(List<Solution> solutions, int objective) {
+		ObjectiveComparator[] comparators = new ObjectiveComparator[objective + 1];
+		
+		for (int k = 0; k <= objective; k++) {
+			comparators[k] = new ObjectiveComparator(k);
+		}
+		
+		Comparator<Integer> comparator = (i, j) -> {
+			for (int k = objective; k >= 0; k--) {
+				int flag = comparators[k].compare(solutions.get(i), solutions.get(j));
+				
+				if (flag != 0) {
+					return flag;
+				}
+			}
+			
+			return Integer.compare(i, j);
+		};
+		
+		Integer[] order = new Integer[solutions.size()];
+		
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		
+		Arrays.sort(order, comparator);
+		return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+	}
+	
+	/**
+	 * Invokes the body for each index in the range, splitting the range into tasks executed by the pool.
+	 * 
+	 * @param from the start of the range, inclusive
+	 * @param until the end of the range, exclusive
+	 * @param body the body invoked for each index
+	 */
+	private void parallelFor(int from, int until, IntConsumer body) {
+		int grain = Math.max(1, (until - from) / (8 * pool.getParallelism()));
+		RangeTask task = new RangeTask(from, until, grain, body);
+		
+		if (ForkJoinTask.getPool() == pool) {
+			task.invoke();
+		} else {
+			pool.invoke(task);
+		}
+	}
+	
+	/**
+	 * Task invoking the body for each index in a range, recursively splitting the range until it contains at most
+	 * {@code grain} indices.
+	 */
+	private static class RangeTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 2964458215327469153L;
+		
+		private final int from;
+		
+		private final int until;
+		
+		private final int grain;
+		
+		private final transient IntConsumer body;
+		
+		public RangeTask(int from, int until, int grain, IntConsumer body) {
+			super();
+			this.from = from;
+			this.until = until;
+			this.grain = grain;
+			this.body = body;
+		}
+		
+		@Override
+		protected void compute() {
+			if (until - from <= grain) {
+				for (int i = from; i < until; i++) {
+					body.accept(i);
+				}
+			} else {
+				int mid = (from + until) >>> 1;
+				invokeAll(new RangeTask(from, mid, grain, body), new RangeTask(mid, until, grain, body));
+			}
+		}
+	
+	}
+
+}
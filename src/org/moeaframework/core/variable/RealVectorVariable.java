@@ -0,0 +1,397 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.variable;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.moeaframework.core.Defined;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Decision variable for a vector of real values.  This is equivalent to a sequence of {@link RealVariable}s, but stores
+ * the values in a single array.  The bounds are shared by all copies of this variable, so each copy only allocates the
+ * array of values.  This is intended for problems with many real-valued decision variables, where the cost of
+ * creating, copying, and iterating over individual {@link RealVariable}s becomes significant.
+ * <p>
+ * The real-valued operators {@code sbx}, {@code pm}, {@code um}, and {@code de} operate on the entire vector at once,
+ * treating each value as if it were a separate decision variable.
+ */
+public class RealVectorVariable extends AbstractVariable {
+	
+	private static final long serialVersionUID = -4728136503357616142L;
+	
+	/**
+	 * The current values of this decision variable.
+	 */
+	private final double[] values;
+	
+	/**
+	 * The lower bounds of each value.  This array is shared between copies and must not be modified.
+	 */
+	private final double[] lowerBounds;
+	
+	/**
+	 * The upper bounds of each value.  This array is shared between copies and must not be modified.
+	 */
+	private final double[] upperBounds;
+	
+	/**
+	 * Constructs a real vector variable where each value is in the range {@code lowerBound <= x <= upperBound}.
+	 * 
+	 * @param size the number of values
+	 * @param lowerBound the lower bound of each value, inclusive
+	 * @param upperBound the upper bound of each value, inclusive
+	 */
+	public RealVectorVariable(int size, double lowerBound, double upperBound) {
+		this(null, size, lowerBound, upperBound);
+	}
+	
+	/**
+	 * Constructs a real vector variable where each value is in the range {@code lowerBound <= x <= upperBound} with
+	 * the given name.
+	 * 
+	 * @param name the name of this decision variable
+	 * @param size the number of values
+	 * @param lowerBound the lower bound of each value, inclusive
+	 * @param upperBound the upper bound of each value, inclusive
+	 */
+	public RealVectorVariable(String name, int size, double lowerBound, double upperBound) {
+		this(name, filledArray(size, lowerBound), filledArray(size, upperBound));
+	}
+	
+	/**
+	 * Constructs a real vector variable where the {@code i}-th value is in the range
+	 * {@code lowerBounds[i] <= x <= upperBounds[i]}.
+	 * 
+	 * @param lowerBounds the lower bound of each value, inclusive
+	 * @param upperBounds the upper bound of each value, inclusive
+	 */
+	public RealVectorVariable(double[] lowerBounds, double[] upperBounds) {
+		this(null, lowerBounds, upperBounds);
+	}
+	
+	/**
+	 * Constructs a real vector variable where the {@code i}-th value is in the range
+	 * {@code lowerBounds[i] <= x <= upperBounds[i]} with the given name.
+	 * 
+	 * @param name the name of this decision variable
+	 * @param lowerBounds the lower bound of each value, inclusive
+	 * @param upperBounds the upper bound of each value, inclusive
+	 */
+	public RealVectorVariable(String name, double[] lowerBounds, double[] upperBounds) {
+		super(name);
+		
+		Validate.that("lowerBounds.length", lowerBounds.length).isGreaterThan(0);
+		Validate.that("upperBounds.length", upperBounds.length).isEqualTo(lowerBounds.length);
+		
+		for (int i = 0; i < lowerBounds.length; i++) {
+			Validate.that("lowerBounds[i]", lowerBounds[i]).isLessThanOrEqualTo("upperBounds[i]", upperBounds[i]);
+		}
+		
+		this.lowerBounds = lowerBounds.clone();
+		this.upperBounds = upperBounds.clone();
+		this.values = filledArray(lowerBounds.length, Double.NaN);
+	}
+	
+	/**
+	 * Constructs a copy of the given real vector variable, sharing its bounds.
+	 * 
+	 * @param variable the variable being copied
+	 */
+	private RealVectorVariable(RealVectorVariable variable) {
+		super(variable.name);
+		this.lowerBounds = variable.lowerBounds;
+		this.upperBounds = variable.upperBounds;
+		this.values = variable.values.clone();
+	}
+	
+	/**
+	 * Returns the number of values in this decision variable.
+	 * 
+	 * @return the number of values
+	 */
+	public int size() {
+		return values.length;
+	}
+	
+	/**
+	 * Returns the {@code i}-th value of this decision variable.
+	 * 
+	 * @param index the index
+	 * @return the value at the given index
+	 * @throws ArrayIndexOutOfBoundsException if the index is out of range {@code [0, size()-1]}
+	 */
+	public double getValue(int index) {
+		return values[index];
+	}
+	
+	/**
+	 * Sets the {@code i}-th value of this decision variable.  The value can be set to {@value Double#NaN} to indicate
+	 * no value is assigned.
+	 * 
+	 * @param index the index
+	 * @param value the new value
+	 * @throws ArrayIndexOutOfBoundsException if the index is out of range {@code [0, size()-1]}
+	 * @throws IllegalArgumentException if the value is out of bounds
+	 */
+	public void setValue(int index, double value) {
+		if (!Double.isNaN(value)) {
+			Validate.that("value", value).isBetween(lowerBounds[index], upperBounds[index]);
+		}
+		
+		values[index] = value;
+	}
+	
+	/**
+	 * Returns a copy of the values of this decision variable.
+	 * 
+	 * @return a copy of the values
+	 */
+	public double[] getValues() {
+		return values.clone();
+	}
+	
+	/**
+	 * Sets all values of this decision variable.
+	 * 
+	 * @param values the new values
+	 * @throws IllegalArgumentException if the number of values does not match {@link #size()} or any of the values
+	 *         are out of bounds
+	 */
+	public void setValues(double[] values) {
+		Validate.that("values.length", values.length).isEqualTo(this.values.length);
+		
+		for (int i = 0; i < values.length; i++) {
+			if (!Double.isNaN(values[i])) {
+				Validate.that("values[i]", values[i]).isBetween(lowerBounds[i], upperBounds[i]);
+			}
+		}
+		
+		System.arraycopy(values, 0, this.values, 0, values.length);
+	}
+	
+	/**
+	 * Calls {@link #setValues(double[])} and returns this instance, mainly allowing one to create and set the values
+	 * of a decision variable on one line.
+	 * 
+	 * @param values the new values
+	 * @return this decision variable
+	 * @throws IllegalArgumentException if the number of values does not match {@link #size()} or any of the values
+	 *         are out of bounds
+	 */
+	public RealVectorVariable withValues(double[] values) {
+		setValues(values);
+		return this;
+	}
+	
+	/**
+	 * Returns the lower bound of the {@code i}-th value.
+	 * 
+	 * @param index the index
+	 * @return the lower bound, inclusive
+	 * @throws ArrayIndexOutOfBoundsException if the index is out of range {@code [0, size()-1]}
+	 */
+	public double getLowerBound(int index) {
+		return lowerBounds[index];
+	}
+	
+	/**
+	 * Returns the upper bound of the {@code i}-th value.
+	 * 
+	 * @param index the index
+	 * @return the upper bound, inclusive
+	 * @throws ArrayIndexOutOfBoundsException if the index is out of range {@code [0, size()-1]}
+	 */
+	public double getUpperBound(int index) {
+		return upperBounds[index];
+	}
+	
+	/**
+	 * Returns a copy of the lower bounds of this decision variable.
+	 * 
+	 * @return a copy of the lower bounds, inclusive
+	 */
+	public double[] getLowerBounds() {
+		return lowerBounds.clone();
+	}
+	
+	/**
+	 * Returns a copy of the upper bounds of this decision variable.
+	 * 
+	 * @return a copy of the upper bounds, inclusive
+	 */
+	public double[] getUpperBounds() {
+		return upperBounds.clone();
+	}
+	
+	/**
+	 * Returns {@code true} if all values share the same lower and upper bounds.
+	 * 
+	 * @return {@code true} if all values share the same bounds; {@code false} otherwise
+	 */
+	private boolean hasUniformBounds() {
+		for (int i = 1; i < values.length; i++) {
+			if (lowerBounds[i] != lowerBounds[0] || upperBounds[i] != upperBounds[0]) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	@Override
+	public RealVectorVariable copy() {
+		return new RealVectorVariable(this);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Only variables where all values share the same bounds can be recreated from their definition.
+	 */
+	@Override
+	public String getDefinition() {
+		if (!hasUniformBounds()) {
+			return Defined.createUnsupportedDefinition(Variable.class, RealVectorVariable.class);
+		} else if (name == null) {
+			return Defined.createDefinition(Variable.class, RealVectorVariable.class, size(), lowerBounds[0],
+					upperBounds[0]);
+		} else {
+			return Defined.createDefinition(Variable.class, RealVectorVariable.class, name, size(), lowerBounds[0],
+					upperBounds[0]);
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return encode();
+	}
+	
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder()
+				.appendSuper(super.hashCode())
+				.append(lowerBounds)
+				.append(upperBounds)
+				.append(values)
+				.toHashCode();
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		} else if ((obj == null) || (obj.getClass() != getClass())) {
+			return false;
+		} else {
+			RealVectorVariable rhs = (RealVectorVariable)obj;
+			
+			return new EqualsBuilder()
+					.appendSuper(super.equals(obj))
+					.append(lowerBounds, rhs.lowerBounds)
+					.append(upperBounds, rhs.upperBounds)
+					.append(values, rhs.values)
+					.isEquals();
+		}
+	}
+	
+	@Override
+	public void randomize() {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = PRNG.nextDouble(lowerBounds[i], upperBounds[i]);
+		}
+	}
+	
+	@Override
+	public String encode() {
+		StringBuilder sb = new StringBuilder();
+		
+		sb.append('[');
+		
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			
+			sb.append(values[i]);
+		}
+		
+		sb.append(']');
+		return sb.toString();
+	}
+	
+	@Override
+	public void decode(String value) {
+		if (value.startsWith("[") && value.endsWith("]")) {
+			value = value.substring(1, value.length()-1);
+		}
+		
+		String[] tokens = value.split(",");
+		double[] decodedValues = new double[tokens.length];
+		
+		for (int i = 0; i < tokens.length; i++) {
+			decodedValues[i] = Double.parseDouble(tokens[i]);
+		}
+		
+		setValues(decodedValues);
+	}
+	
+	/**
+	 * Creates an array of the given size filled with a value.
+	 * 
+	 * @param size the size of the array
+	 * @param value the value
+	 * @return the array
+	 */
+	private static double[] filledArray(int size, double value) {
+		Validate.that("size", size).isGreaterThan(0);
+		
+		double[] result = new double[size];
+		Arrays.fill(result, value);
+		return result;
+	}
+	
+	/**
+	 * Returns the values stored in a real vector decision variable.
+	 * 
+	 * @param variable the decision variable
+	 * @return the values stored in the real vector decision variable
+	 * @throws IllegalArgumentException if the decision variable is not of type {@link RealVectorVariable}
+	 */
+	public static double[] getReal(Variable variable) {
+		RealVectorVariable realVectorVariable = Validate.that("variable", variable).isA(RealVectorVariable.class);
+		return realVectorVariable.getValues();
+	}
+	
+	/**
+	 * Sets the values of a real vector decision variable.
+	 * 
+	 * @param variable the decision variable
+	 * @param values the values to assign the real vector decision variable
+	 * @throws IllegalArgumentException if the decision variable is not of type {@link RealVectorVariable}
+	 * @throws IllegalArgumentException if the number of values does not match or any of the values are out of bounds
+	 */
+	public static void setReal(Variable variable, double[] values) {
+		RealVectorVariable realVectorVariable = Validate.that("variable", variable).isA(RealVectorVariable.class);
+		realVectorVariable.setValues(values);
+	}
+
+}
@@ -0,0 +1,492 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.moeaframework.algorithm.AlgorithmException;
+import org.moeaframework.algorithm.AlgorithmTerminationException;
+import org.moeaframework.algorithm.SteadyStateAlgorithm;
+import org.moeaframework.algorithm.extension.AlgorithmWrapper;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.parallel.util.ExecutorFactory;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Runs a {@link SteadyStateAlgorithm} with asynchronous evaluations, also known as an asynchronous master-worker
+ * model.  Unlike {@link DistributedProblem}, which waits at the end of each generation for all evaluations to
+ * complete, this keeps every worker busy by generating and submitting a new offspring as soon as any evaluation
+ * completes.  Each evaluated offspring is inserted into the population as it arrives.  This is most beneficial when
+ * evaluation times vary between solutions.
+ * <p>
+ * Each call to {@link #step()} waits for the next evaluation to complete, inserts the result, and submits new
+ * offspring to any idle workers.  Since the population can change while an evaluation is in progress, offspring are
+ * produced from a slightly outdated population.  The problem must be thread safe, and must be {@link Serializable}
+ * if executing on remote nodes.  The initial population is also evaluated using the executor, waiting for all
+ * evaluations to complete before the first offspring are generated.
+ * <p>
+ * The number of evaluations only includes offspring that were inserted into the population.  Any evaluations still
+ * in progress when this algorithm is terminated are cancelled and discarded, and are not included when saving the
+ * state of the algorithm.
+ * <p>
+ * <strong>Users are required to call {@link #close()} to ensure any resources are shutdown and disposed.</strong>
+ * We recommend using a try-with-resources block to automatically close the algorithm.
+ * 
+ * @param <T> the type of the wrapped algorithm
+ */
+public class AsynchronousAlgorithm<T extends SteadyStateAlgorithm> extends AlgorithmWrapper<T>
+		implements AutoCloseable {
+	
+	/**
+	 * The {@code ExecutorService} for distributing jobs across multiple threads, cores or compute nodes.
+	 */
+	private final ExecutorService executor;
+	
+	/**
+	 * If {@code true}, the {@code ExecutorService} will be shutdown when this algorithm is closed; if {@code false},
+	 * it's the caller's responsibility to manage the lifecycle of the executor.
+	 */
+	private final boolean shutdownWhenClosed;
+	
+	/**
+	 * The number of evaluations kept in progress.
+	 */
+	private final int numberOfWorkers;
+	
+	/**
+	 * Collects the evaluations in the order they complete.
+	 */
+	private final CompletionService<Evaluation> completionService;
+	
+	/**
+	 * The evaluations in progress, mapped to the offspring being evaluated.
+	 */
+	private final Map<Future<Evaluation>, Solution> inProgress;
+	
+	/**
+	 * Offspring that were generated but not yet submitted for evaluation.
+	 */
+	private final Deque<Solution> queue;
+	
+	/**
+	 * The total time spent evaluating solutions, in nanoseconds.
+	 */
+	private long busyTime;
+	
+	/**
+	 * The elapsed time, in nanoseconds, excluding the time since {@link #activeSince}.
+	 */
+	private long elapsedTime;
+	
+	/**
+	 * The value of {@link System#nanoTime()} when evaluations were last started, or {@code -1} if no evaluations are
+	 * running.
+	 */
+	private long activeSince;
+	
+	/**
+	 * {@code true} if this algorithm is terminated.
+	 */
+	private boolean terminated;
+	
+	/**
+	 * Creates an asynchronous algorithm using the executor configured in {@link Settings}, which by default uses the
+	 * number of available processors on the local computer.  Callers should ensure the returned algorithm is closed,
+	 * preferably using a try-with-resources block, to clean up the underlying resources.
+	 * 
+	 * @param <T> the type of the algorithm
+	 * @param algorithm the steady-state algorithm
+	 * @return the asynchronous algorithm
+	 * @see ExecutorFactory#createExecutor()
+	 */
+	public static <T extends SteadyStateAlgorithm> AsynchronousAlgorithm<T> from(T algorithm) {
+		return new AsynchronousAlgorithm<>(algorithm, ExecutorFactory.getInstance().createExecutor(),
+				Settings.getExecutorConcurrency(), true);
+	}
+	
+	/**
+	 * Creates an asynchronous algorithm using a fixed number of threads.  Callers should ensure the returned algorithm
+	 * is closed, preferably using a try-with-resources block, to clean up the underlying resources.
+	 * 
+	 * @param <T> the type of the algorithm
+	 * @param algorithm the steady-state algorithm
+	 * @param numberOfThreads the number of threads
+	 * @return the asynchronous algorithm
+	 */
+	public static <T extends SteadyStateAlgorithm> AsynchronousAlgorithm<T> from(T algorithm, int numberOfThreads) {
+		return new AsynchronousAlgorithm<>(algorithm, Executors.newFixedThreadPool(numberOfThreads), numberOfThreads,
+				true);
+	}
+	
+	/**
+	 * Decorates a steady-state algorithm to evaluate offspring asynchronously using the specified
+	 * {@code ExecutorService}.  This will not shutdown the executor and is equivalent to calling the constructor with
+	 * {@code shutdownWhenClosed} set to {@code false}.
+	 * 
+	 * @param algorithm the steady-state algorithm
+	 * @param executor the {@code ExecutorService} for distributing jobs across multiple threads, cores or compute nodes
+	 * @param numberOfWorkers the number of evaluations kept in progress, typically the number of threads or nodes
+	 *        available to the executor
+	 */
+	public AsynchronousAlgorithm(T algorithm, ExecutorService executor, int numberOfWorkers) {
+		this(algorithm, executor, numberOfWorkers, false);
+	}
+	
+	/**
+	 * Decorates a steady-state algorithm to evaluate offspring asynchronously using the specified
+	 * {@code ExecutorService}.
+	 * 
+	 * @param algorithm the steady-state algorithm
+	 * @param executor the {@code ExecutorService} for distributing jobs across multiple threads, cores or compute nodes
+	 * @param numberOfWorkers the number of evaluations kept in progress, typically the number of threads or nodes
+	 *        available to the executor
+	 * @param shutdownWhenClosed {@code true} to shutdown the executor when this algorithm is closed; {@code false}
+	 *        otherwise
+	 */
+	public AsynchronousAlgorithm(T algorithm, ExecutorService executor, int numberOfWorkers,
+			boolean shutdownWhenClosed) {
+		super(algorithm);
+		
+		Validate.that("algorithm", algorithm).isNotNull();
+		Validate.that("executor", executor).isNotNull();
+		Validate.that("numberOfWorkers", numberOfWorkers).isGreaterThan(0);
+		
+		this.executor = executor;
+		this.numberOfWorkers = numberOfWorkers;
+		this.shutdownWhenClosed = shutdownWhenClosed;
+		
+		completionService = new ExecutorCompletionService<>(executor);
+		inProgress = new HashMap<>();
+		queue = new ArrayDeque<>();
+		activeSince = -1;
+	}
+	
+	/**
+	 * The result of evaluating a solution on a worker.
+	 */
+	private static class Evaluation implements Serializable {
+		
+		private static final long serialVersionUID = 2403718520631458720L;
+		
+		/**
+		 * The evaluated solution.
+		 */
+		private final Solution solution;
+		
+		/**
+		 * The time spent evaluating the solution, in nanoseconds.
+		 */
+		private final long duration;
+		
+		/**
+		 * Constructs the result of evaluating a solution.
+		 * 
+		 * @param solution the evaluated solution
+		 * @param duration the time spent evaluating the solution, in nanoseconds
+		 */
+		public Evaluation(Solution solution, long duration) {
+			super();
+			this.solution = solution;
+			this.duration = duration;
+		}
+	
+	}
+	
+	/**
+	 * The {@link Callable} sent to the {@code ExecutorService} for distributed processing.  Note that serialization
+	 * may result in the solution being evaluated and returned may be a different instance than provided to the
+	 * constructor.
+	 */
+	private static class Evaluator implements Callable<Evaluation>, Serializable {
+		
+		private static final long serialVersionUID = -6395587145683049287L;
+		
+		/**
+		 * The problem.
+		 */
+		private final Problem problem;
+		
+		/**
+		 * The solution being evaluated.
+		 */
+		private final Solution solution;
+		
+		/**
+		 * Constructs a distributed job to evaluate the specified solution.
+		 * 
+		 * @param problem the problem
+		 * @param solution the solution to be evaluated
+		 */
+		public Evaluator(Problem problem, Solution solution) {
+			super();
+			this.problem = problem;
+			this.solution = solution;
+		}
+		
+		@Override
+		public Evaluation call() throws Exception {
+			long start = System.nanoTime();
+			problem.evaluate(solution);
+			return new Evaluation(solution, System.nanoTime() - start);
+		}
+	
+	}
+	
+	/**
+	 * Returns the number of evaluations kept in progress.
+	 * 
+	 * @return the number of workers
+	 */
+	public int getNumberOfWorkers() {
+		return numberOfWorkers;
+	}
+	
+	/**
+	 * Returns the number of evaluations currently in progress.
+	 * 
+	 * @return the number of evaluations in progress
+	 */
+	public int getNumberOfEvaluationsInProgress() {
+		return inProgress.size();
+	}
+	
+	/**
+	 * Returns the total time spent evaluating offspring, summed across all workers.  Only completed evaluations are
+	 * included.
+	 * 
+	 * @return the total time spent evaluating offspring
+	 */
+	public Duration getBusyTime() {
+		return Duration.ofNanos(busyTime);
+	}
+	
+	/**
+	 * Returns the wall-clock time during which evaluations were running, starting after initialization and excluding
+	 * any time while terminated.
+	 * 
+	 * @return the wall-clock time during which evaluations were running
+	 */
+	public Duration getElapsedTime() {
+		return Duration.ofNanos(getElapsedNanos());
+	}
+	
+	/**
+	 * Returns the fraction of time the workers spent evaluating offspring, computed as the busy time divided by the
+	 * elapsed time and the number of workers.  Values near {@code 1.0} indicate the workers are rarely idle.
+	 * 
+	 * @return the worker utilization, between {@code 0.0} and {@code 1.0}
+	 */
+	public double getUtilization() {
+		long elapsed = getElapsedNanos();
+		
+		if (elapsed <= 0) {
+			return 0.0;
+		}
+		
+		return Math.min(1.0, busyTime / ((double)elapsed * numberOfWorkers));
+	}
+	
+	/**
+	 * Returns the elapsed time in nanoseconds.
+	 * 
+	 * @return the elapsed time in nanoseconds
+	 */
+	private long getElapsedNanos() {
+		return activeSince < 0 ? elapsedTime : elapsedTime + (System.nanoTime() - activeSince);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The initial population is submitted to the executor and this method waits until every solution is evaluated.
+	 */
+	@Override
+	public void initialize() {
+		getAlgorithm().initialize(this::evaluateInitialPopulation);
+	}
+	
+	/**
+	 * Evaluates the solutions using the executor, waiting for all evaluations to complete.  This does not count the
+	 * evaluations, which is instead handled by the wrapped algorithm.
+	 * 
+	 * @param solutions the solutions to evaluate
+	 */
+	private void evaluateInitialPopulation(Solution[] solutions) {
+		List<Future<Evaluation>> futures = new ArrayList<>();
+		
+		try {
+			for (Solution solution : solutions) {
+				futures.add(executor.submit(new Evaluator(getProblem(), solution)));
+			}
+			
+			for (int i = 0; i < solutions.length; i++) {
+				copyResult(solutions[i], futures.get(i).get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AlgorithmException(this, "interrupted while waiting for evaluations", e);
+		} catch (ExecutionException e) {
+			throw new AlgorithmException(this, "failed to evaluate solution", e.getCause());
+		} finally {
+			for (Future<Evaluation> future : futures) {
+				future.cancel(true);
+			}
+		}
+	}
+	
+	/**
+	 * If the solution was serialized, copies the results of the evaluation back into the original instance.
+	 * 
+	 * @param solution the original solution
+	 * @param evaluation the result of evaluating the solution
+	 */
+	private static void copyResult(Solution solution, Evaluation evaluation) {
+		if (evaluation.solution != solution) {
+			solution.setObjectiveValues(evaluation.solution.getObjectiveValues());
+			solution.setConstraintValues(evaluation.solution.getConstraintValues());
+			solution.addAttributes(evaluation.solution.getAttributes());
+		}
+	}
+	
+	@Override
+	public void step() {
+		terminated = false;
+		
+		if (!isInitialized()) {
+			initialize();
+		} else {
+			iterate();
+		}
+		
+		getExtensions().onStep();
+	}
+	
+	/**
+	 * Waits for the next evaluation to complete, inserts the evaluated offspring, and submits new offspring to any
+	 * idle workers.
+	 */
+	private void iterate() {
+		submit();
+		
+		try {
+			Future<Evaluation> future = null;
+			Solution solution = null;
+			
+			// skip any evaluations cancelled when this algorithm was terminated
+			while (solution == null) {
+				future = completionService.take();
+				solution = inProgress.remove(future);
+			}
+			
+			Evaluation evaluation = future.get();
+			copyResult(solution, evaluation);
+			
+			busyTime += evaluation.duration;
+			getAlgorithm().insert(solution);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AlgorithmException(this, "interrupted while waiting for evaluations", e);
+		} catch (ExecutionException e) {
+			throw new AlgorithmException(this, "failed to evaluate solution", e.getCause());
+		}
+		
+		submit();
+	}
+	
+	/**
+	 * Generates and submits offspring until the number of evaluations in progress equals the number of workers.
+	 */
+	private void submit() {
+		if (activeSince < 0) {
+			activeSince = System.nanoTime();
+		}
+		
+		while (inProgress.size() < numberOfWorkers) {
+			if (queue.isEmpty()) {
+				queue.addAll(List.of(getAlgorithm().generate()));
+			}
+			
+			Solution solution = queue.poll();
+			Future<Evaluation> future = completionService.submit(new Evaluator(getProblem(), solution));
+			inProgress.put(future, solution);
+		}
+	}
+	
+	/**
+	 * Cancels any evaluations in progress.
+	 */
+	private void cancel() {
+		for (Future<Evaluation> future : inProgress.keySet()) {
+			future.cancel(true);
+		}
+		
+		inProgress.clear();
+		
+		if (activeSince >= 0) {
+			elapsedTime += System.nanoTime() - activeSince;
+			activeSince = -1;
+		}
+	}
+	
+	@Override
+	public boolean isTerminated() {
+		return terminated;
+	}
+	
+	@Override
+	public void terminate() {
+		if (terminated) {
+			throw new AlgorithmTerminationException(this, "algorithm already terminated");
+		}
+		
+		cancel();
+		terminated = true;
+		
+		if (getAlgorithm().isTerminated()) {
+			getExtensions().onTerminate();
+		} else {
+			getAlgorithm().terminate();
+		}
+	}
+	
+	@Override
+	public void close() {
+		cancel();
+		
+		if (shutdownWhenClosed && !executor.isShutdown()) {
+			executor.shutdown();
+		}
+	}
+
+}
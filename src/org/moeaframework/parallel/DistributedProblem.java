@@ -18,14 +18,19 @@
 package org.moeaframework.parallel;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.moeaframework.algorithm.Algorithm;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
+import org.moeaframework.parallel.util.ExecutorFactory;
 import org.moeaframework.problem.Problem;
 import org.moeaframework.problem.ProblemException;
 import org.moeaframework.problem.ProblemWrapper;
@@ -38,7 +43,8 @@ import org.moeaframework.problem.ProblemWrapper;
  * Internally, this works by using {@link Future}s, via the {@link FutureSolution} wrapper, to perform the evaluations
  * asynchronously.  Methods requiring the result will block until the result is available.  To best utilize this
  * feature, implementations should prefer calling {@link Algorithm#evaluateAll(Solution[])} to submit all solutions at
- * once for evaluation.
+ * once for evaluation.  Solutions that are not {@code FutureSolution}s can also be evaluated in parallel by passing
+ * them to {@link #evaluateAll(Iterable)}, which blocks until the entire batch is evaluated.
  * <p>
  * Any {@link ExecutorService} can be used.  For example, {@link Executors} provides various options for distributing
  * locally.  For remote evaluations, Java frameworks such as <a href="https://github.com/jppf-grid/JPPF">JPPF</a>,
@@ -70,15 +76,16 @@ public class DistributedProblem extends ProblemWrapper {
 	private final AtomicLong nextDistributedEvaluationID;
 	
 	/**
-	 * Creates a distributed problem using the number of available processors on the local computer.  Callers should
-	 * ensure the returned problem is closed, preferably using a try-with-resources block, to clean up the underlying
-	 * resources.
+	 * Creates a distributed problem using the executor configured in {@link Settings}, which by default uses the
+	 * number of available processors on the local computer.  Callers should ensure the returned problem is closed,
+	 * preferably using a try-with-resources block, to clean up the underlying resources.
 	 * 
 	 * @param problem the problem to distribute
 	 * @return the distributed problem
+	 * @see ExecutorFactory#createExecutor()
 	 */
 	public static DistributedProblem from(Problem problem) {
-		return from(problem, Runtime.getRuntime().availableProcessors());
+		return new DistributedProblem(problem, ExecutorFactory.getInstance().createExecutor(), true);
 	}
 	
 	/**
@@ -173,6 +180,52 @@ public class DistributedProblem extends ProblemWrapper {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Any {@link FutureSolution}s are submitted for asynchronous evaluation, identical to calling
+	 * {@link #evaluate(Solution)}.  All other solutions are submitted together and this method blocks until their
+	 * evaluations complete.  This allows a batch of solutions to be evaluated in parallel without requiring
+	 * {@link FutureSolution}.
+	 */
+	@Override
+	public void evaluateAll(Iterable<Solution> solutions) {
+		List<Solution> submitted = new ArrayList<>();
+		List<Future<Solution>> futures = new ArrayList<>();
+		
+		for (Solution solution : solutions) {
+			if (solution instanceof FutureSolution) {
+				evaluate(solution);
+			} else {
+				submitted.add(solution);
+				futures.add(executor.submit(new ProblemEvaluator(problem, solution)));
+			}
+		}
+		
+		try {
+			for (int i = 0; i < futures.size(); i++) {
+				Solution solution = submitted.get(i);
+				Solution result = futures.get(i).get();
+				
+				// if the solution was serialized, copy the results back into the original instance
+				if (result != solution) {
+					solution.setObjectiveValues(result.getObjectiveValues());
+					solution.setConstraintValues(result.getConstraintValues());
+					solution.addAttributes(result.getAttributes());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ProblemException(this, "interrupted while waiting for evaluations", e);
+		} catch (ExecutionException e) {
+			throw new ProblemException(this, "failed to evaluate solution", e.getCause());
+		} finally {
+			for (Future<Solution> future : futures) {
+				future.cancel(true);
+			}
+		}
+	}
+	
 	@Override
 	public Solution newSolution() {
 		Solution solution = super.newSolution();
@@ -49,11 +49,33 @@ public class Island {
 	 * @param population the initial population for this island
 	 */
 	public Island(Algorithm algorithm, Population population) {
+		this(algorithm, population, new ImmigrationQueue());
+	}
+	
+	/**
+	 * Creates a new island with the given algorithm and population, where the immigration queue is bounded by the
+	 * given capacity.  If more solutions arrive between migrations than the capacity, the oldest are discarded.
+	 * 
+	 * @param algorithm the algorithm assigned to this island
+	 * @param population the initial population for this island
+	 * @param immigrationCapacity the maximum number of solutions waiting in the immigration queue
+	 */
+	public Island(Algorithm algorithm, Population population, int immigrationCapacity) {
+		this(algorithm, population, new ImmigrationQueue(immigrationCapacity));
+	}
+	
+	/**
+	 * Creates a new island with the given algorithm, population, and immigration queue.
+	 * 
+	 * @param algorithm the algorithm assigned to this island
+	 * @param population the initial population for this island
+	 * @param immigrationQueue the immigration queue
+	 */
+	private Island(Algorithm algorithm, Population population, ImmigrationQueue immigrationQueue) {
 		super();
 		this.algorithm = algorithm;
 		this.population = population;
-		
-		immigrationQueue = new ImmigrationQueue();
+		this.immigrationQueue = immigrationQueue;
 	}
 
 	/**
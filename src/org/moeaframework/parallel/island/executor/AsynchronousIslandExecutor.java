@@ -0,0 +1,275 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.island.executor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.moeaframework.algorithm.Algorithm;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.parallel.island.Island;
+import org.moeaframework.parallel.island.IslandModel;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Executes an island model where all islands draw from a shared budget of function evaluations.  Unlike
+ * {@link BasicIslandExecutor}, which gives each island an equal share of the evaluations, islands continue stepping
+ * until the shared budget is exhausted.  Consequently, faster islands perform more evaluations rather than sitting
+ * idle waiting for slower islands to finish.  The total number of evaluations can exceed the budget by at most one
+ * iteration per thread.
+ * <p>
+ * Each island is assigned to a fixed thread for the entire run, and a thread with multiple islands steps each in
+ * turn.  Keeping an island on the same thread avoids handing its state between threads, which matters when running
+ * more islands than available processors.  Combined with migrations through each island's lock-free
+ * {@link org.moeaframework.parallel.util.ImmigrationQueue}, islands never wait on one another.
+ * <p>
+ * The throughput of each island and the latency of its migrations are recorded while running, and can be inspected
+ * to tune the {@link org.moeaframework.parallel.island.topology.Topology} and migration
+ * {@link org.moeaframework.algorithm.extension.Frequency}.
+ */
+public class AsynchronousIslandExecutor implements IslandExecutor {
+	
+	/**
+	 * The island model.
+	 */
+	private final IslandModel model;
+	
+	/**
+	 * The islands being executed.
+	 */
+	private final List<Island> islands;
+	
+	/**
+	 * The number of threads running the islands.
+	 */
+	private final int numberOfThreads;
+	
+	/**
+	 * The executor service with one thread per group of islands.
+	 */
+	private final ExecutorService executorService;
+	
+	/**
+	 * The number of evaluations performed by each island.
+	 */
+	private final AtomicLongArray evaluations;
+	
+	/**
+	 * The time, in nanoseconds, each island has spent stepping its algorithm.
+	 */
+	private final AtomicLongArray busyTime;
+	
+	/**
+	 * Constructs a new executor using one thread per island, up to the number of available processors.
+	 * 
+	 * @param model the island model
+	 */
+	public AsynchronousIslandExecutor(IslandModel model) {
+		this(model, Math.min(model.getIslands().size(), Runtime.getRuntime().availableProcessors()));
+	}
+	
+	/**
+	 * Constructs a new executor using the given number of threads.  If there are more islands than threads, each
+	 * thread runs a fixed subset of the islands.
+	 * 
+	 * @param model the island model
+	 * @param numberOfThreads the number of threads
+	 */
+	public AsynchronousIslandExecutor(IslandModel model, int numberOfThreads) {
+		super();
+		
+		Validate.that("model.getIslands().size()", model.getIslands().size()).isGreaterThan(0);
+		Validate.that("numberOfThreads", numberOfThreads).isGreaterThan(0);
+		
+		this.model = model;
+		this.islands = model.getIslands();
+		this.numberOfThreads = Math.min(numberOfThreads, islands.size());
+		
+		executorService = Executors.newFixedThreadPool(this.numberOfThreads);
+		evaluations = new AtomicLongArray(islands.size());
+		busyTime = new AtomicLongArray(islands.size());
+		
+		for (Island island : islands) {
+			island.getAlgorithm().addExtension(new IslandMigrationExtension(island, model));
+		}
+	}
+	
+	/**
+	 * Returns the island model.
+	 * 
+	 * @return the island model
+	 */
+	public IslandModel getModel() {
+		return model;
+	}
+	
+	/**
+	 * Returns the number of threads running the islands.
+	 * 
+	 * @return the number of threads
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+	
+	/**
+	 * Returns the number of evaluations performed by the given island across all runs.  This value is updated after
+	 * each iteration and can be read while running.
+	 * 
+	 * @param index the index of the island
+	 * @return the number of evaluations
+	 */
+	public long getNumberOfEvaluations(int index) {
+		return evaluations.get(index);
+	}
+	
+	/**
+	 * Returns the throughput of the given island, measured as the number of evaluations per second spent stepping
+	 * its algorithm.  Time spent waiting for other islands sharing the same thread is excluded.
+	 * 
+	 * @param index the index of the island
+	 * @return the number of evaluations per second, or {@code 0.0} if the island has not yet run
+	 */
+	public double getThroughput(int index) {
+		long nanos = busyTime.get(index);
+		return nanos == 0 ? 0.0 : evaluations.get(index) / (nanos / 1e9);
+	}
+	
+	/**
+	 * Returns the statistics of the time, in milliseconds, that immigrants to the given island waited before being
+	 * inserted into its population.
+	 * 
+	 * @param index the index of the island
+	 * @return the migration latency statistics
+	 */
+	public StatisticalSummary getMigrationLatency(int index) {
+		return islands.get(index).getImmigrationQueue().getLatency();
+	}
+	
+	@Override
+	public NondominatedPopulation run(int maxEvaluations) {
+		AtomicLong remaining = new AtomicLong(maxEvaluations);
+		List<Future<NondominatedPopulation>> futures = new ArrayList<>();
+		
+		//start threads, each processing a fixed subset of the islands
+		for (int i = 0; i < numberOfThreads; i++) {
+			List<Integer> indices = new ArrayList<>();
+			
+			for (int j = i; j < islands.size(); j += numberOfThreads) {
+				indices.add(j);
+			}
+			
+			futures.add(executorService.submit(() -> {
+				try {
+					return run(indices, remaining);
+				} catch (RuntimeException | Error e) {
+					//stop the other islands
+					remaining.set(0);
+					throw e;
+				}
+			}));
+		}
+		
+		//wait for all to complete and aggregate the result
+		NondominatedPopulation result = new NondominatedPopulation();
+		
+		for (Future<NondominatedPopulation> future : futures) {
+			try {
+				result.addAll(future.get());
+			} catch (InterruptedException e) {
+				throw new FrameworkException("Execution of island model was interrupted", e);
+			} catch (ExecutionException e) {
+				throw new FrameworkException("Execution of island model failed", e);
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Steps each of the islands in turn until the shared budget is exhausted.
+	 * 
+	 * @param indices the indices of the islands run by the current thread
+	 * @param remaining the remaining number of evaluations shared by all islands
+	 * @return the combined result of the islands
+	 * @throws FrameworkException if stepping every island performs no evaluations, which would otherwise never
+	 *         exhaust the budget
+	 */
+	private NondominatedPopulation run(List<Integer> indices, AtomicLong remaining) {
+		while (remaining.get() > 0) {
+			long progress = 0;
+			
+			for (int index : indices) {
+				if (remaining.get() <= 0) {
+					break;
+				}
+				
+				Algorithm algorithm = islands.get(index).getAlgorithm();
+				int startingEvaluations = algorithm.getNumberOfEvaluations();
+				long startTime = System.nanoTime();
+				
+				algorithm.step();
+				
+				int consumed = algorithm.getNumberOfEvaluations() - startingEvaluations;
+				busyTime.addAndGet(index, System.nanoTime() - startTime);
+				evaluations.addAndGet(index, consumed);
+				remaining.addAndGet(-consumed);
+				progress += consumed;
+			}
+			
+			if (progress == 0 && remaining.get() > 0) {
+				throw new FrameworkException("Islands " + indices +
+						" performed no evaluations, unable to exhaust the evaluation budget");
+			}
+		}
+		
+		NondominatedPopulation result = new NondominatedPopulation();
+		
+		for (int index : indices) {
+			Algorithm algorithm = islands.get(index).getAlgorithm();
+			
+			if (!algorithm.isInitialized()) {
+				//island never ran since the budget was exhausted by the other islands
+				continue;
+			}
+			
+			if (!algorithm.isTerminated()) {
+				algorithm.terminate();
+			}
+			
+			result.addAll(algorithm.getResult());
+		}
+		
+		return result;
+	}
+	
+	@Override
+	public void close() throws IOException {
+		executorService.shutdown();
+	}
+
+}
@@ -0,0 +1,371 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.island.executor;
+
+import static org.moeaframework.parallel.island.executor.SocketIslandExecutor.ASSIGN;
+import static org.moeaframework.parallel.island.executor.SocketIslandExecutor.EMIGRANTS;
+import static org.moeaframework.parallel.island.executor.SocketIslandExecutor.IMMIGRANTS;
+import static org.moeaframework.parallel.island.executor.SocketIslandExecutor.PROGRESS;
+import static org.moeaframework.parallel.island.executor.SocketIslandExecutor.RESULT;
+import static org.moeaframework.parallel.island.executor.SocketIslandExecutor.SHUTDOWN;
+import static org.moeaframework.parallel.island.executor.SocketIslandExecutor.START;
+import static org.moeaframework.parallel.island.executor.SocketIslandExecutor.TERMINATE;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.moeaframework.algorithm.Algorithm;
+import org.moeaframework.algorithm.EvolutionaryAlgorithm;
+import org.moeaframework.algorithm.extension.Frequency;
+import org.moeaframework.algorithm.extension.PeriodicExtension;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.TypedProperties;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.core.selection.Selection;
+import org.moeaframework.core.selection.TournamentSelection;
+import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.core.spi.ProblemFactory;
+import org.moeaframework.parallel.island.Island;
+import org.moeaframework.parallel.island.executor.SocketIslandExecutor.Message;
+import org.moeaframework.parallel.island.migration.Replacement;
+import org.moeaframework.parallel.util.SolutionCodec;
+import org.moeaframework.problem.Problem;
+
+/**
+ * Worker process running islands on behalf of a {@link SocketIslandExecutor}.  The worker connects to the
+ * coordinator, receives its assigned islands, and runs them each time the coordinator starts a new run.  Usage:
+ * <pre>
+ *   java -cp &lt;classpath&gt; org.moeaframework.parallel.island.executor.IslandWorker &lt;host&gt; &lt;port&gt;
+ * </pre>
+ * The worker exits when the coordinator is closed or the connection is lost.
+ * <p>
+ * Only the migration frequency and size are received from the coordinator.  Emigrants are always chosen by
+ * {@link TournamentSelection} and immigrants are inserted using {@link Replacement#dominated()}, regardless of the
+ * migration strategy configured in the coordinator's island model.
+ */
+public class IslandWorker implements Closeable {
+	
+	/**
+	 * The socket connected to the coordinator.
+	 */
+	private final Socket socket;
+	
+	/**
+	 * The input stream.
+	 */
+	private final DataInputStream in;
+	
+	/**
+	 * The output stream.
+	 */
+	private final DataOutputStream out;
+	
+	/**
+	 * The messages received from the coordinator, queued by the reader thread.
+	 */
+	private final BlockingQueue<Message> messages;
+	
+	/**
+	 * The islands assigned to this worker.
+	 */
+	private final List<Assignment> assignments;
+	
+	/**
+	 * The process for selecting emigrants.
+	 */
+	private final Selection selection;
+	
+	/**
+	 * The policy for inserting immigrants.
+	 */
+	private final Replacement replacement;
+	
+	/**
+	 * Connects to the coordinator.
+	 * 
+	 * @param host the host name or address of the coordinator
+	 * @param port the port of the coordinator
+	 * @throws IOException if an I/O error occurred while connecting
+	 */
+	public IslandWorker(String host, int port) throws IOException {
+		super();
+		
+		socket = new Socket(host, port);
+		socket.setTcpNoDelay(true);
+		
+		in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		messages = new LinkedBlockingQueue<>();
+		assignments = new ArrayList<>();
+		selection = new TournamentSelection();
+		replacement = Replacement.dominated();
+	}
+	
+	/**
+	 * Processes messages from the coordinator until told to shut down or the connection is lost.
+	 * 
+	 * @throws IOException if an I/O error occurred
+	 * @throws InterruptedException if interrupted while waiting for messages
+	 */
+	public void run() throws IOException, InterruptedException {
+		Thread reader = new Thread(this::read, "IslandWorker-Reader");
+		reader.setDaemon(true);
+		reader.start();
+		
+		while (true) {
+			Message message = messages.take();
+			
+			switch (message.type()) {
+				case ASSIGN -> assignments.add(Assignment.read(message.open()));
+				case START -> {
+					if (!runIslands()) {
+						return;
+					}
+				}
+				case SHUTDOWN -> {
+					return;
+				}
+				default -> {
+					//ignore messages left over from a previous run
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Runs the assigned islands until the coordinator signals the budget is exhausted, then sends the result.
+	 * 
+	 * @return {@code false} if the worker should shut down; {@code true} otherwise
+	 * @throws IOException if an I/O error occurred
+	 */
+	private boolean runIslands() throws IOException {
+		List<Island> islands = new ArrayList<>();
+		
+		for (int i = 0; i < assignments.size(); i++) {
+			islands.add(assignments.get(i).createIsland(i, this));
+		}
+		
+		try {
+			while (true) {
+				for (Island island : islands) {
+					Message message;
+					
+					while ((message = messages.poll()) != null) {
+						DataInputStream payload = message.open();
+						
+						switch (message.type()) {
+							case IMMIGRANTS -> {
+								Island target = islands.get(payload.readInt());
+								Problem problem = target.getAlgorithm().getProblem();
+								target.getImmigrationQueue().addAll(SolutionCodec.readAll(payload, problem));
+							}
+							case TERMINATE -> {
+								sendResult(islands);
+								return true;
+							}
+							case SHUTDOWN -> {
+								return false;
+							}
+							default -> throw new IOException("Unexpected message type " + message.type());
+						}
+					}
+					
+					Algorithm algorithm = island.getAlgorithm();
+					int startingEvaluations = algorithm.getNumberOfEvaluations();
+					
+					algorithm.step();
+					
+					int consumed = algorithm.getNumberOfEvaluations() - startingEvaluations;
+					send(PROGRESS, out -> out.writeInt(consumed));
+				}
+			}
+		} finally {
+			for (Island island : islands) {
+				island.getAlgorithm().getProblem().close();
+			}
+		}
+	}
+	
+	/**
+	 * Terminates the islands and sends their combined result to the coordinator.
+	 * 
+	 * @param islands the islands
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void sendResult(List<Island> islands) throws IOException {
+		NondominatedPopulation result = new NondominatedPopulation();
+		
+		for (Island island : islands) {
+			Algorithm algorithm = island.getAlgorithm();
+			
+			if (!algorithm.isInitialized()) {
+				continue;
+			}
+			
+			if (!algorithm.isTerminated()) {
+				algorithm.terminate();
+			}
+			
+			result.addAll(algorithm.getResult());
+		}
+		
+		send(RESULT, out -> SolutionCodec.writeAll(out, result));
+	}
+	
+	/**
+	 * Sends emigrants selected from the island to the coordinator, then inserts any immigrants received by the island.
+	 * 
+	 * @param index the index of the island
+	 * @param island the island
+	 * @param size the number of emigrants
+	 */
+	private void migrate(int index, Island island, int size) {
+		Solution[] emigrants = selection.select(size, island.getPopulation());
+		
+		try {
+			send(EMIGRANTS, out -> {
+				out.writeInt(index);
+				SolutionCodec.writeAll(out, List.of(emigrants));
+			});
+		} catch (IOException e) {
+			//the connection is lost, the reader thread will signal the worker to shut down
+		}
+		
+		replacement.replace(island.getPopulation(), island.getImmigrationQueue().popAll());
+	}
+	
+	/**
+	 * Sends a message to the coordinator.
+	 * 
+	 * @param type the type of message
+	 * @param writer the writer producing the payload
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void send(byte type, SocketIslandExecutor.PayloadWriter writer) throws IOException {
+		Message.write(out, type, writer);
+	}
+	
+	/**
+	 * Reads messages from the coordinator, queuing them for the main thread.  If the connection is lost, a shutdown
+	 * message is queued.
+	 */
+	private void read() {
+		try {
+			while (true) {
+				messages.add(Message.read(in));
+			}
+		} catch (IOException e) {
+			messages.add(new Message(SHUTDOWN, new byte[0]));
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		socket.close();
+	}
+	
+	/**
+	 * The definition of an island assigned to this worker.
+	 * 
+	 * @param algorithmName the name of the algorithm
+	 * @param problemName the name of the problem
+	 * @param properties the configuration of the algorithm
+	 * @param migrationFrequency the migration frequency
+	 * @param migrationSize the number of solutions migrated each time
+	 */
+	private record Assignment(String algorithmName, String problemName, TypedProperties properties,
+			Frequency migrationFrequency, int migrationSize) {
+		
+		/**
+		 * Reads the assignment sent by the coordinator.
+		 * 
+		 * @param in the input stream
+		 * @return the assignment
+		 * @throws IOException if an I/O error occurred
+		 */
+		static Assignment read(DataInputStream in) throws IOException {
+			String algorithmName = in.readUTF();
+			String problemName = in.readUTF();
+			TypedProperties properties = new TypedProperties();
+			
+			properties.load(new StringReader(new String(SocketIslandExecutor.readBytes(in),
+					StandardCharsets.UTF_8)));
+			
+			int frequencyValue = in.readInt();
+			Frequency.Type frequencyType = Frequency.Type.valueOf(in.readUTF());
+			
+			return new Assignment(algorithmName, problemName, properties, new Frequency(frequencyValue,
+					frequencyType), in.readInt());
+		}
+		
+		/**
+		 * Creates a new instance of the island, including the extension performing migrations.
+		 * 
+		 * @param index the index of the island
+		 * @param worker the worker running the island
+		 * @return the island
+		 */
+		Island createIsland(int index, IslandWorker worker) {
+			Problem problem = ProblemFactory.getInstance().getProblem(problemName);
+			EvolutionaryAlgorithm algorithm = (EvolutionaryAlgorithm)AlgorithmFactory.getInstance().getAlgorithm(
+					algorithmName, properties, problem);
+			Island island = new Island(algorithm, algorithm.getPopulation());
+			
+			algorithm.addExtension(new PeriodicExtension(migrationFrequency) {
+				
+				@Override
+				public void doAction(Algorithm algorithm) {
+					worker.migrate(index, island, migrationSize);
+				}
+			
+			});
+			
+			return island;
+		}
+	
+	}
+	
+	/**
+	 * Starts a worker connected to the coordinator at the given host and port.
+	 * 
+	 * @param args the command line arguments, the host and port of the coordinator
+	 * @throws Exception if an error occurred
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length != 2) {
+			System.err.println("Usage: java " + IslandWorker.class.getName() + " <host> <port>");
+			System.exit(-1);
+		}
+		
+		try (IslandWorker worker = new IslandWorker(args[0], Integer.parseInt(args[1]))) {
+			worker.run();
+		}
+	}
+
+}
@@ -0,0 +1,887 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.island.executor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.moeaframework.algorithm.Algorithm;
+import org.moeaframework.algorithm.EvolutionaryAlgorithm;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.TypedProperties;
+import org.moeaframework.core.configuration.Configurable;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.core.spi.ProblemFactory;
+import org.moeaframework.core.spi.ProviderNotFoundException;
+import org.moeaframework.parallel.island.Island;
+import org.moeaframework.parallel.island.IslandModel;
+import org.moeaframework.parallel.island.migration.SingleNeighborMigration;
+import org.moeaframework.parallel.util.SolutionCodec;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Executes an island model across multiple JVMs, possibly running on different machines, that communicate over
+ * sockets.  This executor acts as the coordinator.  It listens for connections from {@link IslandWorker}s, assigns
+ * the islands to the workers in a round-robin fashion, relays migrants between islands, and aggregates the results.
+ * <p>
+ * Each worker recreates its islands by name using the {@link AlgorithmFactory} and {@link ProblemFactory}, so the
+ * algorithms and problems must be registered with a provider and available on the worker's classpath.  The islands
+ * in the model serve as templates, providing the name and configuration of each algorithm and problem.  All workers
+ * draw from a shared budget of evaluations, similar to {@link AsynchronousIslandExecutor}, and migrate solutions at
+ * the model's migration frequency.  Emigrants are sent to a random neighbor in the model's topology.  Solutions are
+ * exchanged using the compact binary format of {@link SolutionCodec}.
+ * <p>
+ * The model's {@link org.moeaframework.parallel.island.migration.Migration} strategy is not sent to the workers.  If
+ * it is a {@link SingleNeighborMigration}, its size determines the number of emigrants, and otherwise one solution
+ * is migrated.  Regardless of the selection and replacement policies configured in the model, emigrants are always
+ * chosen by {@link org.moeaframework.core.selection.TournamentSelection} and immigrants are inserted using
+ * {@link org.moeaframework.parallel.island.migration.Replacement#dominated()}.
+ * <p>
+ * If a worker disconnects or its process terminates, the run continues with the remaining workers and the results
+ * of the lost islands are excluded.  The run fails only if all workers are lost.
+ * <p>
+ * Use the {@link Builder} to configure the executor.  For example, to run the islands in two local worker processes:
+ * <pre>{@code
+ *   try (SocketIslandExecutor executor = new SocketIslandExecutor.Builder(model).withLocalWorkers(2).build()) {
+ *       NondominatedPopulation result = executor.run(100000);
+ *   }
+ * }</pre>
+ * Workers on other machines are started with {@code java -cp <classpath> IslandWorker <host> <port>}, where the
+ * host and port identify the coordinator, and are counted using {@link Builder#withRemoteWorkers(int)}.
+ * <p>
+ * Connections are not authenticated or encrypted, so any process able to reach the coordinator can join as a worker.
+ * By default, the coordinator only listens on the loopback address.  Accepting remote workers requires setting the
+ * address with {@link Builder#withBindAddress(InetAddress)}, which should only be reachable from trusted networks.
+ */
+public class SocketIslandExecutor implements IslandExecutor {
+	
+	/**
+	 * The default port the coordinator listens on for connections from workers.
+	 */
+	public static final int DEFAULT_PORT = 16802;
+	
+	/**
+	 * The default time to wait for all workers to connect.
+	 */
+	public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(60);
+	
+	/**
+	 * The placeholder in the worker command prefix that is replaced by the index of the worker.
+	 */
+	public static final String WORKER_PLACEHOLDER = "{worker}";
+	
+	/**
+	 * The maximum length, in bytes, of a length-prefixed payload.  Longer payloads are rejected before allocating any
+	 * memory.
+	 */
+	static final int MAX_PAYLOAD_LENGTH = 256 * 1024 * 1024;
+	
+	/**
+	 * Message assigning an island to a worker, sent by the coordinator.
+	 */
+	static final byte ASSIGN = 1;
+	
+	/**
+	 * Message starting a new run, sent by the coordinator.
+	 */
+	static final byte START = 2;
+	
+	/**
+	 * Message reporting the number of evaluations performed since the last report, sent by the worker.
+	 */
+	static final byte PROGRESS = 3;
+	
+	/**
+	 * Message containing solutions emigrating from an island, sent by the worker.
+	 */
+	static final byte EMIGRANTS = 4;
+	
+	/**
+	 * Message containing solutions immigrating to an island, sent by the coordinator.
+	 */
+	static final byte IMMIGRANTS = 5;
+	
+	/**
+	 * Message signaling the budget is exhausted and the run should stop, sent by the coordinator.
+	 */
+	static final byte TERMINATE = 6;
+	
+	/**
+	 * Message containing the combined result of the worker's islands, sent by the worker.
+	 */
+	static final byte RESULT = 7;
+	
+	/**
+	 * Message signaling the worker should exit, sent by the coordinator.
+	 */
+	static final byte SHUTDOWN = 8;
+	
+	/**
+	 * The island model.
+	 */
+	private final IslandModel model;
+	
+	/**
+	 * The islands, used as templates for the islands created by the workers.
+	 */
+	private final List<Island> islands;
+	
+	/**
+	 * The problem, used to decode the results.
+	 */
+	private final Problem problem;
+	
+	/**
+	 * The server socket accepting connections from workers.
+	 */
+	private final ServerSocket serverSocket;
+	
+	/**
+	 * The local worker processes.
+	 */
+	private final List<Process> processes;
+	
+	/**
+	 * The connected workers.
+	 */
+	private final List<Worker> workers;
+	
+	/**
+	 * The worker running each island.
+	 */
+	private final Worker[] owners;
+	
+	/**
+	 * The remaining number of evaluations in the current run.
+	 */
+	private final AtomicLong remaining;
+	
+	/**
+	 * Set once the workers have been told to terminate the current run.
+	 */
+	private final AtomicBoolean terminating;
+	
+	/**
+	 * Set once this executor is closed, after which disconnects are expected.
+	 */
+	private volatile boolean closed;
+	
+	/**
+	 * Constructs a new executor, starting the local workers and waiting for all workers to connect.
+	 * 
+	 * @param builder the builder containing the configuration
+	 * @throws IOException if an I/O error occurred while starting or connecting to the workers
+	 */
+	private SocketIslandExecutor(Builder builder) throws IOException {
+		super();
+		this.model = builder.model;
+		this.islands = model.getIslands();
+		this.problem = islands.get(0).getAlgorithm().getProblem();
+		
+		processes = new ArrayList<>();
+		workers = new ArrayList<>();
+		owners = new Worker[islands.size()];
+		remaining = new AtomicLong();
+		terminating = new AtomicBoolean(true);
+		
+		List<byte[]> assignments = new ArrayList<>();
+		int migrationSize = model.getMigration() instanceof SingleNeighborMigration migration ?
+				migration.getSize() : 1;
+		
+		for (Island island : islands) {
+			assignments.add(encodeAssignment(island, migrationSize));
+		}
+		
+		int numberOfWorkers = builder.localWorkers + builder.remoteWorkers;
+		serverSocket = new ServerSocket(builder.port, numberOfWorkers, builder.bindAddress);
+		
+		try {
+			for (int i = 0; i < builder.localWorkers; i++) {
+				processes.add(startLocalWorker(i, builder.workerCommand));
+			}
+			
+			long deadline = System.nanoTime() + builder.timeout.toNanos();
+			
+			for (int i = 0; i < numberOfWorkers; i++) {
+				long timeout = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				
+				if (timeout <= 0) {
+					throw new SocketTimeoutException("Timed out waiting for workers to connect");
+				}
+				
+				serverSocket.setSoTimeout((int)Math.min(timeout, Integer.MAX_VALUE));
+				workers.add(new Worker(serverSocket.accept()));
+			}
+			
+			for (int i = 0; i < islands.size(); i++) {
+				byte[] assignment = assignments.get(i);
+				
+				owners[i] = workers.get(i % numberOfWorkers);
+				owners[i].islands.add(i);
+				owners[i].send(ASSIGN, out -> out.write(assignment));
+			}
+		} catch (IOException | RuntimeException e) {
+			close();
+			throw e;
+		}
+		
+		for (Worker worker : workers) {
+			worker.start();
+		}
+	}
+	
+	/**
+	 * Returns the island model.
+	 * 
+	 * @return the island model
+	 */
+	public IslandModel getModel() {
+		return model;
+	}
+	
+	/**
+	 * Returns the address the coordinator is listening on.
+	 * 
+	 * @return the address
+	 */
+	public InetAddress getAddress() {
+		return serverSocket.getInetAddress();
+	}
+	
+	/**
+	 * Returns the port the coordinator is listening on, which is useful when configured to use an ephemeral port.
+	 * 
+	 * @return the port
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+	
+	/**
+	 * Returns the number of workers that are still connected.
+	 * 
+	 * @return the number of active workers
+	 */
+	public int getNumberOfActiveWorkers() {
+		return (int)workers.stream().filter(worker -> worker.alive).count();
+	}
+	
+	/**
+	 * Returns the processes of the local workers.
+	 * 
+	 * @return the local worker processes
+	 */
+	List<Process> getProcesses() {
+		return processes;
+	}
+	
+	@Override
+	public NondominatedPopulation run(int maxEvaluations) {
+		List<Worker> participants = new ArrayList<>();
+		
+		for (Worker worker : workers) {
+			if (worker.alive && !worker.islands.isEmpty()) {
+				worker.result = new CompletableFuture<>();
+				participants.add(worker);
+			}
+		}
+		
+		remaining.set(maxEvaluations);
+		terminating.set(false);
+		
+		for (Worker worker : participants) {
+			worker.send(START, out -> {});
+		}
+		
+		//wait for all workers to respond and aggregate the result
+		NondominatedPopulation result = new NondominatedPopulation();
+		int numberOfResults = 0;
+		
+		for (Worker worker : participants) {
+			try {
+				List<Solution> solutions = worker.result.get();
+				
+				if (solutions != null) {
+					result.addAll(solutions);
+					numberOfResults++;
+				}
+			} catch (InterruptedException e) {
+				throw new FrameworkException("Execution of island model was interrupted", e);
+			} catch (ExecutionException e) {
+				throw new FrameworkException("Execution of island model failed", e);
+			}
+		}
+		
+		terminating.set(true);
+		
+		if (numberOfResults == 0) {
+			throw new FrameworkException("Execution of island model failed, all workers were lost");
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Records the evaluations performed by a worker, telling all workers to terminate once the budget is exhausted.
+	 * 
+	 * @param evaluations the number of evaluations
+	 */
+	private void progress(int evaluations) {
+		if (remaining.addAndGet(-evaluations) <= 0 && terminating.compareAndSet(false, true)) {
+			for (Worker worker : workers) {
+				worker.send(TERMINATE, out -> {});
+			}
+		}
+	}
+	
+	/**
+	 * Relays emigrants from the given island to a random neighbor running on an active worker.
+	 * 
+	 * @param source the index of the island the solutions are emigrating from
+	 * @param payload the encoded solutions
+	 */
+	private void relay(int source, byte[] payload) {
+		List<Island> candidates = new ArrayList<>();
+		
+		for (int i = 0; i < islands.size(); i++) {
+			if (owners[i].alive) {
+				candidates.add(islands.get(i));
+			}
+		}
+		
+		List<Island> neighbors = model.getTopology().getNeighbors(islands.get(source), candidates);
+		
+		if (neighbors.isEmpty()) {
+			return;
+		}
+		
+		int target = islands.indexOf(PRNG.nextItem(neighbors));
+		Worker worker = owners[target];
+		
+		worker.send(IMMIGRANTS, out -> {
+			out.writeInt(worker.islands.indexOf(target));
+			out.write(payload);
+		});
+	}
+	
+	/**
+	 * Starts a worker process on the local machine.
+	 * 
+	 * @param index the index of the worker
+	 * @param prefix the command prefix
+	 * @return the process
+	 * @throws IOException if an I/O error occurred while starting the process
+	 */
+	private Process startLocalWorker(int index, List<String> prefix) throws IOException {
+		List<String> command = new ArrayList<>();
+		
+		for (String argument : prefix) {
+			command.add(argument.replace(WORKER_PLACEHOLDER, Integer.toString(index)));
+		}
+		
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(IslandWorker.class.getName());
+		command.add((getAddress().isAnyLocalAddress() ? InetAddress.getLoopbackAddress() : getAddress())
+				.getHostAddress());
+		command.add(Integer.toString(getPort()));
+		
+		return new ProcessBuilder(command).inheritIO().start();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Tells the workers to exit and waits for the local worker processes to terminate.
+	 */
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		
+		for (Worker worker : workers) {
+			worker.send(SHUTDOWN, out -> {});
+			worker.disconnect();
+		}
+		
+		serverSocket.close();
+		
+		for (Process process : processes) {
+			try {
+				if (!process.waitFor(10, TimeUnit.SECONDS)) {
+					process.destroyForcibly();
+				}
+			} catch (InterruptedException e) {
+				process.destroyForcibly();
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+	
+	/**
+	 * Encodes the message assigning the given island to a worker.  The algorithm and problem are recreated by name
+	 * on the worker, so this first verifies each name is recognized by the corresponding factory.
+	 * 
+	 * @param island the island
+	 * @param migrationSize the number of solutions migrated each time
+	 * @return the encoded message
+	 * @throws IOException if an I/O error occurred while encoding the message
+	 * @throws ProviderNotFoundException if the algorithm or problem could not be recreated by name
+	 */
+	private byte[] encodeAssignment(Island island, int migrationSize) throws IOException {
+		Algorithm algorithm = Validate.that("island.getAlgorithm()", island.getAlgorithm())
+				.isA(EvolutionaryAlgorithm.class);
+		TypedProperties properties = algorithm instanceof Configurable configurable ?
+				configurable.getConfiguration() : new TypedProperties();
+		String problemName = algorithm.getProblem().getName();
+		String algorithmName = findAlgorithmName(algorithm, properties, problemName);
+		
+		StringWriter configuration = new StringWriter();
+		properties.save(configuration);
+		
+		return encode(out -> {
+			out.writeUTF(algorithmName);
+			out.writeUTF(problemName);
+			writeBytes(out, configuration.toString().getBytes(StandardCharsets.UTF_8));
+			out.writeInt(model.getMigrationFrequency().getValue());
+			out.writeUTF(model.getMigrationFrequency().getType().name());
+			out.writeInt(migrationSize);
+		});
+	}
+	
+	/**
+	 * Returns the name used to recreate the algorithm with the {@link AlgorithmFactory}, trying both the name of the
+	 * algorithm and its class.
+	 * 
+	 * @param algorithm the algorithm
+	 * @param properties the configuration of the algorithm
+	 * @param problemName the name of the problem
+	 * @return the name of the algorithm
+	 * @throws ProviderNotFoundException if the algorithm or problem could not be recreated by name
+	 */
+	private static String findAlgorithmName(Algorithm algorithm, TypedProperties properties, String problemName) {
+		try (Problem problem = ProblemFactory.getInstance().getProblem(problemName)) {
+			for (String name : List.of(algorithm.getName(), algorithm.getClass().getSimpleName())) {
+				try {
+					AlgorithmFactory.getInstance().getAlgorithm(name, properties, problem);
+					return name;
+				} catch (ProviderNotFoundException e) {
+					//try the next name
+				}
+			}
+		}
+		
+		throw new ProviderNotFoundException(algorithm.getName());
+	}
+	
+	/**
+	 * Encodes the payload of a message.
+	 * 
+	 * @param writer the writer producing the payload
+	 * @return the encoded payload
+	 * @throws IOException if an I/O error occurred while encoding the payload
+	 */
+	static byte[] encode(PayloadWriter writer) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		
+		try (DataOutputStream out = new DataOutputStream(buffer)) {
+			writer.write(out);
+		}
+		
+		return buffer.toByteArray();
+	}
+	
+	/**
+	 * Writes a length-prefixed array of bytes.
+	 * 
+	 * @param out the output stream
+	 * @param bytes the bytes
+	 * @throws IOException if an I/O error occurred
+	 */
+	static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	/**
+	 * Reads a length-prefixed array of bytes.
+	 * 
+	 * @param in the input stream
+	 * @return the bytes
+	 * @throws IOException if an I/O error occurred, including reaching the end of the stream or reading an invalid
+	 *         length
+	 */
+	static byte[] readBytes(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		
+		if (length < 0 || length > MAX_PAYLOAD_LENGTH) {
+			throw new IOException("Invalid payload length " + length);
+		}
+		
+		// read incrementally so the buffer only grows as data arrives
+		byte[] bytes = in.readNBytes(length);
+		
+		if (bytes.length != length) {
+			throw new EOFException();
+		}
+		
+		return bytes;
+	}
+	
+	/**
+	 * Writes the payload of a message.
+	 */
+	@FunctionalInterface
+	interface PayloadWriter {
+		
+		/**
+		 * Writes the payload.
+		 * 
+		 * @param out the output stream
+		 * @throws IOException if an I/O error occurred
+		 */
+		public void write(DataOutputStream out) throws IOException;
+	
+	}
+	
+	/**
+	 * A message exchanged between the coordinator and workers.  Each message is framed by its type and the length of
+	 * its payload.
+	 * 
+	 * @param type the type of message
+	 * @param payload the payload
+	 */
+	record Message(byte type, byte[] payload) {
+		
+		/**
+		 * Reads the next message from the input stream.
+		 * 
+		 * @param in the input stream
+		 * @return the message
+		 * @throws IOException if an I/O error occurred, including reaching the end of the stream
+		 */
+		static Message read(DataInputStream in) throws IOException {
+			byte type = in.readByte();
+			return new Message(type, readBytes(in));
+		}
+		
+		/**
+		 * Writes a message to the output stream.
+		 * 
+		 * @param out the output stream
+		 * @param type the type of message
+		 * @param writer the writer producing the payload
+		 * @throws IOException if an I/O error occurred
+		 */
+		static void write(DataOutputStream out, byte type, PayloadWriter writer) throws IOException {
+			out.writeByte(type);
+			writeBytes(out, encode(writer));
+			out.flush();
+		}
+		
+		/**
+		 * Returns an input stream for reading the payload.
+		 * 
+		 * @return the input stream
+		 */
+		DataInputStream open() {
+			return new DataInputStream(new ByteArrayInputStream(payload));
+		}
+	
+	}
+	
+	/**
+	 * The connection to a worker, including the thread processing messages received from the worker.
+	 */
+	private class Worker extends Thread {
+		
+		/**
+		 * The socket connected to the worker.
+		 */
+		private final Socket socket;
+		
+		/**
+		 * The input stream.
+		 */
+		private final DataInputStream in;
+		
+		/**
+		 * The output stream.
+		 */
+		private final DataOutputStream out;
+		
+		/**
+		 * The indices of the islands assigned to this worker.
+		 */
+		private final List<Integer> islands;
+		
+		/**
+		 * {@code true} while the worker is connected.
+		 */
+		private volatile boolean alive;
+		
+		/**
+		 * The result of the current run, completed with {@code null} if the worker is lost.
+		 */
+		private volatile CompletableFuture<List<Solution>> result;
+		
+		/**
+		 * Creates the connection to a worker.
+		 * 
+		 * @param socket the socket connected to the worker
+		 * @throws IOException if an I/O error occurred
+		 */
+		public Worker(Socket socket) throws IOException {
+			super("IslandWorker-" + socket.getRemoteSocketAddress());
+			this.socket = socket;
+			
+			socket.setTcpNoDelay(true);
+			
+			in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			islands = new ArrayList<>();
+			alive = true;
+			result = CompletableFuture.completedFuture(null);
+			
+			setDaemon(true);
+		}
+		
+		/**
+		 * Sends a message to the worker.  If the message can not be sent, the worker is considered lost.
+		 * 
+		 * @param type the type of message
+		 * @param writer the writer producing the payload
+		 */
+		public synchronized void send(byte type, PayloadWriter writer) {
+			if (!alive) {
+				return;
+			}
+			
+			try {
+				Message.write(out, type, writer);
+			} catch (IOException e) {
+				lost(e);
+			}
+		}
+		
+		@Override
+		public void run() {
+			try {
+				while (true) {
+					Message message = Message.read(in);
+					DataInputStream payload = message.open();
+					
+					switch (message.type()) {
+						case PROGRESS -> progress(payload.readInt());
+						case EMIGRANTS -> relay(islands.get(payload.readInt()), payload.readAllBytes());
+						case RESULT -> result.complete(SolutionCodec.readAll(payload, problem));
+						default -> throw new IOException("Unexpected message type " + message.type());
+					}
+				}
+			} catch (IOException e) {
+				lost(e);
+			}
+		}
+		
+		/**
+		 * Marks the worker as lost, excluding it from the current and any future runs.
+		 * 
+		 * @param cause the reason the worker was lost
+		 */
+		private void lost(IOException cause) {
+			if (alive) {
+				alive = false;
+				
+				if (!closed) {
+					System.err.println("WARNING: Lost connection to island worker " + socket.getRemoteSocketAddress() +
+							", continuing with remaining workers: " + cause);
+				}
+			}
+			
+			disconnect();
+			result.complete(null);
+		}
+		
+		/**
+		 * Closes the connection to the worker.
+		 */
+		private void disconnect() {
+			try {
+				socket.close();
+			} catch (IOException e) {
+				//ignore, the connection is no longer used
+			}
+		}
+	
+	}
+	
+	/**
+	 * Builder for configuring a {@link SocketIslandExecutor}.
+	 */
+	public static class Builder {
+		
+		private final IslandModel model;
+		
+		private int port;
+		
+		private InetAddress bindAddress;
+		
+		private int localWorkers;
+		
+		private int remoteWorkers;
+		
+		private List<String> workerCommand;
+		
+		private Duration timeout;
+		
+		/**
+		 * Creates a new builder for the given island model.
+		 * 
+		 * @param model the island model
+		 */
+		public Builder(IslandModel model) {
+			super();
+			
+			Validate.that("model", model).isNotNull();
+			Validate.that("model.getIslands().size()", model.getIslands().size()).isGreaterThan(0);
+			
+			this.model = model;
+			
+			port = DEFAULT_PORT;
+			bindAddress = InetAddress.getLoopbackAddress();
+			workerCommand = List.of();
+			timeout = DEFAULT_TIMEOUT;
+		}
+		
+		/**
+		 * Sets the port the coordinator listens on for connections from workers.  Use {@code 0} to pick any free port,
+		 * which is suitable when all workers are started locally.
+		 * 
+		 * @param port the port
+		 * @return a reference to this builder for chaining together calls
+		 */
+		public Builder withPort(int port) {
+			Validate.that("port", port).isBetween(0, 65535);
+			this.port = port;
+			return this;
+		}
+		
+		/**
+		 * Sets the address the coordinator listens on for connections from workers.  Defaults to the loopback
+		 * address, which only accepts connections from the local machine.  Since connections are not authenticated,
+		 * only use an address reachable from trusted networks.
+		 * 
+		 * @param bindAddress the address
+		 * @return a reference to this builder for chaining together calls
+		 */
+		public Builder withBindAddress(InetAddress bindAddress) {
+			Validate.that("bindAddress", bindAddress).isNotNull();
+			this.bindAddress = bindAddress;
+			return this;
+		}
+		
+		/**
+		 * Sets the number of worker processes started on the local machine.
+		 * 
+		 * @param localWorkers the number of local workers
+		 * @return a reference to this builder for chaining together calls
+		 */
+		public Builder withLocalWorkers(int localWorkers) {
+			Validate.that("localWorkers", localWorkers).isGreaterThanOrEqualTo(0);
+			this.localWorkers = localWorkers;
+			return this;
+		}
+		
+		/**
+		 * Sets the number of workers, started separately, that are expected to connect to the coordinator.  Workers on
+		 * other machines also require an externally reachable address, see {@link #withBindAddress(InetAddress)}.
+		 * 
+		 * @param remoteWorkers the number of remote workers
+		 * @return a reference to this builder for chaining together calls
+		 */
+		public Builder withRemoteWorkers(int remoteWorkers) {
+			Validate.that("remoteWorkers", remoteWorkers).isGreaterThanOrEqualTo(0);
+			this.remoteWorkers = remoteWorkers;
+			return this;
+		}
+		
+		/**
+		 * Sets the command prefix used to start local workers.  Any occurrences of
+		 * {@value SocketIslandExecutor#WORKER_PLACEHOLDER} are replaced by the index of the worker.  This can be used to
+		 * control process placement, such as binding each worker to a NUMA node with
+		 * {@code withWorkerCommand("numactl", "--cpunodebind={worker}", "--membind={worker}")}.
+		 * 
+		 * @param prefix the command prefix
+		 * @return a reference to this builder for chaining together calls
+		 */
+		public Builder withWorkerCommand(String... prefix) {
+			this.workerCommand = List.of(prefix);
+			return this;
+		}
+		
+		/**
+		 * Sets the maximum time to wait for all workers to connect.
+		 * 
+		 * @param timeout the timeout
+		 * @return a reference to this builder for chaining together calls
+		 */
+		public Builder withTimeout(Duration timeout) {
+			Validate.that("timeout", timeout).isNotNull();
+			this.timeout = timeout;
+			return this;
+		}
+		
+		/**
+		 * Builds the executor, starting any local workers and waiting for all workers to connect.
+		 * 
+		 * @return the executor
+		 * @throws IOException if an I/O error occurred while starting or connecting to the workers
+		 */
+		public SocketIslandExecutor build() throws IOException {
+			Validate.that("localWorkers + remoteWorkers", localWorkers + remoteWorkers).isGreaterThan(0);
+			return new SocketIslandExecutor(this);
+		}
+	
+	}
+
+}
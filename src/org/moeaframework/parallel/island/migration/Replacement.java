@@ -0,0 +1,180 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.island.migration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.comparator.DominanceComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.population.Population;
+
+/**
+ * Policy for inserting immigrants into the population of an island.  The population size is preserved, so each
+ * immigrant replaces an existing member of the population (or, if the population is empty, the immigrants are
+ * discarded).
+ * <p>
+ * Replacements execute in the same thread as the island receiving the immigrants, and can freely modify its population.
+ */
+@FunctionalInterface
+public interface Replacement {
+	
+	/**
+	 * Inserts the immigrants into the population, removing existing members so the size of the population is
+	 * unchanged.
+	 * 
+	 * @param population the population of the island receiving the immigrants
+	 * @param immigrants the arriving immigrants
+	 */
+	public void replace(Population population, List<Solution> immigrants);
+	
+	/**
+	 * Returns a policy where immigrants replace solutions dominated by one or more immigrants.  This matches the
+	 * behavior of migration prior to the introduction of this interface.  The immigrants are appended to the
+	 * population, then solutions dominated by an immigrant, which may include other immigrants, are removed starting
+	 * from the end of the population.  If the population is still too large, randomly-selected solutions are removed.
+	 * The order of the remaining solutions is preserved.
+	 * 
+	 * @return the replacement policy
+	 */
+	public static Replacement dominated() {
+		return dominated(new ParetoDominanceComparator());
+	}
+	
+	/**
+	 * Returns a policy where immigrants replace solutions dominated by one or more immigrants.  See
+	 * {@link #dominated()} for details.
+	 * 
+	 * @param comparator the dominance comparator
+	 * @return the replacement policy
+	 */
+	public static Replacement dominated(DominanceComparator comparator) {
+		return (population, immigrants) -> {
+			if (immigrants.isEmpty()) {
+				return;
+			}
+			
+			int originalSize = population.size();
+			List<Solution> solutions = new ArrayList<>(originalSize + immigrants.size());
+			
+			population.forEach(solutions::add);
+			solutions.addAll(immigrants);
+			
+			// group the positions of dominated solutions by identity, since removing a solution from a population
+			// removes its first occurrence
+			List<Integer> dominated = new ArrayList<>();
+			Map<Solution, Deque<Integer>> occurrences = new IdentityHashMap<>();
+			
+			for (int i = 0; i < solutions.size(); i++) {
+				if (isDominated(solutions.get(i), immigrants, comparator)) {
+					dominated.add(i);
+					occurrences.computeIfAbsent(solutions.get(i), key -> new ArrayDeque<>()).add(i);
+				}
+			}
+			
+			boolean[] removed = new boolean[solutions.size()];
+			int excess = solutions.size() - originalSize;
+			
+			for (int i = dominated.size() - 1; i >= 0 && excess > 0; i--) {
+				removed[occurrences.get(solutions.get(dominated.get(i))).poll()] = true;
+				excess--;
+			}
+			
+			List<Solution> survivors = new ArrayList<>(solutions.size());
+			
+			for (int i = 0; i < solutions.size(); i++) {
+				if (!removed[i]) {
+					survivors.add(solutions.get(i));
+				}
+			}
+			
+			while (survivors.size() > originalSize) {
+				survivors.remove(PRNG.nextInt(survivors.size()));
+			}
+			
+			population.clear();
+			population.addAll(survivors);
+		};
+	}
+	
+	/**
+	 * Returns a policy where immigrants replace randomly-selected members of the population.  Since the immigrants
+	 * are added before selecting members to remove, an immigrant may itself be removed.
+	 * 
+	 * @return the replacement policy
+	 */
+	public static Replacement random() {
+		return (population, immigrants) -> {
+			if (immigrants.isEmpty()) {
+				return;
+			}
+			
+			int originalSize = population.size();
+			List<Solution> survivors = new ArrayList<>(originalSize + immigrants.size());
+			
+			population.forEach(survivors::add);
+			survivors.addAll(immigrants);
+			
+			truncate(survivors, originalSize);
+			
+			population.clear();
+			population.addAll(survivors);
+		};
+	}
+	
+	/**
+	 * Removes randomly-selected solutions until the list is the given size.  Each removal takes constant time, but
+	 * does not preserve the order of the remaining solutions.
+	 * 
+	 * @param solutions the list of solutions
+	 * @param size the target size
+	 */
+	private static void truncate(List<Solution> solutions, int size) {
+		while (solutions.size() > size) {
+			int index = PRNG.nextInt(solutions.size());
+			Collections.swap(solutions, index, solutions.size() - 1);
+			solutions.remove(solutions.size() - 1);
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if the solution is dominated by one or more immigrants.
+	 * 
+	 * @param solution the solution
+	 * @param immigrants the immigrants
+	 * @param comparator the dominance comparator
+	 * @return {@code true} if the solution is dominated; {@code false} otherwise
+	 */
+	private static boolean isDominated(Solution solution, List<Solution> immigrants, DominanceComparator comparator) {
+		for (Solution immigrant : immigrants) {
+			if (comparator.compare(immigrant, solution) < 0) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+
+}
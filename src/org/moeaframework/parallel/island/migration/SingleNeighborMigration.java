@@ -17,18 +17,19 @@
  */
 package org.moeaframework.parallel.island.migration;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.comparator.ParetoDominanceComparator;
 import org.moeaframework.core.population.Population;
 import org.moeaframework.core.selection.Selection;
 import org.moeaframework.parallel.island.Island;
+import org.moeaframework.util.validate.Validate;
 
 /**
- * Migration strategy that sends migrants to exactly one neighboring island each iteration.
+ * Migration strategy that sends migrants to exactly one neighboring island each iteration.  All emigrants are sent
+ * as a single batch to the neighbor's immigration queue, and any waiting immigrants are inserted into the current
+ * population using the configured {@link Replacement} policy.  Neither step waits on the neighboring island.
  */
 public class SingleNeighborMigration implements Migration {
 	
@@ -43,17 +44,46 @@ public class SingleNeighborMigration implements Migration {
 	private final Selection selection;
 	
 	/**
-	 * Creates a new one-way migration strategy.
+	 * The policy for inserting immigrants into the current population.
+	 */
+	private final Replacement replacement;
+	
+	/**
+	 * Creates a new one-way migration strategy where immigrants replace dominated solutions.
 	 * 
 	 * @param size the number of solutions migrated each iteration
 	 * @param selection the process for selecting emigrants
 	 */
 	public SingleNeighborMigration(int size, Selection selection) {
+		this(size, selection, Replacement.dominated());
+	}
+	
+	/**
+	 * Creates a new one-way migration strategy.
+	 * 
+	 * @param size the number of solutions migrated each iteration
+	 * @param selection the process for selecting emigrants
+	 * @param replacement the policy for inserting immigrants into the current population
+	 */
+	public SingleNeighborMigration(int size, Selection selection, Replacement replacement) {
 		super();
+		
+		Validate.that("replacement", replacement).isNotNull();
+		
 		this.size = size;
 		this.selection = selection;
+		this.replacement = replacement;
 	}
 
+	/**
+	 * Returns the number of solutions migrated each iteration.
+	 * 
+	 * @return the number of solutions migrated each iteration
+	 */
+	public int getSize() {
+		return size;
+	}
+	
 	@Override
 	public void migrate(Island currentIsland, List<Island> neighbors) {
 		Population current = currentIsland.getPopulation();
@@ -66,45 +96,8 @@ public class SingleNeighborMigration implements Migration {
 		targetIsland.getImmigrationQueue().addAll(emigrants);
 		
 		//receive any migrants in the immigration queue, possibly replacing current population members
-		int originalSize = current.size();
 		List<Solution> immigrants = currentIsland.getImmigrationQueue().popAll();
-		
-		current.addAll(immigrants);
-		
-		if (current.size() > originalSize) {
-			List<Solution> dominated = findDominated(current, immigrants);
-				
-			while (!dominated.isEmpty() && (current.size() > originalSize)) {
-				current.remove(dominated.remove(dominated.size()-1));
-			}
-			
-			while (current.size() > originalSize) {
-				current.remove(PRNG.nextInt(current.size()));
-			}
-		}
-	}
-	
-	/**
-	 * Returns all solutions in the population that are dominated by one or more emigrants.
-	 * 
-	 * @param population the current population
-	 * @param emigrants the emigrating solutions
-	 * @return all solutions in the population that are dominated
-	 */
-	private List<Solution> findDominated(Population population, List<Solution> emigrants) {
-		List<Solution> result = new ArrayList<>();
-		ParetoDominanceComparator comparator = new ParetoDominanceComparator();
-		
-		for (Solution solution : population) {
-			for (Solution emigrant : emigrants) {
-				if (comparator.compare(emigrant, solution) < 0) {
-					result.add(solution);
-					break;
-				}
-			}
-		}
-		
-		return result;
+		replacement.replace(current, immigrants);
 	}
 
 }
@@ -17,12 +17,16 @@
  */
 
 /**
- * Support for distributed and parallel computing for optimization algorithms.  Two modes are currently supported:
+ * Support for distributed and parallel computing for optimization algorithms.  Three modes are currently supported:
  * <p>
  * <strong>Distributed evaluations</strong> - Also known as master-slave or master-worker parallelization, this
  * distributes individual function evaluations across multiple processors or computers, either locally or remotely.
  * See {@link DistributedProblem} for details.
  * <p>
+ * <strong>Asynchronous evaluations</strong> - A variant of distributed evaluations for steady-state algorithms, where
+ * each offspring is inserted as soon as its evaluation completes and a new offspring is immediately submitted in its
+ * place.  This avoids idle workers when evaluation times vary.  See {@link AsynchronousAlgorithm} for details.
+ * <p>
  * <strong>Island model</strong> - This parallelization strategy runs multiple instances of an algorithm (the islands),
  * often with some kind of migration strategy to share solutions between the islands.
  */
@@ -0,0 +1,154 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.util;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Limits the number of tasks running concurrently on an {@link ExecutorService}.  This is intended for executors that
+ * do not otherwise limit concurrency, such as those that create a new thread per task.  Submitting a task blocks
+ * until a permit is available, providing backpressure so callers can not queue an unbounded number of tasks.
+ * <p>
+ * Since submitting a task can block, tasks must not submit and wait on other tasks using the same executor.  Doing so
+ * could deadlock once all permits are in use.
+ */
+public class BoundedExecutorService extends AbstractExecutorService {
+	
+	/**
+	 * The underlying executor.
+	 */
+	private final ExecutorService executor;
+	
+	/**
+	 * The permits for running tasks.
+	 */
+	private final Semaphore permits;
+	
+	/**
+	 * The maximum number of tasks running concurrently.
+	 */
+	private final int maximumConcurrency;
+	
+	/**
+	 * Constructs a new executor that limits the number of tasks running concurrently.  Shutting down this executor
+	 * also shuts down the underlying executor.
+	 * 
+	 * @param executor the underlying executor
+	 * @param maximumConcurrency the maximum number of tasks running concurrently
+	 */
+	public BoundedExecutorService(ExecutorService executor, int maximumConcurrency) {
+		super();
+		
+		Validate.that("executor", executor).isNotNull();
+		Validate.that("maximumConcurrency", maximumConcurrency).isGreaterThan(0);
+		
+		this.executor = executor;
+		this.maximumConcurrency = maximumConcurrency;
+		
+		permits = new Semaphore(maximumConcurrency);
+	}
+	
+	/**
+	 * Returns the maximum number of tasks running concurrently.
+	 * 
+	 * @return the maximum number of tasks running concurrently
+	 */
+	public int getMaximumConcurrency() {
+		return maximumConcurrency;
+	}
+	
+	/**
+	 * Returns the number of tasks currently running or waiting to run on the underlying executor.
+	 * 
+	 * @return the number of active tasks
+	 */
+	public int getActiveCount() {
+		return maximumConcurrency - permits.availablePermits();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This method blocks until a permit is available.
+	 * 
+	 * @throws RejectedExecutionException if the task could not be accepted or the calling thread was interrupted while
+	 *         waiting for a permit
+	 */
+	@Override
+	public void execute(Runnable command) {
+		Validate.that("command", command).isNotNull();
+		
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("interrupted while waiting to submit task", e);
+		}
+		
+		try {
+			executor.execute(() -> {
+				try {
+					command.run();
+				} finally {
+					permits.release();
+				}
+			});
+		} catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+	
+	@Override
+	public void shutdown() {
+		executor.shutdown();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The returned tasks are wrapped by this executor and will not be the same instances originally submitted.
+	 */
+	@Override
+	public List<Runnable> shutdownNow() {
+		return executor.shutdownNow();
+	}
+	
+	@Override
+	public boolean isShutdown() {
+		return executor.isShutdown();
+	}
+	
+	@Override
+	public boolean isTerminated() {
+		return executor.isTerminated();
+	}
+	
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return executor.awaitTermination(timeout, unit);
+	}
+
+}
@@ -0,0 +1,234 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.TypedProperties;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Factory for creating the {@link ExecutorService}s used to distribute evaluations.  The type of executor and its
+ * concurrency can be configured in {@link Settings} or by passing the {@code executor} and {@code concurrency}
+ * properties to {@link #createExecutor(TypedProperties)}.
+ * <p>
+ * For CPU-bound evaluations, the default {@link ExecutorType#FIXED} executor with one thread per processor is
+ * recommended.  For I/O-bound evaluations, such as those communicating with external processes or remote
+ * simulators, {@link ExecutorType#VIRTUAL} allows many more evaluations to be in progress at once.
+ * <p>
+ * This class is thread safe.
+ */
+public class ExecutorFactory {
+	
+	/**
+	 * The type of executor.
+	 */
+	public enum ExecutorType {
+		
+		/**
+		 * Uses a fixed number of platform threads, where the concurrency is the number of threads.
+		 */
+		FIXED,
+		
+		/**
+		 * Creates platform threads as needed and reuses idle threads, where the concurrency limits the number of tasks
+		 * running at once.
+		 */
+		CACHED,
+		
+		/**
+		 * Creates a virtual thread per task, where the concurrency limits the number of tasks running at once.  Virtual
+		 * threads require Java 21 or newer.  On older versions, this behaves identically to {@link #CACHED}.
+		 */
+		VIRTUAL
+	
+	}
+	
+	/**
+	 * The method for creating virtual thread executors, or {@code null} if virtual threads are not supported.
+	 */
+	private static final MethodHandle NEW_VIRTUAL_THREAD_EXECUTOR;
+	
+	/**
+	 * The default executor factory.
+	 */
+	private static ExecutorFactory instance;
+	
+	static {
+		MethodHandle handle = null;
+		
+		try {
+			handle = MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+					MethodType.methodType(ExecutorService.class));
+		} catch (ReflectiveOperationException e) {
+			// virtual threads not supported by this version of Java
+		}
+		
+		NEW_VIRTUAL_THREAD_EXECUTOR = handle;
+		instance = new ExecutorFactory();
+	}
+	
+	/**
+	 * The shared executor, or {@code null} if not yet created.
+	 */
+	private ExecutorService sharedExecutor;
+	
+	/**
+	 * Constructs a new executor factory.
+	 */
+	public ExecutorFactory() {
+		super();
+	}
+	
+	/**
+	 * Returns the default executor factory.
+	 * 
+	 * @return the default executor factory
+	 */
+	public static synchronized ExecutorFactory getInstance() {
+		return instance;
+	}
+	
+	/**
+	 * Sets the default executor factory.
+	 * 
+	 * @param instance the default executor factory
+	 */
+	public static synchronized void setInstance(ExecutorFactory instance) {
+		ExecutorFactory.instance = instance;
+	}
+	
+	/**
+	 * Returns {@code true} if virtual threads are supported by this version of Java.
+	 * 
+	 * @return {@code true} if virtual threads are supported; {@code false} otherwise
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+	}
+	
+	/**
+	 * Creates a new executor as configured in {@link Settings}.  The caller is responsible for shutting down the
+	 * executor.
+	 * 
+	 * @return the executor
+	 */
+	public ExecutorService createExecutor() {
+		return createExecutor(Settings.getExecutorType(), Settings.getExecutorConcurrency());
+	}
+	
+	/**
+	 * Creates a new executor as configured by the {@code executor} and {@code concurrency} properties, falling back
+	 * to the values in {@link Settings} if unset.  The caller is responsible for shutting down the executor.
+	 * 
+	 * @param properties the properties
+	 * @return the executor
+	 */
+	public ExecutorService createExecutor(TypedProperties properties) {
+		return createExecutor(
+				properties.getEnum("executor", ExecutorType.class, Settings.getExecutorType()),
+				properties.getInt("concurrency", Settings.getExecutorConcurrency()));
+	}
+	
+	/**
+	 * Creates a new executor.  The caller is responsible for shutting down the executor.
+	 * 
+	 * @param type the type of executor
+	 * @param concurrency the number of threads for {@link ExecutorType#FIXED}, otherwise the maximum number of tasks
+	 *        running at once
+	 * @return the executor
+	 */
+	public ExecutorService createExecutor(ExecutorType type, int concurrency) {
+		return createExecutor(type, concurrency, Executors.defaultThreadFactory());
+	}
+	
+	/**
+	 * Returns the shared executor as configured in {@link Settings}, creating it on first use.  The shared executor
+	 * uses daemon threads, so it does not prevent the JVM from exiting.  Callers must not shut down the shared
+	 * executor, instead use {@link #shutdownSharedExecutor()}.
+	 * 
+	 * @return the shared executor
+	 */
+	public synchronized ExecutorService getSharedExecutor() {
+		if (sharedExecutor == null) {
+			ThreadFactory defaultThreadFactory = Executors.defaultThreadFactory();
+			
+			sharedExecutor = createExecutor(Settings.getExecutorType(), Settings.getExecutorConcurrency(),
+					(runnable) -> {
+						Thread thread = defaultThreadFactory.newThread(runnable);
+						thread.setDaemon(true);
+						return thread;
+					});
+		}
+		
+		return sharedExecutor;
+	}
+	
+	/**
+	 * Shuts down the shared executor, if created.  Previously submitted tasks will still run, but a new shared
+	 * executor is created on the next call to {@link #getSharedExecutor()}.
+	 */
+	public synchronized void shutdownSharedExecutor() {
+		if (sharedExecutor != null) {
+			sharedExecutor.shutdown();
+			sharedExecutor = null;
+		}
+	}
+	
+	/**
+	 * Creates a new executor.
+	 * 
+	 * @param type the type of executor
+	 * @param concurrency the number of threads for {@link ExecutorType#FIXED}, otherwise the maximum number of tasks
+	 *        running at once
+	 * @param threadFactory the factory for creating platform threads
+	 * @return the executor
+	 */
+	private ExecutorService createExecutor(ExecutorType type, int concurrency, ThreadFactory threadFactory) {
+		Validate.that("type", type).isNotNull();
+		Validate.that("concurrency", concurrency).isGreaterThan(0);
+		
+		return switch (type) {
+			case FIXED -> Executors.newFixedThreadPool(concurrency, threadFactory);
+			case CACHED -> new BoundedExecutorService(Executors.newCachedThreadPool(threadFactory), concurrency);
+			case VIRTUAL -> new BoundedExecutorService(isVirtualThreadSupported() ?
+					newVirtualThreadExecutor() : Executors.newCachedThreadPool(threadFactory), concurrency);
+		};
+	}
+	
+	/**
+	 * Creates an executor that starts a new virtual thread for each task.
+	 * 
+	 * @return the executor
+	 */
+	private static ExecutorService newVirtualThreadExecutor() {
+		try {
+			return (ExecutorService)NEW_VIRTUAL_THREAD_EXECUTOR.invokeExact();
+		} catch (Throwable e) {
+			throw new FrameworkException("failed to create virtual thread executor", e);
+		}
+	}
+
+}
@@ -20,28 +20,81 @@ package org.moeaframework.parallel.util;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math3.stat.descriptive.SynchronizedSummaryStatistics;
 import org.moeaframework.core.Solution;
+import org.moeaframework.util.validate.Validate;
 
 /**
  * A queue for tracking migrating solutions that is (1) thread-safe, and (2) automatically creates copies of the
  * solutions to avoid issues in shared-memory environments.
+ * <p>
+ * The queue is lock-free, so adding solutions never blocks the emigrating island.  The queue can optionally be
+ * bounded, in which case the oldest solutions are discarded when the capacity is exceeded.  Since older solutions
+ * reflect a prior state of the emigrating island, discarding them favors the most recent migrants.  Under concurrent
+ * access, the capacity may briefly be exceeded by the number of threads adding solutions.
+ * <p>
+ * This queue also records the time each solution spends waiting in the queue, which can be useful when tuning the
+ * migration frequency.
  */
 public class ImmigrationQueue {
 	
 	/**
 	 * The underlying thread-safe queue.
 	 */
-	private final Queue<Solution> queue;
+	private final Queue<Immigrant> queue;
 	
 	/**
-	 * Creates a new, empty immigration queue.
+	 * The number of solutions in the queue, tracked separately since computing the size of the underlying queue
+	 * requires traversing all elements.
+	 */
+	private final AtomicInteger size;
+	
+	/**
+	 * The maximum number of solutions stored in this queue.
+	 */
+	private final int capacity;
+	
+	/**
+	 * The number of solutions discarded due to exceeding the capacity.
+	 */
+	private final AtomicLong discarded;
+	
+	/**
+	 * The statistics of the time, in milliseconds, solutions wait in this queue.
+	 */
+	private final SummaryStatistics latency;
+	
+	/**
+	 * Creates a new, empty, unbounded immigration queue.
 	 */
 	public ImmigrationQueue() {
+		this(Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Creates a new, empty immigration queue with the given capacity.
+	 * 
+	 * @param capacity the maximum number of solutions stored in this queue
+	 */
+	public ImmigrationQueue(int capacity) {
 		super();
+		
+		Validate.that("capacity", capacity).isGreaterThan(0);
+		
+		this.capacity = capacity;
+		
 		queue = new ConcurrentLinkedQueue<>();
+		size = new AtomicInteger();
+		discarded = new AtomicLong();
+		latency = new SynchronizedSummaryStatistics();
 	}
 	
 	/**
@@ -50,7 +103,7 @@ public class ImmigrationQueue {
 	 * @param solution the solution to add
 	 */
 	public void add(Solution solution) {
-		queue.add(solution.copy());
+		offer(solution.copy(), System.nanoTime());
 	}
 	
 	/**
@@ -59,8 +112,10 @@ public class ImmigrationQueue {
 	 * @param solutions the solutions to add
 	 */
 	public void addAll(Solution[] solutions) {
+		long timestamp = System.nanoTime();
+		
 		for (Solution solution : solutions) {
-			queue.add(solution.copy());
+			offer(solution.copy(), timestamp);
 		}
 	}
 	
@@ -70,8 +125,10 @@ public class ImmigrationQueue {
 	 * @param solutions the solutions to add
 	 */
 	public void addAll(Collection<? extends Solution> solutions) {
+		long timestamp = System.nanoTime();
+		
 		for (Solution solution : solutions) {
-			queue.add(solution.copy());
+			offer(solution.copy(), timestamp);
 		}
 	}
 	
@@ -79,9 +136,16 @@ public class ImmigrationQueue {
 	 * Removes and returns one solution from this immigration queue.
 	 * 
 	 * @return the solution that was removed
+	 * @throws NoSuchElementException if this queue is empty
 	 */
 	public Solution pop() {
-		return queue.remove();
+		Immigrant immigrant = poll();
+		
+		if (immigrant == null) {
+			throw new NoSuchElementException();
+		}
+		
+		return immigrant.solution();
 	}
 	
 	/**
@@ -91,9 +155,10 @@ public class ImmigrationQueue {
 	 */
 	public List<Solution> popAll() {
 		List<Solution> result = new ArrayList<>();
+		Immigrant immigrant;
 		
-		while (!queue.isEmpty()) {
-			result.add(queue.remove());
+		while ((immigrant = poll()) != null) {
+			result.add(immigrant.solution());
 		}
 		
 		return result;
@@ -105,7 +170,7 @@ public class ImmigrationQueue {
 	 * @return the number of solutions
 	 */
 	public int size() {
-		return queue.size();
+		return Math.max(size.get(), 0);
 	}
 	
 	/**
@@ -116,5 +181,74 @@ public class ImmigrationQueue {
 	public boolean isEmpty() {
 		return queue.isEmpty();
 	}
+	
+	/**
+	 * Returns the maximum number of solutions stored in this queue.
+	 * 
+	 * @return the capacity of this queue
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * Returns the number of solutions discarded because this queue exceeded its capacity.
+	 * 
+	 * @return the number of discarded solutions
+	 */
+	public long getNumberOfDiscarded() {
+		return discarded.get();
+	}
+	
+	/**
+	 * Returns the statistics of the time, in milliseconds, each solution waited in this queue before being removed.
+	 * Discarded solutions are not included.
+	 * 
+	 * @return the latency statistics
+	 */
+	public StatisticalSummary getLatency() {
+		return latency.getSummary();
+	}
+	
+	/**
+	 * Adds the solution to the underlying queue, discarding the oldest solution if the capacity is exceeded.
+	 * 
+	 * @param solution the copy of the solution
+	 * @param timestamp the time, in nanoseconds, the solution was added
+	 */
+	private void offer(Solution solution, long timestamp) {
+		queue.add(new Immigrant(solution, timestamp));
+		
+		if (size.incrementAndGet() > capacity && queue.poll() != null) {
+			size.decrementAndGet();
+			discarded.incrementAndGet();
+		}
+	}
+	
+	/**
+	 * Removes the oldest solution from the underlying queue, recording the time it spent waiting.
+	 * 
+	 * @return the removed solution, or {@code null} if the queue is empty
+	 */
+	private Immigrant poll() {
+		Immigrant immigrant = queue.poll();
+		
+		if (immigrant != null) {
+			size.decrementAndGet();
+			latency.addValue((System.nanoTime() - immigrant.timestamp()) / 1e6);
+		}
+		
+		return immigrant;
+	}
+	
+	/**
+	 * A solution waiting in the queue along with the time, in nanoseconds, it was added.
+	 * 
+	 * @param solution the solution
+	 * @param timestamp the time the solution was added
+	 */
+	private record Immigrant(Solution solution, long timestamp) {
+	
+	}
 
 }
@@ -0,0 +1,182 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.Variable;
+import org.moeaframework.problem.Problem;
+
+/**
+ * Compact binary encoding of solutions for exchange between processes.  Compared to Java serialization, only the
+ * values are written, not the class descriptors, bounds, or attributes.  Consequently, both ends must agree on the
+ * problem, and solutions are decoded into a new solution created by {@link Problem#newSolution()}.
+ * <p>
+ * Real-valued decision variables are written as 8-byte doubles.  All other variable types are written using their
+ * string encoding, see {@link Variable#encode()}.  Attributes are not preserved.
+ */
+public class SolutionCodec {
+	
+	/**
+	 * Tag identifying a real-valued variable.
+	 */
+	private static final byte REAL = 0;
+	
+	/**
+	 * Tag identifying a variable stored using its string encoding.
+	 */
+	private static final byte ENCODED = 1;
+	
+	private SolutionCodec() {
+		super();
+	}
+	
+	/**
+	 * Writes the solution to the output.
+	 * 
+	 * @param output the output
+	 * @param solution the solution
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static void write(DataOutput output, Solution solution) throws IOException {
+		output.writeInt(solution.getNumberOfVariables());
+		
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			Variable variable = solution.getVariable(i);
+			
+			if (variable instanceof RealVariable realVariable) {
+				output.writeByte(REAL);
+				output.writeDouble(realVariable.getValue());
+			} else {
+				byte[] bytes = variable.encode().getBytes(StandardCharsets.UTF_8);
+				output.writeByte(ENCODED);
+				output.writeInt(bytes.length);
+				output.write(bytes);
+			}
+		}
+		
+		output.writeInt(solution.getNumberOfObjectives());
+		
+		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+			output.writeDouble(solution.getObjectiveValue(i));
+		}
+		
+		output.writeInt(solution.getNumberOfConstraints());
+		
+		for (int i = 0; i < solution.getNumberOfConstraints(); i++) {
+			output.writeDouble(solution.getConstraintValue(i));
+		}
+	}
+	
+	/**
+	 * Writes the solutions to the output, prefixed by the number of solutions.
+	 * 
+	 * @param output the output
+	 * @param solutions the solutions
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static void writeAll(DataOutput output, Iterable<Solution> solutions) throws IOException {
+		List<Solution> list = new ArrayList<>();
+		solutions.forEach(list::add);
+		
+		output.writeInt(list.size());
+		
+		for (Solution solution : list) {
+			write(output, solution);
+		}
+	}
+	
+	/**
+	 * Reads a solution from the input.
+	 * 
+	 * @param input the input
+	 * @param problem the problem used to create the solution
+	 * @return the solution
+	 * @throws IOException if an I/O error occurred or the solution does not match the problem definition
+	 */
+	public static Solution read(DataInput input, Problem problem) throws IOException {
+		Solution solution = problem.newSolution();
+		
+		readCount(input, "variables", solution.getNumberOfVariables());
+		
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			Variable variable = solution.getVariable(i);
+			byte tag = input.readByte();
+			
+			if (tag == REAL && variable instanceof RealVariable realVariable) {
+				realVariable.setValue(input.readDouble());
+			} else if (tag == ENCODED) {
+				byte[] bytes = new byte[input.readInt()];
+				input.readFully(bytes);
+				variable.decode(new String(bytes, StandardCharsets.UTF_8));
+			} else {
+				throw new IOException("invalid encoding for variable " + i + " of type " +
+						variable.getClass().getSimpleName());
+			}
+		}
+		
+		readCount(input, "objectives", solution.getNumberOfObjectives());
+		
+		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+			solution.setObjectiveValue(i, input.readDouble());
+		}
+		
+		readCount(input, "constraints", solution.getNumberOfConstraints());
+		
+		for (int i = 0; i < solution.getNumberOfConstraints(); i++) {
+			solution.setConstraintValue(i, input.readDouble());
+		}
+		
+		return solution;
+	}
+	
+	/**
+	 * Reads solutions written by {@link #writeAll(DataOutput, Iterable)}.
+	 * 
+	 * @param input the input
+	 * @param problem the problem used to create the solutions
+	 * @return the solutions
+	 * @throws IOException if an I/O error occurred or a solution does not match the problem definition
+	 */
+	public static List<Solution> readAll(DataInput input, Problem problem) throws IOException {
+		int count = input.readInt();
+		List<Solution> result = new ArrayList<>(count);
+		
+		for (int i = 0; i < count; i++) {
+			result.add(read(input, problem));
+		}
+		
+		return result;
+	}
+	
+	private static void readCount(DataInput input, String name, int expected) throws IOException {
+		int actual = input.readInt();
+		
+		if (actual != expected) {
+			throw new IOException("expected " + expected + " " + name + " but received " + actual);
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import org.moeaframework.core.CompactSolution;
+import org.moeaframework.core.Solution;
+
+/**
+ * Decorator that produces {@link CompactSolution}s, which store objective and constraint values in primitive arrays.
+ * This reduces the memory footprint and the cost of copying and comparing solutions, which is beneficial when using
+ * large populations or many objectives.  Since all copies of a compact solution are also compact, algorithms solving
+ * this problem will operate exclusively on compact solutions.
+ */
+public class CompactProblem extends ProblemWrapper {
+	
+	/**
+	 * Constructs a new problem producing compact solutions.
+	 * 
+	 * @param problem the original problem
+	 */
+	public CompactProblem(Problem problem) {
+		super(problem);
+	}
+	
+	@Override
+	public void evaluateAll(Iterable<Solution> solutions) {
+		problem.evaluateAll(solutions);
+	}
+	
+	@Override
+	public Solution newSolution() {
+		Solution solution = super.newSolution();
+		
+		if (solution instanceof CompactSolution) {
+			return solution;
+		} else {
+			return new CompactSolution(solution);
+		}
+	}
+
+}
@@ -17,9 +17,12 @@
  */
 package org.moeaframework.problem;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -31,14 +34,35 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.DoubleStream;
 
 import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.apache.commons.lang3.SystemUtils;
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math3.stat.descriptive.SynchronizedSummaryStatistics;
 import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryIntegerVariable;
 import org.moeaframework.core.variable.BinaryVariable;
 import org.moeaframework.core.variable.Permutation;
 import org.moeaframework.core.variable.RealVariable;
@@ -60,6 +84,13 @@ import org.moeaframework.util.validate.Validate;
  * new line character (which depending on the platform can be {@code "\n"}, {@code "\r"}, or {@code "\r\n"}).  This
  * process repeats in a loop until all solutions are evaluated, at which point the stream is closed.  We strongly
  * recommend flushing the output stream after writing each line to prevent buffering.
+ * <p>
+ * Waiting for each response adds a full round trip per solution, which is costly over a network.  The
+ * {@link Protocol#PIPELINED} and {@link Protocol#BINARY} protocols instead send a batch of solutions, each tagged with
+ * a request ID, without waiting for each response.  To prevent both processes from blocking on full pipe buffers,
+ * only a few kilobytes of requests are in flight before reading a response.  Responses echo the request ID and may
+ * arrive in any order.  Both start by sending a header line identifying the protocol, which the C/C++ library in
+ * {@code moeaframework.c} detects automatically.  See {@link Protocol} for details on the message formats.
  * 
  * <h2>Standard I/O</h2>
  * When using Standard I/O, a process is started and the data is transmitted over the standard input/output streams.
@@ -70,6 +101,14 @@ import org.moeaframework.util.validate.Validate;
  * When using Sockets, data is transmitted over the network.  Typically, this talks to a local process using a
  * specific port.  However, this can also connect to a remote process over a local-area network or the Internet.
  * 
+ * <h2>Multiple Instances</h2>
+ * By default, a single process or connection evaluates one solution at a time.  Configuring multiple instances with
+ * {@link Builder#withInstances(int)} starts a separate process or connection for each instance, allowing solutions to
+ * be evaluated concurrently when this problem is wrapped in a {@link org.moeaframework.parallel.DistributedProblem}.
+ * Each evaluation leases an idle instance, waiting if all instances are busy.  Likewise, {@link #evaluateAll(Iterable)}
+ * splits the solutions across all idle instances.  If an instance crashes or disconnects
+ * during an evaluation, it is restarted and the evaluation retried using the configured retry attempts and delay.
+ * 
  * <p>
  * <strong>Users are required to call {@link #close()} to ensure the process and any resources are shutdown and
  * disposed.</strong>  Failure to do so could leave any spawned processes running in the background.  We recommend
@@ -82,6 +121,68 @@ public abstract class ExternalProblem implements Problem {
 	 */
 	public static final int DEFAULT_PORT = 16801;
 
+	/**
+	 * Placeholder in the command that is replaced by the port assigned to each instance when using sockets.
+	 */
+	public static final String PORT_PLACEHOLDER = "{port}";
+
+	/**
+	 * The maximum number of bytes of requests sent to an instance before reading a response.  This is smaller than the
+	 * pipe buffers provided by most operating systems, ensuring the external process can always write its responses
+	 * without both processes blocking.
+	 */
+	private static final int MAX_PENDING_BYTES = 4096;
+
+	/**
+	 * The protocols for communicating with the external problem.
+	 */
+	public enum Protocol {
+
+		/**
+		 * Sends each solution as a line of text and waits for the response before sending the next solution.  This is
+		 * the original protocol and is supported by all versions of the C/C++ library.
+		 */
+		TEXT(null),
+
+		/**
+		 * Sends a batch of solutions as lines of text, each prefixed by a request ID, before reading the responses.
+		 * Each response line is also prefixed by the request ID, such as {@code "<id> <obj1> ... <constr1> ..."}.
+		 * Solutions evaluated one at a time are sent as a batch of one.
+		 */
+		PIPELINED("MOEA/2 text"),
+
+		/**
+		 * Similar to {@link #PIPELINED}, except the request and response messages are binary frames consisting of the
+		 * request ID and number of values, each as a 32-bit little-endian integer, followed by the values as
+		 * little-endian doubles.  Decision variables are encoded as follows:
+		 * <ul>
+		 *   <li>Real and integer-valued variables are encoded as one value
+		 *   <li>Binary variables are encoded as one value, {@code 0} or {@code 1}, for each bit
+		 *   <li>Permutations are encoded as one value for each element
+		 *   <li>Subsets are encoded as the size of the subset followed by one value for each member
+		 * </ul>
+		 * The response contains the objective values followed by the constraint values.  Besides avoiding a round
+		 * trip per solution, this avoids formatting and parsing decimal text and preserves every bit of the values.
+		 */
+		BINARY("MOEA/2 binary");
+
+		private final String header;
+
+		private Protocol(String header) {
+			this.header = header;
+		}
+
+		/**
+		 * Returns the header line sent when establishing the connection, or {@code null} if no header is sent.
+		 * 
+		 * @return the header line
+		 */
+		public String getHeader() {
+			return header;
+		}
+
+	}
+
 	/**
 	 * Builder for defining the process or connection to the external problem.
 	 */
@@ -107,6 +208,12 @@ public abstract class ExternalProblem implements Problem {
 
 		private Duration shutdownTimeout;
 
+		private int instances;
+
+		private Protocol protocol;
+
+		private int batchSize;
+
 		/**
 		 * Constructs a new builder.
 		 */
@@ -122,6 +229,9 @@ public abstract class ExternalProblem implements Problem {
 			retryAttempts = Settings.getExternalProblemRetryAttempts();
 			retryDelay = Settings.getExternalProblemRetryDelay();
 			shutdownTimeout = Settings.getExternalProblemShutdownTimeout();
+			instances = 1;
+			protocol = Protocol.TEXT;
+			batchSize = 64;
 		}
 
 		/**
@@ -262,6 +372,48 @@ public abstract class ExternalProblem implements Problem {
 			return this;
 		}
 
+		/**
+		 * Sets the number of instances of the external problem, each with its own process and/or connection, allowing
+		 * up to this many solutions to be evaluated concurrently.  When using sockets, the instances connect to
+		 * consecutive ports starting at the configured port.  Any {@value ExternalProblem#PORT_PLACEHOLDER} argument in
+		 * the command is replaced by the port assigned to that instance, so each process knows where to listen.
+		 * Multiple instances can not be combined with {@link #withIOStreams(InputStream, OutputStream)}.
+		 * 
+		 * @param instances the number of instances
+		 * @return a reference to this builder for chaining together calls
+		 */
+		public Builder withInstances(int instances) {
+			Validate.that("instances", instances).isGreaterThan(0);
+			this.instances = instances;
+			return this;
+		}
+
+		/**
+		 * Sets the protocol used to communicate with the external problem.  The default is {@link Protocol#TEXT}.
+		 * 
+		 * @param protocol the protocol
+		 * @return a reference to this builder for chaining together calls
+		 */
+		public Builder withProtocol(Protocol protocol) {
+			Validate.that("protocol", protocol).isNotNull();
+			this.protocol = protocol;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of solutions sent in a batch when using the {@link Protocol#PIPELINED} or
+		 * {@link Protocol#BINARY} protocols.  The default is {@code 64}.  The number of solutions in flight at once
+		 * may be further limited to prevent filling the pipe buffers.
+		 * 
+		 * @param batchSize the maximum number of solutions in a batch
+		 * @return a reference to this builder for chaining together calls
+		 */
+		public Builder withBatchSize(int batchSize) {
+			Validate.that("batchSize", batchSize).isGreaterThan(0);
+			this.batchSize = batchSize;
+			return this;
+		}
+
 		/**
 		 * Creates a copy of this builder.  Note that streams are shared between the two instances.
 		 * 
@@ -279,6 +431,9 @@ public abstract class ExternalProblem implements Problem {
 			copy.retryAttempts = retryAttempts;
 			copy.retryDelay = retryDelay;
 			copy.shutdownTimeout = shutdownTimeout;
+			copy.instances = instances;
+			copy.protocol = protocol;
+			copy.batchSize = batchSize;
 			return copy;
 		}
 
@@ -288,7 +443,41 @@ public abstract class ExternalProblem implements Problem {
 		 * @return the external problem instance
 		 */
 		protected Instance build() {
-			return new Instance(this);
+			return build(0);
+		}
+
+		/**
+		 * Returns the constructed instance at the given index.  When using sockets, the instance is assigned the port
+		 * offset by the index.
+		 * 
+		 * @param index the index of the instance
+		 * @return the external problem instance
+		 */
+		protected Instance build(int index) {
+			Validate.that("index", index).isBetween(0, instances - 1);
+
+			if (instances > 1 && inputStream != null && outputStream != null) {
+				Validate.fail("Can not use multiple instances with I/O streams");
+			}
+
+			if (socketAddress == null) {
+				return new Instance(this);
+			}
+
+			Builder copy = copy();
+			int port = socketAddress.getPort() + index;
+
+			copy.socketAddress = socketAddress.isUnresolved() ?
+					InetSocketAddress.createUnresolved(socketAddress.getHostString(), port) :
+					new InetSocketAddress(socketAddress.getAddress(), port);
+
+			if (command != null) {
+				for (int i = 0; i < command.length; i++) {
+					copy.command[i] = command[i].replace(PORT_PLACEHOLDER, Integer.toString(port));
+				}
+			}
+
+			return new Instance(copy);
 		}
 
 	}
@@ -308,6 +497,16 @@ public abstract class ExternalProblem implements Problem {
 
 		private BufferedWriter writer;
 
+		private InputStream input;
+
+		private OutputStream output;
+
+		private int nextRequestId;
+
+		private final SummaryStatistics latency;
+
+		private final AtomicInteger restarts;
+
 		/**
 		 * Constructs an instance of an external problem.
 		 * 
@@ -316,6 +515,9 @@ public abstract class ExternalProblem implements Problem {
 		public Instance(Builder builder) {
 			super();
 			this.builder = builder.copy();
+
+			latency = new SynchronizedSummaryStatistics();
+			restarts = new AtomicInteger();
 		}
 
 		/**
@@ -447,19 +649,30 @@ public abstract class ExternalProblem implements Problem {
 				RedirectStream.redirect(process.getInputStream(), System.out);
 			}
 
-			// Set up the reader / writer for communication
+			// Set up the streams and reader / writer for communication
 			if (builder.inputStream != null && builder.outputStream != null) {
-				reader = new BufferedReader(new InputStreamReader(builder.inputStream));
-				writer = new BufferedWriter(new OutputStreamWriter(builder.outputStream));
+				input = new BufferedInputStream(builder.inputStream);
+				output = new BufferedOutputStream(builder.outputStream);
 			} else if (socket != null) {
-				reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-				writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()));
+				input = new BufferedInputStream(socket.getInputStream());
+				output = new BufferedOutputStream(socket.getOutputStream());
 			} else if (process != null) {
-				reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-				writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream()));
+				input = new BufferedInputStream(process.getInputStream());
+				output = new BufferedOutputStream(process.getOutputStream());
 			} else {
 				Validate.fail("Must configure a program or socket connection");
 			}
+
+			reader = new BufferedReader(new InputStreamReader(input));
+			writer = new BufferedWriter(new OutputStreamWriter(output));
+
+			// Identify the protocol, unless using the original text protocol
+			if (builder.protocol.getHeader() != null) {
+				getDebug().println("Using protocol '" + builder.protocol.getHeader() + "'");
+				writer.write(builder.protocol.getHeader());
+				writer.write(System.lineSeparator());
+				writer.flush();
+			}
 		}
 
 		/**
@@ -488,6 +701,34 @@ public abstract class ExternalProblem implements Problem {
 			return writer;
 		}
 
+		/**
+		 * Returns the stream used to read binary content from the external problem.  This shares the same underlying
+		 * stream as {@link #getReader()}, so only one should be used.
+		 * 
+		 * @return the input stream
+		 */
+		public InputStream getInputStream() {
+			if (!isStarted()) {
+				throw new IllegalStateException("Must call start() before using problem instance");
+			}
+
+			return input;
+		}
+
+		/**
+		 * Returns the stream used to write binary content to the external problem.  This shares the same underlying
+		 * stream as {@link #getWriter()}, so only one should be used.
+		 * 
+		 * @return the output stream
+		 */
+		public OutputStream getOutputStream() {
+			if (!isStarted()) {
+				throw new IllegalStateException("Must call start() before using problem instance");
+			}
+
+			return output;
+		}
+
 		/**
 		 * Returns the stream where debugging logs are written.
 		 * 
@@ -515,6 +756,97 @@ public abstract class ExternalProblem implements Problem {
 			return socket;
 		}
 
+		/**
+		 * Returns the statistics of the time, in milliseconds, taken by this instance to respond to each request.
+		 * 
+		 * @return the latency statistics
+		 */
+		public StatisticalSummary getLatency() {
+			return latency.getSummary();
+		}
+
+		/**
+		 * Returns the number of times this instance crashed or disconnected, requiring it to be restarted.
+		 * 
+		 * @return the number of restarts
+		 */
+		public int getNumberOfRestarts() {
+			return restarts.get();
+		}
+
+		/**
+		 * Sends a request to the external problem and waits for the response.
+		 * 
+		 * @param request the request, terminated by a line separator
+		 * @return the response
+		 * @throws IOException if an I/O error occurred or the end of stream was reached
+		 */
+		String send(String request) throws IOException {
+			BufferedReader reader = getReader();
+			BufferedWriter writer = getWriter();
+			PrintStream debug = getDebug();
+
+			debug.print("<< ");
+			debug.print(request);
+
+			long startTime = System.nanoTime();
+
+			writer.write(request);
+			writer.flush();
+
+			String response = reader.readLine();
+
+			if (response == null) {
+				debug.println("Reached end of stream");
+				throw new EOFException("End of stream reached when response expected");
+			}
+
+			recordLatency(startTime);
+
+			debug.print(">> ");
+			debug.println(response);
+
+			return response;
+		}
+
+		/**
+		 * Returns the ID assigned to the next request sent to this instance.
+		 * 
+		 * @return the request ID
+		 */
+		int nextRequestId() {
+			return nextRequestId++;
+		}
+
+		/**
+		 * Records the latency of a request that was sent at the given time and whose response was just received.
+		 * 
+		 * @param startTime the time the request was sent, as returned by {@link System#nanoTime()}
+		 */
+		void recordLatency(long startTime) {
+			latency.addValue((System.nanoTime() - startTime) / 1e6);
+		}
+
+		/**
+		 * Closes this instance after it crashed or disconnected so the next call to {@link #start()} starts a new
+		 * process and/or connection.
+		 */
+		void reset() {
+			try {
+				close();
+			} catch (IOException e) {
+				getDebug().println("Caught exception while closing instance: " + e.getMessage());
+			} finally {
+				process = null;
+				socket = null;
+				reader = null;
+				writer = null;
+				input = null;
+				output = null;
+				restarts.incrementAndGet();
+			}
+		}
+
 		@Override
 		public void close() throws IOException {
 			PrintStream debug = getDebug();
@@ -554,15 +886,30 @@ public abstract class ExternalProblem implements Problem {
 
 	/**
 	 * The instance backing this external problem, which manages the underlying resources including the process,
-	 * socket, and streams.
+	 * socket, and streams.  When using multiple instances, this is the first instance.
 	 */
 	protected final Instance instance;
 
+	/**
+	 * All instances backing this external problem.
+	 */
+	private final List<Instance> instances;
+
+	/**
+	 * The instances that are idle and available to evaluate solutions.
+	 */
+	private final BlockingQueue<Instance> available;
+
 	/**
 	 * The tokenizer for encoding and decoding lines sent to and read from the external process.
 	 */
 	private final Tokenizer tokenizer;
 
+	/**
+	 * The executor used to evaluate solutions on multiple instances concurrently, or {@code null} if not yet created.
+	 */
+	private ExecutorService executor;
+
 	/**
 	 * Constructs an external problem using the specified builder.
 	 * 
@@ -570,102 +917,607 @@ public abstract class ExternalProblem implements Problem {
 	 */
 	public ExternalProblem(Builder builder) {
 		super();
-		instance = builder.build();
+
+		List<Instance> instances = new ArrayList<>();
+
+		for (int i = 0; i < builder.instances; i++) {
+			instances.add(builder.build(i));
+		}
+
+		this.instances = Collections.unmodifiableList(instances);
+		this.instance = instances.get(0);
+
+		available = new LinkedBlockingQueue<>(instances);
 		tokenizer = new Tokenizer();
 	}
 
+	/**
+	 * Returns the number of instances backing this external problem, which limits the number of solutions that can be
+	 * evaluated concurrently.
+	 * 
+	 * @return the number of instances
+	 */
+	public int getNumberOfInstances() {
+		return instances.size();
+	}
+
+	/**
+	 * Returns the statistics of the time, in milliseconds, taken by the given instance to respond to each request.
+	 * 
+	 * @param index the index of the instance
+	 * @return the latency statistics
+	 */
+	public StatisticalSummary getLatency(int index) {
+		return instances.get(index).getLatency();
+	}
+
+	/**
+	 * Returns the number of times the given instance crashed or disconnected, requiring it to be restarted.
+	 * 
+	 * @param index the index of the instance
+	 * @return the number of restarts
+	 */
+	public int getNumberOfRestarts(int index) {
+		return instances.get(index).getNumberOfRestarts();
+	}
+
 	/**
 	 * Closes the connection to the process.  No further invocations of {@code evaluate} are permitted.
 	 */
 	@Override
 	public synchronized void close() {
-		try {
-			instance.close();
-		} catch (IOException e) {
-			throw new ProblemException(this, e);
+		IOException exception = null;
+
+		if (executor != null) {
+			executor.shutdown();
+			executor = null;
+		}
+
+		for (Instance instance : instances) {
+			try {
+				instance.close();
+			} catch (IOException e) {
+				if (exception == null) {
+					exception = e;
+				} else {
+					exception.addSuppressed(e);
+				}
+			}
+		}
+
+		if (exception != null) {
+			throw new ProblemException(this, exception);
 		}
 	}
 
 	/**
-	 * Evaluates the specified solution using the process defined by this class' constructor.
+	 * Evaluates the specified solution using the process defined by this class' constructor.  If all instances are
+	 * busy, this method blocks until one becomes available.
 	 * 
 	 * @param solution the solution to evaluate
 	 */
 	@Override
-	public synchronized void evaluate(Solution solution) throws ProblemException {
-		if (!instance.isStarted()) {
+	public void evaluate(Solution solution) throws ProblemException {
+		Instance instance = lease();
+
+		try {
+			evaluate(instance, List.of(solution));
+		} finally {
+			available.add(instance);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The solutions are split across all idle instances, waiting for at least one instance to become available, and
+	 * evaluated concurrently.  When using the {@link Protocol#PIPELINED} or {@link Protocol#BINARY} protocols, the
+	 * solutions are sent in batches, avoiding a round trip per solution.
+	 */
+	@Override
+	public void evaluateAll(Iterable<Solution> solutions) throws ProblemException {
+		List<Solution> remaining = new ArrayList<>();
+
+		for (Solution solution : solutions) {
+			remaining.add(solution);
+		}
+
+		if (remaining.isEmpty()) {
+			return;
+		}
+
+		List<Instance> leased = new ArrayList<>();
+		leased.add(lease());
+
+		while (leased.size() < remaining.size()) {
+			Instance instance = available.poll();
+
+			if (instance == null) {
+				break;
+			}
+
+			leased.add(instance);
+		}
+
+		List<Future<?>> futures = new ArrayList<>();
+
+		try {
+			for (int i = 1; i < leased.size(); i++) {
+				Instance instance = leased.get(i);
+				List<Solution> chunk = getChunk(remaining, i, leased.size());
+
+				futures.add(getExecutor().submit(() -> evaluateInBatches(instance, chunk)));
+			}
+
+			evaluateInBatches(leased.get(0), getChunk(remaining, 0, leased.size()));
+		} finally {
+			ProblemException exception = awaitAll(futures);
+			available.addAll(leased);
+
+			if (exception != null) {
+				throw exception;
+			}
+		}
+	}
+
+	/**
+	 * Splits the solutions into contiguous chunks of nearly equal size and returns the chunk at the given index.
+	 * 
+	 * @param solutions the solutions
+	 * @param index the index of the chunk
+	 * @param numberOfChunks the number of chunks
+	 * @return the chunk
+	 */
+	private static List<Solution> getChunk(List<Solution> solutions, int index, int numberOfChunks) {
+		return solutions.subList(index * solutions.size() / numberOfChunks,
+				(index + 1) * solutions.size() / numberOfChunks);
+	}
+
+	/**
+	 * Evaluates the solutions on the given instance, splitting them into batches of the configured size.
+	 * 
+	 * @param instance the instance leased to this evaluation
+	 * @param solutions the solutions to evaluate
+	 */
+	private void evaluateInBatches(Instance instance, List<Solution> solutions) throws ProblemException {
+		int batchSize = instance.builder.batchSize;
+
+		for (int i = 0; i < solutions.size(); i += batchSize) {
+			evaluate(instance, solutions.subList(i, Math.min(i + batchSize, solutions.size())));
+		}
+	}
+
+	/**
+	 * Waits for the evaluations running on other instances to finish, even if some fail, so the instances are not
+	 * released while still in use.
+	 * 
+	 * @param futures the evaluations running on other instances
+	 * @return the first exception thrown by the evaluations, or {@code null} if all succeeded
+	 */
+	private ProblemException awaitAll(List<Future<?>> futures) {
+		ProblemException exception = null;
+		boolean interrupted = false;
+
+		for (Future<?> future : futures) {
+			while (true) {
+				try {
+					future.get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException e) {
+					if (exception == null) {
+						exception = e.getCause() instanceof ProblemException pe ? pe :
+							new ProblemException(this, "Error communicating with external problem", e.getCause());
+					}
+
+					break;
+				}
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+
+		return exception;
+	}
+
+	/**
+	 * Returns the executor used to evaluate solutions on multiple instances concurrently, creating it on first use.
+	 * The executor uses daemon threads, which are only created as needed.
+	 * 
+	 * @return the executor
+	 */
+	private synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			ThreadFactory defaultThreadFactory = Executors.defaultThreadFactory();
+
+			executor = Executors.newCachedThreadPool((runnable) -> {
+				Thread thread = defaultThreadFactory.newThread(runnable);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+		return executor;
+	}
+
+	/**
+	 * Leases an idle instance, waiting if all instances are busy.  The caller must return the instance to
+	 * {@link #available} when finished.
+	 * 
+	 * @return the instance
+	 */
+	private Instance lease() {
+		try {
+			return available.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ProblemException(this, "Interrupted while waiting for an available instance", e);
+		}
+	}
+
+	/**
+	 * Evaluates the specified solutions using the given instance.  When using multiple instances, an instance that
+	 * crashes or disconnects is restarted and the evaluations retried.
+	 * 
+	 * @param instance the instance leased to this evaluation
+	 * @param solutions the solutions to evaluate
+	 */
+	private void evaluate(Instance instance, List<Solution> solutions) throws ProblemException {
+		int attempt = 0;
+
+		while (true) {
+			attempt += 1;
+
+			if (!instance.isStarted()) {
+				try {
+					instance.start();
+				} catch (IOException e) {
+					throw new ProblemException(this, "Error while starting external problem", e);
+				}
+			}
+
 			try {
-				instance.start();
+				switch (instance.builder.protocol) {
+					case TEXT -> sendText(instance, solutions);
+					case PIPELINED -> sendPipelined(instance, solutions);
+					case BINARY -> sendBinary(instance, solutions);
+				}
+
+				return;
+			} catch (ProblemException e) {
+				// any remaining responses in the batch are unread, so reset the instance to avoid reading them later
+				if (instance.builder.protocol != Protocol.TEXT) {
+					instance.reset();
+				}
+
+				throw e;
 			} catch (IOException e) {
-				throw new ProblemException(this, "Error while starting external problem", e);
+				instance.reset();
+
+				if (instances.size() == 1 || attempt > instance.builder.retryAttempts) {
+					throw new ProblemException(this, "Error communicating with external problem", e);
+				}
+
+				instance.getDebug().println(e.getMessage() + ", restarting instance, retrying attempt " + attempt +
+						" of " + instance.builder.retryAttempts + "...");
+
+				try {
+					Thread.sleep(DurationUtils.toMilliseconds(instance.builder.retryDelay));
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					throw new ProblemException(this, "Error communicating with external problem", e);
+				}
 			}
 		}
+	}
+
+	/**
+	 * Evaluates the solutions one at a time using the {@link Protocol#TEXT} protocol.
+	 * 
+	 * @param instance the instance
+	 * @param solutions the solutions to evaluate
+	 * @throws IOException if an I/O error occurred or the end of stream was reached
+	 */
+	private void sendText(Instance instance, List<Solution> solutions) throws IOException {
+		for (Solution solution : solutions) {
+			decode(tokenizer.decode(instance.send(encode(solution))), solution);
+		}
+	}
 
-		BufferedReader reader = instance.getReader();
+	/**
+	 * Evaluates the solutions using the {@link Protocol#PIPELINED} protocol.  Requests are sent without waiting for
+	 * the responses, but at most {@link #MAX_PENDING_BYTES} are sent before reading a response.
+	 * 
+	 * @param instance the instance
+	 * @param solutions the solutions to evaluate
+	 * @throws IOException if an I/O error occurred or the end of stream was reached
+	 */
+	private void sendPipelined(Instance instance, List<Solution> solutions) throws IOException {
 		BufferedWriter writer = instance.getWriter();
 		PrintStream debug = instance.getDebug();
+		Map<String, PendingRequest> pending = new HashMap<>();
+		int pendingBytes = 0;
 
-		// send variables to external process
-		try {
-			StringBuilder sb = new StringBuilder();
+		for (Solution solution : solutions) {
+			String id = Integer.toString(instance.nextRequestId());
+			String request = id + tokenizer.getDelimiter() + encode(solution);
 
-			for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-				if (i > 0) {
-					sb.append(tokenizer.getDelimiter());
-				}
+			while (!pending.isEmpty() && pendingBytes + request.length() > MAX_PENDING_BYTES) {
+				writer.flush();
+				pendingBytes -= receivePipelined(instance, pending);
+			}
+
+			debug.print("<< ");
+			debug.print(request);
+
+			writer.write(request);
+			pending.put(id, new PendingRequest(solution, request.length(), System.nanoTime()));
+			pendingBytes += request.length();
+		}
+
+		writer.flush();
 
-				sb.append(tokenizer.escape(encode(solution.getVariable(i))));
+		while (!pending.isEmpty()) {
+			receivePipelined(instance, pending);
+		}
+	}
+
+	/**
+	 * Reads one response using the {@link Protocol#PIPELINED} protocol and updates the corresponding solution.
+	 * 
+	 * @param instance the instance
+	 * @param pending the pending requests, keyed by request ID
+	 * @return the size of the request that was answered
+	 * @throws IOException if an I/O error occurred or the end of stream was reached
+	 */
+	private int receivePipelined(Instance instance, Map<String, PendingRequest> pending) throws IOException {
+		PrintStream debug = instance.getDebug();
+		String response = instance.getReader().readLine();
+
+		if (response == null) {
+			debug.println("Reached end of stream");
+			throw new EOFException("End of stream reached when response expected");
+		}
+
+		debug.print(">> ");
+		debug.println(response);
+
+		List<String> tokens = tokenizer.decode(response);
+		PendingRequest request = tokens.isEmpty() ? null : pending.remove(tokens.get(0));
+
+		if (request == null) {
+			throw new ProblemException(this, "Response contained an unknown or duplicate request ID");
+		}
+
+		instance.recordLatency(request.startTime());
+		decode(tokens.subList(1, tokens.size()), request.solution());
+		return request.size();
+	}
+
+	/**
+	 * Evaluates the solutions using the {@link Protocol#BINARY} protocol.  Requests are sent without waiting for the
+	 * responses, but at most {@link #MAX_PENDING_BYTES} are sent before reading a response.
+	 * 
+	 * @param instance the instance
+	 * @param solutions the solutions to evaluate
+	 * @throws IOException if an I/O error occurred or the end of stream was reached
+	 */
+	private void sendBinary(Instance instance, List<Solution> solutions) throws IOException {
+		OutputStream output = instance.getOutputStream();
+		PrintStream debug = instance.getDebug();
+		Map<Integer, PendingRequest> pending = new HashMap<>();
+		int pendingBytes = 0;
+
+		for (Solution solution : solutions) {
+			int id = instance.nextRequestId();
+			double[] values = encodeBinary(solution);
+
+			ByteBuffer buffer = ByteBuffer.allocate(2 * Integer.BYTES + values.length * Double.BYTES)
+					.order(ByteOrder.LITTLE_ENDIAN);
+
+			buffer.putInt(id);
+			buffer.putInt(values.length);
+
+			for (double value : values) {
+				buffer.putDouble(value);
 			}
 
-			sb.append(System.lineSeparator());
+			while (!pending.isEmpty() && pendingBytes + buffer.capacity() > MAX_PENDING_BYTES) {
+				output.flush();
+				pendingBytes -= receiveBinary(instance, pending);
+			}
 
 			debug.print("<< ");
-			debug.print(sb.toString());
+			debug.print(id);
+			debug.print(" ");
+			debug.println(Arrays.toString(values));
 
-			writer.write(sb.toString());
-			writer.flush();
-		} catch (IOException e) {
-			throw new ProblemException(this, "Error sending variables to external problem", e);
+			output.write(buffer.array());
+			pending.put(id, new PendingRequest(solution, buffer.capacity(), System.nanoTime()));
+			pendingBytes += buffer.capacity();
 		}
 
-		// receive objectives from external process
-		try {
-			String line = reader.readLine();
+		output.flush();
 
-			if (line == null) {
-				if (debug != null) {
-					debug.println("Reached end of stream");
-					instance.close();
-				}
+		while (!pending.isEmpty()) {
+			receiveBinary(instance, pending);
+		}
+	}
 
-				throw new ProblemException(this, "End of stream reached when response expected");
-			}
+	/**
+	 * Reads one response using the {@link Protocol#BINARY} protocol and updates the corresponding solution.
+	 * 
+	 * @param instance the instance
+	 * @param pending the pending requests, keyed by request ID
+	 * @return the size of the request that was answered
+	 * @throws IOException if an I/O error occurred or the end of stream was reached
+	 */
+	private int receiveBinary(Instance instance, Map<Integer, PendingRequest> pending) throws IOException {
+		InputStream input = instance.getInputStream();
+		PrintStream debug = instance.getDebug();
+		ByteBuffer header = ByteBuffer.allocate(2 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
 
-			debug.print(">> ");
-			debug.println(line);
+		readFully(input, header, debug);
+
+		int id = header.getInt();
+		int length = header.getInt();
+		PendingRequest request = pending.remove(id);
+
+		if (request == null) {
+			throw new ProblemException(this, "Response contained an unknown or duplicate request ID");
+		}
+
+		Solution solution = request.solution();
+
+		if (length != solution.getNumberOfObjectives() + solution.getNumberOfConstraints()) {
+			throw new ProblemException(this, "Response contained fewer or more values than expected");
+		}
+
+		ByteBuffer body = ByteBuffer.allocate(length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		readFully(input, body, debug);
+
+		instance.recordLatency(request.startTime());
+
+		double[] values = new double[length];
+		body.asDoubleBuffer().get(values);
+
+		debug.print(">> ");
+		debug.print(id);
+		debug.print(" ");
+		debug.println(Arrays.toString(values));
+
+		decode(values, solution);
+		return request.size();
+	}
 
-			String[] tokens = tokenizer.decodeToArray(line);
+	/**
+	 * Fills the buffer with bytes read from the stream, then prepares the buffer for reading.
+	 * 
+	 * @param input the input stream
+	 * @param buffer the buffer
+	 * @param debug the stream where debugging logs are written
+	 * @throws IOException if an I/O error occurred or the end of stream was reached
+	 */
+	private static void readFully(InputStream input, ByteBuffer buffer, PrintStream debug) throws IOException {
+		int length = buffer.remaining();
+
+		if (input.readNBytes(buffer.array(), buffer.position(), length) < length) {
+			debug.println("Reached end of stream");
+			throw new EOFException("End of stream reached when response expected");
+		}
+
+		buffer.position(buffer.position() + length);
+		buffer.flip();
+	}
+
+	/**
+	 * Encodes the decision variables of the solution into the line sent to the program.
+	 * 
+	 * @param solution the solution
+	 * @return the line, terminated by a line separator
+	 */
+	private String encode(Solution solution) {
+		StringBuilder sb = new StringBuilder();
 
-			if (tokens.length != (solution.getNumberOfObjectives() + solution.getNumberOfConstraints())) {
-				throw new ProblemException(this, "Response contained fewer tokens than expected");
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			if (i > 0) {
+				sb.append(tokenizer.getDelimiter());
 			}
 
-			int index = 0;
+			sb.append(tokenizer.escape(encode(solution.getVariable(i))));
+		}
+
+		sb.append(System.lineSeparator());
+		return sb.toString();
+	}
+
+	/**
+	 * Encodes the decision variables of the solution into the values sent to the program using the
+	 * {@link Protocol#BINARY} protocol.
+	 * 
+	 * @param solution the solution
+	 * @return the encoded values
+	 */
+	private double[] encodeBinary(Solution solution) {
+		DoubleStream.Builder values = DoubleStream.builder();
+
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			Variable variable = solution.getVariable(i);
+
+			if (variable instanceof RealVariable realVariable) {
+				values.add(realVariable.getValue());
+			} else if (variable instanceof BinaryIntegerVariable binaryIntegerVariable) {
+				values.add(binaryIntegerVariable.getValue());
+			} else if (variable instanceof BinaryVariable binaryVariable) {
+				for (int j = 0; j < binaryVariable.getNumberOfBits(); j++) {
+					values.add(binaryVariable.get(j) ? 1.0 : 0.0);
+				}
+			} else if (variable instanceof Permutation permutation) {
+				for (int value : permutation.toArray()) {
+					values.add(value);
+				}
+			} else if (variable instanceof Subset subset) {
+				int[] members = subset.toArray();
+				values.add(members.length);
 
-			for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
-				solution.setObjectiveValue(i, Double.parseDouble(tokens[index]));
-				index++;
+				for (int value : members) {
+					values.add(value);
+				}
+			} else {
+				throw new ProblemException(this, "Encoding " + variable.getClass().getSimpleName() + " not supported");
 			}
+		}
+
+		return values.build().toArray();
+	}
+
+	/**
+	 * Decodes the tokens received from the program, assigning the objectives and constraints of the solution.
+	 * 
+	 * @param tokens the tokens
+	 * @param solution the solution
+	 */
+	private void decode(List<String> tokens, Solution solution) {
+		if (tokens.size() != (solution.getNumberOfObjectives() + solution.getNumberOfConstraints())) {
+			throw new ProblemException(this, "Response contained fewer tokens than expected");
+		}
 
-			for (int i = 0; i < solution.getNumberOfConstraints(); i++) {
-				solution.setConstraintValue(i, Double.parseDouble(tokens[index]));
-				index++;
+		try {
+			double[] values = new double[tokens.size()];
+
+			for (int i = 0; i < values.length; i++) {
+				values[i] = Double.parseDouble(tokens.get(i));
 			}
-		} catch (IOException | NumberFormatException e) {
+
+			decode(values, solution);
+		} catch (NumberFormatException e) {
 			throw new ProblemException(this, "Error receiving variables from external problem", e);
 		}
 	}
 
+	/**
+	 * Assigns the objectives followed by the constraints of the solution from the values received from the program.
+	 * 
+	 * @param values the objective and constraint values
+	 * @param solution the solution
+	 */
+	private void decode(double[] values, Solution solution) {
+		int index = 0;
+
+		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+			solution.setObjectiveValue(i, values[index]);
+			index++;
+		}
+
+		for (int i = 0; i < solution.getNumberOfConstraints(); i++) {
+			solution.setConstraintValue(i, values[index]);
+			index++;
+		}
+	}
+
 	/**
 	 * Encodes the variable in a string format sent to the program.
 	 * 
@@ -684,4 +1536,15 @@ public abstract class ExternalProblem implements Problem {
 		return variable.toString();
 	}
 
+	/**
+	 * A request sent using the {@link Protocol#PIPELINED} or {@link Protocol#BINARY} protocols awaiting its response.
+	 * 
+	 * @param solution the solution being evaluated
+	 * @param size the size of the request, in bytes
+	 * @param startTime the time the request was sent, as returned by {@link System#nanoTime()}
+	 */
+	private record PendingRequest(Solution solution, int size, long startTime) {
+
+	}
+
 }
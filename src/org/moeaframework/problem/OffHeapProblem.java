@@ -0,0 +1,244 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.util.validate.Validate;
+
+import com.sun.jna.NativeLibrary;
+
+/**
+ * Abstract class for problems evaluated by native code that exchange data through pre-allocated, off-heap buffers.
+ * Solutions are evaluated in batches.  The decision variables of each solution in the batch are copied into a
+ * contiguous buffer, the native code is invoked once for the entire batch, and the objective and constraint values
+ * are read back from their respective buffers.  Compared to allocating and marshalling arrays for every evaluation,
+ * this reduces the overhead of crossing into native code, which can otherwise dominate the cost of cheap functions.
+ * <p>
+ * The buffers are allocated with {@link ByteBuffer#allocateDirect(int)} using the native byte order, so they can be
+ * passed directly to native code, for example using {@code MemorySegment.ofBuffer} with the Foreign Function and
+ * Memory API or as a {@code DoubleBuffer} argument with JNA.  Each thread evaluating this problem is given its own
+ * buffers.
+ * <p>
+ * All decision variables must be {@link RealVariable}s.
+ */
+public abstract class OffHeapProblem extends AbstractProblem {
+	
+	/**
+	 * The default number of solutions evaluated by each call to the native code.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 64;
+	
+	/**
+	 * The maximum number of solutions evaluated by each call to the native code.
+	 */
+	private final int batchSize;
+	
+	/**
+	 * The buffers used by each thread.
+	 */
+	private final ThreadLocal<Buffers> buffers;
+	
+	/**
+	 * Constructs a new problem using the default batch size.
+	 * 
+	 * @param numberOfVariables the number of decision variables
+	 * @param numberOfObjectives the number of objectives
+	 * @param numberOfConstraints the number of constraints
+	 */
+	public OffHeapProblem(int numberOfVariables, int numberOfObjectives, int numberOfConstraints) {
+		this(numberOfVariables, numberOfObjectives, numberOfConstraints, DEFAULT_BATCH_SIZE);
+	}
+	
+	/**
+	 * Constructs a new problem.
+	 * 
+	 * @param numberOfVariables the number of decision variables
+	 * @param numberOfObjectives the number of objectives
+	 * @param numberOfConstraints the number of constraints
+	 * @param batchSize the maximum number of solutions evaluated by each call to the native code
+	 */
+	public OffHeapProblem(int numberOfVariables, int numberOfObjectives, int numberOfConstraints, int batchSize) {
+		super(numberOfVariables, numberOfObjectives, numberOfConstraints);
+		
+		Validate.that("batchSize", batchSize).isGreaterThan(0);
+		
+		this.batchSize = batchSize;
+		this.buffers = ThreadLocal.withInitial(Buffers::new);
+	}
+	
+	/**
+	 * Returns the maximum number of solutions evaluated by each call to the native code.
+	 * 
+	 * @return the batch size
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+	
+	/**
+	 * Evaluates a batch of solutions.  The variables for solution {@code i} are stored starting at index
+	 * {@code i * numberOfVariables}, and likewise the objectives and constraints are written starting at index
+	 * {@code i * numberOfObjectives} and {@code i * numberOfConstraints}, respectively.  The buffers are sized for
+	 * {@link #getBatchSize()} solutions, but only the first {@code count} solutions are valid.  Implementations should
+	 * use absolute indexing and must not modify the position or limit of the buffers.
+	 * 
+	 * @param count the number of solutions in the batch
+	 * @param variables the decision variables
+	 * @param objectives the objective values, initially set to zero
+	 * @param constraints the constraint values, initially set to zero
+	 */
+	protected abstract void evaluate(int count, DoubleBuffer variables, DoubleBuffer objectives,
+			DoubleBuffer constraints);
+	
+	@Override
+	public void evaluate(Solution solution) {
+		evaluate(List.of(solution), buffers.get());
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The solutions are split into batches of at most {@link #getBatchSize()} solutions, each evaluated by a single
+	 * call to {@link #evaluate(int, DoubleBuffer, DoubleBuffer, DoubleBuffer)}.
+	 */
+	@Override
+	public void evaluateAll(Iterable<Solution> solutions) {
+		Buffers buffers = this.buffers.get();
+		List<Solution> batch = new ArrayList<>(batchSize);
+		
+		for (Solution solution : solutions) {
+			batch.add(solution);
+			
+			if (batch.size() == batchSize) {
+				evaluate(batch, buffers);
+				batch.clear();
+			}
+		}
+		
+		if (!batch.isEmpty()) {
+			evaluate(batch, buffers);
+		}
+	}
+	
+	/**
+	 * Copies the batch of solutions into the buffers, evaluates the batch, and copies the results back into the
+	 * solutions.
+	 * 
+	 * @param batch the solutions being evaluated
+	 * @param buffers the buffers
+	 */
+	private void evaluate(List<Solution> batch, Buffers buffers) {
+		int count = batch.size();
+		
+		for (int i = 0; i < count; i++) {
+			Solution solution = batch.get(i);
+			
+			for (int j = 0; j < numberOfVariables; j++) {
+				buffers.variables.put(i * numberOfVariables + j, RealVariable.getReal(solution.getVariable(j)));
+			}
+		}
+		
+		for (int i = 0; i < count * numberOfObjectives; i++) {
+			buffers.objectives.put(i, 0.0);
+		}
+		
+		for (int i = 0; i < count * numberOfConstraints; i++) {
+			buffers.constraints.put(i, 0.0);
+		}
+		
+		evaluate(count, buffers.variables, buffers.objectives, buffers.constraints);
+		
+		for (int i = 0; i < count; i++) {
+			Solution solution = batch.get(i);
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				solution.setObjectiveValue(j, buffers.objectives.get(i * numberOfObjectives + j));
+			}
+			
+			for (int j = 0; j < numberOfConstraints; j++) {
+				solution.setConstraintValue(j, buffers.constraints.get(i * numberOfConstraints + j));
+			}
+		}
+	}
+	
+	/**
+	 * Returns the path to the named native library, searching the same locations as JNA including extracting the
+	 * library from the classpath.  This allows libraries packaged for JNA to also be loaded by other means, such as
+	 * {@code SymbolLookup.libraryLookup}.
+	 * 
+	 * @param name the name of the library, excluding any platform-specific prefix or extension
+	 * @return the path to the library
+	 * @throws UnsatisfiedLinkError if the library could not be found
+	 */
+	protected static Path locateLibrary(String name) {
+		File file = NativeLibrary.getInstance(name).getFile();
+		return file != null ? file.toPath() : Path.of(System.mapLibraryName(name));
+	}
+	
+	/**
+	 * Allocates a direct buffer storing the given number of doubles in the native byte order.
+	 * 
+	 * @param size the number of doubles
+	 * @return the buffer
+	 */
+	private static DoubleBuffer allocate(int size) {
+		return ByteBuffer.allocateDirect(size * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+	}
+	
+	/**
+	 * The off-heap buffers used to exchange data with the native code.
+	 */
+	private class Buffers {
+		
+		/**
+		 * The decision variables.
+		 */
+		private final DoubleBuffer variables;
+		
+		/**
+		 * The objective values.
+		 */
+		private final DoubleBuffer objectives;
+		
+		/**
+		 * The constraint values.
+		 */
+		private final DoubleBuffer constraints;
+		
+		/**
+		 * Allocates buffers sized to hold a full batch.
+		 */
+		public Buffers() {
+			super();
+			variables = allocate(batchSize * numberOfVariables);
+			objectives = allocate(batchSize * numberOfObjectives);
+			constraints = allocate(batchSize * numberOfConstraints);
+		}
+	
+	}
+
+}
@@ -0,0 +1,290 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.Grammar;
+import org.moeaframework.core.variable.Variable;
+import org.moeaframework.util.grammar.ContextFreeGrammar;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Decorator that caches the objective and constraint values of solutions by their phenotype.  In Grammatical
+ * Evolution, many codon arrays map to the same phenotype since codons beyond those read by the derivation are ignored
+ * and codons whose values differ by a multiple of the number of productions choose the same production.  Solutions
+ * with a phenotype that was previously evaluated copy the cached values instead of being evaluated again.
+ * <p>
+ * The phenotype of each {@link Grammar} variable is identified by {@link ContextFreeGrammar#derive(int[])}.  Any other
+ * variables are compared by their encoded value.  Only the objective and constraint values are cached, so the
+ * problem must not depend on anything else, such as setting attributes on the solution.  The cache is bounded,
+ * discarding the least recently used phenotypes when full.
+ * <p>
+ * This class is thread safe if the original problem is thread safe.
+ */
+public class PhenotypeCachingProblem extends ProblemWrapper {
+	
+	/**
+	 * The default number of phenotypes stored in the cache.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 10000;
+	
+	/**
+	 * The grammar used to derive phenotypes.
+	 */
+	private final ContextFreeGrammar grammar;
+	
+	/**
+	 * The maximum number of phenotypes stored in the cache.
+	 */
+	private final int cacheSize;
+	
+	/**
+	 * The cached objective and constraint values, keyed by phenotype.
+	 */
+	private final Map<String, CachedValues> cache;
+	
+	/**
+	 * The number of evaluations that used the cached values.
+	 */
+	private long hits;
+	
+	/**
+	 * The number of evaluations that were not cached.
+	 */
+	private long misses;
+	
+	/**
+	 * Constructs a new problem caching phenotypes using the default cache size.
+	 * 
+	 * @param problem the original problem
+	 * @param grammar the grammar used to derive phenotypes
+	 */
+	public PhenotypeCachingProblem(Problem problem, ContextFreeGrammar grammar) {
+		this(problem, grammar, DEFAULT_CACHE_SIZE);
+	}
+	
+	/**
+	 * Constructs a new problem caching phenotypes.
+	 * 
+	 * @param problem the original problem
+	 * @param grammar the grammar used to derive phenotypes
+	 * @param cacheSize the maximum number of phenotypes stored in the cache
+	 */
+	public PhenotypeCachingProblem(Problem problem, ContextFreeGrammar grammar, int cacheSize) {
+		super(problem);
+		Validate.that("cacheSize", cacheSize).isGreaterThan(0);
+		
+		this.grammar = grammar;
+		this.cacheSize = cacheSize;
+		
+		cache = new LinkedHashMap<>(16, 0.75f, true) {
+			
+			private static final long serialVersionUID = -3405848254563407021L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedValues> eldest) {
+				return size() > PhenotypeCachingProblem.this.cacheSize;
+			}
+		
+		};
+	}
+	
+	/**
+	 * Returns the maximum number of phenotypes stored in the cache.
+	 * 
+	 * @return the maximum number of phenotypes stored in the cache
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+	
+	/**
+	 * Returns the number of evaluations that used the cached values.
+	 * 
+	 * @return the number of cache hits
+	 */
+	public long getHits() {
+		synchronized (cache) {
+			return hits;
+		}
+	}
+	
+	/**
+	 * Returns the number of evaluations that were not cached, and therefore were evaluated by the original problem.
+	 * 
+	 * @return the number of cache misses
+	 */
+	public long getMisses() {
+		synchronized (cache) {
+			return misses;
+		}
+	}
+	
+	/**
+	 * Removes all phenotypes from the cache.  The number of hits and misses are not reset.
+	 */
+	public void clearCache() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+	
+	@Override
+	public void evaluate(Solution solution) {
+		String key = getPhenotype(solution);
+		
+		if (lookup(key, solution)) {
+			return;
+		}
+		
+		super.evaluate(solution);
+		store(key, solution);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Solutions that are not cached are passed to the original problem as a single batch, where solutions with the
+	 * same phenotype are only evaluated once.
+	 */
+	@Override
+	public void evaluateAll(Iterable<Solution> solutions) {
+		Map<String, Solution> pending = new HashMap<>();
+		List<Map.Entry<Solution, String>> duplicates = new ArrayList<>();
+		List<Solution> batch = new ArrayList<>();
+		
+		for (Solution solution : solutions) {
+			String key = getPhenotype(solution);
+			
+			if (pending.containsKey(key)) {
+				duplicates.add(Map.entry(solution, key));
+			} else if (!lookup(key, solution)) {
+				pending.put(key, solution);
+				batch.add(solution);
+			}
+		}
+		
+		if (!batch.isEmpty()) {
+			problem.evaluateAll(batch);
+		}
+		
+		for (Map.Entry<String, Solution> entry : pending.entrySet()) {
+			store(entry.getKey(), entry.getValue());
+		}
+		
+		for (Map.Entry<Solution, String> entry : duplicates) {
+			Solution solution = entry.getKey();
+			Solution original = pending.get(entry.getValue());
+			
+			solution.setObjectiveValues(original.getObjectiveValues());
+			solution.setConstraintValues(original.getConstraintValues());
+		}
+		
+		synchronized (cache) {
+			hits += duplicates.size();
+		}
+	}
+	
+	/**
+	 * Returns the key identifying the phenotype of the solution.
+	 * 
+	 * @param solution the solution
+	 * @return the key identifying the phenotype
+	 */
+	private String getPhenotype(Solution solution) {
+		StringBuilder sb = new StringBuilder();
+		
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			Variable variable = solution.getVariable(i);
+			
+			if (i > 0) {
+				sb.append(' ');
+			}
+			
+			if (variable instanceof Grammar grammarVariable) {
+				int[] productions = grammar.derive(grammarVariable.toArray());
+				sb.append(productions == null ? "-" : Arrays.toString(productions));
+			} else {
+				sb.append(variable.encode());
+			}
+		}
+		
+		return sb.toString();
+	}
+	
+	/**
+	 * Copies the cached values into the solution, if the phenotype is cached.
+	 * 
+	 * @param key the key identifying the phenotype
+	 * @param solution the solution
+	 * @return {@code true} if the phenotype is cached; {@code false} otherwise
+	 */
+	private boolean lookup(String key, Solution solution) {
+		CachedValues values;
+		
+		synchronized (cache) {
+			values = cache.get(key);
+			
+			if (values != null) {
+				hits++;
+			} else {
+				misses++;
+			}
+		}
+		
+		if (values == null) {
+			return false;
+		}
+		
+		solution.setObjectiveValues(values.objectives());
+		solution.setConstraintValues(values.constraints());
+		return true;
+	}
+	
+	/**
+	 * Stores the values of the evaluated solution in the cache.
+	 * 
+	 * @param key the key identifying the phenotype
+	 * @param solution the evaluated solution
+	 */
+	private void store(String key, Solution solution) {
+		CachedValues values = new CachedValues(solution.getObjectiveValues(), solution.getConstraintValues());
+		
+		synchronized (cache) {
+			cache.put(key, values);
+		}
+	}
+	
+	/**
+	 * The cached objective and constraint values.
+	 * 
+	 * @param objectives the objective values
+	 * @param constraints the constraint values
+	 */
+	private record CachedValues(double[] objectives, double[] constraints) {
+	
+	}
+
+}
@@ -68,6 +68,24 @@ public interface Problem extends AutoCloseable, Named {
 	 */
 	public void evaluate(Solution solution);
 
+	/**
+	 * Evaluates a batch of solutions, updating each solution's objectives in place.  This method calls
+	 * {@link #evaluate(Solution)} on each of the solutions.  Problems that can amortize the cost of evaluation across
+	 * many solutions, such as by vectorizing the computation, evaluating in parallel, or sending the entire batch to an
+	 * external process, should override this method.
+	 * <p>
+	 * Implementations must either evaluate every solution before returning or, as done by
+	 * {@link org.moeaframework.parallel.DistributedProblem}, block on any reads of the solutions until the
+	 * evaluations complete.
+	 * 
+	 * @param solutions the solutions to be evaluated
+	 */
+	public default void evaluateAll(Iterable<Solution> solutions) {
+		for (Solution solution : solutions) {
+			evaluate(solution);
+		}
+	}
+	
 	/**
 	 * Returns a new solution for this problem.  Implementations must initialize the variables so that the valid range
 	 * of values is defined, but typically leave the actual value at a default or undefined state.
@@ -23,7 +23,9 @@ import org.moeaframework.core.Solution;
  * Wraps a problem instance to modify or extend its functionality.
  * <p>
  * All methods invoke the corresponding method on the inner problem.  Subclasses need only override the methods they
- * need to change.
+ * need to change.  The exception is {@link #evaluateAll(Iterable)}, which calls {@link #evaluate(Solution)} on each
+ * solution so any changes to the evaluation are applied.  Wrappers that do not change the evaluation can override
+ * {@code evaluateAll} to pass the batch to the inner problem.
  */
 public abstract class ProblemWrapper implements Problem {
 
@@ -66,7 +68,7 @@ public abstract class ProblemWrapper implements Problem {
 	public void evaluate(Solution solution) {
 		problem.evaluate(solution);
 	}
-
+	
 	@Override
 	public Solution newSolution() {
 		return problem.newSolution();
@@ -24,7 +24,8 @@ import org.apache.commons.lang3.tuple.Pair;
 
 /**
  * Wraps a {@link DistanceMeasure} to cache or memoize the calculations in memory.  This is similar to using a
- * precomputed distance matrix, except the distance calculations are performed lazily.
+ * precomputed distance matrix, except the distance calculations are performed lazily.  Use this class when the
+ * objects are discovered over time; when they are all known up front, {@link DistanceMatrix} avoids boxing.
  * 
  * @param <T> the type of object being stored
  */
@@ -0,0 +1,192 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.clustering;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Stores the distances between a fixed collection of objects.  Distances are computed lazily on first use and stored
+ * in a primitive array.  For symmetric distance measures, only one direction is stored in a condensed, upper
+ * triangular matrix requiring {@code n * (n - 1) / 2} entries, and the distance from an object to itself is defined
+ * to be {@code 0}.  Otherwise, all {@code n * n} entries are stored.
+ * <p>
+ * Objects are identified by reference, not by {@link Object#equals(Object)}.  Distances involving objects not
+ * contained in this matrix are computed by the underlying distance measure but are not stored.
+ * <p>
+ * This class is not thread safe.
+ * 
+ * @param <T> the type of object being stored
+ */
+public class DistanceMatrix<T> implements DistanceMeasure<T> {
+	
+	/**
+	 * The underlying distance measure.
+	 */
+	private final DistanceMeasure<T> distanceMeasure;
+	
+	/**
+	 * {@code true} if the distance measure is symmetric.
+	 */
+	private final boolean isSymmetric;
+	
+	/**
+	 * The objects, where the position in this list is the index of the object in the matrix.
+	 */
+	private final List<T> elements;
+	
+	/**
+	 * Maps each object to its index in the matrix.
+	 */
+	private final Map<T, Integer> indices;
+	
+	/**
+	 * The stored distances, where {@link Double#NaN} indicates the distance has not yet been computed.
+	 */
+	private final double[] distances;
+	
+	/**
+	 * Constructs a new distance matrix for the given objects.
+	 * 
+	 * @param distanceMeasure the underlying distance measure
+	 * @param elements the objects
+	 * @param isSymmetric {@code true} if the distance measure is symmetric; see {@link DistanceMeasure} for the
+	 *        definition of symmetry.
+	 * @throws IllegalArgumentException if the number of objects exceeds the capacity of the matrix
+	 */
+	public DistanceMatrix(DistanceMeasure<T> distanceMeasure, Iterable<? extends T> elements, boolean isSymmetric) {
+		super();
+		this.distanceMeasure = distanceMeasure;
+		this.isSymmetric = isSymmetric;
+		this.elements = new ArrayList<>();
+		this.indices = new IdentityHashMap<>();
+		
+		for (T element : elements) {
+			if (!indices.containsKey(element)) {
+				indices.put(element, this.elements.size());
+				this.elements.add(element);
+			}
+		}
+		
+		long n = this.elements.size();
+		long length = isSymmetric ? n * (n - 1) / 2 : n * n;
+		
+		if (length > Integer.MAX_VALUE - 8) {
+			Validate.that("elements", elements).fails("Too many elements to store in a distance matrix");
+		}
+		
+		distances = new double[(int)length];
+		Arrays.fill(distances, Double.NaN);
+	}
+	
+	/**
+	 * Returns the number of objects stored in this matrix.
+	 * 
+	 * @return the number of objects
+	 */
+	public int size() {
+		return elements.size();
+	}
+	
+	/**
+	 * Returns the object at the given index.
+	 * 
+	 * @param index the index
+	 * @return the object at the given index
+	 */
+	public T get(int index) {
+		return elements.get(index);
+	}
+	
+	/**
+	 * Returns the index of the given object in this matrix.
+	 * 
+	 * @param element the object
+	 * @return the index of the object, or {@code -1} if the object is not contained in this matrix
+	 */
+	public int indexOf(T element) {
+		Integer index = indices.get(element);
+		return index == null ? -1 : index;
+	}
+	
+	/**
+	 * Returns {@code true} if the underlying distance measure is symmetric.
+	 * 
+	 * @return {@code true} if the underlying distance measure is symmetric; {@code false} otherwise
+	 */
+	public boolean isSymmetric() {
+		return isSymmetric;
+	}
+	
+	/**
+	 * Returns the distance between the objects at the given indices.
+	 * 
+	 * @param first the index of the first object
+	 * @param second the index of the second object
+	 * @return the distance
+	 * @throws IndexOutOfBoundsException if either index is out of bounds
+	 */
+	public double get(int first, int second) {
+		Objects.checkIndex(first, size());
+		Objects.checkIndex(second, size());
+		
+		int offset;
+		
+		if (isSymmetric) {
+			if (first == second) {
+				return 0.0;
+			} else if (first > second) {
+				int temp = first;
+				first = second;
+				second = temp;
+			}
+			
+			offset = (int)((long)first * (2L * size() - first - 1) / 2 + (second - first - 1));
+		} else {
+			offset = first * size() + second;
+		}
+		
+		double distance = distances[offset];
+		
+		if (Double.isNaN(distance)) {
+			distance = distanceMeasure.compute(elements.get(first), elements.get(second));
+			distances[offset] = distance;
+		}
+		
+		return distance;
+	}
+	
+	@Override
+	public double compute(T first, T second) {
+		int firstIndex = indexOf(first);
+		int secondIndex = indexOf(second);
+		
+		if (firstIndex < 0 || secondIndex < 0) {
+			return distanceMeasure.compute(first, second);
+		}
+		
+		return get(firstIndex, secondIndex);
+	}
+
+}
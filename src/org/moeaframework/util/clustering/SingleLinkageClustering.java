@@ -18,7 +18,14 @@
 package org.moeaframework.util.clustering;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.moeaframework.util.validate.Validate;
 
@@ -26,9 +33,19 @@ import org.moeaframework.util.validate.Validate;
  * Single-linkage clustering, which is a hierarchical clustering method that at each step joins the clusters with the
  * closest pair of elements.
  * <p>
+ * Rather than repeatedly searching for the closest pair of clusters, this implementation first constructs the minimum
+ * spanning tree using Prim's algorithm, which requires {@code O(n^2)} time.  The edges of the minimum spanning tree,
+ * in order of increasing length, are exactly the merges performed by single-linkage clustering.  Each distance is
+ * computed once and stored in a {@link DistanceMatrix}.  When several merges occur at the same distance, they are
+ * applied in the same order as the naive method, joining the first two clusters (in order of their first member) that
+ * are separated by that distance.  Consequently, the clusters and the order of their members are identical to those
+ * produced by the naive method.  The distance measure must be symmetric.
+ * <p>
  * References:
  * <ol>
  *   <li>https://en.wikipedia.org/wiki/Single-linkage_clustering
+ *   <li>Gower, J. C. and G. J. S. Ross (1969).  "Minimum Spanning Trees and Single Linkage Cluster Analysis."
+ *       Journal of the Royal Statistical Society, Series C, 18(1):54-64.
  * </ol>
  */
 public class SingleLinkageClustering implements Clustering {
@@ -49,34 +66,358 @@ public class SingleLinkageClustering implements Clustering {
 	public List<Cluster> cluster(int size, Iterable<ClusterableSolution> solutions) {
 		Validate.that("size", size).isGreaterThanOrEqualTo(1);
 		
-		List<Cluster> clusters = new ArrayList<>();
+		List<ClusterableSolution> elements = new ArrayList<>();
 		
 		for (ClusterableSolution solution : solutions) {
-			clusters.add(new Cluster(distanceMeasure, solution));
+			elements.add(solution);
 		}
-
-		while (clusters.size() > size) {
-			Cluster minClusterA = null;
-			Cluster minClusterB = null;
-			double minDistance = Double.POSITIVE_INFINITY;
-			
-			for (int a = 0; a < clusters.size(); a++) {
-				for (int b = a + 1; b < clusters.size(); b++) {
-					double distance = clusters.get(a).distanceTo(clusters.get(b));
+		
+		DistanceMatrix<ClusterableSolution> matrix = new DistanceMatrix<>(distanceMeasure, elements, true);
+		Linkage linkage = new Linkage(matrix, elements);
+		
+		if (linkage.getNumberOfClusters() > size) {
+			linkage.merge(size, linkage.computeMinimumSpanningTree());
+		}
+		
+		return linkage.getClusters();
+	}
+	
+	/**
+	 * An edge in the minimum spanning tree.
+	 * 
+	 * @param first the index of the first element
+	 * @param second the index of the second element
+	 * @param distance the distance between the two elements
+	 */
+	private record Edge(int first, int second, double distance) {
+	
+	}
+	
+	/**
+	 * Tracks the clusters formed while merging elements.  Each cluster is identified by its first member, which is
+	 * also the member with the smallest index.  The members of each cluster are stored as a linked list, preserving
+	 * the order in which they were added.
+	 */
+	private static class Linkage {
+		
+		/**
+		 * The distance matrix.
+		 */
+		private final DistanceMatrix<ClusterableSolution> matrix;
+		
+		/**
+		 * The elements being clustered.
+		 */
+		private final List<ClusterableSolution> elements;
+		
+		/**
+		 * The index of each element in the distance matrix, which differs from its position only if the same element
+		 * appears more than once.
+		 */
+		private final int[] indices;
+		
+		/**
+		 * The parent of each element, used to find the cluster containing the element.
+		 */
+		private final int[] parent;
+		
+		/**
+		 * The next member in the cluster, or {@code -1} if this is the last member.
+		 */
+		private final int[] next;
+		
+		/**
+		 * The last member of each cluster, indexed by the cluster's first member.
+		 */
+		private final int[] last;
+		
+		/**
+		 * The current number of clusters.
+		 */
+		private int numberOfClusters;
+		
+		/**
+		 * Creates a new linkage where each element is assigned to its own cluster.
+		 * 
+		 * @param matrix the distance matrix
+		 * @param elements the elements being clustered
+		 */
+		public Linkage(DistanceMatrix<ClusterableSolution> matrix, List<ClusterableSolution> elements) {
+			super();
+			this.matrix = matrix;
+			this.elements = elements;
+			
+			int n = elements.size();
+			
+			indices = new int[n];
+			parent = new int[n];
+			next = new int[n];
+			last = new int[n];
+			numberOfClusters = n;
+			
+			for (int i = 0; i < n; i++) {
+				indices[i] = matrix.indexOf(elements.get(i));
+				parent[i] = i;
+				next[i] = -1;
+				last[i] = i;
+			}
+		}
+		
+		/**
+		 * Returns the current number of clusters.
+		 * 
+		 * @return the number of clusters
+		 */
+		public int getNumberOfClusters() {
+			return numberOfClusters;
+		}
+		
+		/**
+		 * Returns the distance between two elements.
+		 * 
+		 * @param first the index of the first element
+		 * @param second the index of the second element
+		 * @return the distance
+		 */
+		private double distance(int first, int second) {
+			return matrix.get(indices[first], indices[second]);
+		}
+		
+		/**
+		 * Returns the cluster containing the given element, identified by its first member.
+		 * 
+		 * @param element the index of the element
+		 * @return the first member of the cluster
+		 */
+		private int find(int element) {
+			int root = element;
+			
+			while (parent[root] != root) {
+				root = parent[root];
+			}
+			
+			while (parent[element] != root) {
+				int temp = parent[element];
+				parent[element] = root;
+				element = temp;
+			}
+			
+			return root;
+		}
+		
+		/**
+		 * Merges two clusters, appending the members of the second cluster to the first.
+		 * 
+		 * @param first the first member of the cluster that is retained, which must precede {@code second}
+		 * @param second the first member of the cluster that is merged
+		 */
+		private void union(int first, int second) {
+			parent[second] = first;
+			next[last[first]] = second;
+			last[first] = last[second];
+			numberOfClusters--;
+		}
+		
+		/**
+		 * Constructs the minimum spanning tree using Prim's algorithm.
+		 * 
+		 * @return the edges in the minimum spanning tree sorted by distance
+		 */
+		public Edge[] computeMinimumSpanningTree() {
+			int n = elements.size();
+			Edge[] edges = new Edge[n - 1];
+			double[] minDistance = new double[n];
+			int[] minElement = new int[n];
+			boolean[] visited = new boolean[n];
+			
+			Arrays.fill(minDistance, Double.POSITIVE_INFINITY);
+			
+			int current = 0;
+			visited[current] = true;
+			
+			for (int k = 0; k < n - 1; k++) {
+				int nextElement = -1;
+				
+				for (int i = 0; i < n; i++) {
+					if (visited[i]) {
+						continue;
+					}
+					
+					double distance = distance(current, i);
+					
+					if (distance < minDistance[i]) {
+						minDistance[i] = distance;
+						minElement[i] = current;
+					}
+					
+					if (nextElement < 0 || minDistance[i] < minDistance[nextElement]) {
+						nextElement = i;
+					}
+				}
+				
+				edges[k] = new Edge(minElement[nextElement], nextElement, minDistance[nextElement]);
+				visited[nextElement] = true;
+				current = nextElement;
+			}
+			
+			Arrays.sort(edges, Comparator.comparingDouble(Edge::distance));
+			return edges;
+		}
+		
+		/**
+		 * Merges clusters, following the edges of the minimum spanning tree, until the given number of clusters
+		 * remain.
+		 * 
+		 * @param size the number of clusters
+		 * @param edges the edges in the minimum spanning tree sorted by distance
+		 */
+		public void merge(int size, Edge[] edges) {
+			int start = 0;
+			
+			while (numberOfClusters > size) {
+				int end = start + 1;
+				
+				while (end < edges.length && edges[end].distance() == edges[start].distance()) {
+					end++;
+				}
+				
+				merge(size, edges, start, end);
+				start = end;
+			}
+		}
+		
+		/**
+		 * Merges the clusters joined by edges of equal distance.  Since the minimum spanning tree contains only some
+		 * of the pairs separated by this distance, the remaining pairs are identified by comparing the members of
+		 * each cluster.  Then, the same as the naive method, the first cluster repeatedly absorbs the next cluster
+		 * at this distance, in order of their first member, until none remain.
+		 * 
+		 * @param size the number of clusters
+		 * @param edges the edges in the minimum spanning tree sorted by distance
+		 * @param start the index of the first edge with this distance
+		 * @param end the index after the last edge with this distance
+		 */
+		private void merge(int size, Edge[] edges, int start, int end) {
+			double distance = edges[start].distance();
+			Map<Integer, Set<Integer>> neighbors = new TreeMap<>();
+			
+			for (int i = start; i < end; i++) {
+				int first = find(edges[i].first());
+				int second = find(edges[i].second());
+				
+				neighbors.computeIfAbsent(first, k -> new HashSet<>()).add(second);
+				neighbors.computeIfAbsent(second, k -> new HashSet<>()).add(first);
+			}
+			
+			// group the clusters connected by these edges into trees, ordered by the first member
+			List<List<Integer>> trees = new ArrayList<>();
+			Set<Integer> visited = new HashSet<>();
+			
+			for (int root : neighbors.keySet()) {
+				if (!visited.add(root)) {
+					continue;
+				}
+				
+				List<Integer> tree = new ArrayList<>();
+				tree.add(root);
+				
+				for (int i = 0; i < tree.size(); i++) {
+					for (int neighbor : neighbors.get(tree.get(i))) {
+						if (visited.add(neighbor)) {
+							tree.add(neighbor);
+						}
+					}
+				}
+				
+				trees.add(tree);
+			}
+			
+			for (List<Integer> tree : trees) {
+				if (tree.size() > 2) {
+					findNeighbors(tree, distance, neighbors);
+				}
+				
+				int root = tree.get(0);
+				PriorityQueue<Integer> queue = new PriorityQueue<>(neighbors.get(root));
+				Set<Integer> absorbed = new HashSet<>();
+				absorbed.add(root);
+				
+				while (!queue.isEmpty() && numberOfClusters > size) {
+					int cluster = queue.poll();
+					
+					if (absorbed.add(cluster)) {
+						union(root, cluster);
+						queue.addAll(neighbors.get(cluster));
+					}
+				}
+			}
+		}
+		
+		/**
+		 * Identifies all pairs of clusters within a tree that are separated by the given distance.
+		 * 
+		 * @param tree the clusters in the tree
+		 * @param distance the distance
+		 * @param neighbors the neighbors of each cluster, which are updated by this method
+		 */
+		private void findNeighbors(List<Integer> tree, double distance, Map<Integer, Set<Integer>> neighbors) {
+			for (int i = 0; i < tree.size(); i++) {
+				for (int j = i + 1; j < tree.size(); j++) {
+					int first = tree.get(i);
+					int second = tree.get(j);
 					
-					if (distance < minDistance) {
-						minDistance = distance;
-						minClusterA = clusters.get(a);
-						minClusterB = clusters.get(b);
+					if (!neighbors.get(first).contains(second) && isSeparatedBy(first, second, distance)) {
+						neighbors.get(first).add(second);
+						neighbors.get(second).add(first);
+					}
+				}
+			}
+		}
+		
+		/**
+		 * Returns {@code true} if any member of the first cluster is the given distance from a member of the second
+		 * cluster.
+		 * 
+		 * @param first the first member of the first cluster
+		 * @param second the first member of the second cluster
+		 * @param distance the distance
+		 * @return {@code true} if the clusters are separated by the given distance; {@code false} otherwise
+		 */
+		private boolean isSeparatedBy(int first, int second, double distance) {
+			for (int i = first; i >= 0; i = next[i]) {
+				for (int j = second; j >= 0; j = next[j]) {
+					if (distance(i, j) == distance) {
+						return true;
 					}
 				}
 			}
 			
-			minClusterA.addAll(minClusterB);
-			clusters.remove(minClusterB);
+			return false;
 		}
 		
-		return clusters;
+		/**
+		 * Returns the current clusters, ordered by their first member.
+		 * 
+		 * @return the clusters
+		 */
+		public List<Cluster> getClusters() {
+			List<Cluster> clusters = new ArrayList<>();
+			
+			for (int i = 0; i < elements.size(); i++) {
+				if (parent[i] == i) {
+					List<ClusterableSolution> members = new ArrayList<>();
+					
+					for (int j = i; j >= 0; j = next[j]) {
+						members.add(elements.get(j));
+					}
+					
+					clusters.add(new Cluster(matrix, members));
+				}
+			}
+			
+			return clusters;
+		}
+	
 	}
 
 }
@@ -24,6 +24,7 @@ import java.io.Reader;
 import java.io.StreamTokenizer;
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -145,15 +146,16 @@ public class ContextFreeGrammar {
 	 * @throws GrammarException if the codon array is empty
 	 */
 	public String build(int[] array) {
-		if (array.length == 0) {
-			throw new GrammarException("Codon array is empty");
+		int[] productions = derive(array);
+		
+		if (productions == null) {
+			return null;
 		}
 
 		StringBuilder sb = new StringBuilder();
 		Stack<Symbol> remaining = new Stack<>();
 
 		int index = 0;
-		int wraps = 0;
 
 		remaining.push(rules.get(0).getSymbol());
 
@@ -166,9 +168,66 @@ public class ContextFreeGrammar {
 				Rule rule = get(symbol);
 				int productionIndex = 0;
 
+				if (rule.size() > 1) {
+					productionIndex = productions[index];
+					index++;
+				}
+
+				Production production = rule.get(productionIndex);
+
+				for (int i = production.size() - 1; i >= 0; i--) {
+					remaining.push(production.get(i));
+				}
+			}
+		}
+
+		return sb.toString();
+	}
+	
+	/**
+	 * Returns the productions chosen using the construction rules of Grammatical Evolution on the specified codon
+	 * array; or {@code null} if the codon array failed to produce a valid derivation.  Each time the derivation
+	 * encounters a rule with multiple productions, the index of the chosen production is recorded.  Rules are expanded
+	 * depth-first from left to right.
+	 * <p>
+	 * Unlike the codon array, the chosen productions uniquely identify the derivation.  Codons that are never read, or
+	 * whose values differ by a multiple of the number of productions, produce the same derivation.
+	 * 
+	 * @param array the codon array
+	 * @return the index of the production chosen each time a rule with multiple productions is expanded; or
+	 *         {@code null} if the codon array failed to produce a valid derivation
+	 * @throws GrammarException if the codon array is empty
+	 */
+	public int[] derive(int[] array) {
+		if (array.length == 0) {
+			throw new GrammarException("Codon array is empty");
+		}
+
+		int[] productions = new int[array.length];
+		int size = 0;
+		Stack<Symbol> remaining = new Stack<>();
+
+		int index = 0;
+		int wraps = 0;
+
+		remaining.push(rules.get(0).getSymbol());
+
+		while (!remaining.isEmpty()) {
+			Symbol symbol = remaining.pop();
+
+			if (!symbol.isTerminal()) {
+				Rule rule = get(symbol);
+				int productionIndex = 0;
+
 				if (rule.size() > 1) {
 					productionIndex = array[index] % rule.size();
 					index++;
+					
+					if (size == productions.length) {
+						productions = Arrays.copyOf(productions, 2 * size);
+					}
+					
+					productions[size++] = productionIndex;
 
 					if (index >= array.length) {
 						index = 0;
@@ -188,7 +247,7 @@ public class ContextFreeGrammar {
 			}
 		}
 
-		return sb.toString();
+		return Arrays.copyOf(productions, size);
 	}
 
 	/**
@@ -0,0 +1,216 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.grammar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.moeaframework.util.tree.Constant;
+import org.moeaframework.util.tree.Node;
+
+/**
+ * Maps codon arrays directly to expression trees using the nodes in {@link org.moeaframework.util.tree}, avoiding the
+ * need to build and parse a string.  Each terminal in the grammar is defined by a node, for example mapping
+ * {@code "+"} to {@link org.moeaframework.util.tree.Add}.  Terminals that are not defined are converted into a
+ * {@link Constant} if they are numbers, otherwise are ignored.  This allows grammars to contain punctuation, such as
+ * parentheses, which do not affect the structure of the tree.
+ * <p>
+ * The tree is assembled from the bottom up as each production is expanded.  When a production contains a node that
+ * still requires arguments, the remaining parts of the production become its arguments, in order.  Thus, the
+ * arguments can appear in any position, supporting both prefix and infix notation:
+ * <pre>{@code
+ *   <expr> ::= (<expr> <op> <expr>) | <func> ( <expr> ) | x
+ *   <op> ::= + | - | * | /
+ *   <func> ::= sin | cos | exp | log
+ * }</pre>
+ * Otherwise, a production must contain exactly one node, which is passed on to its parent.
+ */
+public class TreeMapper {
+	
+	/**
+	 * The grammar.
+	 */
+	private final ContextFreeGrammar grammar;
+	
+	/**
+	 * The nodes defining each terminal.
+	 */
+	private final Map<String, Node> terminals;
+	
+	/**
+	 * Constructs a new tree mapper for the given grammar.
+	 * 
+	 * @param grammar the grammar
+	 */
+	public TreeMapper(ContextFreeGrammar grammar) {
+		super();
+		this.grammar = grammar;
+		
+		terminals = new HashMap<>();
+	}
+	
+	/**
+	 * Returns the grammar.
+	 * 
+	 * @return the grammar
+	 */
+	public ContextFreeGrammar getGrammar() {
+		return grammar;
+	}
+	
+	/**
+	 * Defines the node produced by a terminal.  Each occurrence of the terminal produces a copy of this node.
+	 * 
+	 * @param terminal the terminal
+	 * @param node the node
+	 * @return a reference to this tree mapper
+	 */
+	public TreeMapper define(String terminal, Node node) {
+		terminals.put(terminal, node);
+		return this;
+	}
+	
+	/**
+	 * Returns the expression tree produced by the construction rules of Grammatical Evolution on the specified codon
+	 * array; or {@code null} if the codon array failed to produce a valid derivation.
+	 * 
+	 * @param array the codon array
+	 * @return the expression tree; or {@code null} if the codon array failed to produce a valid derivation
+	 * @throws GrammarException if the codon array is empty or the derivation does not produce a single tree
+	 */
+	public Node build(int[] array) {
+		int[] productions = grammar.derive(array);
+		
+		if (productions == null) {
+			return null;
+		}
+		
+		Fragment fragment = expand(grammar.get(0).getSymbol(), productions, new int[1]);
+		
+		if ((fragment == null) || (fragment.missingArguments() > 0)) {
+			throw new GrammarException("Derivation does not produce a complete tree");
+		}
+		
+		return fragment.node();
+	}
+	
+	/**
+	 * Expands the symbol, returning the tree it produces.
+	 * 
+	 * @param symbol the symbol
+	 * @param productions the index of the production chosen each time a rule with multiple productions is expanded
+	 * @param index the index of the next production to read, stored in an array so it can be updated
+	 * @return the tree produced by the symbol; or {@code null} if the symbol does not produce a node
+	 * @throws GrammarException if the production does not produce a single tree
+	 */
+	private Fragment expand(Symbol symbol, int[] productions, int[] index) {
+		if (symbol.isTerminal()) {
+			return toFragment(symbol.getValue());
+		}
+		
+		Rule rule = grammar.get(symbol);
+		int productionIndex = 0;
+		
+		if (rule.size() > 1) {
+			productionIndex = productions[index[0]];
+			index[0]++;
+		}
+		
+		Production production = rule.get(productionIndex);
+		List<Fragment> fragments = new ArrayList<>(production.size());
+		Fragment head = null;
+		
+		for (int i = 0; i < production.size(); i++) {
+			Fragment fragment = expand(production.get(i), productions, index);
+			
+			if (fragment == null) {
+				continue;
+			} else if (fragment.missingArguments() > 0) {
+				if (head != null) {
+					throw new GrammarException("Production contains multiple nodes requiring arguments");
+				}
+				
+				head = fragment;
+			} else {
+				fragments.add(fragment);
+			}
+		}
+		
+		if (head == null) {
+			if (fragments.size() > 1) {
+				throw new GrammarException("Production contains multiple nodes but none accept arguments");
+			}
+			
+			return fragments.isEmpty() ? null : fragments.get(0);
+		}
+		
+		if (fragments.isEmpty()) {
+			return head;
+		} else if (fragments.size() != head.missingArguments()) {
+			throw new GrammarException("Node " + head.node().getName() + " requires " + head.missingArguments() +
+					" arguments but production contains " + fragments.size());
+		}
+		
+		for (int i = 0; i < fragments.size(); i++) {
+			head.node().setArgument(i, fragments.get(i).node());
+		}
+		
+		return new Fragment(head.node(), 0);
+	}
+	
+	/**
+	 * Converts a terminal into a node.
+	 * 
+	 * @param terminal the terminal
+	 * @return the node produced by the terminal; or {@code null} if the terminal does not produce a node
+	 */
+	private Fragment toFragment(String terminal) {
+		Node node = terminals.get(terminal);
+		
+		if (node != null) {
+			Node copy = node.copyNode();
+			return new Fragment(copy, copy.getNumberOfArguments());
+		}
+		
+		try {
+			return new Fragment(new Constant(Long.parseLong(terminal)), 0);
+		} catch (NumberFormatException e) {
+			// not an integer
+		}
+		
+		try {
+			return new Fragment(new Constant(Double.parseDouble(terminal)), 0);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Part of the tree produced while expanding the grammar.
+	 * 
+	 * @param node the root node of this fragment
+	 * @param missingArguments the number of arguments the root node requires, or {@code 0} if this fragment is a
+	 *        complete tree
+	 */
+	private record Fragment(Node node, int missingArguments) {
+	
+	}
+
+}
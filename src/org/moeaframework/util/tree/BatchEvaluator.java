@@ -0,0 +1,1249 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import org.apache.commons.math3.util.FastMath;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.Settings;
+import org.moeaframework.util.tree.TreeCompiler.DoubleComparison;
+import org.moeaframework.util.tree.TreeCompiler.LongComparison;
+import org.moeaframework.util.tree.TreeCompiler.UnsupportedNodeException;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Evaluates expression trees over an entire dataset at once, such as when computing the fitness of programs in
+ * symbolic regression.  Rather than evaluating the tree once per row, each node computes its value for all rows,
+ * storing the results in a column.  Columns are stored in scratch buffers that are reused across nodes and trees.
+ * <p>
+ * Subtrees that appear in multiple trees, which is common after crossover, are cached.  The first time a subtree is
+ * seen, only its structure is remembered.  If the same subtree is seen again, its column is cached so later trees
+ * can reuse the result.  Subtrees that do not read any variables are evaluated once and their value is copied into a
+ * column.
+ * <p>
+ * This evaluator supports the same nodes as {@link TreeCompiler}.  Trees containing other nodes, or nodes whose type
+ * can not be determined, are evaluated row by row using {@link TreeCompiler}.  In either case, the results are the
+ * same as evaluating the tree with {@link Node#evaluate(Environment)}, where the environment contains each variable
+ * as a {@link Double}.
+ * <p>
+ * This class is thread safe.
+ */
+public class BatchEvaluator {
+	
+	/**
+	 * The default number of columns stored in the cache.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 100;
+	
+	/**
+	 * The maximum number of subtrees remembered when deciding which columns to cache.
+	 */
+	private static final int MAXIMUM_SEEN = 100000;
+	
+	/**
+	 * The names of the variables.
+	 */
+	private final String[] variableNames;
+	
+	/**
+	 * The values of each variable, where {@code data[i][j]} is the value of variable {@code i} in row {@code j}.
+	 */
+	private final double[][] data;
+	
+	/**
+	 * The number of rows.
+	 */
+	private final int rows;
+	
+	/**
+	 * The maximum number of columns stored in the cache.
+	 */
+	private final int cacheSize;
+	
+	/**
+	 * The compiler for evaluating constant subtrees and unsupported trees.
+	 */
+	private final TreeCompiler compiler;
+	
+	/**
+	 * The cache of columns, keyed by the structure of the subtree.
+	 */
+	private final Map<String, Column> cache;
+	
+	/**
+	 * The subtrees that have been evaluated but are not yet cached.
+	 */
+	private final Map<String, Boolean> seen;
+	
+	/**
+	 * The scratch buffers used by each thread.
+	 */
+	private final ThreadLocal<Scratch> scratch;
+	
+	/**
+	 * Constructs a new batch evaluator with the default cache size.
+	 * 
+	 * @param variableNames the names of the variables
+	 * @param data the values of each variable, where {@code data[i][j]} is the value of variable {@code i} in row
+	 *        {@code j}
+	 */
+	public BatchEvaluator(String[] variableNames, double[][] data) {
+		this(variableNames, data, DEFAULT_CACHE_SIZE);
+	}
+	
+	/**
+	 * Constructs a new batch evaluator.
+	 * 
+	 * @param variableNames the names of the variables
+	 * @param data the values of each variable, where {@code data[i][j]} is the value of variable {@code i} in row
+	 *        {@code j}
+	 * @param cacheSize the maximum number of columns stored in the cache, or {@code 0} to disable caching
+	 */
+	public BatchEvaluator(String[] variableNames, double[][] data, int cacheSize) {
+		super();
+		Validate.that("data.length", data.length).isEqualTo(variableNames.length);
+		Validate.that("cacheSize", cacheSize).isGreaterThanOrEqualTo(0);
+		
+		this.variableNames = variableNames.clone();
+		this.data = new double[data.length][];
+		this.rows = data.length > 0 ? data[0].length : 0;
+		this.cacheSize = cacheSize;
+		
+		for (int i = 0; i < data.length; i++) {
+			Validate.that("data[" + i + "].length", data[i].length).isEqualTo(rows);
+			this.data[i] = data[i].clone();
+		}
+		
+		compiler = new TreeCompiler(variableNames);
+		scratch = ThreadLocal.withInitial(Scratch::new);
+		
+		cache = new LinkedHashMap<>(16, 0.75f, true) {
+			
+			private static final long serialVersionUID = -5339541893155185834L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Column> eldest) {
+				return size() > BatchEvaluator.this.cacheSize;
+			}
+		
+		};
+		
+		seen = new LinkedHashMap<>(16, 0.75f, true) {
+			
+			private static final long serialVersionUID = 4307693127525453349L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > MAXIMUM_SEEN;
+			}
+		
+		};
+	}
+	
+	/**
+	 * Returns the names of the variables.
+	 * 
+	 * @return the names of the variables
+	 */
+	public String[] getVariableNames() {
+		return variableNames.clone();
+	}
+	
+	/**
+	 * Returns the number of rows in the dataset.
+	 * 
+	 * @return the number of rows
+	 */
+	public int getNumberOfRows() {
+		return rows;
+	}
+	
+	/**
+	 * Returns the maximum number of columns stored in the cache.
+	 * 
+	 * @return the maximum number of columns stored in the cache
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+	
+	/**
+	 * Removes all columns from the cache.  Since the dataset does not change, this is only necessary to release
+	 * memory, such as after the last generation.
+	 */
+	public void clearCache() {
+		synchronized (cache) {
+			cache.clear();
+			seen.clear();
+		}
+		
+		compiler.clearCache();
+	}
+	
+	/**
+	 * Evaluates the expression tree for every row in the dataset.  The tree can be modified after evaluation without
+	 * affecting the cache.
+	 * 
+	 * @param node the root of the expression tree, which must produce a number
+	 * @return the value of the expression for each row
+	 * @throws IllegalArgumentException if the expression does not produce a number
+	 */
+	public double[] evaluate(Node node) {
+		Evaluation evaluation = new Evaluation(Settings.isProtectedFunctions(), scratch.get());
+		
+		if (evaluation.isSupported(node)) {
+			try {
+				return evaluation.toResult(evaluation.evaluate(node));
+			} catch (UnsupportedNodeException e) {
+				// fall through and evaluate each row
+			}
+		}
+		
+		CompiledExpression expression = compiler.compile(node);
+		double[] arguments = new double[data.length];
+		double[] result = new double[rows];
+		
+		for (int i = 0; i < rows; i++) {
+			for (int j = 0; j < data.length; j++) {
+				arguments[j] = data[j][i];
+			}
+			
+			if (expression.evaluate(arguments) instanceof Number number) {
+				result[i] = number.doubleValue();
+			} else {
+				Validate.that("node", node).fails("Expression must produce a number");
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Evaluates each expression tree for every row in the dataset.
+	 * 
+	 * @param nodes the roots of the expression trees, each of which must produce a number
+	 * @return the value of each expression for each row, where {@code result[i][j]} is the value of the {@code i}-th
+	 *         expression for row {@code j}
+	 */
+	public double[][] evaluateAll(List<? extends Node> nodes) {
+		double[][] result = new double[nodes.size()][];
+		
+		for (int i = 0; i < nodes.size(); i++) {
+			result[i] = evaluate(nodes.get(i));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Evaluates each expression tree for every row in the dataset, distributing the trees across the executor.  The
+	 * executor is not shut down by this method.
+	 * 
+	 * @param nodes the roots of the expression trees, each of which must produce a number
+	 * @param executor the executor
+	 * @return the value of each expression for each row, where {@code result[i][j]} is the value of the {@code i}-th
+	 *         expression for row {@code j}
+	 * @throws FrameworkException if evaluating an expression failed or the thread was interrupted
+	 */
+	public double[][] evaluateAll(List<? extends Node> nodes, ExecutorService executor) {
+		List<Future<double[]>> futures = new ArrayList<>(nodes.size());
+		double[][] result = new double[nodes.size()][];
+		
+		for (Node node : nodes) {
+			futures.add(executor.submit(() -> evaluate(node)));
+		}
+		
+		try {
+			for (int i = 0; i < futures.size(); i++) {
+				result[i] = futures.get(i).get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new FrameworkException("interrupted while evaluating expressions", e);
+		} catch (ExecutionException e) {
+			throw new FrameworkException("failed to evaluate expression", e.getCause());
+		} finally {
+			for (Future<double[]> future : futures) {
+				future.cancel(true);
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * The values of a node for every row, where exactly one of the arrays is non-null depending on the type of value.
+	 * 
+	 * @param doubles the double values
+	 * @param longs the integer values
+	 * @param booleans the boolean values
+	 * @param isScratch {@code true} if the array is a scratch buffer that can be reused once this column is consumed;
+	 *        {@code false} if the array is shared, such as when stored in the cache, and must not be modified
+	 */
+	private record Column(double[] doubles, long[] longs, boolean[] booleans, boolean isScratch) {
+		
+		/**
+		 * Returns {@code true} if this column contains double values.
+		 * 
+		 * @return {@code true} if this column contains double values; {@code false} otherwise
+		 */
+		public boolean isDouble() {
+			return doubles != null;
+		}
+		
+		/**
+		 * Returns {@code true} if this column contains integer values.
+		 * 
+		 * @return {@code true} if this column contains integer values; {@code false} otherwise
+		 */
+		public boolean isLong() {
+			return longs != null;
+		}
+		
+		/**
+		 * Returns {@code true} if this column contains boolean values.
+		 * 
+		 * @return {@code true} if this column contains boolean values; {@code false} otherwise
+		 */
+		public boolean isBoolean() {
+			return booleans != null;
+		}
+		
+		/**
+		 * Returns a copy of this column that is shared, and therefore will not be reused as a scratch buffer.
+		 * 
+		 * @return the shared column
+		 */
+		public Column share() {
+			return isScratch ? new Column(doubles, longs, booleans, false) : this;
+		}
+	
+	}
+	
+	/**
+	 * The binary arithmetic operators.
+	 */
+	private enum Operator {
+		
+		/**
+		 * Addition.
+		 */
+		ADD,
+		
+		/**
+		 * Subtraction.
+		 */
+		SUBTRACT,
+		
+		/**
+		 * Multiplication.
+		 */
+		MULTIPLY,
+		
+		/**
+		 * Division.
+		 */
+		DIVIDE,
+		
+		/**
+		 * Remainder.
+		 */
+		MODULUS,
+		
+		/**
+		 * Maximum.
+		 */
+		MAX,
+		
+		/**
+		 * Minimum.
+		 */
+		MIN
+	
+	}
+	
+	/**
+	 * The scratch buffers for a single thread.
+	 */
+	private class Scratch {
+		
+		/**
+		 * The unused double buffers.
+		 */
+		private final ArrayDeque<double[]> doubles;
+		
+		/**
+		 * The unused integer buffers.
+		 */
+		private final ArrayDeque<long[]> longs;
+		
+		/**
+		 * The unused boolean buffers.
+		 */
+		private final ArrayDeque<boolean[]> booleans;
+		
+		/**
+		 * Constructs a new, empty set of scratch buffers.
+		 */
+		public Scratch() {
+			super();
+			doubles = new ArrayDeque<>();
+			longs = new ArrayDeque<>();
+			booleans = new ArrayDeque<>();
+		}
+		
+		/**
+		 * Returns an unused double buffer, allocating a new buffer if necessary.
+		 * 
+		 * @return the double buffer
+		 */
+		public double[] nextDoubles() {
+			double[] buffer = doubles.poll();
+			return buffer != null ? buffer : new double[rows];
+		}
+		
+		/**
+		 * Returns an unused integer buffer, allocating a new buffer if necessary.
+		 * 
+		 * @return the integer buffer
+		 */
+		public long[] nextLongs() {
+			long[] buffer = longs.poll();
+			return buffer != null ? buffer : new long[rows];
+		}
+		
+		/**
+		 * Returns an unused boolean buffer, allocating a new buffer if necessary.
+		 * 
+		 * @return the boolean buffer
+		 */
+		public boolean[] nextBooleans() {
+			boolean[] buffer = booleans.poll();
+			return buffer != null ? buffer : new boolean[rows];
+		}
+		
+		/**
+		 * Returns the buffer used by the column so it can be reused.  Shared columns are ignored.
+		 * 
+		 * @param column the column that is no longer used
+		 */
+		public void release(Column column) {
+			if (!column.isScratch()) {
+				return;
+			}
+			
+			if (column.isDouble()) {
+				doubles.push(column.doubles());
+			} else if (column.isLong()) {
+				longs.push(column.longs());
+			} else {
+				booleans.push(column.booleans());
+			}
+		}
+	
+	}
+	
+	/**
+	 * Evaluates a single tree.
+	 */
+	private class Evaluation {
+		
+		/**
+		 * {@code true} if protected functions are used.
+		 */
+		private final boolean protectedFunctions;
+		
+		/**
+		 * The scratch buffers.
+		 */
+		private final Scratch scratch;
+		
+		/**
+		 * The cache key of each subtree, built bottom-up so each node reuses the keys of its arguments.
+		 */
+		private final Map<Node, String> keys;
+		
+		/**
+		 * The subtrees that do not read any variables.
+		 */
+		private final Set<Node> constants;
+		
+		/**
+		 * Constructs a new evaluation.
+		 * 
+		 * @param protectedFunctions {@code true} if protected functions are used
+		 * @param scratch the scratch buffers
+		 */
+		public Evaluation(boolean protectedFunctions, Scratch scratch) {
+			super();
+			this.protectedFunctions = protectedFunctions;
+			this.scratch = scratch;
+			
+			keys = new IdentityHashMap<>();
+			constants = Collections.newSetFromMap(new IdentityHashMap<>());
+		}
+		
+		/**
+		 * Returns {@code true} if the tree only contains supported nodes.  This also records the key of each subtree
+		 * and which subtrees are constant, so this must be called before {@link #evaluate(Node)}.
+		 * 
+		 * @param node the root of the tree
+		 * @return {@code true} if the tree only contains supported nodes; {@code false} otherwise
+		 */
+		public boolean isSupported(Node node) {
+			return analyze(node) != null;
+		}
+		
+		/**
+		 * Builds the key of the subtree from the keys of its arguments and records if the subtree is constant.
+		 * 
+		 * @param node the root of the subtree
+		 * @return the key of the subtree, or {@code null} if the subtree contains unsupported nodes
+		 */
+		private String analyze(Node node) {
+			StringBuilder sb = new StringBuilder();
+			
+			if (!TreeCompiler.appendNodeKey(sb, node)) {
+				return null;
+			}
+			
+			boolean constant = node.getClass() != Get.class || compiler.getSlot(((Get)node).getVariableName()) < 0;
+			
+			for (int i = 0; i < node.getNumberOfArguments(); i++) {
+				Node argument = node.getArgument(i);
+				String argumentKey = analyze(argument);
+				
+				if (argumentKey == null) {
+					return null;
+				}
+				
+				sb.append(' ');
+				sb.append(argumentKey);
+				constant &= constants.contains(argument);
+			}
+			
+			sb.append(')');
+			
+			String key = sb.toString();
+			keys.put(node, key);
+			
+			if (constant) {
+				constants.add(node);
+			}
+			
+			return key;
+		}
+		
+		/**
+		 * Converts the column produced by the root node into the result.
+		 * 
+		 * @param column the column
+		 * @return the result
+		 * @throws IllegalArgumentException if the column does not contain numbers
+		 */
+		public double[] toResult(Column column) {
+			if (column.isDouble()) {
+				return column.isScratch() ? column.doubles() : column.doubles().clone();
+			} else if (column.isLong()) {
+				double[] result = new double[rows];
+				
+				for (int i = 0; i < rows; i++) {
+					result[i] = column.longs()[i];
+				}
+				
+				scratch.release(column);
+				return result;
+			} else {
+				scratch.release(column);
+				return Validate.that("node", column).fails("Expression must produce a number");
+			}
+		}
+		
+		/**
+		 * Evaluates the node and its arguments.
+		 * 
+		 * @param node the node
+		 * @return the values of the node for every row
+		 * @throws UnsupportedNodeException if the node or its arguments are not supported
+		 */
+		public Column evaluate(Node node) {
+			if (node.getClass() == Get.class) {
+				return evaluateGet((Get)node);
+			} else if (constants.contains(node)) {
+				return evaluateConstant(node);
+			}
+			
+			String key = null;
+			
+			if (cacheSize > 0) {
+				key = protectedFunctions + keys.get(node);
+				
+				synchronized (cache) {
+					Column column = cache.get(key);
+					
+					if (column != null) {
+						return column;
+					}
+				}
+			}
+			
+			Column column = evaluateFunction(node);
+			
+			if (key != null) {
+				synchronized (cache) {
+					if (seen.remove(key) != null) {
+						column = column.share();
+						cache.put(key, column);
+					} else {
+						seen.put(key, Boolean.TRUE);
+					}
+				}
+			}
+			
+			return column;
+		}
+		
+		/**
+		 * Evaluates a subtree that does not read any variables, producing a column with the same value in every row.
+		 * 
+		 * @param node the root of the subtree
+		 * @return the values of the node for every row
+		 * @throws UnsupportedNodeException if the value is not a number or boolean, or evaluating the subtree failed
+		 */
+		private Column evaluateConstant(Node node) {
+			Object value;
+			
+			// without protection, the subtree can throw an exception, such as dividing by zero, which must only be
+			// thrown for rows where this subtree is evaluated, so fall back to evaluating each row
+			try {
+				value = compiler.compile(node).evaluate(new double[data.length]);
+			} catch (ArithmeticException e) {
+				throw new UnsupportedNodeException();
+			}
+			
+			if ((value instanceof Double) || (value instanceof Float)) {
+				double[] result = scratch.nextDoubles();
+				Arrays.fill(result, ((Number)value).doubleValue());
+				return new Column(result, null, null, true);
+			} else if ((value instanceof Long) || (value instanceof Integer) || (value instanceof Short) ||
+					(value instanceof Byte)) {
+				long[] result = scratch.nextLongs();
+				Arrays.fill(result, ((Number)value).longValue());
+				return new Column(null, result, null, true);
+			} else if (value instanceof Boolean) {
+				boolean[] result = scratch.nextBooleans();
+				Arrays.fill(result, (Boolean)value);
+				return new Column(null, null, result, true);
+			} else {
+				throw new UnsupportedNodeException();
+			}
+		}
+		
+		/**
+		 * Evaluates reading a variable, which returns the column from the dataset.
+		 * 
+		 * @param node the node
+		 * @return the values of the node for every row
+		 * @throws UnsupportedNodeException if the variable is not numeric
+		 */
+		private Column evaluateGet(Get node) {
+			int slot = compiler.getSlot(node.getVariableName());
+			
+			if (slot < 0) {
+				return evaluateConstant(node);
+			} else if (node.getReturnType().isAssignableFrom(Double.class)) {
+				return new Column(data[slot], null, null, false);
+			} else {
+				throw new UnsupportedNodeException();
+			}
+		}
+		
+		/**
+		 * Evaluates a node that is not a constant or variable.
+		 * 
+		 * @param node the node
+		 * @return the values of the node for every row
+		 * @throws UnsupportedNodeException if the node or its arguments are not supported
+		 */
+		private Column evaluateFunction(Node node) {
+			Class<?> type = node.getClass();
+			
+			if (type == Add.class) {
+				return evaluateArithmetic(node, Operator.ADD);
+			} else if (type == Subtract.class) {
+				return evaluateArithmetic(node, Operator.SUBTRACT);
+			} else if (type == Multiply.class) {
+				return evaluateArithmetic(node, Operator.MULTIPLY);
+			} else if (type == Divide.class) {
+				return evaluateArithmetic(node, Operator.DIVIDE);
+			} else if (type == Modulus.class) {
+				return evaluateArithmetic(node, Operator.MODULUS);
+			} else if (type == Max.class) {
+				return evaluateArithmetic(node, Operator.MAX);
+			} else if (type == Min.class) {
+				return evaluateArithmetic(node, Operator.MIN);
+			} else if (type == Power.class) {
+				Column a = toDouble(evaluate(node.getArgument(0)));
+				Column b = toDouble(evaluate(node.getArgument(1)));
+				double[] x = a.doubles();
+				double[] y = b.doubles();
+				double[] result = scratch.nextDoubles();
+				
+				for (int i = 0; i < rows; i++) {
+					result[i] = Math.pow(x[i], y[i]);
+				}
+				
+				scratch.release(a);
+				scratch.release(b);
+				return new Column(result, null, null, true);
+			} else if (type == Square.class) {
+				return evaluateFunction(node, a -> Math.pow(a, 2.0));
+			} else if (type == SquareRoot.class) {
+				return evaluateFunction(node, protectedFunctions ?
+						a -> a < 0.0 ? Math.sqrt(Math.abs(a)) : Math.sqrt(a) :
+						Math::sqrt);
+			} else if (type == Abs.class) {
+				return evaluateUnary(node, Math::abs, Math::abs);
+			} else if (type == Floor.class) {
+				return evaluateUnary(node, Math::floor, null);
+			} else if (type == Ceil.class) {
+				return evaluateUnary(node, Math::ceil, null);
+			} else if (type == Sign.class) {
+				return evaluateUnary(node, Math::signum, Long::signum);
+			} else if (type == Round.class) {
+				Column a = evaluate(node.getArgument(0));
+				
+				if (!a.isDouble()) {
+					return toLong(a);
+				}
+				
+				double[] x = a.doubles();
+				long[] result = scratch.nextLongs();
+				
+				for (int i = 0; i < rows; i++) {
+					result[i] = Math.round(x[i]);
+				}
+				
+				scratch.release(a);
+				return new Column(null, result, null, true);
+			} else if (type == Truncate.class) {
+				Truncate truncate = (Truncate)node;
+				double min = truncate.getMin();
+				double max = truncate.getMax();
+				Column a = evaluate(node.getArgument(0));
+				
+				// integer arguments can produce either integer or double values, which is not supported
+				if (!a.isDouble()) {
+					scratch.release(a);
+					throw new UnsupportedNodeException();
+				}
+				
+				double[] x = a.doubles();
+				double[] result = scratch.nextDoubles();
+				
+				for (int i = 0; i < rows; i++) {
+					result[i] = x[i] < min ? min : x[i] > max ? max : x[i];
+				}
+				
+				scratch.release(a);
+				return new Column(result, null, null, true);
+			} else if (type == Exp.class) {
+				return evaluateFunction(node, Math::exp);
+			} else if (type == Log.class) {
+				return evaluateFunction(node, protectedFunctions ?
+						a -> TreeCompiler.protectedLog(a, Math::log) :
+						Math::log);
+			} else if (type == Log10.class) {
+				return evaluateFunction(node, protectedFunctions ?
+						a -> TreeCompiler.protectedLog(a, Math::log10) :
+						Math::log10);
+			} else if (type == Sin.class) {
+				return evaluateFunction(node, Math::sin);
+			} else if (type == Cos.class) {
+				return evaluateFunction(node, Math::cos);
+			} else if (type == Tan.class) {
+				return evaluateFunction(node, Math::tan);
+			} else if (type == Asin.class) {
+				return evaluateFunction(node, Math::asin);
+			} else if (type == Acos.class) {
+				return evaluateFunction(node, Math::acos);
+			} else if (type == Atan.class) {
+				return evaluateFunction(node, Math::atan);
+			} else if (type == Sinh.class) {
+				return evaluateFunction(node, Math::sinh);
+			} else if (type == Cosh.class) {
+				return evaluateFunction(node, Math::cosh);
+			} else if (type == Tanh.class) {
+				return evaluateFunction(node, Math::tanh);
+			} else if (type == Asinh.class) {
+				return evaluateFunction(node, FastMath::asinh);
+			} else if (type == Acosh.class) {
+				return evaluateFunction(node, FastMath::acosh);
+			} else if (type == Atanh.class) {
+				return evaluateFunction(node, FastMath::atanh);
+			} else if (type == Equals.class) {
+				return evaluateComparison(node, (a, b) -> a == b, (a, b) -> a == b);
+			} else if (type == LessThan.class) {
+				return evaluateComparison(node, (a, b) -> a < b, (a, b) -> a < b);
+			} else if (type == LessThanOrEqual.class) {
+				return evaluateComparison(node, (a, b) -> a <= b, (a, b) -> a <= b);
+			} else if (type == GreaterThan.class) {
+				return evaluateComparison(node, (a, b) -> a > b, (a, b) -> a > b);
+			} else if (type == GreaterThanOrEqual.class) {
+				return evaluateComparison(node, (a, b) -> a >= b, (a, b) -> a >= b);
+			} else if (type == And.class) {
+				return evaluateLogic(node, true);
+			} else if (type == Or.class) {
+				return evaluateLogic(node, false);
+			} else if (type == Not.class) {
+				Column a = toBoolean(evaluate(node.getArgument(0)));
+				boolean[] x = a.booleans();
+				boolean[] result = scratch.nextBooleans();
+				
+				for (int i = 0; i < rows; i++) {
+					result[i] = !x[i];
+				}
+				
+				scratch.release(a);
+				return new Column(null, null, result, true);
+			} else if (type == IfElse.class) {
+				return evaluateIfElse(node);
+			} else {
+				throw new UnsupportedNodeException();
+			}
+		}
+		
+		/**
+		 * Evaluates an arithmetic operator, which produces double values if either argument is a double, otherwise
+		 * produces integer values.
+		 * 
+		 * @param node the node
+		 * @param operator the arithmetic operator
+		 * @return the values of the node for every row
+		 * @throws UnsupportedNodeException if the arguments are not supported
+		 */
+		private Column evaluateArithmetic(Node node, Operator operator) {
+			Column a = evaluate(node.getArgument(0));
+			Column b = evaluate(node.getArgument(1));
+			
+			if (a.isDouble() || b.isDouble()) {
+				a = toDouble(a);
+				b = toDouble(b);
+				
+				double[] result = scratch.nextDoubles();
+				apply(operator, a.doubles(), b.doubles(), result);
+				
+				scratch.release(a);
+				scratch.release(b);
+				return new Column(result, null, null, true);
+			} else {
+				a = toLong(a);
+				b = toLong(b);
+				
+				// without protection, dividing by zero throws an exception which would otherwise also be thrown for
+				// rows where this node is not evaluated, such as the branch of an if-else not taken
+				if (!protectedFunctions && ((operator == Operator.DIVIDE) || (operator == Operator.MODULUS))) {
+					scratch.release(a);
+					scratch.release(b);
+					throw new UnsupportedNodeException();
+				}
+				
+				long[] result = scratch.nextLongs();
+				apply(operator, a.longs(), b.longs(), result);
+				
+				scratch.release(a);
+				scratch.release(b);
+				return new Column(null, result, null, true);
+			}
+		}
+		
+		/**
+		 * Applies the arithmetic operator to double values.
+		 * 
+		 * @param operator the arithmetic operator
+		 * @param x the first argument
+		 * @param y the second argument
+		 * @param result the array storing the result
+		 */
+		private void apply(Operator operator, double[] x, double[] y, double[] result) {
+			switch (operator) {
+				case ADD -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = x[i] + y[i];
+					}
+				}
+				case SUBTRACT -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = x[i] - y[i];
+					}
+				}
+				case MULTIPLY -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = x[i] * y[i];
+					}
+				}
+				case DIVIDE -> {
+					if (protectedFunctions) {
+						for (int i = 0; i < rows; i++) {
+							result[i] = Math.abs(y[i]) < Settings.EPS ? 1.0 : x[i] / y[i];
+						}
+					} else {
+						for (int i = 0; i < rows; i++) {
+							result[i] = x[i] / y[i];
+						}
+					}
+				}
+				case MODULUS -> {
+					if (protectedFunctions) {
+						for (int i = 0; i < rows; i++) {
+							result[i] = Math.abs(y[i]) < Settings.EPS ? 0.0 : x[i] % y[i];
+						}
+					} else {
+						for (int i = 0; i < rows; i++) {
+							result[i] = x[i] % y[i];
+						}
+					}
+				}
+				case MAX -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = Math.max(x[i], y[i]);
+					}
+				}
+				case MIN -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = Math.min(x[i], y[i]);
+					}
+				}
+			}
+		}
+		
+		/**
+		 * Applies the arithmetic operator to integer values.  Division and remainder assume protected functions.
+		 * 
+		 * @param operator the arithmetic operator
+		 * @param x the first argument
+		 * @param y the second argument
+		 * @param result the array storing the result
+		 */
+		private void apply(Operator operator, long[] x, long[] y, long[] result) {
+			switch (operator) {
+				case ADD -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = x[i] + y[i];
+					}
+				}
+				case SUBTRACT -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = x[i] - y[i];
+					}
+				}
+				case MULTIPLY -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = x[i] * y[i];
+					}
+				}
+				case DIVIDE -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = y[i] == 0 ? 1L : x[i] / y[i];
+					}
+				}
+				case MODULUS -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = y[i] == 0 ? 0L : x[i] % y[i];
+					}
+				}
+				case MAX -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = Math.max(x[i], y[i]);
+					}
+				}
+				case MIN -> {
+					for (int i = 0; i < rows; i++) {
+						result[i] = Math.min(x[i], y[i]);
+					}
+				}
+			}
+		}
+		
+		/**
+		 * Evaluates a function that always produces double values.
+		 * 
+		 * @param node the node
+		 * @param function the function
+		 * @return the values of the node for every row
+		 * @throws UnsupportedNodeException if the argument is not supported
+		 */
+		private Column evaluateFunction(Node node, DoubleUnaryOperator function) {
+			Column a = toDouble(evaluate(node.getArgument(0)));
+			double[] x = a.doubles();
+			double[] result = scratch.nextDoubles();
+			
+			for (int i = 0; i < rows; i++) {
+				result[i] = function.applyAsDouble(x[i]);
+			}
+			
+			scratch.release(a);
+			return new Column(result, null, null, true);
+		}
+		
+		/**
+		 * Evaluates a function that produces the same type of values as its argument.
+		 * 
+		 * @param node the node
+		 * @param doubleFunction the function on double values
+		 * @param longFunction the function on integer values, or {@code null} if the function does not change
+		 *        integer values
+		 * @return the values of the node for every row
+		 * @throws UnsupportedNodeException if the argument is not supported
+		 */
+		private Column evaluateUnary(Node node, DoubleUnaryOperator doubleFunction, LongUnaryOperator longFunction) {
+			Column a = evaluate(node.getArgument(0));
+			
+			if (a.isDouble()) {
+				double[] x = a.doubles();
+				double[] result = scratch.nextDoubles();
+				
+				for (int i = 0; i < rows; i++) {
+					result[i] = doubleFunction.applyAsDouble(x[i]);
+				}
+				
+				scratch.release(a);
+				return new Column(result, null, null, true);
+			}
+			
+			a = toLong(a);
+			
+			if (longFunction == null) {
+				return a;
+			}
+			
+			long[] x = a.longs();
+			long[] result = scratch.nextLongs();
+			
+			for (int i = 0; i < rows; i++) {
+				result[i] = longFunction.applyAsLong(x[i]);
+			}
+			
+			scratch.release(a);
+			return new Column(null, result, null, true);
+		}
+		
+		/**
+		 * Evaluates a comparison, which compares double values if either argument is a double, otherwise compares
+		 * integer values.
+		 * 
+		 * @param node the node
+		 * @param doubleComparison the comparison of double values
+		 * @param longComparison the comparison of integer values
+		 * @return the values of the node for every row
+		 * @throws UnsupportedNodeException if the arguments are not supported
+		 */
+		private Column evaluateComparison(Node node, DoubleComparison doubleComparison,
+				LongComparison longComparison) {
+			Column a = evaluate(node.getArgument(0));
+			Column b = evaluate(node.getArgument(1));
+			boolean[] result = scratch.nextBooleans();
+			
+			if (a.isDouble() || b.isDouble()) {
+				a = toDouble(a);
+				b = toDouble(b);
+				double[] x = a.doubles();
+				double[] y = b.doubles();
+				
+				for (int i = 0; i < rows; i++) {
+					result[i] = doubleComparison.test(x[i], y[i]);
+				}
+			} else {
+				a = toLong(a);
+				b = toLong(b);
+				long[] x = a.longs();
+				long[] y = b.longs();
+				
+				for (int i = 0; i < rows; i++) {
+					result[i] = longComparison.test(x[i], y[i]);
+				}
+			}
+			
+			scratch.release(a);
+			scratch.release(b);
+			return new Column(null, null, result, true);
+		}
+		
+		/**
+		 * Evaluates a logical and or or.  Since evaluating a node has no side effects, both arguments are evaluated
+		 * for every row.
+		 * 
+		 * @param node the node
+		 * @param isAnd {@code true} to compute the logical and; {@code false} to compute the logical or
+		 * @return the values of the node for every row
+		 * @throws UnsupportedNodeException if the arguments are not supported
+		 */
+		private Column evaluateLogic(Node node, boolean isAnd) {
+			Column a = toBoolean(evaluate(node.getArgument(0)));
+			Column b = toBoolean(evaluate(node.getArgument(1)));
+			boolean[] x = a.booleans();
+			boolean[] y = b.booleans();
+			boolean[] result = scratch.nextBooleans();
+			
+			if (isAnd) {
+				for (int i = 0; i < rows; i++) {
+					result[i] = x[i] && y[i];
+				}
+			} else {
+				for (int i = 0; i < rows; i++) {
+					result[i] = x[i] || y[i];
+				}
+			}
+			
+			scratch.release(a);
+			scratch.release(b);
+			return new Column(null, null, result, true);
+		}
+		
+		/**
+		 * Evaluates a conditional expression.  Both branches are evaluated for every row and must produce the same
+		 * type of value.
+		 * 
+		 * @param node the node
+		 * @return the values of the node for every row
+		 * @throws UnsupportedNodeException if the arguments are not supported
+		 */
+		private Column evaluateIfElse(Node node) {
+			Column condition = toBoolean(evaluate(node.getArgument(0)));
+			Column a = evaluate(node.getArgument(1));
+			Column b = evaluate(node.getArgument(2));
+			boolean[] c = condition.booleans();
+			Column result;
+			
+			if (a.isDouble() && b.isDouble()) {
+				double[] x = a.doubles();
+				double[] y = b.doubles();
+				double[] z = scratch.nextDoubles();
+				
+				for (int i = 0; i < rows; i++) {
+					z[i] = c[i] ? x[i] : y[i];
+				}
+				
+				result = new Column(z, null, null, true);
+			} else if (a.isLong() && b.isLong()) {
+				long[] x = a.longs();
+				long[] y = b.longs();
+				long[] z = scratch.nextLongs();
+				
+				for (int i = 0; i < rows; i++) {
+					z[i] = c[i] ? x[i] : y[i];
+				}
+				
+				result = new Column(null, z, null, true);
+			} else if (a.isBoolean() && b.isBoolean()) {
+				boolean[] x = a.booleans();
+				boolean[] y = b.booleans();
+				boolean[] z = scratch.nextBooleans();
+				
+				for (int i = 0; i < rows; i++) {
+					z[i] = c[i] ? x[i] : y[i];
+				}
+				
+				result = new Column(null, null, z, true);
+			} else {
+				result = null;
+			}
+			
+			scratch.release(condition);
+			scratch.release(a);
+			scratch.release(b);
+			
+			if (result == null) {
+				throw new UnsupportedNodeException();
+			}
+			
+			return result;
+		}
+		
+		/**
+		 * Converts the column to double values, releasing the original column if converted.
+		 * 
+		 * @param column the column
+		 * @return the column containing double values
+		 * @throws UnsupportedNodeException if the column does not contain numbers
+		 */
+		private Column toDouble(Column column) {
+			if (column.isDouble()) {
+				return column;
+			}
+			
+			long[] x = toLong(column).longs();
+			double[] result = scratch.nextDoubles();
+			
+			for (int i = 0; i < rows; i++) {
+				result[i] = x[i];
+			}
+			
+			scratch.release(column);
+			return new Column(result, null, null, true);
+		}
+		
+		/**
+		 * Validates that the column contains integer values.
+		 * 
+		 * @param column the column
+		 * @return the column
+		 * @throws UnsupportedNodeException if the column does not contain integer values
+		 */
+		private Column toLong(Column column) {
+			if (!column.isLong()) {
+				scratch.release(column);
+				throw new UnsupportedNodeException();
+			}
+			
+			return column;
+		}
+		
+		/**
+		 * Validates that the column contains boolean values.
+		 * 
+		 * @param column the column
+		 * @return the column
+		 * @throws UnsupportedNodeException if the column does not contain boolean values
+		 */
+		private Column toBoolean(Column column) {
+			if (!column.isBoolean()) {
+				scratch.release(column);
+				throw new UnsupportedNodeException();
+			}
+			
+			return column;
+		}
+	
+	}
+
+}
@@ -0,0 +1,146 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.tree;
+
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * An expression tree compiled by {@link TreeCompiler}.  The values of the variables are passed as an array of doubles,
+ * where the {@code i}-th value is assigned to the {@code i}-th variable given to the compiler.  Compiled expressions
+ * are immutable and can be evaluated concurrently by multiple threads.
+ * <p>
+ * Compiled expressions produce the same results as evaluating the tree with {@link Node#evaluate(Environment)}, where
+ * the environment contains each variable as a {@link Double}.  The only exception is that integer results are always
+ * returned as a {@link Long}.
+ */
+public class CompiledExpression {
+	
+	/**
+	 * The names of the variables.
+	 */
+	private final String[] variableNames;
+	
+	/**
+	 * The compiled expression if it produces a double value, otherwise {@code null}.
+	 */
+	private final ToDoubleFunction<double[]> doubleFunction;
+	
+	/**
+	 * The compiled expression if it produces an integer value, otherwise {@code null}.
+	 */
+	private final ToLongFunction<double[]> longFunction;
+	
+	/**
+	 * The compiled expression if it produces a boolean value, otherwise {@code null}.
+	 */
+	private final Predicate<double[]> booleanFunction;
+	
+	/**
+	 * The expression tree if it is interpreted, otherwise {@code null}.
+	 */
+	private final Node node;
+	
+	/**
+	 * Constructs a new compiled expression.  Exactly one of the functions or node must be non-null.
+	 * 
+	 * @param variableNames the names of the variables
+	 * @param doubleFunction the compiled expression if it produces a double value
+	 * @param longFunction the compiled expression if it produces an integer value
+	 * @param booleanFunction the compiled expression if it produces a boolean value
+	 * @param node the expression tree if it is interpreted
+	 */
+	CompiledExpression(String[] variableNames, ToDoubleFunction<double[]> doubleFunction,
+			ToLongFunction<double[]> longFunction, Predicate<double[]> booleanFunction, Node node) {
+		super();
+		this.variableNames = variableNames;
+		this.doubleFunction = doubleFunction;
+		this.longFunction = longFunction;
+		this.booleanFunction = booleanFunction;
+		this.node = node;
+	}
+	
+	/**
+	 * Returns the number of variables, which must match the number of values passed when evaluating this expression.
+	 * 
+	 * @return the number of variables
+	 */
+	public int getNumberOfVariables() {
+		return variableNames.length;
+	}
+	
+	/**
+	 * Returns {@code true} if this expression contains nodes that are not supported by the compiler, and is instead
+	 * evaluated by {@link Node#evaluate(Environment)}.
+	 * 
+	 * @return {@code true} if this expression is interpreted; {@code false} otherwise
+	 */
+	public boolean isInterpreted() {
+		return node != null;
+	}
+	
+	/**
+	 * Evaluates this expression.
+	 * 
+	 * @param arguments the values of the variables
+	 * @return the result of evaluating this expression
+	 */
+	public Object evaluate(double... arguments) {
+		Validate.that("arguments.length", arguments.length).isEqualTo(variableNames.length);
+		
+		if (doubleFunction != null) {
+			return doubleFunction.applyAsDouble(arguments);
+		} else if (longFunction != null) {
+			return longFunction.applyAsLong(arguments);
+		} else if (booleanFunction != null) {
+			return booleanFunction.test(arguments);
+		} else {
+			Environment environment = new Environment();
+			
+			for (int i = 0; i < variableNames.length; i++) {
+				environment.set(variableNames[i], arguments[i]);
+			}
+			
+			return node.evaluate(environment);
+		}
+	}
+	
+	/**
+	 * Evaluates this expression, converting the numeric result into a double.  Unlike {@link #evaluate(double...)},
+	 * this avoids boxing the result.
+	 * 
+	 * @param arguments the values of the variables
+	 * @return the result of evaluating this expression
+	 * @throws ClassCastException if the result is not a number
+	 */
+	public double evaluateDouble(double... arguments) {
+		if (doubleFunction != null) {
+			Validate.that("arguments.length", arguments.length).isEqualTo(variableNames.length);
+			return doubleFunction.applyAsDouble(arguments);
+		} else if (longFunction != null) {
+			Validate.that("arguments.length", arguments.length).isEqualTo(variableNames.length);
+			return longFunction.applyAsLong(arguments);
+		} else {
+			return ((Number)evaluate(arguments)).doubleValue();
+		}
+	}
+
+}
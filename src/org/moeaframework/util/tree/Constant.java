@@ -82,6 +82,15 @@ public class Constant extends Node {
 		this.value = value;
 	}
 	
+	/**
+	 * Returns the constant value.
+	 * 
+	 * @return the constant value
+	 */
+	public Object getValue() {
+		return value;
+	}
+	
 	@Override
 	public Constant copyNode() {
 		return new Constant(getReturnType(), value);
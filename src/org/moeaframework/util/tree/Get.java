@@ -61,6 +61,15 @@ public class Get extends Node {
 		this.name = name;
 	}
 
+	/**
+	 * Returns the name of the variable.
+	 * 
+	 * @return the name of the variable
+	 */
+	public String getVariableName() {
+		return name;
+	}
+
 	@Override
 	public Get copyNode() {
 		return new Get(getReturnType(), name);
@@ -0,0 +1,782 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.tree;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.commons.math3.util.FastMath;
+import org.moeaframework.core.Settings;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Compiles expression trees so they can be evaluated efficiently, for example when evaluating the same program over
+ * many rows of data in symbolic regression.  Evaluating a tree with {@link Node#evaluate(Environment)} boxes every
+ * intermediate value, checks the numeric types at runtime, and looks up variables by name.  Instead, the compiler
+ * determines the type of each node when the tree is compiled and produces a tree of functions operating on primitive
+ * {@code double}, {@code long}, and {@code boolean} values, where variables are read from an array by index.
+ * <p>
+ * The compiler supports constants, variables read with {@link Get}, and the arithmetic, trigonometric, and logical
+ * nodes including {@link IfElse}.  Trees containing any other nodes, such as {@link Set}, loops, {@link Lambda}, or
+ * {@link Call}, or nodes whose type can not be determined when compiling, are evaluated using
+ * {@link Node#evaluate(Environment)} instead.  The setting {@link Settings#isProtectedFunctions()} is also read when
+ * compiling a tree.
+ * <p>
+ * Compiled expressions are cached by the structure of the tree, so compiling a copy of a tree returns the previously
+ * compiled expression.  This class is thread safe.
+ */
+public class TreeCompiler {
+	
+	/**
+	 * The default number of compiled expressions stored in the cache.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 1000;
+	
+	/**
+	 * The nodes supported by this compiler.  Subclasses of these nodes are not supported since they could override
+	 * {@link Node#evaluate(Environment)}.
+	 */
+	private static final List<Class<? extends Node>> SUPPORTED_NODES = List.of(
+			Constant.class, Get.class, Add.class, Subtract.class, Multiply.class, Divide.class, Modulus.class,
+			Max.class, Min.class, Power.class, Square.class, SquareRoot.class, Abs.class, Floor.class, Ceil.class,
+			Round.class, Sign.class, Truncate.class, Exp.class, Log.class, Log10.class, Sin.class, Cos.class, Tan.class,
+			Asin.class, Acos.class, Atan.class, Sinh.class, Cosh.class, Tanh.class, Asinh.class, Acosh.class,
+			Atanh.class, Equals.class, LessThan.class, LessThanOrEqual.class, GreaterThan.class,
+			GreaterThanOrEqual.class, And.class, Or.class, Not.class, IfElse.class);
+	
+	/**
+	 * The names of the variables.
+	 */
+	private final String[] variableNames;
+	
+	/**
+	 * Mapping from variable names to their index in the arguments.
+	 */
+	private final Map<String, Integer> slots;
+	
+	/**
+	 * The maximum number of compiled expressions stored in the cache.
+	 */
+	private final int cacheSize;
+	
+	/**
+	 * The cache of compiled expressions, keyed by the structure of the tree.
+	 */
+	private final Map<String, CompiledExpression> cache;
+	
+	/**
+	 * Constructs a new compiler with the default cache size.
+	 * 
+	 * @param variableNames the names of the variables, in the order their values are passed when evaluating the
+	 *        compiled expressions
+	 */
+	public TreeCompiler(String... variableNames) {
+		this(DEFAULT_CACHE_SIZE, variableNames);
+	}
+	
+	/**
+	 * Constructs a new compiler.
+	 * 
+	 * @param cacheSize the maximum number of compiled expressions stored in the cache
+	 * @param variableNames the names of the variables, in the order their values are passed when evaluating the
+	 *        compiled expressions
+	 */
+	public TreeCompiler(int cacheSize, String... variableNames) {
+		super();
+		Validate.that("cacheSize", cacheSize).isGreaterThanOrEqualTo(0);
+		
+		this.cacheSize = cacheSize;
+		this.variableNames = variableNames.clone();
+		
+		slots = new HashMap<>();
+		
+		for (int i = 0; i < variableNames.length; i++) {
+			if (slots.put(variableNames[i], i) != null) {
+				Validate.that("variableNames", variableNames).fails("Duplicate variable " + variableNames[i]);
+			}
+		}
+		
+		cache = new LinkedHashMap<>(16, 0.75f, true) {
+			
+			private static final long serialVersionUID = 2978451196604783625L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CompiledExpression> eldest) {
+				return size() > TreeCompiler.this.cacheSize;
+			}
+		
+		};
+	}
+	
+	/**
+	 * Returns the names of the variables.
+	 * 
+	 * @return the names of the variables
+	 */
+	public String[] getVariableNames() {
+		return variableNames.clone();
+	}
+	
+	/**
+	 * Returns the index of the variable in the arguments.
+	 * 
+	 * @param variableName the name of the variable
+	 * @return the index of the variable, or {@code -1} if the variable is not defined
+	 */
+	int getSlot(String variableName) {
+		Integer slot = slots.get(variableName);
+		return slot == null ? -1 : slot;
+	}
+	
+	/**
+	 * Returns the maximum number of compiled expressions stored in the cache.
+	 * 
+	 * @return the maximum number of compiled expressions stored in the cache
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+	
+	/**
+	 * Removes all compiled expressions from the cache.
+	 */
+	public void clearCache() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+	
+	/**
+	 * Compiles the expression tree.  The tree can be modified after compiling without affecting the compiled
+	 * expression.
+	 * 
+	 * @param node the root of the expression tree
+	 * @return the compiled expression
+	 */
+	public CompiledExpression compile(Node node) {
+		boolean protectedFunctions = Settings.isProtectedFunctions();
+		StringBuilder key = new StringBuilder();
+		key.append(protectedFunctions);
+		
+		if (!appendKey(key, node)) {
+			return new CompiledExpression(variableNames, null, null, null, node.copyTree());
+		}
+		
+		synchronized (cache) {
+			CompiledExpression result = cache.get(key.toString());
+			
+			if (result != null) {
+				return result;
+			}
+		}
+		
+		CompiledExpression result;
+		
+		try {
+			Compiled compiled = new Builder(protectedFunctions).compile(node);
+			result = new CompiledExpression(variableNames, compiled.doubleFunction(), compiled.longFunction(),
+					compiled.booleanFunction(), null);
+		} catch (UnsupportedNodeException e) {
+			result = new CompiledExpression(variableNames, null, null, null, node.copyTree());
+		}
+		
+		synchronized (cache) {
+			cache.put(key.toString(), result);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Appends a string uniquely identifying the structure of the tree to the cache key.
+	 * 
+	 * @param key the cache key
+	 * @param node the current node
+	 * @return {@code true} if successful; {@code false} if the tree contains unsupported nodes
+	 */
+	static boolean appendKey(StringBuilder key, Node node) {
+		if (!appendNodeKey(key, node)) {
+			return false;
+		}
+		
+		for (int i = 0; i < node.getNumberOfArguments(); i++) {
+			key.append(' ');
+			
+			if (!appendKey(key, node.getArgument(i))) {
+				return false;
+			}
+		}
+		
+		key.append(')');
+		return true;
+	}
+	
+	/**
+	 * Appends the part of the cache key identifying the node itself.  The caller must append the key of each argument,
+	 * each preceded by a space, followed by a closing parenthesis.
+	 * 
+	 * @param key the cache key
+	 * @param node the current node
+	 * @return {@code true} if successful; {@code false} if the node is not supported
+	 */
+	static boolean appendNodeKey(StringBuilder key, Node node) {
+		if ((node == null) || !SUPPORTED_NODES.contains(node.getClass())) {
+			return false;
+		}
+		
+		key.append('(');
+		key.append(node.getClass().getSimpleName());
+		key.append(' ');
+		key.append(node.getReturnType().getName());
+		
+		if (node instanceof Constant constant) {
+			if (constant.getValue() == null) {
+				return false;
+			}
+			
+			key.append(' ');
+			key.append(constant.getValue().getClass().getName());
+			key.append(' ');
+			key.append(constant.getValue());
+		} else if (node instanceof Get get) {
+			key.append(' ');
+			key.append(get.getVariableName().length());
+			key.append(':');
+			key.append(get.getVariableName());
+		} else if (node instanceof Truncate truncate) {
+			key.append(' ');
+			key.append(truncate.getMin());
+			key.append(' ');
+			key.append(truncate.getMax());
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * A compiled node, where exactly one of the functions is non-null depending on the type of value produced.
+	 * 
+	 * @param doubleFunction the function if the node produces a double value
+	 * @param longFunction the function if the node produces an integer value
+	 * @param booleanFunction the function if the node produces a boolean value
+	 */
+	private record Compiled(ToDoubleFunction<double[]> doubleFunction, ToLongFunction<double[]> longFunction,
+			Predicate<double[]> booleanFunction) {
+		
+		/**
+		 * Creates a compiled node producing a double value.
+		 * 
+		 * @param function the function
+		 * @return the compiled node
+		 */
+		public static Compiled ofDouble(ToDoubleFunction<double[]> function) {
+			return new Compiled(function, null, null);
+		}
+		
+		/**
+		 * Creates a compiled node producing an integer value.
+		 * 
+		 * @param function the function
+		 * @return the compiled node
+		 */
+		public static Compiled ofLong(ToLongFunction<double[]> function) {
+			return new Compiled(null, function, null);
+		}
+		
+		/**
+		 * Creates a compiled node producing a boolean value.
+		 * 
+		 * @param function the function
+		 * @return the compiled node
+		 */
+		public static Compiled ofBoolean(Predicate<double[]> function) {
+			return new Compiled(null, null, function);
+		}
+		
+		/**
+		 * Returns {@code true} if this node produces a double value.
+		 * 
+		 * @return {@code true} if this node produces a double value; {@code false} otherwise
+		 */
+		public boolean isDouble() {
+			return doubleFunction != null;
+		}
+		
+		/**
+		 * Returns {@code true} if this node produces an integer value.
+		 * 
+		 * @return {@code true} if this node produces an integer value; {@code false} otherwise
+		 */
+		public boolean isLong() {
+			return longFunction != null;
+		}
+		
+		/**
+		 * Returns {@code true} if this node produces a boolean value.
+		 * 
+		 * @return {@code true} if this node produces a boolean value; {@code false} otherwise
+		 */
+		public boolean isBoolean() {
+			return booleanFunction != null;
+		}
+		
+		/**
+		 * Returns the function converting the numeric value produced by this node into a double.
+		 * 
+		 * @return the function
+		 * @throws UnsupportedNodeException if this node does not produce a numeric value
+		 */
+		public ToDoubleFunction<double[]> asDouble() {
+			if (doubleFunction != null) {
+				return doubleFunction;
+			} else if (longFunction != null) {
+				ToLongFunction<double[]> function = longFunction;
+				return arguments -> function.applyAsLong(arguments);
+			} else {
+				throw new UnsupportedNodeException();
+			}
+		}
+		
+		/**
+		 * Returns the function producing the integer value.
+		 * 
+		 * @return the function
+		 * @throws UnsupportedNodeException if this node does not produce an integer value
+		 */
+		public ToLongFunction<double[]> asLong() {
+			if (longFunction == null) {
+				throw new UnsupportedNodeException();
+			}
+			
+			return longFunction;
+		}
+		
+		/**
+		 * Returns the function producing the boolean value.
+		 * 
+		 * @return the function
+		 * @throws UnsupportedNodeException if this node does not produce a boolean value
+		 */
+		public Predicate<double[]> asBoolean() {
+			if (booleanFunction == null) {
+				throw new UnsupportedNodeException();
+			}
+			
+			return booleanFunction;
+		}
+	
+	}
+	
+	/**
+	 * Compares two double values.
+	 */
+	@FunctionalInterface
+	interface DoubleComparison {
+		
+		/**
+		 * Compares two double values.
+		 * 
+		 * @param a the first value
+		 * @param b the second value
+		 * @return the result of the comparison
+		 */
+		public boolean test(double a, double b);
+	
+	}
+	
+	/**
+	 * Compares two integer values.
+	 */
+	@FunctionalInterface
+	interface LongComparison {
+		
+		/**
+		 * Compares two integer values.
+		 * 
+		 * @param a the first value
+		 * @param b the second value
+		 * @return the result of the comparison
+		 */
+		public boolean test(long a, long b);
+	
+	}
+	
+	/**
+	 * Thrown when compiling a node that is not supported, or whose arguments have unsupported types.
+	 */
+	static class UnsupportedNodeException extends RuntimeException {
+		
+		private static final long serialVersionUID = -2291562811012385530L;
+		
+		/**
+		 * Constructs a new exception.
+		 */
+		public UnsupportedNodeException() {
+			super();
+		}
+	
+	}
+	
+	/**
+	 * Compiles a single tree.
+	 */
+	private class Builder {
+		
+		/**
+		 * {@code true} if protected functions are used.
+		 */
+		private final boolean protectedFunctions;
+		
+		/**
+		 * Constructs a new builder.
+		 * 
+		 * @param protectedFunctions {@code true} if protected functions are used
+		 */
+		public Builder(boolean protectedFunctions) {
+			super();
+			this.protectedFunctions = protectedFunctions;
+		}
+		
+		/**
+		 * Compiles the node and its arguments.
+		 * 
+		 * @param node the node
+		 * @return the compiled node
+		 * @throws UnsupportedNodeException if the node or its arguments are not supported
+		 */
+		public Compiled compile(Node node) {
+			Class<?> type = node.getClass();
+			
+			if (type == Constant.class) {
+				return compileConstant(((Constant)node).getValue());
+			} else if (type == Get.class) {
+				return compileGet((Get)node);
+			} else if (type == Add.class) {
+				return compileArithmetic(node, (a, b) -> a + b, (a, b) -> a + b);
+			} else if (type == Subtract.class) {
+				return compileArithmetic(node, (a, b) -> a - b, (a, b) -> a - b);
+			} else if (type == Multiply.class) {
+				return compileArithmetic(node, (a, b) -> a * b, (a, b) -> a * b);
+			} else if (type == Divide.class) {
+				return protectedFunctions ?
+						compileArithmetic(node,
+								(a, b) -> Math.abs(b) < Settings.EPS ? 1.0 : a / b,
+								(a, b) -> b == 0 ? 1L : a / b) :
+						compileArithmetic(node, (a, b) -> a / b, (a, b) -> a / b);
+			} else if (type == Modulus.class) {
+				return protectedFunctions ?
+						compileArithmetic(node,
+								(a, b) -> Math.abs(b) < Settings.EPS ? 0.0 : a % b,
+								(a, b) -> b == 0 ? 0L : a % b) :
+						compileArithmetic(node, (a, b) -> a % b, (a, b) -> a % b);
+			} else if (type == Max.class) {
+				return compileArithmetic(node, Math::max, Math::max);
+			} else if (type == Min.class) {
+				return compileArithmetic(node, Math::min, Math::min);
+			} else if (type == Power.class) {
+				ToDoubleFunction<double[]> a = compile(node.getArgument(0)).asDouble();
+				ToDoubleFunction<double[]> b = compile(node.getArgument(1)).asDouble();
+				return Compiled.ofDouble(x -> Math.pow(a.applyAsDouble(x), b.applyAsDouble(x)));
+			} else if (type == Square.class) {
+				return compileFunction(node, a -> Math.pow(a, 2.0));
+			} else if (type == SquareRoot.class) {
+				return compileFunction(node, protectedFunctions ?
+						a -> a < 0.0 ? Math.sqrt(Math.abs(a)) : Math.sqrt(a) :
+						Math::sqrt);
+			} else if (type == Abs.class) {
+				return compileUnary(node, Math::abs, Math::abs);
+			} else if (type == Floor.class) {
+				return compileUnary(node, Math::floor, a -> a);
+			} else if (type == Ceil.class) {
+				return compileUnary(node, Math::ceil, a -> a);
+			} else if (type == Sign.class) {
+				return compileUnary(node, Math::signum, Long::signum);
+			} else if (type == Round.class) {
+				Compiled a = compile(node.getArgument(0));
+				
+				if (a.isDouble()) {
+					ToDoubleFunction<double[]> f = a.doubleFunction();
+					return Compiled.ofLong(x -> Math.round(f.applyAsDouble(x)));
+				} else {
+					return Compiled.ofLong(a.asLong());
+				}
+			} else if (type == Truncate.class) {
+				Truncate truncate = (Truncate)node;
+				double min = truncate.getMin();
+				double max = truncate.getMax();
+				Compiled a = compile(node.getArgument(0));
+				
+				// integer arguments can produce either integer or double values, which is not supported
+				if (!a.isDouble()) {
+					throw new UnsupportedNodeException();
+				}
+				
+				ToDoubleFunction<double[]> f = a.doubleFunction();
+				
+				return Compiled.ofDouble(x -> {
+					double value = f.applyAsDouble(x);
+					return value < min ? min : value > max ? max : value;
+				});
+			} else if (type == Exp.class) {
+				return compileFunction(node, Math::exp);
+			} else if (type == Log.class) {
+				return compileFunction(node, protectedFunctions ? a -> protectedLog(a, Math::log) : Math::log);
+			} else if (type == Log10.class) {
+				return compileFunction(node, protectedFunctions ? a -> protectedLog(a, Math::log10) : Math::log10);
+			} else if (type == Sin.class) {
+				return compileFunction(node, Math::sin);
+			} else if (type == Cos.class) {
+				return compileFunction(node, Math::cos);
+			} else if (type == Tan.class) {
+				return compileFunction(node, Math::tan);
+			} else if (type == Asin.class) {
+				return compileFunction(node, Math::asin);
+			} else if (type == Acos.class) {
+				return compileFunction(node, Math::acos);
+			} else if (type == Atan.class) {
+				return compileFunction(node, Math::atan);
+			} else if (type == Sinh.class) {
+				return compileFunction(node, Math::sinh);
+			} else if (type == Cosh.class) {
+				return compileFunction(node, Math::cosh);
+			} else if (type == Tanh.class) {
+				return compileFunction(node, Math::tanh);
+			} else if (type == Asinh.class) {
+				return compileFunction(node, FastMath::asinh);
+			} else if (type == Acosh.class) {
+				return compileFunction(node, FastMath::acosh);
+			} else if (type == Atanh.class) {
+				return compileFunction(node, FastMath::atanh);
+			} else if (type == Equals.class) {
+				return compileComparison(node, (a, b) -> a == b, (a, b) -> a == b);
+			} else if (type == LessThan.class) {
+				return compileComparison(node, (a, b) -> a < b, (a, b) -> a < b);
+			} else if (type == LessThanOrEqual.class) {
+				return compileComparison(node, (a, b) -> a <= b, (a, b) -> a <= b);
+			} else if (type == GreaterThan.class) {
+				return compileComparison(node, (a, b) -> a > b, (a, b) -> a > b);
+			} else if (type == GreaterThanOrEqual.class) {
+				return compileComparison(node, (a, b) -> a >= b, (a, b) -> a >= b);
+			} else if (type == And.class) {
+				Predicate<double[]> a = compile(node.getArgument(0)).asBoolean();
+				Predicate<double[]> b = compile(node.getArgument(1)).asBoolean();
+				return Compiled.ofBoolean(x -> a.test(x) && b.test(x));
+			} else if (type == Or.class) {
+				Predicate<double[]> a = compile(node.getArgument(0)).asBoolean();
+				Predicate<double[]> b = compile(node.getArgument(1)).asBoolean();
+				return Compiled.ofBoolean(x -> a.test(x) || b.test(x));
+			} else if (type == Not.class) {
+				Predicate<double[]> a = compile(node.getArgument(0)).asBoolean();
+				return Compiled.ofBoolean(x -> !a.test(x));
+			} else if (type == IfElse.class) {
+				return compileIfElse(node);
+			} else {
+				throw new UnsupportedNodeException();
+			}
+		}
+		
+		/**
+		 * Compiles a constant value.
+		 * 
+		 * @param value the constant value
+		 * @return the compiled node
+		 * @throws UnsupportedNodeException if the value is not a number or boolean
+		 */
+		private Compiled compileConstant(Object value) {
+			if ((value instanceof Double) || (value instanceof Float)) {
+				double constant = ((Number)value).doubleValue();
+				return Compiled.ofDouble(x -> constant);
+			} else if ((value instanceof Long) || (value instanceof Integer) || (value instanceof Short) ||
+					(value instanceof Byte)) {
+				long constant = ((Number)value).longValue();
+				return Compiled.ofLong(x -> constant);
+			} else if (value instanceof Boolean) {
+				boolean constant = (Boolean)value;
+				return Compiled.ofBoolean(x -> constant);
+			} else {
+				throw new UnsupportedNodeException();
+			}
+		}
+		
+		/**
+		 * Compiles reading a variable.  Variables that are not known to the compiler are never set, so always produce
+		 * the default value.
+		 * 
+		 * @param node the node
+		 * @return the compiled node
+		 * @throws UnsupportedNodeException if the variable is not numeric
+		 */
+		private Compiled compileGet(Get node) {
+			Integer slot = slots.get(node.getVariableName());
+			
+			if (slot == null) {
+				return compileConstant(node.getDefaultValue());
+			} else if (node.getReturnType().isAssignableFrom(Double.class)) {
+				int index = slot;
+				return Compiled.ofDouble(x -> x[index]);
+			} else {
+				throw new UnsupportedNodeException();
+			}
+		}
+		
+		/**
+		 * Compiles an arithmetic operation, which produces a double value if either argument is a double, otherwise
+		 * produces an integer value.
+		 * 
+		 * @param node the node
+		 * @param doubleOperator the operation on double values
+		 * @param longOperator the operation on integer values
+		 * @return the compiled node
+		 * @throws UnsupportedNodeException if the arguments are not supported
+		 */
+		private Compiled compileArithmetic(Node node, DoubleBinaryOperator doubleOperator,
+				LongBinaryOperator longOperator) {
+			Compiled a = compile(node.getArgument(0));
+			Compiled b = compile(node.getArgument(1));
+			
+			if (a.isDouble() || b.isDouble()) {
+				ToDoubleFunction<double[]> f = a.asDouble();
+				ToDoubleFunction<double[]> g = b.asDouble();
+				return Compiled.ofDouble(x -> doubleOperator.applyAsDouble(f.applyAsDouble(x), g.applyAsDouble(x)));
+			} else {
+				ToLongFunction<double[]> f = a.asLong();
+				ToLongFunction<double[]> g = b.asLong();
+				return Compiled.ofLong(x -> longOperator.applyAsLong(f.applyAsLong(x), g.applyAsLong(x)));
+			}
+		}
+		
+		/**
+		 * Compiles a comparison, which compares double values if either argument is a double, otherwise compares
+		 * integer values.
+		 * 
+		 * @param node the node
+		 * @param doubleComparison the comparison of double values
+		 * @param longComparison the comparison of integer values
+		 * @return the compiled node
+		 * @throws UnsupportedNodeException if the arguments are not supported
+		 */
+		private Compiled compileComparison(Node node, DoubleComparison doubleComparison,
+				LongComparison longComparison) {
+			Compiled a = compile(node.getArgument(0));
+			Compiled b = compile(node.getArgument(1));
+			
+			if (a.isDouble() || b.isDouble()) {
+				ToDoubleFunction<double[]> f = a.asDouble();
+				ToDoubleFunction<double[]> g = b.asDouble();
+				return Compiled.ofBoolean(x -> doubleComparison.test(f.applyAsDouble(x), g.applyAsDouble(x)));
+			} else {
+				ToLongFunction<double[]> f = a.asLong();
+				ToLongFunction<double[]> g = b.asLong();
+				return Compiled.ofBoolean(x -> longComparison.test(f.applyAsLong(x), g.applyAsLong(x)));
+			}
+		}
+		
+		/**
+		 * Compiles a function that always produces a double value.
+		 * 
+		 * @param node the node
+		 * @param operator the function
+		 * @return the compiled node
+		 * @throws UnsupportedNodeException if the argument is not supported
+		 */
+		private Compiled compileFunction(Node node, DoubleUnaryOperator operator) {
+			ToDoubleFunction<double[]> f = compile(node.getArgument(0)).asDouble();
+			return Compiled.ofDouble(x -> operator.applyAsDouble(f.applyAsDouble(x)));
+		}
+		
+		/**
+		 * Compiles a function that produces the same type of value as its argument.
+		 * 
+		 * @param node the node
+		 * @param doubleOperator the function on double values
+		 * @param longOperator the function on integer values
+		 * @return the compiled node
+		 * @throws UnsupportedNodeException if the argument is not supported
+		 */
+		private Compiled compileUnary(Node node, DoubleUnaryOperator doubleOperator, LongUnaryOperator longOperator) {
+			Compiled a = compile(node.getArgument(0));
+			
+			if (a.isDouble()) {
+				ToDoubleFunction<double[]> f = a.doubleFunction();
+				return Compiled.ofDouble(x -> doubleOperator.applyAsDouble(f.applyAsDouble(x)));
+			} else {
+				ToLongFunction<double[]> f = a.asLong();
+				return Compiled.ofLong(x -> longOperator.applyAsLong(f.applyAsLong(x)));
+			}
+		}
+		
+		/**
+		 * Compiles a conditional expression.  Both branches must produce the same type of value.
+		 * 
+		 * @param node the node
+		 * @return the compiled node
+		 * @throws UnsupportedNodeException if the arguments are not supported
+		 */
+		private Compiled compileIfElse(Node node) {
+			Predicate<double[]> condition = compile(node.getArgument(0)).asBoolean();
+			Compiled a = compile(node.getArgument(1));
+			Compiled b = compile(node.getArgument(2));
+			
+			if (a.isDouble() && b.isDouble()) {
+				ToDoubleFunction<double[]> f = a.doubleFunction();
+				ToDoubleFunction<double[]> g = b.doubleFunction();
+				return Compiled.ofDouble(x -> condition.test(x) ? f.applyAsDouble(x) : g.applyAsDouble(x));
+			} else if (a.isLong() && b.isLong()) {
+				ToLongFunction<double[]> f = a.longFunction();
+				ToLongFunction<double[]> g = b.longFunction();
+				return Compiled.ofLong(x -> condition.test(x) ? f.applyAsLong(x) : g.applyAsLong(x));
+			} else if (a.isBoolean() && b.isBoolean()) {
+				Predicate<double[]> f = a.booleanFunction();
+				Predicate<double[]> g = b.booleanFunction();
+				return Compiled.ofBoolean(x -> condition.test(x) ? f.test(x) : g.test(x));
+			} else {
+				throw new UnsupportedNodeException();
+			}
+		}
+	
+	}
+	
+	/**
+	 * Computes the protected logarithm, matching {@link NumberArithmetic#log(Number)}.
+	 * 
+	 * @param value the value
+	 * @param function the logarithm function
+	 * @return the protected logarithm
+	 */
+	static double protectedLog(double value, DoubleUnaryOperator function) {
+		if (value < Settings.EPS) {
+			value = Math.abs(value);
+			
+			if (value < Settings.EPS) {
+				return 0.0;
+			}
+		}
+		
+		return function.applyAsDouble(value);
+	}
+
+}
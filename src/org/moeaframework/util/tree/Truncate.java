@@ -66,6 +66,24 @@ public class Truncate extends Node {
 		this.max = max;
 	}
 	
+	/**
+	 * Returns the minimum value in the range.
+	 * 
+	 * @return the minimum value in the range
+	 */
+	public double getMin() {
+		return min;
+	}
+	
+	/**
+	 * Returns the maximum value in the range.
+	 * 
+	 * @return the maximum value in the range
+	 */
+	public double getMax() {
+		return max;
+	}
+	
 	@Override
 	public Truncate copyNode() {
 		return new Truncate(min, max);
@@ -232,7 +232,7 @@ public class AGEMOEAIITest extends JMetalAlgorithmTest {
 		population.addAll(List.of(solution1, solution2));
 		population.normalize(population, new double[] { 0.0, 0.0 }, new double[] { 1.0, 1.0 });
 		
-		DistanceMeasure<Solution> distances = population.getDistanceMeasure(2.0);
+		DistanceMeasure<Solution> distances = population.getDistanceMeasure(population, 2.0);
 		Assert.assertEquals(1.5306, distances.compute(solution1, solution2), 0.0005);
 	}
 
@@ -19,6 +19,9 @@ package org.moeaframework.algorithm;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.Test;
 import org.moeaframework.Assert;
@@ -30,6 +33,7 @@ import org.moeaframework.algorithm.extension.Frequency;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.mock.MockRealProblem;
+import org.moeaframework.problem.Problem;
 
 public class AbstractAlgorithmTest {
 
@@ -203,6 +207,56 @@ public class AbstractAlgorithmTest {
 
 		Assert.assertEquals(202, algorithm.getNumberOfEvaluations());
 	}
+	
+	@Test
+	public void testNumberOfEvaluationsSingleUseIterable() {
+		AbstractAlgorithm algorithm = new TestAbstractAlgorithm();
+		List<Solution> solutions = new ArrayList<>();
+		
+		for (int i = 0; i < 100; i++) {
+			solutions.add(algorithm.getProblem().newSolution());
+		}
+		
+		Iterator<Solution> iterator = solutions.iterator();
+		algorithm.evaluateAll(() -> iterator);
+
+		Assert.assertEquals(100, algorithm.getNumberOfEvaluations());
+	}
+	
+	@Test
+	public void testEvaluateAllUsesBatch() {
+		CallCounter<Problem> counter = CallCounter.of(new MockRealProblem(2));
+		
+		AbstractAlgorithm algorithm = new AbstractAlgorithm(counter.getProxy()) {
+			
+			@Override
+			public String getName() {
+				return "TestBatchAlgorithm";
+			}
+			
+			@Override
+			public NondominatedPopulation getResult() {
+				throw new UnsupportedOperationException();
+			}
+			
+			@Override
+			protected void iterate() {
+				// do nothing
+			}
+		
+		};
+		
+		Solution[] solutions = new Solution[100];
+		
+		for (int i = 0; i < 100; i++) {
+			solutions[i] = algorithm.getProblem().newSolution();
+		}
+		
+		algorithm.evaluateAll(solutions);
+		
+		Assert.assertEquals(1, counter.getTotalCallCount("evaluateAll"));
+		Assert.assertEquals(100, algorithm.getNumberOfEvaluations());
+	}
 
 	@Test
 	public void testResumable() throws IOException {
@@ -17,9 +17,20 @@
  */
 package org.moeaframework.algorithm;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.moeaframework.Assert;
 import org.moeaframework.CIRunner;
 import org.moeaframework.Retryable;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.problem.DTLZ.DTLZ2;
 
 @RunWith(CIRunner.class)
 @Retryable
@@ -28,5 +39,36 @@ public class GDE3Test extends JMetalAlgorithmTest {
 	public GDE3Test() {
 		super("GDE3", true);
 	}
+	
+	@Test
+	public void testStateIncludesNextTarget() throws IOException, ClassNotFoundException {
+		GDE3 original = new GDE3(new DTLZ2(2));
+		original.step();
+		
+		// advance the target vector used by generate
+		for (int i = 0; i < 3; i++) {
+			original.generate();
+		}
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+			original.saveState(stream);
+		}
+		
+		GDE3 restored = new GDE3(new DTLZ2(2));
+		
+		try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			restored.loadState(stream);
+		}
+		
+		PRNG.setSeed(12345);
+		double[] expected = RealVariable.getReal(original.generate()[0]);
+		
+		PRNG.setSeed(12345);
+		double[] actual = RealVariable.getReal(restored.generate()[0]);
+		
+		Assert.assertArrayEquals(expected, actual, 0.0);
+	}
 
 }
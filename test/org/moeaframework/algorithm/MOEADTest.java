@@ -111,5 +111,19 @@ public class MOEADTest extends JMetalAlgorithmTest {
 		moead = (MOEAD)AlgorithmFactory.getInstance().getAlgorithm("MOEA/D", properties, problem);
 		Assert.assertFalse(moead.useDE);
 	}
+	
+	@Test
+	public void testBatchEvaluation() {
+		Problem problem = new MockRealProblem(2);
+		TypedProperties properties = new TypedProperties();
+		properties.setBoolean("batchEvaluation", true);
+		
+		MOEAD moead = (MOEAD)AlgorithmFactory.getInstance().getAlgorithm("MOEA/D", properties, problem);
+		Assert.assertTrue(moead.isBatchEvaluation());
+		
+		moead.run(1000);
+		Assert.assertGreaterThanOrEqual(moead.getNumberOfEvaluations(), 1000);
+		Assert.assertNotEmpty(moead.getResult());
+	}
 
 }
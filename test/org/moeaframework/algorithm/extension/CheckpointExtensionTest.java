@@ -17,14 +17,21 @@
  */
 package org.moeaframework.algorithm.extension;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
 
 import org.junit.Test;
 import org.moeaframework.Assert;
 import org.moeaframework.TempFiles;
 import org.moeaframework.algorithm.NSGAII;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.mock.MockRealProblem;
+import org.moeaframework.problem.DTLZ.DTLZ2;
 
 public class CheckpointExtensionTest {
 	
@@ -63,4 +70,98 @@ public class CheckpointExtensionTest {
 		Assert.assertEquals(100, algorithm.getNumberOfEvaluations());
 	}
 
+	@Test
+	public void testDeltaSnapshots() throws IOException {
+		File file = TempFiles.createFile();
+		
+		PRNG.setSeed(12345);
+		NSGAII original = new NSGAII(new DTLZ2(2));
+		original.addExtension(new CheckpointExtension(file, Frequency.ofIterations(1), 4, true));
+		
+		// full snapshots are written on iterations 1, 5, and 9, with deltas in between
+		for (int i = 0; i < 10; i++) {
+			original.step();
+		}
+		
+		NSGAII restored = new NSGAII(new DTLZ2(2));
+		restored.addExtension(new CheckpointExtension(file, Frequency.ofIterations(1), 4, true));
+		
+		Assert.assertEquals(original.getNumberOfEvaluations(), restored.getNumberOfEvaluations());
+		Assert.assertEquals(original.getPopulation(), restored.getPopulation());
+		Assert.assertEquals(original.getResult(), restored.getResult());
+		
+		PRNG.setSeed(54321);
+		original.step();
+		
+		PRNG.setSeed(54321);
+		restored.step();
+		
+		Assert.assertEquals(original.getPopulation(), restored.getPopulation());
+		Assert.assertEquals(original.getResult(), restored.getResult());
+	}
+	
+	@Test
+	public void testPartiallyWrittenDelta() throws IOException {
+		File file = TempFiles.createFile();
+		
+		NSGAII original = new NSGAII(new DTLZ2(2));
+		original.addExtension(new CheckpointExtension(file, Frequency.ofIterations(1), 4, false));
+		
+		for (int i = 0; i < 3; i++) {
+			original.step();
+		}
+		
+		// truncate the delta written on the third iteration, which should fall back to the previous delta
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(raf.length() - 10);
+		}
+		
+		NSGAII restored = new NSGAII(new DTLZ2(2));
+		restored.addExtension(new CheckpointExtension(file, Frequency.ofIterations(1), 4, false));
+		
+		Assert.assertEquals(200, restored.getNumberOfEvaluations());
+	}
+	
+	@Test
+	public void testLegacyStateFile() throws IOException {
+		File file = TempFiles.createFile();
+		
+		NSGAII original = new NSGAII(new DTLZ2(2));
+		original.addExtension(new CheckpointExtension(TempFiles.createFile(), Frequency.ofIterations(1)));
+		original.step();
+		
+		// write the state using Java serialization, as done by previous versions
+		try (ObjectOutputStream oos = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			original.saveState(oos);
+		}
+		
+		NSGAII restored = new NSGAII(new DTLZ2(2));
+		restored.addExtension(new CheckpointExtension(file, Frequency.ofIterations(1)));
+		
+		Assert.assertEquals(original.getNumberOfEvaluations(), restored.getNumberOfEvaluations());
+		Assert.assertEquals(original.getPopulation(), restored.getPopulation());
+	}
+	
+	@Test
+	public void testSmallerThanSerialization() throws IOException {
+		File file = TempFiles.createFile();
+		
+		NSGAII algorithm = new NSGAII(new DTLZ2(2));
+		algorithm.addExtension(new CheckpointExtension(file, Frequency.ofIterations(1)));
+		algorithm.step();
+		
+		ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+		
+		try (ObjectOutputStream oos = new ObjectOutputStream(serialized)) {
+			algorithm.saveState(oos);
+		}
+		
+		Assert.assertLessThan(file.length(), (long)serialized.size());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidFullSnapshotInterval() throws IOException {
+		new CheckpointExtension(TempFiles.createFile(), Frequency.ofIterations(1), 0, false);
+	}
+
 }
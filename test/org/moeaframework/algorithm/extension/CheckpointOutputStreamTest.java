@@ -0,0 +1,174 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.extension;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.constraint.Between;
+import org.moeaframework.core.constraint.LessThanOrEqual;
+import org.moeaframework.core.objective.Maximize;
+import org.moeaframework.core.objective.Minimize;
+import org.moeaframework.core.variable.BinaryIntegerVariable;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+
+public class CheckpointOutputStreamTest {
+	
+	@Test
+	public void testPrimitives() throws IOException, ClassNotFoundException {
+		CheckpointOutputStream out = new CheckpointOutputStream(Map.of());
+		out.writeInt(42);
+		out.writeDouble(0.5);
+		out.writeBoolean(true);
+		out.writeObject("foo");
+		out.writeObject(null);
+		out.writeObject(new double[] { 1.0, 2.0 });
+		out.writeObject(new int[] { 3, 4 });
+		out.writeObject(Frequency.Type.EVALUATIONS);
+		
+		try (CheckpointInputStream in = new CheckpointInputStream(out.toByteArray(), List.of())) {
+			Assert.assertEquals(42, in.readInt());
+			Assert.assertEquals(0.5, in.readDouble());
+			Assert.assertTrue(in.readBoolean());
+			Assert.assertEquals("foo", in.readObject());
+			Assert.assertNull(in.readObject());
+			Assert.assertArrayEquals(new double[] { 1.0, 2.0 }, (double[])in.readObject(), 0.0);
+			Assert.assertArrayEquals(new int[] { 3, 4 }, (int[])in.readObject());
+			Assert.assertEquals(Frequency.Type.EVALUATIONS, in.readObject());
+		}
+	}
+	
+	@Test
+	public void testSolutions() throws IOException, ClassNotFoundException {
+		Solution solution = createSolution();
+		
+		CheckpointOutputStream out = new CheckpointOutputStream(Map.of());
+		out.writeObject(new ArrayList<>(List.of(solution, solution)));
+		
+		try (CheckpointInputStream in = new CheckpointInputStream(out.toByteArray(), List.of())) {
+			List<?> list = (List<?>)in.readObject();
+			
+			Assert.assertEquals(2, list.size());
+			Assert.assertSame(list.get(0), list.get(1));
+			assertIdentical(solution, (Solution)list.get(0));
+		}
+	}
+	
+	@Test
+	public void testSolutionsInSerializedObjects() throws IOException, ClassNotFoundException {
+		Solution solution = createSolution();
+		HashMap<String, Solution> map = new HashMap<>();
+		map.put("foo", solution);
+		
+		CheckpointOutputStream out = new CheckpointOutputStream(Map.of());
+		out.writeObject(solution);
+		out.writeObject(map);
+		
+		try (CheckpointInputStream in = new CheckpointInputStream(out.toByteArray(), List.of())) {
+			Solution result = (Solution)in.readObject();
+			Map<?, ?> resultMap = (Map<?, ?>)in.readObject();
+			
+			Assert.assertSame(result, resultMap.get("foo"));
+			assertIdentical(solution, result);
+		}
+	}
+	
+	@Test
+	public void testBase() throws IOException, ClassNotFoundException {
+		Solution unchanged = createSolution();
+		Solution changed = createSolution();
+		
+		CheckpointOutputStream fullOut = new CheckpointOutputStream(Map.of());
+		fullOut.writeObject(unchanged);
+		fullOut.writeObject(changed);
+		
+		Assert.assertEquals(2, fullOut.getInlineSolutions().size());
+		
+		Map<ByteBuffer, Integer> base = new HashMap<>();
+		
+		for (int i = 0; i < fullOut.getInlineSolutions().size(); i++) {
+			base.put(ByteBuffer.wrap(fullOut.getInlineSolutions().get(i)), i);
+		}
+		
+		changed.getObjective(0).setValue(1.0);
+		unchanged.setAttribute("rank", 2);
+		
+		CheckpointOutputStream deltaOut = new CheckpointOutputStream(base);
+		deltaOut.writeObject(unchanged);
+		deltaOut.writeObject(changed);
+		
+		Assert.assertEquals(1, deltaOut.getInlineSolutions().size());
+		
+		CheckpointInputStream fullIn = new CheckpointInputStream(fullOut.toByteArray(), List.of());
+		
+		try (CheckpointInputStream in = new CheckpointInputStream(deltaOut.toByteArray(),
+				fullIn.getInlineSolutions())) {
+			assertIdentical(unchanged, (Solution)in.readObject());
+			assertIdentical(changed, (Solution)in.readObject());
+		}
+	}
+	
+	private Solution createSolution() {
+		Solution solution = new Solution(5, 2, 2);
+		solution.setVariable(0, new RealVariable("x", 0.0, 1.0).withValue(0.1));
+		solution.setVariable(1, new BinaryVariable(70));
+		solution.setVariable(2, new Permutation(5));
+		solution.setVariable(3, new BinaryIntegerVariable(0, 10));
+		solution.setVariable(4, new RealVariable(-1.0, 1.0));
+		solution.setObjective(0, new Minimize("f"));
+		solution.setObjective(1, new Maximize());
+		solution.setConstraint(0, new LessThanOrEqual("c", 1.0, 0.01));
+		solution.setConstraint(1, new Between(0.0, 1.0));
+		
+		((BinaryVariable)solution.getVariable(1)).set(65, true);
+		((Permutation)solution.getVariable(2)).swap(0, 4);
+		solution.getVariable(3).randomize();
+		solution.getObjective(0).setValue(0.25);
+		solution.getObjective(1).setValue(Double.NaN);
+		solution.getConstraint(0).setValue(2.0);
+		
+		solution.setAttribute("rank", 1);
+		solution.setAttribute("crowding", Double.POSITIVE_INFINITY);
+		solution.setAttribute("weights", new double[] { 0.5, 0.5 });
+		solution.setAttribute("list", new ArrayList<>(List.of("a", "b")));
+		
+		return solution;
+	}
+	
+	private void assertIdentical(Solution expected, Solution actual) {
+		Assert.assertEquals(expected, actual, true);
+		
+		for (int i = 0; i < expected.getNumberOfObjectives(); i++) {
+			Assert.assertEquals(expected.getObjective(i), actual.getObjective(i));
+		}
+		
+		for (int i = 0; i < expected.getNumberOfConstraints(); i++) {
+			Assert.assertEquals(expected.getConstraint(i), actual.getConstraint(i));
+		}
+	}
+
+}
@@ -0,0 +1,187 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.TempFiles;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.analysis.series.ResultEntry;
+import org.moeaframework.analysis.series.ResultSeries;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.TypedProperties;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.mock.MockRealProblem;
+import org.moeaframework.problem.Problem;
+
+public class BinaryResultFileReaderTest {
+	
+	private Problem problem;
+	
+	private File file;
+	
+	@Before
+	public void setUp() throws IOException {
+		problem = new MockRealProblem(2);
+		file = TempFiles.createFile();
+		
+		try (BinaryResultFileWriter writer = BinaryResultFileWriter.open(problem, file)) {
+			for (int i = 0; i < 5; i++) {
+				writer.write(createEntry(i));
+			}
+		}
+	}
+	
+	@Test
+	public void testRandomAccess() throws IOException {
+		try (BinaryResultFileReader reader = BinaryResultFileReader.open(problem, file)) {
+			Assert.assertEquals(5, reader.size());
+			
+			for (int i = 4; i >= 0; i--) {
+				assertEntry(i, reader.get(i));
+			}
+		}
+	}
+	
+	@Test
+	public void testIterator() throws IOException {
+		try (BinaryResultFileReader reader = BinaryResultFileReader.open(problem, file)) {
+			int count = 0;
+			
+			for (ResultEntry entry : reader) {
+				assertEntry(count++, entry);
+			}
+			
+			Assert.assertEquals(5, count);
+		}
+	}
+	
+	@Test
+	public void testMissingIndex() throws IOException {
+		truncate(Integer.BYTES + Long.BYTES);
+		
+		try (BinaryResultFileReader reader = BinaryResultFileReader.open(problem, file)) {
+			Assert.assertEquals(5, reader.size());
+			assertEntry(4, reader.get(4));
+		}
+	}
+	
+	@Test
+	public void testIncompleteEntry() throws IOException {
+		// remove the index (5 offsets plus trailer) and part of the last entry
+		truncate(5 * Long.BYTES + Integer.BYTES + 2 * Long.BYTES + 1);
+		
+		try (BinaryResultFileReader reader = BinaryResultFileReader.open(problem, file)) {
+			Assert.assertEquals(4, reader.size());
+			assertEntry(3, reader.get(3));
+		}
+	}
+	
+	@Test
+	public void testResultFileReader() throws IOException {
+		try (ResultFileReader reader = ResultFileReader.open(problem, file)) {
+			int count = 0;
+			
+			while (reader.hasNext()) {
+				assertEntry(count++, reader.next());
+			}
+			
+			Assert.assertEquals(5, count);
+		}
+	}
+	
+	@Test
+	public void testResultSeries() throws IOException {
+		ResultSeries series = ResultSeries.of(file);
+		Assert.assertEquals(5, series.size());
+	}
+	
+	@Test
+	public void testIsBinaryFormat() throws IOException {
+		Assert.assertTrue(BinaryResultFileReader.isBinaryFormat(file));
+		Assert.assertFalse(BinaryResultFileReader.isBinaryFormat(TempFiles.createFile().withContent("# Version=5")));
+		Assert.assertFalse(BinaryResultFileReader.isBinaryFormat(TempFiles.createFile().withContent("")));
+	}
+	
+	@Test(expected = IOException.class)
+	public void testNotBinary() throws IOException {
+		BinaryResultFileReader.open(problem, TempFiles.createFile().withContent("# Version=5")).close();
+	}
+	
+	@Test(expected = IOException.class)
+	public void testInvalidHeaderLength() throws IOException {
+		// overwrite the length of the first header property, following the magic, version, and property count
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.seek(Long.BYTES + Integer.BYTES + Integer.BYTES);
+			raf.writeInt(Integer.MAX_VALUE);
+		}
+		
+		BinaryResultFileReader.open(problem, file).close();
+	}
+	
+	@Test
+	public void testAppendNotSupported() throws IOException {
+		Assert.assertThrows(IOException.class, () -> ResultFileWriter.append(problem, file));
+		Assert.assertThrows(IOException.class, () -> ResultFileWriter.repair(problem, file));
+		
+		// the file is left unchanged
+		Assert.assertTrue(BinaryResultFileReader.isBinaryFormat(file));
+		
+		try (BinaryResultFileReader reader = BinaryResultFileReader.open(problem, file)) {
+			Assert.assertEquals(5, reader.size());
+		}
+	}
+	
+	private ResultEntry createEntry(int index) {
+		NondominatedPopulation population = new NondominatedPopulation();
+		
+		for (int i = 0; i <= index; i++) {
+			Solution solution = problem.newSolution();
+			solution.getVariable(0).randomize();
+			solution.setObjectiveValues(new double[] { i, index - i });
+			population.add(solution);
+		}
+		
+		TypedProperties properties = new TypedProperties();
+		properties.setInt("NFE", 1000 * index);
+		
+		return new ResultEntry(population, properties);
+	}
+	
+	private void assertEntry(int index, ResultEntry entry) {
+		Assert.assertEquals(index + 1, entry.getPopulation().size());
+		Assert.assertEquals(1000 * index, entry.getProperties().getInt("NFE"));
+		
+		for (int i = 0; i <= index; i++) {
+			Assert.assertArrayEquals(new double[] { i, index - i }, entry.getPopulation().get(i).getObjectiveValues(),
+					TestEnvironment.HIGH_PRECISION);
+		}
+	}
+	
+	private void truncate(long bytes) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(raf.length() - bytes);
+		}
+	}
+
+}
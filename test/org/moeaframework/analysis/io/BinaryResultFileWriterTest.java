@@ -0,0 +1,188 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.io;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.TempFiles;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.analysis.series.ResultEntry;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.TypedProperties;
+import org.moeaframework.core.TypedPropertiesTest;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.core.population.Population;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.mock.MockRealProblem;
+import org.moeaframework.problem.AbstractProblem;
+import org.moeaframework.problem.Problem;
+
+public class BinaryResultFileWriterTest {
+	
+	private Problem problem;
+	
+	private Population population;
+	
+	@Before
+	public void setUp() {
+		problem = new AbstractProblem(3, 2, 1) {
+			
+			@Override
+			public void evaluate(Solution solution) {
+				throw new UnsupportedOperationException();
+			}
+			
+			@Override
+			public Solution newSolution() {
+				Solution solution = new Solution(3, 2, 1);
+				solution.setVariable(0, new RealVariable(0.0, 1.0));
+				solution.setVariable(1, new BinaryVariable(5));
+				solution.setVariable(2, new Permutation(3));
+				return solution;
+			}
+		
+		};
+		
+		population = new Population();
+		
+		for (int i = 0; i < 3; i++) {
+			Solution solution = problem.newSolution();
+			solution.getVariable(0).randomize();
+			solution.getVariable(1).randomize();
+			solution.getVariable(2).randomize();
+			solution.setObjectiveValues(new double[] { i, 2.0 - i });
+			solution.setConstraintValues(new double[] { -i });
+			population.add(solution);
+		}
+	}
+	
+	@Test
+	public void testEncodedVariables() throws IOException {
+		File file = TempFiles.createFile();
+		
+		TypedProperties properties = new TypedProperties();
+		properties.setString("foo", "bar");
+		
+		try (BinaryResultFileWriter writer = BinaryResultFileWriter.open(problem, file)) {
+			writer.write(new ResultEntry(population, properties));
+			Assert.assertEquals(1, writer.getNumberOfEntries());
+		}
+		
+		try (BinaryResultFileReader reader = BinaryResultFileReader.open(problem, file)) {
+			ResultEntry entry = reader.next();
+			Assert.assertEquals(population, entry.getPopulation());
+			Assert.assertEquals(properties, entry.getProperties());
+			Assert.assertFalse(reader.hasNext());
+		}
+	}
+	
+	@Test
+	public void testRealVariables() throws IOException {
+		File file = TempFiles.createFile();
+		Problem problem = new MockRealProblem(2);
+		NondominatedPopulation population = new NondominatedPopulation();
+		
+		for (int i = 0; i < 10; i++) {
+			Solution solution = problem.newSolution();
+			solution.getVariable(0).randomize();
+			solution.setObjectiveValues(new double[] { i / 10.0, 1.0 - i / 10.0 });
+			population.add(solution);
+		}
+		
+		try (BinaryResultFileWriter writer = BinaryResultFileWriter.open(problem, file)) {
+			writer.write(new ResultEntry(population));
+		}
+		
+		try (BinaryResultFileReader reader = BinaryResultFileReader.open(problem, file)) {
+			Assert.assertEquals(population, reader.next().getPopulation());
+		}
+		
+		// also readable without the problem
+		try (BinaryResultFileReader reader = BinaryResultFileReader.open(null, file)) {
+			Population result = reader.next().getPopulation();
+			Assert.assertEquals(population.size(), result.size());
+			
+			for (int i = 0; i < population.size(); i++) {
+				Assert.assertArrayEquals(population.get(i).getObjectiveValues(), result.get(i).getObjectiveValues(),
+						TestEnvironment.HIGH_PRECISION);
+				Assert.assertEquals(RealVariable.getReal(population.get(i).getVariable(0)),
+						RealVariable.getReal(result.get(i).getVariable(0)));
+			}
+		}
+	}
+	
+	@Test
+	public void testSpecialCharactersInProperties() throws IOException {
+		File file = TempFiles.createFile();
+		
+		TypedProperties properties = new TypedProperties();
+		properties.setString(TypedPropertiesTest.SPECIAL_CHARACTERS, TypedPropertiesTest.SPECIAL_CHARACTERS);
+		
+		try (BinaryResultFileWriter writer = BinaryResultFileWriter.open(problem, file)) {
+			writer.write(new ResultEntry(new Population(), properties));
+		}
+		
+		try (BinaryResultFileReader reader = BinaryResultFileReader.open(problem, file)) {
+			Assert.assertEquals(properties, reader.next().getProperties());
+		}
+	}
+	
+	@Test
+	public void testNullProperties() throws IOException {
+		File file = TempFiles.createFile();
+		
+		try (BinaryResultFileWriter writer = BinaryResultFileWriter.open(problem, file)) {
+			writer.write(new ResultEntry(population, (TypedProperties)null));
+		}
+		
+		try (BinaryResultFileReader reader = BinaryResultFileReader.open(problem, file)) {
+			Assert.assertEquals(new TypedProperties(), reader.next().getProperties());
+		}
+	}
+	
+	@Test
+	public void testNoVariables() throws IOException {
+		File file = TempFiles.createFile();
+		Population population = new Population();
+		population.add(new Solution(0, 2, 1));
+		population.get(0).setObjectiveValues(new double[] { 0.5, 0.5 });
+		
+		try (BinaryResultFileWriter writer = BinaryResultFileWriter.open(problem, file)) {
+			writer.write(new ResultEntry(population));
+		}
+		
+		try (BinaryResultFileReader reader = BinaryResultFileReader.open(problem, file)) {
+			Solution solution = reader.next().getPopulation().get(0);
+			Assert.assertEquals(0, solution.getNumberOfVariables());
+			Assert.assertArrayEquals(new double[] { 0.5, 0.5 }, solution.getObjectiveValues(),
+					TestEnvironment.HIGH_PRECISION);
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testNullProblem() throws IOException {
+		new BinaryResultFileWriter(null, TempFiles.createFile());
+	}
+
+}
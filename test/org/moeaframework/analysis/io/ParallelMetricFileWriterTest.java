@@ -0,0 +1,165 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.TempFiles;
+import org.moeaframework.analysis.series.ResultEntry;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.PropertyScope;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.indicator.Indicators;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.core.spi.ProblemFactory;
+import org.moeaframework.mock.MockSolution;
+import org.moeaframework.problem.Problem;
+
+public class ParallelMetricFileWriterTest {
+	
+	private ExecutorService executor;
+	
+	private Indicators indicators;
+	
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+		
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_2");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance().getReferenceSet("DTLZ2_2");
+		indicators = Indicators.standard(problem, referenceSet);
+	}
+	
+	@After
+	public void tearDown() {
+		executor.shutdown();
+		executor = null;
+		indicators = null;
+	}
+	
+	@Test
+	public void testMatchesSequential() throws IOException {
+		File expected = TempFiles.createFile();
+		File actual = TempFiles.createFile();
+		
+		try (MetricFileWriter writer = MetricFileWriter.open(indicators, expected)) {
+			for (int i = 0; i < 20; i++) {
+				writer.write(createEntry(i));
+			}
+		}
+		
+		try (ParallelMetricFileWriter writer = new ParallelMetricFileWriter(
+				MetricFileWriter.open(indicators, actual), executor, 3)) {
+			for (int i = 0; i < 20; i++) {
+				writer.write(createEntry(i));
+				
+				Assert.assertTrue(writer.getNumberOfPendingEntries() <= 3);
+				Assert.assertEquals(i + 1, writer.getNumberOfEntries());
+			}
+		}
+		
+		Assert.assertFileWithContent(Files.readString(expected.toPath()), actual);
+	}
+	
+	@Test
+	public void testMatchesSequentialWithMonteCarloHypervolume() throws IOException {
+		try (PropertyScope scope = Settings.createScope()
+				.with(Settings.KEY_HYPERVOLUME, "montecarlo")
+				.with(Settings.KEY_HYPERVOLUME_SAMPLES, 10000)) {
+			Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_2");
+			NondominatedPopulation referenceSet = ProblemFactory.getInstance().getReferenceSet("DTLZ2_2");
+			indicators = Indicators.standard(problem, referenceSet);
+			
+			testMatchesSequential();
+		}
+	}
+	
+	@Test
+	public void testFlush() throws IOException {
+		File file = TempFiles.createFile();
+		
+		try (ParallelMetricFileWriter writer = new ParallelMetricFileWriter(
+				MetricFileWriter.open(indicators, file), executor, 10)) {
+			writer.write(createEntry(0));
+			writer.write(createEntry(1));
+			writer.flush();
+			
+			Assert.assertEquals(0, writer.getNumberOfPendingEntries());
+			Assert.assertEquals(2, writer.getNumberOfEntries());
+			Assert.assertLineCount(3, file);
+		}
+	}
+	
+	@Test
+	public void testAppend() throws IOException {
+		File file = TempFiles.createFile();
+		
+		try (ParallelMetricFileWriter writer = new ParallelMetricFileWriter(
+				MetricFileWriter.append(indicators, file), executor, 2)) {
+			writer.write(createEntry(0));
+			writer.write(createEntry(1));
+		}
+		
+		try (ParallelMetricFileWriter writer = new ParallelMetricFileWriter(
+				MetricFileWriter.append(indicators, file), executor, 2)) {
+			Assert.assertEquals(2, writer.getNumberOfEntries());
+			writer.write(createEntry(2));
+			Assert.assertEquals(3, writer.getNumberOfEntries());
+		}
+		
+		Assert.assertLineCount(4, file);
+	}
+	
+	@Test(expected = FrameworkException.class)
+	public void testEvaluationFailed() throws IOException {
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+		approximationSet.add(MockSolution.of().withObjectives(0.0, 1.0, 0.5));
+		
+		try (ParallelMetricFileWriter writer = new ParallelMetricFileWriter(
+				MetricFileWriter.open(indicators, TempFiles.createFile()), executor, 2)) {
+			writer.write(new ResultEntry(approximationSet));
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidMaximumPending() throws IOException {
+		try (MetricFileWriter writer = MetricFileWriter.open(indicators, TempFiles.createFile())) {
+			new ParallelMetricFileWriter(writer, executor, 0);
+		}
+	}
+	
+	private ResultEntry createEntry(int index) {
+		double offset = 0.01 * index;
+		
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+		approximationSet.add(MockSolution.of().withObjectives(offset, 1.0 + offset));
+		approximationSet.add(MockSolution.of().withObjectives(0.5 + offset, 0.5 + offset));
+		approximationSet.add(MockSolution.of().withObjectives(1.0 + offset, offset));
+		
+		return new ResultEntry(approximationSet);
+	}
+
+}
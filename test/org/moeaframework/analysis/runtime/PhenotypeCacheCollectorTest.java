@@ -0,0 +1,79 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.runtime;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.algorithm.Algorithm;
+import org.moeaframework.algorithm.NSGAII;
+import org.moeaframework.algorithm.extension.Frequency;
+import org.moeaframework.analysis.series.IndexedResult;
+import org.moeaframework.analysis.series.ResultEntry;
+import org.moeaframework.analysis.series.ResultSeries;
+import org.moeaframework.mock.MockGrammarProblem;
+import org.moeaframework.problem.PhenotypeCachingProblem;
+import org.moeaframework.util.grammar.ContextFreeGrammar;
+
+public class PhenotypeCacheCollectorTest extends AbstractCollectorTest<PhenotypeCacheCollector> {
+	
+	@Override
+	public void validate(Algorithm algorithm, ResultEntry result) {
+		Assert.assertGreaterThanOrEqual(PhenotypeCacheCollector.getHits(result), 0L);
+		Assert.assertGreaterThan(PhenotypeCacheCollector.getMisses(result), 0L);
+	}
+	
+	@Override
+	public PhenotypeCacheCollector createInstance() {
+		return new PhenotypeCacheCollector();
+	}
+	
+	@Override
+	public boolean shouldAttach(Algorithm algorithm) {
+		return algorithm.getProblem() instanceof PhenotypeCachingProblem;
+	}
+	
+	@Test
+	public void testCachingProblem() {
+		ContextFreeGrammar grammar = ContextFreeGrammar.load("""
+				<expr> ::= (<expr> + <expr>) | <val>
+				<val> ::= x | y
+				""");
+		
+		try (PhenotypeCachingProblem problem = new PhenotypeCachingProblem(new MockGrammarProblem(2), grammar)) {
+			Instrumenter instrumenter = new Instrumenter()
+					.withFrequency(Frequency.ofEvaluations(100))
+					.attachPhenotypeCacheCollector();
+			
+			InstrumentedAlgorithm<NSGAII> algorithm = instrumenter.instrument(new NSGAII(problem));
+			algorithm.run(1000);
+			
+			ResultSeries series = algorithm.getSeries();
+			Assert.assertFalse(series.isEmpty());
+			
+			for (IndexedResult result : series) {
+				validate(algorithm, result.getEntry());
+			}
+			
+			ResultEntry last = series.last().getEntry();
+			Assert.assertEquals(problem.getHits(), PhenotypeCacheCollector.getHits(last));
+			Assert.assertEquals(problem.getMisses(), PhenotypeCacheCollector.getMisses(last));
+			Assert.assertGreaterThan(problem.getHits(), 0L);
+		}
+	}
+
+}
@@ -44,4 +44,25 @@ public class EndOfRunEvaluatorTest extends AbstractToolTest {
 		ResultFileValidator.main(new String[] { "-c", "6" , resultFile.getPath() });
 	}
 	
+	@Test
+	public void testDistributed() throws Exception {
+		File parameterDescriptionFile = TempFiles.createFile().withContent(PARAMETER_DESCRIPTION_FILE);
+		File parameterSamplesFile = TempFiles.createFile().withContent(PARAMETER_SAMPLES_FILE);
+		File resultFile = TempFiles.createFile();
+		
+		EndOfRunEvaluator.main(new String[] {
+				"-p", parameterDescriptionFile.getPath(),
+				"-i", parameterSamplesFile.getPath(),
+				"-o", resultFile.getPath(),
+				"-a", "NSGAII",
+				"-b", "DTLZ2_2",
+				"-X", "maxEvaluations=10000",
+				"--executor", "virtual",
+				"--concurrency", "16" });
+		
+		Assert.assertFileWithContent(resultFile);
+		
+		ResultFileValidator.main(new String[] { "-c", "6" , resultFile.getPath() });
+	}
+
 }
@@ -18,6 +18,7 @@
 package org.moeaframework.analysis.tools;
 
 import java.io.File;
+import java.nio.file.Files;
 
 import org.junit.Test;
 import org.moeaframework.Assert;
@@ -44,6 +45,54 @@ public class MetricsEvaluatorTest extends AbstractToolTest {
 		Assert.assertLinePattern(output, Assert.getSpaceSeparatedNumericPattern(Metric.getNumberOfMetrics()));
 	}
 	
+	@Test
+	public void testParallel() throws Exception {
+		File input = TempFiles.createFile().withContent(COMPLETE_RESULT_FILE);
+		File expected = TempFiles.createFile();
+		File actual = TempFiles.createFile();
+		
+		File referenceSetFile = TestEnvironment.getResourceAsFile("pf/DTLZ2.2D.pf");
+		
+		MetricsEvaluator.main(new String[] {
+			"--problem", "DTLZ2_2",
+			"--reference", referenceSetFile.getAbsolutePath(),
+			"--input", input.getAbsolutePath(),
+			"--output", expected.getAbsolutePath()});
+		
+		MetricsEvaluator.main(new String[] {
+			"--problem", "DTLZ2_2",
+			"--reference", referenceSetFile.getAbsolutePath(),
+			"--input", input.getAbsolutePath(),
+			"--output", actual.getAbsolutePath(),
+			"--executor", "fixed",
+			"--concurrency", "2"});
+		
+		Assert.assertFileWithContent(Files.readString(expected.toPath()), actual);
+	}
+	
+	@Test
+	public void testDirectory() throws Exception {
+		File inputDirectory = TempFiles.createDirectory();
+		File outputDirectory = new File(TempFiles.createDirectory(), "metrics");
+		
+		Files.writeString(new File(inputDirectory, "seed_0.set").toPath(), COMPLETE_RESULT_FILE);
+		Files.writeString(new File(inputDirectory, "seed_1.set").toPath(), COMPLETE_RESULT_FILE);
+		Files.writeString(new File(inputDirectory, "seed_2.set").toPath(), EMPTY_RESULT_FILE);
+		
+		File referenceSetFile = TestEnvironment.getResourceAsFile("pf/DTLZ2.2D.pf");
+		
+		MetricsEvaluator.main(new String[] {
+			"--problem", "DTLZ2_2",
+			"--reference", referenceSetFile.getAbsolutePath(),
+			"--input", inputDirectory.getAbsolutePath(),
+			"--output", outputDirectory.getAbsolutePath(),
+			"--concurrency", "2"});
+		
+		Assert.assertLineCount(3, new File(outputDirectory, "seed_0.set"));
+		Assert.assertLineCount(3, new File(outputDirectory, "seed_1.set"));
+		Assert.assertLineCount(1, new File(outputDirectory, "seed_2.set"));
+	}
+	
 	@Test
 	public void testEmpty() throws Exception {
 		File input = TempFiles.createFile().withContent(EMPTY_RESULT_FILE);
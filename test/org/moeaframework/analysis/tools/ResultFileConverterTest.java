@@ -22,7 +22,11 @@ import java.io.File;
 import org.junit.Test;
 import org.moeaframework.Assert;
 import org.moeaframework.TempFiles;
+import org.moeaframework.analysis.io.BinaryResultFileReader;
+import org.moeaframework.analysis.io.ResultFileReader;
 import org.moeaframework.core.FrameworkException;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.problem.DTLZ.DTLZ2;
 
 public class ResultFileConverterTest extends AbstractToolTest {
 	
@@ -63,5 +67,46 @@ public class ResultFileConverterTest extends AbstractToolTest {
 		Assert.assertLineCount(17, outputFile);
 		Assert.assertLinePattern(outputFile, "^([@%].*)|(" + Assert.getCommaSeparatedNumericPattern(13) + ")$");
 	}
+	
+	@Test
+	public void testBinary() throws Exception {
+		File resultFile = TempFiles.createFile().withContent(COMPLETE_RESULT_FILE);
+		File binaryFile = TempFiles.createFile();
+		File textFile = TempFiles.createFile();
+		
+		ResultFileConverter.main(new String[] {
+				"--binary",
+				"-b", "DTLZ2_2",
+				"-i", resultFile.getPath(),
+				"-o", binaryFile.getPath() });
+		
+		Assert.assertTrue(BinaryResultFileReader.isBinaryFormat(binaryFile));
+		
+		ResultFileConverter.main(new String[] {
+				"--text",
+				"-b", "DTLZ2_2",
+				"-i", binaryFile.getPath(),
+				"-o", textFile.getPath() });
+		
+		try (Problem problem = new DTLZ2(2);
+				ResultFileReader expected = ResultFileReader.open(problem, resultFile);
+				ResultFileReader actual = ResultFileReader.open(problem, textFile)) {
+			while (expected.hasNext()) {
+				Assert.assertTrue(actual.hasNext());
+				Assert.assertEquals(expected.next().getPopulation(), actual.next().getPopulation());
+			}
+			
+			Assert.assertFalse(actual.hasNext());
+		}
+	}
+	
+	@Test(expected = FrameworkException.class)
+	public void testBinaryMissingOutput() throws Exception {
+		File resultFile = TempFiles.createFile().withContent(COMPLETE_RESULT_FILE);
+		
+		ResultFileConverter.main(new String[] {
+				"--binary",
+				"-i", resultFile.getPath() });
+	}
 
 }
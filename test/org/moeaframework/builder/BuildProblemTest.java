@@ -88,6 +88,28 @@ public class BuildProblemTest {
 		test("external");
 	}
 
+	@Test
+	public void testCWithFFM() throws Exception {
+		Assume.assumeTrue("Requires Java 22 or newer", Runtime.version().feature() >= 22);
+		test("c", "ffm");
+	}
+	
+	@Test
+	public void testCPPWithFFM() throws Exception {
+		Assume.assumeTrue("Requires Java 22 or newer", Runtime.version().feature() >= 22);
+		test("cpp", "ffm");
+	}
+	
+	@Test(expected = Exception.class)
+	public void testInvalidBackend() throws Exception {
+		test("c", "foo", null, null, null, true);
+	}
+	
+	@Test(expected = Exception.class)
+	public void testUnsupportedBackend() throws Exception {
+		test("java", "ffm", null, null, null, true);
+	}
+
 	@Test(expected = Exception.class)
 	public void testDisallowExample() throws Exception {
 		test("c", null, "Example", null, true);
@@ -109,17 +131,26 @@ public class BuildProblemTest {
 	}
 	
 	private void test(String language) throws Exception {
+		test(language, null);
+	}
+	
+	private void test(String language, String backend) throws Exception {
 		System.out.println("============ Testing BuildProblem (" + language + ") with Defaults ============");
-		test(language, null, null, null, true);
+		test(language, backend, null, null, null, true);
 		System.out.println();
 		
 		System.out.println("========== Testing BuildProblem (" + language + ") with Custom Names ==========");
-		test(language, "myFunc", "MyProblem", "mypackage", true);
+		test(language, backend, "myFunc", "MyProblem", "mypackage", true);
 		System.out.println();
 	}
-
+	
 	private File test(String language, String functionName, String problemName, String packageName, boolean run)
 			throws Exception {
+		return test(language, null, functionName, problemName, packageName, run);
+	}
+
+	private File test(String language, String backend, String functionName, String problemName, String packageName,
+			boolean run) throws Exception {
 		if (problemName == null) {
 			problemName = "Test";
 		}
@@ -151,6 +182,11 @@ public class BuildProblemTest {
 			args.add("--package");
 			args.add(packageName);
 		}
+		
+		if (backend != null) {
+			args.add("--backend");
+			args.add(backend);
+		}
 
 		BuildProblem.main(args.toArray(String[]::new));
 
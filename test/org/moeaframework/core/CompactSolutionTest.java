@@ -0,0 +1,252 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.attribute.CrowdingDistance;
+import org.moeaframework.core.attribute.Fitness;
+import org.moeaframework.core.attribute.Rank;
+import org.moeaframework.core.constraint.Equal;
+import org.moeaframework.core.constraint.LessThanOrEqual;
+import org.moeaframework.core.objective.Maximize;
+import org.moeaframework.core.objective.Minimize;
+import org.moeaframework.core.objective.Objective;
+import org.moeaframework.core.variable.RealVariable;
+
+public class CompactSolutionTest {
+	
+	private CompactSolution solution;
+	
+	@Before
+	public void setUp() {
+		Solution original = new Solution(1, 2, 2);
+		original.setVariable(0, new RealVariable(0.0, 1.0).withValue(0.5));
+		original.setObjective(0, new Minimize().withValue(1.0));
+		original.setObjective(1, new Maximize().withValue(2.0));
+		original.setConstraint(0, new Equal(0.0).withValue(0.0));
+		original.setConstraint(1, new LessThanOrEqual(0.0).withValue(1.0));
+		
+		solution = new CompactSolution(original);
+	}
+	
+	@After
+	public void tearDown() {
+		solution = null;
+	}
+	
+	@Test
+	public void testConversion() {
+		Assert.assertEquals(1, solution.getNumberOfVariables());
+		Assert.assertEquals(0.5, RealVariable.getReal(solution.getVariable(0)), TestEnvironment.HIGH_PRECISION);
+		Assert.assertArrayEquals(new double[] { 1.0, 2.0 }, solution.getObjectiveValues(),
+				TestEnvironment.HIGH_PRECISION);
+		Assert.assertArrayEquals(new double[] { 0.0, 1.0 }, solution.getConstraintValues(),
+				TestEnvironment.HIGH_PRECISION);
+		Assert.assertArrayEquals(new double[] { 1.0, -2.0 }, solution.getCanonicalObjectiveValues(),
+				TestEnvironment.HIGH_PRECISION);
+		
+		Assert.assertInstanceOf(Minimize.class, solution.getObjective(0));
+		Assert.assertInstanceOf(Maximize.class, solution.getObjective(1));
+		Assert.assertInstanceOf(Equal.class, solution.getConstraint(0));
+		Assert.assertInstanceOf(LessThanOrEqual.class, solution.getConstraint(1));
+		Assert.assertFalse(solution.isFeasible());
+	}
+	
+	@Test
+	public void testViews() {
+		Objective objective = solution.getObjective(0);
+		Assert.assertSame(objective, solution.getObjective(0));
+		
+		// writes to the view are visible in the solution
+		objective.setValue(5.0);
+		Assert.assertEquals(5.0, solution.getObjectiveValue(0), TestEnvironment.HIGH_PRECISION);
+		
+		// writes to the solution are visible in the view
+		solution.setObjectiveValue(0, 6.0);
+		Assert.assertEquals(6.0, objective.getValue(), TestEnvironment.HIGH_PRECISION);
+		
+		solution.getConstraint(1).setValue(0.0);
+		Assert.assertEquals(0.0, solution.getConstraintValue(1), TestEnvironment.HIGH_PRECISION);
+		Assert.assertTrue(solution.isFeasible());
+	}
+	
+	@Test
+	public void testSetObjective() {
+		solution.setObjective(0, new Maximize().withValue(3.0));
+		
+		Assert.assertInstanceOf(Maximize.class, solution.getObjective(0));
+		Assert.assertEquals(3.0, solution.getObjectiveValue(0), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(-3.0, solution.getCanonicalObjectiveValue(0), TestEnvironment.HIGH_PRECISION);
+		
+		solution.setObjective(1, null);
+		Assert.assertInstanceOf(Minimize.class, solution.getObjective(1));
+	}
+	
+	@Test
+	public void testCopy() {
+		solution.getObjective(0).setValue(5.0);
+		solution.setAttribute("foo", "bar");
+		Rank.setAttribute(solution, 1);
+		
+		CompactSolution copy = solution.copy();
+		
+		Assert.assertNotSame(solution, copy);
+		Assert.assertArrayEquals(new double[] { 5.0, 2.0 }, copy.getObjectiveValues(), TestEnvironment.HIGH_PRECISION);
+		Assert.assertArrayEquals(new double[] { 0.0, 1.0 }, copy.getConstraintValues(), TestEnvironment.HIGH_PRECISION);
+		Assert.assertFalse(copy.hasAttribute("foo"));
+		Assert.assertFalse(Rank.hasAttribute(copy));
+		
+		// the copy is independent from the original
+		copy.setObjectiveValue(0, 0.0);
+		copy.getConstraint(1).setValue(0.0);
+		RealVariable.setReal(copy.getVariable(0), 1.0);
+		
+		Assert.assertEquals(5.0, solution.getObjectiveValue(0), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(1.0, solution.getConstraintValue(1), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.5, RealVariable.getReal(solution.getVariable(0)), TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testDeepCopy() {
+		solution.setAttribute("foo", "bar");
+		Rank.setAttribute(solution, 1);
+		CrowdingDistance.setAttribute(solution, 0.5);
+		
+		Solution copy = solution.deepCopy();
+		
+		Assert.assertInstanceOf(CompactSolution.class, copy);
+		Assert.assertEquals("bar", copy.getAttribute("foo"));
+		Assert.assertEquals(1, Rank.getAttribute(copy));
+		Assert.assertEquals(0.5, CrowdingDistance.getAttribute(copy), TestEnvironment.HIGH_PRECISION);
+		
+		// the copy is independent of the original
+		Rank.setAttribute(copy, 2);
+		Assert.assertEquals(1, Rank.getAttribute(solution));
+	}
+	
+	@Test
+	public void testPrimitiveAttributes() {
+		Assert.assertFalse(Rank.hasAttribute(solution));
+		Assert.assertNull(solution.getAttribute(Rank.ATTRIBUTE_NAME));
+		
+		Rank.setAttribute(solution, 2);
+		CrowdingDistance.setAttribute(solution, 0.25);
+		Fitness.setAttribute(solution, 4.0);
+		
+		Assert.assertTrue(Rank.hasAttribute(solution));
+		Assert.assertEquals(2, Rank.getAttribute(solution));
+		Assert.assertEquals(2, solution.getAttribute(Rank.ATTRIBUTE_NAME));
+		Assert.assertEquals(0.25, CrowdingDistance.getAttribute(solution), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(4.0, Fitness.getAttribute(solution), TestEnvironment.HIGH_PRECISION);
+		
+		// values set through the generic methods are also stored in the primitive fields
+		Assert.assertEquals(2, solution.setAttribute(Rank.ATTRIBUTE_NAME, 3));
+		Assert.assertEquals(3, Rank.getAttribute(solution));
+		
+		Assert.assertEquals(3, solution.removeAttribute(Rank.ATTRIBUTE_NAME));
+		Assert.assertFalse(Rank.hasAttribute(solution));
+		
+		solution.clearAttributes();
+		Assert.assertFalse(CrowdingDistance.hasAttribute(solution));
+		Assert.assertFalse(Fitness.hasAttribute(solution));
+	}
+	
+	@Test
+	public void testGetAttributes() {
+		solution.setAttribute("foo", "bar");
+		Rank.setAttribute(solution, 2);
+		
+		Map<String, Serializable> attributes = solution.getAttributes();
+		Assert.assertEquals(2, attributes.size());
+		Assert.assertEquals(2, attributes.get(Rank.ATTRIBUTE_NAME));
+		
+		// the returned map remains live after subsequent updates
+		Rank.setAttribute(solution, 3);
+		CrowdingDistance.setAttribute(solution, 0.5);
+		Assert.assertEquals(3, Rank.getAttribute(solution));
+		Assert.assertEquals(3, attributes.get(Rank.ATTRIBUTE_NAME));
+		Assert.assertEquals(0.5, attributes.get(CrowdingDistance.ATTRIBUTE_NAME));
+		Assert.assertEquals(3, attributes.size());
+		
+		solution.removeAttribute(Rank.ATTRIBUTE_NAME);
+		Assert.assertFalse(Rank.hasAttribute(solution));
+		Assert.assertFalse(attributes.containsKey(Rank.ATTRIBUTE_NAME));
+		
+		attributes.put(Fitness.ATTRIBUTE_NAME, 4.0);
+		Assert.assertEquals(4.0, Fitness.getAttribute(solution), TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testConstraintViolations() {
+		Assert.assertTrue(solution.violatesConstraints());
+		Assert.assertEquals(1.0, solution.getSumOfConstraintViolations(), TestEnvironment.HIGH_PRECISION);
+		
+		solution.setConstraintValue(1, -1.0);
+		Assert.assertFalse(solution.violatesConstraints());
+		Assert.assertEquals(0.0, solution.getSumOfConstraintViolations(), TestEnvironment.HIGH_PRECISION);
+		
+		// changes made through views are also reflected
+		solution.getConstraint(0).setValue(2.0);
+		Assert.assertTrue(solution.violatesConstraints());
+		Assert.assertEquals(2.0, solution.getSumOfConstraintViolations(), TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testCompareObjective() {
+		CompactSolution other = solution.copy();
+		other.setObjectiveValues(new double[] { 0.0, 1.0 });
+		
+		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+			int expected = solution.getObjective(i).compareTo(other.getObjective(i));
+			Assert.assertEquals(expected, solution.copy().compareObjective(i, other.copy()));
+			Assert.assertEquals(-expected, other.copy().compareObjective(i, solution.copy()));
+		}
+		
+		Assert.assertEquals(0, solution.compareObjective(0, solution.copy()));
+	}
+	
+	@Test(expected = TypeMismatchException.class)
+	public void testCompareObjectiveTypeMismatch() {
+		CompactSolution other = solution.copy();
+		other.setObjective(0, new Maximize());
+		
+		solution.copy().compareObjective(0, new CompactSolution(other));
+	}
+	
+	@Test
+	public void testSerialization() {
+		solution.getObjective(0).setValue(5.0);
+		Rank.setAttribute(solution, 1);
+		
+		CompactSolution copy = SerializationUtils.clone(solution);
+		
+		Assert.assertArrayEquals(new double[] { 5.0, 2.0 }, copy.getObjectiveValues(), TestEnvironment.HIGH_PRECISION);
+		Assert.assertArrayEquals(new double[] { 0.0, 1.0 }, copy.getConstraintValues(), TestEnvironment.HIGH_PRECISION);
+		Assert.assertInstanceOf(Maximize.class, copy.getObjective(1));
+		Assert.assertEquals(1, Rank.getAttribute(copy));
+	}
+
+}
@@ -23,8 +23,12 @@ import java.io.IOException;
 import org.junit.Test;
 import org.moeaframework.Assert;
 import org.moeaframework.TempFiles;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.population.DivideAndConquerNondominatedSorting;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.core.population.NondominatedPopulation.DuplicateMode;
+import org.moeaframework.core.population.NondominatedSorting;
+import org.moeaframework.core.population.NondominatedSorting.Implementation;
 
 /**
  * These tests ensure that valid default settings are provided and there are no errors parsing settings.
@@ -85,6 +89,22 @@ public class SettingsTest {
 		}
 	}
 	
+	@Test
+	public void testNondominatedSorting() {
+		Assert.assertEquals(Implementation.NAIVE, Settings.getNondominatedSorting());
+		
+		try (PropertyScope scope = Settings.createScope().with(Settings.KEY_FAST_NONDOMINATED_SORTING, true)) {
+			Assert.assertEquals(Implementation.FAST, Settings.getNondominatedSorting());
+		}
+		
+		try (PropertyScope scope = Settings.createScope()
+				.with(Settings.KEY_NONDOMINATED_SORTING, Implementation.DIVIDE_AND_CONQUER)) {
+			Assert.assertEquals(Implementation.DIVIDE_AND_CONQUER, Settings.getNondominatedSorting());
+			Assert.assertInstanceOf(DivideAndConquerNondominatedSorting.class,
+					NondominatedSorting.createDefault(new ParetoDominanceComparator()));
+		}
+	}
+	
 	@Test
 	public void testCreateKey() {
 		Assert.assertEquals("", Settings.createKey(""));
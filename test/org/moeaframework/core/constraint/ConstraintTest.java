@@ -42,6 +42,25 @@ public class ConstraintTest {
 		Assert.assertTrue(equal.isViolation());
 	}
 	
+	@Test
+	public void testGetMagnitudeOfViolationForValue() {
+		Constraint[] constraints = new Constraint[] { Equal.to(5.0), NotEqual.to(5.0), LessThan.value(5.0),
+				LessThanOrEqual.to(5.0), GreaterThan.value(5.0), GreaterThanOrEqual.to(5.0), Between.values(4.0, 6.0),
+				Outside.values(4.0, 6.0) };
+		
+		for (Constraint constraint : constraints) {
+			constraint.setValue(1.0);
+			
+			for (double value : new double[] { 3.0, 4.0, 5.0, 6.0, 7.0, Double.NaN }) {
+				Assert.assertEquals(constraint.copy().withValue(value).getMagnitudeOfViolation(),
+						constraint.getMagnitudeOfViolation(value), 0.0);
+			}
+			
+			// the stored value is unchanged
+			Assert.assertEquals(1.0, constraint.getValue(), 0.0);
+		}
+	}
+	
 	@Test
 	public void testGetNameOrDefault() {
 		Assert.assertEquals("Constr1", Constraint.getNameOrDefault(Equal.to(5.0), 0));
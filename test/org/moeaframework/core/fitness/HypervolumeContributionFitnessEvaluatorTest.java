@@ -0,0 +1,174 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.fitness;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.attribute.Fitness;
+import org.moeaframework.core.indicator.PISAHypervolume;
+import org.moeaframework.core.population.Population;
+import org.moeaframework.mock.MockRealProblem;
+import org.moeaframework.mock.MockSolution;
+
+public class HypervolumeContributionFitnessEvaluatorTest {
+	
+	@Test
+	public void testSmallPopulation() {
+		Population population = new Population();
+		population.add(MockSolution.of().withObjectives(0.0, 1.0));
+		population.add(MockSolution.of().withObjectives(1.0, 0.0));
+		
+		new HypervolumeContributionFitnessEvaluator(new MockRealProblem(2)).evaluate(population);
+		
+		Assert.assertEquals(0.0, Fitness.getAttribute(population.get(0)), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.0, Fitness.getAttribute(population.get(1)), TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testDominatedPopulation() {
+		Population population = new Population();
+		population.add(MockSolution.of().withObjectives(0.0, 1.0));
+		population.add(MockSolution.of().withObjectives(1.0, 0.0));
+		population.add(MockSolution.of().withObjectives(0.5, 0.5));
+		population.add(MockSolution.of().withObjectives(0.25, 0.25));
+		
+		new HypervolumeContributionFitnessEvaluator(new MockRealProblem(2)).evaluate(population);
+		
+		Assert.assertEquals(0.0, Fitness.getAttribute(population.get(3)), TestEnvironment.HIGH_PRECISION);
+		Assert.assertGreaterThan(Fitness.getAttribute(population.get(2)), 0.0);
+	}
+	
+	@Test
+	public void testContributions() {
+		// the volume is measured from the origin using the objective values, which are not normalized
+		Population population = new Population();
+		population.add(MockSolution.of().withObjectives(1.0, 100.0));
+		population.add(MockSolution.of().withObjectives(5.0, 50.0));
+		population.add(MockSolution.of().withObjectives(10.0, 1.0));
+		
+		new HypervolumeContributionFitnessEvaluator(new MockRealProblem(2), 1.0).evaluate(population);
+		
+		Assert.assertEquals(50.0, Fitness.getAttribute(population.get(0)), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(196.0, Fitness.getAttribute(population.get(1)), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(5.0, Fitness.getAttribute(population.get(2)), TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testMatchesPISA() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+			MockRealProblem problem = new MockRealProblem(numberOfObjectives);
+			Population population = generate(50, numberOfObjectives);
+			
+			new HypervolumeContributionFitnessEvaluator(problem, 1.0).evaluate(population);
+			
+			double[] expected = calculateWithPISA(population);
+			
+			for (int i = 0; i < population.size(); i++) {
+				Assert.assertEquals(expected[i], Fitness.getAttribute(population.get(i)), TestEnvironment.HIGH_PRECISION);
+			}
+		}
+	}
+	
+	@Test
+	public void testMatchesPISAWithNegativeValues() {
+		MockRealProblem problem = new MockRealProblem(2);
+		Population population = generate(20, 2);
+		population.get(0).setObjectiveValue(0, -0.5);
+		
+		new HypervolumeContributionFitnessEvaluator(problem, 1.0).evaluate(population);
+		
+		double[] expected = calculateWithPISA(population);
+		
+		for (int i = 0; i < population.size(); i++) {
+			Assert.assertEquals(expected[i], Fitness.getAttribute(population.get(i)), TestEnvironment.HIGH_PRECISION);
+		}
+	}
+	
+	@Test
+	public void testSteadyState() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+			MockRealProblem problem = new MockRealProblem(numberOfObjectives);
+			HypervolumeContributionFitnessEvaluator fitness = new HypervolumeContributionFitnessEvaluator(problem, 1.0);
+			Population population = generate(30, numberOfObjectives);
+			
+			for (int step = 0; step < 50; step++) {
+				// replace one interior solution each step so the bounds are typically unchanged
+				population.addAll(generate(1, numberOfObjectives));
+				fitness.evaluate(population);
+				assertMatchesFresh(population, problem);
+				
+				population.remove(PRNG.nextInt(population.size()));
+				fitness.evaluate(population);
+				assertMatchesFresh(population, problem);
+			}
+		}
+	}
+	
+	private void assertMatchesFresh(Population population, MockRealProblem problem) {
+		double[] actual = new double[population.size()];
+		
+		for (int i = 0; i < population.size(); i++) {
+			actual[i] = Fitness.getAttribute(population.get(i));
+		}
+		
+		new HypervolumeContributionFitnessEvaluator(problem, 1.0).evaluate(population);
+		
+		for (int i = 0; i < population.size(); i++) {
+			Assert.assertEquals(Fitness.getAttribute(population.get(i)), actual[i], TestEnvironment.HIGH_PRECISION);
+		}
+	}
+	
+	private Population generate(int size, int numberOfObjectives) {
+		Population population = new Population();
+		
+		for (int i = 0; i < size; i++) {
+			double[] objectives = new double[numberOfObjectives];
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				objectives[j] = 0.05 + 0.9 * PRNG.nextDouble();
+			}
+			
+			population.add(MockSolution.of().withObjectives(objectives));
+		}
+		
+		return population;
+	}
+	
+	private double[] calculateWithPISA(Population population) {
+		List<Solution> solutions = population.asList();
+		int numberOfObjectives = population.get(0).getNumberOfObjectives();
+		double total = PISAHypervolume.calculateHypervolume(new ArrayList<>(solutions), solutions.size(),
+				numberOfObjectives);
+		double[] result = new double[solutions.size()];
+		
+		for (int i = 0; i < solutions.size(); i++) {
+			List<Solution> copy = new ArrayList<>(solutions);
+			copy.remove(i);
+			result[i] = total - PISAHypervolume.calculateHypervolume(copy, copy.size(), numberOfObjectives);
+		}
+		
+		return result;
+	}
+
+}
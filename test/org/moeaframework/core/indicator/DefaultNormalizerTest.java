@@ -17,6 +17,8 @@
  */
 package org.moeaframework.core.indicator;
 
+import java.lang.ref.WeakReference;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -65,6 +67,86 @@ public class DefaultNormalizerTest {
 		Assert.assertArrayEquals(new double[] { 0.5, 0.5 }, population.get(0).getObjectiveValues(), TestEnvironment.HIGH_PRECISION);
 	}
 	
+	@Test
+	public void testCache() {
+		DefaultNormalizer defaultNormalizer = DefaultNormalizer.getInstance();
+		defaultNormalizer.clearCache();
+		
+		ReferenceSetIndex index = defaultNormalizer.getReferenceSetIndex(referenceSet,
+				defaultNormalizer.getNormalizer(problem, referenceSet));
+		
+		Assert.assertSame(index, defaultNormalizer.getReferenceSetIndex(referenceSet,
+				defaultNormalizer.getNormalizer(problem, referenceSet)));
+		Assert.assertSame(index, new GenerationalDistance(problem, referenceSet).getReferenceSetIndex());
+		Assert.assertSame(index, new InvertedGenerationalDistance(problem, referenceSet).getReferenceSetIndex());
+		
+		// different bounds
+		Assert.assertNotSame(index, defaultNormalizer.getReferenceSetIndex(referenceSet,
+				new Normalizer(new double[] { 0.0, 0.0 }, new double[] { 2.0, 2.0 })));
+		
+		// modified reference set
+		referenceSet.add(MockSolution.of(problem).withObjectives(0.25, 0.25));
+		
+		ReferenceSetIndex modifiedIndex = defaultNormalizer.getReferenceSetIndex(referenceSet,
+				defaultNormalizer.getNormalizer(problem, referenceSet));
+		
+		Assert.assertNotSame(index, modifiedIndex);
+		Assert.assertEquals(3, modifiedIndex.getPoints().length);
+		
+		defaultNormalizer.clearCache();
+		
+		Assert.assertNotSame(modifiedIndex, defaultNormalizer.getReferenceSetIndex(referenceSet,
+				defaultNormalizer.getNormalizer(problem, referenceSet)));
+	}
+	
+	@Test
+	public void testCacheModifiedSolution() {
+		DefaultNormalizer defaultNormalizer = DefaultNormalizer.getInstance();
+		Normalizer normalizer = new Normalizer(new double[] { 0.0, 0.0 }, new double[] { 1.0, 1.0 });
+		ReferenceSetIndex index = defaultNormalizer.getReferenceSetIndex(referenceSet, normalizer);
+		
+		// has the same Double#hashCode as 0.0, so the fingerprint must use all 64 bits of each value
+		double value = Double.longBitsToDouble(0x0000000100000001L);
+		Assert.assertEquals(Double.hashCode(0.0), Double.hashCode(value));
+		
+		referenceSet.get(0).setObjectiveValue(0, value);
+		
+		ReferenceSetIndex modifiedIndex = defaultNormalizer.getReferenceSetIndex(referenceSet, normalizer);
+		
+		Assert.assertNotSame(index, modifiedIndex);
+		Assert.assertEquals(value, modifiedIndex.getPoints()[0][0]);
+	}
+	
+	@Test
+	public void testCacheDoesNotRetainReferenceSet() {
+		DefaultNormalizer defaultNormalizer = DefaultNormalizer.getInstance();
+		NondominatedPopulation referenceSet = this.referenceSet.copy();
+		Normalizer normalizer = new Normalizer(new double[] { 0.0, 0.0 }, new double[] { 1.0, 1.0 });
+		defaultNormalizer.getReferenceSetIndex(referenceSet, normalizer);
+		
+		WeakReference<NondominatedPopulation> reference = new WeakReference<>(referenceSet);
+		referenceSet = null;
+		
+		for (int i = 0; i < 10 && reference.get() != null; i++) {
+			System.gc();
+		}
+		
+		Assert.assertNull(reference.get());
+	}
+	
+	@Test
+	public void testCacheEviction() {
+		DefaultNormalizer defaultNormalizer = DefaultNormalizer.getInstance();
+		Normalizer normalizer = defaultNormalizer.getNormalizer(problem, referenceSet);
+		ReferenceSetIndex index = defaultNormalizer.getReferenceSetIndex(referenceSet, normalizer);
+		
+		for (int i = 0; i < DefaultNormalizer.CACHE_SIZE; i++) {
+			defaultNormalizer.getReferenceSetIndex(referenceSet.copy(), normalizer);
+		}
+		
+		Assert.assertNotSame(index, defaultNormalizer.getReferenceSetIndex(referenceSet, normalizer));
+	}
+	
 	@Test(expected = IllegalArgumentException.class)
 	public void testSetNullInstance() {
 		DefaultNormalizer.setInstance(null);
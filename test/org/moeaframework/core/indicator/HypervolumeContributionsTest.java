@@ -0,0 +1,169 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+
+public class HypervolumeContributionsTest {
+	
+	@Test
+	public void test2D() {
+		double[][] points = new double[][] { { 0.0, 1.0 }, { 0.5, 0.5 }, { 1.0, 0.0 }, { 0.75, 0.75 } };
+		double[] contributions = HypervolumeContributions.calculate(points, new double[] { 2.0, 2.0 });
+		
+		Assert.assertEquals(0.5, contributions[0], TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.1875, contributions[1], TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.5, contributions[2], TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.0, contributions[3], TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testDuplicates() {
+		for (int numberOfObjectives = 1; numberOfObjectives <= 5; numberOfObjectives++) {
+			double[] point = new double[numberOfObjectives];
+			double[] referencePoint = new double[numberOfObjectives];
+			Arrays.fill(referencePoint, 1.0);
+			
+			double[] contributions = HypervolumeContributions.calculate(new double[][] { point, point.clone() },
+					referencePoint);
+			
+			Assert.assertEquals(0.0, contributions[0], TestEnvironment.HIGH_PRECISION);
+			Assert.assertEquals(0.0, contributions[1], TestEnvironment.HIGH_PRECISION);
+		}
+	}
+	
+	@Test
+	public void testOutsideReferencePoint() {
+		double[][] points = new double[][] { { 0.0, 3.0, 0.0 }, { 0.5, 0.5, 0.5 } };
+		double[] contributions = HypervolumeContributions.calculate(points, new double[] { 1.0, 1.0, 1.0 });
+		
+		Assert.assertEquals(0.0, contributions[0], TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.125, contributions[1], TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testMatchesPISA() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 6; numberOfObjectives++) {
+			for (int trial = 0; trial < 10; trial++) {
+				double[][] points = generate(30, numberOfObjectives, trial % 2 == 0);
+				double[] referencePoint = reference(numberOfObjectives);
+				double[] expected = calculateWithPISA(points, referencePoint);
+				double[] actual = HypervolumeContributions.calculate(points, referencePoint);
+				
+				Assert.assertArrayEquals(expected, actual, TestEnvironment.HIGH_PRECISION);
+			}
+		}
+	}
+	
+	@Test
+	public void testIncremental() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+			double[] referencePoint = reference(numberOfObjectives);
+			HypervolumeContributions contributions = new HypervolumeContributions(referencePoint,
+					generate(20, numberOfObjectives, true));
+			
+			for (int step = 0; step < 50; step++) {
+				if (step % 3 == 2) {
+					contributions.remove(PRNG.nextInt(contributions.size()));
+				} else {
+					contributions.add(generate(1, numberOfObjectives, step % 2 == 0)[0]);
+				}
+				
+				double[][] points = new double[contributions.size()][];
+				
+				for (int i = 0; i < points.length; i++) {
+					points[i] = contributions.getPoint(i);
+				}
+				
+				double[] expected = HypervolumeContributions.calculate(points, referencePoint);
+				
+				for (int i = 0; i < points.length; i++) {
+					Assert.assertEquals(expected[i], contributions.get(i), TestEnvironment.HIGH_PRECISION);
+				}
+			}
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidPoint() {
+		new HypervolumeContributions(new double[] { 1.0, 1.0 }).add(new double[] { 0.0, 0.0, 0.0 });
+	}
+	
+	private double[][] generate(int size, int numberOfObjectives, boolean discrete) {
+		double[][] points = new double[size][numberOfObjectives];
+		
+		for (int i = 0; i < size; i++) {
+			double sum = 0.0;
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				points[i][j] = discrete ? PRNG.nextInt(5) / 4.0 : PRNG.nextDouble();
+				sum += points[i][j];
+			}
+			
+			// project most points near a linear front, leaving some dominated points
+			if (!discrete && sum > 0.0 && PRNG.nextDouble() < 0.8) {
+				for (int j = 0; j < numberOfObjectives; j++) {
+					points[i][j] /= sum;
+				}
+			}
+		}
+		
+		return points;
+	}
+	
+	private double[] reference(int numberOfObjectives) {
+		double[] referencePoint = new double[numberOfObjectives];
+		Arrays.fill(referencePoint, 1.1);
+		return referencePoint;
+	}
+	
+	private double[] calculateWithPISA(double[][] points, double[] referencePoint) {
+		List<Solution> solutions = new ArrayList<>();
+		
+		for (double[] point : points) {
+			Solution solution = new Solution(0, point.length);
+			
+			for (int j = 0; j < point.length; j++) {
+				solution.setObjectiveValue(j, referencePoint[j] - point[j]);
+			}
+			
+			solutions.add(solution);
+		}
+		
+		double total = PISAHypervolume.calculateHypervolume(new ArrayList<>(solutions), solutions.size(),
+				referencePoint.length);
+		double[] result = new double[points.length];
+		
+		for (int i = 0; i < points.length; i++) {
+			List<Solution> copy = new ArrayList<>(solutions);
+			copy.remove(i);
+			result[i] = total - PISAHypervolume.calculateHypervolume(copy, copy.size(), referencePoint.length);
+		}
+		
+		return result;
+	}
+
+}
@@ -56,6 +56,11 @@ public class HypervolumeTest {
 		assertInstance("PISA", PISAHypervolume.class);
 	}
 	
+	@Test
+	public void testMonteCarlo() {
+		assertInstance("montecarlo", MonteCarloHypervolume.class);
+	}
+	
 	@Test
 	public void testNative() {
 		assertInstance("./wfg.exe {0}", NativeHypervolume.class);
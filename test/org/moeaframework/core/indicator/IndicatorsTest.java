@@ -17,19 +17,28 @@
  */
 package org.moeaframework.core.indicator;
 
+import java.util.EnumSet;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.moeaframework.Assert;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.PropertyScope;
 import org.moeaframework.core.Settings;
 import org.moeaframework.core.indicator.Indicators.IndicatorValues;
 import org.moeaframework.core.population.NondominatedPopulation;
 import org.moeaframework.core.spi.ProblemFactory;
+import org.moeaframework.mock.MockSolution;
 import org.moeaframework.problem.Problem;
 
 public class IndicatorsTest {
 	
+	private Problem problem;
+	
+	private NondominatedPopulation referenceSet;
+	
 	private Indicators indicators;
 	
 	private NondominatedPopulation testApproximationSet;
@@ -38,8 +47,8 @@ public class IndicatorsTest {
 	public void setUp() {
 		String problemName = "DTLZ2_2";
 		ProblemFactory problemFactory = ProblemFactory.getInstance();
-		Problem problem = problemFactory.getProblem(problemName);
-		NondominatedPopulation referenceSet = problemFactory.getReferenceSet(problemName);
+		problem = problemFactory.getProblem(problemName);
+		referenceSet = problemFactory.getReferenceSet(problemName);
 		
 		indicators = Indicators.of(problem, referenceSet);
 		testApproximationSet = referenceSet;
@@ -129,6 +138,42 @@ public class IndicatorsTest {
 		Assert.assertEquals(1, values.asProperties().size());
 	}
 	
+	@Test
+	public void testSharedReferenceSet() {
+		indicators.includeAllMetrics();
+		
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+		
+		for (int i = 0; i < 20; i++) {
+			double x = PRNG.nextDouble();
+			approximationSet.add(MockSolution.of().withObjectives(x, 1.2 - x));
+		}
+		
+		IndicatorValues values = indicators.apply(approximationSet);
+		
+		Assert.assertEquals(new GenerationalDistance(problem, referenceSet).evaluate(approximationSet),
+				values.getGenerationalDistance(), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(new GenerationalDistancePlus(problem, referenceSet).evaluate(approximationSet),
+				values.getGenerationalDistancePlus(), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(new InvertedGenerationalDistance(problem, referenceSet).evaluate(approximationSet),
+				values.getInvertedGenerationalDistance(), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(new InvertedGenerationalDistancePlus(problem, referenceSet).evaluate(approximationSet),
+				values.getInvertedGenerationalDistancePlus(), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(new AdditiveEpsilonIndicator(problem, referenceSet).evaluate(approximationSet),
+				values.getAdditiveEpsilonIndicator(), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(new MaximumParetoFrontError(problem, referenceSet).evaluate(approximationSet),
+				values.getMaximumParetoFrontError(), TestEnvironment.HIGH_PRECISION);
+		
+		ReferenceSetIndex index = ((NormalizedIndicator)indicators.getIndicator(
+				StandardIndicator.GenerationalDistance)).getReferenceSetIndex();
+		
+		for (StandardIndicator indicator : EnumSet.of(StandardIndicator.GenerationalDistancePlus,
+				StandardIndicator.InvertedGenerationalDistance, StandardIndicator.InvertedGenerationalDistancePlus,
+				StandardIndicator.AdditiveEpsilonIndicator, StandardIndicator.MaximumParetoFrontError)) {
+			Assert.assertSame(index, ((NormalizedIndicator)indicators.getIndicator(indicator)).getReferenceSetIndex());
+		}
+	}
+	
 	@Test
 	public void testDisabledHypervolume() {
 		try (PropertyScope scope = Settings.createScope().with(Settings.KEY_HYPERVOLUME_ENABLED, false)) {
@@ -0,0 +1,111 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.indicator.KDTree.Measure;
+
+public class KDTreeTest {
+	
+	@Test
+	public void testEmpty() {
+		KDTree tree = new KDTree(new double[0][], 2);
+		
+		for (Measure measure : Measure.values()) {
+			Assert.assertEquals(Double.POSITIVE_INFINITY, tree.nearest(new double[] { 0.5, 0.5 }, measure));
+		}
+	}
+	
+	@Test
+	public void testMeasures() {
+		KDTree tree = new KDTree(new double[][] { { 0.5, 0.5 } }, 2);
+		double[] query = new double[] { 0.0, 1.0 };
+		
+		Assert.assertEquals(Math.sqrt(0.5), tree.nearest(query, Measure.EUCLIDEAN), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.5, tree.nearest(query, Measure.PLUS), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.5, tree.nearest(query, Measure.INVERTED_PLUS), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.5, tree.nearest(query, Measure.ADDITIVE_EPSILON), TestEnvironment.HIGH_PRECISION);
+		
+		query = new double[] { 1.0, 1.0 };
+		
+		Assert.assertEquals(0.0, tree.nearest(query, Measure.INVERTED_PLUS), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.0, tree.nearest(query, Measure.ADDITIVE_EPSILON), TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testMatchesLinearScan() {
+		for (int trial = 0; trial < 20; trial++) {
+			int numberOfObjectives = 2 + trial % 4;
+			int levels = trial % 2 == 0 ? 5 : 1000;
+			
+			double[][] points = randomPoints(2000, numberOfObjectives, levels);
+			double[][] queries = randomPoints(200, numberOfObjectives, 1000);
+			KDTree tree = new KDTree(points, numberOfObjectives);
+			
+			for (Measure measure : Measure.values()) {
+				double[] actual = tree.nearest(queries, measure);
+				
+				for (int i = 0; i < queries.length; i++) {
+					Assert.assertEquals(linearScan(points, queries[i], measure), actual[i],
+							TestEnvironment.HIGH_PRECISION);
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testDuplicatePoints() {
+		double[][] points = new double[100][];
+		
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new double[] { 0.5, 0.5, 0.5 };
+		}
+		
+		KDTree tree = new KDTree(points, 3);
+		
+		Assert.assertEquals(100, tree.size());
+		Assert.assertEquals(0.0, tree.nearest(new double[] { 0.5, 0.5, 0.5 }, Measure.EUCLIDEAN),
+				TestEnvironment.HIGH_PRECISION);
+	}
+	
+	private double[][] randomPoints(int size, int numberOfObjectives, int levels) {
+		double[][] points = new double[size][numberOfObjectives];
+		
+		for (int i = 0; i < size; i++) {
+			for (int j = 0; j < numberOfObjectives; j++) {
+				points[i][j] = PRNG.nextInt(levels + 1) / (double)levels * 1.2 - 0.1;
+			}
+		}
+		
+		return points;
+	}
+	
+	private double linearScan(double[][] points, double[] query, Measure measure) {
+		double minimum = Double.POSITIVE_INFINITY;
+		
+		for (double[] point : points) {
+			minimum = Math.min(minimum, measure.distance(point, 0, query));
+		}
+		
+		return measure.finish(minimum);
+	}
+
+}
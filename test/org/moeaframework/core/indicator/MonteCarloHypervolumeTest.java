@@ -0,0 +1,194 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.indicator.MonteCarloHypervolume.Estimate;
+import org.moeaframework.core.indicator.MonteCarloHypervolume.Sampling;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.core.spi.ProblemFactory;
+import org.moeaframework.mock.MockRealProblem;
+import org.moeaframework.mock.MockSolution;
+import org.moeaframework.problem.Problem;
+
+public class MonteCarloHypervolumeTest {
+	
+	@Test
+	public void testEmpty() {
+		MonteCarloHypervolume hypervolume = createInstance(new MockRealProblem(2), Sampling.SOBOL);
+		Estimate estimate = hypervolume.estimate(new NondominatedPopulation());
+		
+		Assert.assertEquals(0.0, estimate.getValue(), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.0, estimate.getError(), TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testDefaultBounds() {
+		MonteCarloHypervolume hypervolume = createInstance(new MockRealProblem(2), Sampling.SOBOL);
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+		
+		approximationSet.add(MockSolution.of().withObjectives(0.0, 0.0));
+		Assert.assertEquals(1.0, hypervolume.evaluate(approximationSet), TestEnvironment.HIGH_PRECISION);
+		
+		approximationSet.clear();
+		approximationSet.add(MockSolution.of().withObjectives(2.0, 2.0));
+		Assert.assertEquals(0.0, hypervolume.evaluate(approximationSet), TestEnvironment.HIGH_PRECISION);
+		
+		approximationSet.clear();
+		approximationSet.add(MockSolution.of().withObjectives(0.5, 0.5));
+		assertEstimate(0.25, hypervolume.estimate(approximationSet));
+		
+		approximationSet.clear();
+		approximationSet.add(MockSolution.of().withObjectives(-0.5, -0.5));
+		assertEstimate(2.25, hypervolume.estimate(approximationSet));
+	}
+	
+	@Test
+	public void testWellKnownSets() {
+		for (Sampling sampling : Sampling.values()) {
+			testWellKnownSet("DTLZ2_2", sampling);
+			testWellKnownSet("DTLZ2_4", sampling);
+			testWellKnownSet("DTLZ2_6", sampling);
+		}
+	}
+	
+	@Test
+	public void testSobolMoreAccurate() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_3");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance().getReferenceSet("DTLZ2_3");
+		
+		Estimate random = createInstance(problem, referenceSet, Sampling.RANDOM).estimate(referenceSet);
+		Estimate sobol = createInstance(problem, referenceSet, Sampling.SOBOL).estimate(referenceSet);
+		
+		Assert.assertLessThan(sobol.getStandardError(), random.getStandardError());
+	}
+	
+	@Test
+	public void testTolerance() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_4");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance().getReferenceSet("DTLZ2_4");
+		double expected = new WFGNormalizedHypervolume(problem, referenceSet).evaluate(referenceSet);
+		
+		MonteCarloHypervolume hypervolume = new MonteCarloHypervolume(problem,
+				DefaultNormalizer.getInstance().getHypervolumeNormalizer(problem, referenceSet),
+				Sampling.RANDOM, 10000000, 0.01, 0.95);
+		Estimate estimate = hypervolume.estimate(referenceSet);
+		
+		Assert.assertLessThanOrEqual(estimate.getError(), 0.01);
+		Assert.assertLessThan(estimate.getNumberOfSamples(), 10000000L);
+		Assert.assertEquals(expected, estimate.getValue(), 5 * estimate.getStandardError());
+	}
+	
+	@Test
+	public void testReproducible() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_3");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance().getReferenceSet("DTLZ2_3");
+		
+		for (Sampling sampling : Sampling.values()) {
+			MonteCarloHypervolume hypervolume = createInstance(problem, referenceSet, sampling);
+			
+			PRNG.setSeed(1234);
+			double value1 = hypervolume.evaluate(referenceSet);
+			
+			PRNG.setSeed(5678);
+			double value2 = hypervolume.evaluate(referenceSet);
+			
+			Assert.assertEquals(value1, value2);
+		}
+	}
+	
+	@Test
+	public void testSeed() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_3");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance().getReferenceSet("DTLZ2_3");
+		Normalizer normalizer = DefaultNormalizer.getInstance().getHypervolumeNormalizer(problem, referenceSet);
+		
+		MonteCarloHypervolume hypervolume1 = new MonteCarloHypervolume(problem, normalizer, Sampling.RANDOM, 100000,
+				0.0, 0.95, 1);
+		MonteCarloHypervolume hypervolume2 = new MonteCarloHypervolume(problem, normalizer, Sampling.RANDOM, 100000,
+				0.0, 0.95, 2);
+		
+		Assert.assertEquals(1L, hypervolume1.getSeed());
+		Assert.assertNotEquals(hypervolume1.evaluate(referenceSet), hypervolume2.evaluate(referenceSet));
+	}
+	
+	@Test
+	public void testDoesNotUsePRNG() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_3");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance().getReferenceSet("DTLZ2_3");
+		MonteCarloHypervolume hypervolume = createInstance(problem, referenceSet, Sampling.SOBOL);
+		
+		PRNG.setSeed(1234);
+		double expected = PRNG.nextDouble();
+		
+		PRNG.setSeed(1234);
+		hypervolume.evaluate(referenceSet);
+		
+		Assert.assertEquals(expected, PRNG.nextDouble());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSamples() {
+		Problem problem = new MockRealProblem(2);
+		new MonteCarloHypervolume(problem, new Normalizer(new double[] { 0.0, 0.0 }, new double[] { 1.0, 1.0 }),
+				Sampling.SOBOL, 0, 0.0, 0.95);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidTolerance() {
+		Problem problem = new MockRealProblem(2);
+		new MonteCarloHypervolume(problem, new Normalizer(new double[] { 0.0, 0.0 }, new double[] { 1.0, 1.0 }),
+				Sampling.SOBOL, 1000, -1.0, 0.95);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidConfidence() {
+		Problem problem = new MockRealProblem(2);
+		new MonteCarloHypervolume(problem, new Normalizer(new double[] { 0.0, 0.0 }, new double[] { 1.0, 1.0 }),
+				Sampling.SOBOL, 1000, 0.0, 1.0);
+	}
+	
+	private void testWellKnownSet(String problemName, Sampling sampling) {
+		Problem problem = ProblemFactory.getInstance().getProblem(problemName);
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance().getReferenceSet(problemName);
+		double expected = new WFGNormalizedHypervolume(problem, referenceSet).evaluate(referenceSet);
+		
+		assertEstimate(expected, createInstance(problem, referenceSet, sampling).estimate(referenceSet));
+	}
+	
+	private void assertEstimate(double expected, Estimate estimate) {
+		Assert.assertLessThan(estimate.getError(), 0.01);
+		Assert.assertEquals(expected, estimate.getValue(), Math.max(5 * estimate.getStandardError(), 0.001));
+	}
+	
+	private MonteCarloHypervolume createInstance(Problem problem, Sampling sampling) {
+		return new MonteCarloHypervolume(problem, new Normalizer(new double[] { 0.0, 0.0 }, new double[] { 1.0, 1.0 }),
+				sampling, 100000, 0.0, 0.95);
+	}
+	
+	private MonteCarloHypervolume createInstance(Problem problem, NondominatedPopulation referenceSet,
+			Sampling sampling) {
+		return new MonteCarloHypervolume(problem,
+				DefaultNormalizer.getInstance().getHypervolumeNormalizer(problem, referenceSet), sampling, 100000, 0.0,
+				0.95);
+	}
+
+}
@@ -0,0 +1,137 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.mock.MockRealProblem;
+import org.moeaframework.mock.MockSolution;
+
+public class WFGHypervolumeTest {
+	
+	@Test
+	public void testEmpty() {
+		Assert.assertEquals(0.0, WFGHypervolume.calculate(new double[0][], new double[] { 1.0, 1.0, 1.0, 1.0 }),
+				TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testOutsideReferencePoint() {
+		double[][] points = new double[][] { { 0.5, 0.5, 0.5, 0.5 }, { 0.0, 0.0, 0.0, 1.5 }, { 0.0, 0.0, 1.0, 0.0 } };
+		
+		Assert.assertEquals(0.0625, WFGHypervolume.calculate(points, new double[] { 1.0, 1.0, 1.0, 1.0 }),
+				TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testDominatedAndDuplicates() {
+		for (int numberOfObjectives = 1; numberOfObjectives <= 6; numberOfObjectives++) {
+			double[] referencePoint = new double[numberOfObjectives];
+			double[] point = new double[numberOfObjectives];
+			double[] dominated = new double[numberOfObjectives];
+			
+			Arrays.fill(referencePoint, 1.0);
+			Arrays.fill(point, 0.5);
+			Arrays.fill(dominated, 0.75);
+			
+			Assert.assertEquals(Math.pow(0.5, numberOfObjectives),
+					WFGHypervolume.calculate(new double[][] { dominated, point, point.clone() }, referencePoint),
+					TestEnvironment.HIGH_PRECISION);
+		}
+	}
+	
+	@Test
+	public void testMatchesPISA() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 7; numberOfObjectives++) {
+			for (int trial = 0; trial < 10; trial++) {
+				double[][] points = generate(40, numberOfObjectives, trial % 2 == 0);
+				double[] referencePoint = new double[numberOfObjectives];
+				Arrays.fill(referencePoint, 1.1);
+				
+				Assert.assertEquals(calculateWithPISA(points, referencePoint),
+						WFGHypervolume.calculate(points, referencePoint), TestEnvironment.HIGH_PRECISION);
+			}
+		}
+	}
+	
+	@Test
+	public void testEvaluate() {
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+		approximationSet.add(MockSolution.of().withObjectives(0.0, 0.5, 0.5, 0.5));
+		approximationSet.add(MockSolution.of().withObjectives(0.5, 0.0, 0.5, 0.5));
+		approximationSet.add(MockSolution.of().withObjectives(0.5, 0.5, 0.0, 2.0));
+		
+		WFGHypervolume hypervolume = new WFGHypervolume(new MockRealProblem(4), new double[] { 1.0, 1.0, 1.0, 1.0 });
+		
+		Assert.assertEquals(0.1875, hypervolume.evaluate(approximationSet), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(3, approximationSet.size());
+	}
+	
+	private double[][] generate(int size, int numberOfObjectives, boolean discrete) {
+		double[][] points = new double[size][numberOfObjectives];
+		
+		for (int i = 0; i < size; i++) {
+			double sum = 0.0;
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				points[i][j] = discrete ? PRNG.nextInt(5) / 4.0 : PRNG.nextDouble();
+				sum += points[i][j];
+			}
+			
+			// project most points near a linear front, leaving some dominated points
+			if (!discrete && sum > 0.0 && PRNG.nextDouble() < 0.8) {
+				for (int j = 0; j < numberOfObjectives; j++) {
+					points[i][j] /= sum;
+				}
+			}
+		}
+		
+		return points;
+	}
+	
+	private double calculateWithPISA(double[][] points, double[] referencePoint) {
+		NondominatedPopulation population = new NondominatedPopulation();
+		
+		for (double[] point : points) {
+			population.add(MockSolution.of().withObjectives(point));
+		}
+		
+		List<Solution> solutions = new ArrayList<>();
+		
+		for (Solution solution : population) {
+			Solution newSolution = new Solution(0, referencePoint.length);
+			
+			for (int j = 0; j < referencePoint.length; j++) {
+				newSolution.setObjectiveValue(j, referencePoint[j] - solution.getObjectiveValue(j));
+			}
+			
+			solutions.add(newSolution);
+		}
+		
+		return PISAHypervolume.calculateHypervolume(solutions, solutions.size(), referencePoint.length);
+	}
+
+}
@@ -17,9 +17,13 @@
  */
 package org.moeaframework.core.operator;
 
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.junit.Ignore;
+import org.moeaframework.Assert;
+import org.moeaframework.TestEnvironment;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 import org.moeaframework.util.Vector;
 
 @Ignore("Abstract test class")
@@ -54,4 +58,67 @@ public abstract class DistributionVariationTest<T extends Variation> extends Abs
 		return Vector.divide(average, solutions.length);
 	}
 
+
+	/**
+	 * Checks that the operator produces the same distribution of offspring when the variables are stored in a
+	 * {@link RealVectorVariable}, comparing the mean and standard deviation of each value.
+	 * 
+	 * @param operator the operator
+	 * @param parents the parents, containing only {@link RealVariable}s
+	 */
+	protected void checkRealVectorDistribution(T operator, Solution[] parents) {
+		Solution[] vectorParents = new Solution[parents.length];
+		
+		for (int i = 0; i < parents.length; i++) {
+			double[] lowerBounds = new double[parents[i].getNumberOfVariables()];
+			double[] upperBounds = new double[parents[i].getNumberOfVariables()];
+			
+			for (int j = 0; j < parents[i].getNumberOfVariables(); j++) {
+				RealVariable variable = (RealVariable)parents[i].getVariable(j);
+				lowerBounds[j] = variable.getLowerBound();
+				upperBounds[j] = variable.getUpperBound();
+			}
+			
+			RealVectorVariable vector = new RealVectorVariable(lowerBounds, upperBounds);
+			vector.setValues(RealVariable.getReal(parents[i]));
+			
+			vectorParents[i] = new Solution(1, 0);
+			vectorParents[i].setVariable(0, vector);
+		}
+		
+		DescriptiveStatistics[] expected = sample(operator, parents);
+		DescriptiveStatistics[] actual = sample(operator, vectorParents);
+		
+		for (int i = 0; i < expected.length; i++) {
+			Assert.assertEquals(expected[i].getMean(), actual[i].getMean(), TestEnvironment.LOW_PRECISION);
+			Assert.assertEquals(expected[i].getStandardDeviation(), actual[i].getStandardDeviation(),
+					TestEnvironment.LOW_PRECISION);
+		}
+	}
+	
+	private DescriptiveStatistics[] sample(T operator, Solution[] parents) {
+		DescriptiveStatistics[] statistics = null;
+		
+		for (int i = 0; i < TestEnvironment.SAMPLES; i++) {
+			for (Solution offspring : operator.evolve(parents)) {
+				double[] values = offspring.getVariable(0) instanceof RealVectorVariable vector ?
+						vector.getValues() : RealVariable.getReal(offspring);
+				
+				if (statistics == null) {
+					statistics = new DescriptiveStatistics[values.length];
+					
+					for (int j = 0; j < values.length; j++) {
+						statistics[j] = new DescriptiveStatistics();
+					}
+				}
+				
+				for (int j = 0; j < values.length; j++) {
+					statistics[j].addValue(values[j]);
+				}
+			}
+		}
+		
+		return statistics;
+	}
+
 }
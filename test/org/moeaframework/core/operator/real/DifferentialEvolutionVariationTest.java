@@ -21,6 +21,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.moeaframework.Assert;
 import org.moeaframework.CIRunner;
+import org.moeaframework.Retryable;
 import org.moeaframework.TestEnvironment;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.operator.MeanCentricVariationTest;
@@ -63,4 +64,20 @@ public class DifferentialEvolutionVariationTest extends MeanCentricVariationTest
 		Assert.assertEquals(5.0, RealVariable.getReal(offspring.getVariable(1)), TestEnvironment.LOW_PRECISION);
 	}
 
+
+	@Test
+	@Retryable
+	public void testRealVectorVariable() {
+		Solution[] parents = new Solution[4];
+		
+		for (int i = 0; i < parents.length; i++) {
+			parents[i] = new Solution(3, 0);
+			parents[i].setVariable(0, new RealVariable(0.0, 1.0).withValue(0.1 * i));
+			parents[i].setVariable(1, new RealVariable(0.0, 1.0).withValue(0.9 - 0.2 * i));
+			parents[i].setVariable(2, new RealVariable(-1.0, 1.0).withValue(0.5));
+		}
+		
+		checkRealVectorDistribution(new DifferentialEvolutionVariation(0.5, 0.5), parents);
+	}
+
 }
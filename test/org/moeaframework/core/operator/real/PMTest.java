@@ -17,6 +17,7 @@
  */
 package org.moeaframework.core.operator.real;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.moeaframework.CIRunner;
@@ -25,6 +26,7 @@ import org.moeaframework.TestEnvironment;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.operator.MeanCentricVariationTest;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 
 @RunWith(CIRunner.class)
 public class PMTest extends MeanCentricVariationTest<PM> {
@@ -54,4 +56,28 @@ public class PMTest extends MeanCentricVariationTest<PM> {
 		checkDistribution(parents, offspring);
 	}
 
+
+	@Test
+	@Retryable
+	public void testRealVectorVariable() {
+		Solution parent = new Solution(3, 0);
+		parent.setVariable(0, new RealVariable(0.0, 1.0).withValue(0.2));
+		parent.setVariable(1, new RealVariable(0.0, 1.0).withValue(0.5));
+		parent.setVariable(2, new RealVariable(-1.0, 1.0).withValue(0.9));
+		
+		checkRealVectorDistribution(new PM(0.25, 20.0), new Solution[] { parent });
+	}
+	
+	@Test
+	public void testRealVectorVariableTinyProbability() {
+		RealVectorVariable vector = new RealVectorVariable(1000, 0.0, 1.0).withValues(new double[1000]);
+		
+		for (int i = 0; i < TestEnvironment.SAMPLES; i++) {
+			new PM(Double.MIN_VALUE, 20.0).mutate(vector);
+			new PM(1e-300, 20.0).mutate(vector);
+		}
+		
+		Assert.assertArrayEquals(new double[1000], vector.getValues(), 0.0);
+	}
+
 }
@@ -158,4 +158,24 @@ public class SBXTest extends ParentCentricVariationTest<SBX> {
 		PRNG.setRandom(originalRandom);
 	}
 
+
+	@Test
+	@Retryable
+	public void testRealVectorVariable() {
+		Solution s1 = new Solution(3, 0);
+		s1.setVariable(0, new RealVariable(0.0, 1.0).withValue(0.2));
+		s1.setVariable(1, new RealVariable(0.0, 1.0).withValue(0.5));
+		s1.setVariable(2, new RealVariable(-1.0, 1.0).withValue(0.9));
+		
+		Solution s2 = new Solution(3, 0);
+		s2.setVariable(0, new RealVariable(0.0, 1.0).withValue(0.6));
+		s2.setVariable(1, new RealVariable(0.0, 1.0).withValue(0.5));
+		s2.setVariable(2, new RealVariable(-1.0, 1.0).withValue(-0.4));
+		
+		Solution[] parents = new Solution[] { s1, s2 };
+		
+		checkRealVectorDistribution(new SBX(1.0, 15.0), parents);
+		checkRealVectorDistribution(new SBX(1.0, 15.0, false, true), parents);
+	}
+
 }
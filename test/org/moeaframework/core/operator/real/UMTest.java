@@ -67,4 +67,16 @@ public class UMTest extends DistributionVariationTest<UM> {
 		}
 	}
 
+
+	@Test
+	@Retryable
+	public void testRealVectorVariable() {
+		Solution parent = new Solution(3, 0);
+		parent.setVariable(0, new RealVariable(0.0, 1.0).withValue(0.2));
+		parent.setVariable(1, new RealVariable(0.0, 1.0).withValue(0.5));
+		parent.setVariable(2, new RealVariable(-1.0, 1.0).withValue(0.9));
+		
+		checkRealVectorDistribution(new UM(0.25), new Solution[] { parent });
+	}
+
 }
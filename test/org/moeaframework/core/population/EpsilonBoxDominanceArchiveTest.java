@@ -22,7 +22,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.moeaframework.Assert;
 import org.moeaframework.core.Epsilons;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
+import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
 import org.moeaframework.core.spi.ProblemFactory;
 import org.moeaframework.mock.MockSolution;
 
@@ -183,5 +185,42 @@ public class EpsilonBoxDominanceArchiveTest {
 		Assert.assertSame(population.getComparator(), copy.getComparator());
 		Assert.assertEquals(population, copy, true);
 	}
+	
+	@Test
+	public void testMatchesUnindexedArchive() {
+		for (int trial = 0; trial < 20; trial++) {
+			int numberOfObjectives = 2 + trial % 3;
+			boolean constrained = trial % 4 == 0;
+			
+			EpsilonBoxDominanceArchive expected = new EpsilonBoxDominanceArchive(
+					new EpsilonBoxDominanceComparator(0.01) {});
+			EpsilonBoxDominanceArchive actual = new EpsilonBoxDominanceArchive(0.01);
+			
+			Assert.assertFalse(expected.isIndexed());
+			Assert.assertTrue(actual.isIndexed());
+			
+			for (int i = 0; i < 2000; i++) {
+				double[] objectives = new double[numberOfObjectives];
+				
+				for (int j = 0; j < numberOfObjectives; j++) {
+					objectives[j] = PRNG.nextDouble();
+				}
+				
+				Solution solution = MockSolution.of().withObjectives(objectives)
+						.withConstraints(constrained ? PRNG.nextInt(3) / (i + 1.0) : 0.0);
+				
+				Assert.assertEquals(expected.add(solution), actual.add(solution));
+			}
+			
+			Assert.assertEquals(expected.getNumberOfImprovements(), actual.getNumberOfImprovements());
+			Assert.assertEquals(expected.getNumberOfDominatingImprovements(),
+					actual.getNumberOfDominatingImprovements());
+			Assert.assertEquals(expected.size(), actual.size());
+			
+			for (int i = 0; i < expected.size(); i++) {
+				Assert.assertSame(expected.get(i), actual.get(i));
+			}
+		}
+	}
 
 }
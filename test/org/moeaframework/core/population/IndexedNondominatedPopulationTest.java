@@ -0,0 +1,205 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.population;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.comparator.ObjectiveComparator;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
+import org.moeaframework.core.population.NondominatedPopulation.DuplicateMode;
+import org.moeaframework.mock.MockSolution;
+
+public class IndexedNondominatedPopulationTest {
+	
+	@Test
+	public void testAdd() {
+		IndexedNondominatedPopulation population = new IndexedNondominatedPopulation();
+		
+		Solution solution1 = MockSolution.of().withObjectives(1.0, 2.0, 3.0);
+		Solution solution2 = MockSolution.of().withObjectives(1.0, 3.0, 2.0);
+		Solution solution3 = MockSolution.of().withObjectives(2.0, 1.0, 3.0);
+		Solution solution4 = MockSolution.of().withObjectives(1.0, 1.0, 3.0);
+		Solution solution5 = MockSolution.of().withObjectives(1.0, 2.0, 3.0);
+		Solution solution6 = MockSolution.of().withObjectives(1.0, 1.0, 3.0);
+		
+		Assert.assertTrue(population.add(solution1));
+		Assert.assertTrue(population.add(solution2));
+		Assert.assertTrue(population.add(solution3));
+		Assert.assertEquals(3, population.size());
+		Assert.assertTrue(population.add(solution4));
+		Assert.assertEquals(2, population.size());
+		Assert.assertFalse(population.add(solution5));
+		Assert.assertFalse(population.add(solution6));
+		Assert.assertEquals(2, population.size());
+		Assert.assertTrue(population.contains(solution2));
+		Assert.assertTrue(population.contains(solution4));
+	}
+	
+	@Test
+	public void testConstraints() {
+		IndexedNondominatedPopulation population = new IndexedNondominatedPopulation();
+		
+		Solution solution1 = MockSolution.of().withObjectives(0.0, 0.0).withConstraints(2.0);
+		Solution solution2 = MockSolution.of().withObjectives(1.0, 0.0).withConstraints(1.0);
+		Solution solution3 = MockSolution.of().withObjectives(0.0, 1.0).withConstraints(1.0);
+		Solution solution4 = MockSolution.of().withObjectives(0.0, 0.0).withConstraints(3.0);
+		
+		Assert.assertTrue(population.add(solution1));
+		Assert.assertTrue(population.add(solution2));
+		Assert.assertTrue(population.add(solution3));
+		Assert.assertFalse(population.add(solution4));
+		Assert.assertEquals(2, population.size());
+		Assert.assertTrue(population.contains(solution2));
+		Assert.assertTrue(population.contains(solution3));
+	}
+	
+	@Test
+	public void testMatchesNondominatedPopulation() {
+		for (int trial = 0; trial < 50; trial++) {
+			int numberOfObjectives = 2 + trial % 4;
+			int levels = trial % 2 == 0 ? 10 : 1000;
+			boolean constrained = trial % 5 == 0;
+			
+			NondominatedPopulation expected = new NondominatedPopulation();
+			IndexedNondominatedPopulation actual = new IndexedNondominatedPopulation();
+			
+			for (int i = 0; i < 2000; i++) {
+				double[] objectives = new double[numberOfObjectives];
+				
+				for (int j = 0; j < numberOfObjectives; j++) {
+					objectives[j] = PRNG.nextInt(levels) + 0.001 * i / 2000.0;
+				}
+				
+				Solution solution = MockSolution.of().withObjectives(objectives)
+						.withConstraints(constrained ? PRNG.nextInt(3) / (i + 1.0) : 0.0);
+				
+				Assert.assertEquals(expected.add(solution), actual.add(solution));
+			}
+			
+			assertSameOrder(expected, actual);
+		}
+	}
+	
+	@Test
+	public void testRemove() {
+		IndexedNondominatedPopulation population = new IndexedNondominatedPopulation();
+		
+		for (int i = 0; i < 500; i++) {
+			double x = PRNG.nextDouble();
+			population.add(MockSolution.of().withObjectives(x, 1.0 - x, PRNG.nextDouble()));
+		}
+		
+		Iterator<Solution> iterator = population.iterator();
+		
+		while (iterator.hasNext()) {
+			Solution solution = iterator.next();
+			
+			if (solution.getObjectiveValue(0) < 0.5) {
+				iterator.remove();
+			}
+		}
+		
+		population.remove(population.get(0));
+		population.truncate(100, new ObjectiveComparator(2));
+		
+		// any removed solution can be added back
+		NondominatedPopulation expected = new NondominatedPopulation(population);
+		
+		for (int i = 0; i < 500; i++) {
+			double x = PRNG.nextDouble();
+			Solution solution = MockSolution.of().withObjectives(x, 1.0 - x, PRNG.nextDouble());
+			Assert.assertEquals(expected.add(solution), population.add(solution));
+		}
+		
+		assertSameOrder(expected, population);
+	}
+	
+	@Test
+	public void testCopy() {
+		IndexedNondominatedPopulation population = new IndexedNondominatedPopulation(DuplicateMode.ALLOW_DUPLICATES);
+		population.add(MockSolution.of().withObjectives(0.0, 1.0));
+		population.add(MockSolution.of().withObjectives(1.0, 0.0));
+		
+		IndexedNondominatedPopulation copy = population.copy();
+		
+		Assert.assertEquals(DuplicateMode.ALLOW_DUPLICATES, copy.getDuplicateMode());
+		Assert.assertEquals(2, copy.size());
+		Assert.assertTrue(copy.add(MockSolution.of().withObjectives(0.0, 0.0)));
+		Assert.assertEquals(1, copy.size());
+		Assert.assertEquals(2, population.size());
+	}
+	
+	@Test
+	public void testLoadState() throws IOException, ClassNotFoundException {
+		IndexedNondominatedPopulation population = new IndexedNondominatedPopulation();
+		population.add(newSolution(0.0, 1.0));
+		population.add(newSolution(1.0, 0.0));
+		
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		
+		try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+			population.saveState(oos);
+		}
+		
+		IndexedNondominatedPopulation copy = new IndexedNondominatedPopulation();
+		
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+			copy.loadState(ois);
+		}
+		
+		Assert.assertEquals(2, copy.size());
+		Assert.assertFalse(copy.add(newSolution(1.0, 1.0)));
+		Assert.assertTrue(copy.add(newSolution(0.5, 0.0)));
+		Assert.assertEquals(2, copy.size());
+	}
+	
+	@Test
+	public void testUnsupportedComparator() {
+		IndexedNondominatedPopulation population = new IndexedNondominatedPopulation(new ParetoObjectiveComparator() {});
+		
+		Assert.assertFalse(population.isIndexed());
+		Assert.assertTrue(population.add(MockSolution.of().withObjectives(1.0, 1.0)));
+		Assert.assertTrue(population.add(MockSolution.of().withObjectives(0.0, 0.0)));
+		Assert.assertFalse(population.add(MockSolution.of().withObjectives(2.0, 2.0)));
+		Assert.assertEquals(1, population.size());
+	}
+	
+	private Solution newSolution(double... objectives) {
+		Solution solution = new Solution(0, objectives.length);
+		solution.setObjectiveValues(objectives);
+		return solution;
+	}
+	
+	private void assertSameOrder(Population expected, Population actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertSame(expected.get(i), actual.get(i));
+		}
+	}
+
+}
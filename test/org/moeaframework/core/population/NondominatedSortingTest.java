@@ -24,6 +24,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.moeaframework.Assert;
 import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.attribute.CrowdingDistance;
 import org.moeaframework.core.attribute.Rank;
@@ -120,6 +121,41 @@ public class NondominatedSortingTest {
 		Assert.assertTrue(Double.isInfinite(CrowdingDistance.getAttribute(solution3)));
 	}
 	
+	@Test
+	public void testMatchesNaiveImplementation() {
+		NondominatedSorting naive = new NondominatedSorting();
+		
+		for (int numberOfObjectives = 1; numberOfObjectives <= 5; numberOfObjectives++) {
+			for (int trial = 0; trial < 10; trial++) {
+				// use a small set of discrete values to produce many ties and duplicates
+				int levels = trial % 2 == 0 ? 5 : 1000;
+				Population expected = new Population();
+				Population actual = new Population();
+				
+				for (int i = 0; i < 200; i++) {
+					double[] objectives = new double[numberOfObjectives];
+					
+					for (int j = 0; j < numberOfObjectives; j++) {
+						objectives[j] = PRNG.nextInt(levels);
+					}
+					
+					double constraint = trial % 3 == 0 ? PRNG.nextInt(3) : 0.0;
+					
+					expected.add(MockSolution.of().withObjectives(objectives).withConstraints(constraint));
+					actual.add(MockSolution.of().withObjectives(objectives).withConstraints(constraint));
+				}
+				
+				naive.evaluate(expected);
+				sorting.evaluate(actual);
+				
+				// crowding distances are not compared since they depend on the order of duplicate solutions
+				for (int i = 0; i < expected.size(); i++) {
+					Assert.assertEquals(Rank.getAttribute(expected.get(i)), Rank.getAttribute(actual.get(i)));
+				}
+			}
+		}
+	}
+	
 	private void assertHasAttributes(Population population) {
 		for (Solution solution : population) {
 			Assert.assertTrue(solution.hasAttribute(Rank.ATTRIBUTE_NAME));
@@ -0,0 +1,104 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.population;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.attribute.CrowdingDistance;
+import org.moeaframework.core.attribute.Rank;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.mock.MockSolution;
+
+public class ParallelNondominatedSortingTest extends NondominatedSortingTest {
+	
+	private ForkJoinPool pool;
+	
+	@Override
+	@Before
+	public void setUp() {
+		pool = new ForkJoinPool(4);
+		population = new Population();
+		sorting = new ParallelNondominatedSorting(new ParetoDominanceComparator(), pool, 1);
+	}
+	
+	@Override
+	@After
+	public void tearDown() {
+		super.tearDown();
+		pool.shutdown();
+	}
+	
+	@Test
+	public void testIdenticalToSerial() {
+		for (ParallelNondominatedSorting parallelSorting : new ParallelNondominatedSorting[] {
+				new ParallelNondominatedSorting(new ParetoDominanceComparator(), pool, 1),
+				new ParallelNondominatedSorting(new ParetoDominanceComparator(), pool, 100) }) {
+			Population expected = new Population();
+			Population actual = new Population();
+			
+			for (int i = 0; i < 1000; i++) {
+				// a mix of discrete and continuous values produces ties, duplicates, and multiple fronts
+				double[] objectives = new double[] { PRNG.nextInt(10), PRNG.nextDouble(), PRNG.nextInt(5) };
+				
+				expected.add(MockSolution.of().withObjectives(objectives));
+				actual.add(MockSolution.of().withObjectives(objectives));
+			}
+			
+			new EfficientNondominatedSorting().evaluate(expected);
+			parallelSorting.evaluate(actual);
+			
+			for (int i = 0; i < expected.size(); i++) {
+				Solution solution1 = expected.get(i);
+				Solution solution2 = actual.get(i);
+				
+				Assert.assertEquals(Rank.getAttribute(solution1), Rank.getAttribute(solution2));
+				Assert.assertEquals(CrowdingDistance.getAttribute(solution1), CrowdingDistance.getAttribute(solution2),
+						0.0);
+			}
+		}
+	}
+	
+	@Test
+	public void testFallbackComparator() {
+		ParallelNondominatedSorting parallelSorting = new ParallelNondominatedSorting(
+				(solution1, solution2) -> Double.compare(solution1.getObjectiveValue(0), solution2.getObjectiveValue(0)),
+				pool, 1);
+		
+		Solution solution1 = MockSolution.of().withObjectives(0.0, 1.0);
+		Solution solution2 = MockSolution.of().withObjectives(1.0, 0.0);
+		
+		population.add(solution1);
+		population.add(solution2);
+		parallelSorting.evaluate(population);
+		
+		Assert.assertEquals(0, Rank.getAttribute(solution1));
+		Assert.assertEquals(1, Rank.getAttribute(solution2));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidThreshold() {
+		new ParallelNondominatedSorting(new ParetoDominanceComparator(), pool, 0);
+	}
+
+}
@@ -0,0 +1,233 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.variable;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.Defined;
+import org.moeaframework.core.Settings;
+
+public class RealVectorVariableTest {
+	
+	private RealVectorVariable variable;
+	
+	@Before
+	public void setUp() {
+		variable = new RealVectorVariable(new double[] { 0.0, -1.0, 2.0 }, new double[] { 1.0, 1.0, 4.0 })
+				.withValues(new double[] { 0.5, 0.0, 3.0 });
+	}
+	
+	@After
+	public void tearDown() {
+		variable = null;
+	}
+	
+	@Test
+	public void testDefaultValue() {
+		RealVectorVariable newVariable = new RealVectorVariable(3, 0.0, 1.0);
+		
+		for (int i = 0; i < newVariable.size(); i++) {
+			Assert.assertTrue(Double.isNaN(newVariable.getValue(i)));
+		}
+	}
+	
+	@Test
+	public void testName() {
+		Assert.assertNull(new RealVectorVariable(3, 0.0, 1.0).getName());
+		Assert.assertEquals("foo", new RealVectorVariable("foo", 3, 0.0, 1.0).getName());
+	}
+	
+	@Test
+	public void testGetValue() {
+		Assert.assertEquals(3, variable.size());
+		Assert.assertArrayEquals(new double[] { 0.5, 0.0, 3.0 }, variable.getValues(), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.0, variable.getValue(1), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(-1.0, variable.getLowerBound(1), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(1.0, variable.getUpperBound(1), TestEnvironment.HIGH_PRECISION);
+		Assert.assertArrayEquals(new double[] { 0.0, -1.0, 2.0 }, variable.getLowerBounds(),
+				TestEnvironment.HIGH_PRECISION);
+		Assert.assertArrayEquals(new double[] { 1.0, 1.0, 4.0 }, variable.getUpperBounds(),
+				TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testSetValue() {
+		variable.setValue(1, 0.75);
+		Assert.assertEquals(0.75, variable.getValue(1), TestEnvironment.HIGH_PRECISION);
+		
+		variable.setValues(new double[] { 1.0, -1.0, 2.0 });
+		Assert.assertArrayEquals(new double[] { 1.0, -1.0, 2.0 }, variable.getValues(), TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testGetValuesReturnsCopy() {
+		variable.getValues()[0] = 0.75;
+		variable.getLowerBounds()[0] = 0.75;
+		
+		Assert.assertEquals(0.5, variable.getValue(0), TestEnvironment.HIGH_PRECISION);
+		Assert.assertEquals(0.0, variable.getLowerBound(0), TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test
+	public void testEquals() {
+		Assert.assertFalse(variable.equals(null));
+		Assert.assertTrue(variable.equals(variable));
+		Assert.assertTrue(variable.equals(variable.copy()));
+		Assert.assertFalse(variable.equals(new RealVectorVariable(3, 0.0, 1.0)));
+		
+		RealVectorVariable copy = variable.copy();
+		copy.setValue(2, 2.0);
+		Assert.assertFalse(variable.equals(copy));
+	}
+	
+	@Test
+	public void testHashCode() {
+		Assert.assertEquals(variable.hashCode(), variable.hashCode());
+		Assert.assertEquals(variable.hashCode(), variable.copy().hashCode());
+	}
+	
+	@Test
+	public void testCopy() {
+		RealVectorVariable copy = variable.copy();
+		Assert.assertNotSame(variable, copy);
+		Assert.assertEquals(variable, copy);
+		
+		copy.setValue(0, 0.75);
+		Assert.assertEquals(0.5, variable.getValue(0), TestEnvironment.HIGH_PRECISION);
+		Assert.assertNotEquals(variable, copy);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidBounds() {
+		new RealVectorVariable(new double[] { 0.0, 1.0 }, new double[] { 1.0, 0.0 });
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testMismatchedBounds() {
+		new RealVectorVariable(new double[] { 0.0, 0.0 }, new double[] { 1.0 });
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSize() {
+		new RealVectorVariable(0, 0.0, 1.0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetValueBoundsCheckLower() {
+		variable.setValue(1, variable.getLowerBound(1) - Settings.EPS);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetValueBoundsCheckUpper() {
+		variable.setValue(1, variable.getUpperBound(1) + Settings.EPS);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetValuesBoundsCheck() {
+		variable.setValues(new double[] { 0.5, 0.0, 1.0 });
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetValuesInvalidLength() {
+		variable.setValues(new double[] { 0.5, 0.0 });
+	}
+	
+	@Test
+	public void testToString() {
+		Assert.assertEquals("[0.5,0.0,3.0]", variable.toString());
+	}
+	
+	@Test
+	public void testEncodeDecode() {
+		RealVectorVariable newVariable = new RealVectorVariable(variable.getLowerBounds(), variable.getUpperBounds());
+		newVariable.decode(variable.encode());
+		Assert.assertEquals(variable, newVariable);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testDecodeInvalidLength() {
+		variable.decode("[0.5,0.0]");
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testDecodeOutOfBounds() {
+		variable.decode("[0.5,0.0,5.0]");
+	}
+	
+	@Test(expected = NumberFormatException.class)
+	public void testDecodeInvalidReal() {
+		variable.decode("[0.5,0.0,3.0foo]");
+	}
+	
+	@Test
+	public void testRandomize() {
+		DescriptiveStatistics[] stats = new DescriptiveStatistics[variable.size()];
+		
+		for (int j = 0; j < variable.size(); j++) {
+			stats[j] = new DescriptiveStatistics();
+		}
+		
+		for (int i = 0; i < TestEnvironment.SAMPLES; i++) {
+			variable.randomize();
+			
+			for (int j = 0; j < variable.size(); j++) {
+				stats[j].addValue(variable.getValue(j));
+			}
+		}
+		
+		for (int j = 0; j < variable.size(); j++) {
+			Assert.assertUniformDistribution(variable.getLowerBound(j), variable.getUpperBound(j), stats[j]);
+		}
+	}
+	
+	@Test
+	public void testSolutionEncoding() {
+		RealVectorVariable.setReal(variable, new double[] { 0.25, 0.5, 2.5 });
+		Assert.assertArrayEquals(new double[] { 0.25, 0.5, 2.5 }, RealVectorVariable.getReal(variable),
+				TestEnvironment.HIGH_PRECISION);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetInvalidType() {
+		RealVectorVariable.setReal(new RealVariable(0.0, 1.0), new double[] { 0.5 });
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetInvalidType() {
+		RealVectorVariable.getReal(new RealVariable(0.0, 1.0));
+	}
+	
+	@Test
+	public void testDefinition() {
+		Assert.assertEquals("RealVectorVariable(5,0.0,1.0)", new RealVectorVariable(5, 0.0, 1.0).getDefinition());
+		Assert.assertEquals("RealVectorVariable(\"foo\",5,0.0,1.0)",
+				new RealVectorVariable("foo", 5, 0.0, 1.0).getDefinition());
+		Assert.assertEquals("!RealVectorVariable", variable.getDefinition());
+		
+		RealVectorVariable newVariable = (RealVectorVariable)Defined.createInstance(Variable.class,
+				new RealVectorVariable("foo", 5, 0.0, 1.0).getDefinition());
+		Assert.assertEquals("foo", newVariable.getName());
+		Assert.assertEquals(5, newVariable.size());
+		Assert.assertEquals(1.0, newVariable.getUpperBound(4), TestEnvironment.HIGH_PRECISION);
+	}
+
+}
@@ -0,0 +1,188 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.moeaframework.Assert;
+import org.moeaframework.CIRunner;
+import org.moeaframework.Retryable;
+import org.moeaframework.algorithm.AlgorithmException;
+import org.moeaframework.algorithm.EpsilonMOEA;
+import org.moeaframework.algorithm.GDE3;
+import org.moeaframework.algorithm.SMSEMOA;
+import org.moeaframework.algorithm.SteadyStateAlgorithm;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.attribute.Rank;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+
+@RunWith(CIRunner.class)
+@Retryable
+public class AsynchronousAlgorithmTest {
+	
+	@Test
+	public void testEpsilonMOEA() {
+		test(new EpsilonMOEA(new DTLZ2(2)));
+	}
+	
+	@Test
+	public void testSMSEMOA() {
+		test(new SMSEMOA(new DTLZ2(2)));
+	}
+	
+	@Test
+	public void testGDE3() {
+		test(new GDE3(new DTLZ2(2)));
+	}
+	
+	@Test
+	public void testWorkersStayBusy() {
+		SleepingProblem problem = new SleepingProblem();
+		
+		try (AsynchronousAlgorithm<EpsilonMOEA> algorithm = AsynchronousAlgorithm.from(new EpsilonMOEA(problem), 4)) {
+			algorithm.initialize();
+			Assert.assertEquals(0, algorithm.getNumberOfEvaluationsInProgress());
+			Assert.assertEquals(0.0, algorithm.getUtilization());
+			
+			algorithm.run(200);
+			
+			Assert.assertEquals(300, algorithm.getNumberOfEvaluations());
+			Assert.assertEquals(4, problem.getMaximumConcurrency());
+			Assert.assertGreaterThan(algorithm.getUtilization(), 0.5);
+			Assert.assertLessThanOrEqual(algorithm.getUtilization(), 1.0);
+			Assert.assertGreaterThan(algorithm.getBusyTime().toNanos(), algorithm.getElapsedTime().toNanos());
+		}
+	}
+	
+	@Test
+	public void testInitialPopulationEvaluatedInParallel() {
+		SleepingProblem problem = new SleepingProblem();
+		
+		try (AsynchronousAlgorithm<SMSEMOA> algorithm = AsynchronousAlgorithm.from(new SMSEMOA(problem), 4)) {
+			algorithm.initialize();
+			
+			Assert.assertTrue(algorithm.isInitialized());
+			Assert.assertEquals(100, algorithm.getNumberOfEvaluations());
+			Assert.assertEquals(4, problem.getMaximumConcurrency());
+			Assert.assertEquals(0, algorithm.getNumberOfEvaluationsInProgress());
+			
+			for (Solution solution : algorithm.getAlgorithm().getPopulation()) {
+				Assert.assertTrue(Rank.hasAttribute(solution));
+			}
+		}
+	}
+	
+	@Test
+	public void testResume() {
+		try (AsynchronousAlgorithm<EpsilonMOEA> algorithm = AsynchronousAlgorithm.from(new EpsilonMOEA(new DTLZ2(2)),
+				2)) {
+			algorithm.run(500);
+			Assert.assertTrue(algorithm.isTerminated());
+			Assert.assertEquals(0, algorithm.getNumberOfEvaluationsInProgress());
+			
+			algorithm.run(1000);
+			Assert.assertTrue(algorithm.isTerminated());
+			Assert.assertEquals(1500, algorithm.getNumberOfEvaluations());
+		}
+	}
+	
+	@Test(expected = AlgorithmException.class)
+	public void testFailedEvaluation() {
+		AtomicBoolean fail = new AtomicBoolean();
+		
+		Problem problem = new DTLZ2(2) {
+			
+			@Override
+			public void evaluate(Solution solution) {
+				if (fail.get()) {
+					throw new UnsupportedOperationException();
+				}
+				
+				super.evaluate(solution);
+			}
+		
+		};
+		
+		try (AsynchronousAlgorithm<EpsilonMOEA> algorithm = AsynchronousAlgorithm.from(new EpsilonMOEA(problem), 2)) {
+			algorithm.step();
+			fail.set(true);
+			algorithm.step();
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidNumberOfWorkers() {
+		new AsynchronousAlgorithm<>(new EpsilonMOEA(new DTLZ2(2)), Executors.newSingleThreadExecutor(), 0);
+	}
+	
+	private void test(SteadyStateAlgorithm steadyStateAlgorithm) {
+		try (AsynchronousAlgorithm<SteadyStateAlgorithm> algorithm = AsynchronousAlgorithm.from(steadyStateAlgorithm,
+				4)) {
+			algorithm.run(2000);
+			
+			Assert.assertTrue(algorithm.isTerminated());
+			Assert.assertEquals(2000, algorithm.getNumberOfEvaluations());
+			Assert.assertEquals(0, algorithm.getNumberOfEvaluationsInProgress());
+			Assert.assertEquals(100, steadyStateAlgorithm.getPopulation().size());
+			Assert.assertFalse(algorithm.getResult().isEmpty());
+		}
+	}
+	
+	/**
+	 * Problem with varying evaluation times that tracks the number of concurrent evaluations.
+	 */
+	private static class SleepingProblem extends DTLZ2 {
+		
+		private final AtomicInteger concurrency;
+		
+		private final AtomicInteger maximumConcurrency;
+		
+		public SleepingProblem() {
+			super(2);
+			concurrency = new AtomicInteger();
+			maximumConcurrency = new AtomicInteger();
+		}
+		
+		@Override
+		public void evaluate(Solution solution) {
+			maximumConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+			
+			try {
+				Thread.sleep(1 + PRNG.nextInt(10));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				concurrency.decrementAndGet();
+			}
+			
+			super.evaluate(solution);
+		}
+		
+		public int getMaximumConcurrency() {
+			return maximumConcurrency.get();
+		}
+	
+	}
+
+}
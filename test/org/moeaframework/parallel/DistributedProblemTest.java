@@ -17,7 +17,9 @@
  */
 package org.moeaframework.parallel;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executors;
 
@@ -29,7 +31,9 @@ import org.moeaframework.Retryable;
 import org.moeaframework.TestEnvironment;
 import org.moeaframework.algorithm.single.GeneticAlgorithm;
 import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
 import org.moeaframework.core.population.Population;
+import org.moeaframework.mock.MockConstraintProblem;
 import org.moeaframework.mock.MockRealStochasticProblem;
 import org.moeaframework.problem.Problem;
 
@@ -158,6 +162,30 @@ public class DistributedProblemTest {
 		}
 	}
 	
+	@Test
+	public void testEvaluateAllWithoutFutureSolution() {
+		int N = 10;
+		TestableFutureProblem blockingProblem = new TestableFutureProblem(N);
+		
+		try (DistributedProblem problem = new DistributedProblem(blockingProblem, Executors.newFixedThreadPool(N))) {
+			List<Solution> solutions = new ArrayList<>();
+			
+			for (int i = 0; i < N; i++) {
+				solutions.add(new MockConstraintProblem().newSolution());
+			}
+			
+			problem.evaluateAll(solutions);
+			
+			// evaluateAll blocks until all evaluations complete
+			for (Solution solution : solutions) {
+				Assert.assertFalse(solution instanceof FutureSolution);
+				Assert.assertEquals(-15.0, solution.getConstraintValue(0));
+			}
+			
+			Assert.assertEquals(0, blockingProblem.getSemaphore().availablePermits());
+		}
+	}
+	
 	@Test
 	public void testReplicabilityOfStochasticDistributedProblem() {
 		double bestSingle = getResultFromStochasticRun(1);
@@ -0,0 +1,161 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.island.executor;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.algorithm.NSGAII;
+import org.moeaframework.algorithm.extension.Frequency;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.core.selection.TournamentSelection;
+import org.moeaframework.mock.MockRealProblem;
+import org.moeaframework.parallel.island.AbstractIslandModelTest;
+import org.moeaframework.parallel.island.Island;
+import org.moeaframework.parallel.island.IslandModel;
+import org.moeaframework.parallel.island.migration.Replacement;
+import org.moeaframework.parallel.island.migration.SingleNeighborMigration;
+import org.moeaframework.parallel.island.topology.RingTopology;
+import org.moeaframework.problem.Problem;
+
+public class AsynchronousIslandExecutorTest extends AbstractIslandModelTest {
+	
+	@Test
+	public void test() throws IOException {
+		IslandModel model = createModel();
+		
+		for (int i = 0; i < 6; i++) {
+			addIsland(model, new MockRealProblem(2));
+		}
+		
+		try (AsynchronousIslandExecutor executor = new AsynchronousIslandExecutor(model, 4)) {
+			Assert.assertEquals(4, executor.getNumberOfThreads());
+			
+			NondominatedPopulation result = executor.run(30000);
+			Assert.assertNotNull(result);
+			
+			// total evaluations can exceed the budget by at most one iteration (100 evaluations) per thread
+			long total = 0;
+			
+			for (int i = 0; i < model.getIslands().size(); i++) {
+				Island island = model.getIslands().get(i);
+				
+				Assert.assertEquals(island.getAlgorithm().getNumberOfEvaluations(), executor.getNumberOfEvaluations(i));
+				Assert.assertGreaterThan(executor.getThroughput(i), 0.0);
+				Assert.assertGreaterThan(executor.getMigrationLatency(i).getN(), 0L);
+				Assert.assertTrue(island.getAlgorithm().isTerminated());
+				
+				total += executor.getNumberOfEvaluations(i);
+			}
+			
+			Assert.assertGreaterThanOrEqual(total, 30000L);
+			Assert.assertLessThanOrEqual(total, 30400L);
+			
+			// check that the overall result is the combined set of individual results
+			NondominatedPopulation expectedResult = new NondominatedPopulation();
+			
+			for (Island island : model.getIslands()) {
+				expectedResult.addAll(island.getAlgorithm().getResult());
+			}
+			
+			Assert.assertEquals(expectedResult, result);
+			
+			// resuming continues from the current state
+			executor.run(10000);
+			
+			total = 0;
+			
+			for (int i = 0; i < model.getIslands().size(); i++) {
+				total += executor.getNumberOfEvaluations(i);
+			}
+			
+			Assert.assertGreaterThanOrEqual(total, 40000L);
+		}
+	}
+	
+	@Test
+	public void testFastIslandsAreNotIdle() throws IOException {
+		IslandModel model = createModel();
+		addIsland(model, new SlowProblem());
+		addIsland(model, new MockRealProblem(2));
+		
+		try (AsynchronousIslandExecutor executor = new AsynchronousIslandExecutor(model, 2)) {
+			executor.run(5000);
+			Assert.assertGreaterThan(executor.getNumberOfEvaluations(1), executor.getNumberOfEvaluations(0));
+		}
+	}
+	
+	@Test(expected = FrameworkException.class)
+	public void testNoProgress() throws IOException {
+		IslandModel model = createModel();
+		
+		NSGAII algorithm = new NSGAII(new MockRealProblem(2)) {
+			
+			@Override
+			public void iterate() {
+				// performs no evaluations after initialization
+			}
+			
+		};
+		
+		model.addIsland(new Island(algorithm, algorithm.getPopulation(), 10));
+		
+		try (AsynchronousIslandExecutor executor = new AsynchronousIslandExecutor(model, 1)) {
+			executor.run(10000);
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testNoIslands() {
+		new AsynchronousIslandExecutor(createModel(), 1);
+	}
+	
+	private IslandModel createModel() {
+		return new IslandModel(Frequency.ofEvaluations(500),
+				new SingleNeighborMigration(2, new TournamentSelection(), Replacement.random()),
+				new RingTopology());
+	}
+	
+	private void addIsland(IslandModel model, Problem problem) {
+		NSGAII algorithm = new NSGAII(problem);
+		model.addIsland(new Island(algorithm, algorithm.getPopulation(), 10));
+	}
+	
+	private static class SlowProblem extends MockRealProblem {
+		
+		public SlowProblem() {
+			super(2);
+		}
+		
+		@Override
+		public void evaluate(Solution solution) {
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			
+			super.evaluate(solution);
+		}
+	
+	}
+
+}
@@ -0,0 +1,127 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.island.executor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.algorithm.NSGAII;
+import org.moeaframework.algorithm.extension.Frequency;
+import org.moeaframework.core.population.NondominatedPopulation;
+import org.moeaframework.core.selection.TournamentSelection;
+import org.moeaframework.core.spi.ProviderNotFoundException;
+import org.moeaframework.mock.MockRealProblem;
+import org.moeaframework.parallel.island.AbstractIslandModelTest;
+import org.moeaframework.parallel.island.Island;
+import org.moeaframework.parallel.island.IslandModel;
+import org.moeaframework.parallel.island.migration.SingleNeighborMigration;
+import org.moeaframework.parallel.island.topology.RingTopology;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+
+public class SocketIslandExecutorTest extends AbstractIslandModelTest {
+	
+	@Test
+	public void test() throws IOException, InterruptedException {
+		IslandModel model = createModel();
+		
+		for (int i = 0; i < 6; i++) {
+			addIsland(model, new DTLZ2(2));
+		}
+		
+		try (SocketIslandExecutor executor = new SocketIslandExecutor.Builder(model)
+				.withPort(0)
+				.withLocalWorkers(3)
+				.build()) {
+			Assert.assertEquals(3, executor.getNumberOfActiveWorkers());
+			
+			// only accepts local connections by default
+			Assert.assertTrue(executor.getAddress().isLoopbackAddress());
+			
+			NondominatedPopulation result = executor.run(10000);
+			Assert.assertNotNull(result);
+			Assert.assertGreaterThan(result.size(), 0);
+			
+			// losing a worker excludes its islands, but the run still completes
+			Process process = executor.getProcesses().get(0);
+			process.destroyForcibly();
+			process.waitFor();
+			
+			result = executor.run(10000);
+			Assert.assertNotNull(result);
+			Assert.assertGreaterThan(result.size(), 0);
+			Assert.assertEquals(2, executor.getNumberOfActiveWorkers());
+		}
+	}
+	
+	@Test(expected = ProviderNotFoundException.class)
+	public void testUnregisteredProblem() throws IOException {
+		IslandModel model = createModel();
+		addIsland(model, new MockRealProblem(2));
+		
+		new SocketIslandExecutor.Builder(model).withPort(0).withLocalWorkers(1).build();
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testNoWorkers() throws IOException {
+		IslandModel model = createModel();
+		addIsland(model, new DTLZ2(2));
+		
+		new SocketIslandExecutor.Builder(model).build();
+	}
+	
+	@Test
+	public void testInvalidPayloadLength() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(-1);
+			out.writeInt(Integer.MAX_VALUE);
+			out.writeInt(16);
+			out.write(new byte[8]);
+		}
+		
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			Assert.assertThrows(IOException.class, () -> SocketIslandExecutor.readBytes(in));
+			Assert.assertThrows(IOException.class, () -> SocketIslandExecutor.readBytes(in));
+			Assert.assertThrows(EOFException.class, () -> SocketIslandExecutor.readBytes(in));
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testNoIslands() {
+		new SocketIslandExecutor.Builder(createModel());
+	}
+	
+	private IslandModel createModel() {
+		return new IslandModel(Frequency.ofEvaluations(500), new SingleNeighborMigration(2, new TournamentSelection()),
+				new RingTopology());
+	}
+	
+	private void addIsland(IslandModel model, Problem problem) {
+		NSGAII algorithm = new NSGAII(problem);
+		model.addIsland(new Island(algorithm, algorithm.getPopulation()));
+	}
+
+}
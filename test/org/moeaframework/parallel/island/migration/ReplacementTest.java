@@ -0,0 +1,173 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.island.migration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.population.Population;
+import org.moeaframework.mock.MockSolution;
+
+public class ReplacementTest {
+	
+	@Test
+	public void testDominated() {
+		Solution solution1 = MockSolution.of().withObjectives(0.0, 1.0);
+		Solution solution2 = MockSolution.of().withObjectives(1.0, 1.0);
+		Solution solution3 = MockSolution.of().withObjectives(1.0, 0.0);
+		Solution immigrant = MockSolution.of().withObjectives(0.5, 0.5);
+		
+		Population population = new Population(List.of(solution1, solution2, solution3));
+		Replacement.dominated().replace(population, List.of(immigrant));
+		
+		Assert.assertEquals(3, population.size());
+		Assert.assertTrue(population.contains(solution1));
+		Assert.assertFalse(population.contains(solution2));
+		Assert.assertTrue(population.contains(solution3));
+		Assert.assertTrue(population.contains(immigrant));
+	}
+	
+	@Test
+	public void testDominatedNoneDominated() {
+		Solution solution1 = MockSolution.of().withObjectives(0.0, 1.0);
+		Solution solution2 = MockSolution.of().withObjectives(1.0, 0.0);
+		Solution immigrant1 = MockSolution.of().withObjectives(0.5, 0.5);
+		Solution immigrant2 = MockSolution.of().withObjectives(0.6, 0.4);
+		
+		Population population = new Population(List.of(solution1, solution2));
+		Replacement.dominated().replace(population, List.of(immigrant1, immigrant2));
+		
+		Assert.assertEquals(2, population.size());
+	}
+	
+	@Test
+	public void testDominatedFewerImmigrants() {
+		Solution solution1 = MockSolution.of().withObjectives(1.0, 1.0);
+		Solution solution2 = MockSolution.of().withObjectives(2.0, 2.0);
+		Solution immigrant = MockSolution.of().withObjectives(0.0, 0.0);
+		
+		Population population = new Population(List.of(solution1, solution2));
+		Replacement.dominated().replace(population, List.of(immigrant));
+		
+		Assert.assertEquals(2, population.size());
+		Assert.assertTrue(population.contains(solution1));
+		Assert.assertTrue(population.contains(immigrant));
+	}
+	
+	@Test
+	public void testDominatedMatchesPreviousMigration() {
+		for (int trial = 0; trial < 100; trial++) {
+			List<Solution> members = new ArrayList<>();
+			List<Solution> immigrants = new ArrayList<>();
+			
+			for (int i = 0; i < 20; i++) {
+				members.add(MockSolution.of().withObjectives(PRNG.nextInt(5), PRNG.nextInt(5)));
+			}
+			
+			// include a repeated instance, which is removed by identity
+			members.add(members.get(0));
+			
+			int numberOfImmigrants = PRNG.nextInt(1, 10);
+			
+			for (int i = 0; i < numberOfImmigrants; i++) {
+				immigrants.add(MockSolution.of().withObjectives(PRNG.nextInt(5), PRNG.nextInt(5)));
+			}
+			
+			long seed = PRNG.getRandom().nextLong();
+			
+			Population expected = new Population(members);
+			PRNG.setSeed(seed);
+			replaceDominated(expected, immigrants);
+			
+			Population actual = new Population(members);
+			PRNG.setSeed(seed);
+			Replacement.dominated().replace(actual, immigrants);
+			
+			Assert.assertEquals(expected.size(), actual.size());
+			
+			for (int i = 0; i < expected.size(); i++) {
+				Assert.assertSame(expected.get(i), actual.get(i));
+			}
+		}
+	}
+	
+	/**
+	 * The original implementation of migration in {@link SingleNeighborMigration}.
+	 */
+	private void replaceDominated(Population current, List<Solution> immigrants) {
+		int originalSize = current.size();
+		current.addAll(immigrants);
+		
+		if (current.size() > originalSize) {
+			List<Solution> dominated = new ArrayList<>();
+			ParetoDominanceComparator comparator = new ParetoDominanceComparator();
+			
+			for (Solution solution : current) {
+				for (Solution immigrant : immigrants) {
+					if (comparator.compare(immigrant, solution) < 0) {
+						dominated.add(solution);
+						break;
+					}
+				}
+			}
+			
+			while (!dominated.isEmpty() && (current.size() > originalSize)) {
+				current.remove(dominated.remove(dominated.size()-1));
+			}
+			
+			while (current.size() > originalSize) {
+				current.remove(PRNG.nextInt(current.size()));
+			}
+		}
+	}
+	
+	@Test
+	public void testRandom() {
+		Solution solution1 = MockSolution.of().withObjectives(0.0, 1.0);
+		Solution solution2 = MockSolution.of().withObjectives(1.0, 0.0);
+		Solution immigrant = MockSolution.of().withObjectives(2.0, 2.0);
+		
+		Population population = new Population(List.of(solution1, solution2));
+		Replacement.random().replace(population, List.of(immigrant));
+		
+		Assert.assertEquals(2, population.size());
+	}
+	
+	@Test
+	public void testEmpty() {
+		Solution immigrant = MockSolution.of().withObjectives(0.0, 0.0);
+		
+		Population population = new Population();
+		Replacement.dominated().replace(population, List.of(immigrant));
+		Assert.assertTrue(population.isEmpty());
+		
+		Replacement.random().replace(population, List.of(immigrant));
+		Assert.assertTrue(population.isEmpty());
+		
+		population.add(immigrant);
+		Replacement.dominated().replace(population, List.of());
+		Replacement.random().replace(population, List.of());
+		Assert.assertEquals(1, population.size());
+	}
+
+}
@@ -0,0 +1,123 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+
+public class BoundedExecutorServiceTest {
+	
+	@Test
+	public void testConcurrencyLimit() throws InterruptedException, ExecutionException {
+		BoundedExecutorService executor = new BoundedExecutorService(Executors.newCachedThreadPool(), 4);
+		AtomicInteger concurrency = new AtomicInteger();
+		AtomicInteger maximumConcurrency = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		
+		try {
+			Assert.assertEquals(4, executor.getMaximumConcurrency());
+			Assert.assertEquals(0, executor.getActiveCount());
+			
+			for (int i = 0; i < 50; i++) {
+				futures.add(executor.submit(() -> {
+					maximumConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+					
+					try {
+						Thread.sleep(2);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						concurrency.decrementAndGet();
+					}
+				}));
+				
+				Assert.assertLessThanOrEqual(executor.getActiveCount(), 4);
+			}
+			
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			
+			Assert.assertLessThanOrEqual(maximumConcurrency.get(), 4);
+		} finally {
+			executor.shutdown();
+		}
+		
+		Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		Assert.assertTrue(executor.isShutdown());
+		Assert.assertTrue(executor.isTerminated());
+	}
+	
+	@Test
+	public void testBackpressure() throws InterruptedException {
+		BoundedExecutorService executor = new BoundedExecutorService(Executors.newCachedThreadPool(), 1);
+		CountDownLatch latch = new CountDownLatch(1);
+		CountDownLatch submitted = new CountDownLatch(1);
+		
+		try {
+			executor.submit(() -> latch.await(10, TimeUnit.SECONDS));
+			
+			Thread thread = new Thread(() -> {
+				executor.submit(() -> {});
+				submitted.countDown();
+			});
+			
+			thread.start();
+			
+			// second submission blocks until the first task completes
+			Assert.assertFalse(submitted.await(100, TimeUnit.MILLISECONDS));
+			
+			latch.countDown();
+			Assert.assertTrue(submitted.await(10, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
+	@Test
+	public void testReleasesPermitOnFailure() throws InterruptedException {
+		BoundedExecutorService executor = new BoundedExecutorService(Executors.newCachedThreadPool(), 1);
+		
+		try {
+			for (int i = 0; i < 10; i++) {
+				Future<?> future = executor.submit(() -> {
+					throw new IllegalStateException();
+				});
+				
+				Assert.assertThrows(ExecutionException.class, () -> future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidConcurrency() {
+		new BoundedExecutorService(Executors.newCachedThreadPool(), 0);
+	}
+
+}
@@ -0,0 +1,121 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.util;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.core.PropertyScope;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.TypedProperties;
+import org.moeaframework.parallel.util.ExecutorFactory.ExecutorType;
+
+public class ExecutorFactoryTest {
+	
+	@Test
+	public void testDefault() throws InterruptedException, ExecutionException {
+		ExecutorService executor = ExecutorFactory.getInstance().createExecutor();
+		
+		try {
+			Assert.assertInstanceOf(ThreadPoolExecutor.class, executor);
+			Assert.assertEquals(Runtime.getRuntime().availableProcessors(),
+					((ThreadPoolExecutor)executor).getMaximumPoolSize());
+			Assert.assertEquals(1, executor.submit(() -> 1).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testTypes() throws InterruptedException, ExecutionException {
+		for (ExecutorType type : ExecutorType.values()) {
+			ExecutorService executor = ExecutorFactory.getInstance().createExecutor(type, 8);
+			
+			try {
+				if (type != ExecutorType.FIXED) {
+					Assert.assertInstanceOf(BoundedExecutorService.class, executor);
+					Assert.assertEquals(8, ((BoundedExecutorService)executor).getMaximumConcurrency());
+				}
+				
+				Assert.assertEquals(1, executor.submit(() -> 1).get());
+			} finally {
+				executor.shutdown();
+			}
+		}
+	}
+	
+	@Test
+	public void testProperties() throws InterruptedException, ExecutionException {
+		TypedProperties properties = new TypedProperties();
+		properties.setString("executor", "virtual");
+		properties.setInt("concurrency", 100);
+		
+		ExecutorService executor = ExecutorFactory.getInstance().createExecutor(properties);
+		
+		try {
+			Assert.assertInstanceOf(BoundedExecutorService.class, executor);
+			Assert.assertEquals(100, ((BoundedExecutorService)executor).getMaximumConcurrency());
+			Assert.assertEquals(1, executor.submit(() -> 1).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testSettings() {
+		try (PropertyScope scope = Settings.createScope()
+				.with(Settings.KEY_EXECUTOR_TYPE, "CACHED")
+				.with(Settings.KEY_EXECUTOR_CONCURRENCY, 16)) {
+			ExecutorService executor = ExecutorFactory.getInstance().createExecutor();
+			
+			try {
+				Assert.assertInstanceOf(BoundedExecutorService.class, executor);
+				Assert.assertEquals(16, ((BoundedExecutorService)executor).getMaximumConcurrency());
+			} finally {
+				executor.shutdown();
+			}
+		}
+	}
+	
+	@Test
+	public void testSharedExecutor() throws InterruptedException, ExecutionException {
+		ExecutorFactory factory = new ExecutorFactory();
+		ExecutorService executor = factory.getSharedExecutor();
+		
+		Assert.assertSame(executor, factory.getSharedExecutor());
+		Assert.assertTrue(executor.submit(() -> Thread.currentThread().isDaemon()).get());
+		
+		factory.shutdownSharedExecutor();
+		Assert.assertTrue(executor.isShutdown());
+		
+		ExecutorService newExecutor = factory.getSharedExecutor();
+		Assert.assertNotSame(executor, newExecutor);
+		Assert.assertFalse(newExecutor.isShutdown());
+		
+		factory.shutdownSharedExecutor();
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidConcurrency() {
+		ExecutorFactory.getInstance().createExecutor(ExecutorType.FIXED, 0);
+	}
+
+}
@@ -61,6 +61,35 @@ public class ImmigrationQueueTest {
 		Assert.assertNotSame(original, copies.get(1));
 		Assert.assertEquals(0, queue.size());
 		Assert.assertTrue(queue.isEmpty());
+		Assert.assertEquals(4L, queue.getLatency().getN());
+		Assert.assertEquals(0L, queue.getNumberOfDiscarded());
+	}
+	
+	@Test
+	public void testCapacity() {
+		ImmigrationQueue queue = new ImmigrationQueue(2);
+		Solution solution1 = MockSolution.of().withObjectives(0.0, 1.0);
+		Solution solution2 = MockSolution.of().withObjectives(0.5, 0.5);
+		Solution solution3 = MockSolution.of().withObjectives(1.0, 0.0);
+		
+		Assert.assertEquals(2, queue.getCapacity());
+		
+		queue.addAll(List.of(solution1, solution2, solution3));
+		
+		Assert.assertEquals(2, queue.size());
+		Assert.assertEquals(1L, queue.getNumberOfDiscarded());
+		
+		// the oldest solution is discarded
+		List<Solution> copies = queue.popAll();
+		Assert.assertEquals(2, copies.size());
+		Assert.assertEquals(solution2, copies.get(0));
+		Assert.assertEquals(solution3, copies.get(1));
+		Assert.assertEquals(2L, queue.getLatency().getN());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCapacity() {
+		new ImmigrationQueue(0);
 	}
 	
 }
@@ -0,0 +1,163 @@
+/* Copyright 2009-2025 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.parallel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.constraint.Between;
+import org.moeaframework.core.constraint.Equal;
+import org.moeaframework.core.constraint.GreaterThan;
+import org.moeaframework.core.constraint.GreaterThanOrEqual;
+import org.moeaframework.core.constraint.LessThan;
+import org.moeaframework.core.constraint.LessThanOrEqual;
+import org.moeaframework.core.constraint.NotEqual;
+import org.moeaframework.core.constraint.Outside;
+import org.moeaframework.core.objective.Maximize;
+import org.moeaframework.core.objective.Minimize;
+import org.moeaframework.core.objective.NormalizedObjective;
+import org.moeaframework.core.variable.BinaryIntegerVariable;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Grammar;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.Program;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
+import org.moeaframework.core.variable.Subset;
+import org.moeaframework.mock.MockProblem;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.util.tree.Rules;
+
+public class SolutionCodecTest {
+	
+	@Test
+	public void testRoundTrip() throws IOException {
+		Problem problem = MockProblem.of(createPrototype());
+		Solution expected = problem.newSolution();
+		
+		for (int i = 0; i < expected.getNumberOfVariables(); i++) {
+			expected.getVariable(i).randomize();
+		}
+		
+		for (int i = 0; i < expected.getNumberOfObjectives(); i++) {
+			expected.setObjectiveValue(i, i + 0.5);
+		}
+		
+		for (int i = 0; i < expected.getNumberOfConstraints(); i++) {
+			expected.setConstraintValue(i, -i - 0.25);
+		}
+		
+		List<Solution> actual = decode(problem, List.of(expected, expected));
+		Assert.assertEquals(2, actual.size());
+		
+		for (Solution solution : actual) {
+			Assert.assertNotSame(expected, solution);
+			
+			for (int i = 0; i < expected.getNumberOfVariables(); i++) {
+				Assert.assertEquals(expected.getVariable(i).getClass(), solution.getVariable(i).getClass());
+				Assert.assertEquals(expected.getVariable(i).encode(), solution.getVariable(i).encode());
+			}
+			
+			for (int i = 0; i < expected.getNumberOfObjectives(); i++) {
+				Assert.assertEquals(expected.getObjective(i).getClass(), solution.getObjective(i).getClass());
+				Assert.assertEquals(expected.getObjectiveValue(i), solution.getObjectiveValue(i), 0.0);
+			}
+			
+			for (int i = 0; i < expected.getNumberOfConstraints(); i++) {
+				Assert.assertEquals(expected.getConstraint(i).getClass(), solution.getConstraint(i).getClass());
+				Assert.assertEquals(expected.getConstraintValue(i), solution.getConstraintValue(i), 0.0);
+			}
+		}
+	}
+	
+	@Test
+	public void testRealVariableIsExact() throws IOException {
+		Solution prototype = new Solution(1, 1);
+		prototype.setVariable(0, new RealVariable(0.0, 1.0));
+		
+		Problem problem = MockProblem.of(prototype);
+		Solution expected = problem.newSolution();
+		RealVariable.setReal(expected.getVariable(0), Math.nextUp(0.1));
+		expected.setObjectiveValue(0, Double.NaN);
+		
+		Solution actual = decode(problem, List.of(expected)).get(0);
+		
+		Assert.assertEquals(Math.nextUp(0.1), RealVariable.getReal(actual.getVariable(0)), 0.0);
+		Assert.assertTrue(Double.isNaN(actual.getObjectiveValue(0)));
+	}
+	
+	@Test(expected = IOException.class)
+	public void testMismatchedProblem() throws IOException {
+		Solution prototype = createPrototype();
+		decode(MockProblem.of(new Solution(1, 1)), List.of(prototype));
+	}
+	
+	private List<Solution> decode(Problem problem, List<Solution> solutions) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			SolutionCodec.writeAll(out, solutions);
+		}
+		
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			List<Solution> result = SolutionCodec.readAll(in, problem);
+			Assert.assertEquals(0, in.available());
+			return result;
+		}
+	}
+	
+	private Solution createPrototype() {
+		Rules rules = new Rules();
+		rules.populateWithDefaults();
+		rules.setReturnType(Number.class);
+		
+		Solution solution = new Solution(9, 3, 8);
+		solution.setVariable(0, new RealVariable(-1.0, 1.0));
+		solution.setVariable(1, new BinaryVariable(10));
+		solution.setVariable(2, new BinaryIntegerVariable(-5, 20));
+		solution.setVariable(3, new Permutation(6));
+		solution.setVariable(4, new Subset(2, 5, 10));
+		solution.setVariable(5, new Grammar(8));
+		solution.setVariable(6, new Program(rules));
+		solution.setVariable(7, new RealVectorVariable(4, 0.0, 1.0));
+		solution.setVariable(8, new RealVariable("named", 0.0, 10.0));
+		
+		solution.setObjective(0, new Minimize());
+		solution.setObjective(1, new Maximize());
+		solution.setObjective(2, new NormalizedObjective("normalized"));
+		
+		solution.setConstraint(0, Equal.to(0.0));
+		solution.setConstraint(1, NotEqual.to(0.0));
+		solution.setConstraint(2, LessThan.value(0.0));
+		solution.setConstraint(3, LessThanOrEqual.to(0.0));
+		solution.setConstraint(4, GreaterThan.value(0.0));
+		solution.setConstraint(5, GreaterThanOrEqual.to(0.0));
+		solution.setConstraint(6, Between.values(-1.0, 1.0));
+		solution.setConstraint(7, Outside.values(-1.0, 1.0));
+		
+		return solution;
+	}
+
+}
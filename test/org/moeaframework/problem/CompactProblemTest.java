@@ -0,0 +1,74 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.CallCounter;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.CompactSolution;
+import org.moeaframework.core.Solution;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+
+public class CompactProblemTest {
+	
+	@Test
+	public void testNewSolution() {
+		try (CompactProblem problem = new CompactProblem(new DTLZ2(2))) {
+			Solution solution = problem.newSolution();
+			
+			Assert.assertInstanceOf(CompactSolution.class, solution);
+			Assert.assertInstanceOf(CompactSolution.class, solution.copy());
+			Assert.assertEquals(problem.getNumberOfVariables(), solution.getNumberOfVariables());
+			Assert.assertEquals(problem.getNumberOfObjectives(), solution.getNumberOfObjectives());
+		}
+	}
+	
+	@Test
+	public void testEvaluate() {
+		try (DTLZ2 original = new DTLZ2(2); CompactProblem problem = new CompactProblem(new DTLZ2(2))) {
+			Solution expected = original.newSolution();
+			Solution actual = problem.newSolution();
+			
+			for (int i = 0; i < expected.getNumberOfVariables(); i++) {
+				expected.getVariable(i).randomize();
+				actual.setVariable(i, expected.getVariable(i).copy());
+			}
+			
+			original.evaluate(expected);
+			problem.evaluate(actual);
+			
+			Assert.assertArrayEquals(expected.getObjectiveValues(), actual.getObjectiveValues(),
+					TestEnvironment.HIGH_PRECISION);
+		}
+	}
+	
+	@Test
+	public void testEvaluateAllUsesBatch() {
+		CallCounter<Problem> counter = CallCounter.of(new DTLZ2(2));
+		
+		try (CompactProblem problem = new CompactProblem(counter.getProxy())) {
+			problem.evaluateAll(List.of(problem.newSolution(), problem.newSolution()));
+			
+			Assert.assertEquals(1, counter.getTotalCallCount("evaluateAll"));
+		}
+	}
+
+}
@@ -17,6 +17,16 @@
  */
 package org.moeaframework.problem;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
 import org.junit.Test;
@@ -25,8 +35,12 @@ import org.moeaframework.CallCounter;
 import org.moeaframework.TestEnvironment;
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.Solution;
+import org.moeaframework.core.initialization.RandomInitialization;
+import org.moeaframework.core.variable.RealVariable;
 import org.moeaframework.mock.MockExternalProblem;
 import org.moeaframework.problem.ExternalProblem.Builder;
+import org.moeaframework.problem.ExternalProblem.Protocol;
+import org.moeaframework.util.io.LineReader;
 
 /**
  * Tests basic functionality without requiring an executable.
@@ -77,6 +91,64 @@ public class ExternalProblemTest {
 		Assert.assertCopy(expected, copy);
 	}
 	
+	@Test
+	public void testMultipleInstancesWithIOStreams() {
+		Builder builder = new Builder()
+				.withIOStreams(InputStream.nullInputStream(), OutputStream.nullOutputStream())
+				.withInstances(2);
+		
+		Assert.assertThrows(IllegalArgumentException.class, () -> builder.build(0));
+	}
+	
+	@Test
+	public void testPipelinedResponsesOutOfOrder() throws Exception {
+		PipedInputStream problemInput = new PipedInputStream();
+		PipedOutputStream problemOutput = new PipedOutputStream();
+		PipedOutputStream serverOutput = new PipedOutputStream(problemInput);
+		PipedInputStream serverInput = new PipedInputStream(problemOutput);
+		
+		// echoes each batch of requests in reverse order, so the objective value equals the variable
+		Thread server = new Thread(() -> {
+			try (LineReader reader = LineReader.wrap(new InputStreamReader(serverInput));
+					PrintStream writer = new PrintStream(serverOutput)) {
+				List<String> batch = new ArrayList<>();
+				String line = reader.readLine();
+				
+				while ((line = reader.readLine()) != null) {
+					batch.add(line);
+					
+					if (batch.size() == 10) {
+						Collections.reverse(batch);
+						batch.forEach(writer::println);
+						writer.flush();
+						batch.clear();
+					}
+				}
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		});
+		
+		server.start();
+		
+		Builder builder = new Builder()
+				.withIOStreams(problemInput, problemOutput)
+				.withProtocol(Protocol.PIPELINED)
+				.withBatchSize(10);
+		
+		try (EchoProblem problem = new EchoProblem(builder)) {
+			Solution[] solutions = new RandomInitialization(problem).initialize(100);
+			problem.evaluateAll(Arrays.asList(solutions));
+			
+			for (Solution solution : solutions) {
+				Assert.assertEquals(RealVariable.getReal(solution.getVariable(0)), solution.getObjectiveValue(0),
+						TestEnvironment.HIGH_PRECISION);
+			}
+		}
+		
+		server.join();
+	}
+	
 	private void test(final Function<String, String> callback) throws Exception {
 		CallCounter<Function<String, String>> counter = CallCounter.of(callback);
 		
@@ -94,4 +166,40 @@ public class ExternalProblemTest {
 		}
 	}
 	
+	
+	private static class EchoProblem extends ExternalProblem {
+		
+		public EchoProblem(Builder builder) {
+			super(builder);
+		}
+		
+		@Override
+		public String getName() {
+			return "Echo";
+		}
+		
+		@Override
+		public int getNumberOfVariables() {
+			return 1;
+		}
+		
+		@Override
+		public int getNumberOfObjectives() {
+			return 1;
+		}
+		
+		@Override
+		public int getNumberOfConstraints() {
+			return 0;
+		}
+		
+		@Override
+		public Solution newSolution() {
+			Solution solution = new Solution(1, 1);
+			solution.setVariable(0, new RealVariable(0.0, 1.0));
+			return solution;
+		}
+		
+	}
+
 }
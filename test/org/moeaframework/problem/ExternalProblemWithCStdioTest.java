@@ -23,7 +23,16 @@ import java.io.InputStreamReader;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 import org.moeaframework.Assert;
@@ -40,6 +49,7 @@ import org.moeaframework.core.variable.RealVariable;
 import org.moeaframework.core.variable.Subset;
 import org.moeaframework.mock.MockUnsupportedVariable;
 import org.moeaframework.problem.ExternalProblem.Builder;
+import org.moeaframework.problem.ExternalProblem.Protocol;
 import org.moeaframework.util.io.LineReader;
 
 public class ExternalProblemWithCStdioTest {
@@ -138,6 +148,171 @@ public class ExternalProblemWithCStdioTest {
 		}
 	}
 	
+	@Test
+	public void testPipelinedProtocol() {
+		testProtocol(Protocol.PIPELINED);
+	}
+	
+	@Test
+	public void testBinaryProtocol() {
+		testProtocol(Protocol.BINARY);
+	}
+	
+	@Test(timeout = 60000)
+	public void testPipelinedProtocolLargeBatch() {
+		testLargeBatch(Protocol.PIPELINED);
+	}
+	
+	@Test(timeout = 60000)
+	public void testBinaryProtocolLargeBatch() {
+		testLargeBatch(Protocol.BINARY);
+	}
+	
+	private void testLargeBatch(Protocol protocol) {
+		Builder builder = createBuilder()
+				.withProtocol(protocol)
+				.withBatchSize(10000);
+		
+		try (TestExternalProblem problem = new TestExternalProblem(builder)) {
+			Initialization initialization = new RandomInitialization(problem);
+			Solution[] solutions = initialization.initialize(10000);
+			
+			// sending the entire batch before reading responses would fill the pipe buffers and block
+			problem.evaluateAll(Arrays.asList(solutions));
+			
+			for (int i=0; i<solutions.length; i++) {
+				Assert.assertEquals(i+1, solutions[i].getObjectiveValue(0), TestEnvironment.HIGH_PRECISION);
+			}
+			
+			validateClose(problem);
+		}
+	}
+	
+	@Test(expected = ProblemException.class)
+	public void testBinaryProtocolError() {
+		try (TestExternalProblem problem = new TestExternalProblem(createBuilder().withProtocol(Protocol.BINARY))) {
+			Solution solution = problem.newSolution();
+			solution.setVariable(4, new Permutation(4));
+			problem.evaluate(solution);
+		}
+	}
+	
+	private void testProtocol(Protocol protocol) {
+		Builder builder = createBuilder()
+				.withProtocol(protocol)
+				.withBatchSize(16);
+		
+		try (TestExternalProblem problem = new TestExternalProblem(builder)) {
+			Initialization initialization = new RandomInitialization(problem);
+			Solution[] solutions = initialization.initialize(100);
+			
+			problem.evaluateAll(Arrays.asList(solutions));
+			
+			for (int i=0; i<solutions.length; i++) {
+				Assert.assertArrayEquals(new double[] { i+1, 1e-10/(i+1) }, solutions[i].getObjectiveValues(),
+						TestEnvironment.HIGH_PRECISION);
+				Assert.assertArrayEquals(new double[] { 1e10*(i+1) }, solutions[i].getConstraintValues(),
+						TestEnvironment.HIGH_PRECISION);
+			}
+			
+			Solution solution = problem.newSolution();
+			problem.evaluate(solution);
+			
+			Assert.assertArrayEquals(new double[] { 101, 1e-10/101 }, solution.getObjectiveValues(),
+					TestEnvironment.HIGH_PRECISION);
+			
+			validateClose(problem);
+		}
+	}
+	
+	@Test
+	public void testMultipleInstances() throws InterruptedException, ExecutionException {
+		Builder builder = new Builder()
+				.withCommand(getExecutable("test_stdio.exe").toString())
+				.withInstances(4);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		try (TestExternalProblem problem = new TestExternalProblem(builder)) {
+			Assert.assertEquals(4, problem.getNumberOfInstances());
+			
+			Initialization initialization = new RandomInitialization(problem);
+			List<Future<?>> futures = new ArrayList<>();
+			
+			for (Solution solution : initialization.initialize(100)) {
+				futures.add(executor.submit(() -> problem.evaluate(solution)));
+			}
+			
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			
+			long count = 0;
+			
+			for (int i = 0; i < problem.getNumberOfInstances(); i++) {
+				Assert.assertGreaterThan(problem.getLatency(i).getN(), 0L);
+				Assert.assertEquals(0, problem.getNumberOfRestarts(i));
+				count += problem.getLatency(i).getN();
+			}
+			
+			Assert.assertEquals(100, count);
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testEvaluateAllMultipleInstances() {
+		Builder builder = new Builder()
+				.withCommand(getExecutable("test_stdio.exe").toString())
+				.withInstances(4);
+		
+		try (TestExternalProblem problem = new TestExternalProblem(builder)) {
+			Initialization initialization = new RandomInitialization(problem);
+			Solution[] solutions = initialization.initialize(100);
+			
+			problem.evaluateAll(Arrays.asList(solutions));
+			
+			long count = 0;
+			
+			for (int i = 0; i < problem.getNumberOfInstances(); i++) {
+				Assert.assertEquals(25L, problem.getLatency(i).getN());
+				count += problem.getLatency(i).getN();
+			}
+			
+			Assert.assertEquals(100, count);
+			
+			for (Solution solution : solutions) {
+				Assert.assertBetween(1.0, 25.0, solution.getObjectiveValue(0));
+			}
+		}
+	}
+	
+	@Test
+	public void testRestartCrashedInstance() throws InterruptedException {
+		Builder builder = new Builder()
+				.withCommand(getExecutable("test_stdio.exe").toString())
+				.withInstances(2)
+				.withRetries(5, Duration.ofMillis(100));
+		
+		try (TestExternalProblem problem = new TestExternalProblem(builder)) {
+			problem.evaluate(problem.newSolution());
+			problem.evaluate(problem.newSolution());
+			
+			Process process = problem.getInstance().getProcess();
+			process.destroy();
+			Assert.assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+			
+			Solution solution = problem.newSolution();
+			problem.evaluate(solution);
+			
+			Assert.assertEquals(1.0, solution.getObjectiveValue(0), TestEnvironment.HIGH_PRECISION);
+			Assert.assertEquals(1, problem.getNumberOfRestarts(0));
+			Assert.assertEquals(0, problem.getNumberOfRestarts(1));
+			Assert.assertNotSame(process, problem.getInstance().getProcess());
+		}
+	}
+	
 	@Test
 	public void testMissingExecutable() {
 		Builder builder = new Builder().withCommand("test_not_exists.exe");
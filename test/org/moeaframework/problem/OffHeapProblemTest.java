@@ -0,0 +1,202 @@
+/* Copyright 2009-2025 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.constraint.Equal;
+import org.moeaframework.core.objective.Minimize;
+import org.moeaframework.core.variable.RealVariable;
+
+public class OffHeapProblemTest {
+	
+	@Test
+	public void testEvaluate() {
+		try (SumProblem problem = new SumProblem(4)) {
+			Solution solution = newSolution(problem, 1.0, 2.0, 3.0);
+			problem.evaluate(solution);
+			
+			Assert.assertArrayEquals(new double[] { 6.0, 0.0 }, solution.getObjectiveValues(),
+					TestEnvironment.HIGH_PRECISION);
+			Assert.assertArrayEquals(new double[] { -1.0 }, solution.getConstraintValues(),
+					TestEnvironment.HIGH_PRECISION);
+			Assert.assertEquals(List.of(1), problem.getBatches());
+		}
+	}
+	
+	@Test
+	public void testEvaluateAll() {
+		try (SumProblem problem = new SumProblem(4)) {
+			List<Solution> solutions = new ArrayList<>();
+			
+			for (int i = 0; i < 10; i++) {
+				solutions.add(newSolution(problem, i, 2 * i, 0.0));
+			}
+			
+			problem.evaluateAll(solutions);
+			
+			Assert.assertEquals(List.of(4, 4, 2), problem.getBatches());
+			
+			for (int i = 0; i < 10; i++) {
+				Assert.assertArrayEquals(new double[] { 3 * i, i % 4 }, solutions.get(i).getObjectiveValues(),
+						TestEnvironment.HIGH_PRECISION);
+				Assert.assertArrayEquals(new double[] { -i }, solutions.get(i).getConstraintValues(),
+						TestEnvironment.HIGH_PRECISION);
+			}
+		}
+	}
+	
+	@Test
+	public void testOutputsCleared() {
+		try (SumProblem problem = new SumProblem(4)) {
+			Solution solution = newSolution(problem, 1.0, 2.0, 3.0);
+			problem.evaluate(solution);
+			
+			problem.setSkip(true);
+			problem.evaluate(solution);
+			
+			Assert.assertArrayEquals(new double[] { 0.0, 0.0 }, solution.getObjectiveValues(),
+					TestEnvironment.HIGH_PRECISION);
+			Assert.assertArrayEquals(new double[] { 0.0 }, solution.getConstraintValues(),
+					TestEnvironment.HIGH_PRECISION);
+		}
+	}
+	
+	@Test
+	public void testConcurrentEvaluations() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		try (SumProblem problem = new SumProblem(8)) {
+			List<Future<?>> futures = new ArrayList<>();
+			
+			for (int i = 0; i < 4; i++) {
+				double value = i;
+				
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < 100; j++) {
+						List<Solution> solutions = new ArrayList<>();
+						
+						for (int k = 0; k < 10; k++) {
+							solutions.add(newSolution(problem, value, k, j));
+						}
+						
+						problem.evaluateAll(solutions);
+						
+						for (int k = 0; k < 10; k++) {
+							Assert.assertEquals(value + k + j, solutions.get(k).getObjectiveValue(0));
+						}
+					}
+				}));
+			}
+			
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidBatchSize() {
+		new SumProblem(0);
+	}
+	
+	private Solution newSolution(Problem problem, double... values) {
+		Solution solution = problem.newSolution();
+		RealVariable.setReal(solution, values);
+		return solution;
+	}
+	
+	/**
+	 * Problem computing the sum of the variables and the index of the solution within the batch, recording the size
+	 * of each batch.
+	 */
+	private static class SumProblem extends OffHeapProblem {
+		
+		private final List<Integer> batches;
+		
+		private boolean skip;
+		
+		public SumProblem(int batchSize) {
+			super(3, 2, 1, batchSize);
+			batches = new ArrayList<>();
+		}
+		
+		public List<Integer> getBatches() {
+			return batches;
+		}
+		
+		public void setSkip(boolean skip) {
+			this.skip = skip;
+		}
+		
+		@Override
+		protected synchronized void evaluate(int count, DoubleBuffer variables, DoubleBuffer objectives,
+				DoubleBuffer constraints) {
+			batches.add(count);
+			
+			if (skip) {
+				return;
+			}
+			
+			for (int i = 0; i < count; i++) {
+				double sum = 0.0;
+				
+				for (int j = 0; j < numberOfVariables; j++) {
+					sum += variables.get(i * numberOfVariables + j);
+				}
+				
+				objectives.put(i * numberOfObjectives, sum);
+				objectives.put(i * numberOfObjectives + 1, i);
+				constraints.put(i * numberOfConstraints,
+						variables.get(i * numberOfVariables) - variables.get(i * numberOfVariables + 1));
+			}
+		}
+		
+		@Override
+		public Solution newSolution() {
+			Solution solution = new Solution(numberOfVariables, numberOfObjectives, numberOfConstraints);
+			
+			for (int i = 0; i < numberOfVariables; i++) {
+				solution.setVariable(i, new RealVariable(-1000.0, 1000.0));
+			}
+			
+			for (int i = 0; i < numberOfObjectives; i++) {
+				solution.setObjective(i, new Minimize());
+			}
+			
+			for (int i = 0; i < numberOfConstraints; i++) {
+				solution.setConstraint(i, new Equal(0.0));
+			}
+			
+			return solution;
+		}
+		
+	}
+
+}
@@ -0,0 +1,157 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.Grammar;
+import org.moeaframework.mock.MockProblem;
+import org.moeaframework.util.grammar.ContextFreeGrammar;
+
+public class PhenotypeCachingProblemTest {
+	
+	private ContextFreeGrammar grammar;
+	
+	private CountingProblem problem;
+	
+	@Before
+	public void setUp() {
+		grammar = ContextFreeGrammar.load("""
+				<expr> ::= (<expr> + <expr>) | <val>
+				<val> ::= x | y
+				""");
+		
+		problem = new CountingProblem();
+	}
+	
+	@Test
+	public void testEquivalentCodons() {
+		try (PhenotypeCachingProblem cachingProblem = new PhenotypeCachingProblem(problem, grammar)) {
+			Solution s1 = createSolution(1, 0, 1);
+			Solution s2 = createSolution(3, 2, 0);
+			Solution s3 = createSolution(1, 1);
+			
+			cachingProblem.evaluate(s1);
+			cachingProblem.evaluate(s2);
+			cachingProblem.evaluate(s3);
+			
+			Assert.assertEquals(2, problem.count);
+			Assert.assertEquals(1, cachingProblem.getHits());
+			Assert.assertEquals(2, cachingProblem.getMisses());
+			
+			Assert.assertEquals(s1.getObjectiveValue(0), s2.getObjectiveValue(0));
+			Assert.assertNotEquals(s1.getObjectiveValue(0), s3.getObjectiveValue(0));
+		}
+	}
+	
+	@Test
+	public void testEvaluateAll() {
+		try (PhenotypeCachingProblem cachingProblem = new PhenotypeCachingProblem(problem, grammar)) {
+			Solution s1 = createSolution(1, 0, 1);
+			Solution s2 = createSolution(3, 2, 0);
+			Solution s3 = createSolution(1, 1);
+			Solution s4 = createSolution(5, 7);
+			
+			cachingProblem.evaluateAll(List.of(s1, s2, s3, s4));
+			
+			Assert.assertEquals(2, problem.count);
+			Assert.assertEquals(2, cachingProblem.getHits());
+			Assert.assertEquals(2, cachingProblem.getMisses());
+			
+			Assert.assertEquals(s1.getObjectiveValue(0), s2.getObjectiveValue(0));
+			Assert.assertEquals(s3.getObjectiveValue(0), s4.getObjectiveValue(0));
+			
+			cachingProblem.evaluateAll(List.of(createSolution(1, 0, 1), createSolution(7, 1)));
+			
+			Assert.assertEquals(2, problem.count);
+			Assert.assertEquals(4, cachingProblem.getHits());
+		}
+	}
+	
+	@Test
+	public void testInvalidCodons() {
+		try (PhenotypeCachingProblem cachingProblem = new PhenotypeCachingProblem(problem, grammar)) {
+			cachingProblem.evaluate(createSolution(0));
+			cachingProblem.evaluate(createSolution(0, 0));
+			
+			Assert.assertEquals(1, problem.count);
+			Assert.assertEquals(1, cachingProblem.getHits());
+		}
+	}
+	
+	@Test
+	public void testEviction() {
+		try (PhenotypeCachingProblem cachingProblem = new PhenotypeCachingProblem(problem, grammar, 1)) {
+			cachingProblem.evaluate(createSolution(1, 0));
+			cachingProblem.evaluate(createSolution(1, 1));
+			cachingProblem.evaluate(createSolution(1, 0));
+			
+			Assert.assertEquals(3, problem.count);
+			Assert.assertEquals(0, cachingProblem.getHits());
+		}
+	}
+	
+	@Test
+	public void testClearCache() {
+		try (PhenotypeCachingProblem cachingProblem = new PhenotypeCachingProblem(problem, grammar)) {
+			cachingProblem.evaluate(createSolution(1, 0));
+			cachingProblem.clearCache();
+			cachingProblem.evaluate(createSolution(1, 0));
+			
+			Assert.assertEquals(2, problem.count);
+			Assert.assertEquals(0, cachingProblem.getHits());
+			Assert.assertEquals(2, cachingProblem.getMisses());
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCacheSize() {
+		new PhenotypeCachingProblem(problem, grammar, 0);
+	}
+	
+	private Solution createSolution(int... codon) {
+		Solution solution = problem.newSolution();
+		Grammar variable = new Grammar(codon.length);
+		variable.fromArray(codon);
+		solution.setVariable(0, variable);
+		return solution;
+	}
+	
+	private class CountingProblem extends MockProblem {
+		
+		private int count;
+		
+		public CountingProblem() {
+			super(1, 1);
+		}
+		
+		@Override
+		public void evaluate(Solution solution) {
+			count++;
+			
+			String expression = grammar.build(((Grammar)solution.getVariable(0)).toArray());
+			solution.setObjectiveValue(0, expression == null ? Double.POSITIVE_INFINITY : expression.hashCode());
+		}
+	
+	}
+
+}
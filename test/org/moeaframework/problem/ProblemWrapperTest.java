@@ -0,0 +1,49 @@
+/* Copyright 2009-2025 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.core.Solution;
+import org.moeaframework.mock.MockRealProblem;
+
+public class ProblemWrapperTest {
+	
+	@Test
+	public void testEvaluateAllUsesEvaluate() {
+		ProblemWrapper problem = new ProblemWrapper(new MockRealProblem(2)) {
+			
+			@Override
+			public void evaluate(Solution solution) {
+				super.evaluate(solution);
+				solution.setObjectiveValue(0, 42.0);
+			}
+			
+		};
+		
+		Solution solution1 = problem.newSolution();
+		Solution solution2 = problem.newSolution();
+		problem.evaluateAll(List.of(solution1, solution2));
+		
+		Assert.assertEquals(42.0, solution1.getObjectiveValue(0));
+		Assert.assertEquals(42.0, solution2.getObjectiveValue(0));
+	}
+
+}
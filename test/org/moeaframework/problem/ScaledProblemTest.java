@@ -19,6 +19,7 @@ package org.moeaframework.problem;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 
 import org.junit.Test;
 import org.moeaframework.Assert;
@@ -71,5 +72,18 @@ public class ScaledProblemTest {
 		Assert.assertArrayEquals(new double[] { 2.0, 3.0, 4.0 }, solution.getObjectiveValues(), TestEnvironment.HIGH_PRECISION);
 		Assert.assertArrayEquals(new double[] { 2.0, 3.0 }, solution.getConstraintValues(), TestEnvironment.HIGH_PRECISION);
 	}
+	
+	@Test
+	public void testEvaluateAll() {
+		MockSolution solution = MockSolution.of()
+				.withVariables(new RealVariable(0.0, 1.0))
+				.withObjectives(2.0, 3.0, 4.0)
+				.withConstraints(2.0, 3.0);
+		
+		ScaledProblem problem = new ScaledProblem(MockProblem.of(solution), 2.0);
+		problem.evaluateAll(List.of(solution));
+		
+		Assert.assertArrayEquals(new double[] { 2.0, 6.0, 16.0 }, solution.getObjectiveValues(), TestEnvironment.HIGH_PRECISION);
+	}
 
 }
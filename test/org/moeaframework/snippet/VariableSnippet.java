@@ -28,6 +28,7 @@ import org.moeaframework.core.variable.Grammar;
 import org.moeaframework.core.variable.Permutation;
 import org.moeaframework.core.variable.Program;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 import org.moeaframework.core.variable.Subset;
 import org.moeaframework.util.grammar.ContextFreeGrammar;
 import org.moeaframework.util.tree.Add;
@@ -62,6 +63,24 @@ public class VariableSnippet {
 		// end-example: real-variable
 	}
 	
+	@Test
+	public void realVectorSnippet() {
+		Solution solution = new Solution(1, 1);
+		int i = 0;
+		int length = 10;
+		double lowerBound = 0.0;
+		double upperBound = 1.0;
+		
+		// begin-example: real-vector-variable
+		// Creating a vector of real-valued variables sharing the same bounds:
+		solution.setVariable(i, new RealVectorVariable(length, lowerBound, upperBound));
+
+		// Reading and writing the values:
+		double[] values = RealVectorVariable.getReal(solution.getVariable(i));
+		RealVectorVariable.setReal(solution.getVariable(i), values);
+		// end-example: real-vector-variable
+	}
+	
 	@Test
 	public void binarySnippet() {
 		Solution solution = new Solution(1, 1);
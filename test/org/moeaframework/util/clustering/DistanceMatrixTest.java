@@ -0,0 +1,94 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.clustering;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.CallCounter;
+import org.moeaframework.mock.MockSolution;
+
+public class DistanceMatrixTest {
+	
+	private final ClusterableSolution first =
+			ClusterableSolution.withObjectives(MockSolution.of().withObjectives(0.0, 1.0));
+	
+	private final ClusterableSolution second =
+			ClusterableSolution.withObjectives(MockSolution.of().withObjectives(1.0, 0.0));
+	
+	private final ClusterableSolution third =
+			ClusterableSolution.withObjectives(MockSolution.of().withObjectives(1.0, 1.0));
+	
+	@Test
+	public void testSymmetric() {
+		CallCounter<DistanceMeasure<ClusterableSolution>> counter = CallCounter.of(DistanceMeasure.euclideanDistance());
+		DistanceMatrix<ClusterableSolution> matrix = new DistanceMatrix<>(counter.getProxy(),
+				List.of(first, second, third), true);
+		
+		Assert.assertEquals(3, matrix.size());
+		Assert.assertEquals(0.0, matrix.compute(first, first));
+		Assert.assertEquals(Math.sqrt(2.0), matrix.compute(first, second));
+		Assert.assertEquals(Math.sqrt(2.0), matrix.compute(second, first));
+		Assert.assertEquals(1.0, matrix.get(2, 1));
+		Assert.assertEquals(1.0, matrix.get(1, 2));
+		Assert.assertEquals(1.0, matrix.get(0, 2));
+		Assert.assertEquals(3, counter.getTotalCallCount());
+	}
+	
+	@Test
+	public void testNonSymmetric() {
+		CallCounter<DistanceMeasure<ClusterableSolution>> counter = CallCounter.of(DistanceMeasure.euclideanDistance());
+		DistanceMatrix<ClusterableSolution> matrix = new DistanceMatrix<>(counter.getProxy(),
+				List.of(first, second), false);
+		
+		Assert.assertEquals(0.0, matrix.compute(first, first));
+		Assert.assertEquals(Math.sqrt(2.0), matrix.compute(first, second));
+		Assert.assertEquals(Math.sqrt(2.0), matrix.compute(second, first));
+		Assert.assertEquals(Math.sqrt(2.0), matrix.compute(second, first));
+		Assert.assertEquals(3, counter.getTotalCallCount());
+	}
+	
+	@Test
+	public void testUnknownElement() {
+		CallCounter<DistanceMeasure<ClusterableSolution>> counter = CallCounter.of(DistanceMeasure.euclideanDistance());
+		DistanceMatrix<ClusterableSolution> matrix = new DistanceMatrix<>(counter.getProxy(), List.of(first), true);
+		
+		Assert.assertEquals(-1, matrix.indexOf(second));
+		Assert.assertEquals(Math.sqrt(2.0), matrix.compute(first, second));
+		Assert.assertEquals(Math.sqrt(2.0), matrix.compute(first, second));
+		Assert.assertEquals(2, counter.getTotalCallCount());
+	}
+	
+	@Test
+	public void testRepeatedElement() {
+		DistanceMatrix<ClusterableSolution> matrix = new DistanceMatrix<>(DistanceMeasure.euclideanDistance(),
+				List.of(first, second, first), true);
+		
+		Assert.assertEquals(2, matrix.size());
+		Assert.assertEquals(0, matrix.indexOf(first));
+		Assert.assertEquals(1, matrix.indexOf(second));
+		Assert.assertSame(second, matrix.get(1));
+	}
+	
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testInvalidIndex() {
+		new DistanceMatrix<>(DistanceMeasure.euclideanDistance(), List.of(first, second), true).get(0, 2);
+	}
+
+}
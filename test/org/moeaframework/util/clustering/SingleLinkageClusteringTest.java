@@ -17,11 +17,13 @@
  */
 package org.moeaframework.util.clustering;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Test;
 import org.moeaframework.Assert;
 import org.moeaframework.TestEnvironment;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.population.Population;
 import org.moeaframework.mock.MockSolution;
@@ -74,4 +76,94 @@ public class SingleLinkageClusteringTest {
 		Assert.assertTrue(population.containsAll(List.of(s1, s3)));
 	}
 	
+	@Test
+	public void testMatchesNaive() {
+		for (int i = 0; i < 10; i++) {
+			List<ClusterableSolution> solutions = new ArrayList<>();
+			
+			for (int j = 0; j < 50; j++) {
+				solutions.add(ClusterableSolution.withObjectives(
+						MockSolution.of().withObjectives(PRNG.nextDouble(), PRNG.nextDouble())));
+			}
+			
+			for (int size = 1; size <= solutions.size(); size++) {
+				assertSameClusters(naiveCluster(size, solutions), Clustering.singleLinkage().cluster(size, solutions));
+			}
+		}
+	}
+	
+	@Test
+	public void testMatchesNaiveWithTies() {
+		for (int i = 0; i < 10; i++) {
+			List<ClusterableSolution> solutions = new ArrayList<>();
+			
+			for (int j = 0; j < 50; j++) {
+				solutions.add(ClusterableSolution.withObjectives(
+						MockSolution.of().withObjectives(PRNG.nextInt(8), PRNG.nextInt(8))));
+			}
+			
+			for (int size = 1; size <= solutions.size(); size++) {
+				assertSameClusters(naiveCluster(size, solutions), Clustering.singleLinkage().cluster(size, solutions));
+			}
+		}
+	}
+	
+	@Test
+	public void testRepeatedSolution() {
+		ClusterableSolution solution = solutions.get(0);
+		List<ClusterableSolution> repeated = List.of(solution, solutions.get(2), solution);
+		
+		assertSameClusters(naiveCluster(2, repeated), Clustering.singleLinkage().cluster(2, repeated));
+	}
+	
+	private void assertSameClusters(List<Cluster> expected, List<Cluster> actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		
+		for (int i = 0; i < expected.size(); i++) {
+			List<ClusterableSolution> expectedMembers = new ArrayList<>();
+			List<ClusterableSolution> actualMembers = new ArrayList<>();
+			
+			expected.get(i).forEach(expectedMembers::add);
+			actual.get(i).forEach(actualMembers::add);
+			
+			Assert.assertEquals(expectedMembers, actualMembers);
+			Assert.assertSame(expected.get(i).getRepresentativeMember(), actual.get(i).getRepresentativeMember());
+		}
+	}
+	
+	/**
+	 * The naive single-linkage clustering method, which repeatedly searches for and merges the closest clusters.
+	 */
+	private List<Cluster> naiveCluster(int size, List<ClusterableSolution> solutions) {
+		DistanceMeasure<ClusterableSolution> distanceMeasure = DistanceMeasure.euclideanDistance();
+		List<Cluster> clusters = new ArrayList<>();
+		
+		for (ClusterableSolution solution : solutions) {
+			clusters.add(new Cluster(distanceMeasure, solution));
+		}
+		
+		while (clusters.size() > size) {
+			Cluster minClusterA = null;
+			Cluster minClusterB = null;
+			double minDistance = Double.POSITIVE_INFINITY;
+			
+			for (int a = 0; a < clusters.size(); a++) {
+				for (int b = a + 1; b < clusters.size(); b++) {
+					double distance = clusters.get(a).distanceTo(clusters.get(b));
+					
+					if (distance < minDistance) {
+						minDistance = distance;
+						minClusterA = clusters.get(a);
+						minClusterB = clusters.get(b);
+					}
+				}
+			}
+			
+			minClusterA.addAll(minClusterB);
+			clusters.remove(minClusterB);
+		}
+		
+		return clusters;
+	}
+
 }
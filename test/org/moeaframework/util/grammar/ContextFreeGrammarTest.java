@@ -62,6 +62,19 @@ public class ContextFreeGrammarTest {
 	public void testEmptyCodon() {
 		grammar.build(new int[] {});
 	}
+	
+	@Test
+	public void testDerive() {
+		Assert.assertArrayEquals(new int[] { 0, 1, 2, 0, 1, 2, 0 }, grammar.derive(new int[] { 0, 1, 2 }));
+		Assert.assertArrayEquals(new int[] { 2, 0 }, grammar.derive(new int[] { 2, 0, 2 }));
+		Assert.assertArrayEquals(new int[] { 2, 0 }, grammar.derive(new int[] { 5, 3, 7, 1 }));
+		Assert.assertNull(grammar.derive(new int[] { 0 }));
+	}
+	
+	@Test(expected = GrammarException.class)
+	public void testDeriveEmptyCodon() {
+		grammar.derive(new int[] {});
+	}
 
 	@Test
 	public void testIsValid() throws IOException {
@@ -0,0 +1,181 @@
+/* Copyright 2009-2025 David Hadka
+ * 
+ * This file is part of the MOEA Framework.
+ * 
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.grammar;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.util.tree.Add;
+import org.moeaframework.util.tree.Environment;
+import org.moeaframework.util.tree.Get;
+import org.moeaframework.util.tree.Multiply;
+import org.moeaframework.util.tree.Node;
+import org.moeaframework.util.tree.Sin;
+import org.moeaframework.util.tree.Subtract;
+
+public class TreeMapperTest {
+	
+	@Test
+	public void testInfix() {
+		ContextFreeGrammar grammar = ContextFreeGrammar.load("""
+				<expr> ::= (<expr> <op> <expr>) | <func> ( <expr> ) | <val>
+				<op> ::= + | - | *
+				<func> ::= sin
+				<val> ::= x | 2
+				""");
+		
+		TreeMapper mapper = createMapper(grammar);
+		
+		Assert.assertEquals("(2-x)", grammar.build(new int[] { 0, 2, 1, 1, 2, 0 }));
+		Assert.assertEquals("(Subtract 2 x)", mapper.build(new int[] { 0, 2, 1, 1, 2, 0 }).toString());
+		
+		Assert.assertEquals("sin(x)", grammar.build(new int[] { 1, 2, 0 }));
+		Assert.assertEquals("(Sin x)", mapper.build(new int[] { 1, 2, 0 }).toString());
+	}
+	
+	@Test
+	public void testPrefix() {
+		ContextFreeGrammar grammar = ContextFreeGrammar.load("""
+				<expr> ::= <op> <expr> <expr> | x
+				<op> ::= + | *
+				""");
+		
+		TreeMapper mapper = createMapper(grammar);
+		
+		Assert.assertEquals("(Multiply x (Add x x))", mapper.build(new int[] { 0, 1, 1, 0, 0, 1, 1 }).toString());
+	}
+	
+	@Test
+	public void testMatchesString() {
+		ContextFreeGrammar grammar = ContextFreeGrammar.load("""
+				<expr> ::= (<expr> <op> <expr>) | <func> ( <expr> ) | <val>
+				<op> ::= + | - | *
+				<func> ::= sin
+				<val> ::= x | 2 | 0.5
+				""");
+		
+		TreeMapper mapper = createMapper(grammar);
+		
+		for (int i = 0; i < 1000; i++) {
+			int[] codon = new int[PRNG.nextInt(1, 20)];
+			
+			for (int j = 0; j < codon.length; j++) {
+				codon[j] = PRNG.nextInt(100);
+			}
+			
+			String expression = grammar.build(codon);
+			Node node = mapper.build(codon);
+			
+			if (expression == null) {
+				Assert.assertNull(node);
+			} else {
+				Assert.assertNotNull(node);
+				Assert.assertEquals(countOperators(expression), node.getNumberOfNodes() - countTerminals(node));
+				
+				Environment environment = new Environment();
+				environment.set("x", 3.0);
+				Assert.assertTrue(node.evaluate(environment) instanceof Number);
+			}
+		}
+	}
+	
+	@Test
+	public void testConstants() {
+		ContextFreeGrammar grammar = ContextFreeGrammar.load("""
+				<expr> ::= <val> + <val>
+				<val> ::= 1 | 2.5
+				""");
+		
+		TreeMapper mapper = createMapper(grammar);
+		Node node = mapper.build(new int[] { 0, 1 });
+		
+		Assert.assertEquals(3.5, ((Number)node.evaluate(new Environment())).doubleValue());
+		Assert.assertEquals(2L, mapper.build(new int[] { 0, 0 }).evaluate(new Environment()));
+	}
+	
+	@Test
+	public void testNonterminatingProducesNull() {
+		ContextFreeGrammar grammar = ContextFreeGrammar.load("""
+				<expr> ::= (<expr> + <expr>) | x
+				""");
+		
+		Assert.assertNull(createMapper(grammar).build(new int[] { 0 }));
+	}
+	
+	@Test(expected = GrammarException.class)
+	public void testIncompleteTree() {
+		ContextFreeGrammar grammar = ContextFreeGrammar.load("""
+				<expr> ::= <op>
+				<op> ::= + | -
+				""");
+		
+		createMapper(grammar).build(new int[] { 0 });
+	}
+	
+	@Test(expected = GrammarException.class)
+	public void testWrongNumberOfArguments() {
+		ContextFreeGrammar grammar = ContextFreeGrammar.load("""
+				<expr> ::= x + x + x
+				""");
+		
+		createMapper(grammar).build(new int[] { 0 });
+	}
+	
+	@Test(expected = GrammarException.class)
+	public void testMultipleNodesWithoutOperator() {
+		ContextFreeGrammar grammar = ContextFreeGrammar.load("""
+				<expr> ::= x x
+				""");
+		
+		createMapper(grammar).build(new int[] { 0 });
+	}
+	
+	private TreeMapper createMapper(ContextFreeGrammar grammar) {
+		return new TreeMapper(grammar)
+				.define("+", new Add())
+				.define("-", new Subtract())
+				.define("*", new Multiply())
+				.define("sin", new Sin())
+				.define("x", new Get(Number.class, "x"));
+	}
+	
+	private int countOperators(String expression) {
+		int count = 0;
+		
+		for (String token : new String[] { "+", "-", "*", "sin" }) {
+			count += expression.split(java.util.regex.Pattern.quote(token), -1).length - 1;
+		}
+		
+		return count;
+	}
+	
+	private int countTerminals(Node node) {
+		if (node.getNumberOfArguments() == 0) {
+			return 1;
+		}
+		
+		int count = 0;
+		
+		for (int i = 0; i < node.getNumberOfArguments(); i++) {
+			count += countTerminals(node.getArgument(i));
+		}
+		
+		return count;
+	}
+
+}
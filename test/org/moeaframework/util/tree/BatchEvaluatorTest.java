@@ -0,0 +1,256 @@
+/* Copyright 2009-2025 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.PropertyScope;
+import org.moeaframework.core.Settings;
+
+public class BatchEvaluatorTest {
+	
+	private static final int SAMPLES = 500;
+	
+	private static final int ROWS = 50;
+	
+	@Test
+	public void testRandomTrees() {
+		Rules rules = createRules();
+		double[][] data = createData();
+		BatchEvaluator evaluator = new BatchEvaluator(new String[] { "x", "y" }, data);
+		
+		for (int i = 0; i < SAMPLES; i++) {
+			Node node = rules.buildTreeGrow(Number.class, PRNG.nextInt(2, 8));
+			
+			// evaluate multiple times to also test the cached results
+			for (int j = 0; j < 3; j++) {
+				assertEquals(node, data, evaluator.evaluate(node));
+			}
+		}
+	}
+	
+	@Test
+	public void testSharedSubtrees() {
+		Rules rules = createRules();
+		double[][] data = createData();
+		BatchEvaluator evaluator = new BatchEvaluator(new String[] { "x", "y" }, data);
+		List<Node> nodes = new ArrayList<>();
+		
+		for (int i = 0; i < SAMPLES; i++) {
+			Node subtree = rules.buildTreeGrow(Number.class, PRNG.nextInt(2, 6));
+			
+			nodes.add(new Add()
+					.setArgument(0, subtree.copyTree())
+					.setArgument(1, new Get(Number.class, "x")));
+			nodes.add(new Multiply()
+					.setArgument(0, new Get(Number.class, "y"))
+					.setArgument(1, subtree.copyTree()));
+		}
+		
+		double[][] results = evaluator.evaluateAll(nodes);
+		
+		for (int i = 0; i < nodes.size(); i++) {
+			assertEquals(nodes.get(i), data, results[i]);
+		}
+	}
+	
+	@Test
+	public void testCacheDisabled() {
+		Rules rules = createRules();
+		double[][] data = createData();
+		BatchEvaluator evaluator = new BatchEvaluator(new String[] { "x", "y" }, data, 0);
+		
+		for (int i = 0; i < SAMPLES; i++) {
+			Node node = rules.buildTreeGrow(Number.class, PRNG.nextInt(2, 8));
+			assertEquals(node, data, evaluator.evaluate(node));
+		}
+	}
+	
+	@Test
+	public void testParallel() {
+		Rules rules = createRules();
+		double[][] data = createData();
+		BatchEvaluator evaluator = new BatchEvaluator(new String[] { "x", "y" }, data);
+		List<Node> nodes = new ArrayList<>();
+		
+		for (int i = 0; i < SAMPLES; i++) {
+			nodes.add(rules.buildTreeGrow(Number.class, PRNG.nextInt(2, 8)));
+		}
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		try {
+			double[][] results = evaluator.evaluateAll(nodes, executor);
+			
+			for (int i = 0; i < nodes.size(); i++) {
+				assertEquals(nodes.get(i), data, results[i]);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testRandomTreesUnprotected() {
+		try (PropertyScope scope = Settings.createScope().with(Settings.KEY_GP_PROTECTED_FUNCTIONS, false)) {
+			Rules rules = createRules();
+			double[][] data = createData();
+			BatchEvaluator evaluator = new BatchEvaluator(new String[] { "x", "y" }, data);
+			
+			for (int i = 0; i < SAMPLES; i++) {
+				Node node = rules.buildTreeGrow(Number.class, PRNG.nextInt(2, 8));
+				
+				try {
+					evaluateEachRow(node, data);
+				} catch (ArithmeticException e) {
+					Assert.assertThrows(ArithmeticException.class, () -> evaluator.evaluate(node));
+					continue;
+				}
+				
+				assertEquals(node, data, evaluator.evaluate(node));
+			}
+		}
+	}
+	
+	@Test
+	public void testUnprotectedBranchNotTaken() {
+		Node node = new IfElse(Number.class)
+				.setArgument(0, new LessThan()
+						.setArgument(0, new Get(Number.class, "x"))
+						.setArgument(1, new Constant(-100.0)))
+				.setArgument(1, new Divide()
+						.setArgument(0, new Constant(1))
+						.setArgument(1, new Constant(0)))
+				.setArgument(2, new Constant(2));
+		
+		BatchEvaluator evaluator = new BatchEvaluator(new String[] { "x" }, new double[][] { { 1.0, 2.0, 3.0 } });
+		
+		try (PropertyScope scope = Settings.createScope().with(Settings.KEY_GP_PROTECTED_FUNCTIONS, false)) {
+			Assert.assertArrayEquals(new double[] { 2.0, 2.0, 2.0 }, evaluator.evaluate(node), 0.0);
+		}
+	}
+	
+	@Test
+	public void testInteger() {
+		Node node = new Add()
+				.setArgument(0, new Divide()
+						.setArgument(0, new Constant(7))
+						.setArgument(1, new Constant(2)))
+				.setArgument(1, new Round()
+						.setArgument(0, new Get(Number.class, "x")));
+		
+		BatchEvaluator evaluator = new BatchEvaluator(new String[] { "x" }, new double[][] { { 1.4, -2.6, 0.5 } });
+		
+		Assert.assertArrayEquals(new double[] { 4.0, 0.0, 4.0 }, evaluator.evaluate(node), 0.0);
+	}
+	
+	@Test
+	public void testUnsupportedNode() {
+		Node node = new Sequence()
+				.setArgument(0, new Define("f", Number.class, "a", Number.class)
+						.setArgument(0, new Multiply()
+								.setArgument(0, new Get(Number.class, "a"))
+								.setArgument(1, new Constant(2.0))))
+				.setArgument(1, new Call("f", Number.class, "a", Number.class)
+						.setArgument(0, new Get(Number.class, "x")));
+		
+		BatchEvaluator evaluator = new BatchEvaluator(new String[] { "x" }, new double[][] { { 1.0, 2.0, 3.0 } });
+		
+		Assert.assertArrayEquals(new double[] { 2.0, 4.0, 6.0 }, evaluator.evaluate(node), 0.0);
+	}
+	
+	@Test
+	public void testResultNotShared() {
+		Node node = new Get(Number.class, "x");
+		double[][] data = new double[][] { { 1.0, 2.0, 3.0 } };
+		BatchEvaluator evaluator = new BatchEvaluator(new String[] { "x" }, data);
+		
+		evaluator.evaluate(node)[0] = 10.0;
+		data[0][1] = 20.0;
+		
+		Assert.assertArrayEquals(new double[] { 1.0, 2.0, 3.0 }, evaluator.evaluate(node), 0.0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testBooleanExpression() {
+		Node node = new LessThan()
+				.setArgument(0, new Get(Number.class, "x"))
+				.setArgument(1, new Constant(0.0));
+		
+		new BatchEvaluator(new String[] { "x" }, new double[][] { { 1.0 } }).evaluate(node);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testMismatchedData() {
+		new BatchEvaluator(new String[] { "x", "y" }, new double[][] { { 1.0, 2.0 }, { 1.0 } });
+	}
+	
+	private void assertEquals(Node node, double[][] data, double[] actual) {
+		double[] expected = evaluateEachRow(node, data);
+		Assert.assertEquals(expected.length, actual.length);
+		
+		for (int i = 0; i < actual.length; i++) {
+			Assert.assertEquals(expected[i], actual[i]);
+		}
+	}
+	
+	private double[] evaluateEachRow(Node node, double[][] data) {
+		double[] result = new double[data[0].length];
+		
+		for (int i = 0; i < result.length; i++) {
+			Environment environment = new Environment();
+			environment.set("x", data[0][i]);
+			environment.set("y", data[1][i]);
+			
+			result[i] = ((Number)node.evaluate(environment)).doubleValue();
+		}
+		
+		return result;
+	}
+	
+	private Rules createRules() {
+		Rules rules = new Rules();
+		rules.populateWithLogic();
+		rules.populateWithArithmetic();
+		rules.populateWithTrig();
+		rules.populateWithConstants();
+		rules.add(new IfElse(Number.class));
+		rules.add(new Truncate(-1.0, 1.0));
+		rules.add(new Get(Number.class, "x"));
+		rules.add(new Get(Number.class, "y"));
+		return rules;
+	}
+	
+	private double[][] createData() {
+		double[][] data = new double[2][ROWS];
+		
+		for (int i = 0; i < ROWS; i++) {
+			data[0][i] = PRNG.nextDouble(-10.0, 10.0);
+			data[1][i] = PRNG.nextDouble(-10.0, 10.0);
+		}
+		
+		return data;
+	}
+
+}
@@ -0,0 +1,205 @@
+/* Copyright 2009-2025 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.tree;
+
+import org.junit.Test;
+import org.moeaframework.Assert;
+import org.moeaframework.core.PRNG;
+
+public class TreeCompilerTest {
+	
+	private static final int SAMPLES = 1000;
+	
+	private static final int ROWS = 10;
+	
+	@Test
+	public void testNumber() {
+		Rules rules = createRules();
+		TreeCompiler compiler = new TreeCompiler("x", "y");
+		
+		for (int i = 0; i < SAMPLES; i++) {
+			Node node = rules.buildTreeGrow(Number.class, PRNG.nextInt(2, 8));
+			CompiledExpression expression = compiler.compile(node);
+			
+			for (int j = 0; j < ROWS; j++) {
+				double x = PRNG.nextDouble(-10.0, 10.0);
+				double y = PRNG.nextDouble(-10.0, 10.0);
+				Number expected = (Number)node.evaluate(createEnvironment(x, y));
+				
+				Assert.assertEquals(expected.doubleValue(), ((Number)expression.evaluate(x, y)).doubleValue());
+				Assert.assertEquals(expected.doubleValue(), expression.evaluateDouble(x, y));
+			}
+		}
+	}
+	
+	@Test
+	public void testBoolean() {
+		Rules rules = createRules();
+		TreeCompiler compiler = new TreeCompiler("x", "y");
+		
+		for (int i = 0; i < SAMPLES; i++) {
+			Node node = rules.buildTreeGrow(Boolean.class, PRNG.nextInt(2, 8));
+			CompiledExpression expression = compiler.compile(node);
+			
+			for (int j = 0; j < ROWS; j++) {
+				double x = PRNG.nextDouble(-10.0, 10.0);
+				double y = PRNG.nextDouble(-10.0, 10.0);
+				
+				Assert.assertEquals(node.evaluate(createEnvironment(x, y)), expression.evaluate(x, y));
+			}
+		}
+	}
+	
+	@Test
+	public void testCompiled() {
+		Node node = new Add()
+				.setArgument(0, new Multiply()
+						.setArgument(0, new Get(Number.class, "x"))
+						.setArgument(1, new Constant(2.0)))
+				.setArgument(1, new IfElse(Number.class)
+						.setArgument(0, new LessThan()
+								.setArgument(0, new Get(Number.class, "y"))
+								.setArgument(1, new Constant(0)))
+						.setArgument(1, new Truncate(-1.0, 1.0).setArgument(0, new Get(Number.class, "y")))
+						.setArgument(2, new Sin().setArgument(0, new Get(Number.class, "y"))));
+		
+		CompiledExpression expression = new TreeCompiler("x", "y").compile(node);
+		
+		Assert.assertFalse(expression.isInterpreted());
+		Assert.assertEquals(2, expression.getNumberOfVariables());
+		Assert.assertEquals(5.0, expression.evaluateDouble(3.0, -2.0));
+		Assert.assertEquals(6.0 + Math.sin(2.0), expression.evaluateDouble(3.0, 2.0));
+	}
+	
+	@Test
+	public void testInteger() {
+		Node node = new Divide()
+				.setArgument(0, new Constant(7))
+				.setArgument(1, new Constant(2));
+		
+		CompiledExpression expression = new TreeCompiler().compile(node);
+		
+		Assert.assertFalse(expression.isInterpreted());
+		Assert.assertEquals(3L, expression.evaluate());
+	}
+	
+	@Test
+	public void testUndefinedVariable() {
+		Node node = new Add()
+				.setArgument(0, new Get(Number.class, "x"))
+				.setArgument(1, new Get(Double.class, "z"));
+		
+		CompiledExpression expression = new TreeCompiler("x").compile(node);
+		
+		Assert.assertFalse(expression.isInterpreted());
+		Assert.assertEquals(2.0, expression.evaluateDouble(2.0));
+	}
+	
+	@Test
+	public void testUnsupportedNode() {
+		Node node = new Call("f", Number.class, "a", Number.class)
+				.setArgument(0, new Get(Number.class, "x"));
+		
+		Node program = new Sequence()
+				.setArgument(0, new Define("f", Number.class, "a", Number.class)
+						.setArgument(0, new Multiply()
+								.setArgument(0, new Get(Number.class, "a"))
+								.setArgument(1, new Constant(2.0))))
+				.setArgument(1, node);
+		
+		CompiledExpression expression = new TreeCompiler("x").compile(program);
+		
+		Assert.assertTrue(expression.isInterpreted());
+		Assert.assertEquals(6.0, expression.evaluateDouble(3.0));
+	}
+	
+	@Test
+	public void testUnsupportedType() {
+		Node node = new Add()
+				.setArgument(0, new Get(Long.class, "x"))
+				.setArgument(1, new Constant(1));
+		
+		CompiledExpression expression = new TreeCompiler("x").compile(node);
+		
+		Assert.assertTrue(expression.isInterpreted());
+	}
+	
+	@Test
+	public void testCache() {
+		Node node1 = new Add()
+				.setArgument(0, new Get(Number.class, "x"))
+				.setArgument(1, new Constant(1.0));
+		
+		Node node2 = node1.copyTree();
+		
+		Node node3 = new Add()
+				.setArgument(0, new Get(Number.class, "x"))
+				.setArgument(1, new Constant(1));
+		
+		TreeCompiler compiler = new TreeCompiler("x");
+		
+		Assert.assertSame(compiler.compile(node1), compiler.compile(node2));
+		Assert.assertNotSame(compiler.compile(node1), compiler.compile(node3));
+		
+		CompiledExpression expression = compiler.compile(node1);
+		compiler.clearCache();
+		Assert.assertNotSame(expression, compiler.compile(node1));
+	}
+	
+	@Test
+	public void testCacheDisabled() {
+		Node node = new Add()
+				.setArgument(0, new Get(Number.class, "x"))
+				.setArgument(1, new Constant(1.0));
+		
+		TreeCompiler compiler = new TreeCompiler(0, "x");
+		
+		Assert.assertNotSame(compiler.compile(node), compiler.compile(node));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testWrongNumberOfArguments() {
+		Node node = new Get(Number.class, "x");
+		new TreeCompiler("x").compile(node).evaluateDouble(1.0, 2.0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testDuplicateVariable() {
+		new TreeCompiler("x", "x");
+	}
+	
+	private Rules createRules() {
+		Rules rules = new Rules();
+		rules.populateWithLogic();
+		rules.populateWithArithmetic();
+		rules.populateWithTrig();
+		rules.populateWithConstants();
+		rules.add(new IfElse(Number.class));
+		rules.add(new Get(Number.class, "x"));
+		rules.add(new Get(Number.class, "y"));
+		return rules;
+	}
+	
+	private Environment createEnvironment(double x, double y) {
+		Environment environment = new Environment();
+		environment.set("x", x);
+		environment.set("y", y);
+		return environment;
+	}
+
+}